@@ -0,0 +1,73 @@
+package so.dang.cool.z.bulk;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import so.dang.cool.z.Z;
+import so.dang.cool.z.internal.combination.Combine.WithFunction;
+
+/**
+ * Stage-at-a-time batches against per-element evaluation of the same fused
+ * chain. Stages alternate between several lambda shapes so that the per-stage
+ * call site is megamorphic, as it is in real pipelines.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BatchBenchmarks {
+
+    @Param({ "4", "8", "16", "32" })
+    int depth;
+
+    @Param({ "64", "1024" })
+    int chunkSize;
+
+    List<Long> in;
+    WithFunction<Long, Long> chain;
+
+    @Setup
+    public void setup() {
+        in =
+            IntStream
+                .range(0, 10_000)
+                .mapToObj(i -> (long) i)
+                .collect(Collectors.toList());
+
+        List<Function<Long, Long>> shapes = List.of(
+            n -> n + 1,
+            n -> n * 31,
+            n -> n ^ (n >>> 7),
+            n -> Long.rotateLeft(n, 5)
+        );
+        WithFunction<Long, Long> fused = Z.fuse(shapes.get(0));
+        for (int i = 1; i < depth; i++) {
+            fused = fused.fuse(shapes.get(i % shapes.size()));
+        }
+        chain = fused;
+    }
+
+    @Benchmark
+    public List<Long> perElement() {
+        List<Long> out = new ArrayList<>(in.size());
+        for (Long n : in) {
+            out.add(chain.apply(n));
+        }
+        return out;
+    }
+
+    @Benchmark
+    public List<Long> applyBatch() {
+        return chain.applyBatch(in, chunkSize);
+    }
+}
@@ -0,0 +1,86 @@
+package so.dang.cool.z.bulk;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import so.dang.cool.z.Z;
+import so.dang.cool.z.internal.combination.Combine.WithIntToDoubleFunction;
+import so.dang.cool.z.internal.combination.Combine.WithIntUnaryOperator;
+
+/**
+ * Bulk application against a plain loop and against calling a fused function
+ * once per element.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BulkBenchmarks {
+
+    @Param({ "1000", "100000" })
+    int size;
+
+    int[] in;
+    int[] ints;
+    double[] doubles;
+
+    WithIntUnaryOperator chain;
+    WithIntToDoubleFunction scale;
+
+    @Setup
+    public void setup() {
+        in = IntStream.range(0, size).toArray();
+        ints = new int[size];
+        doubles = new double[size];
+
+        IntUnaryOperator inc = i -> i + 1;
+        IntUnaryOperator triple = i -> i * 3;
+        IntUnaryOperator mask = i -> i & 0xFFFF;
+        chain = Z.fuse(inc).fuse(triple).fuse(mask);
+
+        IntToDoubleFunction half = i -> i / 2.0;
+        scale = Z.fuse(half);
+    }
+
+    @Benchmark
+    public int[] chain_plainLoop() {
+        for (int i = 0; i < in.length; i++) {
+            ints[i] = ((in[i] + 1) * 3) & 0xFFFF;
+        }
+        return ints;
+    }
+
+    @Benchmark
+    public int[] chain_perElement() {
+        for (int i = 0; i < in.length; i++) {
+            ints[i] = chain.applyAsInt(in[i]);
+        }
+        return ints;
+    }
+
+    @Benchmark
+    public int[] chain_applyAll() {
+        return chain.applyAll(in, ints);
+    }
+
+    @Benchmark
+    public double[] conversion_plainLoop() {
+        for (int i = 0; i < in.length; i++) {
+            doubles[i] = in[i] / 2.0;
+        }
+        return doubles;
+    }
+
+    @Benchmark
+    public double[] conversion_applyAll() {
+        return scale.applyAll(in, doubles);
+    }
+}
@@ -0,0 +1,83 @@
+package so.dang.cool.z.bulk;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongUnaryOperator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import so.dang.cool.z.Z;
+import so.dang.cool.z.internal.combination.Combine.WithLongUnaryOperator;
+
+/**
+ * Transforming a column of longs through mapped windows, against reading the
+ * whole file onto the heap and writing it back.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class MappedBenchmarks {
+
+    @Param({ "16777216" })
+    int size;
+
+    Path in;
+    Path out;
+
+    WithLongUnaryOperator chain;
+
+    @Setup
+    public void setup() throws IOException {
+        in = Files.createTempFile("z-mapped-in", ".bin");
+        out = Files.createTempFile("z-mapped-out", ".bin");
+        ByteBuffer bytes = ByteBuffer
+            .allocate(size * Long.BYTES)
+            .order(ByteOrder.nativeOrder());
+        for (long n = 0; n < size; n++) {
+            bytes.putLong(n);
+        }
+        Files.write(in, bytes.array());
+
+        LongUnaryOperator mix = n -> n * 0x9E3779B97F4A7C15L;
+        LongUnaryOperator fold = n -> n ^ (n >>> 32);
+        chain = Z.fuse(mix).fuse(fold);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.delete(in);
+        Files.delete(out);
+    }
+
+    @Benchmark
+    public Path heapCopy() throws IOException {
+        ByteBuffer bytes = ByteBuffer
+            .wrap(Files.readAllBytes(in))
+            .order(ByteOrder.nativeOrder());
+        long[] values = new long[size];
+        bytes.asLongBuffer().get(values);
+        chain.applyAll(values);
+        bytes.asLongBuffer().put(values);
+        return Files.write(out, bytes.array());
+    }
+
+    @Benchmark
+    public Path mapped() throws IOException {
+        return chain.applyAll(in, out);
+    }
+
+    @Benchmark
+    public Path mappedParallel() throws IOException {
+        return chain.parallelApplyAll(in, out);
+    }
+}
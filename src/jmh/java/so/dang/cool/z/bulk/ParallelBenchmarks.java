@@ -0,0 +1,104 @@
+package so.dang.cool.z.bulk;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import so.dang.cool.z.Z;
+import so.dang.cool.z.internal.combination.Combine.WithFunction;
+import so.dang.cool.z.internal.combination.Combine.WithIntUnaryOperator;
+
+/**
+ * Scaling of parallel bulk application from one worker up, against a parallel
+ * stream in the same pool.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ParallelBenchmarks {
+
+    @Param({ "1", "2", "4", "8", "16" })
+    int threads;
+
+    @Param({ "1000000" })
+    int size;
+
+    ForkJoinPool pool;
+
+    int[] in;
+    int[] out;
+    List<Integer> boxed;
+
+    WithIntUnaryOperator chain;
+    WithFunction<Integer, String> objectChain;
+
+    @Setup
+    public void setup() {
+        pool = new ForkJoinPool(threads);
+        in = IntStream.range(0, size).toArray();
+        out = new int[size];
+        boxed = IntStream.range(0, size).boxed().collect(Collectors.toList());
+
+        IntUnaryOperator mix = i -> i * 0x9E3779B1;
+        IntUnaryOperator fold = i -> i ^ (i >>> 16);
+        chain = Z.fuse(mix).fuse(fold).fuse(mix).fuse(fold);
+
+        Function<Integer, Integer> boxedMix = i -> i * 0x9E3779B1;
+        Function<Integer, String> hex = Integer::toHexString;
+        objectChain = Z.fuse(boxedMix).fuse(hex);
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public int[] ints_parallelStream() {
+        return pool
+            .submit(
+                () ->
+                    IntStream
+                        .range(0, size)
+                        .parallel()
+                        .map(i -> chain.applyAsInt(in[i]))
+                        .toArray()
+            )
+            .join();
+    }
+
+    @Benchmark
+    public int[] ints_parallelApplyAll() {
+        return chain.parallelApplyAll(in, out, pool);
+    }
+
+    @Benchmark
+    public List<String> objects_parallelStream() {
+        return pool
+            .submit(
+                () ->
+                    boxed
+                        .parallelStream()
+                        .map(objectChain)
+                        .collect(Collectors.toList())
+            )
+            .join();
+    }
+
+    @Benchmark
+    public List<String> objects_parallelApplyBatch() {
+        return objectChain.parallelApplyBatch(boxed, pool);
+    }
+}
@@ -0,0 +1,94 @@
+package so.dang.cool.z.combination;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.IntUnaryOperator;
+import java.util.function.ToIntFunction;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import so.dang.cool.z.Z;
+import so.dang.cool.z.internal.combination.Combine.WithBiFunction;
+import so.dang.cool.z.internal.combination.Combine.WithBiPredicate;
+import so.dang.cool.z.internal.combination.Combine.WithToIntBiFunction;
+
+/**
+ * Fused two-argument chains, called directly and through their curried
+ * form. Read {@code gc.alloc.rate.norm}: the direct calls should allocate
+ * nothing. The curried calls allocate their partial applications wherever
+ * escape analysis fails to remove them, which {@code -XX:-DoEscapeAnalysis}
+ * makes visible.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class UncurriedBenchmarks {
+
+    String a;
+    String b;
+
+    WithBiFunction<String, String, String> longer;
+    WithToIntBiFunction<String, String> lengths;
+    WithBiPredicate<String, String> startsWith;
+
+    @Setup
+    public void setup() {
+        a = "uncurried";
+        b = "curried";
+
+        // String::strip returns the same string when there is nothing to
+        // strip, so neither stage allocates.
+        longer =
+            Z
+                .fuse((String x, String y) -> x.length() >= y.length() ? x : y)
+                .fuse(String::strip);
+
+        IntUnaryOperator doubled = n -> n * 2;
+        lengths =
+            Z
+                .fuse((String x, String y) -> x.length() + y.length())
+                .fuse(doubled)
+                .fuse((int n) -> n + 1);
+
+        startsWith =
+            Z
+                .fuse((String x, String y) -> x.startsWith(y))
+                .fuse((boolean matched) -> !matched);
+    }
+
+    @Benchmark
+    public String biFunction() {
+        return longer.apply(a, b);
+    }
+
+    @Benchmark
+    public String biFunctionCurried() {
+        Function<String, Function<String, String>> curried = longer.resolve();
+        return curried.apply(a).apply(b);
+    }
+
+    @Benchmark
+    public int toIntBiFunction() {
+        return lengths.applyAsInt(a, b);
+    }
+
+    @Benchmark
+    public int toIntBiFunctionCurried() {
+        Function<String, ToIntFunction<String>> curried = lengths.resolve();
+        return curried.apply(a).applyAsInt(b);
+    }
+
+    @Benchmark
+    public boolean biPredicate() {
+        return startsWith.test(a, b);
+    }
+
+    @Benchmark
+    public boolean biPredicateCurried() {
+        return startsWith.resolve().apply(a).test(b);
+    }
+}
@@ -1,5 +1,11 @@
 package so.dang.cool.z;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.BiPredicate;
@@ -44,14 +50,39 @@ import java.util.function.ToLongBiFunction;
 import java.util.function.ToLongFunction;
 import java.util.function.UnaryOperator;
 import so.dang.cool.z.annotation.Evil;
+import so.dang.cool.z.arithmetic.Ops;
 import so.dang.cool.z.function.BooleanConsumer;
+import so.dang.cool.z.function.BooleanDoubleConsumer;
 import so.dang.cool.z.function.BooleanFunction;
+import so.dang.cool.z.function.BooleanIntConsumer;
+import so.dang.cool.z.function.BooleanLongConsumer;
+import so.dang.cool.z.function.BooleanObjConsumer;
+import so.dang.cool.z.function.BooleanObjFunction;
+import so.dang.cool.z.function.BooleanObjPredicate;
+import so.dang.cool.z.function.BooleanObjToDoubleFunction;
+import so.dang.cool.z.function.BooleanObjToIntFunction;
+import so.dang.cool.z.function.BooleanObjToLongFunction;
 import so.dang.cool.z.function.BooleanPredicate;
 import so.dang.cool.z.function.BooleanToDoubleFunction;
 import so.dang.cool.z.function.BooleanToIntFunction;
 import so.dang.cool.z.function.BooleanToLongFunction;
 import so.dang.cool.z.function.DecFunction;
 import so.dang.cool.z.function.DodecFunction;
+import so.dang.cool.z.function.DoubleBiConsumer;
+import so.dang.cool.z.function.DoubleBiFunction;
+import so.dang.cool.z.function.DoubleBiPredicate;
+import so.dang.cool.z.function.DoubleBinaryToIntFunction;
+import so.dang.cool.z.function.DoubleBinaryToLongFunction;
+import so.dang.cool.z.function.IntBiConsumer;
+import so.dang.cool.z.function.IntBiFunction;
+import so.dang.cool.z.function.IntBiPredicate;
+import so.dang.cool.z.function.IntBinaryToDoubleFunction;
+import so.dang.cool.z.function.IntBinaryToLongFunction;
+import so.dang.cool.z.function.LongBiConsumer;
+import so.dang.cool.z.function.LongBiFunction;
+import so.dang.cool.z.function.LongBiPredicate;
+import so.dang.cool.z.function.LongBinaryToDoubleFunction;
+import so.dang.cool.z.function.LongBinaryToIntFunction;
 import so.dang.cool.z.function.NonFunction;
 import so.dang.cool.z.function.OctFunction;
 import so.dang.cool.z.function.Operator;
@@ -61,7 +92,12 @@ import so.dang.cool.z.function.SeptFunction;
 import so.dang.cool.z.function.SexFunction;
 import so.dang.cool.z.function.TriFunction;
 import so.dang.cool.z.function.UndecFunction;
+import so.dang.cool.z.internal.async.Batching;
+import so.dang.cool.z.internal.async.Fork;
+import so.dang.cool.z.internal.async.Sink;
 import so.dang.cool.z.internal.combination.Combine;
+import so.dang.cool.z.internal.fission.Curried;
+import so.dang.cool.z.internal.fission.Flipped;
 
 /**
  * A collection of techniques for combining or manipulating Java functions.
@@ -71,6 +107,12 @@ import so.dang.cool.z.internal.combination.Combine;
  *   <li>{@code Z.absorb(fnA, fnB)} - combines two not-naturally-joining functions into one.</li>
  *   <li>{@code Z.split(fn)} - transforms a multi-argument function into a curried form.</li>
  *   <li>{@code Z.assimilate[N](fn)} - transforms a curried function into a multi-argument form.</li>
+ *   <li>{@code Z.memoize(fn, maxSize)} - caches the results of a function.</li>
+ *   <li>{@code Z.tabulate(fn, from, to)} - precomputes a function over a small domain.</li>
+ *   <li>{@code Z.ops} - primitive operator stages that fold together when fused.</li>
+ *   <li>{@code Z.fork(fnA, fnB, ...)} - runs functions of one input side by side, then joins them.</li>
+ *   <li>{@code Z.batching(bulkFn, maxBatch, window)} - looks keys up together through a function of many keys.</li>
+ *   <li>{@code Z.batchingConsumer(bulkFn, maxBatch, window)} - passes values on in batches from a single thread.</li>
  * </ol>
  *
  * For more general guidance, see the notes on the package itself.
@@ -80,6 +122,12 @@ public final class Z {
     // Instantiation is prevented with a private constructor.
     private Z() {}
 
+    /**
+     * Primitive operator stages that fold together when fused, such as
+     * {@code Z.ops.addInt(2)} or {@code Z.ops.clampDouble(0.0, 1.0)}.
+     */
+    public static final Ops ops = Ops.INSTANCE;
+
     /**
      * Returns an identity function for the given class. Identity functions are
      * functions that return the value they are given. One use is modeling an
@@ -95,7 +143,7 @@ public final class Z {
     public static <A, B, C> BiFunction<B, A, C> flip(
         BiFunction<A, B, C> initial
     ) {
-        return (B b, A a) -> initial.apply(a, b);
+        return Flipped.of(initial);
     }
 
     /**
@@ -104,7 +152,7 @@ public final class Z {
     public static <A, B, C> Function<B, Function<A, C>> flip(
         Function<A, Function<B, C>> initial
     ) {
-        return (B b) -> (A a) -> initial.apply(a).apply(b);
+        return Z.fuse(flip(assimilate2(initial)));
     }
 
     // ┏┓
@@ -207,6 +255,76 @@ public final class Z {
         return fuseBooleanToLongFunction(initial);
     }
 
+    /* BooleanObjFunction */
+
+    public static <A, B> Combine.WithBooleanObjFunction<A, B> fuseBooleanObjFunction(
+        BooleanObjFunction<A, B> initial
+    ) {
+        return Combine.WithBooleanObjFunction.of(initial);
+    }
+
+    public static <A, B> Combine.WithBooleanObjFunction<A, B> fuse(
+        BooleanObjFunction<A, B> initial
+    ) {
+        return fuseBooleanObjFunction(initial);
+    }
+
+    /* BooleanObjToDoubleFunction */
+
+    public static <A> Combine.WithBooleanObjToDoubleFunction<A> fuseBooleanObjToDoubleFunction(
+        BooleanObjToDoubleFunction<A> initial
+    ) {
+        return Combine.WithBooleanObjToDoubleFunction.of(initial);
+    }
+
+    public static <A> Combine.WithBooleanObjToDoubleFunction<A> fuse(
+        BooleanObjToDoubleFunction<A> initial
+    ) {
+        return fuseBooleanObjToDoubleFunction(initial);
+    }
+
+    /* BooleanObjToIntFunction */
+
+    public static <A> Combine.WithBooleanObjToIntFunction<A> fuseBooleanObjToIntFunction(
+        BooleanObjToIntFunction<A> initial
+    ) {
+        return Combine.WithBooleanObjToIntFunction.of(initial);
+    }
+
+    public static <A> Combine.WithBooleanObjToIntFunction<A> fuse(
+        BooleanObjToIntFunction<A> initial
+    ) {
+        return fuseBooleanObjToIntFunction(initial);
+    }
+
+    /* BooleanObjToLongFunction */
+
+    public static <A> Combine.WithBooleanObjToLongFunction<A> fuseBooleanObjToLongFunction(
+        BooleanObjToLongFunction<A> initial
+    ) {
+        return Combine.WithBooleanObjToLongFunction.of(initial);
+    }
+
+    public static <A> Combine.WithBooleanObjToLongFunction<A> fuse(
+        BooleanObjToLongFunction<A> initial
+    ) {
+        return fuseBooleanObjToLongFunction(initial);
+    }
+
+    /* BooleanObjPredicate */
+
+    public static <A> Combine.WithBooleanObjPredicate<A> fuseBooleanObjPredicate(
+        BooleanObjPredicate<A> initial
+    ) {
+        return Combine.WithBooleanObjPredicate.of(initial);
+    }
+
+    public static <A> Combine.WithBooleanObjPredicate<A> fuse(
+        BooleanObjPredicate<A> initial
+    ) {
+        return fuseBooleanObjPredicate(initial);
+    }
+
     /* DoubleFunction */
 
     public static <A> Combine.WithDoubleFunction<A> fuseDoubleFunction(
@@ -591,6 +709,62 @@ public final class Z {
         return fuseDoubleBinaryOperator(initial);
     }
 
+    /* DoubleBiFunction */
+
+    public static <A> Combine.WithDoubleBiFunction<A> fuseDoubleBiFunction(
+        DoubleBiFunction<A> initial
+    ) {
+        return Combine.WithDoubleBiFunction.of(initial);
+    }
+
+    public static <A> Combine.WithDoubleBiFunction<A> fuse(
+        DoubleBiFunction<A> initial
+    ) {
+        return fuseDoubleBiFunction(initial);
+    }
+
+    /* DoubleBinaryToIntFunction */
+
+    public static Combine.WithDoubleBinaryToIntFunction fuseDoubleBinaryToIntFunction(
+        DoubleBinaryToIntFunction initial
+    ) {
+        return Combine.WithDoubleBinaryToIntFunction.of(initial);
+    }
+
+    public static Combine.WithDoubleBinaryToIntFunction fuse(
+        DoubleBinaryToIntFunction initial
+    ) {
+        return fuseDoubleBinaryToIntFunction(initial);
+    }
+
+    /* DoubleBinaryToLongFunction */
+
+    public static Combine.WithDoubleBinaryToLongFunction fuseDoubleBinaryToLongFunction(
+        DoubleBinaryToLongFunction initial
+    ) {
+        return Combine.WithDoubleBinaryToLongFunction.of(initial);
+    }
+
+    public static Combine.WithDoubleBinaryToLongFunction fuse(
+        DoubleBinaryToLongFunction initial
+    ) {
+        return fuseDoubleBinaryToLongFunction(initial);
+    }
+
+    /* DoubleBiPredicate */
+
+    public static Combine.WithDoubleBiPredicate fuseDoubleBiPredicate(
+        DoubleBiPredicate initial
+    ) {
+        return Combine.WithDoubleBiPredicate.of(initial);
+    }
+
+    public static Combine.WithDoubleBiPredicate fuse(
+        DoubleBiPredicate initial
+    ) {
+        return fuseDoubleBiPredicate(initial);
+    }
+
     /* IntUnaryOperator */
 
     public static Combine.WithIntUnaryOperator fuseIntUnaryOperator(
@@ -617,6 +791,60 @@ public final class Z {
         return fuseIntBinaryOperator(initial);
     }
 
+    /* IntBiFunction */
+
+    public static <A> Combine.WithIntBiFunction<A> fuseIntBiFunction(
+        IntBiFunction<A> initial
+    ) {
+        return Combine.WithIntBiFunction.of(initial);
+    }
+
+    public static <A> Combine.WithIntBiFunction<A> fuse(
+        IntBiFunction<A> initial
+    ) {
+        return fuseIntBiFunction(initial);
+    }
+
+    /* IntBinaryToDoubleFunction */
+
+    public static Combine.WithIntBinaryToDoubleFunction fuseIntBinaryToDoubleFunction(
+        IntBinaryToDoubleFunction initial
+    ) {
+        return Combine.WithIntBinaryToDoubleFunction.of(initial);
+    }
+
+    public static Combine.WithIntBinaryToDoubleFunction fuse(
+        IntBinaryToDoubleFunction initial
+    ) {
+        return fuseIntBinaryToDoubleFunction(initial);
+    }
+
+    /* IntBinaryToLongFunction */
+
+    public static Combine.WithIntBinaryToLongFunction fuseIntBinaryToLongFunction(
+        IntBinaryToLongFunction initial
+    ) {
+        return Combine.WithIntBinaryToLongFunction.of(initial);
+    }
+
+    public static Combine.WithIntBinaryToLongFunction fuse(
+        IntBinaryToLongFunction initial
+    ) {
+        return fuseIntBinaryToLongFunction(initial);
+    }
+
+    /* IntBiPredicate */
+
+    public static Combine.WithIntBiPredicate fuseIntBiPredicate(
+        IntBiPredicate initial
+    ) {
+        return Combine.WithIntBiPredicate.of(initial);
+    }
+
+    public static Combine.WithIntBiPredicate fuse(IntBiPredicate initial) {
+        return fuseIntBiPredicate(initial);
+    }
+
     /* LongUnaryOperator */
 
     public static Combine.WithLongUnaryOperator fuseLongUnaryOperator(
@@ -645,6 +873,220 @@ public final class Z {
         return fuseLongBinaryOperator(initial);
     }
 
+    /* LongBiFunction */
+
+    public static <A> Combine.WithLongBiFunction<A> fuseLongBiFunction(
+        LongBiFunction<A> initial
+    ) {
+        return Combine.WithLongBiFunction.of(initial);
+    }
+
+    public static <A> Combine.WithLongBiFunction<A> fuse(
+        LongBiFunction<A> initial
+    ) {
+        return fuseLongBiFunction(initial);
+    }
+
+    /* LongBinaryToDoubleFunction */
+
+    public static Combine.WithLongBinaryToDoubleFunction fuseLongBinaryToDoubleFunction(
+        LongBinaryToDoubleFunction initial
+    ) {
+        return Combine.WithLongBinaryToDoubleFunction.of(initial);
+    }
+
+    public static Combine.WithLongBinaryToDoubleFunction fuse(
+        LongBinaryToDoubleFunction initial
+    ) {
+        return fuseLongBinaryToDoubleFunction(initial);
+    }
+
+    /* LongBinaryToIntFunction */
+
+    public static Combine.WithLongBinaryToIntFunction fuseLongBinaryToIntFunction(
+        LongBinaryToIntFunction initial
+    ) {
+        return Combine.WithLongBinaryToIntFunction.of(initial);
+    }
+
+    public static Combine.WithLongBinaryToIntFunction fuse(
+        LongBinaryToIntFunction initial
+    ) {
+        return fuseLongBinaryToIntFunction(initial);
+    }
+
+    /* LongBiPredicate */
+
+    public static Combine.WithLongBiPredicate fuseLongBiPredicate(
+        LongBiPredicate initial
+    ) {
+        return Combine.WithLongBiPredicate.of(initial);
+    }
+
+    public static Combine.WithLongBiPredicate fuse(LongBiPredicate initial) {
+        return fuseLongBiPredicate(initial);
+    }
+
+    /* TriFunction */
+
+    public static <A, B, C, D>
+        Combine.WithTriFunction<A, B, C, D>
+        fuseTriFunction(TriFunction<A, B, C, D> initial)
+    {
+        return Combine.WithTriFunction.of(initial);
+    }
+
+    public static <A, B, C, D>
+        Combine.WithTriFunction<A, B, C, D>
+        fuse(TriFunction<A, B, C, D> initial)
+    {
+        return fuseTriFunction(initial);
+    }
+
+    /* QuadFunction */
+
+    public static <A, B, C, D, E>
+        Combine.WithQuadFunction<A, B, C, D, E>
+        fuseQuadFunction(QuadFunction<A, B, C, D, E> initial)
+    {
+        return Combine.WithQuadFunction.of(initial);
+    }
+
+    public static <A, B, C, D, E>
+        Combine.WithQuadFunction<A, B, C, D, E>
+        fuse(QuadFunction<A, B, C, D, E> initial)
+    {
+        return fuseQuadFunction(initial);
+    }
+
+    /* QuinFunction */
+
+    public static <A, B, C, D, E, F>
+        Combine.WithQuinFunction<A, B, C, D, E, F>
+        fuseQuinFunction(QuinFunction<A, B, C, D, E, F> initial)
+    {
+        return Combine.WithQuinFunction.of(initial);
+    }
+
+    public static <A, B, C, D, E, F>
+        Combine.WithQuinFunction<A, B, C, D, E, F>
+        fuse(QuinFunction<A, B, C, D, E, F> initial)
+    {
+        return fuseQuinFunction(initial);
+    }
+
+    /* SexFunction */
+
+    public static <A, B, C, D, E, F, G>
+        Combine.WithSexFunction<A, B, C, D, E, F, G>
+        fuseSexFunction(SexFunction<A, B, C, D, E, F, G> initial)
+    {
+        return Combine.WithSexFunction.of(initial);
+    }
+
+    public static <A, B, C, D, E, F, G>
+        Combine.WithSexFunction<A, B, C, D, E, F, G>
+        fuse(SexFunction<A, B, C, D, E, F, G> initial)
+    {
+        return fuseSexFunction(initial);
+    }
+
+    /* SeptFunction */
+
+    public static <A, B, C, D, E, F, G, H>
+        Combine.WithSeptFunction<A, B, C, D, E, F, G, H>
+        fuseSeptFunction(SeptFunction<A, B, C, D, E, F, G, H> initial)
+    {
+        return Combine.WithSeptFunction.of(initial);
+    }
+
+    public static <A, B, C, D, E, F, G, H>
+        Combine.WithSeptFunction<A, B, C, D, E, F, G, H>
+        fuse(SeptFunction<A, B, C, D, E, F, G, H> initial)
+    {
+        return fuseSeptFunction(initial);
+    }
+
+    /* OctFunction */
+
+    public static <A, B, C, D, E, F, G, H, I>
+        Combine.WithOctFunction<A, B, C, D, E, F, G, H, I>
+        fuseOctFunction(OctFunction<A, B, C, D, E, F, G, H, I> initial)
+    {
+        return Combine.WithOctFunction.of(initial);
+    }
+
+    public static <A, B, C, D, E, F, G, H, I>
+        Combine.WithOctFunction<A, B, C, D, E, F, G, H, I>
+        fuse(OctFunction<A, B, C, D, E, F, G, H, I> initial)
+    {
+        return fuseOctFunction(initial);
+    }
+
+    /* NonFunction */
+
+    public static <A, B, C, D, E, F, G, H, I, J>
+        Combine.WithNonFunction<A, B, C, D, E, F, G, H, I, J>
+        fuseNonFunction(NonFunction<A, B, C, D, E, F, G, H, I, J> initial)
+    {
+        return Combine.WithNonFunction.of(initial);
+    }
+
+    public static <A, B, C, D, E, F, G, H, I, J>
+        Combine.WithNonFunction<A, B, C, D, E, F, G, H, I, J>
+        fuse(NonFunction<A, B, C, D, E, F, G, H, I, J> initial)
+    {
+        return fuseNonFunction(initial);
+    }
+
+    /* DecFunction */
+
+    public static <A, B, C, D, E, F, G, H, I, J, K>
+        Combine.WithDecFunction<A, B, C, D, E, F, G, H, I, J, K>
+        fuseDecFunction(DecFunction<A, B, C, D, E, F, G, H, I, J, K> initial)
+    {
+        return Combine.WithDecFunction.of(initial);
+    }
+
+    public static <A, B, C, D, E, F, G, H, I, J, K>
+        Combine.WithDecFunction<A, B, C, D, E, F, G, H, I, J, K>
+        fuse(DecFunction<A, B, C, D, E, F, G, H, I, J, K> initial)
+    {
+        return fuseDecFunction(initial);
+    }
+
+    /* UndecFunction */
+
+    public static <A, B, C, D, E, F, G, H, I, J, K, L>
+        Combine.WithUndecFunction<A, B, C, D, E, F, G, H, I, J, K, L>
+        fuseUndecFunction(UndecFunction<A, B, C, D, E, F, G, H, I, J, K, L> initial)
+    {
+        return Combine.WithUndecFunction.of(initial);
+    }
+
+    public static <A, B, C, D, E, F, G, H, I, J, K, L>
+        Combine.WithUndecFunction<A, B, C, D, E, F, G, H, I, J, K, L>
+        fuse(UndecFunction<A, B, C, D, E, F, G, H, I, J, K, L> initial)
+    {
+        return fuseUndecFunction(initial);
+    }
+
+    /* DodecFunction */
+
+    public static <A, B, C, D, E, F, G, H, I, J, K, L, M>
+        Combine.WithDodecFunction<A, B, C, D, E, F, G, H, I, J, K, L, M>
+        fuseDodecFunction(DodecFunction<A, B, C, D, E, F, G, H, I, J, K, L, M> initial)
+    {
+        return Combine.WithDodecFunction.of(initial);
+    }
+
+    public static <A, B, C, D, E, F, G, H, I, J, K, L, M>
+        Combine.WithDodecFunction<A, B, C, D, E, F, G, H, I, J, K, L, M>
+        fuse(DodecFunction<A, B, C, D, E, F, G, H, I, J, K, L, M> initial)
+    {
+        return fuseDodecFunction(initial);
+    }
+
     // Classes, objects, and primitives into combinators.
 
     public static <A> Combine.WithFunction<A, A> withClass(Class<A> clazz) {
@@ -735,8 +1177,7 @@ public final class Z {
           Function<C, D>>>
         split3(TriFunction<A, B, C, D> initial)
     {
-        return (A a) -> (B b) -> (C c) ->
-            initial.apply(a, b, c);
+        return Curried.of(initial, 3);
     }
 
     public static <A, B, C, D>
@@ -755,8 +1196,7 @@ public final class Z {
            Function<D, E>>>>
         split4(QuadFunction<A, B, C, D, E> initial)
     {
-        return (A a) -> (B b) -> (C c) -> (D d) ->
-            initial.apply(a, b, c, d);
+        return Curried.of(initial, 4);
     }
 
     public static <A, B, C, D, E>
@@ -777,8 +1217,7 @@ public final class Z {
             Function<E, F>>>>>
         split5(QuinFunction<A, B, C, D, E, F> initial)
     {
-        return (A a) -> (B b) -> (C c) -> (D d) -> (E e) ->
-            initial.apply(a, b, c, d, e);
+        return Curried.of(initial, 5);
     }
 
     public static <A, B, C, D, E, F>
@@ -801,8 +1240,7 @@ public final class Z {
              Function<F, G>>>>>>
         split6(SexFunction<A, B, C, D, E, F, G> initial)
     {
-        return (A a) -> (B b) -> (C c) -> (D d) -> (E e) -> (F f) ->
-            initial.apply(a, b, c, d, e, f);
+        return Curried.of(initial, 6);
     }
 
     public static <A, B, C, D, E, F, G>
@@ -827,8 +1265,7 @@ public final class Z {
               Function<G, H>>>>>>>
         split7(SeptFunction<A, B, C, D, E, F, G, H> initial)
     {
-        return (A a) -> (B b) -> (C c) -> (D d) -> (E e) -> (F f) -> (G g) ->
-            initial.apply(a, b, c, d, e, f, g);
+        return Curried.of(initial, 7);
     }
 
     public static <A, B, C, D, E, F, G, H>
@@ -855,8 +1292,7 @@ public final class Z {
                Function<H, I>>>>>>>>
         split8(OctFunction<A, B, C, D, E, F, G, H, I> initial)
     {
-        return (A a) -> (B b) -> (C c) -> (D d) -> (E e) -> (F f) -> (G g) -> (H h) ->
-            initial.apply(a, b, c, d, e, f, g, h);
+        return Curried.of(initial, 8);
     }
 
     public static <A, B, C, D, E, F, G, H, I>
@@ -885,8 +1321,7 @@ public final class Z {
                 Function<I, J>>>>>>>>>
         split9(NonFunction<A, B, C, D, E, F, G, H, I, J> initial)
     {
-        return (A a) -> (B b) -> (C c) -> (D d) -> (E e) -> (F f) -> (G g) -> (H h) -> (I i) ->
-            initial.apply(a, b, c, d, e, f, g, h, i);
+        return Curried.of(initial, 9);
     }
 
     public static <A, B, C, D, E, F, G, H, I, J>
@@ -917,8 +1352,7 @@ public final class Z {
                  Function<J, K>>>>>>>>>>
         split10(DecFunction<A, B, C, D, E, F, G, H, I, J, K> initial)
     {
-        return (A a) -> (B b) -> (C c) -> (D d) -> (E e) -> (F f) -> (G g) -> (H h) -> (I i) -> (J j) ->
-            initial.apply(a, b, c, d, e, f, g, h, i, j);
+        return Curried.of(initial, 10);
     }
 
     public static <A, B, C, D, E, F, G, H, I, J, K>
@@ -951,9 +1385,7 @@ public final class Z {
                   Function<K, L>>>>>>>>>>>
         split11(UndecFunction<A, B, C, D, E, F, G, H, I, J, K, L> initial)
     {
-        return (A a) -> (B b) -> (C c) -> (D d) -> (E e) -> (F f) ->
-                (G g) -> (H h) -> (I i) -> (J j) -> (K k) ->
-                 initial.apply(a, b, c, d, e, f, g, h, i, j, k);
+        return Curried.of(initial, 11);
     }
 
     public static <A, B, C, D, E, F, G, H, I, J, K, L>
@@ -988,9 +1420,7 @@ public final class Z {
                    Function<L, M>>>>>>>>>>>>
         split12(DodecFunction<A, B, C, D, E, F, G, H, I, J, K, L, M> initial)
     {
-        return (A a) -> (B b) -> (C c) -> (D d) -> (E e) -> (F f) ->
-                (G g) -> (H h) -> (I i) -> (J j) -> (K k) -> (L l) ->
-                 initial.apply(a, b, c, d, e, f, g, h, i, j, k, l);
+        return Curried.of(initial, 12);
     }
 
     public static <A, B, C, D, E, F, G, H, I, J, K, L, M>
@@ -1139,6 +1569,9 @@ public final class Z {
             Function<A,
              Function<B, C>> curried)
     {
+        if (curried instanceof Combine.WithBiFunction) {
+            return ((Combine.WithBiFunction<A, B, C>) curried).resolveUncurried();
+        }
         return (A a, B b) ->
             curried.apply(a).apply(b); 
     }
@@ -1151,6 +1584,10 @@ public final class Z {
              Function<B,
               Function<C, D>>> curried)
     {
+        TriFunction<A, B, C, D> uncurried = Curried.uncurried(curried, 3);
+        if (uncurried != null) {
+            return uncurried;
+        }
         return (A a, B b, C c) ->
             curried.apply(a).apply(b).apply(c); 
     }
@@ -1164,6 +1601,10 @@ public final class Z {
               Function<C,
                Function<D, E>>>> curried)
     {
+        QuadFunction<A, B, C, D, E> uncurried = Curried.uncurried(curried, 4);
+        if (uncurried != null) {
+            return uncurried;
+        }
         return (A a, B b, C c, D d) ->
             curried.apply(a).apply(b).apply(c).apply(d); 
     }
@@ -1178,6 +1619,10 @@ public final class Z {
                Function<D,
                 Function<E, F>>>>> curried)
     {
+        QuinFunction<A, B, C, D, E, F> uncurried = Curried.uncurried(curried, 5);
+        if (uncurried != null) {
+            return uncurried;
+        }
         return (A a, B b, C c, D d, E e) ->
             curried.apply(a).apply(b).apply(c).apply(d).apply(e);
     }
@@ -1193,6 +1638,10 @@ public final class Z {
                 Function<E,
                  Function<F, G>>>>>> curried)
     {
+        SexFunction<A, B, C, D, E, F, G> uncurried = Curried.uncurried(curried, 6);
+        if (uncurried != null) {
+            return uncurried;
+        }
         return (A a, B b, C c, D d, E e, F f) ->
             curried.apply(a).apply(b).apply(c).apply(d).apply(e).apply(f);
     }
@@ -1209,6 +1658,10 @@ public final class Z {
                  Function<F,
                   Function<G, H>>>>>>> curried)
     {
+        SeptFunction<A, B, C, D, E, F, G, H> uncurried = Curried.uncurried(curried, 7);
+        if (uncurried != null) {
+            return uncurried;
+        }
         return (A a, B b, C c, D d, E e, F f, G g) ->
             curried.apply(a).apply(b).apply(c).apply(d).apply(e).apply(f).apply(g);
     }
@@ -1226,6 +1679,10 @@ public final class Z {
                   Function<G,
                    Function<H, I>>>>>>>> curried)
     {
+        OctFunction<A, B, C, D, E, F, G, H, I> uncurried = Curried.uncurried(curried, 8);
+        if (uncurried != null) {
+            return uncurried;
+        }
         return (A a, B b, C c, D d, E e, F f, G g, H h) ->
             curried.apply(a).apply(b).apply(c).apply(d).apply(e).apply(f).apply(g).apply(h);
     }
@@ -1244,6 +1701,10 @@ public final class Z {
                    Function<H,
                     Function<I, J>>>>>>>>> curried)
     {
+        NonFunction<A, B, C, D, E, F, G, H, I, J> uncurried = Curried.uncurried(curried, 9);
+        if (uncurried != null) {
+            return uncurried;
+        }
         return (A a, B b, C c, D d, E e, F f, G g, H h, I i) ->
             curried.apply(a).apply(b).apply(c).apply(d).apply(e).apply(f).apply(g).apply(h).apply(i);
     }
@@ -1263,6 +1724,10 @@ public final class Z {
                     Function<I,
                      Function<J, K>>>>>>>>>> curried)
     {
+        DecFunction<A, B, C, D, E, F, G, H, I, J, K> uncurried = Curried.uncurried(curried, 10);
+        if (uncurried != null) {
+            return uncurried;
+        }
         return (A a, B b, C c, D d, E e, F f, G g, H h, I i, J j) ->
             curried.apply(a).apply(b).apply(c).apply(d).apply(e).apply(f).apply(g).apply(h).apply(i).apply(j);
     }
@@ -1283,6 +1748,10 @@ public final class Z {
                      Function<J,
                       Function<K, L>>>>>>>>>>> curried)
     {
+        UndecFunction<A, B, C, D, E, F, G, H, I, J, K, L> uncurried = Curried.uncurried(curried, 11);
+        if (uncurried != null) {
+            return uncurried;
+        }
         return (A a, B b, C c, D d, E e, F f, G g, H h, I i, J j, K k) ->
             curried.apply(a).apply(b).apply(c).apply(d).apply(e).apply(f).apply(g).apply(h).apply(i).apply(j).apply(k);
     }
@@ -1304,6 +1773,10 @@ public final class Z {
                       Function<K,
                        Function<L, M>>>>>>>>>>>> curried)
     {
+        DodecFunction<A, B, C, D, E, F, G, H, I, J, K, L, M> uncurried = Curried.uncurried(curried, 12);
+        if (uncurried != null) {
+            return uncurried;
+        }
         return (A a, B b, C c, D d, E e, F f, G g, H h, I i, J j, K k, L l) ->
             curried.apply(a).apply(b).apply(c).apply(d).apply(e).apply(f).apply(g).apply(h).apply(i).apply(j).apply(k).apply(l);
     }
@@ -1373,6 +1846,70 @@ public final class Z {
         return fuseBooleanConsumer(initial);
     }
 
+    /* BooleanObjConsumer */
+
+    @Evil
+    public static <A> Combine.WithBooleanObjConsumer<A> fuseBooleanObjConsumer(
+        BooleanObjConsumer<A> initial
+    ) {
+        return Combine.WithBooleanObjConsumer.of(initial);
+    }
+
+    @Evil
+    public static <A> Combine.WithBooleanObjConsumer<A> fuse(
+        BooleanObjConsumer<A> initial
+    ) {
+        return fuseBooleanObjConsumer(initial);
+    }
+
+    /* BooleanDoubleConsumer */
+
+    @Evil
+    public static Combine.WithBooleanDoubleConsumer fuseBooleanDoubleConsumer(
+        BooleanDoubleConsumer initial
+    ) {
+        return Combine.WithBooleanDoubleConsumer.of(initial);
+    }
+
+    @Evil
+    public static Combine.WithBooleanDoubleConsumer fuse(
+        BooleanDoubleConsumer initial
+    ) {
+        return fuseBooleanDoubleConsumer(initial);
+    }
+
+    /* BooleanIntConsumer */
+
+    @Evil
+    public static Combine.WithBooleanIntConsumer fuseBooleanIntConsumer(
+        BooleanIntConsumer initial
+    ) {
+        return Combine.WithBooleanIntConsumer.of(initial);
+    }
+
+    @Evil
+    public static Combine.WithBooleanIntConsumer fuse(
+        BooleanIntConsumer initial
+    ) {
+        return fuseBooleanIntConsumer(initial);
+    }
+
+    /* BooleanLongConsumer */
+
+    @Evil
+    public static Combine.WithBooleanLongConsumer fuseBooleanLongConsumer(
+        BooleanLongConsumer initial
+    ) {
+        return Combine.WithBooleanLongConsumer.of(initial);
+    }
+
+    @Evil
+    public static Combine.WithBooleanLongConsumer fuse(
+        BooleanLongConsumer initial
+    ) {
+        return fuseBooleanLongConsumer(initial);
+    }
+
     /* DoubleConsumer */
 
     @Evil
@@ -1403,6 +1940,20 @@ public final class Z {
         return fuseObjDoubleConsumer(initial);
     }
 
+    /* DoubleBiConsumer */
+
+    @Evil
+    public static Combine.WithDoubleBiConsumer fuseDoubleBiConsumer(
+        DoubleBiConsumer initial
+    ) {
+        return Combine.WithDoubleBiConsumer.of(initial);
+    }
+
+    @Evil
+    public static Combine.WithDoubleBiConsumer fuse(DoubleBiConsumer initial) {
+        return fuseDoubleBiConsumer(initial);
+    }
+
     /* IntConsumer */
 
     @Evil
@@ -1431,10 +1982,24 @@ public final class Z {
         return fuseObjIntConsumer(initial);
     }
 
-    /* LongConsumer */
+    /* IntBiConsumer */
 
     @Evil
-    public static Combine.WithLongConsumer fuseLongConsumer(
+    public static Combine.WithIntBiConsumer fuseIntBiConsumer(
+        IntBiConsumer initial
+    ) {
+        return Combine.WithIntBiConsumer.of(initial);
+    }
+
+    @Evil
+    public static Combine.WithIntBiConsumer fuse(IntBiConsumer initial) {
+        return fuseIntBiConsumer(initial);
+    }
+
+    /* LongConsumer */
+
+    @Evil
+    public static Combine.WithLongConsumer fuseLongConsumer(
         LongConsumer initial
     ) {
         return Combine.WithLongConsumer.of(initial);
@@ -1461,6 +2026,20 @@ public final class Z {
         return fuseObjLongConsumer(initial);
     }
 
+    /* LongBiConsumer */
+
+    @Evil
+    public static Combine.WithLongBiConsumer fuseLongBiConsumer(
+        LongBiConsumer initial
+    ) {
+        return Combine.WithLongBiConsumer.of(initial);
+    }
+
+    @Evil
+    public static Combine.WithLongBiConsumer fuse(LongBiConsumer initial) {
+        return fuseLongBiConsumer(initial);
+    }
+
     /* Operator */
 
     @Evil
@@ -1472,4 +2051,715 @@ public final class Z {
     public static Combine.WithOperator fuse(Operator initial) {
         return fuseOperator(initial);
     }
+
+    // ┏┓
+    // ┏━━━━┓
+    // ┏━━━━━━━━┓
+    // ┏━━━━━━━━━━━━┓
+    // ┏━━━━━━━━━━━━━━━━┓
+    // ┏━━━━━━━━━━━━━━━━━━━━┓
+    // ┏━━━━━━━━━━━━━━━━━━━━━━━━┓
+    // ┏━━━━━━━━━━━━━━━━━━━━━━━━━━━━┓
+    // ┏━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━┓
+    // ┏━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━┓
+    // ┃                                     ┃
+    // ┃    ┏┳┓┏━╸┏┳┓┏━┓╻╺━┓┏━┓╺┳╸╻┏━┓┏┓╻    ┃
+    // ┃    ┃┃┃┣╸ ┃┃┃┃ ┃┃┏━┛┣━┫ ┃ ┃┃ ┃┃┗┫    ┃
+    // ┃    ╹ ╹┗━╸╹ ╹┗━┛╹┗━╸╹ ╹ ╹ ╹┗━┛╹ ╹    ┃
+    // ┃                                     ┃
+    // ┗━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━┛
+
+    // Functions into cached functions.
+
+    /* Function */
+
+    public static <A, B> Combine.WithFunction<A, B> memoizeFunction(
+        Function<A, B> initial,
+        int maxSize
+    ) {
+        return fuseFunction(initial).memoize(maxSize);
+    }
+
+    public static <A, B> Combine.WithFunction<A, B> memoize(
+        Function<A, B> initial,
+        int maxSize
+    ) {
+        return memoizeFunction(initial, maxSize);
+    }
+
+    public static <A, B> Combine.WithFunction<A, B> singleFlightFunction(
+        Function<A, B> initial
+    ) {
+        return fuseFunction(initial).singleFlight();
+    }
+
+    public static <A, B> Combine.WithFunction<A, B> singleFlight(
+        Function<A, B> initial
+    ) {
+        return singleFlightFunction(initial);
+    }
+
+    public static <A, B> Combine.WithFunction<A, CompletableFuture<B>> singleFlightFunctionAsync(
+        Function<A, B> initial
+    ) {
+        return fuseFunction(initial).singleFlightAsync();
+    }
+
+    public static <A, B> Combine.WithFunction<A, CompletableFuture<B>> singleFlightAsync(
+        Function<A, B> initial
+    ) {
+        return singleFlightFunctionAsync(initial);
+    }
+
+    /* DoubleFunction */
+
+    public static <A> Combine.WithDoubleFunction<A> memoizeDoubleFunction(
+        DoubleFunction<A> initial,
+        int maxSize
+    ) {
+        return fuseDoubleFunction(initial).memoize(maxSize);
+    }
+
+    public static <A> Combine.WithDoubleFunction<A> memoize(
+        DoubleFunction<A> initial,
+        int maxSize
+    ) {
+        return memoizeDoubleFunction(initial, maxSize);
+    }
+
+    /* DoubleToIntFunction */
+
+    public static Combine.WithDoubleToIntFunction memoizeDoubleToIntFunction(
+        DoubleToIntFunction initial,
+        int maxSize
+    ) {
+        return fuseDoubleToIntFunction(initial).memoize(maxSize);
+    }
+
+    public static Combine.WithDoubleToIntFunction memoize(
+        DoubleToIntFunction initial,
+        int maxSize
+    ) {
+        return memoizeDoubleToIntFunction(initial, maxSize);
+    }
+
+    /* DoubleToLongFunction */
+
+    public static Combine.WithDoubleToLongFunction memoizeDoubleToLongFunction(
+        DoubleToLongFunction initial,
+        int maxSize
+    ) {
+        return fuseDoubleToLongFunction(initial).memoize(maxSize);
+    }
+
+    public static Combine.WithDoubleToLongFunction memoize(
+        DoubleToLongFunction initial,
+        int maxSize
+    ) {
+        return memoizeDoubleToLongFunction(initial, maxSize);
+    }
+
+    /* IntFunction */
+
+    public static <A> Combine.WithIntFunction<A> memoizeIntFunction(
+        IntFunction<A> initial,
+        int maxSize
+    ) {
+        return fuseIntFunction(initial).memoize(maxSize);
+    }
+
+    public static <A> Combine.WithIntFunction<A> memoize(
+        IntFunction<A> initial,
+        int maxSize
+    ) {
+        return memoizeIntFunction(initial, maxSize);
+    }
+
+    /* IntToDoubleFunction */
+
+    public static Combine.WithIntToDoubleFunction memoizeIntToDoubleFunction(
+        IntToDoubleFunction initial,
+        int maxSize
+    ) {
+        return fuseIntToDoubleFunction(initial).memoize(maxSize);
+    }
+
+    public static Combine.WithIntToDoubleFunction memoize(
+        IntToDoubleFunction initial,
+        int maxSize
+    ) {
+        return memoizeIntToDoubleFunction(initial, maxSize);
+    }
+
+    /* IntToLongFunction */
+
+    public static Combine.WithIntToLongFunction memoizeIntToLongFunction(
+        IntToLongFunction initial,
+        int maxSize
+    ) {
+        return fuseIntToLongFunction(initial).memoize(maxSize);
+    }
+
+    public static Combine.WithIntToLongFunction memoize(
+        IntToLongFunction initial,
+        int maxSize
+    ) {
+        return memoizeIntToLongFunction(initial, maxSize);
+    }
+
+    /* LongFunction */
+
+    public static <A> Combine.WithLongFunction<A> memoizeLongFunction(
+        LongFunction<A> initial,
+        int maxSize
+    ) {
+        return fuseLongFunction(initial).memoize(maxSize);
+    }
+
+    public static <A> Combine.WithLongFunction<A> memoize(
+        LongFunction<A> initial,
+        int maxSize
+    ) {
+        return memoizeLongFunction(initial, maxSize);
+    }
+
+    /* LongToDoubleFunction */
+
+    public static Combine.WithLongToDoubleFunction memoizeLongToDoubleFunction(
+        LongToDoubleFunction initial,
+        int maxSize
+    ) {
+        return fuseLongToDoubleFunction(initial).memoize(maxSize);
+    }
+
+    public static Combine.WithLongToDoubleFunction memoize(
+        LongToDoubleFunction initial,
+        int maxSize
+    ) {
+        return memoizeLongToDoubleFunction(initial, maxSize);
+    }
+
+    /* LongToIntFunction */
+
+    public static Combine.WithLongToIntFunction memoizeLongToIntFunction(
+        LongToIntFunction initial,
+        int maxSize
+    ) {
+        return fuseLongToIntFunction(initial).memoize(maxSize);
+    }
+
+    public static Combine.WithLongToIntFunction memoize(
+        LongToIntFunction initial,
+        int maxSize
+    ) {
+        return memoizeLongToIntFunction(initial, maxSize);
+    }
+
+    /* DoublePredicate */
+
+    public static Combine.WithDoublePredicate memoizeDoublePredicate(
+        DoublePredicate initial,
+        int maxSize
+    ) {
+        return fuseDoublePredicate(initial).memoize(maxSize);
+    }
+
+    public static Combine.WithDoublePredicate memoize(
+        DoublePredicate initial,
+        int maxSize
+    ) {
+        return memoizeDoublePredicate(initial, maxSize);
+    }
+
+    /* IntPredicate */
+
+    public static Combine.WithIntPredicate memoizeIntPredicate(
+        IntPredicate initial,
+        int maxSize
+    ) {
+        return fuseIntPredicate(initial).memoize(maxSize);
+    }
+
+    public static Combine.WithIntPredicate memoize(
+        IntPredicate initial,
+        int maxSize
+    ) {
+        return memoizeIntPredicate(initial, maxSize);
+    }
+
+    /* LongPredicate */
+
+    public static Combine.WithLongPredicate memoizeLongPredicate(
+        LongPredicate initial,
+        int maxSize
+    ) {
+        return fuseLongPredicate(initial).memoize(maxSize);
+    }
+
+    public static Combine.WithLongPredicate memoize(
+        LongPredicate initial,
+        int maxSize
+    ) {
+        return memoizeLongPredicate(initial, maxSize);
+    }
+
+    /* DoubleUnaryOperator */
+
+    public static Combine.WithDoubleUnaryOperator memoizeDoubleUnaryOperator(
+        DoubleUnaryOperator initial,
+        int maxSize
+    ) {
+        return fuseDoubleUnaryOperator(initial).memoize(maxSize);
+    }
+
+    public static Combine.WithDoubleUnaryOperator memoize(
+        DoubleUnaryOperator initial,
+        int maxSize
+    ) {
+        return memoizeDoubleUnaryOperator(initial, maxSize);
+    }
+
+    /* IntUnaryOperator */
+
+    public static Combine.WithIntUnaryOperator memoizeIntUnaryOperator(
+        IntUnaryOperator initial,
+        int maxSize
+    ) {
+        return fuseIntUnaryOperator(initial).memoize(maxSize);
+    }
+
+    public static Combine.WithIntUnaryOperator memoize(
+        IntUnaryOperator initial,
+        int maxSize
+    ) {
+        return memoizeIntUnaryOperator(initial, maxSize);
+    }
+
+    /* LongUnaryOperator */
+
+    public static Combine.WithLongUnaryOperator memoizeLongUnaryOperator(
+        LongUnaryOperator initial,
+        int maxSize
+    ) {
+        return fuseLongUnaryOperator(initial).memoize(maxSize);
+    }
+
+    public static Combine.WithLongUnaryOperator memoize(
+        LongUnaryOperator initial,
+        int maxSize
+    ) {
+        return memoizeLongUnaryOperator(initial, maxSize);
+    }
+
+    // Functions over small domains into lookup tables.
+
+    /* IntFunction */
+
+    public static <A> Combine.WithIntFunction<A> tabulateIntFunction(
+        IntFunction<A> initial,
+        int fromInclusive,
+        int toExclusive
+    ) {
+        return fuseIntFunction(initial).tabulate(fromInclusive, toExclusive);
+    }
+
+    public static <A> Combine.WithIntFunction<A> tabulate(
+        IntFunction<A> initial,
+        int fromInclusive,
+        int toExclusive
+    ) {
+        return tabulateIntFunction(initial, fromInclusive, toExclusive);
+    }
+
+    /* IntToDoubleFunction */
+
+    public static Combine.WithIntToDoubleFunction tabulateIntToDoubleFunction(
+        IntToDoubleFunction initial,
+        int fromInclusive,
+        int toExclusive
+    ) {
+        return fuseIntToDoubleFunction(initial).tabulate(fromInclusive, toExclusive);
+    }
+
+    public static Combine.WithIntToDoubleFunction tabulate(
+        IntToDoubleFunction initial,
+        int fromInclusive,
+        int toExclusive
+    ) {
+        return tabulateIntToDoubleFunction(initial, fromInclusive, toExclusive);
+    }
+
+    /* IntToLongFunction */
+
+    public static Combine.WithIntToLongFunction tabulateIntToLongFunction(
+        IntToLongFunction initial,
+        int fromInclusive,
+        int toExclusive
+    ) {
+        return fuseIntToLongFunction(initial).tabulate(fromInclusive, toExclusive);
+    }
+
+    public static Combine.WithIntToLongFunction tabulate(
+        IntToLongFunction initial,
+        int fromInclusive,
+        int toExclusive
+    ) {
+        return tabulateIntToLongFunction(initial, fromInclusive, toExclusive);
+    }
+
+    /* IntPredicate */
+
+    public static Combine.WithIntPredicate tabulateIntPredicate(
+        IntPredicate initial,
+        int fromInclusive,
+        int toExclusive
+    ) {
+        return fuseIntPredicate(initial).tabulate(fromInclusive, toExclusive);
+    }
+
+    public static Combine.WithIntPredicate tabulate(
+        IntPredicate initial,
+        int fromInclusive,
+        int toExclusive
+    ) {
+        return tabulateIntPredicate(initial, fromInclusive, toExclusive);
+    }
+
+    /* IntUnaryOperator */
+
+    public static Combine.WithIntUnaryOperator tabulateIntUnaryOperator(
+        IntUnaryOperator initial,
+        int fromInclusive,
+        int toExclusive
+    ) {
+        return fuseIntUnaryOperator(initial).tabulate(fromInclusive, toExclusive);
+    }
+
+    public static Combine.WithIntUnaryOperator tabulate(
+        IntUnaryOperator initial,
+        int fromInclusive,
+        int toExclusive
+    ) {
+        return tabulateIntUnaryOperator(initial, fromInclusive, toExclusive);
+    }
+
+    /* BooleanFunction */
+
+    public static <A> Combine.WithBooleanFunction<A> tabulateBooleanFunction(
+        BooleanFunction<A> initial
+    ) {
+        return fuseBooleanFunction(initial).tabulate();
+    }
+
+    public static <A> Combine.WithBooleanFunction<A> tabulate(
+        BooleanFunction<A> initial
+    ) {
+        return tabulateBooleanFunction(initial);
+    }
+
+    /* BooleanToDoubleFunction */
+
+    public static Combine.WithBooleanToDoubleFunction tabulateBooleanToDoubleFunction(
+        BooleanToDoubleFunction initial
+    ) {
+        return fuseBooleanToDoubleFunction(initial).tabulate();
+    }
+
+    public static Combine.WithBooleanToDoubleFunction tabulate(
+        BooleanToDoubleFunction initial
+    ) {
+        return tabulateBooleanToDoubleFunction(initial);
+    }
+
+    /* BooleanToIntFunction */
+
+    public static Combine.WithBooleanToIntFunction tabulateBooleanToIntFunction(
+        BooleanToIntFunction initial
+    ) {
+        return fuseBooleanToIntFunction(initial).tabulate();
+    }
+
+    public static Combine.WithBooleanToIntFunction tabulate(
+        BooleanToIntFunction initial
+    ) {
+        return tabulateBooleanToIntFunction(initial);
+    }
+
+    /* BooleanToLongFunction */
+
+    public static Combine.WithBooleanToLongFunction tabulateBooleanToLongFunction(
+        BooleanToLongFunction initial
+    ) {
+        return fuseBooleanToLongFunction(initial).tabulate();
+    }
+
+    public static Combine.WithBooleanToLongFunction tabulate(
+        BooleanToLongFunction initial
+    ) {
+        return tabulateBooleanToLongFunction(initial);
+    }
+
+    /* BooleanPredicate */
+
+    public static Combine.WithBooleanPredicate tabulateBooleanPredicate(
+        BooleanPredicate initial
+    ) {
+        return fuseBooleanPredicate(initial).tabulate();
+    }
+
+    public static Combine.WithBooleanPredicate tabulate(
+        BooleanPredicate initial
+    ) {
+        return tabulateBooleanPredicate(initial);
+    }
+
+    // ┏┓
+    // ┏━━━━┓
+    // ┏━━━━━━━━┓
+    // ┏━━━━━━━━━━━━┓
+    // ┏━━━━━━━━━━━━━━━━┓
+    // ┏━━━━━━━━━━━━━━━━━━━━┓
+    // ┏━━━━━━━━━━━━━━━━━━━━━━━━┓
+    // ┏━━━━━━━━━━━━━━━━━━━━━━━━━━┓
+    // ┃                          ┃
+    // ┃    ┏━╸┏━┓┏┓╻┏━┓╻ ╻╺┳╸    ┃
+    // ┃    ┣╸ ┣━┫┃┗┫┃ ┃┃ ┃ ┃     ┃
+    // ┃    ╹  ╹ ╹╹ ╹┗━┛┗━┛ ╹     ┃
+    // ┃                          ┃
+    // ┗━━━━━━━━━━━━━━━━━━━━━━━━━━┛
+
+    // Functions of the same input, run side by side and joined.
+
+    public static <A, B, C> Fork.Bi<A, B, C> fork(
+        Function<A, B> f1,
+        Function<A, C> f2
+    ) {
+        return Fork.of(f1, f2);
+    }
+
+    public static <A, B, C, D> Fork.Tri<A, B, C, D> fork(
+        Function<A, B> f1,
+        Function<A, C> f2,
+        Function<A, D> f3
+    ) {
+        return Fork.of(f1, f2, f3);
+    }
+
+    public static <A, B, C, D, E> Fork.Quad<A, B, C, D, E> fork(
+        Function<A, B> f1,
+        Function<A, C> f2,
+        Function<A, D> f3,
+        Function<A, E> f4
+    ) {
+        return Fork.of(f1, f2, f3, f4);
+    }
+
+    public static <A, B, C, D, E, F> Fork.Quin<A, B, C, D, E, F> fork(
+        Function<A, B> f1,
+        Function<A, C> f2,
+        Function<A, D> f3,
+        Function<A, E> f4,
+        Function<A, F> f5
+    ) {
+        return Fork.of(f1, f2, f3, f4, f5);
+    }
+
+    public static <A, B, C, D, E, F, G> Fork.Sex<A, B, C, D, E, F, G> fork(
+        Function<A, B> f1,
+        Function<A, C> f2,
+        Function<A, D> f3,
+        Function<A, E> f4,
+        Function<A, F> f5,
+        Function<A, G> f6
+    ) {
+        return Fork.of(f1, f2, f3, f4, f5, f6);
+    }
+
+    public static <A, B, C, D, E, F, G, H>
+        Fork.Sept<A, B, C, D, E, F, G, H>
+        fork(
+            Function<A, B> f1,
+            Function<A, C> f2,
+            Function<A, D> f3,
+            Function<A, E> f4,
+            Function<A, F> f5,
+            Function<A, G> f6,
+            Function<A, H> f7
+        )
+    {
+        return Fork.of(f1, f2, f3, f4, f5, f6, f7);
+    }
+
+    public static <A, B, C, D, E, F, G, H, I>
+        Fork.Oct<A, B, C, D, E, F, G, H, I>
+        fork(
+            Function<A, B> f1,
+            Function<A, C> f2,
+            Function<A, D> f3,
+            Function<A, E> f4,
+            Function<A, F> f5,
+            Function<A, G> f6,
+            Function<A, H> f7,
+            Function<A, I> f8
+        )
+    {
+        return Fork.of(f1, f2, f3, f4, f5, f6, f7, f8);
+    }
+
+    public static <A, B, C, D, E, F, G, H, I, J>
+        Fork.Non<A, B, C, D, E, F, G, H, I, J>
+        fork(
+            Function<A, B> f1,
+            Function<A, C> f2,
+            Function<A, D> f3,
+            Function<A, E> f4,
+            Function<A, F> f5,
+            Function<A, G> f6,
+            Function<A, H> f7,
+            Function<A, I> f8,
+            Function<A, J> f9
+        )
+    {
+        return Fork.of(f1, f2, f3, f4, f5, f6, f7, f8, f9);
+    }
+
+    public static <A, B, C, D, E, F, G, H, I, J, K>
+        Fork.Dec<A, B, C, D, E, F, G, H, I, J, K>
+        fork(
+            Function<A, B> f1,
+            Function<A, C> f2,
+            Function<A, D> f3,
+            Function<A, E> f4,
+            Function<A, F> f5,
+            Function<A, G> f6,
+            Function<A, H> f7,
+            Function<A, I> f8,
+            Function<A, J> f9,
+            Function<A, K> f10
+        )
+    {
+        return Fork.of(f1, f2, f3, f4, f5, f6, f7, f8, f9, f10);
+    }
+
+    public static <A, B, C, D, E, F, G, H, I, J, K, L>
+        Fork.Undec<A, B, C, D, E, F, G, H, I, J, K, L>
+        fork(
+            Function<A, B> f1,
+            Function<A, C> f2,
+            Function<A, D> f3,
+            Function<A, E> f4,
+            Function<A, F> f5,
+            Function<A, G> f6,
+            Function<A, H> f7,
+            Function<A, I> f8,
+            Function<A, J> f9,
+            Function<A, K> f10,
+            Function<A, L> f11
+        )
+    {
+        return Fork.of(f1, f2, f3, f4, f5, f6, f7, f8, f9, f10, f11);
+    }
+
+    public static <A, B, C, D, E, F, G, H, I, J, K, L, M>
+        Fork.Dodec<A, B, C, D, E, F, G, H, I, J, K, L, M>
+        fork(
+            Function<A, B> f1,
+            Function<A, C> f2,
+            Function<A, D> f3,
+            Function<A, E> f4,
+            Function<A, F> f5,
+            Function<A, G> f6,
+            Function<A, H> f7,
+            Function<A, I> f8,
+            Function<A, J> f9,
+            Function<A, K> f10,
+            Function<A, L> f11,
+            Function<A, M> f12
+        )
+    {
+        return Fork.of(f1, f2, f3, f4, f5, f6, f7, f8, f9, f10, f11, f12);
+    }
+
+    // ┏┓
+    // ┏━━━━┓
+    // ┏━━━━━━━━┓
+    // ┏━━━━━━━━━━━━┓
+    // ┏━━━━━━━━━━━━━━━━┓
+    // ┏━━━━━━━━━━━━━━━━━━━━┓
+    // ┏━━━━━━━━━━━━━━━━━━━━━━━━┓
+    // ┏━━━━━━━━━━━━━━━━━━━━━━━━━━━━┓
+    // ┏━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━┓
+    // ┃                              ┃
+    // ┃    ┏┓ ┏━┓╺┳╸┏━╸╻ ╻╻┏┓╻┏━╸    ┃
+    // ┃    ┣┻┓┣━┫ ┃ ┃  ┣━┫┃┃┗┫┃╺┓    ┃
+    // ┃    ┗━┛╹ ╹ ╹ ┗━╸╹ ╹╹╹ ╹┗━┛    ┃
+    // ┃                              ┃
+    // ┗━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━┛
+
+    // Functions of many keys into functions of one.
+
+    public static <A, B> Combine.WithFunction<A, B> batching(
+        Function<List<A>, Map<A, B>> bulk,
+        int maxBatch,
+        Duration window
+    ) {
+        return batching(bulk, maxBatch, window, ForkJoinPool.commonPool());
+    }
+
+    public static <A, B> Combine.WithFunction<A, B> batching(
+        Function<List<A>, Map<A, B>> bulk,
+        int maxBatch,
+        Duration window,
+        Executor executor
+    ) {
+        return fuseFunction(Batching.blocking(bulk, maxBatch, window, executor));
+    }
+
+    public static <A, B> Combine.WithFunction<A, CompletableFuture<B>> batchingAsync(
+        Function<List<A>, Map<A, B>> bulk,
+        int maxBatch,
+        Duration window
+    ) {
+        return batchingAsync(
+            bulk,
+            maxBatch,
+            window,
+            ForkJoinPool.commonPool()
+        );
+    }
+
+    public static <A, B> Combine.WithFunction<A, CompletableFuture<B>> batchingAsync(
+        Function<List<A>, Map<A, B>> bulk,
+        int maxBatch,
+        Duration window,
+        Executor executor
+    ) {
+        return fuseFunction(Batching.of(bulk, maxBatch, window, executor));
+    }
+
+    // Consumers of many values into consumers of one.
+
+    public static <A> Sink.Of<A> batchingConsumer(
+        Consumer<List<A>> bulk,
+        int maxBatch,
+        Duration window
+    ) {
+        return Sink.of(bulk, maxBatch, window);
+    }
+
+    public static Sink.OfInt batchingIntConsumer(
+        ObjIntConsumer<int[]> bulk,
+        int maxBatch,
+        Duration window
+    ) {
+        return Sink.ofInt(bulk, maxBatch, window);
+    }
+
+    public static Sink.OfLong batchingLongConsumer(
+        ObjIntConsumer<long[]> bulk,
+        int maxBatch,
+        Duration window
+    ) {
+        return Sink.ofLong(bulk, maxBatch, window);
+    }
 }
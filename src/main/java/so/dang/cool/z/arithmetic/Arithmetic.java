@@ -0,0 +1,35 @@
+package so.dang.cool.z.arithmetic;
+
+import java.util.Objects;
+import so.dang.cool.z.annotation.Experimental;
+
+/**
+ * Chooses the {@link ArithmeticKernel} used for fusions made only of
+ * {@link DoubleArithmetic}, {@link IntArithmetic} or {@link LongArithmetic}
+ * stages. The default is a scalar kernel whose loops the JIT can
+ * auto-vectorize.
+ */
+@Experimental
+public final class Arithmetic {
+
+    private static volatile ArithmeticKernel kernel = ScalarKernel.INSTANCE;
+
+    private Arithmetic() {}
+
+    public static ArithmeticKernel kernel() {
+        return kernel;
+    }
+
+    /**
+     * Uses the given kernel from now on, returning the one it replaces.
+     */
+    public static ArithmeticKernel useKernel(ArithmeticKernel next) {
+        ArithmeticKernel previous = kernel;
+        kernel = Objects.requireNonNull(next);
+        return previous;
+    }
+
+    public static ArithmeticKernel scalarKernel() {
+        return ScalarKernel.INSTANCE;
+    }
+}
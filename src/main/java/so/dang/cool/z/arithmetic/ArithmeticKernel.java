@@ -0,0 +1,40 @@
+package so.dang.cool.z.arithmetic;
+
+import so.dang.cool.z.annotation.Experimental;
+
+/**
+ * Bulk application of fusions made only of known arithmetic. Ranges are
+ * checked before a kernel is called, and a kernel must give the same results
+ * as applying each stage in order.
+ *
+ * @see Arithmetic#useKernel(ArithmeticKernel)
+ */
+@Experimental
+public interface ArithmeticKernel {
+    double[] applyAll(
+        DoubleArithmetic[] program,
+        double[] in,
+        int inOffset,
+        double[] out,
+        int outOffset,
+        int length
+    );
+
+    int[] applyAll(
+        IntArithmetic[] program,
+        int[] in,
+        int inOffset,
+        int[] out,
+        int outOffset,
+        int length
+    );
+
+    long[] applyAll(
+        LongArithmetic[] program,
+        long[] in,
+        int inOffset,
+        long[] out,
+        int outOffset,
+        int length
+    );
+}
@@ -0,0 +1,21 @@
+package so.dang.cool.z.arithmetic;
+
+/**
+ * The arithmetic a {@link DoubleArithmetic}, {@link IntArithmetic} or
+ * {@link LongArithmetic} stage performs on its operand {@code v}, given its
+ * parameters {@code a} and {@code b}.
+ */
+public enum ArithmeticOp {
+    /** {@code v * a} */
+    SCALE,
+    /** {@code v + a} */
+    OFFSET,
+    /** {@code v * a + b}, for int and long stages */
+    AFFINE,
+    /** {@code Math.fma(v, a, b)}, for double stages */
+    FMA,
+    /** {@code Math.min(Math.max(v, a), b)} */
+    CLAMP,
+    /** {@code Math.abs(v)} */
+    ABS
+}
@@ -0,0 +1,124 @@
+package so.dang.cool.z.arithmetic;
+
+import java.util.Arrays;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * A double operator with known arithmetic. A fusion made only of these can be
+ * applied in bulk by an {@link ArithmeticKernel}, without calling through each
+ * stage for each element.
+ */
+public final class DoubleArithmetic implements DoubleUnaryOperator {
+
+    private static final DoubleArithmetic ABS = new DoubleArithmetic(
+        ArithmeticOp.ABS,
+        0.0,
+        0.0
+    );
+
+    private final ArithmeticOp op;
+    private final double a;
+    private final double b;
+
+    private DoubleArithmetic(ArithmeticOp op, double a, double b) {
+        this.op = op;
+        this.a = a;
+        this.b = b;
+    }
+
+    public static DoubleArithmetic scale(double factor) {
+        return new DoubleArithmetic(ArithmeticOp.SCALE, factor, 0.0);
+    }
+
+    public static DoubleArithmetic offset(double addend) {
+        return new DoubleArithmetic(ArithmeticOp.OFFSET, addend, 0.0);
+    }
+
+    public static DoubleArithmetic fma(double factor, double addend) {
+        return new DoubleArithmetic(ArithmeticOp.FMA, factor, addend);
+    }
+
+    public static DoubleArithmetic clamp(double min, double max) {
+        if (!(min <= max)) {
+            throw new IllegalArgumentException(
+                "Cannot clamp to [" + min + ", " + max + "]"
+            );
+        }
+        return new DoubleArithmetic(ArithmeticOp.CLAMP, min, max);
+    }
+
+    public static DoubleArithmetic abs() {
+        return ABS;
+    }
+
+    public ArithmeticOp op() {
+        return op;
+    }
+
+    public double a() {
+        return a;
+    }
+
+    public double b() {
+        return b;
+    }
+
+    @Override
+    public double applyAsDouble(double v) {
+        switch (op) {
+            case SCALE:
+                return v * a;
+            case OFFSET:
+                return v + a;
+            case FMA:
+                return Math.fma(v, a, b);
+            case CLAMP:
+                return Math.min(Math.max(v, a), b);
+            default:
+                return Math.abs(v);
+        }
+    }
+
+    /**
+     * Folds each run of adjacent clamps into one clamp, and repeated abs into
+     * one. Scales and offsets are not folded, since reassociating floating
+     * point arithmetic would change rounding.
+     */
+    public static DoubleUnaryOperator[] fold(DoubleUnaryOperator[] stages) {
+        DoubleUnaryOperator[] folded = new DoubleUnaryOperator[stages.length];
+        int size = 0;
+        for (DoubleUnaryOperator stage : stages) {
+            DoubleArithmetic merged = size == 0
+                ? null
+                : merge(folded[size - 1], stage);
+            if (merged == null) {
+                folded[size++] = stage;
+            } else {
+                folded[size - 1] = merged;
+            }
+        }
+        return size == stages.length ? stages : Arrays.copyOf(folded, size);
+    }
+
+    private static DoubleArithmetic merge(
+        DoubleUnaryOperator first,
+        DoubleUnaryOperator second
+    ) {
+        if (
+            !(first instanceof DoubleArithmetic) ||
+            !(second instanceof DoubleArithmetic)
+        ) {
+            return null;
+        }
+        DoubleArithmetic f = (DoubleArithmetic) first;
+        DoubleArithmetic s = (DoubleArithmetic) second;
+        if (f.op == ArithmeticOp.CLAMP && s.op == ArithmeticOp.CLAMP) {
+            // Clamping is monotone, so the second clamp only moves the bounds.
+            return clamp(s.applyAsDouble(f.a), s.applyAsDouble(f.b));
+        }
+        if (f.op == ArithmeticOp.ABS && s.op == ArithmeticOp.ABS) {
+            return f;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,164 @@
+package so.dang.cool.z.arithmetic;
+
+import java.util.Arrays;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * An int operator with known arithmetic. A fusion made only of these can be
+ * applied in bulk by an {@link ArithmeticKernel}, without calling through each
+ * stage for each element.
+ */
+public final class IntArithmetic implements IntUnaryOperator {
+
+    private static final IntArithmetic ABS = new IntArithmetic(
+        ArithmeticOp.ABS,
+        0,
+        0
+    );
+
+    private final ArithmeticOp op;
+    private final int a;
+    private final int b;
+
+    private IntArithmetic(ArithmeticOp op, int a, int b) {
+        this.op = op;
+        this.a = a;
+        this.b = b;
+    }
+
+    public static IntArithmetic scale(int factor) {
+        return new IntArithmetic(ArithmeticOp.SCALE, factor, 0);
+    }
+
+    public static IntArithmetic offset(int addend) {
+        return new IntArithmetic(ArithmeticOp.OFFSET, addend, 0);
+    }
+
+    public static IntArithmetic affine(int factor, int addend) {
+        if (addend == 0) {
+            return scale(factor);
+        }
+        if (factor == 1) {
+            return offset(addend);
+        }
+        return new IntArithmetic(ArithmeticOp.AFFINE, factor, addend);
+    }
+
+    public static IntArithmetic shiftLeft(int bits) {
+        return scale(1 << bits);
+    }
+
+    public static IntArithmetic clamp(int min, int max) {
+        if (min > max) {
+            throw new IllegalArgumentException(
+                "Cannot clamp to [" + min + ", " + max + "]"
+            );
+        }
+        return new IntArithmetic(ArithmeticOp.CLAMP, min, max);
+    }
+
+    public static IntArithmetic abs() {
+        return ABS;
+    }
+
+    public ArithmeticOp op() {
+        return op;
+    }
+
+    public int a() {
+        return a;
+    }
+
+    public int b() {
+        return b;
+    }
+
+    @Override
+    public int applyAsInt(int v) {
+        switch (op) {
+            case SCALE:
+                return v * a;
+            case OFFSET:
+                return v + a;
+            case AFFINE:
+                return v * a + b;
+            case CLAMP:
+                return Math.min(Math.max(v, a), b);
+            default:
+                return Math.abs(v);
+        }
+    }
+
+    /**
+     * Folds each run of adjacent stages that compose into a single stage:
+     * scales, offsets and affine stages into one affine stage, clamps into one
+     * clamp, and repeated abs into one. Int arithmetic wraps, so every fold
+     * gives exactly the results of the stages it replaces.
+     */
+    public static IntUnaryOperator[] fold(IntUnaryOperator[] stages) {
+        IntUnaryOperator[] folded = new IntUnaryOperator[stages.length];
+        int size = 0;
+        for (IntUnaryOperator stage : stages) {
+            IntArithmetic merged = size == 0
+                ? null
+                : merge(folded[size - 1], stage);
+            if (merged == null) {
+                folded[size++] = stage;
+            } else {
+                folded[size - 1] = merged;
+            }
+        }
+        return size == stages.length ? stages : Arrays.copyOf(folded, size);
+    }
+
+    private static IntArithmetic merge(
+        IntUnaryOperator first,
+        IntUnaryOperator second
+    ) {
+        if (
+            !(first instanceof IntArithmetic) ||
+            !(second instanceof IntArithmetic)
+        ) {
+            return null;
+        }
+        IntArithmetic f = (IntArithmetic) first;
+        IntArithmetic s = (IntArithmetic) second;
+        if (f.isAffine() && s.isAffine()) {
+            return affine(
+                f.factor() * s.factor(),
+                f.addend() * s.factor() + s.addend()
+            );
+        }
+        if (f.op == ArithmeticOp.CLAMP && s.op == ArithmeticOp.CLAMP) {
+            // Clamping is monotone, so the second clamp only moves the bounds.
+            return clamp(s.applyAsInt(f.a), s.applyAsInt(f.b));
+        }
+        if (f.op == ArithmeticOp.ABS && s.op == ArithmeticOp.ABS) {
+            return f;
+        }
+        return null;
+    }
+
+    private boolean isAffine() {
+        return (
+            op == ArithmeticOp.SCALE ||
+            op == ArithmeticOp.OFFSET ||
+            op == ArithmeticOp.AFFINE
+        );
+    }
+
+    private int factor() {
+        return op == ArithmeticOp.OFFSET ? 1 : a;
+    }
+
+    private int addend() {
+        switch (op) {
+            case SCALE:
+                return 0;
+            case OFFSET:
+                return a;
+            default:
+                return b;
+        }
+    }
+}
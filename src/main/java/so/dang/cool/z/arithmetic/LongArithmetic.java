@@ -0,0 +1,164 @@
+package so.dang.cool.z.arithmetic;
+
+import java.util.Arrays;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * A long operator with known arithmetic. A fusion made only of these can be
+ * applied in bulk by an {@link ArithmeticKernel}, without calling through each
+ * stage for each element.
+ */
+public final class LongArithmetic implements LongUnaryOperator {
+
+    private static final LongArithmetic ABS = new LongArithmetic(
+        ArithmeticOp.ABS,
+        0L,
+        0L
+    );
+
+    private final ArithmeticOp op;
+    private final long a;
+    private final long b;
+
+    private LongArithmetic(ArithmeticOp op, long a, long b) {
+        this.op = op;
+        this.a = a;
+        this.b = b;
+    }
+
+    public static LongArithmetic scale(long factor) {
+        return new LongArithmetic(ArithmeticOp.SCALE, factor, 0L);
+    }
+
+    public static LongArithmetic offset(long addend) {
+        return new LongArithmetic(ArithmeticOp.OFFSET, addend, 0L);
+    }
+
+    public static LongArithmetic affine(long factor, long addend) {
+        if (addend == 0L) {
+            return scale(factor);
+        }
+        if (factor == 1L) {
+            return offset(addend);
+        }
+        return new LongArithmetic(ArithmeticOp.AFFINE, factor, addend);
+    }
+
+    public static LongArithmetic shiftLeft(int bits) {
+        return scale(1L << bits);
+    }
+
+    public static LongArithmetic clamp(long min, long max) {
+        if (min > max) {
+            throw new IllegalArgumentException(
+                "Cannot clamp to [" + min + ", " + max + "]"
+            );
+        }
+        return new LongArithmetic(ArithmeticOp.CLAMP, min, max);
+    }
+
+    public static LongArithmetic abs() {
+        return ABS;
+    }
+
+    public ArithmeticOp op() {
+        return op;
+    }
+
+    public long a() {
+        return a;
+    }
+
+    public long b() {
+        return b;
+    }
+
+    @Override
+    public long applyAsLong(long v) {
+        switch (op) {
+            case SCALE:
+                return v * a;
+            case OFFSET:
+                return v + a;
+            case AFFINE:
+                return v * a + b;
+            case CLAMP:
+                return Math.min(Math.max(v, a), b);
+            default:
+                return Math.abs(v);
+        }
+    }
+
+    /**
+     * Folds each run of adjacent stages that compose into a single stage:
+     * scales, offsets and affine stages into one affine stage, clamps into one
+     * clamp, and repeated abs into one. Long arithmetic wraps, so every fold
+     * gives exactly the results of the stages it replaces.
+     */
+    public static LongUnaryOperator[] fold(LongUnaryOperator[] stages) {
+        LongUnaryOperator[] folded = new LongUnaryOperator[stages.length];
+        int size = 0;
+        for (LongUnaryOperator stage : stages) {
+            LongArithmetic merged = size == 0
+                ? null
+                : merge(folded[size - 1], stage);
+            if (merged == null) {
+                folded[size++] = stage;
+            } else {
+                folded[size - 1] = merged;
+            }
+        }
+        return size == stages.length ? stages : Arrays.copyOf(folded, size);
+    }
+
+    private static LongArithmetic merge(
+        LongUnaryOperator first,
+        LongUnaryOperator second
+    ) {
+        if (
+            !(first instanceof LongArithmetic) ||
+            !(second instanceof LongArithmetic)
+        ) {
+            return null;
+        }
+        LongArithmetic f = (LongArithmetic) first;
+        LongArithmetic s = (LongArithmetic) second;
+        if (f.isAffine() && s.isAffine()) {
+            return affine(
+                f.factor() * s.factor(),
+                f.addend() * s.factor() + s.addend()
+            );
+        }
+        if (f.op == ArithmeticOp.CLAMP && s.op == ArithmeticOp.CLAMP) {
+            // Clamping is monotone, so the second clamp only moves the bounds.
+            return clamp(s.applyAsLong(f.a), s.applyAsLong(f.b));
+        }
+        if (f.op == ArithmeticOp.ABS && s.op == ArithmeticOp.ABS) {
+            return f;
+        }
+        return null;
+    }
+
+    private boolean isAffine() {
+        return (
+            op == ArithmeticOp.SCALE ||
+            op == ArithmeticOp.OFFSET ||
+            op == ArithmeticOp.AFFINE
+        );
+    }
+
+    private long factor() {
+        return op == ArithmeticOp.OFFSET ? 1L : a;
+    }
+
+    private long addend() {
+        switch (op) {
+            case SCALE:
+                return 0L;
+            case OFFSET:
+                return a;
+            default:
+                return b;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package so.dang.cool.z.arithmetic;
+
+/**
+ * Primitive operator stages that fold together when fused, available as
+ * {@code Z.ops}. For example, {@code Z.fuse(ops.mulInt(2)).fuse(ops.addInt(4))
+ * .fuse(ops.mulInt(3))} is a single affine stage, and two clamps in a row are
+ * one clamp.
+ *
+ * <p>Int and long stages fold exactly. Double stages fold only clamps and
+ * repeated abs, since reassociating floating point arithmetic would change
+ * rounding.
+ */
+public final class Ops {
+
+    public static final Ops INSTANCE = new Ops();
+
+    private Ops() {}
+
+    /* int */
+
+    public IntArithmetic addInt(int addend) {
+        return IntArithmetic.offset(addend);
+    }
+
+    public IntArithmetic mulInt(int factor) {
+        return IntArithmetic.scale(factor);
+    }
+
+    public IntArithmetic shiftLeftInt(int bits) {
+        return IntArithmetic.shiftLeft(bits);
+    }
+
+    public IntArithmetic clampInt(int min, int max) {
+        return IntArithmetic.clamp(min, max);
+    }
+
+    public IntArithmetic absInt() {
+        return IntArithmetic.abs();
+    }
+
+    /* long */
+
+    public LongArithmetic addLong(long addend) {
+        return LongArithmetic.offset(addend);
+    }
+
+    public LongArithmetic mulLong(long factor) {
+        return LongArithmetic.scale(factor);
+    }
+
+    public LongArithmetic shiftLeftLong(int bits) {
+        return LongArithmetic.shiftLeft(bits);
+    }
+
+    public LongArithmetic clampLong(long min, long max) {
+        return LongArithmetic.clamp(min, max);
+    }
+
+    public LongArithmetic absLong() {
+        return LongArithmetic.abs();
+    }
+
+    /* double */
+
+    public DoubleArithmetic addDouble(double addend) {
+        return DoubleArithmetic.offset(addend);
+    }
+
+    public DoubleArithmetic mulDouble(double factor) {
+        return DoubleArithmetic.scale(factor);
+    }
+
+    public DoubleArithmetic fmaDouble(double factor, double addend) {
+        return DoubleArithmetic.fma(factor, addend);
+    }
+
+    public DoubleArithmetic clampDouble(double min, double max) {
+        return DoubleArithmetic.clamp(min, max);
+    }
+
+    public DoubleArithmetic absDouble() {
+        return DoubleArithmetic.abs();
+    }
+}
@@ -0,0 +1,172 @@
+package so.dang.cool.z.arithmetic;
+
+/**
+ * Runs one stage at a time over chunks of the output. Each stage is a plain
+ * arithmetic loop with no calls, which C2 can unroll and auto-vectorize.
+ */
+final class ScalarKernel implements ArithmeticKernel {
+
+    static final ScalarKernel INSTANCE = new ScalarKernel();
+
+    private static final int CHUNK_SIZE = 1024;
+
+    private ScalarKernel() {}
+
+    @Override
+    public double[] applyAll(
+        DoubleArithmetic[] program,
+        double[] in,
+        int inOffset,
+        double[] out,
+        int outOffset,
+        int length
+    ) {
+        for (int done = 0; done < length; done += CHUNK_SIZE) {
+            int from = outOffset + done;
+            int to = from + Math.min(CHUNK_SIZE, length - done);
+            System.arraycopy(in, inOffset + done, out, from, to - from);
+            for (DoubleArithmetic stage : program) {
+                run(stage, out, from, to);
+            }
+        }
+        return out;
+    }
+
+    @Override
+    public int[] applyAll(
+        IntArithmetic[] program,
+        int[] in,
+        int inOffset,
+        int[] out,
+        int outOffset,
+        int length
+    ) {
+        for (int done = 0; done < length; done += CHUNK_SIZE) {
+            int from = outOffset + done;
+            int to = from + Math.min(CHUNK_SIZE, length - done);
+            System.arraycopy(in, inOffset + done, out, from, to - from);
+            for (IntArithmetic stage : program) {
+                run(stage, out, from, to);
+            }
+        }
+        return out;
+    }
+
+    @Override
+    public long[] applyAll(
+        LongArithmetic[] program,
+        long[] in,
+        int inOffset,
+        long[] out,
+        int outOffset,
+        int length
+    ) {
+        for (int done = 0; done < length; done += CHUNK_SIZE) {
+            int from = outOffset + done;
+            int to = from + Math.min(CHUNK_SIZE, length - done);
+            System.arraycopy(in, inOffset + done, out, from, to - from);
+            for (LongArithmetic stage : program) {
+                run(stage, out, from, to);
+            }
+        }
+        return out;
+    }
+
+    private static void run(
+        DoubleArithmetic stage,
+        double[] v,
+        int from,
+        int to
+    ) {
+        double a = stage.a();
+        double b = stage.b();
+        switch (stage.op()) {
+            case SCALE:
+                for (int i = from; i < to; i++) {
+                    v[i] *= a;
+                }
+                break;
+            case OFFSET:
+                for (int i = from; i < to; i++) {
+                    v[i] += a;
+                }
+                break;
+            case FMA:
+                for (int i = from; i < to; i++) {
+                    v[i] = Math.fma(v[i], a, b);
+                }
+                break;
+            case CLAMP:
+                for (int i = from; i < to; i++) {
+                    v[i] = Math.min(Math.max(v[i], a), b);
+                }
+                break;
+            default:
+                for (int i = from; i < to; i++) {
+                    v[i] = Math.abs(v[i]);
+                }
+        }
+    }
+
+    private static void run(IntArithmetic stage, int[] v, int from, int to) {
+        int a = stage.a();
+        int b = stage.b();
+        switch (stage.op()) {
+            case SCALE:
+                for (int i = from; i < to; i++) {
+                    v[i] *= a;
+                }
+                break;
+            case OFFSET:
+                for (int i = from; i < to; i++) {
+                    v[i] += a;
+                }
+                break;
+            case AFFINE:
+                for (int i = from; i < to; i++) {
+                    v[i] = v[i] * a + b;
+                }
+                break;
+            case CLAMP:
+                for (int i = from; i < to; i++) {
+                    v[i] = Math.min(Math.max(v[i], a), b);
+                }
+                break;
+            default:
+                for (int i = from; i < to; i++) {
+                    v[i] = Math.abs(v[i]);
+                }
+        }
+    }
+
+    private static void run(LongArithmetic stage, long[] v, int from, int to) {
+        long a = stage.a();
+        long b = stage.b();
+        switch (stage.op()) {
+            case SCALE:
+                for (int i = from; i < to; i++) {
+                    v[i] *= a;
+                }
+                break;
+            case OFFSET:
+                for (int i = from; i < to; i++) {
+                    v[i] += a;
+                }
+                break;
+            case AFFINE:
+                for (int i = from; i < to; i++) {
+                    v[i] = v[i] * a + b;
+                }
+                break;
+            case CLAMP:
+                for (int i = from; i < to; i++) {
+                    v[i] = Math.min(Math.max(v[i], a), b);
+                }
+                break;
+            default:
+                for (int i = from; i < to; i++) {
+                    v[i] = Math.abs(v[i]);
+                }
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package so.dang.cool.z.function;
+
+import so.dang.cool.z.annotation.Evil;
+
+/**
+ * Represents an operation that accepts a boolean-valued and a double-valued
+ * argument, and returns no result. This is the {@code (boolean, double)}
+ * specialization of {@code BiConsumer}. Unlike most other functional
+ * interfaces, {@code BooleanDoubleConsumer} is expected to operate via
+ * side-effects.
+ */
+@Evil
+@FunctionalInterface
+public interface BooleanDoubleConsumer {
+    /**
+     * Performs this operation on the given arguments.
+     */
+    void accept(boolean value1, double value2);
+}
@@ -0,0 +1,19 @@
+package so.dang.cool.z.function;
+
+import so.dang.cool.z.annotation.Evil;
+
+/**
+ * Represents an operation that accepts a boolean-valued and a long-valued
+ * argument, and returns no result. This is the {@code (boolean, long)}
+ * specialization of {@code BiConsumer}. Unlike most other functional
+ * interfaces, {@code BooleanLongConsumer} is expected to operate via
+ * side-effects.
+ */
+@Evil
+@FunctionalInterface
+public interface BooleanLongConsumer {
+    /**
+     * Performs this operation on the given arguments.
+     */
+    void accept(boolean value1, long value2);
+}
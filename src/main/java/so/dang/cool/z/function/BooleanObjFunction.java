@@ -0,0 +1,14 @@
+package so.dang.cool.z.function;
+
+/**
+ * Represents a function that accepts a boolean-valued and an object-valued
+ * argument, and produces a result. This is the {@code (boolean, reference)}
+ * specialization of {@code BiFunction}.
+ */
+@FunctionalInterface
+public interface BooleanObjFunction<A, B> {
+    /**
+     * Applies this function to the given arguments.
+     */
+    B apply(boolean value1, A value2);
+}
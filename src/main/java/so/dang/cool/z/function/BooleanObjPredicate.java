@@ -0,0 +1,14 @@
+package so.dang.cool.z.function;
+
+/**
+ * Represents a predicate (boolean-valued function) of a boolean-valued and an
+ * object-valued argument. This is the {@code (boolean, reference)}
+ * specialization of {@code BiPredicate}.
+ */
+@FunctionalInterface
+public interface BooleanObjPredicate<A> {
+    /**
+     * Evaluates this predicate on the given arguments.
+     */
+    boolean test(boolean value1, A value2);
+}
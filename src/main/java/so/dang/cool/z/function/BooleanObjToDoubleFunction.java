@@ -0,0 +1,15 @@
+package so.dang.cool.z.function;
+
+/**
+ * Represents a function that accepts a boolean-valued and an object-valued
+ * argument, and produces a double-valued result. This is the
+ * {@code (boolean, reference)}, double-producing specialization of
+ * {@code BiFunction}.
+ */
+@FunctionalInterface
+public interface BooleanObjToDoubleFunction<A> {
+    /**
+     * Applies this function to the given arguments.
+     */
+    double applyAsDouble(boolean value1, A value2);
+}
@@ -0,0 +1,15 @@
+package so.dang.cool.z.function;
+
+/**
+ * Represents a function that accepts a boolean-valued and an object-valued
+ * argument, and produces an int-valued result. This is the
+ * {@code (boolean, reference)}, int-producing specialization of
+ * {@code BiFunction}.
+ */
+@FunctionalInterface
+public interface BooleanObjToIntFunction<A> {
+    /**
+     * Applies this function to the given arguments.
+     */
+    int applyAsInt(boolean value1, A value2);
+}
@@ -0,0 +1,15 @@
+package so.dang.cool.z.function;
+
+/**
+ * Represents a function that accepts a boolean-valued and an object-valued
+ * argument, and produces a long-valued result. This is the
+ * {@code (boolean, reference)}, long-producing specialization of
+ * {@code BiFunction}.
+ */
+@FunctionalInterface
+public interface BooleanObjToLongFunction<A> {
+    /**
+     * Applies this function to the given arguments.
+     */
+    long applyAsLong(boolean value1, A value2);
+}
@@ -0,0 +1,18 @@
+package so.dang.cool.z.function;
+
+import so.dang.cool.z.annotation.Evil;
+
+/**
+ * Represents an operation that accepts two double-valued arguments and
+ * returns no result. This is the double-consuming primitive type
+ * specialization of {@code BiConsumer}. Unlike most other functional
+ * interfaces, {@code DoubleBiConsumer} is expected to operate via side-effects.
+ */
+@Evil
+@FunctionalInterface
+public interface DoubleBiConsumer {
+    /**
+     * Performs this operation on the given arguments.
+     */
+    void accept(double value1, double value2);
+}
@@ -0,0 +1,14 @@
+package so.dang.cool.z.function;
+
+/**
+ * Represents a function that accepts two double-valued arguments and
+ * produces a result. This is the double-consuming primitive
+ * specialization for {@code BiFunction}.
+ */
+@FunctionalInterface
+public interface DoubleBiFunction<A> {
+    /**
+     * Applies this function to the given arguments.
+     */
+    A apply(double value1, double value2);
+}
@@ -0,0 +1,14 @@
+package so.dang.cool.z.function;
+
+/**
+ * Represents a predicate (boolean-valued function) of two double-valued
+ * arguments. This is the double-consuming primitive type specialization
+ * of {@code BiPredicate}.
+ */
+@FunctionalInterface
+public interface DoubleBiPredicate {
+    /**
+     * Evaluates this predicate on the given arguments.
+     */
+    boolean test(double value1, double value2);
+}
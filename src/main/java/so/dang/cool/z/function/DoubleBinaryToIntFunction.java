@@ -0,0 +1,14 @@
+package so.dang.cool.z.function;
+
+/**
+ * Represents a function that accepts two double-valued arguments and
+ * produces an int-valued result. This is the double-to-int
+ * primitive specialization for {@code BiFunction}.
+ */
+@FunctionalInterface
+public interface DoubleBinaryToIntFunction {
+    /**
+     * Applies this function to the given arguments.
+     */
+    int applyAsInt(double value1, double value2);
+}
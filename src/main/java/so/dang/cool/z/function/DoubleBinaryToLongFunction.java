@@ -0,0 +1,14 @@
+package so.dang.cool.z.function;
+
+/**
+ * Represents a function that accepts two double-valued arguments and
+ * produces a long-valued result. This is the double-to-long
+ * primitive specialization for {@code BiFunction}.
+ */
+@FunctionalInterface
+public interface DoubleBinaryToLongFunction {
+    /**
+     * Applies this function to the given arguments.
+     */
+    long applyAsLong(double value1, double value2);
+}
@@ -0,0 +1,18 @@
+package so.dang.cool.z.function;
+
+import so.dang.cool.z.annotation.Evil;
+
+/**
+ * Represents an operation that accepts two int-valued arguments and
+ * returns no result. This is the int-consuming primitive type
+ * specialization of {@code BiConsumer}. Unlike most other functional
+ * interfaces, {@code IntBiConsumer} is expected to operate via side-effects.
+ */
+@Evil
+@FunctionalInterface
+public interface IntBiConsumer {
+    /**
+     * Performs this operation on the given arguments.
+     */
+    void accept(int value1, int value2);
+}
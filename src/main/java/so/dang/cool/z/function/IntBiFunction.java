@@ -0,0 +1,14 @@
+package so.dang.cool.z.function;
+
+/**
+ * Represents a function that accepts two int-valued arguments and
+ * produces a result. This is the int-consuming primitive
+ * specialization for {@code BiFunction}.
+ */
+@FunctionalInterface
+public interface IntBiFunction<A> {
+    /**
+     * Applies this function to the given arguments.
+     */
+    A apply(int value1, int value2);
+}
@@ -0,0 +1,14 @@
+package so.dang.cool.z.function;
+
+/**
+ * Represents a predicate (boolean-valued function) of two int-valued
+ * arguments. This is the int-consuming primitive type specialization
+ * of {@code BiPredicate}.
+ */
+@FunctionalInterface
+public interface IntBiPredicate {
+    /**
+     * Evaluates this predicate on the given arguments.
+     */
+    boolean test(int value1, int value2);
+}
@@ -0,0 +1,14 @@
+package so.dang.cool.z.function;
+
+/**
+ * Represents a function that accepts two int-valued arguments and
+ * produces a double-valued result. This is the int-to-double
+ * primitive specialization for {@code BiFunction}.
+ */
+@FunctionalInterface
+public interface IntBinaryToDoubleFunction {
+    /**
+     * Applies this function to the given arguments.
+     */
+    double applyAsDouble(int value1, int value2);
+}
@@ -0,0 +1,14 @@
+package so.dang.cool.z.function;
+
+/**
+ * Represents a function that accepts two int-valued arguments and
+ * produces a long-valued result. This is the int-to-long
+ * primitive specialization for {@code BiFunction}.
+ */
+@FunctionalInterface
+public interface IntBinaryToLongFunction {
+    /**
+     * Applies this function to the given arguments.
+     */
+    long applyAsLong(int value1, int value2);
+}
@@ -0,0 +1,18 @@
+package so.dang.cool.z.function;
+
+import so.dang.cool.z.annotation.Evil;
+
+/**
+ * Represents an operation that accepts two long-valued arguments and
+ * returns no result. This is the long-consuming primitive type
+ * specialization of {@code BiConsumer}. Unlike most other functional
+ * interfaces, {@code LongBiConsumer} is expected to operate via side-effects.
+ */
+@Evil
+@FunctionalInterface
+public interface LongBiConsumer {
+    /**
+     * Performs this operation on the given arguments.
+     */
+    void accept(long value1, long value2);
+}
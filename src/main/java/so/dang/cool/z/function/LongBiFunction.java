@@ -0,0 +1,14 @@
+package so.dang.cool.z.function;
+
+/**
+ * Represents a function that accepts two long-valued arguments and
+ * produces a result. This is the long-consuming primitive
+ * specialization for {@code BiFunction}.
+ */
+@FunctionalInterface
+public interface LongBiFunction<A> {
+    /**
+     * Applies this function to the given arguments.
+     */
+    A apply(long value1, long value2);
+}
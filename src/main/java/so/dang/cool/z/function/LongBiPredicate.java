@@ -0,0 +1,14 @@
+package so.dang.cool.z.function;
+
+/**
+ * Represents a predicate (boolean-valued function) of two long-valued
+ * arguments. This is the long-consuming primitive type specialization
+ * of {@code BiPredicate}.
+ */
+@FunctionalInterface
+public interface LongBiPredicate {
+    /**
+     * Evaluates this predicate on the given arguments.
+     */
+    boolean test(long value1, long value2);
+}
@@ -0,0 +1,14 @@
+package so.dang.cool.z.function;
+
+/**
+ * Represents a function that accepts two long-valued arguments and
+ * produces a double-valued result. This is the long-to-double
+ * primitive specialization for {@code BiFunction}.
+ */
+@FunctionalInterface
+public interface LongBinaryToDoubleFunction {
+    /**
+     * Applies this function to the given arguments.
+     */
+    double applyAsDouble(long value1, long value2);
+}
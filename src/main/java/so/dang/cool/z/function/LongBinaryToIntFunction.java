@@ -0,0 +1,14 @@
+package so.dang.cool.z.function;
+
+/**
+ * Represents a function that accepts two long-valued arguments and
+ * produces an int-valued result. This is the long-to-int
+ * primitive specialization for {@code BiFunction}.
+ */
+@FunctionalInterface
+public interface LongBinaryToIntFunction {
+    /**
+     * Applies this function to the given arguments.
+     */
+    int applyAsInt(long value1, long value2);
+}
@@ -0,0 +1,175 @@
+package so.dang.cool.z.internal.async;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * A function of one key, backed by a function of many. Keys asked for within
+ * a window are gathered, deduplicated, and looked up together with a single
+ * call, which then completes every waiting caller.
+ *
+ * <p>A batch is dispatched when it holds {@code maxBatch} distinct keys, or
+ * when {@code window} has passed since its first key, whichever is first. The
+ * bulk function runs on the given executor, so neither the caller nor the
+ * shared timer thread is held up by it. Keys missing from the returned map
+ * complete with {@code null}, as with {@link Map#get(Object)}, and a failure
+ * of the bulk function, or of the executor to take it, fails every key of its
+ * batch.
+ */
+public final class Batching<K, V> implements Function<K, CompletableFuture<V>> {
+
+    // One daemon thread times every window; it only hands batches off.
+    private static final ScheduledThreadPoolExecutor TIMER = timer();
+
+    private final Function<List<K>, Map<K, V>> bulk;
+    private final int maxBatch;
+    private final long windowNanos;
+    private final Executor executor;
+    private Map<K, CompletableFuture<V>> pending = new LinkedHashMap<>();
+    private ScheduledFuture<?> timeout;
+
+    private Batching(
+        Function<List<K>, Map<K, V>> bulk,
+        int maxBatch,
+        Duration window,
+        Executor executor
+    ) {
+        if (maxBatch < 1) {
+            throw new IllegalArgumentException(
+                "maxBatch must be positive, was " + maxBatch
+            );
+        }
+        if (window.isNegative()) {
+            throw new IllegalArgumentException(
+                "Duration must not be negative, was " + window
+            );
+        }
+        this.bulk = Objects.requireNonNull(bulk);
+        this.maxBatch = maxBatch;
+        this.windowNanos = window.toNanos();
+        this.executor = Objects.requireNonNull(executor);
+    }
+
+    public static <K, V> Batching<K, V> of(
+        Function<List<K>, Map<K, V>> bulk,
+        int maxBatch,
+        Duration window,
+        Executor executor
+    ) {
+        return new Batching<>(bulk, maxBatch, window, executor);
+    }
+
+    /**
+     * The same batching, with each caller waiting for its own value. Failures
+     * are rethrown as they were thrown by the bulk function.
+     */
+    public static <K, V> Function<K, V> blocking(
+        Function<List<K>, Map<K, V>> bulk,
+        int maxBatch,
+        Duration window,
+        Executor executor
+    ) {
+        Batching<K, V> batching = of(bulk, maxBatch, window, executor);
+        return (K key) -> Futures.join(batching.apply(key));
+    }
+
+    @Override
+    public CompletableFuture<V> apply(K key) {
+        Map<K, CompletableFuture<V>> full = null;
+        CompletableFuture<V> result;
+        synchronized (this) {
+            result = pending.get(key);
+            if (result == null) {
+                result = new CompletableFuture<>();
+                pending.put(key, result);
+                if (pending.size() >= maxBatch) {
+                    full = takePending();
+                } else if (pending.size() == 1) {
+                    Map<K, CompletableFuture<V>> batch = pending;
+                    timeout =
+                        TIMER.schedule(
+                            () -> flush(batch),
+                            windowNanos,
+                            TimeUnit.NANOSECONDS
+                        );
+                }
+            }
+        }
+        if (full != null) {
+            dispatch(full);
+        }
+        // Callers asking for the same key cannot complete it for each other.
+        return result.copy();
+    }
+
+    private void flush(Map<K, CompletableFuture<V>> batch) {
+        Map<K, CompletableFuture<V>> due = null;
+        synchronized (this) {
+            // Otherwise, it was already dispatched for being full.
+            if (pending == batch) {
+                due = takePending();
+            }
+        }
+        if (due != null) {
+            dispatch(due);
+        }
+    }
+
+    private Map<K, CompletableFuture<V>> takePending() {
+        Map<K, CompletableFuture<V>> taken = pending;
+        pending = new LinkedHashMap<>();
+        if (timeout != null) {
+            timeout.cancel(false);
+            timeout = null;
+        }
+        return taken;
+    }
+
+    private void dispatch(Map<K, CompletableFuture<V>> batch) {
+        try {
+            executor.execute(() -> complete(batch));
+        } catch (RejectedExecutionException e) {
+            fail(batch, e);
+        }
+    }
+
+    private void complete(Map<K, CompletableFuture<V>> batch) {
+        try {
+            Map<K, V> values = bulk.apply(new ArrayList<>(batch.keySet()));
+            batch.forEach((key, result) -> result.complete(values.get(key)));
+        } catch (Throwable e) {
+            fail(batch, e);
+        }
+    }
+
+    private static void fail(
+        Map<?, ? extends CompletableFuture<?>> batch,
+        Throwable e
+    ) {
+        batch.values().forEach(result -> result.completeExceptionally(e));
+    }
+
+    private static ScheduledThreadPoolExecutor timer() {
+        ScheduledThreadPoolExecutor timer = new ScheduledThreadPoolExecutor(
+            1,
+            (Runnable task) -> {
+                Thread thread = new Thread(task, "z-batching-timer");
+                thread.setDaemon(true);
+                return thread;
+            }
+        );
+        timer.setRemoveOnCancelPolicy(true);
+        return timer;
+    }
+}
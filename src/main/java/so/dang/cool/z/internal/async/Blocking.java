@@ -0,0 +1,127 @@
+package so.dang.cool.z.internal.async;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Stages that block, run on an executor while the caller waits. Any stages
+ * around them keep running on the caller's thread.
+ *
+ * <p>The caller's thread is parked for the whole stage, so offloading does
+ * not free it; it adds a thread hop. What a stage gains is a cap on how many
+ * calls run at once, with callers beyond the cap waiting for a turn before
+ * submitting. {@code Integer.MAX_VALUE} leaves a stage uncapped.
+ *
+ * <p>Failures are rethrown to the caller as they were thrown by the stage.
+ * A caller interrupted while it waits, for a turn or for the stage, stops
+ * waiting and throws a {@code CompletionException} caused by the interrupt,
+ * with its interrupt status kept. A stage already running is left to finish,
+ * and keeps its turn until it does.
+ */
+public final class Blocking {
+
+    private Blocking() {}
+
+    public static <A, B> Function<A, B> function(
+        Function<A, B> initial,
+        Executor executor,
+        int maxConcurrency
+    ) {
+        Objects.requireNonNull(initial);
+        Objects.requireNonNull(executor);
+        Semaphore permits = permitsFor(maxConcurrency);
+        return (A a) -> await(() -> initial.apply(a), executor, permits);
+    }
+
+    public static <A> Supplier<A> supplier(
+        Supplier<A> initial,
+        Executor executor,
+        int maxConcurrency
+    ) {
+        Objects.requireNonNull(initial);
+        Objects.requireNonNull(executor);
+        Semaphore permits = permitsFor(maxConcurrency);
+        return () -> await(initial, executor, permits);
+    }
+
+    public static <A> Consumer<A> consumer(
+        Consumer<A> initial,
+        Executor executor,
+        int maxConcurrency
+    ) {
+        Objects.requireNonNull(initial);
+        Objects.requireNonNull(executor);
+        Semaphore permits = permitsFor(maxConcurrency);
+        return (A a) ->
+            await(
+                () -> {
+                    initial.accept(a);
+                    return null;
+                },
+                executor,
+                permits
+            );
+    }
+
+    private static Semaphore permitsFor(int maxConcurrency) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException(
+                "maxConcurrency must be positive, was " + maxConcurrency
+            );
+        }
+        return maxConcurrency == Integer.MAX_VALUE
+            ? null
+            : new Semaphore(maxConcurrency, true);
+    }
+
+    private static <A> A await(
+        Supplier<A> work,
+        Executor executor,
+        Semaphore permits
+    ) {
+        if (permits != null) {
+            try {
+                permits.acquire();
+            } catch (InterruptedException e) {
+                throw Futures.interrupted(e);
+            }
+        }
+        CompletableFuture<A> future = new CompletableFuture<>();
+        try {
+            executor.execute(() -> run(work, future, permits));
+        } catch (RuntimeException e) {
+            release(permits);
+            throw e;
+        }
+        return Futures.get(future);
+    }
+
+    // The permit is held until the stage is done, even when its caller has
+    // been interrupted and stopped waiting for it.
+    private static <A> void run(
+        Supplier<A> work,
+        CompletableFuture<A> future,
+        Semaphore permits
+    ) {
+        try {
+            if (!future.isDone()) {
+                future.complete(work.get());
+            }
+        } catch (Throwable e) {
+            future.completeExceptionally(e);
+        } finally {
+            release(permits);
+        }
+    }
+
+    private static void release(Semaphore permits) {
+        if (permits != null) {
+            permits.release();
+        }
+    }
+}
@@ -0,0 +1,686 @@
+package so.dang.cool.z.internal.async;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import so.dang.cool.z.function.DecFunction;
+import so.dang.cool.z.function.DodecFunction;
+import so.dang.cool.z.function.NonFunction;
+import so.dang.cool.z.function.OctFunction;
+import so.dang.cool.z.function.QuadFunction;
+import so.dang.cool.z.function.QuinFunction;
+import so.dang.cool.z.function.SeptFunction;
+import so.dang.cool.z.function.SexFunction;
+import so.dang.cool.z.function.TriFunction;
+import so.dang.cool.z.function.UndecFunction;
+import so.dang.cool.z.internal.combination.Combine.WithFunction;
+
+/**
+ * Independent functions of the same input, run side by side and joined into
+ * one result.
+ *
+ * <p>By default, each joined function measures how long its branches take.
+ * While their total stays cheap, they run one after another on the caller's
+ * thread. Once it grows past the cost of handing work to other threads, every
+ * branch but the first runs on the executor while the caller runs the first,
+ * so a call takes about as long as its slowest branch. {@code inline()} and
+ * {@code concurrent()} skip the measuring and pick one way for good.
+ *
+ * <p>Failures are rethrown to the caller as they were thrown by the branch.
+ */
+public final class Fork {
+
+    /**
+     * Total branch time, in nanoseconds, past which branches run concurrently.
+     * Well above the few microseconds it takes to wake pool threads.
+     */
+    static final long CONCURRENT_ABOVE_NANOS = 50_000L;
+
+    private enum Mode {
+        ADAPTIVE,
+        INLINE,
+        CONCURRENT
+    }
+
+    private final Plan plan;
+
+    // Running average of the total time of all branches, in nanoseconds.
+    private volatile long cost;
+
+    private Fork(Plan plan) {
+        this.plan = plan;
+    }
+
+    private Object[] apply(Object a) {
+        switch (plan.mode) {
+            case INLINE:
+                return inline(a, false);
+            case CONCURRENT:
+                return concurrently(a, false);
+            default:
+                return cost < CONCURRENT_ABOVE_NANOS
+                    ? inline(a, true)
+                    : concurrently(a, true);
+        }
+    }
+
+    private Object[] inline(Object a, boolean measure) {
+        long start = measure ? System.nanoTime() : 0L;
+        Object[] results = new Object[plan.branches.length];
+        for (int i = 0; i < results.length; i++) {
+            results[i] = plan.apply(i, a);
+        }
+        if (measure) {
+            observe(System.nanoTime() - start);
+        }
+        return results;
+    }
+
+    private Object[] concurrently(Object a, boolean measure) {
+        int count = plan.branches.length;
+        Object[] results = new Object[count];
+        long[] nanos = new long[count];
+        CompletableFuture<?>[] rest = new CompletableFuture<?>[count];
+        for (int i = 1; i < count; i++) {
+            int branch = i;
+            rest[i] =
+                CompletableFuture.runAsync(
+                    () -> run(branch, a, results, nanos, measure),
+                    plan.executor
+                );
+        }
+        run(0, a, results, nanos, measure);
+        long total = nanos[0];
+        for (int i = 1; i < count; i++) {
+            Futures.join(rest[i]);
+            total += nanos[i];
+        }
+        if (measure) {
+            observe(total);
+        }
+        return results;
+    }
+
+    private void run(
+        int branch,
+        Object a,
+        Object[] results,
+        long[] nanos,
+        boolean measure
+    ) {
+        long start = measure ? System.nanoTime() : 0L;
+        results[branch] = plan.apply(branch, a);
+        if (measure) {
+            nanos[branch] = System.nanoTime() - start;
+        }
+    }
+
+    private void observe(long nanos) {
+        // Capped, so a lone pause cannot flip the mode by itself; it takes a
+        // handful of slow calls in a row.
+        long sample = Math.min(nanos, 2 * CONCURRENT_ABOVE_NANOS);
+        long previous = cost;
+        cost = previous + ((sample - previous) >> 3);
+    }
+
+    /**
+     * The branches of a fork, and how they should run once joined.
+     */
+    private static final class Plan {
+
+        private final Function<?, ?>[] branches;
+        private final Executor executor;
+        private final Mode mode;
+
+        private Plan(Function<?, ?>[] branches, Executor executor, Mode mode) {
+            this.branches = branches;
+            this.executor = executor;
+            this.mode = mode;
+        }
+
+        private static Plan of(Function<?, ?>... branches) {
+            for (Function<?, ?> branch : branches) {
+                Objects.requireNonNull(branch);
+            }
+            return new Plan(branches, ForkJoinPool.commonPool(), Mode.ADAPTIVE);
+        }
+
+        private Plan on(Executor executor) {
+            return new Plan(branches, Objects.requireNonNull(executor), mode);
+        }
+
+        private Plan in(Mode mode) {
+            return new Plan(branches, executor, mode);
+        }
+
+        @SuppressWarnings("unchecked")
+        private Object apply(int branch, Object a) {
+            return ((Function<Object, Object>) branches[branch]).apply(a);
+        }
+    }
+
+    /**
+     * Settings shared by forks of every arity. Each arity adds a typed join.
+     */
+    abstract static class Branches<A, S extends Branches<A, S>> {
+
+        private final Plan plan;
+
+        private Branches(Plan plan) {
+            this.plan = plan;
+        }
+
+        abstract S with(Plan plan);
+
+        /**
+         * Runs concurrent branches on {@code executor} rather than the
+         * common pool.
+         */
+        public S on(Executor executor) {
+            return with(plan.on(executor));
+        }
+
+        /**
+         * Always runs the branches one after another on the caller's thread.
+         */
+        public S inline() {
+            return with(plan.in(Mode.INLINE));
+        }
+
+        /**
+         * Always runs the branches side by side.
+         */
+        public S concurrent() {
+            return with(plan.in(Mode.CONCURRENT));
+        }
+
+        final <R> WithFunction<A, R> joined(Function<Object[], R> joiner) {
+            Fork fork = new Fork(plan);
+            return WithFunction.of((A a) -> joiner.apply(fork.apply(a)));
+        }
+    }
+
+    public static <A, B, C> Bi<A, B, C> of(
+        Function<A, B> f1,
+        Function<A, C> f2
+    ) {
+        return new Bi<>(Plan.of(f1, f2));
+    }
+
+    public static <A, B, C, D> Tri<A, B, C, D> of(
+        Function<A, B> f1,
+        Function<A, C> f2,
+        Function<A, D> f3
+    ) {
+        return new Tri<>(Plan.of(f1, f2, f3));
+    }
+
+    public static <A, B, C, D, E> Quad<A, B, C, D, E> of(
+        Function<A, B> f1,
+        Function<A, C> f2,
+        Function<A, D> f3,
+        Function<A, E> f4
+    ) {
+        return new Quad<>(Plan.of(f1, f2, f3, f4));
+    }
+
+    public static <A, B, C, D, E, F> Quin<A, B, C, D, E, F> of(
+        Function<A, B> f1,
+        Function<A, C> f2,
+        Function<A, D> f3,
+        Function<A, E> f4,
+        Function<A, F> f5
+    ) {
+        return new Quin<>(Plan.of(f1, f2, f3, f4, f5));
+    }
+
+    public static <A, B, C, D, E, F, G> Sex<A, B, C, D, E, F, G> of(
+        Function<A, B> f1,
+        Function<A, C> f2,
+        Function<A, D> f3,
+        Function<A, E> f4,
+        Function<A, F> f5,
+        Function<A, G> f6
+    ) {
+        return new Sex<>(Plan.of(f1, f2, f3, f4, f5, f6));
+    }
+
+    public static <A, B, C, D, E, F, G, H> Sept<A, B, C, D, E, F, G, H> of(
+        Function<A, B> f1,
+        Function<A, C> f2,
+        Function<A, D> f3,
+        Function<A, E> f4,
+        Function<A, F> f5,
+        Function<A, G> f6,
+        Function<A, H> f7
+    ) {
+        return new Sept<>(Plan.of(f1, f2, f3, f4, f5, f6, f7));
+    }
+
+    public static <A, B, C, D, E, F, G, H, I> Oct<A, B, C, D, E, F, G, H, I> of(
+        Function<A, B> f1,
+        Function<A, C> f2,
+        Function<A, D> f3,
+        Function<A, E> f4,
+        Function<A, F> f5,
+        Function<A, G> f6,
+        Function<A, H> f7,
+        Function<A, I> f8
+    ) {
+        return new Oct<>(Plan.of(f1, f2, f3, f4, f5, f6, f7, f8));
+    }
+
+    public static <A, B, C, D, E, F, G, H, I, J> Non<A, B, C, D, E, F, G, H, I, J> of(
+        Function<A, B> f1,
+        Function<A, C> f2,
+        Function<A, D> f3,
+        Function<A, E> f4,
+        Function<A, F> f5,
+        Function<A, G> f6,
+        Function<A, H> f7,
+        Function<A, I> f8,
+        Function<A, J> f9
+    ) {
+        return new Non<>(Plan.of(f1, f2, f3, f4, f5, f6, f7, f8, f9));
+    }
+
+    public static <A, B, C, D, E, F, G, H, I, J, K> Dec<A, B, C, D, E, F, G, H, I, J, K> of(
+        Function<A, B> f1,
+        Function<A, C> f2,
+        Function<A, D> f3,
+        Function<A, E> f4,
+        Function<A, F> f5,
+        Function<A, G> f6,
+        Function<A, H> f7,
+        Function<A, I> f8,
+        Function<A, J> f9,
+        Function<A, K> f10
+    ) {
+        return new Dec<>(Plan.of(f1, f2, f3, f4, f5, f6, f7, f8, f9, f10));
+    }
+
+    public static <A, B, C, D, E, F, G, H, I, J, K, L> Undec<A, B, C, D, E, F, G, H, I, J, K, L> of(
+        Function<A, B> f1,
+        Function<A, C> f2,
+        Function<A, D> f3,
+        Function<A, E> f4,
+        Function<A, F> f5,
+        Function<A, G> f6,
+        Function<A, H> f7,
+        Function<A, I> f8,
+        Function<A, J> f9,
+        Function<A, K> f10,
+        Function<A, L> f11
+    ) {
+        return new Undec<>(
+            Plan.of(f1, f2, f3, f4, f5, f6, f7, f8, f9, f10, f11)
+        );
+    }
+
+    public static <A, B, C, D, E, F, G, H, I, J, K, L, M> Dodec<A, B, C, D, E, F, G, H, I, J, K, L, M> of(
+        Function<A, B> f1,
+        Function<A, C> f2,
+        Function<A, D> f3,
+        Function<A, E> f4,
+        Function<A, F> f5,
+        Function<A, G> f6,
+        Function<A, H> f7,
+        Function<A, I> f8,
+        Function<A, J> f9,
+        Function<A, K> f10,
+        Function<A, L> f11,
+        Function<A, M> f12
+    ) {
+        return new Dodec<>(
+            Plan.of(f1, f2, f3, f4, f5, f6, f7, f8, f9, f10, f11, f12)
+        );
+    }
+
+    public static final class Bi<A, B, C> extends Branches<A, Bi<A, B, C>> {
+
+        private Bi(Plan plan) {
+            super(plan);
+        }
+
+        @Override
+        Bi<A, B, C> with(Plan plan) {
+            return new Bi<>(plan);
+        }
+
+        @SuppressWarnings("unchecked")
+        public <D> WithFunction<A, D> join(BiFunction<B, C, D> joiner) {
+            Objects.requireNonNull(joiner);
+            return joined(
+                results ->
+                    joiner.apply(
+                        (B) results[0],
+                        (C) results[1]
+                    )
+            );
+        }
+    }
+
+    public static final class Tri<A, B, C, D>
+        extends Branches<A, Tri<A, B, C, D>> {
+
+        private Tri(Plan plan) {
+            super(plan);
+        }
+
+        @Override
+        Tri<A, B, C, D> with(Plan plan) {
+            return new Tri<>(plan);
+        }
+
+        @SuppressWarnings("unchecked")
+        public <E> WithFunction<A, E> join(TriFunction<B, C, D, E> joiner) {
+            Objects.requireNonNull(joiner);
+            return joined(
+                results ->
+                    joiner.apply(
+                        (B) results[0],
+                        (C) results[1],
+                        (D) results[2]
+                    )
+            );
+        }
+    }
+
+    public static final class Quad<A, B, C, D, E>
+        extends Branches<A, Quad<A, B, C, D, E>> {
+
+        private Quad(Plan plan) {
+            super(plan);
+        }
+
+        @Override
+        Quad<A, B, C, D, E> with(Plan plan) {
+            return new Quad<>(plan);
+        }
+
+        @SuppressWarnings("unchecked")
+        public <F> WithFunction<A, F> join(QuadFunction<B, C, D, E, F> joiner) {
+            Objects.requireNonNull(joiner);
+            return joined(
+                results ->
+                    joiner.apply(
+                        (B) results[0],
+                        (C) results[1],
+                        (D) results[2],
+                        (E) results[3]
+                    )
+            );
+        }
+    }
+
+    public static final class Quin<A, B, C, D, E, F>
+        extends Branches<A, Quin<A, B, C, D, E, F>> {
+
+        private Quin(Plan plan) {
+            super(plan);
+        }
+
+        @Override
+        Quin<A, B, C, D, E, F> with(Plan plan) {
+            return new Quin<>(plan);
+        }
+
+        @SuppressWarnings("unchecked")
+        public <G> WithFunction<A, G> join(
+            QuinFunction<B, C, D, E, F, G> joiner
+        ) {
+            Objects.requireNonNull(joiner);
+            return joined(
+                results ->
+                    joiner.apply(
+                        (B) results[0],
+                        (C) results[1],
+                        (D) results[2],
+                        (E) results[3],
+                        (F) results[4]
+                    )
+            );
+        }
+    }
+
+    public static final class Sex<A, B, C, D, E, F, G>
+        extends Branches<A, Sex<A, B, C, D, E, F, G>> {
+
+        private Sex(Plan plan) {
+            super(plan);
+        }
+
+        @Override
+        Sex<A, B, C, D, E, F, G> with(Plan plan) {
+            return new Sex<>(plan);
+        }
+
+        @SuppressWarnings("unchecked")
+        public <H> WithFunction<A, H> join(
+            SexFunction<B, C, D, E, F, G, H> joiner
+        ) {
+            Objects.requireNonNull(joiner);
+            return joined(
+                results ->
+                    joiner.apply(
+                        (B) results[0],
+                        (C) results[1],
+                        (D) results[2],
+                        (E) results[3],
+                        (F) results[4],
+                        (G) results[5]
+                    )
+            );
+        }
+    }
+
+    public static final class Sept<A, B, C, D, E, F, G, H>
+        extends Branches<A, Sept<A, B, C, D, E, F, G, H>> {
+
+        private Sept(Plan plan) {
+            super(plan);
+        }
+
+        @Override
+        Sept<A, B, C, D, E, F, G, H> with(Plan plan) {
+            return new Sept<>(plan);
+        }
+
+        @SuppressWarnings("unchecked")
+        public <I> WithFunction<A, I> join(
+            SeptFunction<B, C, D, E, F, G, H, I> joiner
+        ) {
+            Objects.requireNonNull(joiner);
+            return joined(
+                results ->
+                    joiner.apply(
+                        (B) results[0],
+                        (C) results[1],
+                        (D) results[2],
+                        (E) results[3],
+                        (F) results[4],
+                        (G) results[5],
+                        (H) results[6]
+                    )
+            );
+        }
+    }
+
+    public static final class Oct<A, B, C, D, E, F, G, H, I>
+        extends Branches<A, Oct<A, B, C, D, E, F, G, H, I>> {
+
+        private Oct(Plan plan) {
+            super(plan);
+        }
+
+        @Override
+        Oct<A, B, C, D, E, F, G, H, I> with(Plan plan) {
+            return new Oct<>(plan);
+        }
+
+        @SuppressWarnings("unchecked")
+        public <J> WithFunction<A, J> join(
+            OctFunction<B, C, D, E, F, G, H, I, J> joiner
+        ) {
+            Objects.requireNonNull(joiner);
+            return joined(
+                results ->
+                    joiner.apply(
+                        (B) results[0],
+                        (C) results[1],
+                        (D) results[2],
+                        (E) results[3],
+                        (F) results[4],
+                        (G) results[5],
+                        (H) results[6],
+                        (I) results[7]
+                    )
+            );
+        }
+    }
+
+    public static final class Non<A, B, C, D, E, F, G, H, I, J>
+        extends Branches<A, Non<A, B, C, D, E, F, G, H, I, J>> {
+
+        private Non(Plan plan) {
+            super(plan);
+        }
+
+        @Override
+        Non<A, B, C, D, E, F, G, H, I, J> with(Plan plan) {
+            return new Non<>(plan);
+        }
+
+        @SuppressWarnings("unchecked")
+        public <K> WithFunction<A, K> join(
+            NonFunction<B, C, D, E, F, G, H, I, J, K> joiner
+        ) {
+            Objects.requireNonNull(joiner);
+            return joined(
+                results ->
+                    joiner.apply(
+                        (B) results[0],
+                        (C) results[1],
+                        (D) results[2],
+                        (E) results[3],
+                        (F) results[4],
+                        (G) results[5],
+                        (H) results[6],
+                        (I) results[7],
+                        (J) results[8]
+                    )
+            );
+        }
+    }
+
+    public static final class Dec<A, B, C, D, E, F, G, H, I, J, K>
+        extends Branches<A, Dec<A, B, C, D, E, F, G, H, I, J, K>> {
+
+        private Dec(Plan plan) {
+            super(plan);
+        }
+
+        @Override
+        Dec<A, B, C, D, E, F, G, H, I, J, K> with(Plan plan) {
+            return new Dec<>(plan);
+        }
+
+        @SuppressWarnings("unchecked")
+        public <L> WithFunction<A, L> join(
+            DecFunction<B, C, D, E, F, G, H, I, J, K, L> joiner
+        ) {
+            Objects.requireNonNull(joiner);
+            return joined(
+                results ->
+                    joiner.apply(
+                        (B) results[0],
+                        (C) results[1],
+                        (D) results[2],
+                        (E) results[3],
+                        (F) results[4],
+                        (G) results[5],
+                        (H) results[6],
+                        (I) results[7],
+                        (J) results[8],
+                        (K) results[9]
+                    )
+            );
+        }
+    }
+
+    public static final class Undec<A, B, C, D, E, F, G, H, I, J, K, L>
+        extends Branches<A, Undec<A, B, C, D, E, F, G, H, I, J, K, L>> {
+
+        private Undec(Plan plan) {
+            super(plan);
+        }
+
+        @Override
+        Undec<A, B, C, D, E, F, G, H, I, J, K, L> with(Plan plan) {
+            return new Undec<>(plan);
+        }
+
+        @SuppressWarnings("unchecked")
+        public <M> WithFunction<A, M> join(
+            UndecFunction<B, C, D, E, F, G, H, I, J, K, L, M> joiner
+        ) {
+            Objects.requireNonNull(joiner);
+            return joined(
+                results ->
+                    joiner.apply(
+                        (B) results[0],
+                        (C) results[1],
+                        (D) results[2],
+                        (E) results[3],
+                        (F) results[4],
+                        (G) results[5],
+                        (H) results[6],
+                        (I) results[7],
+                        (J) results[8],
+                        (K) results[9],
+                        (L) results[10]
+                    )
+            );
+        }
+    }
+
+    public static final class Dodec<A, B, C, D, E, F, G, H, I, J, K, L, M>
+        extends Branches<A, Dodec<A, B, C, D, E, F, G, H, I, J, K, L, M>> {
+
+        private Dodec(Plan plan) {
+            super(plan);
+        }
+
+        @Override
+        Dodec<A, B, C, D, E, F, G, H, I, J, K, L, M> with(Plan plan) {
+            return new Dodec<>(plan);
+        }
+
+        @SuppressWarnings("unchecked")
+        public <N> WithFunction<A, N> join(
+            DodecFunction<B, C, D, E, F, G, H, I, J, K, L, M, N> joiner
+        ) {
+            Objects.requireNonNull(joiner);
+            return joined(
+                results ->
+                    joiner.apply(
+                        (B) results[0],
+                        (C) results[1],
+                        (D) results[2],
+                        (E) results[3],
+                        (F) results[4],
+                        (G) results[5],
+                        (H) results[6],
+                        (I) results[7],
+                        (J) results[8],
+                        (K) results[9],
+                        (L) results[10],
+                        (M) results[11]
+                    )
+            );
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package so.dang.cool.z.internal.async;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+
+final class Futures {
+
+    private Futures() {}
+
+    /**
+     * Waits for a result, rethrowing a failure as it was thrown rather than
+     * wrapped, when it is unchecked.
+     */
+    static <A> A join(CompletableFuture<A> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            throw unwrapped(e.getCause(), e);
+        }
+    }
+
+    /**
+     * Like {@link #join}, but gives up when the waiting thread is interrupted.
+     * The future is then cancelled, and the interrupt is kept set and thrown
+     * as the cause of a {@link CompletionException}.
+     */
+    static <A> A get(CompletableFuture<A> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            throw interrupted(e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            throw unwrapped(cause, new CompletionException(cause));
+        }
+    }
+
+    static CompletionException interrupted(InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return new CompletionException(e);
+    }
+
+    private static RuntimeException unwrapped(
+        Throwable cause,
+        RuntimeException wrapped
+    ) {
+        if (cause instanceof RuntimeException) {
+            return (RuntimeException) cause;
+        }
+        if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+        return wrapped;
+    }
+}
@@ -0,0 +1,382 @@
+package so.dang.cool.z.internal.async;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * A consumer that passes what it accepts on in batches. Any number of threads
+ * may accept values; they are handed through a bounded ring, without locking,
+ * to a single flushing thread that calls the bulk consumer.
+ *
+ * <p>A batch is flushed when it holds {@code maxBatch} values, or when
+ * {@code window} has passed since its first value, whichever is first.
+ * {@link #flush()} waits until everything accepted before it has been passed
+ * on, and {@link #close()} does the same before stopping the flushing thread.
+ *
+ * <p>The ring holds between two and four batches. When the bulk consumer
+ * falls behind and the ring fills, accepting threads wait for room.
+ *
+ * <p>Failures of the bulk consumer are rethrown, as they were thrown, by the
+ * next {@code flush()} or {@code close()}.
+ *
+ * <p>Sinks must be closed. The flushing thread holds on to its sink until
+ * then, so an unclosed sink is never collected, and values still waiting for
+ * their window are not passed on when the program exits.
+ */
+public abstract class Sink implements AutoCloseable {
+
+    // Keeps the ring, at up to four batches, within array limits.
+    private static final int MAX_BATCH = 1 << 28;
+
+    // How long an accepting thread waits before looking for room again.
+    private static final long FULL_PAUSE_NANOS = 10_000L;
+
+    // The tail once the flushing thread has stopped. No slot can be claimed.
+    private static final long SEALED = -1L;
+
+    private final int maxBatch;
+    private final long windowNanos;
+    private final int mask;
+
+    // Each slot's sequence is its position plus one once published, and its
+    // position plus the capacity once taken.
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong flushTo = new AtomicLong();
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+    private final Object deliveries = new Object();
+    private final Thread flusher;
+
+    // Only written by the flushing thread.
+    private volatile long head;
+    private volatile long delivered;
+
+    private volatile boolean closed;
+
+    Sink(int maxBatch, Duration window) {
+        if (maxBatch < 1 || maxBatch > MAX_BATCH) {
+            throw new IllegalArgumentException(
+                "maxBatch must be between 1 and " + MAX_BATCH + ", was " +
+                maxBatch
+            );
+        }
+        if (window.isNegative()) {
+            throw new IllegalArgumentException(
+                "Duration must not be negative, was " + window
+            );
+        }
+        int capacity = Integer.highestOneBit(maxBatch) << 2;
+        this.maxBatch = maxBatch;
+        this.windowNanos = window.toNanos();
+        this.mask = capacity - 1;
+        this.sequences = new AtomicLongArray(capacity);
+        for (int slot = 0; slot < capacity; slot++) {
+            sequences.set(slot, slot);
+        }
+        this.flusher = new Thread(this::drain, "z-sink");
+        flusher.setDaemon(true);
+    }
+
+    public static <A> Of<A> of(
+        Consumer<List<A>> bulk,
+        int maxBatch,
+        Duration window
+    ) {
+        return start(new Of<>(bulk, maxBatch, window));
+    }
+
+    /**
+     * Batches of ints, passed on in a reused array with the number of values
+     * it holds.
+     */
+    public static OfInt ofInt(
+        ObjIntConsumer<int[]> bulk,
+        int maxBatch,
+        Duration window
+    ) {
+        return start(new OfInt(bulk, maxBatch, window));
+    }
+
+    /**
+     * Batches of longs, passed on in a reused array with the number of values
+     * it holds.
+     */
+    public static OfLong ofLong(
+        ObjIntConsumer<long[]> bulk,
+        int maxBatch,
+        Duration window
+    ) {
+        return start(new OfLong(bulk, maxBatch, window));
+    }
+
+    private static <S extends Sink> S start(S sink) {
+        ((Sink) sink).flusher.start();
+        return sink;
+    }
+
+    /**
+     * Waits until everything accepted before this call has been passed on.
+     */
+    public void flush() {
+        long target = tail.get();
+        flushTo.accumulateAndGet(target, Math::max);
+        LockSupport.unpark(flusher);
+        await(target);
+        rethrow();
+    }
+
+    /**
+     * Passes on everything accepted so far and stops the flushing thread.
+     * Values may not be accepted afterward.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        LockSupport.unpark(flusher);
+        await(Long.MAX_VALUE);
+        rethrow();
+    }
+
+    final int capacity() {
+        return mask + 1;
+    }
+
+    final int index(long position) {
+        return (int) position & mask;
+    }
+
+    /**
+     * Reserves the next slot, waiting for room when the ring is full.
+     */
+    final long claim() {
+        while (true) {
+            long position = tail.get();
+            if (position == SEALED) {
+                throw new IllegalStateException("Sink is closed");
+            }
+            long room = sequences.get(index(position)) - position;
+            if (room == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    return position;
+                }
+            } else if (room < 0) {
+                LockSupport.unpark(flusher);
+                LockSupport.parkNanos(this, FULL_PAUSE_NANOS);
+            }
+        }
+    }
+
+    final void publish(long position) {
+        sequences.set(index(position), position + 1);
+        // The flushing thread may be waiting on exactly this slot.
+        if (head == position) {
+            LockSupport.unpark(flusher);
+        }
+    }
+
+    /** Moves a published slot's value to a place in the next batch. */
+    abstract void take(int slot, int at);
+
+    /** Passes on the first {@code count} values of the next batch. */
+    abstract void deliver(int count);
+
+    private void drain() {
+        int count = 0;
+        long firstAt = 0L;
+        while (true) {
+            long position = head;
+            int slot = index(position);
+            if (count < maxBatch && sequences.get(slot) == position + 1) {
+                take(slot, count);
+                sequences.set(slot, position + capacity());
+                head = position + 1;
+                if (count++ == 0) {
+                    firstAt = System.nanoTime();
+                }
+            } else if (count > 0) {
+                long waited = System.nanoTime() - firstAt;
+                if (
+                    count == maxBatch ||
+                    waited >= windowNanos ||
+                    closed ||
+                    flushTo.get() > delivered
+                ) {
+                    passOn(count, position);
+                    count = 0;
+                } else {
+                    LockSupport.parkNanos(this, windowNanos - waited);
+                }
+            } else if (closed && tail.compareAndSet(position, SEALED)) {
+                // Claims either landed before the seal, and were passed on
+                // above, or fail.
+                markDelivered(Long.MAX_VALUE);
+                return;
+            } else {
+                LockSupport.park(this);
+            }
+        }
+    }
+
+    private void passOn(int count, long through) {
+        try {
+            deliver(count);
+        } catch (Throwable e) {
+            failure.compareAndSet(null, e);
+        }
+        markDelivered(through);
+    }
+
+    private void markDelivered(long through) {
+        synchronized (deliveries) {
+            delivered = through;
+            deliveries.notifyAll();
+        }
+    }
+
+    private void await(long target) {
+        boolean interrupted = false;
+        synchronized (deliveries) {
+            while (delivered < target) {
+                try {
+                    deliveries.wait();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void rethrow() {
+        Throwable e = failure.getAndSet(null);
+        if (e instanceof RuntimeException) {
+            throw (RuntimeException) e;
+        }
+        if (e instanceof Error) {
+            throw (Error) e;
+        }
+        if (e != null) {
+            throw new CompletionException(e);
+        }
+    }
+
+    public static final class Of<A> extends Sink implements Consumer<A> {
+
+        private final Consumer<List<A>> bulk;
+        private final Object[] values;
+        private final Object[] batch;
+
+        private Of(Consumer<List<A>> bulk, int maxBatch, Duration window) {
+            super(maxBatch, window);
+            this.bulk = Objects.requireNonNull(bulk);
+            this.values = new Object[capacity()];
+            this.batch = new Object[maxBatch];
+        }
+
+        @Override
+        public void accept(A a) {
+            long position = claim();
+            values[index(position)] = a;
+            publish(position);
+        }
+
+        @Override
+        void take(int slot, int at) {
+            batch[at] = values[slot];
+            values[slot] = null;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        void deliver(int count) {
+            List<A> passed = (List<A>) Arrays.asList(
+                Arrays.copyOf(batch, count)
+            );
+            Arrays.fill(batch, 0, count, null);
+            bulk.accept(passed);
+        }
+    }
+
+    public static final class OfInt extends Sink implements IntConsumer {
+
+        private final ObjIntConsumer<int[]> bulk;
+        private final int[] values;
+        private final int[] batch;
+
+        private OfInt(
+            ObjIntConsumer<int[]> bulk,
+            int maxBatch,
+            Duration window
+        ) {
+            super(maxBatch, window);
+            this.bulk = Objects.requireNonNull(bulk);
+            this.values = new int[capacity()];
+            this.batch = new int[maxBatch];
+        }
+
+        @Override
+        public void accept(int a) {
+            long position = claim();
+            values[index(position)] = a;
+            publish(position);
+        }
+
+        @Override
+        void take(int slot, int at) {
+            batch[at] = values[slot];
+        }
+
+        @Override
+        void deliver(int count) {
+            bulk.accept(batch, count);
+        }
+    }
+
+    public static final class OfLong extends Sink implements LongConsumer {
+
+        private final ObjIntConsumer<long[]> bulk;
+        private final long[] values;
+        private final long[] batch;
+
+        private OfLong(
+            ObjIntConsumer<long[]> bulk,
+            int maxBatch,
+            Duration window
+        ) {
+            super(maxBatch, window);
+            this.bulk = Objects.requireNonNull(bulk);
+            this.values = new long[capacity()];
+            this.batch = new long[maxBatch];
+        }
+
+        @Override
+        public void accept(long a) {
+            long position = claim();
+            values[index(position)] = a;
+            publish(position);
+        }
+
+        @Override
+        void take(int slot, int at) {
+            batch[at] = values[slot];
+        }
+
+        @Override
+        void deliver(int count) {
+            bulk.accept(batch, count);
+        }
+    }
+}
@@ -0,0 +1,590 @@
+package so.dang.cool.z.internal.bulk;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleToIntFunction;
+import java.util.function.DoubleToLongFunction;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntPredicate;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.IntToLongFunction;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongPredicate;
+import java.util.function.LongToDoubleFunction;
+import java.util.function.LongToIntFunction;
+import java.util.function.ObjIntConsumer;
+import so.dang.cool.z.function.DoubleBinaryToIntFunction;
+import so.dang.cool.z.function.DoubleBinaryToLongFunction;
+import so.dang.cool.z.function.IntBinaryToDoubleFunction;
+import so.dang.cool.z.function.IntBinaryToLongFunction;
+import so.dang.cool.z.function.LongBinaryToDoubleFunction;
+import so.dang.cool.z.function.LongBinaryToIntFunction;
+
+/**
+ * Bulk application over {@link ByteBuffer}s, heap or direct. Element {@code i}
+ * of a buffer is read or written at byte {@code position() + i * stride} in the
+ * buffer's own byte order, so a dense column has a stride of the element width,
+ * and a field of an array of structs has a stride of the struct width. Buffer
+ * positions and limits are left as they were.
+ *
+ * <p>Fused unary operators gather a chunk of elements at a time into a small
+ * array, apply every stage to it, then scatter it back out, so nothing larger
+ * than a chunk is copied onto the heap.
+ */
+public final class Buffers {
+
+    private Buffers() {}
+
+    private static int checkStrided(
+        ByteBuffer buffer,
+        int stride,
+        int width,
+        int length
+    ) {
+        if (stride < width) {
+            throw new IllegalArgumentException(
+                "stride must be at least " + width + ", was " + stride
+            );
+        }
+        long span = length == 0 ? 0L : (long) (length - 1) * stride + width;
+        if (length < 0 || span > buffer.remaining()) {
+            throw new IndexOutOfBoundsException(
+                length + " elements of stride " + stride + " overrun " + buffer
+            );
+        }
+        return buffer.position();
+    }
+
+    public static ByteBuffer doubleUnaryOperators(
+        ByteBuffer in,
+        int inStride,
+        ByteBuffer out,
+        int outStride,
+        int length,
+        ObjIntConsumer<double[]> chunk
+    ) {
+        int from = checkStrided(in, inStride, Double.BYTES, length);
+        int to = checkStrided(out, outStride, Double.BYTES, length);
+        double[] values = new double[Math.min(length, Bulk.CHUNK_SIZE)];
+        for (int done = 0; done < length; done += values.length) {
+            int size = Math.min(values.length, length - done);
+            for (int i = 0; i < size; i++) {
+                values[i] = in.getDouble(from + (done + i) * inStride);
+            }
+            chunk.accept(values, size);
+            for (int i = 0; i < size; i++) {
+                out.putDouble(to + (done + i) * outStride, values[i]);
+            }
+        }
+        return out;
+    }
+
+    public static ByteBuffer intUnaryOperators(
+        ByteBuffer in,
+        int inStride,
+        ByteBuffer out,
+        int outStride,
+        int length,
+        ObjIntConsumer<int[]> chunk
+    ) {
+        int from = checkStrided(in, inStride, Integer.BYTES, length);
+        int to = checkStrided(out, outStride, Integer.BYTES, length);
+        int[] values = new int[Math.min(length, Bulk.CHUNK_SIZE)];
+        for (int done = 0; done < length; done += values.length) {
+            int size = Math.min(values.length, length - done);
+            for (int i = 0; i < size; i++) {
+                values[i] = in.getInt(from + (done + i) * inStride);
+            }
+            chunk.accept(values, size);
+            for (int i = 0; i < size; i++) {
+                out.putInt(to + (done + i) * outStride, values[i]);
+            }
+        }
+        return out;
+    }
+
+    public static ByteBuffer longUnaryOperators(
+        ByteBuffer in,
+        int inStride,
+        ByteBuffer out,
+        int outStride,
+        int length,
+        ObjIntConsumer<long[]> chunk
+    ) {
+        int from = checkStrided(in, inStride, Long.BYTES, length);
+        int to = checkStrided(out, outStride, Long.BYTES, length);
+        long[] values = new long[Math.min(length, Bulk.CHUNK_SIZE)];
+        for (int done = 0; done < length; done += values.length) {
+            int size = Math.min(values.length, length - done);
+            for (int i = 0; i < size; i++) {
+                values[i] = in.getLong(from + (done + i) * inStride);
+            }
+            chunk.accept(values, size);
+            for (int i = 0; i < size; i++) {
+                out.putLong(to + (done + i) * outStride, values[i]);
+            }
+        }
+        return out;
+    }
+
+    public static ByteBuffer doubleToIntFunction(
+        DoubleToIntFunction initial,
+        ByteBuffer in,
+        int inStride,
+        ByteBuffer out,
+        int outStride,
+        int length
+    ) {
+        int from = checkStrided(in, inStride, Double.BYTES, length);
+        int to = checkStrided(out, outStride, Integer.BYTES, length);
+        for (int i = 0; i < length; i++) {
+            out.putInt(
+                to + i * outStride,
+                initial.applyAsInt(in.getDouble(from + i * inStride))
+            );
+        }
+        return out;
+    }
+
+    public static ByteBuffer doubleToLongFunction(
+        DoubleToLongFunction initial,
+        ByteBuffer in,
+        int inStride,
+        ByteBuffer out,
+        int outStride,
+        int length
+    ) {
+        int from = checkStrided(in, inStride, Double.BYTES, length);
+        int to = checkStrided(out, outStride, Long.BYTES, length);
+        for (int i = 0; i < length; i++) {
+            out.putLong(
+                to + i * outStride,
+                initial.applyAsLong(in.getDouble(from + i * inStride))
+            );
+        }
+        return out;
+    }
+
+    public static ByteBuffer intToDoubleFunction(
+        IntToDoubleFunction initial,
+        ByteBuffer in,
+        int inStride,
+        ByteBuffer out,
+        int outStride,
+        int length
+    ) {
+        int from = checkStrided(in, inStride, Integer.BYTES, length);
+        int to = checkStrided(out, outStride, Double.BYTES, length);
+        for (int i = 0; i < length; i++) {
+            out.putDouble(
+                to + i * outStride,
+                initial.applyAsDouble(in.getInt(from + i * inStride))
+            );
+        }
+        return out;
+    }
+
+    public static ByteBuffer intToLongFunction(
+        IntToLongFunction initial,
+        ByteBuffer in,
+        int inStride,
+        ByteBuffer out,
+        int outStride,
+        int length
+    ) {
+        int from = checkStrided(in, inStride, Integer.BYTES, length);
+        int to = checkStrided(out, outStride, Long.BYTES, length);
+        for (int i = 0; i < length; i++) {
+            out.putLong(
+                to + i * outStride,
+                initial.applyAsLong(in.getInt(from + i * inStride))
+            );
+        }
+        return out;
+    }
+
+    public static ByteBuffer longToDoubleFunction(
+        LongToDoubleFunction initial,
+        ByteBuffer in,
+        int inStride,
+        ByteBuffer out,
+        int outStride,
+        int length
+    ) {
+        int from = checkStrided(in, inStride, Long.BYTES, length);
+        int to = checkStrided(out, outStride, Double.BYTES, length);
+        for (int i = 0; i < length; i++) {
+            out.putDouble(
+                to + i * outStride,
+                initial.applyAsDouble(in.getLong(from + i * inStride))
+            );
+        }
+        return out;
+    }
+
+    public static ByteBuffer longToIntFunction(
+        LongToIntFunction initial,
+        ByteBuffer in,
+        int inStride,
+        ByteBuffer out,
+        int outStride,
+        int length
+    ) {
+        int from = checkStrided(in, inStride, Long.BYTES, length);
+        int to = checkStrided(out, outStride, Integer.BYTES, length);
+        for (int i = 0; i < length; i++) {
+            out.putInt(
+                to + i * outStride,
+                initial.applyAsInt(in.getLong(from + i * inStride))
+            );
+        }
+        return out;
+    }
+
+    public static ByteBuffer doubleBinaryOperator(
+        DoubleBinaryOperator initial,
+        ByteBuffer left,
+        int leftStride,
+        ByteBuffer right,
+        int rightStride,
+        ByteBuffer out,
+        int outStride,
+        int length
+    ) {
+        int l = checkStrided(left, leftStride, Double.BYTES, length);
+        int r = checkStrided(right, rightStride, Double.BYTES, length);
+        int o = checkStrided(out, outStride, Double.BYTES, length);
+        for (int i = 0; i < length; i++) {
+            out.putDouble(
+                o + i * outStride,
+                initial.applyAsDouble(
+                    left.getDouble(l + i * leftStride),
+                    right.getDouble(r + i * rightStride)
+                )
+            );
+        }
+        return out;
+    }
+
+    public static ByteBuffer doubleBinaryToIntFunction(
+        DoubleBinaryToIntFunction initial,
+        ByteBuffer left,
+        int leftStride,
+        ByteBuffer right,
+        int rightStride,
+        ByteBuffer out,
+        int outStride,
+        int length
+    ) {
+        int l = checkStrided(left, leftStride, Double.BYTES, length);
+        int r = checkStrided(right, rightStride, Double.BYTES, length);
+        int o = checkStrided(out, outStride, Integer.BYTES, length);
+        for (int i = 0; i < length; i++) {
+            out.putInt(
+                o + i * outStride,
+                initial.applyAsInt(
+                    left.getDouble(l + i * leftStride),
+                    right.getDouble(r + i * rightStride)
+                )
+            );
+        }
+        return out;
+    }
+
+    public static ByteBuffer doubleBinaryToLongFunction(
+        DoubleBinaryToLongFunction initial,
+        ByteBuffer left,
+        int leftStride,
+        ByteBuffer right,
+        int rightStride,
+        ByteBuffer out,
+        int outStride,
+        int length
+    ) {
+        int l = checkStrided(left, leftStride, Double.BYTES, length);
+        int r = checkStrided(right, rightStride, Double.BYTES, length);
+        int o = checkStrided(out, outStride, Long.BYTES, length);
+        for (int i = 0; i < length; i++) {
+            out.putLong(
+                o + i * outStride,
+                initial.applyAsLong(
+                    left.getDouble(l + i * leftStride),
+                    right.getDouble(r + i * rightStride)
+                )
+            );
+        }
+        return out;
+    }
+
+    public static ByteBuffer intBinaryToDoubleFunction(
+        IntBinaryToDoubleFunction initial,
+        ByteBuffer left,
+        int leftStride,
+        ByteBuffer right,
+        int rightStride,
+        ByteBuffer out,
+        int outStride,
+        int length
+    ) {
+        int l = checkStrided(left, leftStride, Integer.BYTES, length);
+        int r = checkStrided(right, rightStride, Integer.BYTES, length);
+        int o = checkStrided(out, outStride, Double.BYTES, length);
+        for (int i = 0; i < length; i++) {
+            out.putDouble(
+                o + i * outStride,
+                initial.applyAsDouble(
+                    left.getInt(l + i * leftStride),
+                    right.getInt(r + i * rightStride)
+                )
+            );
+        }
+        return out;
+    }
+
+    public static ByteBuffer intBinaryOperator(
+        IntBinaryOperator initial,
+        ByteBuffer left,
+        int leftStride,
+        ByteBuffer right,
+        int rightStride,
+        ByteBuffer out,
+        int outStride,
+        int length
+    ) {
+        int l = checkStrided(left, leftStride, Integer.BYTES, length);
+        int r = checkStrided(right, rightStride, Integer.BYTES, length);
+        int o = checkStrided(out, outStride, Integer.BYTES, length);
+        for (int i = 0; i < length; i++) {
+            out.putInt(
+                o + i * outStride,
+                initial.applyAsInt(
+                    left.getInt(l + i * leftStride),
+                    right.getInt(r + i * rightStride)
+                )
+            );
+        }
+        return out;
+    }
+
+    public static ByteBuffer intBinaryToLongFunction(
+        IntBinaryToLongFunction initial,
+        ByteBuffer left,
+        int leftStride,
+        ByteBuffer right,
+        int rightStride,
+        ByteBuffer out,
+        int outStride,
+        int length
+    ) {
+        int l = checkStrided(left, leftStride, Integer.BYTES, length);
+        int r = checkStrided(right, rightStride, Integer.BYTES, length);
+        int o = checkStrided(out, outStride, Long.BYTES, length);
+        for (int i = 0; i < length; i++) {
+            out.putLong(
+                o + i * outStride,
+                initial.applyAsLong(
+                    left.getInt(l + i * leftStride),
+                    right.getInt(r + i * rightStride)
+                )
+            );
+        }
+        return out;
+    }
+
+    public static ByteBuffer longBinaryToDoubleFunction(
+        LongBinaryToDoubleFunction initial,
+        ByteBuffer left,
+        int leftStride,
+        ByteBuffer right,
+        int rightStride,
+        ByteBuffer out,
+        int outStride,
+        int length
+    ) {
+        int l = checkStrided(left, leftStride, Long.BYTES, length);
+        int r = checkStrided(right, rightStride, Long.BYTES, length);
+        int o = checkStrided(out, outStride, Double.BYTES, length);
+        for (int i = 0; i < length; i++) {
+            out.putDouble(
+                o + i * outStride,
+                initial.applyAsDouble(
+                    left.getLong(l + i * leftStride),
+                    right.getLong(r + i * rightStride)
+                )
+            );
+        }
+        return out;
+    }
+
+    public static ByteBuffer longBinaryToIntFunction(
+        LongBinaryToIntFunction initial,
+        ByteBuffer left,
+        int leftStride,
+        ByteBuffer right,
+        int rightStride,
+        ByteBuffer out,
+        int outStride,
+        int length
+    ) {
+        int l = checkStrided(left, leftStride, Long.BYTES, length);
+        int r = checkStrided(right, rightStride, Long.BYTES, length);
+        int o = checkStrided(out, outStride, Integer.BYTES, length);
+        for (int i = 0; i < length; i++) {
+            out.putInt(
+                o + i * outStride,
+                initial.applyAsInt(
+                    left.getLong(l + i * leftStride),
+                    right.getLong(r + i * rightStride)
+                )
+            );
+        }
+        return out;
+    }
+
+    public static ByteBuffer longBinaryOperator(
+        LongBinaryOperator initial,
+        ByteBuffer left,
+        int leftStride,
+        ByteBuffer right,
+        int rightStride,
+        ByteBuffer out,
+        int outStride,
+        int length
+    ) {
+        int l = checkStrided(left, leftStride, Long.BYTES, length);
+        int r = checkStrided(right, rightStride, Long.BYTES, length);
+        int o = checkStrided(out, outStride, Long.BYTES, length);
+        for (int i = 0; i < length; i++) {
+            out.putLong(
+                o + i * outStride,
+                initial.applyAsLong(
+                    left.getLong(l + i * leftStride),
+                    right.getLong(r + i * rightStride)
+                )
+            );
+        }
+        return out;
+    }
+
+    public static int doublePredicateSelect(
+        DoublePredicate initial,
+        ByteBuffer in,
+        int stride,
+        int length,
+        int[] selection
+    ) {
+        int from = checkStrided(in, stride, Double.BYTES, length);
+        Objects.checkFromIndexSize(0, length, selection.length);
+        int count = 0;
+        for (int i = 0; i < length; i++) {
+            selection[count] = i;
+            count += initial.test(in.getDouble(from + i * stride)) ? 1 : 0;
+        }
+        return count;
+    }
+
+    public static long[] doublePredicateBits(
+        DoublePredicate initial,
+        ByteBuffer in,
+        int stride,
+        int length,
+        long[] bits
+    ) {
+        int from = checkStrided(in, stride, Double.BYTES, length);
+        int words = Select.wordsFor(length);
+        Objects.checkFromIndexSize(0, words, bits.length);
+        for (int w = 0; w < words; w++) {
+            int base = w << 6;
+            int size = Math.min(64, length - base);
+            long word = 0L;
+            for (int b = 0; b < size; b++) {
+                int at = from + (base + b) * stride;
+                word |= (initial.test(in.getDouble(at)) ? 1L : 0L) << b;
+            }
+            bits[w] = word;
+        }
+        return bits;
+    }
+
+    public static int intPredicateSelect(
+        IntPredicate initial,
+        ByteBuffer in,
+        int stride,
+        int length,
+        int[] selection
+    ) {
+        int from = checkStrided(in, stride, Integer.BYTES, length);
+        Objects.checkFromIndexSize(0, length, selection.length);
+        int count = 0;
+        for (int i = 0; i < length; i++) {
+            selection[count] = i;
+            count += initial.test(in.getInt(from + i * stride)) ? 1 : 0;
+        }
+        return count;
+    }
+
+    public static long[] intPredicateBits(
+        IntPredicate initial,
+        ByteBuffer in,
+        int stride,
+        int length,
+        long[] bits
+    ) {
+        int from = checkStrided(in, stride, Integer.BYTES, length);
+        int words = Select.wordsFor(length);
+        Objects.checkFromIndexSize(0, words, bits.length);
+        for (int w = 0; w < words; w++) {
+            int base = w << 6;
+            int size = Math.min(64, length - base);
+            long word = 0L;
+            for (int b = 0; b < size; b++) {
+                int at = from + (base + b) * stride;
+                word |= (initial.test(in.getInt(at)) ? 1L : 0L) << b;
+            }
+            bits[w] = word;
+        }
+        return bits;
+    }
+
+    public static int longPredicateSelect(
+        LongPredicate initial,
+        ByteBuffer in,
+        int stride,
+        int length,
+        int[] selection
+    ) {
+        int from = checkStrided(in, stride, Long.BYTES, length);
+        Objects.checkFromIndexSize(0, length, selection.length);
+        int count = 0;
+        for (int i = 0; i < length; i++) {
+            selection[count] = i;
+            count += initial.test(in.getLong(from + i * stride)) ? 1 : 0;
+        }
+        return count;
+    }
+
+    public static long[] longPredicateBits(
+        LongPredicate initial,
+        ByteBuffer in,
+        int stride,
+        int length,
+        long[] bits
+    ) {
+        int from = checkStrided(in, stride, Long.BYTES, length);
+        int words = Select.wordsFor(length);
+        Objects.checkFromIndexSize(0, words, bits.length);
+        for (int w = 0; w < words; w++) {
+            int base = w << 6;
+            int size = Math.min(64, length - base);
+            long word = 0L;
+            for (int b = 0; b < size; b++) {
+                int at = from + (base + b) * stride;
+                word |= (initial.test(in.getLong(at)) ? 1L : 0L) << b;
+            }
+            bits[w] = word;
+        }
+        return bits;
+    }
+}
@@ -0,0 +1,647 @@
+package so.dang.cool.z.internal.bulk;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleToIntFunction;
+import java.util.function.DoubleToLongFunction;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.Function;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.IntToLongFunction;
+import java.util.function.IntUnaryOperator;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongToDoubleFunction;
+import java.util.function.LongToIntFunction;
+import java.util.function.LongUnaryOperator;
+import so.dang.cool.z.arithmetic.Arithmetic;
+import so.dang.cool.z.arithmetic.DoubleArithmetic;
+import so.dang.cool.z.arithmetic.IntArithmetic;
+import so.dang.cool.z.arithmetic.LongArithmetic;
+import so.dang.cool.z.function.DoubleBinaryToIntFunction;
+import so.dang.cool.z.function.DoubleBinaryToLongFunction;
+import so.dang.cool.z.function.IntBinaryToDoubleFunction;
+import so.dang.cool.z.function.IntBinaryToLongFunction;
+import so.dang.cool.z.function.LongBinaryToDoubleFunction;
+import so.dang.cool.z.function.LongBinaryToIntFunction;
+
+/**
+ * Bulk application of primitive functions over arrays. Each loop is a plain
+ * counted loop over bounds-checked ranges, which the JIT can unroll and hoist
+ * range checks out of. Ranges of the same array should either be identical or
+ * not overlap.
+ */
+public final class Bulk {
+
+    /**
+     * Elements per pass when applying several stages, small enough that a
+     * chunk stays in L1 cache between stages.
+     */
+    public static final int CHUNK_SIZE = 1024;
+
+    private Bulk() {}
+
+    public static List<Object> functions(
+        Function<Object, Object>[] stages,
+        List<?> in,
+        int chunkSize
+    ) {
+        checkChunkSize(chunkSize);
+        Object[] values = in.toArray();
+        applyInPlace(stages, values, 0, values.length, chunkSize);
+        return Collections.unmodifiableList(Arrays.asList(values));
+    }
+
+    public static Object[] functions(
+        Function<Object, Object>[] stages,
+        Object[] in,
+        Object[] out,
+        int chunkSize
+    ) {
+        checkChunkSize(chunkSize);
+        Objects.checkFromIndexSize(0, in.length, out.length);
+        applyBuffered(stages, in, out, 0, in.length, chunkSize);
+        return out;
+    }
+
+    public static List<Object> parallelFunctions(
+        Function<Object, Object>[] stages,
+        List<?> in,
+        ForkJoinPool pool
+    ) {
+        Object[] values = in.toArray();
+        Parallel.forEachRange(
+            pool,
+            values.length,
+            values.length,
+            (int from, int to) ->
+                applyInPlace(stages, values, from, to, CHUNK_SIZE)
+        );
+        return Collections.unmodifiableList(Arrays.asList(values));
+    }
+
+    public static Object[] parallelFunctions(
+        Function<Object, Object>[] stages,
+        Object[] in,
+        Object[] out,
+        ForkJoinPool pool
+    ) {
+        Parallel.forEachRange(
+            pool,
+            in.length,
+            out.length,
+            (int from, int to) ->
+                applyBuffered(stages, in, out, from, to, CHUNK_SIZE)
+        );
+        return out;
+    }
+
+    public static DoubleArithmetic[] programOf(DoubleUnaryOperator[] stages) {
+        DoubleArithmetic[] program = new DoubleArithmetic[stages.length];
+        for (int i = 0; i < stages.length; i++) {
+            if (!(stages[i] instanceof DoubleArithmetic)) {
+                return null;
+            }
+            program[i] = (DoubleArithmetic) stages[i];
+        }
+        return program;
+    }
+
+    public static IntArithmetic[] programOf(IntUnaryOperator[] stages) {
+        IntArithmetic[] program = new IntArithmetic[stages.length];
+        for (int i = 0; i < stages.length; i++) {
+            if (!(stages[i] instanceof IntArithmetic)) {
+                return null;
+            }
+            program[i] = (IntArithmetic) stages[i];
+        }
+        return program;
+    }
+
+    public static LongArithmetic[] programOf(LongUnaryOperator[] stages) {
+        LongArithmetic[] program = new LongArithmetic[stages.length];
+        for (int i = 0; i < stages.length; i++) {
+            if (!(stages[i] instanceof LongArithmetic)) {
+                return null;
+            }
+            program[i] = (LongArithmetic) stages[i];
+        }
+        return program;
+    }
+
+    public static double[] doubleArithmetic(
+        DoubleArithmetic[] program,
+        double[] in,
+        int inOffset,
+        double[] out,
+        int outOffset,
+        int length
+    ) {
+        Objects.checkFromIndexSize(inOffset, length, in.length);
+        Objects.checkFromIndexSize(outOffset, length, out.length);
+        return Arithmetic
+            .kernel()
+            .applyAll(program, in, inOffset, out, outOffset, length);
+    }
+
+    public static int[] intArithmetic(
+        IntArithmetic[] program,
+        int[] in,
+        int inOffset,
+        int[] out,
+        int outOffset,
+        int length
+    ) {
+        Objects.checkFromIndexSize(inOffset, length, in.length);
+        Objects.checkFromIndexSize(outOffset, length, out.length);
+        return Arithmetic
+            .kernel()
+            .applyAll(program, in, inOffset, out, outOffset, length);
+    }
+
+    public static long[] longArithmetic(
+        LongArithmetic[] program,
+        long[] in,
+        int inOffset,
+        long[] out,
+        int outOffset,
+        int length
+    ) {
+        Objects.checkFromIndexSize(inOffset, length, in.length);
+        Objects.checkFromIndexSize(outOffset, length, out.length);
+        return Arithmetic
+            .kernel()
+            .applyAll(program, in, inOffset, out, outOffset, length);
+    }
+
+    private static void applyInPlace(
+        Function<Object, Object>[] stages,
+        Object[] values,
+        int from,
+        int to,
+        int chunkSize
+    ) {
+        for (int done = from; done < to;) {
+            int chunk = Math.min(chunkSize, to - done);
+            applyStages(stages, values, done, chunk);
+            done += chunk;
+        }
+    }
+
+    private static void applyBuffered(
+        Function<Object, Object>[] stages,
+        Object[] in,
+        Object[] out,
+        int from,
+        int to,
+        int chunkSize
+    ) {
+        Object[] buffer = new Object[Math.min(chunkSize, to - from)];
+        for (int done = from; done < to;) {
+            int chunk = Math.min(chunkSize, to - done);
+            System.arraycopy(in, done, buffer, 0, chunk);
+            applyStages(stages, buffer, 0, chunk);
+            System.arraycopy(buffer, 0, out, done, chunk);
+            done += chunk;
+        }
+    }
+
+    private static void applyStages(
+        Function<Object, Object>[] stages,
+        Object[] values,
+        int offset,
+        int length
+    ) {
+        for (Function<Object, Object> stage : stages) {
+            for (int i = offset; i < offset + length; i++) {
+                values[i] = stage.apply(values[i]);
+            }
+        }
+    }
+
+    private static void checkChunkSize(int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException(
+                "chunkSize must be positive, was " + chunkSize
+            );
+        }
+    }
+
+    public static double[] doubleUnaryOperator(
+        DoubleUnaryOperator initial,
+        double[] in,
+        int inOffset,
+        double[] out,
+        int outOffset,
+        int length
+    ) {
+        Objects.checkFromIndexSize(inOffset, length, in.length);
+        Objects.checkFromIndexSize(outOffset, length, out.length);
+        for (int i = 0; i < length; i++) {
+            out[outOffset + i] = initial.applyAsDouble(in[inOffset + i]);
+        }
+        return out;
+    }
+
+    public static double[] doubleUnaryOperators(
+        DoubleUnaryOperator[] stages,
+        double[] in,
+        int inOffset,
+        double[] out,
+        int outOffset,
+        int length
+    ) {
+        Objects.checkFromIndexSize(inOffset, length, in.length);
+        Objects.checkFromIndexSize(outOffset, length, out.length);
+        for (int done = 0; done < length; done += CHUNK_SIZE) {
+            int block = Math.min(CHUNK_SIZE, length - done);
+            int at = outOffset + done;
+            doubleUnaryOperator(stages[0], in, inOffset + done, out, at, block);
+            for (int s = 1; s < stages.length; s++) {
+                doubleUnaryOperator(stages[s], out, at, out, at, block);
+            }
+        }
+        return out;
+    }
+
+    public static int[] intUnaryOperator(
+        IntUnaryOperator initial,
+        int[] in,
+        int inOffset,
+        int[] out,
+        int outOffset,
+        int length
+    ) {
+        Objects.checkFromIndexSize(inOffset, length, in.length);
+        Objects.checkFromIndexSize(outOffset, length, out.length);
+        for (int i = 0; i < length; i++) {
+            out[outOffset + i] = initial.applyAsInt(in[inOffset + i]);
+        }
+        return out;
+    }
+
+    public static int[] intUnaryOperators(
+        IntUnaryOperator[] stages,
+        int[] in,
+        int inOffset,
+        int[] out,
+        int outOffset,
+        int length
+    ) {
+        Objects.checkFromIndexSize(inOffset, length, in.length);
+        Objects.checkFromIndexSize(outOffset, length, out.length);
+        for (int done = 0; done < length; done += CHUNK_SIZE) {
+            int block = Math.min(CHUNK_SIZE, length - done);
+            int at = outOffset + done;
+            intUnaryOperator(stages[0], in, inOffset + done, out, at, block);
+            for (int s = 1; s < stages.length; s++) {
+                intUnaryOperator(stages[s], out, at, out, at, block);
+            }
+        }
+        return out;
+    }
+
+    public static long[] longUnaryOperator(
+        LongUnaryOperator initial,
+        long[] in,
+        int inOffset,
+        long[] out,
+        int outOffset,
+        int length
+    ) {
+        Objects.checkFromIndexSize(inOffset, length, in.length);
+        Objects.checkFromIndexSize(outOffset, length, out.length);
+        for (int i = 0; i < length; i++) {
+            out[outOffset + i] = initial.applyAsLong(in[inOffset + i]);
+        }
+        return out;
+    }
+
+    public static long[] longUnaryOperators(
+        LongUnaryOperator[] stages,
+        long[] in,
+        int inOffset,
+        long[] out,
+        int outOffset,
+        int length
+    ) {
+        Objects.checkFromIndexSize(inOffset, length, in.length);
+        Objects.checkFromIndexSize(outOffset, length, out.length);
+        for (int done = 0; done < length; done += CHUNK_SIZE) {
+            int block = Math.min(CHUNK_SIZE, length - done);
+            int at = outOffset + done;
+            longUnaryOperator(stages[0], in, inOffset + done, out, at, block);
+            for (int s = 1; s < stages.length; s++) {
+                longUnaryOperator(stages[s], out, at, out, at, block);
+            }
+        }
+        return out;
+    }
+
+    public static int[] doubleToIntFunction(
+        DoubleToIntFunction initial,
+        double[] in,
+        int inOffset,
+        int[] out,
+        int outOffset,
+        int length
+    ) {
+        Objects.checkFromIndexSize(inOffset, length, in.length);
+        Objects.checkFromIndexSize(outOffset, length, out.length);
+        for (int i = 0; i < length; i++) {
+            out[outOffset + i] = initial.applyAsInt(in[inOffset + i]);
+        }
+        return out;
+    }
+
+    public static long[] doubleToLongFunction(
+        DoubleToLongFunction initial,
+        double[] in,
+        int inOffset,
+        long[] out,
+        int outOffset,
+        int length
+    ) {
+        Objects.checkFromIndexSize(inOffset, length, in.length);
+        Objects.checkFromIndexSize(outOffset, length, out.length);
+        for (int i = 0; i < length; i++) {
+            out[outOffset + i] = initial.applyAsLong(in[inOffset + i]);
+        }
+        return out;
+    }
+
+    public static double[] intToDoubleFunction(
+        IntToDoubleFunction initial,
+        int[] in,
+        int inOffset,
+        double[] out,
+        int outOffset,
+        int length
+    ) {
+        Objects.checkFromIndexSize(inOffset, length, in.length);
+        Objects.checkFromIndexSize(outOffset, length, out.length);
+        for (int i = 0; i < length; i++) {
+            out[outOffset + i] = initial.applyAsDouble(in[inOffset + i]);
+        }
+        return out;
+    }
+
+    public static long[] intToLongFunction(
+        IntToLongFunction initial,
+        int[] in,
+        int inOffset,
+        long[] out,
+        int outOffset,
+        int length
+    ) {
+        Objects.checkFromIndexSize(inOffset, length, in.length);
+        Objects.checkFromIndexSize(outOffset, length, out.length);
+        for (int i = 0; i < length; i++) {
+            out[outOffset + i] = initial.applyAsLong(in[inOffset + i]);
+        }
+        return out;
+    }
+
+    public static double[] longToDoubleFunction(
+        LongToDoubleFunction initial,
+        long[] in,
+        int inOffset,
+        double[] out,
+        int outOffset,
+        int length
+    ) {
+        Objects.checkFromIndexSize(inOffset, length, in.length);
+        Objects.checkFromIndexSize(outOffset, length, out.length);
+        for (int i = 0; i < length; i++) {
+            out[outOffset + i] = initial.applyAsDouble(in[inOffset + i]);
+        }
+        return out;
+    }
+
+    public static int[] longToIntFunction(
+        LongToIntFunction initial,
+        long[] in,
+        int inOffset,
+        int[] out,
+        int outOffset,
+        int length
+    ) {
+        Objects.checkFromIndexSize(inOffset, length, in.length);
+        Objects.checkFromIndexSize(outOffset, length, out.length);
+        for (int i = 0; i < length; i++) {
+            out[outOffset + i] = initial.applyAsInt(in[inOffset + i]);
+        }
+        return out;
+    }
+
+    public static double[] doubleBinaryOperator(
+        DoubleBinaryOperator initial,
+        double[] left,
+        int leftOffset,
+        double[] right,
+        int rightOffset,
+        double[] out,
+        int outOffset,
+        int length
+    ) {
+        Objects.checkFromIndexSize(leftOffset, length, left.length);
+        Objects.checkFromIndexSize(rightOffset, length, right.length);
+        Objects.checkFromIndexSize(outOffset, length, out.length);
+        for (int i = 0; i < length; i++) {
+            out[outOffset + i] =
+                initial.applyAsDouble(
+                    left[leftOffset + i],
+                    right[rightOffset + i]
+                );
+        }
+        return out;
+    }
+
+    public static int[] doubleBinaryToIntFunction(
+        DoubleBinaryToIntFunction initial,
+        double[] left,
+        int leftOffset,
+        double[] right,
+        int rightOffset,
+        int[] out,
+        int outOffset,
+        int length
+    ) {
+        Objects.checkFromIndexSize(leftOffset, length, left.length);
+        Objects.checkFromIndexSize(rightOffset, length, right.length);
+        Objects.checkFromIndexSize(outOffset, length, out.length);
+        for (int i = 0; i < length; i++) {
+            out[outOffset + i] =
+                initial.applyAsInt(
+                    left[leftOffset + i],
+                    right[rightOffset + i]
+                );
+        }
+        return out;
+    }
+
+    public static long[] doubleBinaryToLongFunction(
+        DoubleBinaryToLongFunction initial,
+        double[] left,
+        int leftOffset,
+        double[] right,
+        int rightOffset,
+        long[] out,
+        int outOffset,
+        int length
+    ) {
+        Objects.checkFromIndexSize(leftOffset, length, left.length);
+        Objects.checkFromIndexSize(rightOffset, length, right.length);
+        Objects.checkFromIndexSize(outOffset, length, out.length);
+        for (int i = 0; i < length; i++) {
+            out[outOffset + i] =
+                initial.applyAsLong(
+                    left[leftOffset + i],
+                    right[rightOffset + i]
+                );
+        }
+        return out;
+    }
+
+    public static int[] intBinaryOperator(
+        IntBinaryOperator initial,
+        int[] left,
+        int leftOffset,
+        int[] right,
+        int rightOffset,
+        int[] out,
+        int outOffset,
+        int length
+    ) {
+        Objects.checkFromIndexSize(leftOffset, length, left.length);
+        Objects.checkFromIndexSize(rightOffset, length, right.length);
+        Objects.checkFromIndexSize(outOffset, length, out.length);
+        for (int i = 0; i < length; i++) {
+            out[outOffset + i] =
+                initial.applyAsInt(
+                    left[leftOffset + i],
+                    right[rightOffset + i]
+                );
+        }
+        return out;
+    }
+
+    public static double[] intBinaryToDoubleFunction(
+        IntBinaryToDoubleFunction initial,
+        int[] left,
+        int leftOffset,
+        int[] right,
+        int rightOffset,
+        double[] out,
+        int outOffset,
+        int length
+    ) {
+        Objects.checkFromIndexSize(leftOffset, length, left.length);
+        Objects.checkFromIndexSize(rightOffset, length, right.length);
+        Objects.checkFromIndexSize(outOffset, length, out.length);
+        for (int i = 0; i < length; i++) {
+            out[outOffset + i] =
+                initial.applyAsDouble(
+                    left[leftOffset + i],
+                    right[rightOffset + i]
+                );
+        }
+        return out;
+    }
+
+    public static long[] intBinaryToLongFunction(
+        IntBinaryToLongFunction initial,
+        int[] left,
+        int leftOffset,
+        int[] right,
+        int rightOffset,
+        long[] out,
+        int outOffset,
+        int length
+    ) {
+        Objects.checkFromIndexSize(leftOffset, length, left.length);
+        Objects.checkFromIndexSize(rightOffset, length, right.length);
+        Objects.checkFromIndexSize(outOffset, length, out.length);
+        for (int i = 0; i < length; i++) {
+            out[outOffset + i] =
+                initial.applyAsLong(
+                    left[leftOffset + i],
+                    right[rightOffset + i]
+                );
+        }
+        return out;
+    }
+
+    public static long[] longBinaryOperator(
+        LongBinaryOperator initial,
+        long[] left,
+        int leftOffset,
+        long[] right,
+        int rightOffset,
+        long[] out,
+        int outOffset,
+        int length
+    ) {
+        Objects.checkFromIndexSize(leftOffset, length, left.length);
+        Objects.checkFromIndexSize(rightOffset, length, right.length);
+        Objects.checkFromIndexSize(outOffset, length, out.length);
+        for (int i = 0; i < length; i++) {
+            out[outOffset + i] =
+                initial.applyAsLong(
+                    left[leftOffset + i],
+                    right[rightOffset + i]
+                );
+        }
+        return out;
+    }
+
+    public static double[] longBinaryToDoubleFunction(
+        LongBinaryToDoubleFunction initial,
+        long[] left,
+        int leftOffset,
+        long[] right,
+        int rightOffset,
+        double[] out,
+        int outOffset,
+        int length
+    ) {
+        Objects.checkFromIndexSize(leftOffset, length, left.length);
+        Objects.checkFromIndexSize(rightOffset, length, right.length);
+        Objects.checkFromIndexSize(outOffset, length, out.length);
+        for (int i = 0; i < length; i++) {
+            out[outOffset + i] =
+                initial.applyAsDouble(
+                    left[leftOffset + i],
+                    right[rightOffset + i]
+                );
+        }
+        return out;
+    }
+
+    public static int[] longBinaryToIntFunction(
+        LongBinaryToIntFunction initial,
+        long[] left,
+        int leftOffset,
+        long[] right,
+        int rightOffset,
+        int[] out,
+        int outOffset,
+        int length
+    ) {
+        Objects.checkFromIndexSize(leftOffset, length, left.length);
+        Objects.checkFromIndexSize(rightOffset, length, right.length);
+        Objects.checkFromIndexSize(outOffset, length, out.length);
+        for (int i = 0; i < length; i++) {
+            out[outOffset + i] =
+                initial.applyAsInt(
+                    left[leftOffset + i],
+                    right[rightOffset + i]
+                );
+        }
+        return out;
+    }
+}
@@ -0,0 +1,200 @@
+package so.dang.cool.z.internal.bulk;
+
+import static java.nio.channels.FileChannel.MapMode.READ_ONLY;
+import static java.nio.channels.FileChannel.MapMode.READ_WRITE;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntConsumer;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * Bulk application over flat files of primitives, mapped a window at a time
+ * with {@link FileChannel#map}. Values move from the input mapping to the
+ * output mapping through one {@link Bulk#CHUNK_SIZE} buffer per window, so the
+ * heap never holds more than a chunk of a file. Naming the same file as input
+ * and output transforms it in place.
+ */
+public final class Mapped {
+
+    /**
+     * Bytes mapped at a time. Windows start at multiples of this, so they are
+     * aligned to any common page size and to every primitive width.
+     */
+    public static final int WINDOW_BYTES = 1 << 22;
+
+    private Mapped() {}
+
+    /**
+     * Maps {@code in} and {@code out} a window at a time, passing each chunk
+     * of doubles to {@code chunk} to transform in place. Windows are
+     * transformed in the given pool, or in the calling thread if it is null.
+     */
+    public static Path doubles(
+        Path in,
+        Path out,
+        ByteOrder order,
+        ForkJoinPool pool,
+        ObjIntConsumer<double[]> chunk
+    ) throws IOException {
+        Objects.requireNonNull(chunk);
+        return transform(
+            in,
+            out,
+            Double.BYTES,
+            pool,
+            (ByteBuffer source, ByteBuffer target) -> {
+                DoubleBuffer from = source.order(order).asDoubleBuffer();
+                DoubleBuffer to = target.order(order).asDoubleBuffer();
+                double[] values = new double[Bulk.CHUNK_SIZE];
+                while (from.hasRemaining()) {
+                    int length = Math.min(values.length, from.remaining());
+                    from.get(values, 0, length);
+                    chunk.accept(values, length);
+                    to.put(values, 0, length);
+                }
+            }
+        );
+    }
+
+    /**
+     * Maps {@code in} and {@code out} a window at a time, passing each chunk
+     * of ints to {@code chunk} to transform in place. Windows are transformed
+     * in the given pool, or in the calling thread if it is null.
+     */
+    public static Path ints(
+        Path in,
+        Path out,
+        ByteOrder order,
+        ForkJoinPool pool,
+        ObjIntConsumer<int[]> chunk
+    ) throws IOException {
+        Objects.requireNonNull(chunk);
+        return transform(
+            in,
+            out,
+            Integer.BYTES,
+            pool,
+            (ByteBuffer source, ByteBuffer target) -> {
+                IntBuffer from = source.order(order).asIntBuffer();
+                IntBuffer to = target.order(order).asIntBuffer();
+                int[] values = new int[Bulk.CHUNK_SIZE];
+                while (from.hasRemaining()) {
+                    int length = Math.min(values.length, from.remaining());
+                    from.get(values, 0, length);
+                    chunk.accept(values, length);
+                    to.put(values, 0, length);
+                }
+            }
+        );
+    }
+
+    /**
+     * Maps {@code in} and {@code out} a window at a time, passing each chunk
+     * of longs to {@code chunk} to transform in place. Windows are transformed
+     * in the given pool, or in the calling thread if it is null.
+     */
+    public static Path longs(
+        Path in,
+        Path out,
+        ByteOrder order,
+        ForkJoinPool pool,
+        ObjIntConsumer<long[]> chunk
+    ) throws IOException {
+        Objects.requireNonNull(chunk);
+        return transform(
+            in,
+            out,
+            Long.BYTES,
+            pool,
+            (ByteBuffer source, ByteBuffer target) -> {
+                LongBuffer from = source.order(order).asLongBuffer();
+                LongBuffer to = target.order(order).asLongBuffer();
+                long[] values = new long[Bulk.CHUNK_SIZE];
+                while (from.hasRemaining()) {
+                    int length = Math.min(values.length, from.remaining());
+                    from.get(values, 0, length);
+                    chunk.accept(values, length);
+                    to.put(values, 0, length);
+                }
+            }
+        );
+    }
+
+    @FunctionalInterface
+    private interface Window {
+        void transform(ByteBuffer source, ByteBuffer target);
+    }
+
+    private static Path transform(
+        Path in,
+        Path out,
+        int width,
+        ForkJoinPool pool,
+        Window window
+    ) throws IOException {
+        Objects.requireNonNull(out);
+        boolean inPlace = Files.exists(out) && Files.isSameFile(in, out);
+        try (
+            FileChannel source = inPlace
+                ? FileChannel.open(in, READ, WRITE)
+                : FileChannel.open(in, READ);
+            FileChannel target = inPlace
+                ? source
+                : FileChannel.open(out, CREATE, READ, WRITE, TRUNCATE_EXISTING)
+        ) {
+            long size = source.size();
+            if (size % width != 0) {
+                throw new IllegalArgumentException(
+                    in + " holds " + size + " bytes, not whole " + width + "s"
+                );
+            }
+            if (!inPlace && size > 0) {
+                target.write(ByteBuffer.allocate(1), size - 1);
+            }
+
+            IntConsumer each = (int index) -> {
+                long position = (long) index * WINDOW_BYTES;
+                long bytes = Math.min(WINDOW_BYTES, size - position);
+                try {
+                    window.transform(
+                        source.map(READ_ONLY, position, bytes),
+                        target.map(READ_WRITE, position, bytes)
+                    );
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            };
+
+            int windows = Math.toIntExact(
+                (size + WINDOW_BYTES - 1) / WINDOW_BYTES
+            );
+            try {
+                if (pool == null) {
+                    for (int i = 0; i < windows; i++) {
+                        each.accept(i);
+                    }
+                } else {
+                    Parallel.forEachIndex(pool, windows, each);
+                }
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        }
+        return out;
+    }
+}
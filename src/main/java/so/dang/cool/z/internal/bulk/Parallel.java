@@ -0,0 +1,93 @@
+package so.dang.cool.z.internal.bulk;
+
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+import so.dang.cool.z.function.IntBiConsumer;
+
+/**
+ * Fork/join splitting of index ranges. Each leaf applies a range of its own,
+ * so tasks share nothing mutable beyond disjoint slices of the output.
+ */
+public final class Parallel {
+
+    /**
+     * Smallest range worth a task of its own, the same floor that
+     * {@code Arrays.parallelSort} uses.
+     */
+    private static final int MIN_GRAIN = 1 << 13;
+
+    private Parallel() {}
+
+    /**
+     * Splits {@code [0, length)} into ranges of at least {@code MIN_GRAIN},
+     * about four per worker, and accepts each as {@code (from, to)} in the
+     * given pool.
+     */
+    public static void forEachRange(
+        ForkJoinPool pool,
+        int length,
+        int outLength,
+        IntBiConsumer range
+    ) {
+        Objects.requireNonNull(range);
+        Objects.checkFromIndexSize(0, length, outLength);
+        int grain = Math.max(MIN_GRAIN, length / (pool.getParallelism() << 2));
+        pool.invoke(new RangeTask(range, 0, length, grain));
+    }
+
+    /**
+     * Accepts each index of {@code [0, count)} as a task of its own in the
+     * given pool, for work that is already coarse, like a mapped window.
+     */
+    public static void forEachIndex(
+        ForkJoinPool pool,
+        int count,
+        IntConsumer index
+    ) {
+        Objects.requireNonNull(index);
+        pool.invoke(
+            new RangeTask(
+                (int from, int to) -> {
+                    for (int i = from; i < to; i++) {
+                        index.accept(i);
+                    }
+                },
+                0,
+                count,
+                1
+            )
+        );
+    }
+
+    private static final class RangeTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient IntBiConsumer range;
+        private final int from;
+        private final int to;
+        private final int grain;
+
+        RangeTask(IntBiConsumer range, int from, int to, int grain) {
+            this.range = range;
+            this.from = from;
+            this.to = to;
+            this.grain = grain;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= grain) {
+                range.accept(from, to);
+            } else {
+                int mid = (from + to) >>> 1;
+                invokeAll(
+                    new RangeTask(range, from, mid, grain),
+                    new RangeTask(range, mid, to, grain)
+                );
+            }
+        }
+    }
+}
@@ -0,0 +1,440 @@
+package so.dang.cool.z.internal.bulk;
+
+import java.util.Objects;
+import java.util.function.DoublePredicate;
+import java.util.function.IntPredicate;
+import java.util.function.LongPredicate;
+import java.util.function.Predicate;
+
+/**
+ * Bulk evaluation of predicates into selection vectors and bitsets.
+ *
+ * <p>A selection vector is an {@code int[]} of matching indices, filled from
+ * the front, alongside a count of how many are in use. A bitset holds one bit
+ * per element of a range, in the layout of {@link java.util.BitSet#valueOf(
+ * long[])}, so bit {@code i} is element {@code offset + i}.
+ *
+ * <p>Refining a selection, and-ing into a bitset, or or-ing into a bitset only
+ * tests elements whose outcome is still open, like {@code &&} and {@code ||}
+ * for each element.
+ */
+public final class Select {
+
+    private Select() {}
+
+    public static int wordsFor(int length) {
+        return (int) ((length + 63L) >>> 6);
+    }
+
+    private static int checkBits(
+        int inLength,
+        int offset,
+        int length,
+        long[] bits
+    ) {
+        Objects.checkFromIndexSize(offset, length, inLength);
+        int words = wordsFor(length);
+        Objects.checkFromIndexSize(0, words, bits.length);
+        return words;
+    }
+
+    private static long maskOf(int remaining) {
+        return remaining < 64 ? (1L << remaining) - 1 : -1L;
+    }
+
+    public static <A> int predicateSelect(
+        Predicate<A> initial,
+        A[] in,
+        int offset,
+        int length,
+        int[] selection
+    ) {
+        Objects.checkFromIndexSize(offset, length, in.length);
+        Objects.checkFromIndexSize(0, length, selection.length);
+        int count = 0;
+        for (int i = offset; i < offset + length; i++) {
+            selection[count] = i;
+            count += initial.test(in[i]) ? 1 : 0;
+        }
+        return count;
+    }
+
+    public static <A> int predicateRefine(
+        Predicate<A> initial,
+        A[] in,
+        int[] selection,
+        int count
+    ) {
+        Objects.checkFromIndexSize(0, count, selection.length);
+        int kept = 0;
+        for (int s = 0; s < count; s++) {
+            int i = selection[s];
+            selection[kept] = i;
+            kept += initial.test(in[i]) ? 1 : 0;
+        }
+        return kept;
+    }
+
+    public static <A> long[] predicateBits(
+        Predicate<A> initial,
+        A[] in,
+        int offset,
+        int length,
+        long[] bits
+    ) {
+        int words = checkBits(in.length, offset, length, bits);
+        for (int w = 0; w < words; w++) {
+            int from = offset + (w << 6);
+            int size = Math.min(64, length - (w << 6));
+            long word = 0L;
+            for (int b = 0; b < size; b++) {
+                word |= (initial.test(in[from + b]) ? 1L : 0L) << b;
+            }
+            bits[w] = word;
+        }
+        return bits;
+    }
+
+    public static <A> long[] predicateBitsAnd(
+        Predicate<A> initial,
+        A[] in,
+        int offset,
+        int length,
+        long[] bits
+    ) {
+        int words = checkBits(in.length, offset, length, bits);
+        for (int w = 0; w < words; w++) {
+            int from = offset + (w << 6);
+            long word = bits[w];
+            long rest = word & maskOf(length - (w << 6));
+            for (; rest != 0L; rest &= rest - 1) {
+                int b = Long.numberOfTrailingZeros(rest);
+                if (!initial.test(in[from + b])) {
+                    word &= ~(1L << b);
+                }
+            }
+            bits[w] = word;
+        }
+        return bits;
+    }
+
+    public static <A> long[] predicateBitsOr(
+        Predicate<A> initial,
+        A[] in,
+        int offset,
+        int length,
+        long[] bits
+    ) {
+        int words = checkBits(in.length, offset, length, bits);
+        for (int w = 0; w < words; w++) {
+            int from = offset + (w << 6);
+            long word = bits[w];
+            long rest = ~word & maskOf(length - (w << 6));
+            for (; rest != 0L; rest &= rest - 1) {
+                int b = Long.numberOfTrailingZeros(rest);
+                if (initial.test(in[from + b])) {
+                    word |= 1L << b;
+                }
+            }
+            bits[w] = word;
+        }
+        return bits;
+    }
+
+    public static int doublePredicateSelect(
+        DoublePredicate initial,
+        double[] in,
+        int offset,
+        int length,
+        int[] selection
+    ) {
+        Objects.checkFromIndexSize(offset, length, in.length);
+        Objects.checkFromIndexSize(0, length, selection.length);
+        int count = 0;
+        for (int i = offset; i < offset + length; i++) {
+            selection[count] = i;
+            count += initial.test(in[i]) ? 1 : 0;
+        }
+        return count;
+    }
+
+    public static int doublePredicateRefine(
+        DoublePredicate initial,
+        double[] in,
+        int[] selection,
+        int count
+    ) {
+        Objects.checkFromIndexSize(0, count, selection.length);
+        int kept = 0;
+        for (int s = 0; s < count; s++) {
+            int i = selection[s];
+            selection[kept] = i;
+            kept += initial.test(in[i]) ? 1 : 0;
+        }
+        return kept;
+    }
+
+    public static long[] doublePredicateBits(
+        DoublePredicate initial,
+        double[] in,
+        int offset,
+        int length,
+        long[] bits
+    ) {
+        int words = checkBits(in.length, offset, length, bits);
+        for (int w = 0; w < words; w++) {
+            int from = offset + (w << 6);
+            int size = Math.min(64, length - (w << 6));
+            long word = 0L;
+            for (int b = 0; b < size; b++) {
+                word |= (initial.test(in[from + b]) ? 1L : 0L) << b;
+            }
+            bits[w] = word;
+        }
+        return bits;
+    }
+
+    public static long[] doublePredicateBitsAnd(
+        DoublePredicate initial,
+        double[] in,
+        int offset,
+        int length,
+        long[] bits
+    ) {
+        int words = checkBits(in.length, offset, length, bits);
+        for (int w = 0; w < words; w++) {
+            int from = offset + (w << 6);
+            long word = bits[w];
+            long rest = word & maskOf(length - (w << 6));
+            for (; rest != 0L; rest &= rest - 1) {
+                int b = Long.numberOfTrailingZeros(rest);
+                if (!initial.test(in[from + b])) {
+                    word &= ~(1L << b);
+                }
+            }
+            bits[w] = word;
+        }
+        return bits;
+    }
+
+    public static long[] doublePredicateBitsOr(
+        DoublePredicate initial,
+        double[] in,
+        int offset,
+        int length,
+        long[] bits
+    ) {
+        int words = checkBits(in.length, offset, length, bits);
+        for (int w = 0; w < words; w++) {
+            int from = offset + (w << 6);
+            long word = bits[w];
+            long rest = ~word & maskOf(length - (w << 6));
+            for (; rest != 0L; rest &= rest - 1) {
+                int b = Long.numberOfTrailingZeros(rest);
+                if (initial.test(in[from + b])) {
+                    word |= 1L << b;
+                }
+            }
+            bits[w] = word;
+        }
+        return bits;
+    }
+
+    public static int intPredicateSelect(
+        IntPredicate initial,
+        int[] in,
+        int offset,
+        int length,
+        int[] selection
+    ) {
+        Objects.checkFromIndexSize(offset, length, in.length);
+        Objects.checkFromIndexSize(0, length, selection.length);
+        int count = 0;
+        for (int i = offset; i < offset + length; i++) {
+            selection[count] = i;
+            count += initial.test(in[i]) ? 1 : 0;
+        }
+        return count;
+    }
+
+    public static int intPredicateRefine(
+        IntPredicate initial,
+        int[] in,
+        int[] selection,
+        int count
+    ) {
+        Objects.checkFromIndexSize(0, count, selection.length);
+        int kept = 0;
+        for (int s = 0; s < count; s++) {
+            int i = selection[s];
+            selection[kept] = i;
+            kept += initial.test(in[i]) ? 1 : 0;
+        }
+        return kept;
+    }
+
+    public static long[] intPredicateBits(
+        IntPredicate initial,
+        int[] in,
+        int offset,
+        int length,
+        long[] bits
+    ) {
+        int words = checkBits(in.length, offset, length, bits);
+        for (int w = 0; w < words; w++) {
+            int from = offset + (w << 6);
+            int size = Math.min(64, length - (w << 6));
+            long word = 0L;
+            for (int b = 0; b < size; b++) {
+                word |= (initial.test(in[from + b]) ? 1L : 0L) << b;
+            }
+            bits[w] = word;
+        }
+        return bits;
+    }
+
+    public static long[] intPredicateBitsAnd(
+        IntPredicate initial,
+        int[] in,
+        int offset,
+        int length,
+        long[] bits
+    ) {
+        int words = checkBits(in.length, offset, length, bits);
+        for (int w = 0; w < words; w++) {
+            int from = offset + (w << 6);
+            long word = bits[w];
+            long rest = word & maskOf(length - (w << 6));
+            for (; rest != 0L; rest &= rest - 1) {
+                int b = Long.numberOfTrailingZeros(rest);
+                if (!initial.test(in[from + b])) {
+                    word &= ~(1L << b);
+                }
+            }
+            bits[w] = word;
+        }
+        return bits;
+    }
+
+    public static long[] intPredicateBitsOr(
+        IntPredicate initial,
+        int[] in,
+        int offset,
+        int length,
+        long[] bits
+    ) {
+        int words = checkBits(in.length, offset, length, bits);
+        for (int w = 0; w < words; w++) {
+            int from = offset + (w << 6);
+            long word = bits[w];
+            long rest = ~word & maskOf(length - (w << 6));
+            for (; rest != 0L; rest &= rest - 1) {
+                int b = Long.numberOfTrailingZeros(rest);
+                if (initial.test(in[from + b])) {
+                    word |= 1L << b;
+                }
+            }
+            bits[w] = word;
+        }
+        return bits;
+    }
+
+    public static int longPredicateSelect(
+        LongPredicate initial,
+        long[] in,
+        int offset,
+        int length,
+        int[] selection
+    ) {
+        Objects.checkFromIndexSize(offset, length, in.length);
+        Objects.checkFromIndexSize(0, length, selection.length);
+        int count = 0;
+        for (int i = offset; i < offset + length; i++) {
+            selection[count] = i;
+            count += initial.test(in[i]) ? 1 : 0;
+        }
+        return count;
+    }
+
+    public static int longPredicateRefine(
+        LongPredicate initial,
+        long[] in,
+        int[] selection,
+        int count
+    ) {
+        Objects.checkFromIndexSize(0, count, selection.length);
+        int kept = 0;
+        for (int s = 0; s < count; s++) {
+            int i = selection[s];
+            selection[kept] = i;
+            kept += initial.test(in[i]) ? 1 : 0;
+        }
+        return kept;
+    }
+
+    public static long[] longPredicateBits(
+        LongPredicate initial,
+        long[] in,
+        int offset,
+        int length,
+        long[] bits
+    ) {
+        int words = checkBits(in.length, offset, length, bits);
+        for (int w = 0; w < words; w++) {
+            int from = offset + (w << 6);
+            int size = Math.min(64, length - (w << 6));
+            long word = 0L;
+            for (int b = 0; b < size; b++) {
+                word |= (initial.test(in[from + b]) ? 1L : 0L) << b;
+            }
+            bits[w] = word;
+        }
+        return bits;
+    }
+
+    public static long[] longPredicateBitsAnd(
+        LongPredicate initial,
+        long[] in,
+        int offset,
+        int length,
+        long[] bits
+    ) {
+        int words = checkBits(in.length, offset, length, bits);
+        for (int w = 0; w < words; w++) {
+            int from = offset + (w << 6);
+            long word = bits[w];
+            long rest = word & maskOf(length - (w << 6));
+            for (; rest != 0L; rest &= rest - 1) {
+                int b = Long.numberOfTrailingZeros(rest);
+                if (!initial.test(in[from + b])) {
+                    word &= ~(1L << b);
+                }
+            }
+            bits[w] = word;
+        }
+        return bits;
+    }
+
+    public static long[] longPredicateBitsOr(
+        LongPredicate initial,
+        long[] in,
+        int offset,
+        int length,
+        long[] bits
+    ) {
+        int words = checkBits(in.length, offset, length, bits);
+        for (int w = 0; w < words; w++) {
+            int from = offset + (w << 6);
+            long word = bits[w];
+            long rest = ~word & maskOf(length - (w << 6));
+            for (; rest != 0L; rest &= rest - 1) {
+                int b = Long.numberOfTrailingZeros(rest);
+                if (initial.test(in[from + b])) {
+                    word |= 1L << b;
+                }
+            }
+            bits[w] = word;
+        }
+        return bits;
+    }
+}
@@ -0,0 +1,33 @@
+package so.dang.cool.z.internal.combination;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import so.dang.cool.z.internal.combination.Combine.WithAsyncFunction;
+
+interface AsyncFunctionCombos<A, B> {
+    Function<A, CompletableFuture<B>> resolve();
+
+    /* AsyncFunction<A, B> -> Function<B, C> */
+
+    /**
+     * Runs {@code next} right after the stages before it, in the same thread,
+     * without another future in between.
+     */
+    <C> WithAsyncFunction<A, C> fuseFunction(Function<B, C> next);
+
+    public default <C> WithAsyncFunction<A, C> fuse(Function<B, C> next) {
+        return fuseFunction(next);
+    }
+
+    /* AsyncFunction<A, B> -> Function<B, C> asynchronously */
+
+    /**
+     * Runs {@code next} on the given executor, along with any synchronous
+     * stages fused after it.
+     */
+    <C> WithAsyncFunction<A, C> fuseAsync(
+        Function<B, C> next,
+        Executor executor
+    );
+}
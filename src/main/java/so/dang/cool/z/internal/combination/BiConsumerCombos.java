@@ -1,5 +1,6 @@
 package so.dang.cool.z.internal.combination;
 
+import java.util.function.BiConsumer;
 import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
 import java.util.function.DoubleSupplier;
@@ -12,10 +13,15 @@ import so.dang.cool.z.function.Operator;
 import so.dang.cool.z.internal.combination.Combine.WithBiConsumer;
 import so.dang.cool.z.internal.combination.Combine.WithBiFunction;
 import so.dang.cool.z.internal.combination.Combine.WithBiPredicate;
+import so.dang.cool.z.internal.combination.Combine.WithToDoubleBiFunction;
+import so.dang.cool.z.internal.combination.Combine.WithToIntBiFunction;
+import so.dang.cool.z.internal.combination.Combine.WithToLongBiFunction;
 
 interface BiConsumerCombos<A, B> {
     Function<A, Consumer<B>> resolve();
 
+    BiConsumer<A, B> resolveUncurried();
+
     /* BiConsumer<A, B> -> Supplier<C> */
 
     @Evil
@@ -23,11 +29,10 @@ interface BiConsumerCombos<A, B> {
         Supplier<C> next
     ) {
         return WithBiFunction.of(
-            (A a) ->
-                (B b) -> {
-                    resolve().apply(a).accept(b);
-                    return next.get();
-                }
+            (A a, B b) -> {
+                resolveUncurried().accept(a, b);
+                return next.get();
+            }
         );
     }
 
@@ -43,11 +48,10 @@ interface BiConsumerCombos<A, B> {
         BooleanSupplier next
     ) {
         return WithBiPredicate.of(
-            (A a) ->
-                (B b) -> {
-                    resolve().apply(a).accept(b);
-                    return next.getAsBoolean();
-                }
+            (A a, B b) -> {
+                resolveUncurried().accept(a, b);
+                return next.getAsBoolean();
+            }
         );
     }
 
@@ -64,11 +68,10 @@ interface BiConsumerCombos<A, B> {
         DoubleSupplier next
     ) {
         return WithBiFunction.of(
-            (A a) ->
-                (B b) -> {
-                    resolve().apply(a).accept(b);
-                    return next.getAsDouble();
-                }
+            (A a, B b) -> {
+                resolveUncurried().accept(a, b);
+                return next.getAsDouble();
+            }
         );
     }
 
@@ -78,6 +81,25 @@ interface BiConsumerCombos<A, B> {
         return absorbDoubleSupplier(next);
     }
 
+    @Evil
+    public default WithToDoubleBiFunction<A, B> absorbDoubleSupplierUnboxed(
+        DoubleSupplier next
+    ) {
+        return WithToDoubleBiFunction.of(
+            (A a, B b) -> {
+                resolveUncurried().accept(a, b);
+                return next.getAsDouble();
+            }
+        );
+    }
+
+    @Evil
+    public default WithToDoubleBiFunction<A, B> absorbUnboxed(
+        DoubleSupplier next
+    ) {
+        return absorbDoubleSupplierUnboxed(next);
+    }
+
     /* BiConsumer<A, B> -> IntSupplier */
 
     @Evil
@@ -86,11 +108,10 @@ interface BiConsumerCombos<A, B> {
         IntSupplier next
     ) {
         return WithBiFunction.of(
-            (A a) ->
-                (B b) -> {
-                    resolve().apply(a).accept(b);
-                    return next.getAsInt();
-                }
+            (A a, B b) -> {
+                resolveUncurried().accept(a, b);
+                return next.getAsInt();
+            }
         );
     }
 
@@ -100,6 +121,23 @@ interface BiConsumerCombos<A, B> {
         return absorbIntSupplier(next);
     }
 
+    @Evil
+    public default WithToIntBiFunction<A, B> absorbIntSupplierUnboxed(
+        IntSupplier next
+    ) {
+        return WithToIntBiFunction.of(
+            (A a, B b) -> {
+                resolveUncurried().accept(a, b);
+                return next.getAsInt();
+            }
+        );
+    }
+
+    @Evil
+    public default WithToIntBiFunction<A, B> absorbUnboxed(IntSupplier next) {
+        return absorbIntSupplierUnboxed(next);
+    }
+
     /* BiConsumer<A, B> -> LongSupplier */
 
     @Evil
@@ -108,11 +146,10 @@ interface BiConsumerCombos<A, B> {
         LongSupplier next
     ) {
         return WithBiFunction.of(
-            (A a) ->
-                (B b) -> {
-                    resolve().apply(a).accept(b);
-                    return next.getAsLong();
-                }
+            (A a, B b) -> {
+                resolveUncurried().accept(a, b);
+                return next.getAsLong();
+            }
         );
     }
 
@@ -122,16 +159,32 @@ interface BiConsumerCombos<A, B> {
         return absorbLongSupplier(next);
     }
 
+    @Evil
+    public default WithToLongBiFunction<A, B> absorbLongSupplierUnboxed(
+        LongSupplier next
+    ) {
+        return WithToLongBiFunction.of(
+            (A a, B b) -> {
+                resolveUncurried().accept(a, b);
+                return next.getAsLong();
+            }
+        );
+    }
+
+    @Evil
+    public default WithToLongBiFunction<A, B> absorbUnboxed(LongSupplier next) {
+        return absorbLongSupplierUnboxed(next);
+    }
+
     /* BiConsumer<A, B> -> Operator */
 
     @Evil
     public default WithBiConsumer<A, B> absorbOperator(Operator next) {
         return WithBiConsumer.of(
-            (A a) ->
-                (B b) -> {
-                    resolve().apply(a).accept(b);
-                    next.run();
-                }
+            (A a, B b) -> {
+                resolveUncurried().accept(a, b);
+                next.run();
+            }
         );
     }
 
@@ -28,13 +28,15 @@ import so.dang.cool.z.internal.combination.Combine.WithToLongBiFunction;
 interface BiFunctionCombos<A, B, C> {
     Function<A, Function<B, C>> resolve();
 
+    BiFunction<A, B, C> resolveUncurried();
+
     /* BiFunction<A, B, C> -> Function<C, D> */
 
     public default <D> WithBiFunction<A, B, D> fuseFunction(
         Function<C, D> next
     ) {
         return WithBiFunction.of(
-            (A a, B b) -> next.apply(resolve().apply(a).apply(b))
+            (A a, B b) -> next.apply(resolveUncurried().apply(a, b))
         );
     }
 
@@ -49,7 +51,7 @@ interface BiFunctionCombos<A, B, C> {
         BiFunction<C, D, E> next
     ) {
         return (A a) ->
-            (B b) -> (D d) -> next.apply(resolve().apply(a).apply(b), d);
+            (B b) -> (D d) -> next.apply(resolveUncurried().apply(a, b), d);
     }
 
     public default <D, E> Function<A, Function<B, Function<D, E>>> fuse(
@@ -64,7 +66,7 @@ interface BiFunctionCombos<A, B, C> {
         ToDoubleFunction<C> next
     ) {
         return WithToDoubleBiFunction.of(
-            (A a, B b) -> next.applyAsDouble(resolve().apply(a).apply(b))
+            (A a, B b) -> next.applyAsDouble(resolveUncurried().apply(a, b))
         );
     }
 
@@ -80,7 +82,7 @@ interface BiFunctionCombos<A, B, C> {
     ) {
         return (A a) ->
             (B b) ->
-                (D d) -> next.applyAsDouble(resolve().apply(a).apply(b), d);
+                (D d) -> next.applyAsDouble(resolveUncurried().apply(a, b), d);
     }
 
     public default <D> Function<A, Function<B, ToDoubleFunction<D>>> fuse(
@@ -95,7 +97,7 @@ interface BiFunctionCombos<A, B, C> {
         ToIntFunction<C> next
     ) {
         return WithToIntBiFunction.of(
-            (A a, B b) -> next.applyAsInt(resolve().apply(a).apply(b))
+            (A a, B b) -> next.applyAsInt(resolveUncurried().apply(a, b))
         );
     }
 
@@ -110,7 +112,8 @@ interface BiFunctionCombos<A, B, C> {
         ToIntBiFunction<C, D> next
     ) {
         return (A a) ->
-            (B b) -> (D d) -> next.applyAsInt(resolve().apply(a).apply(b), d);
+            (B b) ->
+                (D d) -> next.applyAsInt(resolveUncurried().apply(a, b), d);
     }
 
     public default <D> Function<A, Function<B, ToIntFunction<D>>> fuse(
@@ -125,7 +128,7 @@ interface BiFunctionCombos<A, B, C> {
         ToLongFunction<C> next
     ) {
         return WithToLongBiFunction.of(
-            (A a) -> (B b) -> next.applyAsLong(resolve().apply(a).apply(b))
+            (A a, B b) -> next.applyAsLong(resolveUncurried().apply(a, b))
         );
     }
 
@@ -140,7 +143,8 @@ interface BiFunctionCombos<A, B, C> {
         ToLongBiFunction<C, D> next
     ) {
         return (A a) ->
-            (B b) -> (D d) -> next.applyAsLong(resolve().apply(a).apply(b), d);
+            (B b) ->
+                (D d) -> next.applyAsLong(resolveUncurried().apply(a, b), d);
     }
 
     public default <D> Function<A, Function<B, ToLongFunction<D>>> fuse(
@@ -153,7 +157,7 @@ interface BiFunctionCombos<A, B, C> {
 
     public default WithBiPredicate<A, B> fusePredicate(Predicate<C> next) {
         return WithBiPredicate.of(
-            (A a, B b) -> next.test(resolve().apply(a).apply(b))
+            (A a, B b) -> next.test(resolveUncurried().apply(a, b))
         );
     }
 
@@ -168,7 +172,7 @@ interface BiFunctionCombos<A, B, C> {
         BiPredicate<C, D> next
     ) {
         return (A a) ->
-            (B b) -> (D d) -> next.test(resolve().apply(a).apply(b), d);
+            (B b) -> (D d) -> next.test(resolveUncurried().apply(a, b), d);
     }
 
     public default <D> Function<A, Function<B, Predicate<D>>> fuse(
@@ -181,7 +185,7 @@ interface BiFunctionCombos<A, B, C> {
 
     public default WithBiConsumer<A, B> fuseConsumer(Consumer<C> next) {
         return WithBiConsumer.of(
-            (A a, B b) -> next.accept(resolve().apply(a).apply(b))
+            (A a, B b) -> next.accept(resolveUncurried().apply(a, b))
         );
     }
 
@@ -196,7 +200,7 @@ interface BiFunctionCombos<A, B, C> {
         BiConsumer<C, D> next
     ) {
         return (A a) ->
-            (B b) -> (D d) -> next.accept(resolve().apply(a).apply(b), d);
+            (B b) -> (D d) -> next.accept(resolveUncurried().apply(a, b), d);
     }
 
     public default <D> Function<A, Function<B, Consumer<D>>> fuse(
@@ -212,7 +216,8 @@ interface BiFunctionCombos<A, B, C> {
         ObjDoubleConsumer<C> next
     ) {
         return (A a) ->
-            (B b) -> (double d) -> next.accept(resolve().apply(a).apply(b), d);
+            (B b) ->
+                (double d) -> next.accept(resolveUncurried().apply(a, b), d);
     }
 
     public default <D> Function<A, Function<B, DoubleConsumer>> fuse(
@@ -228,7 +233,7 @@ interface BiFunctionCombos<A, B, C> {
         ObjIntConsumer<C> next
     ) {
         return (A a) ->
-            (B b) -> (int d) -> next.accept(resolve().apply(a).apply(b), d);
+            (B b) -> (int d) -> next.accept(resolveUncurried().apply(a, b), d);
     }
 
     public default <D> Function<A, Function<B, IntConsumer>> fuse(
@@ -244,7 +249,7 @@ interface BiFunctionCombos<A, B, C> {
         ObjLongConsumer<C> next
     ) {
         return (A a) ->
-            (B b) -> (long d) -> next.accept(resolve().apply(a).apply(b), d);
+            (B b) -> (long d) -> next.accept(resolveUncurried().apply(a, b), d);
     }
 
     public default <D> Function<A, Function<B, LongConsumer>> fuse(
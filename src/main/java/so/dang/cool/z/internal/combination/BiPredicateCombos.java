@@ -1,5 +1,6 @@
 package so.dang.cool.z.internal.combination;
 
+import java.util.function.BiPredicate;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import so.dang.cool.z.function.BooleanConsumer;
@@ -18,13 +19,15 @@ import so.dang.cool.z.internal.combination.Combine.WithToLongBiFunction;
 interface BiPredicateCombos<A, B> {
     Function<A, Predicate<B>> resolve();
 
+    BiPredicate<A, B> resolveUncurried();
+
     /* BiPredicate<A, B> -> BooleanFunction<C> */
 
     public default <C> WithBiFunction<A, B, C> fuseBooleanFunction(
         BooleanFunction<C> next
     ) {
         return WithBiFunction.of(
-            (A a) -> (B b) -> next.apply(resolve().apply(a).test(b))
+            (A a, B b) -> next.apply(resolveUncurried().test(a, b))
         );
     }
 
@@ -38,7 +41,7 @@ interface BiPredicateCombos<A, B> {
         BooleanToDoubleFunction next
     ) {
         return WithToDoubleBiFunction.of(
-            (A a) -> (B b) -> next.applyAsDouble(resolve().apply(a).test(b))
+            (A a, B b) -> next.applyAsDouble(resolveUncurried().test(a, b))
         );
     }
 
@@ -54,7 +57,7 @@ interface BiPredicateCombos<A, B> {
         BooleanToIntFunction next
     ) {
         return WithToIntBiFunction.of(
-            (A a) -> (B b) -> next.applyAsInt(resolve().apply(a).test(b))
+            (A a, B b) -> next.applyAsInt(resolveUncurried().test(a, b))
         );
     }
 
@@ -70,7 +73,7 @@ interface BiPredicateCombos<A, B> {
         BooleanToLongFunction next
     ) {
         return WithToLongBiFunction.of(
-            (A a) -> (B b) -> next.applyAsLong(resolve().apply(a).test(b))
+            (A a, B b) -> next.applyAsLong(resolveUncurried().test(a, b))
         );
     }
 
@@ -86,7 +89,7 @@ interface BiPredicateCombos<A, B> {
         BooleanPredicate next
     ) {
         return WithBiPredicate.of(
-            (A a) -> (B b) -> next.test(resolve().apply(a).test(b))
+            (A a, B b) -> next.test(resolveUncurried().test(a, b))
         );
     }
 
@@ -100,7 +103,7 @@ interface BiPredicateCombos<A, B> {
         BooleanConsumer next
     ) {
         return WithBiConsumer.of(
-            (A a) -> (B b) -> next.accept(resolve().apply(a).test(b))
+            (A a, B b) -> next.accept(resolveUncurried().test(a, b))
         );
     }
 
@@ -0,0 +1,31 @@
+package so.dang.cool.z.internal.combination;
+
+import java.util.function.DoubleConsumer;
+import so.dang.cool.z.annotation.Evil;
+import so.dang.cool.z.function.BooleanDoubleConsumer;
+import so.dang.cool.z.function.BooleanFunction;
+import so.dang.cool.z.function.Operator;
+import so.dang.cool.z.internal.combination.Combine.WithBooleanDoubleConsumer;
+
+interface BooleanDoubleConsumerCombos {
+    BooleanFunction<DoubleConsumer> resolve();
+
+    BooleanDoubleConsumer resolveUncurried();
+
+    /* BooleanDoubleConsumer -> Operator */
+
+    @Evil
+    public default WithBooleanDoubleConsumer absorbOperator(Operator next) {
+        return WithBooleanDoubleConsumer.of(
+            (boolean b, double d) -> {
+                resolveUncurried().accept(b, d);
+                next.run();
+            }
+        );
+    }
+
+    @Evil
+    public default WithBooleanDoubleConsumer absorb(Operator next) {
+        return absorbOperator(next);
+    }
+}
@@ -20,7 +20,16 @@ import so.dang.cool.z.internal.combination.Combine.WithBiConsumer;
 import so.dang.cool.z.internal.combination.Combine.WithBiFunction;
 import so.dang.cool.z.internal.combination.Combine.WithBiPredicate;
 import so.dang.cool.z.internal.combination.Combine.WithBooleanConsumer;
+import so.dang.cool.z.internal.combination.Combine.WithBooleanDoubleConsumer;
 import so.dang.cool.z.internal.combination.Combine.WithBooleanFunction;
+import so.dang.cool.z.internal.combination.Combine.WithBooleanIntConsumer;
+import so.dang.cool.z.internal.combination.Combine.WithBooleanLongConsumer;
+import so.dang.cool.z.internal.combination.Combine.WithBooleanObjConsumer;
+import so.dang.cool.z.internal.combination.Combine.WithBooleanObjFunction;
+import so.dang.cool.z.internal.combination.Combine.WithBooleanObjPredicate;
+import so.dang.cool.z.internal.combination.Combine.WithBooleanObjToDoubleFunction;
+import so.dang.cool.z.internal.combination.Combine.WithBooleanObjToIntFunction;
+import so.dang.cool.z.internal.combination.Combine.WithBooleanObjToLongFunction;
 import so.dang.cool.z.internal.combination.Combine.WithBooleanPredicate;
 import so.dang.cool.z.internal.combination.Combine.WithBooleanToDoubleFunction;
 import so.dang.cool.z.internal.combination.Combine.WithBooleanToIntFunction;
@@ -28,10 +37,17 @@ import so.dang.cool.z.internal.combination.Combine.WithBooleanToLongFunction;
 import so.dang.cool.z.internal.combination.Combine.WithToDoubleBiFunction;
 import so.dang.cool.z.internal.combination.Combine.WithToIntBiFunction;
 import so.dang.cool.z.internal.combination.Combine.WithToLongBiFunction;
+import so.dang.cool.z.internal.memoization.Tabulate;
 
 interface BooleanFunctionCombos<A> {
     BooleanFunction<A> resolve();
 
+    /* BooleanFunction<A> tabulated */
+
+    public default WithBooleanFunction<A> tabulate() {
+        return WithBooleanFunction.of(Tabulate.booleanFunction(resolve()));
+    }
+
     /* BooleanFunction<A> -> Function<A,B> */
 
     public default <B> WithBooleanFunction<B> fuseFunction(
@@ -53,7 +69,7 @@ interface BooleanFunctionCombos<A> {
         BiFunction<A, B, C> next
     ) {
         return WithBiFunction.of(
-            (Boolean b1) -> (B b2) -> next.apply(resolve().apply(b1), b2)
+            (Boolean b1, B b2) -> next.apply(resolve().apply(b1), b2)
         );
     }
 
@@ -63,6 +79,14 @@ interface BooleanFunctionCombos<A> {
         return fuseBiFunction(next);
     }
 
+    public default <B, C> WithBooleanObjFunction<B, C> fuseBiFunctionUnboxed(
+        BiFunction<A, B, C> next
+    ) {
+        return WithBooleanObjFunction.of(
+            (boolean b1, B b2) -> next.apply(resolve().apply(b1), b2)
+        );
+    }
+
     /* BooleanFunction<A> -> ToDoubleFunction<A> */
 
     public default WithBooleanToDoubleFunction fuseToDoubleFunction(
@@ -84,8 +108,7 @@ interface BooleanFunctionCombos<A> {
         ToDoubleBiFunction<A, B> next
     ) {
         return WithToDoubleBiFunction.of(
-            (Boolean b1) ->
-                (B b2) -> next.applyAsDouble(resolve().apply(b1), b2)
+            (Boolean b1, B b2) -> next.applyAsDouble(resolve().apply(b1), b2)
         );
     }
 
@@ -95,6 +118,14 @@ interface BooleanFunctionCombos<A> {
         return fuseToDoubleBiFunction(next);
     }
 
+    public default <B> WithBooleanObjToDoubleFunction<B> fuseToDoubleBiFunctionUnboxed(
+        ToDoubleBiFunction<A, B> next
+    ) {
+        return WithBooleanObjToDoubleFunction.of(
+            (boolean b1, B b2) -> next.applyAsDouble(resolve().apply(b1), b2)
+        );
+    }
+
     /* BooleanFunction<A> -> ToIntFunction<A> */
 
     public default WithBooleanToIntFunction fuseToIntFunction(
@@ -116,7 +147,7 @@ interface BooleanFunctionCombos<A> {
         ToIntBiFunction<A, B> next
     ) {
         return WithToIntBiFunction.of(
-            (Boolean b1) -> (B b2) -> next.applyAsInt(resolve().apply(b1), b2)
+            (Boolean b1, B b2) -> next.applyAsInt(resolve().apply(b1), b2)
         );
     }
 
@@ -126,6 +157,14 @@ interface BooleanFunctionCombos<A> {
         return fuseToIntBiFunction(next);
     }
 
+    public default <B> WithBooleanObjToIntFunction<B> fuseToIntBiFunctionUnboxed(
+        ToIntBiFunction<A, B> next
+    ) {
+        return WithBooleanObjToIntFunction.of(
+            (boolean b1, B b2) -> next.applyAsInt(resolve().apply(b1), b2)
+        );
+    }
+
     /* BooleanFunction<A> -> ToLongFunction<A> */
 
     public default WithBooleanToLongFunction fuseToLongFunction(
@@ -147,7 +186,7 @@ interface BooleanFunctionCombos<A> {
         ToLongBiFunction<A, B> next
     ) {
         return WithToLongBiFunction.of(
-            (Boolean b1) -> (B b2) -> next.applyAsLong(resolve().apply(b1), b2)
+            (Boolean b1, B b2) -> next.applyAsLong(resolve().apply(b1), b2)
         );
     }
 
@@ -157,6 +196,14 @@ interface BooleanFunctionCombos<A> {
         return fuseToLongBiFunction(next);
     }
 
+    public default <B> WithBooleanObjToLongFunction<B> fuseToLongBiFunctionUnboxed(
+        ToLongBiFunction<A, B> next
+    ) {
+        return WithBooleanObjToLongFunction.of(
+            (boolean b1, B b2) -> next.applyAsLong(resolve().apply(b1), b2)
+        );
+    }
+
     /* BooleanFunction<A> -> Predicate<A> */
 
     public default WithBooleanPredicate fusePredicate(Predicate<A> next) {
@@ -176,7 +223,7 @@ interface BooleanFunctionCombos<A> {
         BiPredicate<A, B> next
     ) {
         return WithBiPredicate.of(
-            (Boolean b1) -> (B b2) -> next.test(resolve().apply(b1), b2)
+            (Boolean b1, B b2) -> next.test(resolve().apply(b1), b2)
         );
     }
 
@@ -186,6 +233,14 @@ interface BooleanFunctionCombos<A> {
         return fuseBiPredicate(next);
     }
 
+    public default <B> WithBooleanObjPredicate<B> fuseBiPredicateUnboxed(
+        BiPredicate<A, B> next
+    ) {
+        return WithBooleanObjPredicate.of(
+            (boolean b1, B b2) -> next.test(resolve().apply(b1), b2)
+        );
+    }
+
     /* BooleanFunction<A> -> Consumer<A> */
 
     public default WithBooleanConsumer fuseConsumer(Consumer<A> next) {
@@ -205,7 +260,7 @@ interface BooleanFunctionCombos<A> {
         BiConsumer<A, B> next
     ) {
         return WithBiConsumer.of(
-            (Boolean b1) -> (B b2) -> next.accept(resolve().apply(b1), b2)
+            (Boolean b1, B b2) -> next.accept(resolve().apply(b1), b2)
         );
     }
 
@@ -213,6 +268,14 @@ interface BooleanFunctionCombos<A> {
         return fuseBiConsumer(next);
     }
 
+    public default <B> WithBooleanObjConsumer<B> fuseBiConsumerUnboxed(
+        BiConsumer<A, B> next
+    ) {
+        return WithBooleanObjConsumer.of(
+            (boolean b1, B b2) -> next.accept(resolve().apply(b1), b2)
+        );
+    }
+
     /* BooleanFunction<A> -> ObjDoubleConsumer<A> */
 
     @PromotesPrimitive(promoted = { Boolean.class, Double.class })
@@ -220,7 +283,7 @@ interface BooleanFunctionCombos<A> {
         ObjDoubleConsumer<A> next
     ) {
         return WithBiConsumer.of(
-            (Boolean b) -> (Double d) -> next.accept(resolve().apply(b), d)
+            (Boolean b, Double d) -> next.accept(resolve().apply(b), d)
         );
     }
 
@@ -230,6 +293,14 @@ interface BooleanFunctionCombos<A> {
         return fuseObjDoubleConsumer(next);
     }
 
+    public default WithBooleanDoubleConsumer fuseObjDoubleConsumerUnboxed(
+        ObjDoubleConsumer<A> next
+    ) {
+        return WithBooleanDoubleConsumer.of(
+            (boolean b, double d) -> next.accept(resolve().apply(b), d)
+        );
+    }
+
     /* BooleanFunction<A> -> ObjIntConsumer<A> */
 
     @PromotesPrimitive(promoted = { Boolean.class, Integer.class })
@@ -237,7 +308,7 @@ interface BooleanFunctionCombos<A> {
         ObjIntConsumer<A> next
     ) {
         return WithBiConsumer.of(
-            (Boolean b) -> (Integer d) -> next.accept(resolve().apply(b), d)
+            (Boolean b, Integer d) -> next.accept(resolve().apply(b), d)
         );
     }
 
@@ -247,6 +318,14 @@ interface BooleanFunctionCombos<A> {
         return fuseObjIntConsumer(next);
     }
 
+    public default WithBooleanIntConsumer fuseObjIntConsumerUnboxed(
+        ObjIntConsumer<A> next
+    ) {
+        return WithBooleanIntConsumer.of(
+            (boolean b, int i) -> next.accept(resolve().apply(b), i)
+        );
+    }
+
     /* BooleanFunction<A> -> ObjLongConsumer<A> */
 
     @PromotesPrimitive(promoted = { Boolean.class, Long.class })
@@ -254,11 +333,19 @@ interface BooleanFunctionCombos<A> {
         ObjLongConsumer<A> next
     ) {
         return WithBiConsumer.of(
-            (Boolean b) -> (Long d) -> next.accept(resolve().apply(b), d)
+            (Boolean b, Long d) -> next.accept(resolve().apply(b), d)
         );
     }
 
     public default WithBiConsumer<Boolean, Long> fuse(ObjLongConsumer<A> next) {
         return fuseObjLongConsumer(next);
     }
+
+    public default WithBooleanLongConsumer fuseObjLongConsumerUnboxed(
+        ObjLongConsumer<A> next
+    ) {
+        return WithBooleanLongConsumer.of(
+            (boolean b, long n) -> next.accept(resolve().apply(b), n)
+        );
+    }
 }
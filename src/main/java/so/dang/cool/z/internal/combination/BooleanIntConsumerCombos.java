@@ -0,0 +1,31 @@
+package so.dang.cool.z.internal.combination;
+
+import java.util.function.IntConsumer;
+import so.dang.cool.z.annotation.Evil;
+import so.dang.cool.z.function.BooleanFunction;
+import so.dang.cool.z.function.BooleanIntConsumer;
+import so.dang.cool.z.function.Operator;
+import so.dang.cool.z.internal.combination.Combine.WithBooleanIntConsumer;
+
+interface BooleanIntConsumerCombos {
+    BooleanFunction<IntConsumer> resolve();
+
+    BooleanIntConsumer resolveUncurried();
+
+    /* BooleanIntConsumer -> Operator */
+
+    @Evil
+    public default WithBooleanIntConsumer absorbOperator(Operator next) {
+        return WithBooleanIntConsumer.of(
+            (boolean b, int i) -> {
+                resolveUncurried().accept(b, i);
+                next.run();
+            }
+        );
+    }
+
+    @Evil
+    public default WithBooleanIntConsumer absorb(Operator next) {
+        return absorbOperator(next);
+    }
+}
@@ -0,0 +1,31 @@
+package so.dang.cool.z.internal.combination;
+
+import java.util.function.LongConsumer;
+import so.dang.cool.z.annotation.Evil;
+import so.dang.cool.z.function.BooleanFunction;
+import so.dang.cool.z.function.BooleanLongConsumer;
+import so.dang.cool.z.function.Operator;
+import so.dang.cool.z.internal.combination.Combine.WithBooleanLongConsumer;
+
+interface BooleanLongConsumerCombos {
+    BooleanFunction<LongConsumer> resolve();
+
+    BooleanLongConsumer resolveUncurried();
+
+    /* BooleanLongConsumer -> Operator */
+
+    @Evil
+    public default WithBooleanLongConsumer absorbOperator(Operator next) {
+        return WithBooleanLongConsumer.of(
+            (boolean b, long n) -> {
+                resolveUncurried().accept(b, n);
+                next.run();
+            }
+        );
+    }
+
+    @Evil
+    public default WithBooleanLongConsumer absorb(Operator next) {
+        return absorbOperator(next);
+    }
+}
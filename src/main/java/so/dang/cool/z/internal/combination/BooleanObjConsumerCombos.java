@@ -0,0 +1,138 @@
+package so.dang.cool.z.internal.combination;
+
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.DoubleSupplier;
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import so.dang.cool.z.annotation.Evil;
+import so.dang.cool.z.function.BooleanFunction;
+import so.dang.cool.z.function.BooleanObjConsumer;
+import so.dang.cool.z.function.Operator;
+import so.dang.cool.z.internal.combination.Combine.WithBooleanObjConsumer;
+import so.dang.cool.z.internal.combination.Combine.WithBooleanObjFunction;
+import so.dang.cool.z.internal.combination.Combine.WithBooleanObjPredicate;
+import so.dang.cool.z.internal.combination.Combine.WithBooleanObjToDoubleFunction;
+import so.dang.cool.z.internal.combination.Combine.WithBooleanObjToIntFunction;
+import so.dang.cool.z.internal.combination.Combine.WithBooleanObjToLongFunction;
+
+interface BooleanObjConsumerCombos<B> {
+    BooleanFunction<Consumer<B>> resolve();
+
+    BooleanObjConsumer<B> resolveUncurried();
+
+    /* BooleanObjConsumer<B> -> Supplier<C> */
+
+    @Evil
+    public default <C> WithBooleanObjFunction<B, C> absorbSupplier(
+        Supplier<C> next
+    ) {
+        return WithBooleanObjFunction.of(
+            (boolean b1, B b2) -> {
+                resolveUncurried().accept(b1, b2);
+                return next.get();
+            }
+        );
+    }
+
+    @Evil
+    public default <C> WithBooleanObjFunction<B, C> absorb(Supplier<C> next) {
+        return absorbSupplier(next);
+    }
+
+    /* BooleanObjConsumer<B> -> BooleanSupplier */
+
+    @Evil
+    public default WithBooleanObjPredicate<B> absorbBooleanSupplier(
+        BooleanSupplier next
+    ) {
+        return WithBooleanObjPredicate.of(
+            (boolean b1, B b2) -> {
+                resolveUncurried().accept(b1, b2);
+                return next.getAsBoolean();
+            }
+        );
+    }
+
+    @Evil
+    public default WithBooleanObjPredicate<B> absorb(BooleanSupplier next) {
+        return absorbBooleanSupplier(next);
+    }
+
+    /* BooleanObjConsumer<B> -> DoubleSupplier */
+
+    @Evil
+    public default WithBooleanObjToDoubleFunction<B> absorbDoubleSupplier(
+        DoubleSupplier next
+    ) {
+        return WithBooleanObjToDoubleFunction.of(
+            (boolean b1, B b2) -> {
+                resolveUncurried().accept(b1, b2);
+                return next.getAsDouble();
+            }
+        );
+    }
+
+    @Evil
+    public default WithBooleanObjToDoubleFunction<B> absorb(
+        DoubleSupplier next
+    ) {
+        return absorbDoubleSupplier(next);
+    }
+
+    /* BooleanObjConsumer<B> -> IntSupplier */
+
+    @Evil
+    public default WithBooleanObjToIntFunction<B> absorbIntSupplier(
+        IntSupplier next
+    ) {
+        return WithBooleanObjToIntFunction.of(
+            (boolean b1, B b2) -> {
+                resolveUncurried().accept(b1, b2);
+                return next.getAsInt();
+            }
+        );
+    }
+
+    @Evil
+    public default WithBooleanObjToIntFunction<B> absorb(IntSupplier next) {
+        return absorbIntSupplier(next);
+    }
+
+    /* BooleanObjConsumer<B> -> LongSupplier */
+
+    @Evil
+    public default WithBooleanObjToLongFunction<B> absorbLongSupplier(
+        LongSupplier next
+    ) {
+        return WithBooleanObjToLongFunction.of(
+            (boolean b1, B b2) -> {
+                resolveUncurried().accept(b1, b2);
+                return next.getAsLong();
+            }
+        );
+    }
+
+    @Evil
+    public default WithBooleanObjToLongFunction<B> absorb(LongSupplier next) {
+        return absorbLongSupplier(next);
+    }
+
+    /* BooleanObjConsumer<B> -> Operator */
+
+    @Evil
+    public default WithBooleanObjConsumer<B> absorbOperator(Operator next) {
+        return WithBooleanObjConsumer.of(
+            (boolean b1, B b2) -> {
+                resolveUncurried().accept(b1, b2);
+                next.run();
+            }
+        );
+    }
+
+    @Evil
+    public default WithBooleanObjConsumer<B> absorb(Operator next) {
+        return absorbOperator(next);
+    }
+}
@@ -0,0 +1,109 @@
+package so.dang.cool.z.internal.combination;
+
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import so.dang.cool.z.function.BooleanFunction;
+import so.dang.cool.z.function.BooleanObjFunction;
+import so.dang.cool.z.internal.combination.Combine.WithBooleanObjConsumer;
+import so.dang.cool.z.internal.combination.Combine.WithBooleanObjFunction;
+import so.dang.cool.z.internal.combination.Combine.WithBooleanObjPredicate;
+import so.dang.cool.z.internal.combination.Combine.WithBooleanObjToDoubleFunction;
+import so.dang.cool.z.internal.combination.Combine.WithBooleanObjToIntFunction;
+import so.dang.cool.z.internal.combination.Combine.WithBooleanObjToLongFunction;
+
+interface BooleanObjFunctionCombos<B, C> {
+    BooleanFunction<Function<B, C>> resolve();
+
+    BooleanObjFunction<B, C> resolveUncurried();
+
+    /* BooleanObjFunction<B, C> -> Function<C, D> */
+
+    public default <D> WithBooleanObjFunction<B, D> fuseFunction(
+        Function<C, D> next
+    ) {
+        return WithBooleanObjFunction.of(
+            (boolean b1, B b2) -> next.apply(resolveUncurried().apply(b1, b2))
+        );
+    }
+
+    public default <D> WithBooleanObjFunction<B, D> fuse(Function<C, D> next) {
+        return fuseFunction(next);
+    }
+
+    /* BooleanObjFunction<B, C> -> ToDoubleFunction<C> */
+
+    public default WithBooleanObjToDoubleFunction<B> fuseToDoubleFunction(
+        ToDoubleFunction<C> next
+    ) {
+        return WithBooleanObjToDoubleFunction.of(
+            (boolean b1, B b2) ->
+                next.applyAsDouble(resolveUncurried().apply(b1, b2))
+        );
+    }
+
+    public default WithBooleanObjToDoubleFunction<B> fuse(
+        ToDoubleFunction<C> next
+    ) {
+        return fuseToDoubleFunction(next);
+    }
+
+    /* BooleanObjFunction<B, C> -> ToIntFunction<C> */
+
+    public default WithBooleanObjToIntFunction<B> fuseToIntFunction(
+        ToIntFunction<C> next
+    ) {
+        return WithBooleanObjToIntFunction.of(
+            (boolean b1, B b2) ->
+                next.applyAsInt(resolveUncurried().apply(b1, b2))
+        );
+    }
+
+    public default WithBooleanObjToIntFunction<B> fuse(ToIntFunction<C> next) {
+        return fuseToIntFunction(next);
+    }
+
+    /* BooleanObjFunction<B, C> -> ToLongFunction<C> */
+
+    public default WithBooleanObjToLongFunction<B> fuseToLongFunction(
+        ToLongFunction<C> next
+    ) {
+        return WithBooleanObjToLongFunction.of(
+            (boolean b1, B b2) ->
+                next.applyAsLong(resolveUncurried().apply(b1, b2))
+        );
+    }
+
+    public default WithBooleanObjToLongFunction<B> fuse(
+        ToLongFunction<C> next
+    ) {
+        return fuseToLongFunction(next);
+    }
+
+    /* BooleanObjFunction<B, C> -> Predicate<C> */
+
+    public default WithBooleanObjPredicate<B> fusePredicate(Predicate<C> next) {
+        return WithBooleanObjPredicate.of(
+            (boolean b1, B b2) -> next.test(resolveUncurried().apply(b1, b2))
+        );
+    }
+
+    public default WithBooleanObjPredicate<B> fuse(Predicate<C> next) {
+        return fusePredicate(next);
+    }
+
+    /* BooleanObjFunction<B, C> -> Consumer<C> */
+
+    public default WithBooleanObjConsumer<B> fuseConsumer(Consumer<C> next) {
+        return WithBooleanObjConsumer.of(
+            (boolean b1, B b2) -> next.accept(resolveUncurried().apply(b1, b2))
+        );
+    }
+
+    public default WithBooleanObjConsumer<B> fuse(Consumer<C> next) {
+        return fuseConsumer(next);
+    }
+}
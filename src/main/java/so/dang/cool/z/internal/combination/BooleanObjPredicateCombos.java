@@ -0,0 +1,117 @@
+package so.dang.cool.z.internal.combination;
+
+import java.util.function.Predicate;
+import so.dang.cool.z.function.BooleanConsumer;
+import so.dang.cool.z.function.BooleanFunction;
+import so.dang.cool.z.function.BooleanObjPredicate;
+import so.dang.cool.z.function.BooleanPredicate;
+import so.dang.cool.z.function.BooleanToDoubleFunction;
+import so.dang.cool.z.function.BooleanToIntFunction;
+import so.dang.cool.z.function.BooleanToLongFunction;
+import so.dang.cool.z.internal.combination.Combine.WithBooleanObjConsumer;
+import so.dang.cool.z.internal.combination.Combine.WithBooleanObjFunction;
+import so.dang.cool.z.internal.combination.Combine.WithBooleanObjPredicate;
+import so.dang.cool.z.internal.combination.Combine.WithBooleanObjToDoubleFunction;
+import so.dang.cool.z.internal.combination.Combine.WithBooleanObjToIntFunction;
+import so.dang.cool.z.internal.combination.Combine.WithBooleanObjToLongFunction;
+
+interface BooleanObjPredicateCombos<B> {
+    BooleanFunction<Predicate<B>> resolve();
+
+    BooleanObjPredicate<B> resolveUncurried();
+
+    /* BooleanObjPredicate<B> -> BooleanFunction<C> */
+
+    public default <C> WithBooleanObjFunction<B, C> fuseBooleanFunction(
+        BooleanFunction<C> next
+    ) {
+        return WithBooleanObjFunction.of(
+            (boolean b1, B b2) -> next.apply(resolveUncurried().test(b1, b2))
+        );
+    }
+
+    public default <C> WithBooleanObjFunction<B, C> fuse(
+        BooleanFunction<C> next
+    ) {
+        return fuseBooleanFunction(next);
+    }
+
+    /* BooleanObjPredicate<B> -> BooleanToDoubleFunction */
+
+    public default WithBooleanObjToDoubleFunction<B> fuseBooleanToDoubleFunction(
+        BooleanToDoubleFunction next
+    ) {
+        return WithBooleanObjToDoubleFunction.of(
+            (boolean b1, B b2) ->
+                next.applyAsDouble(resolveUncurried().test(b1, b2))
+        );
+    }
+
+    public default WithBooleanObjToDoubleFunction<B> fuse(
+        BooleanToDoubleFunction next
+    ) {
+        return fuseBooleanToDoubleFunction(next);
+    }
+
+    /* BooleanObjPredicate<B> -> BooleanToIntFunction */
+
+    public default WithBooleanObjToIntFunction<B> fuseBooleanToIntFunction(
+        BooleanToIntFunction next
+    ) {
+        return WithBooleanObjToIntFunction.of(
+            (boolean b1, B b2) ->
+                next.applyAsInt(resolveUncurried().test(b1, b2))
+        );
+    }
+
+    public default WithBooleanObjToIntFunction<B> fuse(
+        BooleanToIntFunction next
+    ) {
+        return fuseBooleanToIntFunction(next);
+    }
+
+    /* BooleanObjPredicate<B> -> BooleanToLongFunction */
+
+    public default WithBooleanObjToLongFunction<B> fuseBooleanToLongFunction(
+        BooleanToLongFunction next
+    ) {
+        return WithBooleanObjToLongFunction.of(
+            (boolean b1, B b2) ->
+                next.applyAsLong(resolveUncurried().test(b1, b2))
+        );
+    }
+
+    public default WithBooleanObjToLongFunction<B> fuse(
+        BooleanToLongFunction next
+    ) {
+        return fuseBooleanToLongFunction(next);
+    }
+
+    /* BooleanObjPredicate<B> -> BooleanPredicate */
+
+    public default WithBooleanObjPredicate<B> fuseBooleanPredicate(
+        BooleanPredicate next
+    ) {
+        return WithBooleanObjPredicate.of(
+            (boolean b1, B b2) -> next.test(resolveUncurried().test(b1, b2))
+        );
+    }
+
+    public default WithBooleanObjPredicate<B> fuse(BooleanPredicate next) {
+        return fuseBooleanPredicate(next);
+    }
+
+    /* BooleanObjPredicate<B> -> BooleanConsumer */
+
+    public default WithBooleanObjConsumer<B> fuseBooleanConsumer(
+        BooleanConsumer next
+    ) {
+        return WithBooleanObjConsumer.of(
+            (boolean b1, B b2) -> next.accept(resolveUncurried().test(b1, b2))
+        );
+    }
+
+    public default WithBooleanObjConsumer<B> fuse(BooleanConsumer next) {
+        return fuseBooleanConsumer(next);
+    }
+}
@@ -0,0 +1,121 @@
+package so.dang.cool.z.internal.combination;
+
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleToIntFunction;
+import java.util.function.DoubleToLongFunction;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.ToDoubleFunction;
+import so.dang.cool.z.function.BooleanFunction;
+import so.dang.cool.z.function.BooleanObjToDoubleFunction;
+import so.dang.cool.z.internal.combination.Combine.WithBooleanObjConsumer;
+import so.dang.cool.z.internal.combination.Combine.WithBooleanObjFunction;
+import so.dang.cool.z.internal.combination.Combine.WithBooleanObjPredicate;
+import so.dang.cool.z.internal.combination.Combine.WithBooleanObjToDoubleFunction;
+import so.dang.cool.z.internal.combination.Combine.WithBooleanObjToIntFunction;
+import so.dang.cool.z.internal.combination.Combine.WithBooleanObjToLongFunction;
+
+interface BooleanObjToDoubleFunctionCombos<B> {
+    BooleanFunction<ToDoubleFunction<B>> resolve();
+
+    BooleanObjToDoubleFunction<B> resolveUncurried();
+
+    /* BooleanObjToDoubleFunction<B> -> DoubleFunction<C> */
+
+    public default <C> WithBooleanObjFunction<B, C> fuseDoubleFunction(
+        DoubleFunction<C> next
+    ) {
+        return WithBooleanObjFunction.of(
+            (boolean b1, B b2) ->
+                next.apply(resolveUncurried().applyAsDouble(b1, b2))
+        );
+    }
+
+    public default <C> WithBooleanObjFunction<B, C> fuse(
+        DoubleFunction<C> next
+    ) {
+        return fuseDoubleFunction(next);
+    }
+
+    /* BooleanObjToDoubleFunction<B> -> DoubleToIntFunction */
+
+    public default WithBooleanObjToIntFunction<B> fuseDoubleToIntFunction(
+        DoubleToIntFunction next
+    ) {
+        return WithBooleanObjToIntFunction.of(
+            (boolean b1, B b2) ->
+                next.applyAsInt(resolveUncurried().applyAsDouble(b1, b2))
+        );
+    }
+
+    public default WithBooleanObjToIntFunction<B> fuse(
+        DoubleToIntFunction next
+    ) {
+        return fuseDoubleToIntFunction(next);
+    }
+
+    /* BooleanObjToDoubleFunction<B> -> DoubleToLongFunction */
+
+    public default WithBooleanObjToLongFunction<B> fuseDoubleToLongFunction(
+        DoubleToLongFunction next
+    ) {
+        return WithBooleanObjToLongFunction.of(
+            (boolean b1, B b2) ->
+                next.applyAsLong(resolveUncurried().applyAsDouble(b1, b2))
+        );
+    }
+
+    public default WithBooleanObjToLongFunction<B> fuse(
+        DoubleToLongFunction next
+    ) {
+        return fuseDoubleToLongFunction(next);
+    }
+
+    /* BooleanObjToDoubleFunction<B> -> DoublePredicate */
+
+    public default WithBooleanObjPredicate<B> fuseDoublePredicate(
+        DoublePredicate next
+    ) {
+        return WithBooleanObjPredicate.of(
+            (boolean b1, B b2) ->
+                next.test(resolveUncurried().applyAsDouble(b1, b2))
+        );
+    }
+
+    public default WithBooleanObjPredicate<B> fuse(DoublePredicate next) {
+        return fuseDoublePredicate(next);
+    }
+
+    /* BooleanObjToDoubleFunction<B> -> DoubleConsumer */
+
+    public default WithBooleanObjConsumer<B> fuseDoubleConsumer(
+        DoubleConsumer next
+    ) {
+        return WithBooleanObjConsumer.of(
+            (boolean b1, B b2) ->
+                next.accept(resolveUncurried().applyAsDouble(b1, b2))
+        );
+    }
+
+    public default WithBooleanObjConsumer<B> fuse(DoubleConsumer next) {
+        return fuseDoubleConsumer(next);
+    }
+
+    /* BooleanObjToDoubleFunction<B> -> DoubleUnaryOperator */
+
+    public default WithBooleanObjToDoubleFunction<B> fuseDoubleUnaryOperator(
+        DoubleUnaryOperator next
+    ) {
+        return WithBooleanObjToDoubleFunction.of(
+            (boolean b1, B b2) ->
+                next.applyAsDouble(resolveUncurried().applyAsDouble(b1, b2))
+        );
+    }
+
+    public default WithBooleanObjToDoubleFunction<B> fuse(
+        DoubleUnaryOperator next
+    ) {
+        return fuseDoubleUnaryOperator(next);
+    }
+}
@@ -0,0 +1,115 @@
+package so.dang.cool.z.internal.combination;
+
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.IntToLongFunction;
+import java.util.function.IntUnaryOperator;
+import java.util.function.ToIntFunction;
+import so.dang.cool.z.function.BooleanFunction;
+import so.dang.cool.z.function.BooleanObjToIntFunction;
+import so.dang.cool.z.internal.combination.Combine.WithBooleanObjConsumer;
+import so.dang.cool.z.internal.combination.Combine.WithBooleanObjFunction;
+import so.dang.cool.z.internal.combination.Combine.WithBooleanObjPredicate;
+import so.dang.cool.z.internal.combination.Combine.WithBooleanObjToDoubleFunction;
+import so.dang.cool.z.internal.combination.Combine.WithBooleanObjToIntFunction;
+import so.dang.cool.z.internal.combination.Combine.WithBooleanObjToLongFunction;
+
+interface BooleanObjToIntFunctionCombos<B> {
+    BooleanFunction<ToIntFunction<B>> resolve();
+
+    BooleanObjToIntFunction<B> resolveUncurried();
+
+    /* BooleanObjToIntFunction<B> -> IntFunction<C> */
+
+    public default <C> WithBooleanObjFunction<B, C> fuseIntFunction(
+        IntFunction<C> next
+    ) {
+        return WithBooleanObjFunction.of(
+            (boolean b1, B b2) ->
+                next.apply(resolveUncurried().applyAsInt(b1, b2))
+        );
+    }
+
+    public default <C> WithBooleanObjFunction<B, C> fuse(IntFunction<C> next) {
+        return fuseIntFunction(next);
+    }
+
+    /* BooleanObjToIntFunction<B> -> IntToDoubleFunction */
+
+    public default WithBooleanObjToDoubleFunction<B> fuseIntToDoubleFunction(
+        IntToDoubleFunction next
+    ) {
+        return WithBooleanObjToDoubleFunction.of(
+            (boolean b1, B b2) ->
+                next.applyAsDouble(resolveUncurried().applyAsInt(b1, b2))
+        );
+    }
+
+    public default WithBooleanObjToDoubleFunction<B> fuse(
+        IntToDoubleFunction next
+    ) {
+        return fuseIntToDoubleFunction(next);
+    }
+
+    /* BooleanObjToIntFunction<B> -> IntToLongFunction */
+
+    public default WithBooleanObjToLongFunction<B> fuseIntToLongFunction(
+        IntToLongFunction next
+    ) {
+        return WithBooleanObjToLongFunction.of(
+            (boolean b1, B b2) ->
+                next.applyAsLong(resolveUncurried().applyAsInt(b1, b2))
+        );
+    }
+
+    public default WithBooleanObjToLongFunction<B> fuse(
+        IntToLongFunction next
+    ) {
+        return fuseIntToLongFunction(next);
+    }
+
+    /* BooleanObjToIntFunction<B> -> IntPredicate */
+
+    public default WithBooleanObjPredicate<B> fuseIntPredicate(
+        IntPredicate next
+    ) {
+        return WithBooleanObjPredicate.of(
+            (boolean b1, B b2) ->
+                next.test(resolveUncurried().applyAsInt(b1, b2))
+        );
+    }
+
+    public default WithBooleanObjPredicate<B> fuse(IntPredicate next) {
+        return fuseIntPredicate(next);
+    }
+
+    /* BooleanObjToIntFunction<B> -> IntConsumer */
+
+    public default WithBooleanObjConsumer<B> fuseIntConsumer(IntConsumer next) {
+        return WithBooleanObjConsumer.of(
+            (boolean b1, B b2) ->
+                next.accept(resolveUncurried().applyAsInt(b1, b2))
+        );
+    }
+
+    public default WithBooleanObjConsumer<B> fuse(IntConsumer next) {
+        return fuseIntConsumer(next);
+    }
+
+    /* BooleanObjToIntFunction<B> -> IntUnaryOperator */
+
+    public default WithBooleanObjToIntFunction<B> fuseIntUnaryOperator(
+        IntUnaryOperator next
+    ) {
+        return WithBooleanObjToIntFunction.of(
+            (boolean b1, B b2) ->
+                next.applyAsInt(resolveUncurried().applyAsInt(b1, b2))
+        );
+    }
+
+    public default WithBooleanObjToIntFunction<B> fuse(IntUnaryOperator next) {
+        return fuseIntUnaryOperator(next);
+    }
+}
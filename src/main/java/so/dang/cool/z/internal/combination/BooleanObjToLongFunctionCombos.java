@@ -0,0 +1,117 @@
+package so.dang.cool.z.internal.combination;
+
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import java.util.function.LongToDoubleFunction;
+import java.util.function.LongToIntFunction;
+import java.util.function.LongUnaryOperator;
+import java.util.function.ToLongFunction;
+import so.dang.cool.z.function.BooleanFunction;
+import so.dang.cool.z.function.BooleanObjToLongFunction;
+import so.dang.cool.z.internal.combination.Combine.WithBooleanObjConsumer;
+import so.dang.cool.z.internal.combination.Combine.WithBooleanObjFunction;
+import so.dang.cool.z.internal.combination.Combine.WithBooleanObjPredicate;
+import so.dang.cool.z.internal.combination.Combine.WithBooleanObjToDoubleFunction;
+import so.dang.cool.z.internal.combination.Combine.WithBooleanObjToIntFunction;
+import so.dang.cool.z.internal.combination.Combine.WithBooleanObjToLongFunction;
+
+interface BooleanObjToLongFunctionCombos<B> {
+    BooleanFunction<ToLongFunction<B>> resolve();
+
+    BooleanObjToLongFunction<B> resolveUncurried();
+
+    /* BooleanObjToLongFunction<B> -> LongFunction<C> */
+
+    public default <C> WithBooleanObjFunction<B, C> fuseLongFunction(
+        LongFunction<C> next
+    ) {
+        return WithBooleanObjFunction.of(
+            (boolean b1, B b2) ->
+                next.apply(resolveUncurried().applyAsLong(b1, b2))
+        );
+    }
+
+    public default <C> WithBooleanObjFunction<B, C> fuse(LongFunction<C> next) {
+        return fuseLongFunction(next);
+    }
+
+    /* BooleanObjToLongFunction<B> -> LongToDoubleFunction */
+
+    public default WithBooleanObjToDoubleFunction<B> fuseLongToDoubleFunction(
+        LongToDoubleFunction next
+    ) {
+        return WithBooleanObjToDoubleFunction.of(
+            (boolean b1, B b2) ->
+                next.applyAsDouble(resolveUncurried().applyAsLong(b1, b2))
+        );
+    }
+
+    public default WithBooleanObjToDoubleFunction<B> fuse(
+        LongToDoubleFunction next
+    ) {
+        return fuseLongToDoubleFunction(next);
+    }
+
+    /* BooleanObjToLongFunction<B> -> LongToIntFunction */
+
+    public default WithBooleanObjToIntFunction<B> fuseLongToIntFunction(
+        LongToIntFunction next
+    ) {
+        return WithBooleanObjToIntFunction.of(
+            (boolean b1, B b2) ->
+                next.applyAsInt(resolveUncurried().applyAsLong(b1, b2))
+        );
+    }
+
+    public default WithBooleanObjToIntFunction<B> fuse(LongToIntFunction next) {
+        return fuseLongToIntFunction(next);
+    }
+
+    /* BooleanObjToLongFunction<B> -> LongPredicate */
+
+    public default WithBooleanObjPredicate<B> fuseLongPredicate(
+        LongPredicate next
+    ) {
+        return WithBooleanObjPredicate.of(
+            (boolean b1, B b2) ->
+                next.test(resolveUncurried().applyAsLong(b1, b2))
+        );
+    }
+
+    public default WithBooleanObjPredicate<B> fuse(LongPredicate next) {
+        return fuseLongPredicate(next);
+    }
+
+    /* BooleanObjToLongFunction<B> -> LongConsumer */
+
+    public default WithBooleanObjConsumer<B> fuseLongConsumer(
+        LongConsumer next
+    ) {
+        return WithBooleanObjConsumer.of(
+            (boolean b1, B b2) ->
+                next.accept(resolveUncurried().applyAsLong(b1, b2))
+        );
+    }
+
+    public default WithBooleanObjConsumer<B> fuse(LongConsumer next) {
+        return fuseLongConsumer(next);
+    }
+
+    /* BooleanObjToLongFunction<B> -> LongUnaryOperator */
+
+    public default WithBooleanObjToLongFunction<B> fuseLongUnaryOperator(
+        LongUnaryOperator next
+    ) {
+        return WithBooleanObjToLongFunction.of(
+            (boolean b1, B b2) ->
+                next.applyAsLong(resolveUncurried().applyAsLong(b1, b2))
+        );
+    }
+
+    public default WithBooleanObjToLongFunction<B> fuse(
+        LongUnaryOperator next
+    ) {
+        return fuseLongUnaryOperator(next);
+    }
+}
@@ -12,10 +12,17 @@ import so.dang.cool.z.internal.combination.Combine.WithBooleanPredicate;
 import so.dang.cool.z.internal.combination.Combine.WithBooleanToDoubleFunction;
 import so.dang.cool.z.internal.combination.Combine.WithBooleanToIntFunction;
 import so.dang.cool.z.internal.combination.Combine.WithBooleanToLongFunction;
+import so.dang.cool.z.internal.memoization.Tabulate;
 
 interface BooleanPredicateCombos {
     BooleanPredicate resolve();
 
+    /* BooleanPredicate tabulated */
+
+    public default WithBooleanPredicate tabulate() {
+        return WithBooleanPredicate.of(Tabulate.booleanPredicate(resolve()));
+    }
+
     /* BooleanPredicate -> BooleanFunction<A> */
 
     public default <A> WithBooleanFunction<A> fuseBooleanFunction(
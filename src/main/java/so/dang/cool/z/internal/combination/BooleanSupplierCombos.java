@@ -1,5 +1,7 @@
 package so.dang.cool.z.internal.combination;
 
+import java.time.Duration;
+import java.util.concurrent.Executor;
 import java.util.function.BooleanSupplier;
 import so.dang.cool.z.function.BooleanConsumer;
 import so.dang.cool.z.function.BooleanFunction;
@@ -13,16 +15,45 @@ import so.dang.cool.z.internal.combination.Combine.WithIntSupplier;
 import so.dang.cool.z.internal.combination.Combine.WithLongSupplier;
 import so.dang.cool.z.internal.combination.Combine.WithOperator;
 import so.dang.cool.z.internal.combination.Combine.WithSupplier;
+import so.dang.cool.z.internal.memoization.Expiring;
+import so.dang.cool.z.internal.memoization.Refreshing;
 
 interface BooleanSupplierCombos {
     public BooleanSupplier resolve();
 
+    public boolean isConstant();
+
+    /* BooleanSupplier memoized */
+
+    public default WithBooleanSupplier expiring(Duration timeToLive) {
+        Expiring<Boolean> expiring = Expiring.of(
+            resolve()::getAsBoolean,
+            timeToLive
+        );
+        return WithBooleanSupplier.of(expiring::get);
+    }
+
+    public default WithBooleanSupplier refreshing(
+        Duration refreshAfter,
+        Executor executor
+    ) {
+        Refreshing<Boolean> refreshing = Refreshing.of(
+            resolve()::getAsBoolean,
+            refreshAfter,
+            executor
+        );
+        return WithBooleanSupplier.of(refreshing::get);
+    }
+
     /* BooleanSupplier -> BooleanFunction<A> */
 
     public default <A> WithSupplier<A> fuseBooleanFunction(
         BooleanFunction<A> next
     ) {
-        return WithSupplier.of(() -> next.apply(resolve().getAsBoolean()));
+        return WithSupplier.of(
+            () -> next.apply(resolve().getAsBoolean()),
+            isConstant()
+        );
     }
 
     public default <A> WithSupplier<A> fuse(BooleanFunction<A> next) {
@@ -35,7 +66,8 @@ interface BooleanSupplierCombos {
         BooleanToDoubleFunction next
     ) {
         return WithDoubleSupplier.of(
-            () -> next.applyAsDouble(resolve().getAsBoolean())
+            () -> next.applyAsDouble(resolve().getAsBoolean()),
+            isConstant()
         );
     }
 
@@ -49,7 +81,8 @@ interface BooleanSupplierCombos {
         BooleanToIntFunction next
     ) {
         return WithIntSupplier.of(
-            () -> next.applyAsInt(resolve().getAsBoolean())
+            () -> next.applyAsInt(resolve().getAsBoolean()),
+            isConstant()
         );
     }
 
@@ -63,7 +96,8 @@ interface BooleanSupplierCombos {
         BooleanToLongFunction next
     ) {
         return WithLongSupplier.of(
-            () -> next.applyAsLong(resolve().getAsBoolean())
+            () -> next.applyAsLong(resolve().getAsBoolean()),
+            isConstant()
         );
     }
 
@@ -77,7 +111,8 @@ interface BooleanSupplierCombos {
         BooleanPredicate next
     ) {
         return WithBooleanSupplier.of(
-            () -> next.test(resolve().getAsBoolean())
+            () -> next.test(resolve().getAsBoolean()),
+            isConstant()
         );
     }
 
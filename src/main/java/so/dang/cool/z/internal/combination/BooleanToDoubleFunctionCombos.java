@@ -15,10 +15,19 @@ import so.dang.cool.z.internal.combination.Combine.WithBooleanPredicate;
 import so.dang.cool.z.internal.combination.Combine.WithBooleanToDoubleFunction;
 import so.dang.cool.z.internal.combination.Combine.WithBooleanToIntFunction;
 import so.dang.cool.z.internal.combination.Combine.WithBooleanToLongFunction;
+import so.dang.cool.z.internal.memoization.Tabulate;
 
 interface BooleanToDoubleFunctionCombos {
     BooleanToDoubleFunction resolve();
 
+    /* BooleanToDoubleFunction tabulated */
+
+    public default WithBooleanToDoubleFunction tabulate() {
+        return WithBooleanToDoubleFunction.of(
+            Tabulate.booleanToDoubleFunction(resolve())
+        );
+    }
+
     /* BooleanToDoubleFunction -> DoubleFunction<A> */
 
     public default <A> WithBooleanFunction<A> fuseDoubleFunction(
@@ -15,10 +15,19 @@ import so.dang.cool.z.internal.combination.Combine.WithBooleanPredicate;
 import so.dang.cool.z.internal.combination.Combine.WithBooleanToDoubleFunction;
 import so.dang.cool.z.internal.combination.Combine.WithBooleanToIntFunction;
 import so.dang.cool.z.internal.combination.Combine.WithBooleanToLongFunction;
+import so.dang.cool.z.internal.memoization.Tabulate;
 
 interface BooleanToIntFunctionCombos {
     BooleanToIntFunction resolve();
 
+    /* BooleanToIntFunction tabulated */
+
+    public default WithBooleanToIntFunction tabulate() {
+        return WithBooleanToIntFunction.of(
+            Tabulate.booleanToIntFunction(resolve())
+        );
+    }
+
     /* BooleanToIntFunction<A> -> IntFunction<B> */
 
     public default <A> WithBooleanFunction<A> fuseIntFunction(
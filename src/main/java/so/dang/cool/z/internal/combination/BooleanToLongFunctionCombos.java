@@ -15,10 +15,19 @@ import so.dang.cool.z.internal.combination.Combine.WithBooleanPredicate;
 import so.dang.cool.z.internal.combination.Combine.WithBooleanToDoubleFunction;
 import so.dang.cool.z.internal.combination.Combine.WithBooleanToIntFunction;
 import so.dang.cool.z.internal.combination.Combine.WithBooleanToLongFunction;
+import so.dang.cool.z.internal.memoization.Tabulate;
 
 interface BooleanToLongFunctionCombos {
     BooleanToLongFunction resolve();
 
+    /* BooleanToLongFunction tabulated */
+
+    public default WithBooleanToLongFunction tabulate() {
+        return WithBooleanToLongFunction.of(
+            Tabulate.booleanToLongFunction(resolve())
+        );
+    }
+
     /* BooleanToLongFunction -> LongFunction<A> */
 
     public default <A> WithBooleanFunction<A> fuseLongFunction(
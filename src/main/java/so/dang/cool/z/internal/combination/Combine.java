@@ -1,6 +1,11 @@
 package so.dang.cool.z.internal.combination;
 
+import java.util.Arrays;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.BiPredicate;
@@ -43,13 +48,51 @@ import java.util.function.ToIntFunction;
 import java.util.function.ToLongBiFunction;
 import java.util.function.ToLongFunction;
 import so.dang.cool.z.annotation.Evil;
+import so.dang.cool.z.arithmetic.DoubleArithmetic;
+import so.dang.cool.z.arithmetic.IntArithmetic;
+import so.dang.cool.z.arithmetic.LongArithmetic;
 import so.dang.cool.z.function.BooleanConsumer;
+import so.dang.cool.z.function.BooleanDoubleConsumer;
 import so.dang.cool.z.function.BooleanFunction;
+import so.dang.cool.z.function.BooleanIntConsumer;
+import so.dang.cool.z.function.BooleanLongConsumer;
+import so.dang.cool.z.function.BooleanObjConsumer;
+import so.dang.cool.z.function.BooleanObjFunction;
+import so.dang.cool.z.function.BooleanObjPredicate;
+import so.dang.cool.z.function.BooleanObjToDoubleFunction;
+import so.dang.cool.z.function.BooleanObjToIntFunction;
+import so.dang.cool.z.function.BooleanObjToLongFunction;
 import so.dang.cool.z.function.BooleanPredicate;
 import so.dang.cool.z.function.BooleanToDoubleFunction;
 import so.dang.cool.z.function.BooleanToIntFunction;
 import so.dang.cool.z.function.BooleanToLongFunction;
+import so.dang.cool.z.function.DecFunction;
+import so.dang.cool.z.function.DodecFunction;
+import so.dang.cool.z.function.DoubleBiConsumer;
+import so.dang.cool.z.function.DoubleBiFunction;
+import so.dang.cool.z.function.DoubleBiPredicate;
+import so.dang.cool.z.function.DoubleBinaryToIntFunction;
+import so.dang.cool.z.function.DoubleBinaryToLongFunction;
+import so.dang.cool.z.function.IntBiConsumer;
+import so.dang.cool.z.function.IntBiFunction;
+import so.dang.cool.z.function.IntBiPredicate;
+import so.dang.cool.z.function.IntBinaryToDoubleFunction;
+import so.dang.cool.z.function.IntBinaryToLongFunction;
+import so.dang.cool.z.function.LongBiConsumer;
+import so.dang.cool.z.function.LongBiFunction;
+import so.dang.cool.z.function.LongBiPredicate;
+import so.dang.cool.z.function.LongBinaryToDoubleFunction;
+import so.dang.cool.z.function.LongBinaryToIntFunction;
+import so.dang.cool.z.function.NonFunction;
+import so.dang.cool.z.function.OctFunction;
 import so.dang.cool.z.function.Operator;
+import so.dang.cool.z.function.QuadFunction;
+import so.dang.cool.z.function.QuinFunction;
+import so.dang.cool.z.function.SeptFunction;
+import so.dang.cool.z.function.SexFunction;
+import so.dang.cool.z.function.TriFunction;
+import so.dang.cool.z.function.UndecFunction;
+import so.dang.cool.z.internal.bulk.Bulk;
 
 /**
  * Deep fusions involving many functions.
@@ -62,24 +105,168 @@ public abstract class Combine<A, Fn> {
         extends Combine<B, Function<A, B>>
         implements FunctionCombos<A, B>, Function<A, B> {
 
-        private final transient Function<A, B> initial;
+        // Stages are kept flat and applied in a loop, so that long fusions
+        // run in constant stack depth.
+        private final transient Function<Object, Object>[] stages;
 
-        private WithFunction(Function<A, B> initial) {
-            this.initial = Objects.requireNonNull(initial);
+        private WithFunction(Function<Object, Object>[] stages) {
+            this.stages = stages;
         }
 
         public static <A, B> WithFunction<A, B> of(Function<A, B> initial) {
-            return new WithFunction<>(initial);
+            return new WithFunction<>(stagesOf(initial));
+        }
+
+        <C> WithFunction<A, C> then(Function<B, C> next) {
+            return new WithFunction<>(concat(stages, stagesOf(next)));
+        }
+
+        @SuppressWarnings("unchecked")
+        static Function<Object, Object>[] stagesOf(Function<?, ?> fn) {
+            if (Objects.requireNonNull(fn) instanceof WithFunction) {
+                return ((WithFunction<?, ?>) fn).stages;
+            }
+            return (Function<Object, Object>[]) new Function<?, ?>[] { fn };
         }
 
         @Override
         public Function<A, B> resolve() {
-            return initial;
+            return this;
         }
 
         @Override
+        @SuppressWarnings("unchecked")
         public B apply(A a) {
-            return initial.apply(a);
+            Object value = a;
+            for (Function<Object, Object> stage : stages) {
+                value = stage.apply(value);
+            }
+            return (B) value;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public List<B> applyBatch(List<? extends A> in, int chunkSize) {
+            return (List<B>) Bulk.functions(stages, in, chunkSize);
+        }
+
+        @Override
+        public B[] applyAll(A[] in, B[] out, int chunkSize) {
+            Bulk.functions(stages, in, out, chunkSize);
+            return out;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public List<B> parallelApplyBatch(
+            List<? extends A> in,
+            ForkJoinPool pool
+        ) {
+            return (List<B>) Bulk.parallelFunctions(stages, in, pool);
+        }
+
+        @Override
+        public B[] parallelApplyAll(A[] in, B[] out, ForkJoinPool pool) {
+            Bulk.parallelFunctions(stages, in, out, pool);
+            return out;
+        }
+    }
+
+    public static final class WithAsyncFunction<A, B>
+        extends Combine<CompletableFuture<B>, Function<A, CompletableFuture<B>>>
+        implements AsyncFunctionCombos<A, B>, Function<A, CompletableFuture<B>> {
+
+        // Stages before the first boundary run in the caller's thread. Each
+        // boundary's stage then runs on its executor as one task, along with
+        // every synchronous stage fused after it.
+        private final transient Function<Object, Object>[] head;
+        private final transient Executor[] executors;
+        private final transient Function<Object, Object>[][] segments;
+
+        private WithAsyncFunction(
+            Function<Object, Object>[] head,
+            Executor[] executors,
+            Function<Object, Object>[][] segments
+        ) {
+            this.head = head;
+            this.executors = executors;
+            this.segments = segments;
+        }
+
+        @SuppressWarnings("unchecked")
+        public static <A, B> WithAsyncFunction<A, B> of(
+            Function<A, B> initial
+        ) {
+            return new WithAsyncFunction<>(
+                WithFunction.stagesOf(initial),
+                new Executor[0],
+                (Function<Object, Object>[][]) new Function<?, ?>[0][]
+            );
+        }
+
+        @Override
+        public <C> WithAsyncFunction<A, C> fuseFunction(Function<B, C> next) {
+            if (segments.length == 0) {
+                return new WithAsyncFunction<>(
+                    concat(head, WithFunction.stagesOf(next)),
+                    executors,
+                    segments
+                );
+            }
+            Function<Object, Object>[][] joined = segments.clone();
+            int last = joined.length - 1;
+            joined[last] = concat(joined[last], WithFunction.stagesOf(next));
+            return new WithAsyncFunction<>(head, executors, joined);
+        }
+
+        @Override
+        public <C> WithAsyncFunction<A, C> fuseAsync(
+            Function<B, C> next,
+            Executor executor
+        ) {
+            Executor[] onto = Arrays.copyOf(executors, executors.length + 1);
+            onto[executors.length] = Objects.requireNonNull(executor);
+            Function<Object, Object>[][] joined = Arrays.copyOf(
+                segments,
+                segments.length + 1
+            );
+            joined[segments.length] = WithFunction.stagesOf(next);
+            return new WithAsyncFunction<>(head, onto, joined);
+        }
+
+        @Override
+        public Function<A, CompletableFuture<B>> resolve() {
+            return this;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public CompletableFuture<B> apply(A a) {
+            CompletableFuture<Object> future;
+            try {
+                future = CompletableFuture.completedFuture(run(head, a));
+            } catch (RuntimeException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+            for (int s = 0; s < segments.length; s++) {
+                Function<Object, Object>[] segment = segments[s];
+                future =
+                    future.thenApplyAsync(
+                        (Object value) -> run(segment, value),
+                        executors[s]
+                    );
+            }
+            return (CompletableFuture<B>) future;
+        }
+
+        private static Object run(
+            Function<Object, Object>[] stages,
+            Object value
+        ) {
+            for (Function<Object, Object> stage : stages) {
+                value = stage.apply(value);
+            }
+            return value;
         }
     }
 
@@ -99,23 +286,24 @@ public abstract class Combine<A, Fn> {
             return new WithBiFunction<>(initial);
         }
 
-        public static <A, B, C> WithBiFunction<A, B, C> of(
-            Function<A, Function<B, C>> initial
-        ) {
-            return new WithBiFunction<>(
-                (A a, B b) -> initial.apply(a).apply(b)
-            );
+        @Override
+        public Function<A, Function<B, C>> resolve() {
+            return this;
         }
 
         @Override
-        public Function<A, Function<B, C>> resolve() {
-            return (A a) -> (B b) -> initial.apply(a, b);
+        public BiFunction<A, B, C> resolveUncurried() {
+            return initial;
         }
 
         @Override
         public Function<B, C> apply(A a) {
             return (B b) -> initial.apply(a, b);
         }
+
+        public C apply(A a, B b) {
+            return initial.apply(a, b);
+        }
     }
 
     public static final class WithBooleanFunction<A>
@@ -226,297 +414,665 @@ public abstract class Combine<A, Fn> {
         }
     }
 
-    public static final class WithDoubleFunction<A>
-        extends Combine<A, DoubleFunction<A>>
-        implements DoubleFunctionCombos<A>, DoubleFunction<A> {
+    public static final class WithBooleanObjFunction<B, C>
+        extends Combine<C, BooleanFunction<Function<B, C>>>
+        implements
+            BooleanObjFunctionCombos<B, C>,
+            BooleanObjFunction<B, C>,
+            BooleanFunction<Function<B, C>> {
 
-        private final transient DoubleFunction<A> initial;
+        private final transient BooleanObjFunction<B, C> initial;
 
-        private WithDoubleFunction(DoubleFunction<A> initial) {
+        private WithBooleanObjFunction(BooleanObjFunction<B, C> initial) {
             this.initial = Objects.requireNonNull(initial);
         }
 
-        public static <A> WithDoubleFunction<A> of(DoubleFunction<A> initial) {
-            return new WithDoubleFunction<>(initial);
+        public static <B, C> WithBooleanObjFunction<B, C> of(
+            BooleanObjFunction<B, C> initial
+        ) {
+            return new WithBooleanObjFunction<>(initial);
         }
 
         @Override
-        public DoubleFunction<A> resolve() {
-            return initial;
+        public BooleanFunction<Function<B, C>> resolve() {
+            return this;
         }
 
         @Override
-        public A apply(double d) {
-            return initial.apply(d);
-        }
-    }
-
-    public static final class WithDoubleToIntFunction
-        extends Combine<Integer, DoubleToIntFunction>
-        implements DoubleToIntFunctionCombos, DoubleToIntFunction {
-
-        private final transient DoubleToIntFunction initial;
-
-        private WithDoubleToIntFunction(DoubleToIntFunction initial) {
-            this.initial = Objects.requireNonNull(initial);
-        }
-
-        public static WithDoubleToIntFunction of(DoubleToIntFunction initial) {
-            return new WithDoubleToIntFunction(initial);
+        public BooleanObjFunction<B, C> resolveUncurried() {
+            return initial;
         }
 
         @Override
-        public DoubleToIntFunction resolve() {
-            return initial;
+        public Function<B, C> apply(boolean b1) {
+            return (B b2) -> initial.apply(b1, b2);
         }
 
         @Override
-        public int applyAsInt(double d) {
-            return initial.applyAsInt(d);
+        public C apply(boolean b1, B b2) {
+            return initial.apply(b1, b2);
         }
     }
 
-    public static final class WithDoubleToLongFunction
-        extends Combine<Long, DoubleToLongFunction>
-        implements DoubleToLongFunctionCombos, DoubleToLongFunction {
+    public static final class WithBooleanObjToDoubleFunction<B>
+        extends Combine<Double, BooleanFunction<ToDoubleFunction<B>>>
+        implements
+            BooleanObjToDoubleFunctionCombos<B>,
+            BooleanObjToDoubleFunction<B>,
+            BooleanFunction<ToDoubleFunction<B>> {
 
-        private final transient DoubleToLongFunction initial;
+        private final transient BooleanObjToDoubleFunction<B> initial;
 
-        private WithDoubleToLongFunction(DoubleToLongFunction initial) {
+        private WithBooleanObjToDoubleFunction(
+            BooleanObjToDoubleFunction<B> initial
+        ) {
             this.initial = Objects.requireNonNull(initial);
         }
 
-        public static WithDoubleToLongFunction of(
-            DoubleToLongFunction initial
+        public static <B> WithBooleanObjToDoubleFunction<B> of(
+            BooleanObjToDoubleFunction<B> initial
         ) {
-            return new WithDoubleToLongFunction(initial);
+            return new WithBooleanObjToDoubleFunction<>(initial);
         }
 
         @Override
-        public DoubleToLongFunction resolve() {
+        public BooleanFunction<ToDoubleFunction<B>> resolve() {
+            return this;
+        }
+
+        @Override
+        public BooleanObjToDoubleFunction<B> resolveUncurried() {
             return initial;
         }
 
         @Override
-        public long applyAsLong(double d) {
-            return initial.applyAsLong(d);
+        public ToDoubleFunction<B> apply(boolean b1) {
+            return (B b2) -> initial.applyAsDouble(b1, b2);
+        }
+
+        @Override
+        public double applyAsDouble(boolean b1, B b2) {
+            return initial.applyAsDouble(b1, b2);
         }
     }
 
-    public static final class WithToDoubleFunction<A>
-        extends Combine<Double, ToDoubleFunction<A>>
-        implements ToDoubleFunctionCombos<A>, ToDoubleFunction<A> {
+    public static final class WithBooleanObjToIntFunction<B>
+        extends Combine<Integer, BooleanFunction<ToIntFunction<B>>>
+        implements
+            BooleanObjToIntFunctionCombos<B>,
+            BooleanObjToIntFunction<B>,
+            BooleanFunction<ToIntFunction<B>> {
 
-        private final transient ToDoubleFunction<A> initial;
+        private final transient BooleanObjToIntFunction<B> initial;
 
-        private WithToDoubleFunction(ToDoubleFunction<A> initial) {
+        private WithBooleanObjToIntFunction(
+            BooleanObjToIntFunction<B> initial
+        ) {
             this.initial = Objects.requireNonNull(initial);
         }
 
-        public static <A> WithToDoubleFunction<A> of(
-            ToDoubleFunction<A> initial
+        public static <B> WithBooleanObjToIntFunction<B> of(
+            BooleanObjToIntFunction<B> initial
         ) {
-            return new WithToDoubleFunction<>(initial);
+            return new WithBooleanObjToIntFunction<>(initial);
         }
 
         @Override
-        public ToDoubleFunction<A> resolve() {
+        public BooleanFunction<ToIntFunction<B>> resolve() {
+            return this;
+        }
+
+        @Override
+        public BooleanObjToIntFunction<B> resolveUncurried() {
             return initial;
         }
 
         @Override
-        public double applyAsDouble(A a) {
-            return initial.applyAsDouble(a);
+        public ToIntFunction<B> apply(boolean b1) {
+            return (B b2) -> initial.applyAsInt(b1, b2);
+        }
+
+        @Override
+        public int applyAsInt(boolean b1, B b2) {
+            return initial.applyAsInt(b1, b2);
         }
     }
 
-    public static final class WithToDoubleBiFunction<A, B>
-        extends Combine<Double, Function<A, ToDoubleFunction<B>>>
+    public static final class WithBooleanObjToLongFunction<B>
+        extends Combine<Long, BooleanFunction<ToLongFunction<B>>>
         implements
-            ToDoubleBiFunctionCombos<A, B>, Function<A, ToDoubleFunction<B>> {
+            BooleanObjToLongFunctionCombos<B>,
+            BooleanObjToLongFunction<B>,
+            BooleanFunction<ToLongFunction<B>> {
 
-        private final transient ToDoubleBiFunction<A, B> initial;
+        private final transient BooleanObjToLongFunction<B> initial;
 
-        private WithToDoubleBiFunction(ToDoubleBiFunction<A, B> initial) {
+        private WithBooleanObjToLongFunction(
+            BooleanObjToLongFunction<B> initial
+        ) {
             this.initial = Objects.requireNonNull(initial);
         }
 
-        public static <A, B> WithToDoubleBiFunction<A, B> of(
-            ToDoubleBiFunction<A, B> initial
+        public static <B> WithBooleanObjToLongFunction<B> of(
+            BooleanObjToLongFunction<B> initial
         ) {
-            return new WithToDoubleBiFunction<>(initial);
+            return new WithBooleanObjToLongFunction<>(initial);
         }
 
-        public static <A, B> WithToDoubleBiFunction<A, B> of(
-            Function<A, ToDoubleFunction<B>> initial
-        ) {
-            return new WithToDoubleBiFunction<>(
-                (A a, B b) -> initial.apply(a).applyAsDouble(b)
-            );
+        @Override
+        public BooleanFunction<ToLongFunction<B>> resolve() {
+            return this;
         }
 
         @Override
-        public Function<A, ToDoubleFunction<B>> resolve() {
-            return (A a) -> (B b) -> initial.applyAsDouble(a, b);
+        public BooleanObjToLongFunction<B> resolveUncurried() {
+            return initial;
         }
 
         @Override
-        public ToDoubleFunction<B> apply(A a) {
-            return (B b) -> initial.applyAsDouble(a, b);
+        public ToLongFunction<B> apply(boolean b1) {
+            return (B b2) -> initial.applyAsLong(b1, b2);
+        }
+
+        @Override
+        public long applyAsLong(boolean b1, B b2) {
+            return initial.applyAsLong(b1, b2);
         }
     }
 
-    public static final class WithIntFunction<A>
-        extends Combine<A, IntFunction<A>>
-        implements IntFunctionCombos<A>, IntFunction<A> {
+    public static final class WithBooleanObjPredicate<B>
+        extends Combine<Boolean, BooleanFunction<Predicate<B>>>
+        implements
+            BooleanObjPredicateCombos<B>,
+            BooleanObjPredicate<B>,
+            BooleanFunction<Predicate<B>> {
 
-        private final transient IntFunction<A> initial;
+        private final transient BooleanObjPredicate<B> initial;
 
-        private WithIntFunction(IntFunction<A> initial) {
+        private WithBooleanObjPredicate(BooleanObjPredicate<B> initial) {
             this.initial = Objects.requireNonNull(initial);
         }
 
-        public static <A> WithIntFunction<A> of(IntFunction<A> initial) {
-            return new WithIntFunction<>(initial);
+        public static <B> WithBooleanObjPredicate<B> of(
+            BooleanObjPredicate<B> initial
+        ) {
+            return new WithBooleanObjPredicate<>(initial);
         }
 
         @Override
-        public IntFunction<A> resolve() {
+        public BooleanFunction<Predicate<B>> resolve() {
+            return this;
+        }
+
+        @Override
+        public BooleanObjPredicate<B> resolveUncurried() {
             return initial;
         }
 
         @Override
-        public A apply(int i) {
-            return initial.apply(i);
+        public Predicate<B> apply(boolean b1) {
+            return (B b2) -> initial.test(b1, b2);
+        }
+
+        @Override
+        public boolean test(boolean b1, B b2) {
+            return initial.test(b1, b2);
         }
     }
 
-    public static final class WithIntToDoubleFunction
-        extends Combine<Integer, IntToDoubleFunction>
-        implements IntToDoubleFunctionCombos, IntToDoubleFunction {
+    @Evil
+    public static final class WithBooleanObjConsumer<B>
+        extends Combine<Void, BooleanFunction<Consumer<B>>>
+        implements
+            BooleanObjConsumerCombos<B>,
+            BooleanObjConsumer<B>,
+            BooleanFunction<Consumer<B>> {
 
-        private final transient IntToDoubleFunction initial;
+        private final transient BooleanObjConsumer<B> initial;
 
-        private WithIntToDoubleFunction(IntToDoubleFunction initial) {
+        private WithBooleanObjConsumer(BooleanObjConsumer<B> initial) {
             this.initial = Objects.requireNonNull(initial);
         }
 
-        public static WithIntToDoubleFunction of(IntToDoubleFunction initial) {
-            return new WithIntToDoubleFunction(initial);
+        public static <B> WithBooleanObjConsumer<B> of(
+            BooleanObjConsumer<B> initial
+        ) {
+            return new WithBooleanObjConsumer<>(initial);
         }
 
         @Override
-        public IntToDoubleFunction resolve() {
+        public BooleanFunction<Consumer<B>> resolve() {
+            return this;
+        }
+
+        @Override
+        public BooleanObjConsumer<B> resolveUncurried() {
             return initial;
         }
 
         @Override
-        public double applyAsDouble(int i) {
-            return initial.applyAsDouble(i);
+        public Consumer<B> apply(boolean b1) {
+            return (B b2) -> initial.accept(b1, b2);
+        }
+
+        @Override
+        public void accept(boolean b1, B b2) {
+            initial.accept(b1, b2);
         }
     }
 
-    public static final class WithIntToLongFunction
-        extends Combine<Long, IntToLongFunction>
-        implements IntToLongFunctionCombos, IntToLongFunction {
+    @Evil
+    public static final class WithBooleanDoubleConsumer
+        extends Combine<Void, BooleanFunction<DoubleConsumer>>
+        implements
+            BooleanDoubleConsumerCombos,
+            BooleanDoubleConsumer,
+            BooleanFunction<DoubleConsumer> {
 
-        private final transient IntToLongFunction initial;
+        private final transient BooleanDoubleConsumer initial;
 
-        private WithIntToLongFunction(IntToLongFunction initial) {
+        private WithBooleanDoubleConsumer(BooleanDoubleConsumer initial) {
             this.initial = Objects.requireNonNull(initial);
         }
 
-        public static WithIntToLongFunction of(IntToLongFunction initial) {
-            return new WithIntToLongFunction(initial);
+        public static WithBooleanDoubleConsumer of(
+            BooleanDoubleConsumer initial
+        ) {
+            return new WithBooleanDoubleConsumer(initial);
         }
 
         @Override
-        public IntToLongFunction resolve() {
+        public BooleanFunction<DoubleConsumer> resolve() {
+            return this;
+        }
+
+        @Override
+        public BooleanDoubleConsumer resolveUncurried() {
             return initial;
         }
 
         @Override
-        public long applyAsLong(int i) {
-            return initial.applyAsLong(i);
+        public DoubleConsumer apply(boolean b) {
+            return (double d) -> initial.accept(b, d);
+        }
+
+        @Override
+        public void accept(boolean b, double d) {
+            initial.accept(b, d);
         }
     }
 
-    public static final class WithToIntFunction<A>
-        extends Combine<Integer, ToIntFunction<A>>
-        implements ToIntFunctionCombos<A>, ToIntFunction<A> {
+    @Evil
+    public static final class WithBooleanIntConsumer
+        extends Combine<Void, BooleanFunction<IntConsumer>>
+        implements
+            BooleanIntConsumerCombos,
+            BooleanIntConsumer,
+            BooleanFunction<IntConsumer> {
 
-        private final transient ToIntFunction<A> initial;
+        private final transient BooleanIntConsumer initial;
 
-        private WithToIntFunction(ToIntFunction<A> initial) {
+        private WithBooleanIntConsumer(BooleanIntConsumer initial) {
             this.initial = Objects.requireNonNull(initial);
         }
 
-        public static <A> WithToIntFunction<A> of(ToIntFunction<A> initial) {
-            return new WithToIntFunction<>(initial);
+        public static WithBooleanIntConsumer of(BooleanIntConsumer initial) {
+            return new WithBooleanIntConsumer(initial);
         }
 
         @Override
-        public ToIntFunction<A> resolve() {
+        public BooleanFunction<IntConsumer> resolve() {
+            return this;
+        }
+
+        @Override
+        public BooleanIntConsumer resolveUncurried() {
             return initial;
         }
 
         @Override
-        public int applyAsInt(A a) {
-            return initial.applyAsInt(a);
+        public IntConsumer apply(boolean b) {
+            return (int i) -> initial.accept(b, i);
+        }
+
+        @Override
+        public void accept(boolean b, int i) {
+            initial.accept(b, i);
         }
     }
 
-    public static final class WithToIntBiFunction<A, B>
-        extends Combine<Integer, Function<A, ToIntFunction<B>>>
-        implements ToIntBiFunctionCombos<A, B>, Function<A, ToIntFunction<B>> {
+    @Evil
+    public static final class WithBooleanLongConsumer
+        extends Combine<Void, BooleanFunction<LongConsumer>>
+        implements
+            BooleanLongConsumerCombos,
+            BooleanLongConsumer,
+            BooleanFunction<LongConsumer> {
 
-        private final transient ToIntBiFunction<A, B> initial;
+        private final transient BooleanLongConsumer initial;
 
-        private WithToIntBiFunction(ToIntBiFunction<A, B> initial) {
+        private WithBooleanLongConsumer(BooleanLongConsumer initial) {
             this.initial = Objects.requireNonNull(initial);
         }
 
-        public static <A, B> WithToIntBiFunction<A, B> of(
-            ToIntBiFunction<A, B> initial
-        ) {
-            return new WithToIntBiFunction<>(initial);
+        public static WithBooleanLongConsumer of(BooleanLongConsumer initial) {
+            return new WithBooleanLongConsumer(initial);
         }
 
-        public static <A, B> WithToIntBiFunction<A, B> of(
-            Function<A, ToIntFunction<B>> initial
-        ) {
-            return new WithToIntBiFunction<>(
-                (A a, B b) -> initial.apply(a).applyAsInt(b)
-            );
+        @Override
+        public BooleanFunction<LongConsumer> resolve() {
+            return this;
         }
 
         @Override
-        public Function<A, ToIntFunction<B>> resolve() {
-            return (A a) -> (B b) -> initial.applyAsInt(a, b);
+        public BooleanLongConsumer resolveUncurried() {
+            return initial;
         }
 
         @Override
-        public ToIntFunction<B> apply(A a) {
-            return (B b) -> initial.applyAsInt(a, b);
+        public LongConsumer apply(boolean b) {
+            return (long n) -> initial.accept(b, n);
+        }
+
+        @Override
+        public void accept(boolean b, long n) {
+            initial.accept(b, n);
         }
     }
 
-    public static final class WithLongFunction<A>
-        extends Combine<A, LongFunction<A>>
-        implements LongFunctionCombos<A>, LongFunction<A> {
+    public static final class WithDoubleFunction<A>
+        extends Combine<A, DoubleFunction<A>>
+        implements DoubleFunctionCombos<A>, DoubleFunction<A> {
 
-        private final transient LongFunction<A> initial;
+        private final transient DoubleFunction<A> initial;
 
-        private WithLongFunction(LongFunction<A> initial) {
+        private WithDoubleFunction(DoubleFunction<A> initial) {
             this.initial = Objects.requireNonNull(initial);
         }
 
-        public static <A> WithLongFunction<A> of(LongFunction<A> initial) {
-            return new WithLongFunction<>(initial);
+        public static <A> WithDoubleFunction<A> of(DoubleFunction<A> initial) {
+            return new WithDoubleFunction<>(initial);
         }
 
         @Override
-        public LongFunction<A> resolve() {
+        public DoubleFunction<A> resolve() {
+            return initial;
+        }
+
+        @Override
+        public A apply(double d) {
+            return initial.apply(d);
+        }
+    }
+
+    public static final class WithDoubleToIntFunction
+        extends Combine<Integer, DoubleToIntFunction>
+        implements DoubleToIntFunctionCombos, DoubleToIntFunction {
+
+        private final transient DoubleToIntFunction initial;
+
+        private WithDoubleToIntFunction(DoubleToIntFunction initial) {
+            this.initial = Objects.requireNonNull(initial);
+        }
+
+        public static WithDoubleToIntFunction of(DoubleToIntFunction initial) {
+            return new WithDoubleToIntFunction(initial);
+        }
+
+        @Override
+        public DoubleToIntFunction resolve() {
+            return initial;
+        }
+
+        @Override
+        public int applyAsInt(double d) {
+            return initial.applyAsInt(d);
+        }
+    }
+
+    public static final class WithDoubleToLongFunction
+        extends Combine<Long, DoubleToLongFunction>
+        implements DoubleToLongFunctionCombos, DoubleToLongFunction {
+
+        private final transient DoubleToLongFunction initial;
+
+        private WithDoubleToLongFunction(DoubleToLongFunction initial) {
+            this.initial = Objects.requireNonNull(initial);
+        }
+
+        public static WithDoubleToLongFunction of(
+            DoubleToLongFunction initial
+        ) {
+            return new WithDoubleToLongFunction(initial);
+        }
+
+        @Override
+        public DoubleToLongFunction resolve() {
+            return initial;
+        }
+
+        @Override
+        public long applyAsLong(double d) {
+            return initial.applyAsLong(d);
+        }
+    }
+
+    public static final class WithToDoubleFunction<A>
+        extends Combine<Double, ToDoubleFunction<A>>
+        implements ToDoubleFunctionCombos<A>, ToDoubleFunction<A> {
+
+        private final transient ToDoubleFunction<A> initial;
+
+        private WithToDoubleFunction(ToDoubleFunction<A> initial) {
+            this.initial = Objects.requireNonNull(initial);
+        }
+
+        public static <A> WithToDoubleFunction<A> of(
+            ToDoubleFunction<A> initial
+        ) {
+            return new WithToDoubleFunction<>(initial);
+        }
+
+        @Override
+        public ToDoubleFunction<A> resolve() {
+            return initial;
+        }
+
+        @Override
+        public double applyAsDouble(A a) {
+            return initial.applyAsDouble(a);
+        }
+    }
+
+    public static final class WithToDoubleBiFunction<A, B>
+        extends Combine<Double, Function<A, ToDoubleFunction<B>>>
+        implements
+            ToDoubleBiFunctionCombos<A, B>, Function<A, ToDoubleFunction<B>> {
+
+        private final transient ToDoubleBiFunction<A, B> initial;
+
+        private WithToDoubleBiFunction(ToDoubleBiFunction<A, B> initial) {
+            this.initial = Objects.requireNonNull(initial);
+        }
+
+        public static <A, B> WithToDoubleBiFunction<A, B> of(
+            ToDoubleBiFunction<A, B> initial
+        ) {
+            return new WithToDoubleBiFunction<>(initial);
+        }
+
+        @Override
+        public Function<A, ToDoubleFunction<B>> resolve() {
+            return this;
+        }
+
+        @Override
+        public ToDoubleBiFunction<A, B> resolveUncurried() {
+            return initial;
+        }
+
+        @Override
+        public ToDoubleFunction<B> apply(A a) {
+            return (B b) -> initial.applyAsDouble(a, b);
+        }
+
+        public double applyAsDouble(A a, B b) {
+            return initial.applyAsDouble(a, b);
+        }
+    }
+
+    public static final class WithIntFunction<A>
+        extends Combine<A, IntFunction<A>>
+        implements IntFunctionCombos<A>, IntFunction<A> {
+
+        private final transient IntFunction<A> initial;
+
+        private WithIntFunction(IntFunction<A> initial) {
+            this.initial = Objects.requireNonNull(initial);
+        }
+
+        public static <A> WithIntFunction<A> of(IntFunction<A> initial) {
+            return new WithIntFunction<>(initial);
+        }
+
+        @Override
+        public IntFunction<A> resolve() {
+            return initial;
+        }
+
+        @Override
+        public A apply(int i) {
+            return initial.apply(i);
+        }
+    }
+
+    public static final class WithIntToDoubleFunction
+        extends Combine<Integer, IntToDoubleFunction>
+        implements IntToDoubleFunctionCombos, IntToDoubleFunction {
+
+        private final transient IntToDoubleFunction initial;
+
+        private WithIntToDoubleFunction(IntToDoubleFunction initial) {
+            this.initial = Objects.requireNonNull(initial);
+        }
+
+        public static WithIntToDoubleFunction of(IntToDoubleFunction initial) {
+            return new WithIntToDoubleFunction(initial);
+        }
+
+        @Override
+        public IntToDoubleFunction resolve() {
+            return initial;
+        }
+
+        @Override
+        public double applyAsDouble(int i) {
+            return initial.applyAsDouble(i);
+        }
+    }
+
+    public static final class WithIntToLongFunction
+        extends Combine<Long, IntToLongFunction>
+        implements IntToLongFunctionCombos, IntToLongFunction {
+
+        private final transient IntToLongFunction initial;
+
+        private WithIntToLongFunction(IntToLongFunction initial) {
+            this.initial = Objects.requireNonNull(initial);
+        }
+
+        public static WithIntToLongFunction of(IntToLongFunction initial) {
+            return new WithIntToLongFunction(initial);
+        }
+
+        @Override
+        public IntToLongFunction resolve() {
+            return initial;
+        }
+
+        @Override
+        public long applyAsLong(int i) {
+            return initial.applyAsLong(i);
+        }
+    }
+
+    public static final class WithToIntFunction<A>
+        extends Combine<Integer, ToIntFunction<A>>
+        implements ToIntFunctionCombos<A>, ToIntFunction<A> {
+
+        private final transient ToIntFunction<A> initial;
+
+        private WithToIntFunction(ToIntFunction<A> initial) {
+            this.initial = Objects.requireNonNull(initial);
+        }
+
+        public static <A> WithToIntFunction<A> of(ToIntFunction<A> initial) {
+            return new WithToIntFunction<>(initial);
+        }
+
+        @Override
+        public ToIntFunction<A> resolve() {
+            return initial;
+        }
+
+        @Override
+        public int applyAsInt(A a) {
+            return initial.applyAsInt(a);
+        }
+    }
+
+    public static final class WithToIntBiFunction<A, B>
+        extends Combine<Integer, Function<A, ToIntFunction<B>>>
+        implements ToIntBiFunctionCombos<A, B>, Function<A, ToIntFunction<B>> {
+
+        private final transient ToIntBiFunction<A, B> initial;
+
+        private WithToIntBiFunction(ToIntBiFunction<A, B> initial) {
+            this.initial = Objects.requireNonNull(initial);
+        }
+
+        public static <A, B> WithToIntBiFunction<A, B> of(
+            ToIntBiFunction<A, B> initial
+        ) {
+            return new WithToIntBiFunction<>(initial);
+        }
+
+        @Override
+        public Function<A, ToIntFunction<B>> resolve() {
+            return this;
+        }
+
+        @Override
+        public ToIntBiFunction<A, B> resolveUncurried() {
+            return initial;
+        }
+
+        @Override
+        public ToIntFunction<B> apply(A a) {
+            return (B b) -> initial.applyAsInt(a, b);
+        }
+
+        public int applyAsInt(A a, B b) {
+            return initial.applyAsInt(a, b);
+        }
+    }
+
+    public static final class WithLongFunction<A>
+        extends Combine<A, LongFunction<A>>
+        implements LongFunctionCombos<A>, LongFunction<A> {
+
+        private final transient LongFunction<A> initial;
+
+        private WithLongFunction(LongFunction<A> initial) {
+            this.initial = Objects.requireNonNull(initial);
+        }
+
+        public static <A> WithLongFunction<A> of(LongFunction<A> initial) {
+            return new WithLongFunction<>(initial);
+        }
+
+        @Override
+        public LongFunction<A> resolve() {
             return initial;
         }
 
@@ -526,878 +1082,2138 @@ public abstract class Combine<A, Fn> {
         }
     }
 
-    public static final class WithLongToDoubleFunction
-        extends Combine<Long, LongToDoubleFunction>
-        implements LongToDoubleFunctionCombos, LongToDoubleFunction {
+    public static final class WithLongToDoubleFunction
+        extends Combine<Long, LongToDoubleFunction>
+        implements LongToDoubleFunctionCombos, LongToDoubleFunction {
+
+        private final transient LongToDoubleFunction initial;
+
+        private WithLongToDoubleFunction(LongToDoubleFunction initial) {
+            this.initial = Objects.requireNonNull(initial);
+        }
+
+        public static WithLongToDoubleFunction of(
+            LongToDoubleFunction initial
+        ) {
+            return new WithLongToDoubleFunction(initial);
+        }
+
+        @Override
+        public LongToDoubleFunction resolve() {
+            return initial;
+        }
+
+        @Override
+        public double applyAsDouble(long n) {
+            return initial.applyAsDouble(n);
+        }
+    }
+
+    public static final class WithLongToIntFunction
+        extends Combine<Long, LongToIntFunction>
+        implements LongToIntFunctionCombos, LongToIntFunction {
+
+        private final transient LongToIntFunction initial;
+
+        private WithLongToIntFunction(LongToIntFunction initial) {
+            this.initial = Objects.requireNonNull(initial);
+        }
+
+        public static WithLongToIntFunction of(LongToIntFunction initial) {
+            return new WithLongToIntFunction(initial);
+        }
+
+        @Override
+        public LongToIntFunction resolve() {
+            return initial;
+        }
+
+        @Override
+        public int applyAsInt(long n) {
+            return initial.applyAsInt(n);
+        }
+    }
+
+    public static final class WithToLongFunction<A>
+        extends Combine<Long, ToLongFunction<A>>
+        implements ToLongFunctionCombos<A>, ToLongFunction<A> {
+
+        private final transient ToLongFunction<A> initial;
+
+        private WithToLongFunction(ToLongFunction<A> initial) {
+            this.initial = Objects.requireNonNull(initial);
+        }
+
+        public static <A> WithToLongFunction<A> of(ToLongFunction<A> initial) {
+            return new WithToLongFunction<>(initial);
+        }
+
+        @Override
+        public ToLongFunction<A> resolve() {
+            return initial;
+        }
+
+        @Override
+        public long applyAsLong(A a) {
+            return initial.applyAsLong(a);
+        }
+    }
+
+    public static final class WithToLongBiFunction<A, B>
+        extends Combine<Long, Function<A, ToLongFunction<B>>>
+        implements
+            ToLongBiFunctionCombos<A, B>, Function<A, ToLongFunction<B>> {
+
+        private final transient ToLongBiFunction<A, B> initial;
+
+        private WithToLongBiFunction(ToLongBiFunction<A, B> initial) {
+            this.initial = Objects.requireNonNull(initial);
+        }
+
+        public static <A, B> WithToLongBiFunction<A, B> of(
+            ToLongBiFunction<A, B> initial
+        ) {
+            return new WithToLongBiFunction<>(initial);
+        }
+
+        @Override
+        public Function<A, ToLongFunction<B>> resolve() {
+            return this;
+        }
+
+        @Override
+        public ToLongBiFunction<A, B> resolveUncurried() {
+            return initial;
+        }
+
+        @Override
+        public ToLongFunction<B> apply(A a) {
+            return (B b) -> initial.applyAsLong(a, b);
+        }
+
+        public long applyAsLong(A a, B b) {
+            return initial.applyAsLong(a, b);
+        }
+    }
+
+    @Evil
+    public static final class WithConsumer<A>
+        extends Combine<Void, Consumer<A>>
+        implements ConsumerCombos<A>, Consumer<A> {
+
+        private final transient Consumer<A> initial;
+
+        private WithConsumer(Consumer<A> initial) {
+            this.initial = Objects.requireNonNull(initial);
+        }
+
+        public static <A> WithConsumer<A> of(Consumer<A> initial) {
+            return new WithConsumer<>(initial);
+        }
+
+        @Override
+        public Consumer<A> resolve() {
+            return initial;
+        }
+
+        @Override
+        public void accept(A a) {
+            initial.accept(a);
+        }
+    }
+
+    @Evil
+    public static final class WithBiConsumer<A, B>
+        extends Combine<Void, Function<A, Consumer<B>>>
+        implements BiConsumerCombos<A, B>, Function<A, Consumer<B>> {
+
+        private final transient BiConsumer<A, B> initial;
+
+        private WithBiConsumer(BiConsumer<A, B> initial) {
+            this.initial = Objects.requireNonNull(initial);
+        }
+
+        public static <A, B> WithBiConsumer<A, B> of(BiConsumer<A, B> initial) {
+            return new WithBiConsumer<>(initial);
+        }
+
+        @Override
+        public Function<A, Consumer<B>> resolve() {
+            return this;
+        }
+
+        @Override
+        public BiConsumer<A, B> resolveUncurried() {
+            return initial;
+        }
+
+        @Override
+        public Consumer<B> apply(A a) {
+            return (B b) -> initial.accept(a, b);
+        }
+
+        public void accept(A a, B b) {
+            initial.accept(a, b);
+        }
+    }
+
+    @Evil
+    public static final class WithBooleanConsumer
+        extends Combine<Void, BooleanConsumer>
+        implements BooleanConsumerCombos, BooleanConsumer {
+
+        private final transient BooleanConsumer initial;
+
+        private WithBooleanConsumer(BooleanConsumer initial) {
+            this.initial = Objects.requireNonNull(initial);
+        }
+
+        public static WithBooleanConsumer of(BooleanConsumer initial) {
+            return new WithBooleanConsumer(initial);
+        }
+
+        @Override
+        public BooleanConsumer resolve() {
+            return initial;
+        }
+
+        @Override
+        public void accept(boolean b) {
+            initial.accept(b);
+        }
+    }
+
+    @Evil
+    public static final class WithDoubleConsumer
+        extends Combine<Void, DoubleConsumer>
+        implements DoubleConsumerCombos, DoubleConsumer {
+
+        private final transient DoubleConsumer initial;
+
+        private WithDoubleConsumer(DoubleConsumer initial) {
+            this.initial = Objects.requireNonNull(initial);
+        }
+
+        public static WithDoubleConsumer of(DoubleConsumer initial) {
+            return new WithDoubleConsumer(initial);
+        }
+
+        @Override
+        public DoubleConsumer resolve() {
+            return initial;
+        }
+
+        @Override
+        public void accept(double d) {
+            initial.accept(d);
+        }
+    }
+
+    @Evil
+    public static final class WithObjDoubleConsumer<A>
+        extends Combine<Void, Function<A, DoubleConsumer>>
+        implements ObjDoubleConsumerCombos<A>, Function<A, DoubleConsumer> {
+
+        private final transient ObjDoubleConsumer<A> initial;
+
+        private WithObjDoubleConsumer(ObjDoubleConsumer<A> initial) {
+            this.initial = Objects.requireNonNull(initial);
+        }
+
+        public static <A> WithObjDoubleConsumer<A> of(
+            ObjDoubleConsumer<A> initial
+        ) {
+            return new WithObjDoubleConsumer<>(initial);
+        }
+
+        @Override
+        public Function<A, DoubleConsumer> resolve() {
+            return this;
+        }
+
+        @Override
+        public ObjDoubleConsumer<A> resolveUncurried() {
+            return initial;
+        }
+
+        @Override
+        public DoubleConsumer apply(A a) {
+            return (double d) -> initial.accept(a, d);
+        }
+
+        public void accept(A a, double d) {
+            initial.accept(a, d);
+        }
+    }
+
+    @Evil
+    public static final class WithIntConsumer
+        extends Combine<Void, IntConsumer>
+        implements IntConsumerCombos, IntConsumer {
+
+        private final transient IntConsumer initial;
+
+        private WithIntConsumer(IntConsumer initial) {
+            this.initial = Objects.requireNonNull(initial);
+        }
+
+        public static WithIntConsumer of(IntConsumer initial) {
+            return new WithIntConsumer(initial);
+        }
+
+        @Override
+        public IntConsumer resolve() {
+            return initial;
+        }
+
+        @Override
+        public void accept(int i) {
+            initial.accept(i);
+        }
+    }
+
+    @Evil
+    public static final class WithObjIntConsumer<A>
+        extends Combine<Void, Function<A, IntConsumer>>
+        implements ObjIntConsumerCombos<A>, Function<A, IntConsumer> {
+
+        private final transient ObjIntConsumer<A> initial;
+
+        private WithObjIntConsumer(ObjIntConsumer<A> initial) {
+            this.initial = Objects.requireNonNull(initial);
+        }
+
+        public static <A> WithObjIntConsumer<A> of(ObjIntConsumer<A> initial) {
+            return new WithObjIntConsumer<>(initial);
+        }
+
+        @Override
+        public Function<A, IntConsumer> resolve() {
+            return this;
+        }
+
+        @Override
+        public ObjIntConsumer<A> resolveUncurried() {
+            return initial;
+        }
+
+        @Override
+        public IntConsumer apply(A a) {
+            return (int i) -> initial.accept(a, i);
+        }
+
+        public void accept(A a, int i) {
+            initial.accept(a, i);
+        }
+    }
+
+    @Evil
+    public static final class WithLongConsumer
+        extends Combine<Void, LongConsumer>
+        implements LongConsumerCombos, LongConsumer {
+
+        private final transient LongConsumer initial;
+
+        private WithLongConsumer(LongConsumer initial) {
+            this.initial = Objects.requireNonNull(initial);
+        }
+
+        public static WithLongConsumer of(LongConsumer initial) {
+            return new WithLongConsumer(initial);
+        }
+
+        @Override
+        public LongConsumer resolve() {
+            return initial;
+        }
+
+        @Override
+        public void accept(long n) {
+            initial.accept(n);
+        }
+    }
+
+    @Evil
+    public static final class WithObjLongConsumer<A>
+        extends Combine<Void, Function<A, LongConsumer>>
+        implements ObjLongConsumerCombos<A>, Function<A, LongConsumer> {
+
+        private final transient ObjLongConsumer<A> initial;
+
+        private WithObjLongConsumer(ObjLongConsumer<A> initial) {
+            this.initial = Objects.requireNonNull(initial);
+        }
+
+        public static <A> WithObjLongConsumer<A> of(
+            ObjLongConsumer<A> initial
+        ) {
+            return new WithObjLongConsumer<>(initial);
+        }
+
+        @Override
+        public Function<A, LongConsumer> resolve() {
+            return this;
+        }
+
+        @Override
+        public ObjLongConsumer<A> resolveUncurried() {
+            return initial;
+        }
+
+        @Override
+        public LongConsumer apply(A a) {
+            return (long n) -> initial.accept(a, n);
+        }
+
+        public void accept(A a, long n) {
+            initial.accept(a, n);
+        }
+    }
+
+    public static final class WithPredicate<A>
+        extends Combine<Boolean, Predicate<A>>
+        implements PredicateCombos<A>, Predicate<A> {
+
+        private final transient Predicate<A> initial;
+
+        private WithPredicate(Predicate<A> initial) {
+            this.initial = Objects.requireNonNull(initial);
+        }
+
+        public static <A> WithPredicate<A> of(Predicate<A> initial) {
+            return new WithPredicate<>(initial);
+        }
+
+        @Override
+        public Predicate<A> resolve() {
+            return initial;
+        }
+
+        @Override
+        public boolean test(A a) {
+            return initial.test(a);
+        }
+    }
+
+    public static final class WithBiPredicate<A, B>
+        extends Combine<Boolean, Function<A, Predicate<B>>>
+        implements BiPredicateCombos<A, B>, Function<A, Predicate<B>> {
+
+        private final transient BiPredicate<A, B> initial;
+
+        private WithBiPredicate(BiPredicate<A, B> initial) {
+            this.initial = Objects.requireNonNull(initial);
+        }
+
+        public static <A, B> WithBiPredicate<A, B> of(
+            BiPredicate<A, B> initial
+        ) {
+            return new WithBiPredicate<>(initial);
+        }
+
+        @Override
+        public Function<A, Predicate<B>> resolve() {
+            return this;
+        }
+
+        @Override
+        public BiPredicate<A, B> resolveUncurried() {
+            return initial;
+        }
+
+        @Override
+        public Predicate<B> apply(A a) {
+            return (B b) -> initial.test(a, b);
+        }
+
+        public boolean test(A a, B b) {
+            return initial.test(a, b);
+        }
+    }
+
+    public static final class WithBooleanPredicate
+        extends Combine<Boolean, BooleanPredicate>
+        implements BooleanPredicateCombos, BooleanPredicate {
+
+        private final transient BooleanPredicate initial;
+
+        private WithBooleanPredicate(BooleanPredicate initial) {
+            this.initial = Objects.requireNonNull(initial);
+        }
+
+        public static WithBooleanPredicate of(BooleanPredicate initial) {
+            return new WithBooleanPredicate(initial);
+        }
+
+        @Override
+        public BooleanPredicate resolve() {
+            return initial;
+        }
+
+        @Override
+        public boolean test(boolean b) {
+            return initial.test(b);
+        }
+    }
+
+    public static final class WithDoublePredicate
+        extends Combine<Double, DoublePredicate>
+        implements DoublePredicateCombos, DoublePredicate {
+
+        private final transient DoublePredicate initial;
+
+        private WithDoublePredicate(DoublePredicate initial) {
+            this.initial = Objects.requireNonNull(initial);
+        }
+
+        public static WithDoublePredicate of(DoublePredicate initial) {
+            return new WithDoublePredicate(initial);
+        }
+
+        @Override
+        public DoublePredicate resolve() {
+            return initial;
+        }
+
+        @Override
+        public boolean test(double d) {
+            return initial.test(d);
+        }
+    }
+
+    public static final class WithIntPredicate
+        extends Combine<Integer, IntPredicate>
+        implements IntPredicateCombos, IntPredicate {
+
+        private final transient IntPredicate initial;
+
+        private WithIntPredicate(IntPredicate initial) {
+            this.initial = Objects.requireNonNull(initial);
+        }
+
+        public static WithIntPredicate of(IntPredicate initial) {
+            return new WithIntPredicate(initial);
+        }
+
+        @Override
+        public IntPredicate resolve() {
+            return initial;
+        }
+
+        @Override
+        public boolean test(int i) {
+            return initial.test(i);
+        }
+    }
+
+    public static final class WithLongPredicate
+        extends Combine<Long, LongPredicate>
+        implements LongPredicateCombos, LongPredicate {
 
-        private final transient LongToDoubleFunction initial;
+        private final transient LongPredicate initial;
 
-        private WithLongToDoubleFunction(LongToDoubleFunction initial) {
+        private WithLongPredicate(LongPredicate initial) {
             this.initial = Objects.requireNonNull(initial);
         }
 
-        public static WithLongToDoubleFunction of(
-            LongToDoubleFunction initial
+        public static WithLongPredicate of(LongPredicate initial) {
+            return new WithLongPredicate(initial);
+        }
+
+        @Override
+        public LongPredicate resolve() {
+            return initial;
+        }
+
+        @Override
+        public boolean test(long n) {
+            return initial.test(n);
+        }
+    }
+
+    public static final class WithSupplier<A>
+        extends Combine<A, Supplier<A>>
+        implements SupplierCombos<A>, Supplier<A> {
+
+        private final transient Supplier<?> initial;
+        private final transient Function<Object, Object>[] stages;
+        private final transient boolean constant;
+        private transient volatile boolean computed;
+        private transient A value;
+
+        private WithSupplier(
+            Supplier<?> initial,
+            Function<Object, Object>[] stages,
+            boolean constant
         ) {
-            return new WithLongToDoubleFunction(initial);
+            this.initial = Objects.requireNonNull(initial);
+            this.stages = stages;
+            this.constant = constant;
+        }
+
+        @SuppressWarnings("unchecked")
+        public static <A> WithSupplier<A> of(Supplier<A> initial) {
+            if (initial instanceof WithSupplier) {
+                return (WithSupplier<A>) initial;
+            }
+            return of(initial, false);
+        }
+
+        @SuppressWarnings("unchecked")
+        static <A> WithSupplier<A> of(Supplier<A> initial, boolean constant) {
+            return new WithSupplier<>(
+                initial,
+                (Function<Object, Object>[]) new Function<?, ?>[0],
+                constant
+            );
         }
 
         @Override
-        public LongToDoubleFunction resolve() {
+        public WithSupplier<A> constant() {
+            return constant ? this : new WithSupplier<>(initial, stages, true);
+        }
+
+        @Override
+        public boolean isConstant() {
+            return constant;
+        }
+
+        <B> WithSupplier<B> then(Function<A, B> next) {
+            if (constant) {
+                return new WithSupplier<>(
+                    this,
+                    WithFunction.stagesOf(next),
+                    true
+                );
+            }
+            return new WithSupplier<>(
+                initial,
+                concat(stages, WithFunction.stagesOf(next)),
+                false
+            );
+        }
+
+        @Override
+        public Supplier<A> resolve() {
+            return this;
+        }
+
+        @Override
+        public A get() {
+            if (!constant) {
+                return compute();
+            }
+            if (!computed) {
+                synchronized (this) {
+                    if (!computed) {
+                        value = compute();
+                        computed = true;
+                    }
+                }
+            }
+            return value;
+        }
+
+        @SuppressWarnings("unchecked")
+        private A compute() {
+            Object result = initial.get();
+            for (Function<Object, Object> stage : stages) {
+                result = stage.apply(result);
+            }
+            return (A) result;
+        }
+    }
+
+    public static final class WithBooleanSupplier
+        extends Combine<Boolean, BooleanSupplier>
+        implements BooleanSupplierCombos, BooleanSupplier {
+
+        private final transient BooleanSupplier initial;
+        private final transient boolean constant;
+        private transient volatile boolean computed;
+        private transient boolean value;
+
+        private WithBooleanSupplier(BooleanSupplier initial, boolean constant) {
+            this.initial = Objects.requireNonNull(initial);
+            this.constant = constant;
+        }
+
+        public static <A> WithBooleanSupplier of(BooleanSupplier initial) {
+            return of(initial, false);
+        }
+
+        static WithBooleanSupplier of(
+            BooleanSupplier initial,
+            boolean constant
+        ) {
+            return new WithBooleanSupplier(initial, constant);
+        }
+
+        public WithBooleanSupplier constant() {
+            return constant ? this : new WithBooleanSupplier(initial, true);
+        }
+
+        @Override
+        public boolean isConstant() {
+            return constant;
+        }
+
+        @Override
+        public BooleanSupplier resolve() {
+            return constant ? this : initial;
+        }
+
+        @Override
+        public boolean getAsBoolean() {
+            if (!constant) {
+                return initial.getAsBoolean();
+            }
+            if (!computed) {
+                synchronized (this) {
+                    if (!computed) {
+                        value = initial.getAsBoolean();
+                        computed = true;
+                    }
+                }
+            }
+            return value;
+        }
+    }
+
+    public static final class WithDoubleSupplier
+        extends Combine<Double, DoubleSupplier>
+        implements DoubleSupplierCombos, DoubleSupplier {
+
+        private final transient DoubleSupplier initial;
+        private final transient boolean constant;
+        private transient volatile boolean computed;
+        private transient double value;
+
+        private WithDoubleSupplier(DoubleSupplier initial, boolean constant) {
+            this.initial = Objects.requireNonNull(initial);
+            this.constant = constant;
+        }
+
+        public static <A> WithDoubleSupplier of(DoubleSupplier initial) {
+            return of(initial, false);
+        }
+
+        static WithDoubleSupplier of(DoubleSupplier initial, boolean constant) {
+            return new WithDoubleSupplier(initial, constant);
+        }
+
+        public WithDoubleSupplier constant() {
+            return constant ? this : new WithDoubleSupplier(initial, true);
+        }
+
+        @Override
+        public boolean isConstant() {
+            return constant;
+        }
+
+        @Override
+        public DoubleSupplier resolve() {
+            return constant ? this : initial;
+        }
+
+        @Override
+        public double getAsDouble() {
+            if (!constant) {
+                return initial.getAsDouble();
+            }
+            if (!computed) {
+                synchronized (this) {
+                    if (!computed) {
+                        value = initial.getAsDouble();
+                        computed = true;
+                    }
+                }
+            }
+            return value;
+        }
+    }
+
+    public static final class WithIntSupplier
+        extends Combine<Integer, IntSupplier>
+        implements IntSupplierCombos, IntSupplier {
+
+        private final transient IntSupplier initial;
+        private final transient boolean constant;
+        private transient volatile boolean computed;
+        private transient int value;
+
+        private WithIntSupplier(IntSupplier initial, boolean constant) {
+            this.initial = Objects.requireNonNull(initial);
+            this.constant = constant;
+        }
+
+        public static <A> WithIntSupplier of(IntSupplier initial) {
+            return of(initial, false);
+        }
+
+        static WithIntSupplier of(IntSupplier initial, boolean constant) {
+            return new WithIntSupplier(initial, constant);
+        }
+
+        public WithIntSupplier constant() {
+            return constant ? this : new WithIntSupplier(initial, true);
+        }
+
+        @Override
+        public boolean isConstant() {
+            return constant;
+        }
+
+        @Override
+        public IntSupplier resolve() {
+            return constant ? this : initial;
+        }
+
+        @Override
+        public int getAsInt() {
+            if (!constant) {
+                return initial.getAsInt();
+            }
+            if (!computed) {
+                synchronized (this) {
+                    if (!computed) {
+                        value = initial.getAsInt();
+                        computed = true;
+                    }
+                }
+            }
+            return value;
+        }
+    }
+
+    public static final class WithLongSupplier
+        extends Combine<Long, LongSupplier>
+        implements LongSupplierCombos, LongSupplier {
+
+        private final transient LongSupplier initial;
+        private final transient boolean constant;
+        private transient volatile boolean computed;
+        private transient long value;
+
+        private WithLongSupplier(LongSupplier initial, boolean constant) {
+            this.initial = Objects.requireNonNull(initial);
+            this.constant = constant;
+        }
+
+        public static <A> WithLongSupplier of(LongSupplier initial) {
+            return of(initial, false);
+        }
+
+        static WithLongSupplier of(LongSupplier initial, boolean constant) {
+            return new WithLongSupplier(initial, constant);
+        }
+
+        public WithLongSupplier constant() {
+            return constant ? this : new WithLongSupplier(initial, true);
+        }
+
+        @Override
+        public boolean isConstant() {
+            return constant;
+        }
+
+        @Override
+        public LongSupplier resolve() {
+            return constant ? this : initial;
+        }
+
+        @Override
+        public long getAsLong() {
+            if (!constant) {
+                return initial.getAsLong();
+            }
+            if (!computed) {
+                synchronized (this) {
+                    if (!computed) {
+                        value = initial.getAsLong();
+                        computed = true;
+                    }
+                }
+            }
+            return value;
+        }
+    }
+
+    @Evil
+    public static final class WithOperator
+        extends Combine<Void, Operator>
+        implements OperatorCombos, Operator {
+
+        private final transient Operator initial;
+
+        private WithOperator(Operator initial) {
+            this.initial = Objects.requireNonNull(initial);
+        }
+
+        public static WithOperator of(Operator initial) {
+            return new WithOperator(initial);
+        }
+
+        @Override
+        public Operator resolve() {
             return initial;
         }
 
         @Override
-        public double applyAsDouble(long n) {
-            return initial.applyAsDouble(n);
+        public void run() {
+            initial.run();
         }
     }
 
-    public static final class WithLongToIntFunction
-        extends Combine<Long, LongToIntFunction>
-        implements LongToIntFunctionCombos, LongToIntFunction {
+    public static final class WithDoubleUnaryOperator
+        extends Combine<Double, DoubleUnaryOperator>
+        implements DoubleUnaryOperatorCombos, DoubleUnaryOperator {
 
-        private final transient LongToIntFunction initial;
+        private final transient DoubleUnaryOperator[] stages;
 
-        private WithLongToIntFunction(LongToIntFunction initial) {
+        // Non-null when every stage is known arithmetic.
+        private final transient DoubleArithmetic[] program;
+
+        private WithDoubleUnaryOperator(DoubleUnaryOperator[] stages) {
+            this.stages = stages;
+            this.program = Bulk.programOf(stages);
+        }
+
+        public static <A> WithDoubleUnaryOperator of(
+            DoubleUnaryOperator initial
+        ) {
+            return new WithDoubleUnaryOperator(stagesOf(initial));
+        }
+
+        WithDoubleUnaryOperator then(DoubleUnaryOperator next) {
+            return new WithDoubleUnaryOperator(
+                DoubleArithmetic.fold(concat(stages, stagesOf(next)))
+            );
+        }
+
+        private static DoubleUnaryOperator[] stagesOf(DoubleUnaryOperator op) {
+            if (Objects.requireNonNull(op) instanceof WithDoubleUnaryOperator) {
+                return ((WithDoubleUnaryOperator) op).stages;
+            }
+            return new DoubleUnaryOperator[] { op };
+        }
+
+        @Override
+        public DoubleUnaryOperator resolve() {
+            return this;
+        }
+
+        @Override
+        public double[] applyAll(
+            double[] in,
+            int inOffset,
+            double[] out,
+            int outOffset,
+            int length
+        ) {
+            if (program != null) {
+                return Bulk.doubleArithmetic(
+                    program,
+                    in,
+                    inOffset,
+                    out,
+                    outOffset,
+                    length
+                );
+            }
+            return Bulk.doubleUnaryOperators(
+                stages,
+                in,
+                inOffset,
+                out,
+                outOffset,
+                length
+            );
+        }
+
+        @Override
+        public double applyAsDouble(double d) {
+            double value = d;
+            for (DoubleUnaryOperator stage : stages) {
+                value = stage.applyAsDouble(value);
+            }
+            return value;
+        }
+    }
+
+    public static final class WithDoubleBinaryOperator
+        extends Combine<Double, DoubleFunction<DoubleUnaryOperator>>
+        implements
+            DoubleBinaryOperatorCombos,
+            DoubleBinaryOperator,
+            DoubleFunction<DoubleUnaryOperator> {
+
+        private final transient DoubleBinaryOperator initial;
+
+        private WithDoubleBinaryOperator(DoubleBinaryOperator initial) {
             this.initial = Objects.requireNonNull(initial);
         }
 
-        public static WithLongToIntFunction of(LongToIntFunction initial) {
-            return new WithLongToIntFunction(initial);
+        public static WithDoubleBinaryOperator of(
+            DoubleBinaryOperator initial
+        ) {
+            return new WithDoubleBinaryOperator(initial);
+        }
+
+        @Override
+        public DoubleFunction<DoubleUnaryOperator> resolve() {
+            return this;
+        }
+
+        @Override
+        public DoubleBinaryOperator resolveUncurried() {
+            return initial;
         }
 
         @Override
-        public LongToIntFunction resolve() {
-            return initial;
+        public DoubleUnaryOperator apply(double d1) {
+            return (double d2) -> initial.applyAsDouble(d1, d2);
         }
 
         @Override
-        public int applyAsInt(long n) {
-            return initial.applyAsInt(n);
+        public double applyAsDouble(double d1, double d2) {
+            return initial.applyAsDouble(d1, d2);
         }
     }
 
-    public static final class WithToLongFunction<A>
-        extends Combine<Long, ToLongFunction<A>>
-        implements ToLongFunctionCombos<A>, ToLongFunction<A> {
+    public static final class WithDoubleBiFunction<C>
+        extends Combine<C, DoubleFunction<DoubleFunction<C>>>
+        implements
+            DoubleBiFunctionCombos<C>,
+            DoubleBiFunction<C>,
+            DoubleFunction<DoubleFunction<C>> {
 
-        private final transient ToLongFunction<A> initial;
+        private final transient DoubleBiFunction<C> initial;
 
-        private WithToLongFunction(ToLongFunction<A> initial) {
+        private WithDoubleBiFunction(DoubleBiFunction<C> initial) {
             this.initial = Objects.requireNonNull(initial);
         }
 
-        public static <A> WithToLongFunction<A> of(ToLongFunction<A> initial) {
-            return new WithToLongFunction<>(initial);
+        public static <C> WithDoubleBiFunction<C> of(
+            DoubleBiFunction<C> initial
+        ) {
+            return new WithDoubleBiFunction<>(initial);
         }
 
         @Override
-        public ToLongFunction<A> resolve() {
+        public DoubleFunction<DoubleFunction<C>> resolve() {
+            return this;
+        }
+
+        @Override
+        public DoubleBiFunction<C> resolveUncurried() {
             return initial;
         }
 
         @Override
-        public long applyAsLong(A a) {
-            return initial.applyAsLong(a);
+        public DoubleFunction<C> apply(double d1) {
+            return (double d2) -> initial.apply(d1, d2);
+        }
+
+        @Override
+        public C apply(double d1, double d2) {
+            return initial.apply(d1, d2);
         }
     }
 
-    public static final class WithToLongBiFunction<A, B>
-        extends Combine<Long, Function<A, ToLongFunction<B>>>
+    public static final class WithDoubleBinaryToIntFunction
+        extends Combine<Integer, DoubleFunction<DoubleToIntFunction>>
         implements
-            ToLongBiFunctionCombos<A, B>, Function<A, ToLongFunction<B>> {
+            DoubleBinaryToIntFunctionCombos,
+            DoubleBinaryToIntFunction,
+            DoubleFunction<DoubleToIntFunction> {
 
-        private final transient ToLongBiFunction<A, B> initial;
+        private final transient DoubleBinaryToIntFunction initial;
 
-        private WithToLongBiFunction(ToLongBiFunction<A, B> initial) {
+        private WithDoubleBinaryToIntFunction(
+            DoubleBinaryToIntFunction initial
+        ) {
             this.initial = Objects.requireNonNull(initial);
         }
 
-        public static <A, B> WithToLongBiFunction<A, B> of(
-            ToLongBiFunction<A, B> initial
+        public static WithDoubleBinaryToIntFunction of(
+            DoubleBinaryToIntFunction initial
         ) {
-            return new WithToLongBiFunction<>(initial);
+            return new WithDoubleBinaryToIntFunction(initial);
         }
 
-        public static <A, B> WithToLongBiFunction<A, B> of(
-            Function<A, ToLongFunction<B>> initial
-        ) {
-            return new WithToLongBiFunction<>(
-                (A a, B b) -> initial.apply(a).applyAsLong(b)
-            );
+        @Override
+        public DoubleFunction<DoubleToIntFunction> resolve() {
+            return this;
         }
 
         @Override
-        public Function<A, ToLongFunction<B>> resolve() {
-            return (A a) -> (B b) -> initial.applyAsLong(a, b);
+        public DoubleBinaryToIntFunction resolveUncurried() {
+            return initial;
         }
 
         @Override
-        public ToLongFunction<B> apply(A a) {
-            return (B b) -> initial.applyAsLong(a, b);
+        public DoubleToIntFunction apply(double d1) {
+            return (double d2) -> initial.applyAsInt(d1, d2);
+        }
+
+        @Override
+        public int applyAsInt(double d1, double d2) {
+            return initial.applyAsInt(d1, d2);
         }
     }
 
-    @Evil
-    public static final class WithConsumer<A>
-        extends Combine<Void, Consumer<A>>
-        implements ConsumerCombos<A>, Consumer<A> {
+    public static final class WithDoubleBinaryToLongFunction
+        extends Combine<Long, DoubleFunction<DoubleToLongFunction>>
+        implements
+            DoubleBinaryToLongFunctionCombos,
+            DoubleBinaryToLongFunction,
+            DoubleFunction<DoubleToLongFunction> {
 
-        private final transient Consumer<A> initial;
+        private final transient DoubleBinaryToLongFunction initial;
 
-        private WithConsumer(Consumer<A> initial) {
+        private WithDoubleBinaryToLongFunction(
+            DoubleBinaryToLongFunction initial
+        ) {
             this.initial = Objects.requireNonNull(initial);
         }
 
-        public static <A> WithConsumer<A> of(Consumer<A> initial) {
-            return new WithConsumer<>(initial);
+        public static WithDoubleBinaryToLongFunction of(
+            DoubleBinaryToLongFunction initial
+        ) {
+            return new WithDoubleBinaryToLongFunction(initial);
         }
 
         @Override
-        public Consumer<A> resolve() {
+        public DoubleFunction<DoubleToLongFunction> resolve() {
+            return this;
+        }
+
+        @Override
+        public DoubleBinaryToLongFunction resolveUncurried() {
             return initial;
         }
 
         @Override
-        public void accept(A a) {
-            initial.accept(a);
+        public DoubleToLongFunction apply(double d1) {
+            return (double d2) -> initial.applyAsLong(d1, d2);
+        }
+
+        @Override
+        public long applyAsLong(double d1, double d2) {
+            return initial.applyAsLong(d1, d2);
         }
     }
 
-    @Evil
-    public static final class WithBiConsumer<A, B>
-        extends Combine<Void, Function<A, Consumer<B>>>
-        implements BiConsumerCombos<A, B>, Function<A, Consumer<B>> {
+    public static final class WithDoubleBiPredicate
+        extends Combine<Boolean, DoubleFunction<DoublePredicate>>
+        implements
+            DoubleBiPredicateCombos,
+            DoubleBiPredicate,
+            DoubleFunction<DoublePredicate> {
 
-        private final transient BiConsumer<A, B> initial;
+        private final transient DoubleBiPredicate initial;
 
-        private WithBiConsumer(BiConsumer<A, B> initial) {
+        private WithDoubleBiPredicate(DoubleBiPredicate initial) {
             this.initial = Objects.requireNonNull(initial);
         }
 
-        public static <A, B> WithBiConsumer<A, B> of(BiConsumer<A, B> initial) {
-            return new WithBiConsumer<>(initial);
+        public static WithDoubleBiPredicate of(DoubleBiPredicate initial) {
+            return new WithDoubleBiPredicate(initial);
         }
 
-        public static <A, B> WithBiConsumer<A, B> of(
-            Function<A, Consumer<B>> initial
-        ) {
-            return new WithBiConsumer<>(
-                (A a, B b) -> initial.apply(a).accept(b)
-            );
+        @Override
+        public DoubleFunction<DoublePredicate> resolve() {
+            return this;
         }
 
         @Override
-        public Function<A, Consumer<B>> resolve() {
-            return (A a) -> (B b) -> initial.accept(a, b);
+        public DoubleBiPredicate resolveUncurried() {
+            return initial;
         }
 
         @Override
-        public Consumer<B> apply(A a) {
-            return (B b) -> initial.accept(a, b);
+        public DoublePredicate apply(double d1) {
+            return (double d2) -> initial.test(d1, d2);
+        }
+
+        @Override
+        public boolean test(double d1, double d2) {
+            return initial.test(d1, d2);
         }
     }
 
     @Evil
-    public static final class WithBooleanConsumer
-        extends Combine<Void, BooleanConsumer>
-        implements BooleanConsumerCombos, BooleanConsumer {
+    public static final class WithDoubleBiConsumer
+        extends Combine<Void, DoubleFunction<DoubleConsumer>>
+        implements
+            DoubleBiConsumerCombos,
+            DoubleBiConsumer,
+            DoubleFunction<DoubleConsumer> {
 
-        private final transient BooleanConsumer initial;
+        private final transient DoubleBiConsumer initial;
 
-        private WithBooleanConsumer(BooleanConsumer initial) {
+        private WithDoubleBiConsumer(DoubleBiConsumer initial) {
             this.initial = Objects.requireNonNull(initial);
         }
 
-        public static WithBooleanConsumer of(BooleanConsumer initial) {
-            return new WithBooleanConsumer(initial);
+        public static WithDoubleBiConsumer of(DoubleBiConsumer initial) {
+            return new WithDoubleBiConsumer(initial);
         }
 
         @Override
-        public BooleanConsumer resolve() {
+        public DoubleFunction<DoubleConsumer> resolve() {
+            return this;
+        }
+
+        @Override
+        public DoubleBiConsumer resolveUncurried() {
             return initial;
         }
 
         @Override
-        public void accept(boolean b) {
-            initial.accept(b);
+        public DoubleConsumer apply(double d1) {
+            return (double d2) -> initial.accept(d1, d2);
+        }
+
+        @Override
+        public void accept(double d1, double d2) {
+            initial.accept(d1, d2);
         }
     }
 
-    @Evil
-    public static final class WithDoubleConsumer
-        extends Combine<Void, DoubleConsumer>
-        implements DoubleConsumerCombos, DoubleConsumer {
+    public static final class WithIntUnaryOperator
+        extends Combine<Integer, IntUnaryOperator>
+        implements IntUnaryOperatorCombos, IntUnaryOperator {
 
-        private final transient DoubleConsumer initial;
+        private final transient IntUnaryOperator[] stages;
 
-        private WithDoubleConsumer(DoubleConsumer initial) {
-            this.initial = Objects.requireNonNull(initial);
+        // Non-null when every stage is known arithmetic.
+        private final transient IntArithmetic[] program;
+
+        private WithIntUnaryOperator(IntUnaryOperator[] stages) {
+            this.stages = stages;
+            this.program = Bulk.programOf(stages);
         }
 
-        public static WithDoubleConsumer of(DoubleConsumer initial) {
-            return new WithDoubleConsumer(initial);
+        public static <A> WithIntUnaryOperator of(IntUnaryOperator initial) {
+            return new WithIntUnaryOperator(stagesOf(initial));
+        }
+
+        WithIntUnaryOperator then(IntUnaryOperator next) {
+            return new WithIntUnaryOperator(
+                IntArithmetic.fold(concat(stages, stagesOf(next)))
+            );
+        }
+
+        private static IntUnaryOperator[] stagesOf(IntUnaryOperator op) {
+            if (Objects.requireNonNull(op) instanceof WithIntUnaryOperator) {
+                return ((WithIntUnaryOperator) op).stages;
+            }
+            return new IntUnaryOperator[] { op };
         }
 
         @Override
-        public DoubleConsumer resolve() {
-            return initial;
+        public IntUnaryOperator resolve() {
+            return this;
         }
 
         @Override
-        public void accept(double d) {
-            initial.accept(d);
+        public int[] applyAll(
+            int[] in,
+            int inOffset,
+            int[] out,
+            int outOffset,
+            int length
+        ) {
+            if (program != null) {
+                return Bulk.intArithmetic(
+                    program,
+                    in,
+                    inOffset,
+                    out,
+                    outOffset,
+                    length
+                );
+            }
+            return Bulk.intUnaryOperators(
+                stages,
+                in,
+                inOffset,
+                out,
+                outOffset,
+                length
+            );
+        }
+
+        @Override
+        public int applyAsInt(int i) {
+            int value = i;
+            for (IntUnaryOperator stage : stages) {
+                value = stage.applyAsInt(value);
+            }
+            return value;
         }
     }
 
-    @Evil
-    public static final class WithObjDoubleConsumer<A>
-        extends Combine<Void, Function<A, DoubleConsumer>>
-        implements ObjDoubleConsumerCombos<A>, Function<A, DoubleConsumer> {
+    public static final class WithIntBinaryOperator
+        extends Combine<Integer, IntFunction<IntUnaryOperator>>
+        implements
+            IntBinaryOperatorCombos,
+            IntBinaryOperator,
+            IntFunction<IntUnaryOperator> {
 
-        private final transient ObjDoubleConsumer<A> initial;
+        private final transient IntBinaryOperator initial;
 
-        private WithObjDoubleConsumer(ObjDoubleConsumer<A> initial) {
+        private WithIntBinaryOperator(IntBinaryOperator initial) {
             this.initial = Objects.requireNonNull(initial);
         }
 
-        public static <A> WithObjDoubleConsumer<A> of(
-            ObjDoubleConsumer<A> initial
-        ) {
-            return new WithObjDoubleConsumer<>(initial);
+        public static WithIntBinaryOperator of(IntBinaryOperator initial) {
+            return new WithIntBinaryOperator(initial);
         }
 
-        public static <A> WithObjDoubleConsumer<A> of(
-            Function<A, DoubleConsumer> initial
-        ) {
-            return new WithObjDoubleConsumer<>(
-                (A a, double d) -> initial.apply(a).accept(d)
-            );
+        @Override
+        public IntFunction<IntUnaryOperator> resolve() {
+            return this;
         }
 
         @Override
-        public Function<A, DoubleConsumer> resolve() {
-            return (A a) -> (double d) -> initial.accept(a, d);
+        public IntBinaryOperator resolveUncurried() {
+            return initial;
         }
 
         @Override
-        public DoubleConsumer apply(A a) {
-            return (double d) -> initial.accept(a, d);
+        public IntUnaryOperator apply(int i1) {
+            return (int i2) -> initial.applyAsInt(i1, i2);
+        }
+
+        @Override
+        public int applyAsInt(int i1, int i2) {
+            return initial.applyAsInt(i1, i2);
         }
     }
 
-    @Evil
-    public static final class WithIntConsumer
-        extends Combine<Void, IntConsumer>
-        implements IntConsumerCombos, IntConsumer {
+    public static final class WithIntBiFunction<C>
+        extends Combine<C, IntFunction<IntFunction<C>>>
+        implements
+            IntBiFunctionCombos<C>,
+            IntBiFunction<C>,
+            IntFunction<IntFunction<C>> {
 
-        private final transient IntConsumer initial;
+        private final transient IntBiFunction<C> initial;
 
-        private WithIntConsumer(IntConsumer initial) {
+        private WithIntBiFunction(IntBiFunction<C> initial) {
             this.initial = Objects.requireNonNull(initial);
         }
 
-        public static WithIntConsumer of(IntConsumer initial) {
-            return new WithIntConsumer(initial);
+        public static <C> WithIntBiFunction<C> of(IntBiFunction<C> initial) {
+            return new WithIntBiFunction<>(initial);
         }
 
         @Override
-        public IntConsumer resolve() {
+        public IntFunction<IntFunction<C>> resolve() {
+            return this;
+        }
+
+        @Override
+        public IntBiFunction<C> resolveUncurried() {
             return initial;
         }
 
         @Override
-        public void accept(int i) {
-            initial.accept(i);
+        public IntFunction<C> apply(int i1) {
+            return (int i2) -> initial.apply(i1, i2);
+        }
+
+        @Override
+        public C apply(int i1, int i2) {
+            return initial.apply(i1, i2);
         }
     }
 
-    @Evil
-    public static final class WithObjIntConsumer<A>
-        extends Combine<Void, Function<A, IntConsumer>>
-        implements ObjIntConsumerCombos<A>, Function<A, IntConsumer> {
+    public static final class WithIntBinaryToDoubleFunction
+        extends Combine<Double, IntFunction<IntToDoubleFunction>>
+        implements
+            IntBinaryToDoubleFunctionCombos,
+            IntBinaryToDoubleFunction,
+            IntFunction<IntToDoubleFunction> {
 
-        private final transient ObjIntConsumer<A> initial;
+        private final transient IntBinaryToDoubleFunction initial;
 
-        private WithObjIntConsumer(ObjIntConsumer<A> initial) {
+        private WithIntBinaryToDoubleFunction(
+            IntBinaryToDoubleFunction initial
+        ) {
             this.initial = Objects.requireNonNull(initial);
         }
 
-        public static <A> WithObjIntConsumer<A> of(ObjIntConsumer<A> initial) {
-            return new WithObjIntConsumer<>(initial);
+        public static WithIntBinaryToDoubleFunction of(
+            IntBinaryToDoubleFunction initial
+        ) {
+            return new WithIntBinaryToDoubleFunction(initial);
         }
 
-        public static <A> WithObjIntConsumer<A> of(
-            Function<A, IntConsumer> initial
-        ) {
-            return new WithObjIntConsumer<>(
-                (A a, int i) -> initial.apply(a).accept(i)
-            );
+        @Override
+        public IntFunction<IntToDoubleFunction> resolve() {
+            return this;
         }
 
         @Override
-        public Function<A, IntConsumer> resolve() {
-            return (A a) -> (int i) -> initial.accept(a, i);
+        public IntBinaryToDoubleFunction resolveUncurried() {
+            return initial;
         }
 
         @Override
-        public IntConsumer apply(A a) {
-            return (int i) -> initial.accept(a, i);
+        public IntToDoubleFunction apply(int i1) {
+            return (int i2) -> initial.applyAsDouble(i1, i2);
+        }
+
+        @Override
+        public double applyAsDouble(int i1, int i2) {
+            return initial.applyAsDouble(i1, i2);
         }
     }
 
-    @Evil
-    public static final class WithLongConsumer
-        extends Combine<Void, LongConsumer>
-        implements LongConsumerCombos, LongConsumer {
+    public static final class WithIntBinaryToLongFunction
+        extends Combine<Long, IntFunction<IntToLongFunction>>
+        implements
+            IntBinaryToLongFunctionCombos,
+            IntBinaryToLongFunction,
+            IntFunction<IntToLongFunction> {
 
-        private final transient LongConsumer initial;
+        private final transient IntBinaryToLongFunction initial;
 
-        private WithLongConsumer(LongConsumer initial) {
+        private WithIntBinaryToLongFunction(IntBinaryToLongFunction initial) {
             this.initial = Objects.requireNonNull(initial);
         }
 
-        public static WithLongConsumer of(LongConsumer initial) {
-            return new WithLongConsumer(initial);
+        public static WithIntBinaryToLongFunction of(
+            IntBinaryToLongFunction initial
+        ) {
+            return new WithIntBinaryToLongFunction(initial);
         }
 
         @Override
-        public LongConsumer resolve() {
+        public IntFunction<IntToLongFunction> resolve() {
+            return this;
+        }
+
+        @Override
+        public IntBinaryToLongFunction resolveUncurried() {
             return initial;
         }
 
         @Override
-        public void accept(long n) {
-            initial.accept(n);
+        public IntToLongFunction apply(int i1) {
+            return (int i2) -> initial.applyAsLong(i1, i2);
+        }
+
+        @Override
+        public long applyAsLong(int i1, int i2) {
+            return initial.applyAsLong(i1, i2);
         }
     }
 
-    @Evil
-    public static final class WithObjLongConsumer<A>
-        extends Combine<Void, Function<A, LongConsumer>>
-        implements ObjLongConsumerCombos<A>, Function<A, LongConsumer> {
+    public static final class WithIntBiPredicate
+        extends Combine<Boolean, IntFunction<IntPredicate>>
+        implements
+            IntBiPredicateCombos,
+            IntBiPredicate,
+            IntFunction<IntPredicate> {
 
-        private final transient ObjLongConsumer<A> initial;
+        private final transient IntBiPredicate initial;
 
-        private WithObjLongConsumer(ObjLongConsumer<A> initial) {
+        private WithIntBiPredicate(IntBiPredicate initial) {
             this.initial = Objects.requireNonNull(initial);
         }
 
-        public static <A> WithObjLongConsumer<A> of(
-            ObjLongConsumer<A> initial
-        ) {
-            return new WithObjLongConsumer<>(initial);
+        public static WithIntBiPredicate of(IntBiPredicate initial) {
+            return new WithIntBiPredicate(initial);
         }
 
-        public static <A> WithObjLongConsumer<A> of(
-            Function<A, LongConsumer> initial
-        ) {
-            return new WithObjLongConsumer<>(
-                (A a, long n) -> initial.apply(a).accept(n)
-            );
+        @Override
+        public IntFunction<IntPredicate> resolve() {
+            return this;
         }
 
         @Override
-        public Function<A, LongConsumer> resolve() {
-            return (A a) -> (long n) -> initial.accept(a, n);
+        public IntBiPredicate resolveUncurried() {
+            return initial;
         }
 
         @Override
-        public LongConsumer apply(A a) {
-            return (long n) -> initial.accept(a, n);
+        public IntPredicate apply(int i1) {
+            return (int i2) -> initial.test(i1, i2);
+        }
+
+        @Override
+        public boolean test(int i1, int i2) {
+            return initial.test(i1, i2);
         }
     }
 
-    public static final class WithPredicate<A>
-        extends Combine<Boolean, Predicate<A>>
-        implements PredicateCombos<A>, Predicate<A> {
+    @Evil
+    public static final class WithIntBiConsumer
+        extends Combine<Void, IntFunction<IntConsumer>>
+        implements
+            IntBiConsumerCombos,
+            IntBiConsumer,
+            IntFunction<IntConsumer> {
 
-        private final transient Predicate<A> initial;
+        private final transient IntBiConsumer initial;
 
-        private WithPredicate(Predicate<A> initial) {
+        private WithIntBiConsumer(IntBiConsumer initial) {
             this.initial = Objects.requireNonNull(initial);
         }
 
-        public static <A> WithPredicate<A> of(Predicate<A> initial) {
-            return new WithPredicate<>(initial);
+        public static WithIntBiConsumer of(IntBiConsumer initial) {
+            return new WithIntBiConsumer(initial);
+        }
+
+        @Override
+        public IntFunction<IntConsumer> resolve() {
+            return this;
         }
 
         @Override
-        public Predicate<A> resolve() {
+        public IntBiConsumer resolveUncurried() {
             return initial;
         }
 
         @Override
-        public boolean test(A a) {
-            return initial.test(a);
+        public IntConsumer apply(int i1) {
+            return (int i2) -> initial.accept(i1, i2);
+        }
+
+        @Override
+        public void accept(int i1, int i2) {
+            initial.accept(i1, i2);
         }
     }
 
-    public static final class WithBiPredicate<A, B>
-        extends Combine<Boolean, Function<A, Predicate<B>>>
-        implements BiPredicateCombos<A, B>, Function<A, Predicate<B>> {
+    public static final class WithLongUnaryOperator
+        extends Combine<Long, LongUnaryOperator>
+        implements LongUnaryOperatorCombos, LongUnaryOperator {
 
-        private final transient BiPredicate<A, B> initial;
+        private final transient LongUnaryOperator[] stages;
 
-        private WithBiPredicate(BiPredicate<A, B> initial) {
-            this.initial = Objects.requireNonNull(initial);
+        // Non-null when every stage is known arithmetic.
+        private final transient LongArithmetic[] program;
+
+        private WithLongUnaryOperator(LongUnaryOperator[] stages) {
+            this.stages = stages;
+            this.program = Bulk.programOf(stages);
         }
 
-        public static <A, B> WithBiPredicate<A, B> of(
-            BiPredicate<A, B> initial
-        ) {
-            return new WithBiPredicate<>(initial);
+        public static <A> WithLongUnaryOperator of(LongUnaryOperator initial) {
+            return new WithLongUnaryOperator(stagesOf(initial));
         }
 
-        public static <A, B> WithBiPredicate<A, B> of(
-            Function<A, Predicate<B>> initial
-        ) {
-            return new WithBiPredicate<>(
-                (A a, B b) -> initial.apply(a).test(b)
+        WithLongUnaryOperator then(LongUnaryOperator next) {
+            return new WithLongUnaryOperator(
+                LongArithmetic.fold(concat(stages, stagesOf(next)))
             );
         }
 
+        private static LongUnaryOperator[] stagesOf(LongUnaryOperator op) {
+            if (Objects.requireNonNull(op) instanceof WithLongUnaryOperator) {
+                return ((WithLongUnaryOperator) op).stages;
+            }
+            return new LongUnaryOperator[] { op };
+        }
+
         @Override
-        public Function<A, Predicate<B>> resolve() {
-            return (A a) -> (B b) -> initial.test(a, b);
+        public LongUnaryOperator resolve() {
+            return this;
         }
 
         @Override
-        public Predicate<B> apply(A a) {
-            return (B b) -> initial.test(a, b);
+        public long[] applyAll(
+            long[] in,
+            int inOffset,
+            long[] out,
+            int outOffset,
+            int length
+        ) {
+            if (program != null) {
+                return Bulk.longArithmetic(
+                    program,
+                    in,
+                    inOffset,
+                    out,
+                    outOffset,
+                    length
+                );
+            }
+            return Bulk.longUnaryOperators(
+                stages,
+                in,
+                inOffset,
+                out,
+                outOffset,
+                length
+            );
+        }
+
+        @Override
+        public long applyAsLong(long n) {
+            long value = n;
+            for (LongUnaryOperator stage : stages) {
+                value = stage.applyAsLong(value);
+            }
+            return value;
         }
     }
 
-    public static final class WithBooleanPredicate
-        extends Combine<Boolean, BooleanPredicate>
-        implements BooleanPredicateCombos, BooleanPredicate {
+    public static final class WithLongBinaryOperator
+        extends Combine<Long, LongFunction<LongUnaryOperator>>
+        implements
+            LongBinaryOperatorCombos,
+            LongBinaryOperator,
+            LongFunction<LongUnaryOperator> {
 
-        private final transient BooleanPredicate initial;
+        private final transient LongBinaryOperator initial;
 
-        private WithBooleanPredicate(BooleanPredicate initial) {
+        private WithLongBinaryOperator(LongBinaryOperator initial) {
             this.initial = Objects.requireNonNull(initial);
         }
 
-        public static WithBooleanPredicate of(BooleanPredicate initial) {
-            return new WithBooleanPredicate(initial);
+        public static WithLongBinaryOperator of(LongBinaryOperator initial) {
+            return new WithLongBinaryOperator(initial);
         }
 
         @Override
-        public BooleanPredicate resolve() {
+        public LongFunction<LongUnaryOperator> resolve() {
+            return this;
+        }
+
+        @Override
+        public LongBinaryOperator resolveUncurried() {
             return initial;
         }
 
         @Override
-        public boolean test(boolean b) {
-            return initial.test(b);
+        public LongUnaryOperator apply(long n1) {
+            return (long n2) -> initial.applyAsLong(n1, n2);
+        }
+
+        @Override
+        public long applyAsLong(long n1, long n2) {
+            return initial.applyAsLong(n1, n2);
         }
     }
 
-    public static final class WithDoublePredicate
-        extends Combine<Double, DoublePredicate>
-        implements DoublePredicateCombos, DoublePredicate {
+    public static final class WithLongBiFunction<C>
+        extends Combine<C, LongFunction<LongFunction<C>>>
+        implements
+            LongBiFunctionCombos<C>,
+            LongBiFunction<C>,
+            LongFunction<LongFunction<C>> {
 
-        private final transient DoublePredicate initial;
+        private final transient LongBiFunction<C> initial;
 
-        private WithDoublePredicate(DoublePredicate initial) {
+        private WithLongBiFunction(LongBiFunction<C> initial) {
             this.initial = Objects.requireNonNull(initial);
         }
 
-        public static WithDoublePredicate of(DoublePredicate initial) {
-            return new WithDoublePredicate(initial);
+        public static <C> WithLongBiFunction<C> of(LongBiFunction<C> initial) {
+            return new WithLongBiFunction<>(initial);
         }
 
         @Override
-        public DoublePredicate resolve() {
+        public LongFunction<LongFunction<C>> resolve() {
+            return this;
+        }
+
+        @Override
+        public LongBiFunction<C> resolveUncurried() {
             return initial;
         }
 
         @Override
-        public boolean test(double d) {
-            return initial.test(d);
+        public LongFunction<C> apply(long n1) {
+            return (long n2) -> initial.apply(n1, n2);
+        }
+
+        @Override
+        public C apply(long n1, long n2) {
+            return initial.apply(n1, n2);
         }
     }
 
-    public static final class WithIntPredicate
-        extends Combine<Integer, IntPredicate>
-        implements IntPredicateCombos, IntPredicate {
+    public static final class WithLongBinaryToDoubleFunction
+        extends Combine<Double, LongFunction<LongToDoubleFunction>>
+        implements
+            LongBinaryToDoubleFunctionCombos,
+            LongBinaryToDoubleFunction,
+            LongFunction<LongToDoubleFunction> {
 
-        private final transient IntPredicate initial;
+        private final transient LongBinaryToDoubleFunction initial;
 
-        private WithIntPredicate(IntPredicate initial) {
+        private WithLongBinaryToDoubleFunction(
+            LongBinaryToDoubleFunction initial
+        ) {
             this.initial = Objects.requireNonNull(initial);
         }
 
-        public static WithIntPredicate of(IntPredicate initial) {
-            return new WithIntPredicate(initial);
+        public static WithLongBinaryToDoubleFunction of(
+            LongBinaryToDoubleFunction initial
+        ) {
+            return new WithLongBinaryToDoubleFunction(initial);
         }
 
         @Override
-        public IntPredicate resolve() {
+        public LongFunction<LongToDoubleFunction> resolve() {
+            return this;
+        }
+
+        @Override
+        public LongBinaryToDoubleFunction resolveUncurried() {
             return initial;
         }
 
         @Override
-        public boolean test(int i) {
-            return initial.test(i);
+        public LongToDoubleFunction apply(long n1) {
+            return (long n2) -> initial.applyAsDouble(n1, n2);
+        }
+
+        @Override
+        public double applyAsDouble(long n1, long n2) {
+            return initial.applyAsDouble(n1, n2);
         }
     }
 
-    public static final class WithLongPredicate
-        extends Combine<Long, LongPredicate>
-        implements LongPredicateCombos, LongPredicate {
+    public static final class WithLongBinaryToIntFunction
+        extends Combine<Integer, LongFunction<LongToIntFunction>>
+        implements
+            LongBinaryToIntFunctionCombos,
+            LongBinaryToIntFunction,
+            LongFunction<LongToIntFunction> {
 
-        private final transient LongPredicate initial;
+        private final transient LongBinaryToIntFunction initial;
 
-        private WithLongPredicate(LongPredicate initial) {
+        private WithLongBinaryToIntFunction(LongBinaryToIntFunction initial) {
             this.initial = Objects.requireNonNull(initial);
         }
 
-        public static WithLongPredicate of(LongPredicate initial) {
-            return new WithLongPredicate(initial);
+        public static WithLongBinaryToIntFunction of(
+            LongBinaryToIntFunction initial
+        ) {
+            return new WithLongBinaryToIntFunction(initial);
         }
 
         @Override
-        public LongPredicate resolve() {
+        public LongFunction<LongToIntFunction> resolve() {
+            return this;
+        }
+
+        @Override
+        public LongBinaryToIntFunction resolveUncurried() {
             return initial;
         }
 
         @Override
-        public boolean test(long n) {
-            return initial.test(n);
+        public LongToIntFunction apply(long n1) {
+            return (long n2) -> initial.applyAsInt(n1, n2);
+        }
+
+        @Override
+        public int applyAsInt(long n1, long n2) {
+            return initial.applyAsInt(n1, n2);
         }
     }
 
-    public static final class WithSupplier<A>
-        extends Combine<A, Supplier<A>>
-        implements SupplierCombos<A>, Supplier<A> {
+    public static final class WithLongBiPredicate
+        extends Combine<Boolean, LongFunction<LongPredicate>>
+        implements
+            LongBiPredicateCombos,
+            LongBiPredicate,
+            LongFunction<LongPredicate> {
 
-        private final transient Supplier<A> initial;
+        private final transient LongBiPredicate initial;
 
-        private WithSupplier(Supplier<A> initial) {
+        private WithLongBiPredicate(LongBiPredicate initial) {
             this.initial = Objects.requireNonNull(initial);
         }
 
-        public static <A> WithSupplier<A> of(Supplier<A> initial) {
-            return new WithSupplier<>(initial);
+        public static WithLongBiPredicate of(LongBiPredicate initial) {
+            return new WithLongBiPredicate(initial);
         }
 
         @Override
-        public Supplier<A> resolve() {
+        public LongFunction<LongPredicate> resolve() {
+            return this;
+        }
+
+        @Override
+        public LongBiPredicate resolveUncurried() {
             return initial;
         }
 
         @Override
-        public A get() {
-            return initial.get();
+        public LongPredicate apply(long n1) {
+            return (long n2) -> initial.test(n1, n2);
+        }
+
+        @Override
+        public boolean test(long n1, long n2) {
+            return initial.test(n1, n2);
         }
     }
 
-    public static final class WithBooleanSupplier
-        extends Combine<Boolean, BooleanSupplier>
-        implements BooleanSupplierCombos, BooleanSupplier {
+    @Evil
+    public static final class WithLongBiConsumer
+        extends Combine<Void, LongFunction<LongConsumer>>
+        implements
+            LongBiConsumerCombos,
+            LongBiConsumer,
+            LongFunction<LongConsumer> {
 
-        private final transient BooleanSupplier initial;
+        private final transient LongBiConsumer initial;
 
-        private WithBooleanSupplier(BooleanSupplier initial) {
+        private WithLongBiConsumer(LongBiConsumer initial) {
             this.initial = Objects.requireNonNull(initial);
         }
 
-        public static <A> WithBooleanSupplier of(BooleanSupplier initial) {
-            return new WithBooleanSupplier(initial);
+        public static WithLongBiConsumer of(LongBiConsumer initial) {
+            return new WithLongBiConsumer(initial);
         }
 
         @Override
-        public BooleanSupplier resolve() {
+        public LongFunction<LongConsumer> resolve() {
+            return this;
+        }
+
+        @Override
+        public LongBiConsumer resolveUncurried() {
             return initial;
         }
 
         @Override
-        public boolean getAsBoolean() {
-            return initial.getAsBoolean();
+        public LongConsumer apply(long n1) {
+            return (long n2) -> initial.accept(n1, n2);
+        }
+
+        @Override
+        public void accept(long n1, long n2) {
+            initial.accept(n1, n2);
         }
     }
 
-    public static final class WithDoubleSupplier
-        extends Combine<Double, DoubleSupplier>
-        implements DoubleSupplierCombos, DoubleSupplier {
+    public static final class WithTriFunction<A, B, C, D>
+        extends Combine<D, TriFunction<A, B, C, D>>
+        implements TriFunctionCombos<A, B, C, D>, TriFunction<A, B, C, D> {
 
-        private final transient DoubleSupplier initial;
+        private final transient TriFunction<A, B, C, D> initial;
 
-        private WithDoubleSupplier(DoubleSupplier initial) {
+        private WithTriFunction(TriFunction<A, B, C, D> initial) {
             this.initial = Objects.requireNonNull(initial);
         }
 
-        public static <A> WithDoubleSupplier of(DoubleSupplier initial) {
-            return new WithDoubleSupplier(initial);
+        public static <A, B, C, D> WithTriFunction<A, B, C, D> of(
+            TriFunction<A, B, C, D> initial
+        ) {
+            return new WithTriFunction<>(initial);
         }
 
         @Override
-        public DoubleSupplier resolve() {
+        public TriFunction<A, B, C, D> resolve() {
             return initial;
         }
 
         @Override
-        public double getAsDouble() {
-            return initial.getAsDouble();
+        public D apply(A a, B b, C c) {
+            return initial.apply(a, b, c);
         }
     }
 
-    public static final class WithIntSupplier
-        extends Combine<Integer, IntSupplier>
-        implements IntSupplierCombos, IntSupplier {
+    public static final class WithQuadFunction<A, B, C, D, E>
+        extends Combine<E, QuadFunction<A, B, C, D, E>>
+        implements
+            QuadFunctionCombos<A, B, C, D, E>,
+            QuadFunction<A, B, C, D, E> {
 
-        private final transient IntSupplier initial;
+        private final transient QuadFunction<A, B, C, D, E> initial;
 
-        private WithIntSupplier(IntSupplier initial) {
+        private WithQuadFunction(QuadFunction<A, B, C, D, E> initial) {
             this.initial = Objects.requireNonNull(initial);
         }
 
-        public static <A> WithIntSupplier of(IntSupplier initial) {
-            return new WithIntSupplier(initial);
+        public static <A, B, C, D, E> WithQuadFunction<A, B, C, D, E> of(
+            QuadFunction<A, B, C, D, E> initial
+        ) {
+            return new WithQuadFunction<>(initial);
         }
 
         @Override
-        public IntSupplier resolve() {
+        public QuadFunction<A, B, C, D, E> resolve() {
             return initial;
         }
 
         @Override
-        public int getAsInt() {
-            return initial.getAsInt();
+        public E apply(A a, B b, C c, D d) {
+            return initial.apply(a, b, c, d);
         }
     }
 
-    public static final class WithLongSupplier
-        extends Combine<Long, LongSupplier>
-        implements LongSupplierCombos, LongSupplier {
+    public static final class WithQuinFunction<A, B, C, D, E, F>
+        extends Combine<F, QuinFunction<A, B, C, D, E, F>>
+        implements
+            QuinFunctionCombos<A, B, C, D, E, F>,
+            QuinFunction<A, B, C, D, E, F> {
 
-        private final transient LongSupplier initial;
+        private final transient QuinFunction<A, B, C, D, E, F> initial;
 
-        private WithLongSupplier(LongSupplier initial) {
+        private WithQuinFunction(QuinFunction<A, B, C, D, E, F> initial) {
             this.initial = Objects.requireNonNull(initial);
         }
 
-        public static <A> WithLongSupplier of(LongSupplier initial) {
-            return new WithLongSupplier(initial);
+        public static <A, B, C, D, E, F> WithQuinFunction<A, B, C, D, E, F> of(
+            QuinFunction<A, B, C, D, E, F> initial
+        ) {
+            return new WithQuinFunction<>(initial);
         }
 
         @Override
-        public LongSupplier resolve() {
+        public QuinFunction<A, B, C, D, E, F> resolve() {
             return initial;
         }
 
         @Override
-        public long getAsLong() {
-            return initial.getAsLong();
+        public F apply(A a, B b, C c, D d, E e) {
+            return initial.apply(a, b, c, d, e);
         }
     }
 
-    @Evil
-    public static final class WithOperator
-        extends Combine<Void, Operator>
-        implements OperatorCombos, Operator {
+    public static final class WithSexFunction<A, B, C, D, E, F, G>
+        extends Combine<G, SexFunction<A, B, C, D, E, F, G>>
+        implements
+            SexFunctionCombos<A, B, C, D, E, F, G>,
+            SexFunction<A, B, C, D, E, F, G> {
 
-        private final transient Operator initial;
+        private final transient SexFunction<A, B, C, D, E, F, G> initial;
 
-        private WithOperator(Operator initial) {
+        private WithSexFunction(SexFunction<A, B, C, D, E, F, G> initial) {
             this.initial = Objects.requireNonNull(initial);
         }
 
-        public static WithOperator of(Operator initial) {
-            return new WithOperator(initial);
+        public static <A, B, C, D, E, F, G> WithSexFunction<A, B, C, D, E, F, G> of(
+            SexFunction<A, B, C, D, E, F, G> initial
+        ) {
+            return new WithSexFunction<>(initial);
         }
 
         @Override
-        public Operator resolve() {
+        public SexFunction<A, B, C, D, E, F, G> resolve() {
             return initial;
         }
 
         @Override
-        public void run() {
-            initial.run();
+        public G apply(A a, B b, C c, D d, E e, F f) {
+            return initial.apply(a, b, c, d, e, f);
         }
     }
 
-    public static final class WithDoubleUnaryOperator
-        extends Combine<Double, DoubleUnaryOperator>
-        implements DoubleUnaryOperatorCombos, DoubleUnaryOperator {
+    public static final class WithSeptFunction<A, B, C, D, E, F, G, H>
+        extends Combine<H, SeptFunction<A, B, C, D, E, F, G, H>>
+        implements
+            SeptFunctionCombos<A, B, C, D, E, F, G, H>,
+            SeptFunction<A, B, C, D, E, F, G, H> {
 
-        private final transient DoubleUnaryOperator initial;
+        private final transient SeptFunction<A, B, C, D, E, F, G, H> initial;
 
-        private WithDoubleUnaryOperator(DoubleUnaryOperator initial) {
+        private WithSeptFunction(SeptFunction<A, B, C, D, E, F, G, H> initial) {
             this.initial = Objects.requireNonNull(initial);
         }
 
-        public static <A> WithDoubleUnaryOperator of(
-            DoubleUnaryOperator initial
+        public static <A, B, C, D, E, F, G, H> WithSeptFunction<A, B, C, D, E, F, G, H> of(
+            SeptFunction<A, B, C, D, E, F, G, H> initial
         ) {
-            return new WithDoubleUnaryOperator(initial);
+            return new WithSeptFunction<>(initial);
         }
 
         @Override
-        public DoubleUnaryOperator resolve() {
+        public SeptFunction<A, B, C, D, E, F, G, H> resolve() {
             return initial;
         }
 
         @Override
-        public double applyAsDouble(double d) {
-            return initial.applyAsDouble(d);
+        public H apply(A a, B b, C c, D d, E e, F f, G g) {
+            return initial.apply(a, b, c, d, e, f, g);
         }
     }
 
-    public static final class WithDoubleBinaryOperator
-        extends Combine<Double, DoubleFunction<DoubleUnaryOperator>>
+    public static final class WithOctFunction<A, B, C, D, E, F, G, H, I>
+        extends Combine<I, OctFunction<A, B, C, D, E, F, G, H, I>>
         implements
-            DoubleBinaryOperatorCombos, DoubleFunction<DoubleUnaryOperator> {
-
-        private final transient DoubleBinaryOperator initial;
+            OctFunctionCombos<A, B, C, D, E, F, G, H, I>,
+            OctFunction<A, B, C, D, E, F, G, H, I> {
 
-        private WithDoubleBinaryOperator(DoubleBinaryOperator initial) {
-            this.initial = Objects.requireNonNull(initial);
-        }
+        private final transient OctFunction<A, B, C, D, E, F, G, H, I> initial;
 
-        public static WithDoubleBinaryOperator of(
-            DoubleBinaryOperator initial
+        private WithOctFunction(
+            OctFunction<A, B, C, D, E, F, G, H, I> initial
         ) {
-            return new WithDoubleBinaryOperator(initial);
+            this.initial = Objects.requireNonNull(initial);
         }
 
-        public static WithDoubleBinaryOperator of(
-            DoubleFunction<DoubleUnaryOperator> initial
+        public static <A, B, C, D, E, F, G, H, I> WithOctFunction<A, B, C, D, E, F, G, H, I> of(
+            OctFunction<A, B, C, D, E, F, G, H, I> initial
         ) {
-            return new WithDoubleBinaryOperator(
-                (double d1, double d2) -> initial.apply(d1).applyAsDouble(d2)
-            );
+            return new WithOctFunction<>(initial);
         }
 
         @Override
-        public DoubleFunction<DoubleUnaryOperator> resolve() {
-            return (double d1) -> (double d2) -> initial.applyAsDouble(d1, d2);
+        public OctFunction<A, B, C, D, E, F, G, H, I> resolve() {
+            return initial;
         }
 
         @Override
-        public DoubleUnaryOperator apply(double d1) {
-            return (double d2) -> initial.applyAsDouble(d1, d2);
+        public I apply(A a, B b, C c, D d, E e, F f, G g, H h) {
+            return initial.apply(a, b, c, d, e, f, g, h);
         }
     }
 
-    public static final class WithIntUnaryOperator
-        extends Combine<Integer, IntUnaryOperator>
-        implements IntUnaryOperatorCombos, IntUnaryOperator {
+    public static final class WithNonFunction<A, B, C, D, E, F, G, H, I, J>
+        extends Combine<J, NonFunction<A, B, C, D, E, F, G, H, I, J>>
+        implements
+            NonFunctionCombos<A, B, C, D, E, F, G, H, I, J>,
+            NonFunction<A, B, C, D, E, F, G, H, I, J> {
 
-        private final transient IntUnaryOperator initial;
+        private final transient NonFunction<A, B, C, D, E, F, G, H, I, J> initial;
 
-        private WithIntUnaryOperator(IntUnaryOperator initial) {
+        private WithNonFunction(
+            NonFunction<A, B, C, D, E, F, G, H, I, J> initial
+        ) {
             this.initial = Objects.requireNonNull(initial);
         }
 
-        public static <A> WithIntUnaryOperator of(IntUnaryOperator initial) {
-            return new WithIntUnaryOperator(initial);
+        public static <A, B, C, D, E, F, G, H, I, J> WithNonFunction<A, B, C, D, E, F, G, H, I, J> of(
+            NonFunction<A, B, C, D, E, F, G, H, I, J> initial
+        ) {
+            return new WithNonFunction<>(initial);
         }
 
         @Override
-        public IntUnaryOperator resolve() {
+        public NonFunction<A, B, C, D, E, F, G, H, I, J> resolve() {
             return initial;
         }
 
         @Override
-        public int applyAsInt(int i) {
-            return initial.applyAsInt(i);
+        public J apply(A a, B b, C c, D d, E e, F f, G g, H h, I i) {
+            return initial.apply(a, b, c, d, e, f, g, h, i);
         }
     }
 
-    public static final class WithIntBinaryOperator
-        extends Combine<Integer, IntFunction<IntUnaryOperator>>
-        implements IntBinaryOperatorCombos, IntFunction<IntUnaryOperator> {
+    public static final class WithDecFunction<A, B, C, D, E, F, G, H, I, J, K>
+        extends Combine<K, DecFunction<A, B, C, D, E, F, G, H, I, J, K>>
+        implements
+            DecFunctionCombos<A, B, C, D, E, F, G, H, I, J, K>,
+            DecFunction<A, B, C, D, E, F, G, H, I, J, K> {
 
-        private final transient IntBinaryOperator initial;
+        private final transient DecFunction<A, B, C, D, E, F, G, H, I, J, K> initial;
 
-        private WithIntBinaryOperator(IntBinaryOperator initial) {
+        private WithDecFunction(
+            DecFunction<A, B, C, D, E, F, G, H, I, J, K> initial
+        ) {
             this.initial = Objects.requireNonNull(initial);
         }
 
-        public static <A> WithIntBinaryOperator of(IntBinaryOperator initial) {
-            return new WithIntBinaryOperator(initial);
-        }
-
-        public static WithIntBinaryOperator of(
-            IntFunction<IntUnaryOperator> initial
+        public static <A, B, C, D, E, F, G, H, I, J, K> WithDecFunction<A, B, C, D, E, F, G, H, I, J, K> of(
+            DecFunction<A, B, C, D, E, F, G, H, I, J, K> initial
         ) {
-            return new WithIntBinaryOperator(
-                (int i1, int i2) -> initial.apply(i1).applyAsInt(i2)
-            );
+            return new WithDecFunction<>(initial);
         }
 
         @Override
-        public IntFunction<IntUnaryOperator> resolve() {
-            return (int i1) -> (int i2) -> initial.applyAsInt(i1, i2);
+        public DecFunction<A, B, C, D, E, F, G, H, I, J, K> resolve() {
+            return initial;
         }
 
         @Override
-        public IntUnaryOperator apply(int i1) {
-            return (int i2) -> initial.applyAsInt(i1, i2);
+        public K apply(A a, B b, C c, D d, E e, F f, G g, H h, I i, J j) {
+            return initial.apply(a, b, c, d, e, f, g, h, i, j);
         }
     }
 
-    public static final class WithLongUnaryOperator
-        extends Combine<Long, LongUnaryOperator>
-        implements LongUnaryOperatorCombos, LongUnaryOperator {
+    public static final class WithUndecFunction<A, B, C, D, E, F, G, H, I, J, K, L>
+        extends Combine<L, UndecFunction<A, B, C, D, E, F, G, H, I, J, K, L>>
+        implements
+            UndecFunctionCombos<A, B, C, D, E, F, G, H, I, J, K, L>,
+            UndecFunction<A, B, C, D, E, F, G, H, I, J, K, L> {
 
-        private final transient LongUnaryOperator initial;
+        private final transient UndecFunction<A, B, C, D, E, F, G, H, I, J, K, L> initial;
 
-        private WithLongUnaryOperator(LongUnaryOperator initial) {
+        private WithUndecFunction(
+            UndecFunction<A, B, C, D, E, F, G, H, I, J, K, L> initial
+        ) {
             this.initial = Objects.requireNonNull(initial);
         }
 
-        public static <A> WithLongUnaryOperator of(LongUnaryOperator initial) {
-            return new WithLongUnaryOperator(initial);
+        public static <A, B, C, D, E, F, G, H, I, J, K, L> WithUndecFunction<A, B, C, D, E, F, G, H, I, J, K, L> of(
+            UndecFunction<A, B, C, D, E, F, G, H, I, J, K, L> initial
+        ) {
+            return new WithUndecFunction<>(initial);
         }
 
         @Override
-        public LongUnaryOperator resolve() {
+        public UndecFunction<A, B, C, D, E, F, G, H, I, J, K, L> resolve() {
             return initial;
         }
 
         @Override
-        public long applyAsLong(long n) {
-            return initial.applyAsLong(n);
+        public L apply(A a, B b, C c, D d, E e, F f, G g, H h, I i, J j, K k) {
+            return initial.apply(a, b, c, d, e, f, g, h, i, j, k);
         }
     }
 
-    public static final class WithLongBinaryOperator
-        extends Combine<Long, LongFunction<LongUnaryOperator>>
-        implements LongBinaryOperatorCombos, LongFunction<LongUnaryOperator> {
-
-        private final transient LongBinaryOperator initial;
+    public static final class WithDodecFunction<A, B, C, D, E, F, G, H, I, J, K, L, M>
+        extends Combine<M, DodecFunction<A, B, C, D, E, F, G, H, I, J, K, L, M>>
+        implements
+            DodecFunctionCombos<A, B, C, D, E, F, G, H, I, J, K, L, M>,
+            DodecFunction<A, B, C, D, E, F, G, H, I, J, K, L, M> {
 
-        private WithLongBinaryOperator(LongBinaryOperator initial) {
-            this.initial = Objects.requireNonNull(initial);
-        }
+        private final transient DodecFunction<A, B, C, D, E, F, G, H, I, J, K, L, M> initial;
 
-        public static <A> WithLongBinaryOperator of(
-            LongBinaryOperator initial
+        private WithDodecFunction(
+            DodecFunction<A, B, C, D, E, F, G, H, I, J, K, L, M> initial
         ) {
-            return new WithLongBinaryOperator(initial);
+            this.initial = Objects.requireNonNull(initial);
         }
 
-        public static <A> WithLongBinaryOperator of(
-            LongFunction<LongUnaryOperator> initial
+        public static <A, B, C, D, E, F, G, H, I, J, K, L, M> WithDodecFunction<A, B, C, D, E, F, G, H, I, J, K, L, M> of(
+            DodecFunction<A, B, C, D, E, F, G, H, I, J, K, L, M> initial
         ) {
-            return new WithLongBinaryOperator(
-                (long n1, long n2) -> initial.apply(n1).applyAsLong(n2)
-            );
+            return new WithDodecFunction<>(initial);
         }
 
         @Override
-        public LongFunction<LongUnaryOperator> resolve() {
-            return (long n1) -> (long n2) -> initial.applyAsLong(n1, n2);
+        public DodecFunction<A, B, C, D, E, F, G, H, I, J, K, L, M> resolve() {
+            return initial;
         }
 
         @Override
-        public LongUnaryOperator apply(long n1) {
-            return (long n2) -> initial.applyAsLong(n1, n2);
+        public M apply(
+            A a,
+            B b,
+            C c,
+            D d,
+            E e,
+            F f,
+            G g,
+            H h,
+            I i,
+            J j,
+            K k,
+            L l
+        ) {
+            return initial.apply(a, b, c, d, e, f, g, h, i, j, k, l);
         }
     }
+
+    static <T> T[] concat(T[] first, T[] second) {
+        T[] joined = Arrays.copyOf(first, first.length + second.length);
+        System.arraycopy(second, 0, joined, first.length, second.length);
+        return joined;
+    }
 }
@@ -1,5 +1,6 @@
 package so.dang.cool.z.internal.combination;
 
+import java.util.concurrent.Executor;
 import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
 import java.util.function.DoubleSupplier;
@@ -9,6 +10,7 @@ import java.util.function.LongSupplier;
 import java.util.function.Supplier;
 import so.dang.cool.z.annotation.Evil;
 import so.dang.cool.z.function.Operator;
+import so.dang.cool.z.internal.async.Blocking;
 import so.dang.cool.z.internal.combination.Combine.WithBiFunction;
 import so.dang.cool.z.internal.combination.Combine.WithConsumer;
 import so.dang.cool.z.internal.combination.Combine.WithFunction;
@@ -20,6 +22,29 @@ import so.dang.cool.z.internal.combination.Combine.WithToLongFunction;
 interface ConsumerCombos<A> {
     Consumer<A> resolve();
 
+    /* Consumer<A> blocking */
+
+    /**
+     * Runs this consumer on {@code executor}, while the caller's thread waits
+     * for it.
+     */
+    public default WithConsumer<A> blocking(Executor executor) {
+        return blocking(executor, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Like {@code blocking(executor)}, with at most {@code maxConcurrency}
+     * calls running at once. Callers beyond that wait for a turn.
+     */
+    public default WithConsumer<A> blocking(
+        Executor executor,
+        int maxConcurrency
+    ) {
+        return WithConsumer.of(
+            Blocking.consumer(resolve(), executor, maxConcurrency)
+        );
+    }
+
     /* Consumer<A> -> Function<B, C> */
 
     @Evil
@@ -27,11 +52,10 @@ interface ConsumerCombos<A> {
         Function<B, C> next
     ) {
         return WithBiFunction.of(
-            (A a) ->
-                (B b) -> {
-                    resolve().accept(a);
-                    return next.apply(b);
-                }
+            (A a, B b) -> {
+                resolve().accept(a);
+                return next.apply(b);
+            }
         );
     }
 
@@ -0,0 +1,26 @@
+package so.dang.cool.z.internal.combination;
+
+import java.util.function.Function;
+import so.dang.cool.z.function.DecFunction;
+import so.dang.cool.z.internal.combination.Combine.WithDecFunction;
+
+interface DecFunctionCombos<A, B, C, D, E, F, G, H, I, J, K> {
+    DecFunction<A, B, C, D, E, F, G, H, I, J, K> resolve();
+
+    /* DecFunction<A, B, C, D, E, F, G, H, I, J, K> -> Function<K, L> */
+
+    public default <L> WithDecFunction<A, B, C, D, E, F, G, H, I, J, L> fuseFunction(
+        Function<K, L> next
+    ) {
+        return WithDecFunction.of(
+            (A a, B b, C c, D d, E e, F f, G g, H h, I i, J j) ->
+                next.apply(resolve().apply(a, b, c, d, e, f, g, h, i, j))
+        );
+    }
+
+    public default <L> WithDecFunction<A, B, C, D, E, F, G, H, I, J, L> fuse(
+        Function<K, L> next
+    ) {
+        return fuseFunction(next);
+    }
+}
@@ -0,0 +1,26 @@
+package so.dang.cool.z.internal.combination;
+
+import java.util.function.Function;
+import so.dang.cool.z.function.DodecFunction;
+import so.dang.cool.z.internal.combination.Combine.WithDodecFunction;
+
+interface DodecFunctionCombos<A, B, C, D, E, F, G, H, I, J, K, L, M> {
+    DodecFunction<A, B, C, D, E, F, G, H, I, J, K, L, M> resolve();
+
+    /* DodecFunction<A, B, C, D, E, F, G, H, I, J, K, L, M> -> Function<M, N> */
+
+    public default <N> WithDodecFunction<A, B, C, D, E, F, G, H, I, J, K, L, N> fuseFunction(
+        Function<M, N> next
+    ) {
+        return WithDodecFunction.of(
+            (A a, B b, C c, D d, E e, F f, G g, H h, I i, J j, K k, L l) ->
+                next.apply(resolve().apply(a, b, c, d, e, f, g, h, i, j, k, l))
+        );
+    }
+
+    public default <N> WithDodecFunction<A, B, C, D, E, F, G, H, I, J, K, L, N> fuse(
+        Function<M, N> next
+    ) {
+        return fuseFunction(next);
+    }
+}
@@ -0,0 +1,136 @@
+package so.dang.cool.z.internal.combination;
+
+import java.util.function.BooleanSupplier;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoubleSupplier;
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import so.dang.cool.z.annotation.Evil;
+import so.dang.cool.z.function.DoubleBiConsumer;
+import so.dang.cool.z.function.Operator;
+import so.dang.cool.z.internal.combination.Combine.WithDoubleBiConsumer;
+import so.dang.cool.z.internal.combination.Combine.WithDoubleBiFunction;
+import so.dang.cool.z.internal.combination.Combine.WithDoubleBiPredicate;
+import so.dang.cool.z.internal.combination.Combine.WithDoubleBinaryOperator;
+import so.dang.cool.z.internal.combination.Combine.WithDoubleBinaryToIntFunction;
+import so.dang.cool.z.internal.combination.Combine.WithDoubleBinaryToLongFunction;
+
+interface DoubleBiConsumerCombos {
+    DoubleFunction<DoubleConsumer> resolve();
+
+    DoubleBiConsumer resolveUncurried();
+
+    /* DoubleBiConsumer -> Supplier<C> */
+
+    @Evil
+    public default <C> WithDoubleBiFunction<C> absorbSupplier(
+        Supplier<C> next
+    ) {
+        return WithDoubleBiFunction.of(
+            (double d1, double d2) -> {
+                resolveUncurried().accept(d1, d2);
+                return next.get();
+            }
+        );
+    }
+
+    @Evil
+    public default <C> WithDoubleBiFunction<C> absorb(Supplier<C> next) {
+        return absorbSupplier(next);
+    }
+
+    /* DoubleBiConsumer -> BooleanSupplier */
+
+    @Evil
+    public default WithDoubleBiPredicate absorbBooleanSupplier(
+        BooleanSupplier next
+    ) {
+        return WithDoubleBiPredicate.of(
+            (double d1, double d2) -> {
+                resolveUncurried().accept(d1, d2);
+                return next.getAsBoolean();
+            }
+        );
+    }
+
+    @Evil
+    public default WithDoubleBiPredicate absorb(BooleanSupplier next) {
+        return absorbBooleanSupplier(next);
+    }
+
+    /* DoubleBiConsumer -> DoubleSupplier */
+
+    @Evil
+    public default WithDoubleBinaryOperator absorbDoubleSupplier(
+        DoubleSupplier next
+    ) {
+        return WithDoubleBinaryOperator.of(
+            (double d1, double d2) -> {
+                resolveUncurried().accept(d1, d2);
+                return next.getAsDouble();
+            }
+        );
+    }
+
+    @Evil
+    public default WithDoubleBinaryOperator absorb(DoubleSupplier next) {
+        return absorbDoubleSupplier(next);
+    }
+
+    /* DoubleBiConsumer -> IntSupplier */
+
+    @Evil
+    public default WithDoubleBinaryToIntFunction absorbIntSupplier(
+        IntSupplier next
+    ) {
+        return WithDoubleBinaryToIntFunction.of(
+            (double d1, double d2) -> {
+                resolveUncurried().accept(d1, d2);
+                return next.getAsInt();
+            }
+        );
+    }
+
+    @Evil
+    public default WithDoubleBinaryToIntFunction absorb(IntSupplier next) {
+        return absorbIntSupplier(next);
+    }
+
+    /* DoubleBiConsumer -> LongSupplier */
+
+    @Evil
+    public default WithDoubleBinaryToLongFunction absorbLongSupplier(
+        LongSupplier next
+    ) {
+        return WithDoubleBinaryToLongFunction.of(
+            (double d1, double d2) -> {
+                resolveUncurried().accept(d1, d2);
+                return next.getAsLong();
+            }
+        );
+    }
+
+    @Evil
+    public default WithDoubleBinaryToLongFunction absorb(LongSupplier next) {
+        return absorbLongSupplier(next);
+    }
+
+    /* DoubleBiConsumer -> Operator */
+
+    @Evil
+    public default WithDoubleBiConsumer absorbOperator(Operator next) {
+        return WithDoubleBiConsumer.of(
+            (double d1, double d2) -> {
+                resolveUncurried().accept(d1, d2);
+                next.run();
+            }
+        );
+    }
+
+    @Evil
+    public default WithDoubleBiConsumer absorb(Operator next) {
+        return absorbOperator(next);
+    }
+}
@@ -0,0 +1,108 @@
+package so.dang.cool.z.internal.combination;
+
+import java.util.function.Consumer;
+import java.util.function.DoubleFunction;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import so.dang.cool.z.function.DoubleBiFunction;
+import so.dang.cool.z.internal.combination.Combine.WithDoubleBiConsumer;
+import so.dang.cool.z.internal.combination.Combine.WithDoubleBiFunction;
+import so.dang.cool.z.internal.combination.Combine.WithDoubleBiPredicate;
+import so.dang.cool.z.internal.combination.Combine.WithDoubleBinaryOperator;
+import so.dang.cool.z.internal.combination.Combine.WithDoubleBinaryToIntFunction;
+import so.dang.cool.z.internal.combination.Combine.WithDoubleBinaryToLongFunction;
+
+interface DoubleBiFunctionCombos<C> {
+    DoubleFunction<DoubleFunction<C>> resolve();
+
+    DoubleBiFunction<C> resolveUncurried();
+
+    /* DoubleBiFunction<C> -> Function<C, D> */
+
+    public default <D> WithDoubleBiFunction<D> fuseFunction(
+        Function<C, D> next
+    ) {
+        return WithDoubleBiFunction.of(
+            (double d1, double d2) ->
+                next.apply(resolveUncurried().apply(d1, d2))
+        );
+    }
+
+    public default <D> WithDoubleBiFunction<D> fuse(Function<C, D> next) {
+        return fuseFunction(next);
+    }
+
+    /* DoubleBiFunction<C> -> ToDoubleFunction<C> */
+
+    public default WithDoubleBinaryOperator fuseToDoubleFunction(
+        ToDoubleFunction<C> next
+    ) {
+        return WithDoubleBinaryOperator.of(
+            (double d1, double d2) ->
+                next.applyAsDouble(resolveUncurried().apply(d1, d2))
+        );
+    }
+
+    public default WithDoubleBinaryOperator fuse(ToDoubleFunction<C> next) {
+        return fuseToDoubleFunction(next);
+    }
+
+    /* DoubleBiFunction<C> -> ToIntFunction<C> */
+
+    public default WithDoubleBinaryToIntFunction fuseToIntFunction(
+        ToIntFunction<C> next
+    ) {
+        return WithDoubleBinaryToIntFunction.of(
+            (double d1, double d2) ->
+                next.applyAsInt(resolveUncurried().apply(d1, d2))
+        );
+    }
+
+    public default WithDoubleBinaryToIntFunction fuse(ToIntFunction<C> next) {
+        return fuseToIntFunction(next);
+    }
+
+    /* DoubleBiFunction<C> -> ToLongFunction<C> */
+
+    public default WithDoubleBinaryToLongFunction fuseToLongFunction(
+        ToLongFunction<C> next
+    ) {
+        return WithDoubleBinaryToLongFunction.of(
+            (double d1, double d2) ->
+                next.applyAsLong(resolveUncurried().apply(d1, d2))
+        );
+    }
+
+    public default WithDoubleBinaryToLongFunction fuse(ToLongFunction<C> next) {
+        return fuseToLongFunction(next);
+    }
+
+    /* DoubleBiFunction<C> -> Predicate<C> */
+
+    public default WithDoubleBiPredicate fusePredicate(Predicate<C> next) {
+        return WithDoubleBiPredicate.of(
+            (double d1, double d2) ->
+                next.test(resolveUncurried().apply(d1, d2))
+        );
+    }
+
+    public default WithDoubleBiPredicate fuse(Predicate<C> next) {
+        return fusePredicate(next);
+    }
+
+    /* DoubleBiFunction<C> -> Consumer<C> */
+
+    public default WithDoubleBiConsumer fuseConsumer(Consumer<C> next) {
+        return WithDoubleBiConsumer.of(
+            (double d1, double d2) ->
+                next.accept(resolveUncurried().apply(d1, d2))
+        );
+    }
+
+    public default WithDoubleBiConsumer fuse(Consumer<C> next) {
+        return fuseConsumer(next);
+    }
+}
@@ -0,0 +1,116 @@
+package so.dang.cool.z.internal.combination;
+
+import java.util.function.DoubleFunction;
+import java.util.function.DoublePredicate;
+import so.dang.cool.z.function.BooleanConsumer;
+import so.dang.cool.z.function.BooleanFunction;
+import so.dang.cool.z.function.BooleanPredicate;
+import so.dang.cool.z.function.BooleanToDoubleFunction;
+import so.dang.cool.z.function.BooleanToIntFunction;
+import so.dang.cool.z.function.BooleanToLongFunction;
+import so.dang.cool.z.function.DoubleBiPredicate;
+import so.dang.cool.z.internal.combination.Combine.WithDoubleBiConsumer;
+import so.dang.cool.z.internal.combination.Combine.WithDoubleBiFunction;
+import so.dang.cool.z.internal.combination.Combine.WithDoubleBiPredicate;
+import so.dang.cool.z.internal.combination.Combine.WithDoubleBinaryOperator;
+import so.dang.cool.z.internal.combination.Combine.WithDoubleBinaryToIntFunction;
+import so.dang.cool.z.internal.combination.Combine.WithDoubleBinaryToLongFunction;
+
+interface DoubleBiPredicateCombos {
+    DoubleFunction<DoublePredicate> resolve();
+
+    DoubleBiPredicate resolveUncurried();
+
+    /* DoubleBiPredicate -> BooleanFunction<C> */
+
+    public default <C> WithDoubleBiFunction<C> fuseBooleanFunction(
+        BooleanFunction<C> next
+    ) {
+        return WithDoubleBiFunction.of(
+            (double d1, double d2) ->
+                next.apply(resolveUncurried().test(d1, d2))
+        );
+    }
+
+    public default <C> WithDoubleBiFunction<C> fuse(BooleanFunction<C> next) {
+        return fuseBooleanFunction(next);
+    }
+
+    /* DoubleBiPredicate -> BooleanToDoubleFunction */
+
+    public default WithDoubleBinaryOperator fuseBooleanToDoubleFunction(
+        BooleanToDoubleFunction next
+    ) {
+        return WithDoubleBinaryOperator.of(
+            (double d1, double d2) ->
+                next.applyAsDouble(resolveUncurried().test(d1, d2))
+        );
+    }
+
+    public default WithDoubleBinaryOperator fuse(BooleanToDoubleFunction next) {
+        return fuseBooleanToDoubleFunction(next);
+    }
+
+    /* DoubleBiPredicate -> BooleanToIntFunction */
+
+    public default WithDoubleBinaryToIntFunction fuseBooleanToIntFunction(
+        BooleanToIntFunction next
+    ) {
+        return WithDoubleBinaryToIntFunction.of(
+            (double d1, double d2) ->
+                next.applyAsInt(resolveUncurried().test(d1, d2))
+        );
+    }
+
+    public default WithDoubleBinaryToIntFunction fuse(
+        BooleanToIntFunction next
+    ) {
+        return fuseBooleanToIntFunction(next);
+    }
+
+    /* DoubleBiPredicate -> BooleanToLongFunction */
+
+    public default WithDoubleBinaryToLongFunction fuseBooleanToLongFunction(
+        BooleanToLongFunction next
+    ) {
+        return WithDoubleBinaryToLongFunction.of(
+            (double d1, double d2) ->
+                next.applyAsLong(resolveUncurried().test(d1, d2))
+        );
+    }
+
+    public default WithDoubleBinaryToLongFunction fuse(
+        BooleanToLongFunction next
+    ) {
+        return fuseBooleanToLongFunction(next);
+    }
+
+    /* DoubleBiPredicate -> BooleanPredicate */
+
+    public default WithDoubleBiPredicate fuseBooleanPredicate(
+        BooleanPredicate next
+    ) {
+        return WithDoubleBiPredicate.of(
+            (double d1, double d2) -> next.test(resolveUncurried().test(d1, d2))
+        );
+    }
+
+    public default WithDoubleBiPredicate fuse(BooleanPredicate next) {
+        return fuseBooleanPredicate(next);
+    }
+
+    /* DoubleBiPredicate -> BooleanConsumer */
+
+    public default WithDoubleBiConsumer fuseBooleanConsumer(
+        BooleanConsumer next
+    ) {
+        return WithDoubleBiConsumer.of(
+            (double d1, double d2) ->
+                next.accept(resolveUncurried().test(d1, d2))
+        );
+    }
+
+    public default WithDoubleBiConsumer fuse(BooleanConsumer next) {
+        return fuseBooleanConsumer(next);
+    }
+}
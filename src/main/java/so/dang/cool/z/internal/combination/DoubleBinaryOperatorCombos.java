@@ -1,5 +1,6 @@
 package so.dang.cool.z.internal.combination;
 
+import java.nio.ByteBuffer;
 import java.util.function.DoubleBinaryOperator;
 import java.util.function.DoubleConsumer;
 import java.util.function.DoubleFunction;
@@ -7,37 +8,117 @@ import java.util.function.DoublePredicate;
 import java.util.function.DoubleToIntFunction;
 import java.util.function.DoubleToLongFunction;
 import java.util.function.DoubleUnaryOperator;
+import so.dang.cool.z.internal.bulk.Buffers;
+import so.dang.cool.z.internal.bulk.Bulk;
+import so.dang.cool.z.internal.combination.Combine.WithDoubleBiConsumer;
+import so.dang.cool.z.internal.combination.Combine.WithDoubleBiFunction;
+import so.dang.cool.z.internal.combination.Combine.WithDoubleBiPredicate;
 import so.dang.cool.z.internal.combination.Combine.WithDoubleBinaryOperator;
+import so.dang.cool.z.internal.combination.Combine.WithDoubleBinaryToIntFunction;
+import so.dang.cool.z.internal.combination.Combine.WithDoubleBinaryToLongFunction;
 
 interface DoubleBinaryOperatorCombos {
     DoubleFunction<DoubleUnaryOperator> resolve();
 
-    /* DoubleBinaryOperator -> DoubleFunction<A> */
+    DoubleBinaryOperator resolveUncurried();
 
-    public default <A> DoubleFunction<DoubleFunction<A>> fuseDoubleFunction(
-        DoubleFunction<A> next
+    /* DoubleBinaryOperator applied in bulk */
+
+    public default double[] applyAll(
+        double[] left,
+        double[] right,
+        double[] out
     ) {
-        return (double d1) ->
-            (double d2) -> next.apply(resolve().apply(d1).applyAsDouble(d2));
+        return applyAll(left, 0, right, 0, out, 0, left.length);
+    }
+
+    public default double[] applyAll(
+        double[] left,
+        int leftOffset,
+        double[] right,
+        int rightOffset,
+        double[] out,
+        int outOffset,
+        int length
+    ) {
+        return Bulk.doubleBinaryOperator(
+            resolveUncurried(),
+            left,
+            leftOffset,
+            right,
+            rightOffset,
+            out,
+            outOffset,
+            length
+        );
     }
 
-    public default <A> DoubleFunction<DoubleFunction<A>> fuse(
-        DoubleFunction<A> next
+    /* DoubleBinaryOperator applied to buffers */
+
+    public default ByteBuffer applyAll(
+        ByteBuffer left,
+        ByteBuffer right,
+        ByteBuffer out
     ) {
+        return applyAll(
+            left,
+            Double.BYTES,
+            right,
+            Double.BYTES,
+            out,
+            Double.BYTES,
+            left.remaining() / Double.BYTES
+        );
+    }
+
+    public default ByteBuffer applyAll(
+        ByteBuffer left,
+        int leftStride,
+        ByteBuffer right,
+        int rightStride,
+        ByteBuffer out,
+        int outStride,
+        int length
+    ) {
+        return Buffers.doubleBinaryOperator(
+            resolveUncurried(),
+            left,
+            leftStride,
+            right,
+            rightStride,
+            out,
+            outStride,
+            length
+        );
+    }
+
+    /* DoubleBinaryOperator -> DoubleFunction<C> */
+
+    public default <C> WithDoubleBiFunction<C> fuseDoubleFunction(
+        DoubleFunction<C> next
+    ) {
+        return WithDoubleBiFunction.of(
+            (double d1, double d2) ->
+                next.apply(resolveUncurried().applyAsDouble(d1, d2))
+        );
+    }
+
+    public default <C> WithDoubleBiFunction<C> fuse(DoubleFunction<C> next) {
         return fuseDoubleFunction(next);
     }
 
     /* DoubleBinaryOperator -> DoubleToIntFunction */
 
-    public default DoubleFunction<DoubleToIntFunction> fuseDoubleToIntFunction(
+    public default WithDoubleBinaryToIntFunction fuseDoubleToIntFunction(
         DoubleToIntFunction next
     ) {
-        return (double d1) ->
-            (double d2) ->
-                next.applyAsInt(resolve().apply(d1).applyAsDouble(d2));
+        return WithDoubleBinaryToIntFunction.of(
+            (double d1, double d2) ->
+                next.applyAsInt(resolveUncurried().applyAsDouble(d1, d2))
+        );
     }
 
-    public default DoubleFunction<DoubleToIntFunction> fuse(
+    public default WithDoubleBinaryToIntFunction fuse(
         DoubleToIntFunction next
     ) {
         return fuseDoubleToIntFunction(next);
@@ -45,15 +126,16 @@ interface DoubleBinaryOperatorCombos {
 
     /* DoubleBinaryOperator -> DoubleToLongFunction */
 
-    public default DoubleFunction<DoubleToLongFunction> fuseDoubleToLongFunction(
+    public default WithDoubleBinaryToLongFunction fuseDoubleToLongFunction(
         DoubleToLongFunction next
     ) {
-        return (double d1) ->
-            (double d2) ->
-                next.applyAsLong(resolve().apply(d1).applyAsDouble(d2));
+        return WithDoubleBinaryToLongFunction.of(
+            (double d1, double d2) ->
+                next.applyAsLong(resolveUncurried().applyAsDouble(d1, d2))
+        );
     }
 
-    public default DoubleFunction<DoubleToLongFunction> fuse(
+    public default WithDoubleBinaryToLongFunction fuse(
         DoubleToLongFunction next
     ) {
         return fuseDoubleToLongFunction(next);
@@ -61,27 +143,31 @@ interface DoubleBinaryOperatorCombos {
 
     /* DoubleBinaryOperator -> DoublePredicate */
 
-    public default DoubleFunction<DoublePredicate> fuseDoublePredicate(
+    public default WithDoubleBiPredicate fuseDoublePredicate(
         DoublePredicate next
     ) {
-        return (double d1) ->
-            (double d2) -> next.test(resolve().apply(d1).applyAsDouble(d2));
+        return WithDoubleBiPredicate.of(
+            (double d1, double d2) ->
+                next.test(resolveUncurried().applyAsDouble(d1, d2))
+        );
     }
 
-    public default DoubleFunction<DoublePredicate> fuse(DoublePredicate next) {
+    public default WithDoubleBiPredicate fuse(DoublePredicate next) {
         return fuseDoublePredicate(next);
     }
 
     /* DoubleBinaryOperator -> DoubleConsumer */
 
-    public default DoubleFunction<DoubleConsumer> fuseDoubleConsumer(
+    public default WithDoubleBiConsumer fuseDoubleConsumer(
         DoubleConsumer next
     ) {
-        return (double d1) ->
-            (double d2) -> next.accept(resolve().apply(d1).applyAsDouble(d2));
+        return WithDoubleBiConsumer.of(
+            (double d1, double d2) ->
+                next.accept(resolveUncurried().applyAsDouble(d1, d2))
+        );
     }
 
-    public default DoubleFunction<DoubleConsumer> fuse(DoubleConsumer next) {
+    public default WithDoubleBiConsumer fuse(DoubleConsumer next) {
         return fuseDoubleConsumer(next);
     }
 
@@ -91,9 +177,8 @@ interface DoubleBinaryOperatorCombos {
         DoubleUnaryOperator next
     ) {
         return WithDoubleBinaryOperator.of(
-            (double d1) ->
-                (double d2) ->
-                    next.applyAsDouble(resolve().apply(d1).applyAsDouble(d2))
+            (double d1, double d2) ->
+                next.applyAsDouble(resolveUncurried().applyAsDouble(d1, d2))
         );
     }
 
@@ -110,7 +195,7 @@ interface DoubleBinaryOperatorCombos {
             (double d2) ->
                 (double d3) ->
                     next.applyAsDouble(
-                        resolve().apply(d1).applyAsDouble(d2),
+                        resolveUncurried().applyAsDouble(d1, d2),
                         d3
                     );
     }
@@ -0,0 +1,178 @@
+package so.dang.cool.z.internal.combination;
+
+import java.nio.ByteBuffer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoubleToIntFunction;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.IntToLongFunction;
+import java.util.function.IntUnaryOperator;
+import so.dang.cool.z.function.DoubleBinaryToIntFunction;
+import so.dang.cool.z.internal.bulk.Buffers;
+import so.dang.cool.z.internal.bulk.Bulk;
+import so.dang.cool.z.internal.combination.Combine.WithDoubleBiConsumer;
+import so.dang.cool.z.internal.combination.Combine.WithDoubleBiFunction;
+import so.dang.cool.z.internal.combination.Combine.WithDoubleBiPredicate;
+import so.dang.cool.z.internal.combination.Combine.WithDoubleBinaryOperator;
+import so.dang.cool.z.internal.combination.Combine.WithDoubleBinaryToIntFunction;
+import so.dang.cool.z.internal.combination.Combine.WithDoubleBinaryToLongFunction;
+
+interface DoubleBinaryToIntFunctionCombos {
+    DoubleFunction<DoubleToIntFunction> resolve();
+
+    DoubleBinaryToIntFunction resolveUncurried();
+
+    /* DoubleBinaryToIntFunction applied in bulk */
+
+    public default int[] applyAll(double[] left, double[] right, int[] out) {
+        return applyAll(left, 0, right, 0, out, 0, left.length);
+    }
+
+    public default int[] applyAll(
+        double[] left,
+        int leftOffset,
+        double[] right,
+        int rightOffset,
+        int[] out,
+        int outOffset,
+        int length
+    ) {
+        return Bulk.doubleBinaryToIntFunction(
+            resolveUncurried(),
+            left,
+            leftOffset,
+            right,
+            rightOffset,
+            out,
+            outOffset,
+            length
+        );
+    }
+
+    /* DoubleBinaryToIntFunction applied to buffers */
+
+    public default ByteBuffer applyAll(
+        ByteBuffer left,
+        ByteBuffer right,
+        ByteBuffer out
+    ) {
+        return applyAll(
+            left,
+            Double.BYTES,
+            right,
+            Double.BYTES,
+            out,
+            Integer.BYTES,
+            left.remaining() / Double.BYTES
+        );
+    }
+
+    public default ByteBuffer applyAll(
+        ByteBuffer left,
+        int leftStride,
+        ByteBuffer right,
+        int rightStride,
+        ByteBuffer out,
+        int outStride,
+        int length
+    ) {
+        return Buffers.doubleBinaryToIntFunction(
+            resolveUncurried(),
+            left,
+            leftStride,
+            right,
+            rightStride,
+            out,
+            outStride,
+            length
+        );
+    }
+
+    /* DoubleBinaryToIntFunction -> IntFunction<C> */
+
+    public default <C> WithDoubleBiFunction<C> fuseIntFunction(
+        IntFunction<C> next
+    ) {
+        return WithDoubleBiFunction.of(
+            (double d1, double d2) ->
+                next.apply(resolveUncurried().applyAsInt(d1, d2))
+        );
+    }
+
+    public default <C> WithDoubleBiFunction<C> fuse(IntFunction<C> next) {
+        return fuseIntFunction(next);
+    }
+
+    /* DoubleBinaryToIntFunction -> IntToDoubleFunction */
+
+    public default WithDoubleBinaryOperator fuseIntToDoubleFunction(
+        IntToDoubleFunction next
+    ) {
+        return WithDoubleBinaryOperator.of(
+            (double d1, double d2) ->
+                next.applyAsDouble(resolveUncurried().applyAsInt(d1, d2))
+        );
+    }
+
+    public default WithDoubleBinaryOperator fuse(IntToDoubleFunction next) {
+        return fuseIntToDoubleFunction(next);
+    }
+
+    /* DoubleBinaryToIntFunction -> IntToLongFunction */
+
+    public default WithDoubleBinaryToLongFunction fuseIntToLongFunction(
+        IntToLongFunction next
+    ) {
+        return WithDoubleBinaryToLongFunction.of(
+            (double d1, double d2) ->
+                next.applyAsLong(resolveUncurried().applyAsInt(d1, d2))
+        );
+    }
+
+    public default WithDoubleBinaryToLongFunction fuse(IntToLongFunction next) {
+        return fuseIntToLongFunction(next);
+    }
+
+    /* DoubleBinaryToIntFunction -> IntPredicate */
+
+    public default WithDoubleBiPredicate fuseIntPredicate(IntPredicate next) {
+        return WithDoubleBiPredicate.of(
+            (double d1, double d2) ->
+                next.test(resolveUncurried().applyAsInt(d1, d2))
+        );
+    }
+
+    public default WithDoubleBiPredicate fuse(IntPredicate next) {
+        return fuseIntPredicate(next);
+    }
+
+    /* DoubleBinaryToIntFunction -> IntConsumer */
+
+    public default WithDoubleBiConsumer fuseIntConsumer(IntConsumer next) {
+        return WithDoubleBiConsumer.of(
+            (double d1, double d2) ->
+                next.accept(resolveUncurried().applyAsInt(d1, d2))
+        );
+    }
+
+    public default WithDoubleBiConsumer fuse(IntConsumer next) {
+        return fuseIntConsumer(next);
+    }
+
+    /* DoubleBinaryToIntFunction -> IntUnaryOperator */
+
+    public default WithDoubleBinaryToIntFunction fuseIntUnaryOperator(
+        IntUnaryOperator next
+    ) {
+        return WithDoubleBinaryToIntFunction.of(
+            (double d1, double d2) ->
+                next.applyAsInt(resolveUncurried().applyAsInt(d1, d2))
+        );
+    }
+
+    public default WithDoubleBinaryToIntFunction fuse(IntUnaryOperator next) {
+        return fuseIntUnaryOperator(next);
+    }
+}
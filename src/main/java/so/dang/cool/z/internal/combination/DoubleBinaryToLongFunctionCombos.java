@@ -0,0 +1,178 @@
+package so.dang.cool.z.internal.combination;
+
+import java.nio.ByteBuffer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoubleToLongFunction;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import java.util.function.LongToDoubleFunction;
+import java.util.function.LongToIntFunction;
+import java.util.function.LongUnaryOperator;
+import so.dang.cool.z.function.DoubleBinaryToLongFunction;
+import so.dang.cool.z.internal.bulk.Buffers;
+import so.dang.cool.z.internal.bulk.Bulk;
+import so.dang.cool.z.internal.combination.Combine.WithDoubleBiConsumer;
+import so.dang.cool.z.internal.combination.Combine.WithDoubleBiFunction;
+import so.dang.cool.z.internal.combination.Combine.WithDoubleBiPredicate;
+import so.dang.cool.z.internal.combination.Combine.WithDoubleBinaryOperator;
+import so.dang.cool.z.internal.combination.Combine.WithDoubleBinaryToIntFunction;
+import so.dang.cool.z.internal.combination.Combine.WithDoubleBinaryToLongFunction;
+
+interface DoubleBinaryToLongFunctionCombos {
+    DoubleFunction<DoubleToLongFunction> resolve();
+
+    DoubleBinaryToLongFunction resolveUncurried();
+
+    /* DoubleBinaryToLongFunction applied in bulk */
+
+    public default long[] applyAll(double[] left, double[] right, long[] out) {
+        return applyAll(left, 0, right, 0, out, 0, left.length);
+    }
+
+    public default long[] applyAll(
+        double[] left,
+        int leftOffset,
+        double[] right,
+        int rightOffset,
+        long[] out,
+        int outOffset,
+        int length
+    ) {
+        return Bulk.doubleBinaryToLongFunction(
+            resolveUncurried(),
+            left,
+            leftOffset,
+            right,
+            rightOffset,
+            out,
+            outOffset,
+            length
+        );
+    }
+
+    /* DoubleBinaryToLongFunction applied to buffers */
+
+    public default ByteBuffer applyAll(
+        ByteBuffer left,
+        ByteBuffer right,
+        ByteBuffer out
+    ) {
+        return applyAll(
+            left,
+            Double.BYTES,
+            right,
+            Double.BYTES,
+            out,
+            Long.BYTES,
+            left.remaining() / Double.BYTES
+        );
+    }
+
+    public default ByteBuffer applyAll(
+        ByteBuffer left,
+        int leftStride,
+        ByteBuffer right,
+        int rightStride,
+        ByteBuffer out,
+        int outStride,
+        int length
+    ) {
+        return Buffers.doubleBinaryToLongFunction(
+            resolveUncurried(),
+            left,
+            leftStride,
+            right,
+            rightStride,
+            out,
+            outStride,
+            length
+        );
+    }
+
+    /* DoubleBinaryToLongFunction -> LongFunction<C> */
+
+    public default <C> WithDoubleBiFunction<C> fuseLongFunction(
+        LongFunction<C> next
+    ) {
+        return WithDoubleBiFunction.of(
+            (double d1, double d2) ->
+                next.apply(resolveUncurried().applyAsLong(d1, d2))
+        );
+    }
+
+    public default <C> WithDoubleBiFunction<C> fuse(LongFunction<C> next) {
+        return fuseLongFunction(next);
+    }
+
+    /* DoubleBinaryToLongFunction -> LongToDoubleFunction */
+
+    public default WithDoubleBinaryOperator fuseLongToDoubleFunction(
+        LongToDoubleFunction next
+    ) {
+        return WithDoubleBinaryOperator.of(
+            (double d1, double d2) ->
+                next.applyAsDouble(resolveUncurried().applyAsLong(d1, d2))
+        );
+    }
+
+    public default WithDoubleBinaryOperator fuse(LongToDoubleFunction next) {
+        return fuseLongToDoubleFunction(next);
+    }
+
+    /* DoubleBinaryToLongFunction -> LongToIntFunction */
+
+    public default WithDoubleBinaryToIntFunction fuseLongToIntFunction(
+        LongToIntFunction next
+    ) {
+        return WithDoubleBinaryToIntFunction.of(
+            (double d1, double d2) ->
+                next.applyAsInt(resolveUncurried().applyAsLong(d1, d2))
+        );
+    }
+
+    public default WithDoubleBinaryToIntFunction fuse(LongToIntFunction next) {
+        return fuseLongToIntFunction(next);
+    }
+
+    /* DoubleBinaryToLongFunction -> LongPredicate */
+
+    public default WithDoubleBiPredicate fuseLongPredicate(LongPredicate next) {
+        return WithDoubleBiPredicate.of(
+            (double d1, double d2) ->
+                next.test(resolveUncurried().applyAsLong(d1, d2))
+        );
+    }
+
+    public default WithDoubleBiPredicate fuse(LongPredicate next) {
+        return fuseLongPredicate(next);
+    }
+
+    /* DoubleBinaryToLongFunction -> LongConsumer */
+
+    public default WithDoubleBiConsumer fuseLongConsumer(LongConsumer next) {
+        return WithDoubleBiConsumer.of(
+            (double d1, double d2) ->
+                next.accept(resolveUncurried().applyAsLong(d1, d2))
+        );
+    }
+
+    public default WithDoubleBiConsumer fuse(LongConsumer next) {
+        return fuseLongConsumer(next);
+    }
+
+    /* DoubleBinaryToLongFunction -> LongUnaryOperator */
+
+    public default WithDoubleBinaryToLongFunction fuseLongUnaryOperator(
+        LongUnaryOperator next
+    ) {
+        return WithDoubleBinaryToLongFunction.of(
+            (double d1, double d2) ->
+                next.applyAsLong(resolveUncurried().applyAsLong(d1, d2))
+        );
+    }
+
+    public default WithDoubleBinaryToLongFunction fuse(LongUnaryOperator next) {
+        return fuseLongUnaryOperator(next);
+    }
+}
@@ -25,10 +25,19 @@ import so.dang.cool.z.internal.combination.Combine.WithDoublePredicate;
 import so.dang.cool.z.internal.combination.Combine.WithDoubleToIntFunction;
 import so.dang.cool.z.internal.combination.Combine.WithDoubleToLongFunction;
 import so.dang.cool.z.internal.combination.Combine.WithDoubleUnaryOperator;
+import so.dang.cool.z.internal.memoization.Memoize;
 
 interface DoubleFunctionCombos<A> {
     DoubleFunction<A> resolve();
 
+    /* DoubleFunction<A> memoized */
+
+    public default WithDoubleFunction<A> memoize(int maxSize) {
+        return WithDoubleFunction.of(
+            Memoize.doubleFunction(resolve(), maxSize)
+        );
+    }
+
     /* DoubleFunction<A> -> Function<A,B> */
 
     public default <B> WithDoubleFunction<B> fuseFunction(Function<A, B> next) {
@@ -1,5 +1,6 @@
 package so.dang.cool.z.internal.combination;
 
+import java.nio.ByteBuffer;
 import java.util.function.DoublePredicate;
 import so.dang.cool.z.function.BooleanConsumer;
 import so.dang.cool.z.function.BooleanFunction;
@@ -7,16 +8,140 @@ import so.dang.cool.z.function.BooleanPredicate;
 import so.dang.cool.z.function.BooleanToDoubleFunction;
 import so.dang.cool.z.function.BooleanToIntFunction;
 import so.dang.cool.z.function.BooleanToLongFunction;
+import so.dang.cool.z.internal.bulk.Buffers;
+import so.dang.cool.z.internal.bulk.Select;
 import so.dang.cool.z.internal.combination.Combine.WithDoubleConsumer;
 import so.dang.cool.z.internal.combination.Combine.WithDoubleFunction;
 import so.dang.cool.z.internal.combination.Combine.WithDoublePredicate;
 import so.dang.cool.z.internal.combination.Combine.WithDoubleToIntFunction;
 import so.dang.cool.z.internal.combination.Combine.WithDoubleToLongFunction;
 import so.dang.cool.z.internal.combination.Combine.WithDoubleUnaryOperator;
+import so.dang.cool.z.internal.memoization.Memoize;
 
 interface DoublePredicateCombos {
     DoublePredicate resolve();
 
+    /* DoublePredicate evaluated in bulk */
+
+    public default int select(double[] in, int[] selection) {
+        return select(in, 0, in.length, selection);
+    }
+
+    public default int select(
+        double[] in,
+        int offset,
+        int length,
+        int[] selection
+    ) {
+        return Select.doublePredicateSelect(
+            resolve(),
+            in,
+            offset,
+            length,
+            selection
+        );
+    }
+
+    public default int refine(double[] in, int[] selection, int count) {
+        return Select.doublePredicateRefine(resolve(), in, selection, count);
+    }
+
+    public default long[] bitset(double[] in) {
+        return bitset(in, 0, in.length, new long[Select.wordsFor(in.length)]);
+    }
+
+    public default long[] bitset(
+        double[] in,
+        int offset,
+        int length,
+        long[] bits
+    ) {
+        return Select.doublePredicateBits(resolve(), in, offset, length, bits);
+    }
+
+    public default long[] bitsetAnd(double[] in, long[] bits) {
+        return bitsetAnd(in, 0, in.length, bits);
+    }
+
+    public default long[] bitsetAnd(
+        double[] in,
+        int offset,
+        int length,
+        long[] bits
+    ) {
+        return Select.doublePredicateBitsAnd(
+            resolve(),
+            in,
+            offset,
+            length,
+            bits
+        );
+    }
+
+    public default long[] bitsetOr(double[] in, long[] bits) {
+        return bitsetOr(in, 0, in.length, bits);
+    }
+
+    public default long[] bitsetOr(
+        double[] in,
+        int offset,
+        int length,
+        long[] bits
+    ) {
+        return Select.doublePredicateBitsOr(
+            resolve(),
+            in,
+            offset,
+            length,
+            bits
+        );
+    }
+
+    /* DoublePredicate evaluated over buffers */
+
+    public default int select(ByteBuffer in, int[] selection) {
+        int length = in.remaining() / Double.BYTES;
+        return select(in, Double.BYTES, length, selection);
+    }
+
+    public default int select(
+        ByteBuffer in,
+        int stride,
+        int length,
+        int[] selection
+    ) {
+        return Buffers.doublePredicateSelect(
+            resolve(),
+            in,
+            stride,
+            length,
+            selection
+        );
+    }
+
+    public default long[] bitset(ByteBuffer in) {
+        int length = in.remaining() / Double.BYTES;
+        long[] bits = new long[Select.wordsFor(length)];
+        return bitset(in, Double.BYTES, length, bits);
+    }
+
+    public default long[] bitset(
+        ByteBuffer in,
+        int stride,
+        int length,
+        long[] bits
+    ) {
+        return Buffers.doublePredicateBits(resolve(), in, stride, length, bits);
+    }
+
+    /* DoublePredicate memoized */
+
+    public default WithDoublePredicate memoize(int maxSize) {
+        return WithDoublePredicate.of(
+            Memoize.doublePredicate(resolve(), maxSize)
+        );
+    }
+
     /* DoublePredicate -> BooleanFunction<A> */
 
     public default <A> WithDoubleFunction<A> fuseBooleanFunction(
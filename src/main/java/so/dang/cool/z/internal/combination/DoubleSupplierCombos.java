@@ -1,5 +1,7 @@
 package so.dang.cool.z.internal.combination;
 
+import java.time.Duration;
+import java.util.concurrent.Executor;
 import java.util.function.DoubleBinaryOperator;
 import java.util.function.DoubleConsumer;
 import java.util.function.DoubleFunction;
@@ -15,16 +17,45 @@ import so.dang.cool.z.internal.combination.Combine.WithIntSupplier;
 import so.dang.cool.z.internal.combination.Combine.WithLongSupplier;
 import so.dang.cool.z.internal.combination.Combine.WithOperator;
 import so.dang.cool.z.internal.combination.Combine.WithSupplier;
+import so.dang.cool.z.internal.memoization.Expiring;
+import so.dang.cool.z.internal.memoization.Refreshing;
 
 interface DoubleSupplierCombos {
     public DoubleSupplier resolve();
 
+    public boolean isConstant();
+
+    /* DoubleSupplier memoized */
+
+    public default WithDoubleSupplier expiring(Duration timeToLive) {
+        Expiring<Double> expiring = Expiring.of(
+            resolve()::getAsDouble,
+            timeToLive
+        );
+        return WithDoubleSupplier.of(expiring::get);
+    }
+
+    public default WithDoubleSupplier refreshing(
+        Duration refreshAfter,
+        Executor executor
+    ) {
+        Refreshing<Double> refreshing = Refreshing.of(
+            resolve()::getAsDouble,
+            refreshAfter,
+            executor
+        );
+        return WithDoubleSupplier.of(refreshing::get);
+    }
+
     /* DoubleSupplier -> DoubleFunction<A> */
 
     public default <A> WithSupplier<A> fuseDoubleFunction(
         DoubleFunction<A> next
     ) {
-        return WithSupplier.of(() -> next.apply(resolve().getAsDouble()));
+        return WithSupplier.of(
+            () -> next.apply(resolve().getAsDouble()),
+            isConstant()
+        );
     }
 
     public default <A> WithSupplier<A> fuse(DoubleFunction<A> next) {
@@ -37,7 +68,8 @@ interface DoubleSupplierCombos {
         DoubleToIntFunction next
     ) {
         return WithIntSupplier.of(
-            () -> next.applyAsInt(resolve().getAsDouble())
+            () -> next.applyAsInt(resolve().getAsDouble()),
+            isConstant()
         );
     }
 
@@ -51,7 +83,8 @@ interface DoubleSupplierCombos {
         DoubleToLongFunction next
     ) {
         return WithLongSupplier.of(
-            () -> next.applyAsLong(resolve().getAsDouble())
+            () -> next.applyAsLong(resolve().getAsDouble()),
+            isConstant()
         );
     }
 
@@ -64,7 +97,10 @@ interface DoubleSupplierCombos {
     public default WithBooleanSupplier fuseDoublePredicate(
         DoublePredicate next
     ) {
-        return WithBooleanSupplier.of(() -> next.test(resolve().getAsDouble()));
+        return WithBooleanSupplier.of(
+            () -> next.test(resolve().getAsDouble()),
+            isConstant()
+        );
     }
 
     public default WithBooleanSupplier fuse(DoublePredicate next) {
@@ -87,7 +123,8 @@ interface DoubleSupplierCombos {
         DoubleUnaryOperator next
     ) {
         return WithDoubleSupplier.of(
-            () -> next.applyAsDouble(resolve().getAsDouble())
+            () -> next.applyAsDouble(resolve().getAsDouble()),
+            isConstant()
         );
     }
 
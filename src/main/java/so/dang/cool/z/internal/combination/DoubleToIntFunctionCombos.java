@@ -1,5 +1,7 @@
 package so.dang.cool.z.internal.combination;
 
+import java.nio.ByteBuffer;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.DoubleFunction;
 import java.util.function.DoubleToIntFunction;
 import java.util.function.IntBinaryOperator;
@@ -9,16 +11,100 @@ import java.util.function.IntPredicate;
 import java.util.function.IntToDoubleFunction;
 import java.util.function.IntToLongFunction;
 import java.util.function.IntUnaryOperator;
+import so.dang.cool.z.internal.bulk.Buffers;
+import so.dang.cool.z.internal.bulk.Bulk;
+import so.dang.cool.z.internal.bulk.Parallel;
 import so.dang.cool.z.internal.combination.Combine.WithDoubleConsumer;
 import so.dang.cool.z.internal.combination.Combine.WithDoubleFunction;
 import so.dang.cool.z.internal.combination.Combine.WithDoublePredicate;
 import so.dang.cool.z.internal.combination.Combine.WithDoubleToIntFunction;
 import so.dang.cool.z.internal.combination.Combine.WithDoubleToLongFunction;
 import so.dang.cool.z.internal.combination.Combine.WithDoubleUnaryOperator;
+import so.dang.cool.z.internal.memoization.Memoize;
 
 interface DoubleToIntFunctionCombos {
     DoubleToIntFunction resolve();
 
+    /* DoubleToIntFunction applied in bulk */
+
+    public default int[] applyAll(double[] in, int[] out) {
+        return applyAll(in, 0, out, 0, in.length);
+    }
+
+    public default int[] applyAll(
+        double[] in,
+        int inOffset,
+        int[] out,
+        int outOffset,
+        int length
+    ) {
+        return Bulk.doubleToIntFunction(
+            resolve(),
+            in,
+            inOffset,
+            out,
+            outOffset,
+            length
+        );
+    }
+
+    /* DoubleToIntFunction applied to buffers */
+
+    public default ByteBuffer applyAll(ByteBuffer in, ByteBuffer out) {
+        return applyAll(
+            in,
+            Double.BYTES,
+            out,
+            Integer.BYTES,
+            in.remaining() / Double.BYTES
+        );
+    }
+
+    public default ByteBuffer applyAll(
+        ByteBuffer in,
+        int inStride,
+        ByteBuffer out,
+        int outStride,
+        int length
+    ) {
+        return Buffers.doubleToIntFunction(
+            resolve(),
+            in,
+            inStride,
+            out,
+            outStride,
+            length
+        );
+    }
+
+    /* DoubleToIntFunction applied in parallel */
+
+    public default int[] parallelApplyAll(double[] in, int[] out) {
+        return parallelApplyAll(in, out, ForkJoinPool.commonPool());
+    }
+
+    public default int[] parallelApplyAll(
+        double[] in,
+        int[] out,
+        ForkJoinPool pool
+    ) {
+        Parallel.forEachRange(
+            pool,
+            in.length,
+            out.length,
+            (int from, int to) -> applyAll(in, from, out, from, to - from)
+        );
+        return out;
+    }
+
+    /* DoubleToIntFunction memoized */
+
+    public default WithDoubleToIntFunction memoize(int maxSize) {
+        return WithDoubleToIntFunction.of(
+            Memoize.doubleToIntFunction(resolve(), maxSize)
+        );
+    }
+
     /* DoubleToIntFunction -> IntFunction<A> */
 
     public default <A> WithDoubleFunction<A> fuseIntFunction(
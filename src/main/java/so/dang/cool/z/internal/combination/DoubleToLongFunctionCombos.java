@@ -1,5 +1,7 @@
 package so.dang.cool.z.internal.combination;
 
+import java.nio.ByteBuffer;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.DoubleFunction;
 import java.util.function.DoubleToLongFunction;
 import java.util.function.LongBinaryOperator;
@@ -9,16 +11,100 @@ import java.util.function.LongPredicate;
 import java.util.function.LongToDoubleFunction;
 import java.util.function.LongToIntFunction;
 import java.util.function.LongUnaryOperator;
+import so.dang.cool.z.internal.bulk.Buffers;
+import so.dang.cool.z.internal.bulk.Bulk;
+import so.dang.cool.z.internal.bulk.Parallel;
 import so.dang.cool.z.internal.combination.Combine.WithDoubleConsumer;
 import so.dang.cool.z.internal.combination.Combine.WithDoubleFunction;
 import so.dang.cool.z.internal.combination.Combine.WithDoublePredicate;
 import so.dang.cool.z.internal.combination.Combine.WithDoubleToIntFunction;
 import so.dang.cool.z.internal.combination.Combine.WithDoubleToLongFunction;
 import so.dang.cool.z.internal.combination.Combine.WithDoubleUnaryOperator;
+import so.dang.cool.z.internal.memoization.Memoize;
 
 interface DoubleToLongFunctionCombos {
     DoubleToLongFunction resolve();
 
+    /* DoubleToLongFunction applied in bulk */
+
+    public default long[] applyAll(double[] in, long[] out) {
+        return applyAll(in, 0, out, 0, in.length);
+    }
+
+    public default long[] applyAll(
+        double[] in,
+        int inOffset,
+        long[] out,
+        int outOffset,
+        int length
+    ) {
+        return Bulk.doubleToLongFunction(
+            resolve(),
+            in,
+            inOffset,
+            out,
+            outOffset,
+            length
+        );
+    }
+
+    /* DoubleToLongFunction applied to buffers */
+
+    public default ByteBuffer applyAll(ByteBuffer in, ByteBuffer out) {
+        return applyAll(
+            in,
+            Double.BYTES,
+            out,
+            Long.BYTES,
+            in.remaining() / Double.BYTES
+        );
+    }
+
+    public default ByteBuffer applyAll(
+        ByteBuffer in,
+        int inStride,
+        ByteBuffer out,
+        int outStride,
+        int length
+    ) {
+        return Buffers.doubleToLongFunction(
+            resolve(),
+            in,
+            inStride,
+            out,
+            outStride,
+            length
+        );
+    }
+
+    /* DoubleToLongFunction applied in parallel */
+
+    public default long[] parallelApplyAll(double[] in, long[] out) {
+        return parallelApplyAll(in, out, ForkJoinPool.commonPool());
+    }
+
+    public default long[] parallelApplyAll(
+        double[] in,
+        long[] out,
+        ForkJoinPool pool
+    ) {
+        Parallel.forEachRange(
+            pool,
+            in.length,
+            out.length,
+            (int from, int to) -> applyAll(in, from, out, from, to - from)
+        );
+        return out;
+    }
+
+    /* DoubleToLongFunction memoized */
+
+    public default WithDoubleToLongFunction memoize(int maxSize) {
+        return WithDoubleToLongFunction.of(
+            Memoize.doubleToLongFunction(resolve(), maxSize)
+        );
+    }
+
     /* DoubleToLongFunction -> LongFunction<A> */
 
     public default <A> WithDoubleFunction<A> fuseLongFunction(
@@ -1,5 +1,11 @@
 package so.dang.cool.z.internal.combination;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.DoubleBinaryOperator;
 import java.util.function.DoubleConsumer;
 import java.util.function.DoubleFunction;
@@ -7,6 +13,9 @@ import java.util.function.DoublePredicate;
 import java.util.function.DoubleToIntFunction;
 import java.util.function.DoubleToLongFunction;
 import java.util.function.DoubleUnaryOperator;
+import so.dang.cool.z.internal.bulk.Buffers;
+import so.dang.cool.z.internal.bulk.Mapped;
+import so.dang.cool.z.internal.bulk.Parallel;
 import so.dang.cool.z.internal.combination.Combine.WithDoubleBinaryOperator;
 import so.dang.cool.z.internal.combination.Combine.WithDoubleConsumer;
 import so.dang.cool.z.internal.combination.Combine.WithDoubleFunction;
@@ -14,10 +23,153 @@ import so.dang.cool.z.internal.combination.Combine.WithDoublePredicate;
 import so.dang.cool.z.internal.combination.Combine.WithDoubleToIntFunction;
 import so.dang.cool.z.internal.combination.Combine.WithDoubleToLongFunction;
 import so.dang.cool.z.internal.combination.Combine.WithDoubleUnaryOperator;
+import so.dang.cool.z.internal.memoization.Memoize;
 
 interface DoubleUnaryOperatorCombos {
     DoubleUnaryOperator resolve();
 
+    /* DoubleUnaryOperator applied in bulk */
+
+    public default double[] applyAll(double[] in, double[] out) {
+        return applyAll(in, 0, out, 0, in.length);
+    }
+
+    public default double[] applyAll(double[] values) {
+        return applyAll(values, 0, values, 0, values.length);
+    }
+
+    double[] applyAll(
+        double[] in,
+        int inOffset,
+        double[] out,
+        int outOffset,
+        int length
+    );
+
+    /* DoubleUnaryOperator applied to buffers */
+
+    public default ByteBuffer applyAll(ByteBuffer values) {
+        return applyAll(values, values);
+    }
+
+    public default ByteBuffer applyAll(ByteBuffer in, ByteBuffer out) {
+        return applyAll(
+            in,
+            Double.BYTES,
+            out,
+            Double.BYTES,
+            in.remaining() / Double.BYTES
+        );
+    }
+
+    /**
+     * Applies to {@code length} doubles read every {@code inStride} bytes from
+     * the position of {@code in}, writing every {@code outStride} bytes from
+     * the position of {@code out}, in each buffer's byte order.
+     */
+    public default ByteBuffer applyAll(
+        ByteBuffer in,
+        int inStride,
+        ByteBuffer out,
+        int outStride,
+        int length
+    ) {
+        return Buffers.doubleUnaryOperators(
+            in,
+            inStride,
+            out,
+            outStride,
+            length,
+            (double[] chunk, int size) -> applyAll(chunk, 0, chunk, 0, size)
+        );
+    }
+
+    /* DoubleUnaryOperator applied in parallel */
+
+    public default double[] parallelApplyAll(double[] values) {
+        return parallelApplyAll(values, values, ForkJoinPool.commonPool());
+    }
+
+    public default double[] parallelApplyAll(
+        double[] values,
+        ForkJoinPool pool
+    ) {
+        return parallelApplyAll(values, values, pool);
+    }
+
+    public default double[] parallelApplyAll(double[] in, double[] out) {
+        return parallelApplyAll(in, out, ForkJoinPool.commonPool());
+    }
+
+    public default double[] parallelApplyAll(
+        double[] in,
+        double[] out,
+        ForkJoinPool pool
+    ) {
+        Parallel.forEachRange(
+            pool,
+            in.length,
+            out.length,
+            (int from, int to) -> applyAll(in, from, out, from, to - from)
+        );
+        return out;
+    }
+
+    /* DoubleUnaryOperator applied to mapped files */
+
+    /**
+     * Transforms a flat file of doubles into {@code out}, in native byte order,
+     * without reading it onto the heap. The same path may be given twice to
+     * transform a file in place.
+     */
+    public default Path applyAll(Path in, Path out) throws IOException {
+        return applyAll(in, out, ByteOrder.nativeOrder());
+    }
+
+    public default Path applyAll(Path in, Path out, ByteOrder order)
+        throws IOException {
+        return Mapped.doubles(
+            in,
+            out,
+            order,
+            null,
+            (double[] chunk, int length) -> applyAll(chunk, 0, chunk, 0, length)
+        );
+    }
+
+    public default Path parallelApplyAll(Path in, Path out)
+        throws IOException {
+        return parallelApplyAll(
+            in,
+            out,
+            ByteOrder.nativeOrder(),
+            ForkJoinPool.commonPool()
+        );
+    }
+
+    public default Path parallelApplyAll(
+        Path in,
+        Path out,
+        ByteOrder order,
+        ForkJoinPool pool
+    ) throws IOException {
+        return Mapped.doubles(
+            in,
+            out,
+            order,
+            Objects.requireNonNull(pool),
+            (double[] chunk, int length) -> applyAll(chunk, 0, chunk, 0, length)
+        );
+    }
+
+    /* DoubleUnaryOperator memoized */
+
+    public default WithDoubleUnaryOperator memoize(int maxSize) {
+        return WithDoubleUnaryOperator.of(
+            Memoize.doubleUnaryOperator(resolve(), maxSize)
+        );
+    }
+
     /* DoubleUnaryOperator -> DoubleFunction<A> */
 
     public default <A> WithDoubleFunction<A> fuseDoubleFunction(
@@ -91,9 +243,7 @@ interface DoubleUnaryOperatorCombos {
     public default WithDoubleUnaryOperator fuseDoubleUnaryOperator(
         DoubleUnaryOperator next
     ) {
-        return WithDoubleUnaryOperator.of(
-            (double d) -> next.applyAsDouble(resolve().applyAsDouble(d))
-        );
+        return WithDoubleUnaryOperator.of(resolve()).then(next);
     }
 
     public default WithDoubleUnaryOperator fuse(DoubleUnaryOperator next) {
@@ -106,9 +256,8 @@ interface DoubleUnaryOperatorCombos {
         DoubleBinaryOperator next
     ) {
         return WithDoubleBinaryOperator.of(
-            (double d1) ->
-                (double d2) ->
-                    next.applyAsDouble(resolve().applyAsDouble(d1), d2)
+            (double d1, double d2) ->
+                next.applyAsDouble(resolve().applyAsDouble(d1), d2)
         );
     }
 
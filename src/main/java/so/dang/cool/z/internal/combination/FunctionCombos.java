@@ -1,5 +1,9 @@
 package so.dang.cool.z.internal.combination;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.BiPredicate;
@@ -17,6 +21,9 @@ import java.util.function.ToIntFunction;
 import java.util.function.ToLongBiFunction;
 import java.util.function.ToLongFunction;
 import java.util.function.UnaryOperator;
+import so.dang.cool.z.internal.async.Blocking;
+import so.dang.cool.z.internal.bulk.Bulk;
+import so.dang.cool.z.internal.combination.Combine.WithAsyncFunction;
 import so.dang.cool.z.internal.combination.Combine.WithBiConsumer;
 import so.dang.cool.z.internal.combination.Combine.WithBiFunction;
 import so.dang.cool.z.internal.combination.Combine.WithBiPredicate;
@@ -32,27 +39,142 @@ import so.dang.cool.z.internal.combination.Combine.WithToIntBiFunction;
 import so.dang.cool.z.internal.combination.Combine.WithToIntFunction;
 import so.dang.cool.z.internal.combination.Combine.WithToLongBiFunction;
 import so.dang.cool.z.internal.combination.Combine.WithToLongFunction;
+import so.dang.cool.z.internal.memoization.Memoize;
+import so.dang.cool.z.internal.memoization.SingleFlight;
 
 interface FunctionCombos<A, B> {
     Function<A, B> resolve();
 
+    /* Function<A, B> applied in batches */
+
+    /**
+     * Applies this function to every element, one stage of the fusion at a
+     * time over chunks of the list rather than one element at a time through
+     * every stage.
+     */
+    public default List<B> applyBatch(List<? extends A> in) {
+        return applyBatch(in, Bulk.CHUNK_SIZE);
+    }
+
+    List<B> applyBatch(List<? extends A> in, int chunkSize);
+
+    public default B[] applyAll(A[] in, B[] out) {
+        return applyAll(in, out, Bulk.CHUNK_SIZE);
+    }
+
+    B[] applyAll(A[] in, B[] out, int chunkSize);
+
+    /* Function<A, B> applied in parallel */
+
+    public default List<B> parallelApplyBatch(List<? extends A> in) {
+        return parallelApplyBatch(in, ForkJoinPool.commonPool());
+    }
+
+    List<B> parallelApplyBatch(List<? extends A> in, ForkJoinPool pool);
+
+    public default B[] parallelApplyAll(A[] in, B[] out) {
+        return parallelApplyAll(in, out, ForkJoinPool.commonPool());
+    }
+
+    B[] parallelApplyAll(A[] in, B[] out, ForkJoinPool pool);
+
+    /* Function<A, B> memoized */
+
+    /**
+     * Caches up to {@code maxSize} results of the fusion so far. Rarely used
+     * results are evicted first.
+     */
+    public default WithFunction<A, B> memoize(int maxSize) {
+        return WithFunction.of(Memoize.function(resolve(), maxSize));
+    }
+
+    /**
+     * Shares in-flight work between concurrent callers with equal arguments.
+     */
+    public default WithFunction<A, B> singleFlight() {
+        return WithFunction.of(SingleFlight.of(resolve()));
+    }
+
+    /**
+     * Like {@code singleFlight()}, but callers that arrive while a result is
+     * in flight get it as a future instead of waiting.
+     */
+    public default WithFunction<A, CompletableFuture<B>> singleFlightAsync() {
+        return WithFunction.of(SingleFlight.of(resolve())::applyAsync);
+    }
+
+    /* Function<A, B> blocking */
+
+    /**
+     * Runs the fusion so far on {@code executor}, while the caller's thread
+     * waits for it. Stages fused later run on the caller's thread again. To
+     * free the caller's thread instead, use {@code fuseAsync}.
+     */
+    public default WithFunction<A, B> blocking(Executor executor) {
+        return blocking(executor, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Like {@code blocking(executor)}, with at most {@code maxConcurrency}
+     * calls running at once. Callers beyond that wait for a turn.
+     */
+    public default WithFunction<A, B> blocking(
+        Executor executor,
+        int maxConcurrency
+    ) {
+        return WithFunction.of(
+            Blocking.function(resolve(), executor, maxConcurrency)
+        );
+    }
+
     /* Function<A, B> -> Function<B, C> */
 
     public default <C> WithFunction<A, C> fuseFunction(Function<B, C> next) {
-        return WithFunction.of((A a) -> next.apply(resolve().apply(a)));
+        return WithFunction.of(resolve()).then(next);
     }
 
     public default <C> WithFunction<A, C> fuse(Function<B, C> next) {
         return fuseFunction(next);
     }
 
+    /* Function<A, B> -> Function<B, C> blocking */
+
+    public default <C> WithFunction<A, C> fuseBlocking(
+        Function<B, C> next,
+        Executor executor
+    ) {
+        return fuseBlocking(next, executor, Integer.MAX_VALUE);
+    }
+
+    public default <C> WithFunction<A, C> fuseBlocking(
+        Function<B, C> next,
+        Executor executor,
+        int maxConcurrency
+    ) {
+        return fuseFunction(Blocking.function(next, executor, maxConcurrency));
+    }
+
+    /* Function<A, B> -> Function<B, C> asynchronously */
+
+    /**
+     * Runs {@code next} on the given executor, along with any synchronous
+     * stages fused after it. Stages fused before it still run in the caller's
+     * thread.
+     */
+    public default <C> WithAsyncFunction<A, C> fuseAsync(
+        Function<B, C> next,
+        Executor executor
+    ) {
+        return WithAsyncFunction.of(resolve()).fuseAsync(next, executor);
+    }
+
     /* Function<A, B> -> BiFunction<B, C, D> */
 
     public default <C, D> WithBiFunction<A, C, D> fuseBiFunction(
         BiFunction<B, C, D> next
     ) {
         return WithBiFunction.of(
-            (A a) -> (C c) -> next.apply(resolve().apply(a), c)
+            (A a, C c) -> next.apply(resolve().apply(a), c)
         );
     }
 
@@ -112,7 +234,7 @@ interface FunctionCombos<A, B> {
         ToIntBiFunction<B, C> next
     ) {
         return WithToIntBiFunction.of(
-            (A a) -> (C c) -> next.applyAsInt(resolve().apply(a), c)
+            (A a, C c) -> next.applyAsInt(resolve().apply(a), c)
         );
     }
 
@@ -142,7 +264,7 @@ interface FunctionCombos<A, B> {
         ToLongBiFunction<B, C> next
     ) {
         return WithToLongBiFunction.of(
-            (A a) -> (C c) -> next.applyAsLong(resolve().apply(a), c)
+            (A a, C c) -> next.applyAsLong(resolve().apply(a), c)
         );
     }
 
@@ -168,7 +290,7 @@ interface FunctionCombos<A, B> {
         BiPredicate<B, C> next
     ) {
         return WithBiPredicate.of(
-            (A a) -> (C c) -> next.test(resolve().apply(a), c)
+            (A a, C c) -> next.test(resolve().apply(a), c)
         );
     }
 
@@ -192,7 +314,7 @@ interface FunctionCombos<A, B> {
         BiConsumer<B, C> next
     ) {
         return WithBiConsumer.of(
-            (A a) -> (C c) -> next.accept(resolve().apply(a), c)
+            (A a, C c) -> next.accept(resolve().apply(a), c)
         );
     }
 
@@ -222,7 +344,7 @@ interface FunctionCombos<A, B> {
         ObjIntConsumer<B> next
     ) {
         return WithObjIntConsumer.of(
-            (A a) -> (int i) -> next.accept(resolve().apply(a), i)
+            (A a, int i) -> next.accept(resolve().apply(a), i)
         );
     }
 
@@ -247,7 +369,7 @@ interface FunctionCombos<A, B> {
     /* Function<A, B> -> UnaryOperator<B> */
 
     public default WithFunction<A, B> fuseUnaryOperator(UnaryOperator<B> next) {
-        return WithFunction.of((A a) -> next.apply(resolve().apply(a)));
+        return WithFunction.of(resolve()).then(next);
     }
 
     public default WithFunction<A, B> fuse(UnaryOperator<B> next) {
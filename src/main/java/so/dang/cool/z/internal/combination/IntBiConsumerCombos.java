@@ -0,0 +1,132 @@
+package so.dang.cool.z.internal.combination;
+
+import java.util.function.BooleanSupplier;
+import java.util.function.DoubleSupplier;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import so.dang.cool.z.annotation.Evil;
+import so.dang.cool.z.function.IntBiConsumer;
+import so.dang.cool.z.function.Operator;
+import so.dang.cool.z.internal.combination.Combine.WithIntBiConsumer;
+import so.dang.cool.z.internal.combination.Combine.WithIntBiFunction;
+import so.dang.cool.z.internal.combination.Combine.WithIntBiPredicate;
+import so.dang.cool.z.internal.combination.Combine.WithIntBinaryOperator;
+import so.dang.cool.z.internal.combination.Combine.WithIntBinaryToDoubleFunction;
+import so.dang.cool.z.internal.combination.Combine.WithIntBinaryToLongFunction;
+
+interface IntBiConsumerCombos {
+    IntFunction<IntConsumer> resolve();
+
+    IntBiConsumer resolveUncurried();
+
+    /* IntBiConsumer -> Supplier<C> */
+
+    @Evil
+    public default <C> WithIntBiFunction<C> absorbSupplier(Supplier<C> next) {
+        return WithIntBiFunction.of(
+            (int i1, int i2) -> {
+                resolveUncurried().accept(i1, i2);
+                return next.get();
+            }
+        );
+    }
+
+    @Evil
+    public default <C> WithIntBiFunction<C> absorb(Supplier<C> next) {
+        return absorbSupplier(next);
+    }
+
+    /* IntBiConsumer -> BooleanSupplier */
+
+    @Evil
+    public default WithIntBiPredicate absorbBooleanSupplier(
+        BooleanSupplier next
+    ) {
+        return WithIntBiPredicate.of(
+            (int i1, int i2) -> {
+                resolveUncurried().accept(i1, i2);
+                return next.getAsBoolean();
+            }
+        );
+    }
+
+    @Evil
+    public default WithIntBiPredicate absorb(BooleanSupplier next) {
+        return absorbBooleanSupplier(next);
+    }
+
+    /* IntBiConsumer -> DoubleSupplier */
+
+    @Evil
+    public default WithIntBinaryToDoubleFunction absorbDoubleSupplier(
+        DoubleSupplier next
+    ) {
+        return WithIntBinaryToDoubleFunction.of(
+            (int i1, int i2) -> {
+                resolveUncurried().accept(i1, i2);
+                return next.getAsDouble();
+            }
+        );
+    }
+
+    @Evil
+    public default WithIntBinaryToDoubleFunction absorb(DoubleSupplier next) {
+        return absorbDoubleSupplier(next);
+    }
+
+    /* IntBiConsumer -> IntSupplier */
+
+    @Evil
+    public default WithIntBinaryOperator absorbIntSupplier(IntSupplier next) {
+        return WithIntBinaryOperator.of(
+            (int i1, int i2) -> {
+                resolveUncurried().accept(i1, i2);
+                return next.getAsInt();
+            }
+        );
+    }
+
+    @Evil
+    public default WithIntBinaryOperator absorb(IntSupplier next) {
+        return absorbIntSupplier(next);
+    }
+
+    /* IntBiConsumer -> LongSupplier */
+
+    @Evil
+    public default WithIntBinaryToLongFunction absorbLongSupplier(
+        LongSupplier next
+    ) {
+        return WithIntBinaryToLongFunction.of(
+            (int i1, int i2) -> {
+                resolveUncurried().accept(i1, i2);
+                return next.getAsLong();
+            }
+        );
+    }
+
+    @Evil
+    public default WithIntBinaryToLongFunction absorb(LongSupplier next) {
+        return absorbLongSupplier(next);
+    }
+
+    /* IntBiConsumer -> Operator */
+
+    @Evil
+    public default WithIntBiConsumer absorbOperator(Operator next) {
+        return WithIntBiConsumer.of(
+            (int i1, int i2) -> {
+                resolveUncurried().accept(i1, i2);
+                next.run();
+            }
+        );
+    }
+
+    @Evil
+    public default WithIntBiConsumer absorb(Operator next) {
+        return absorbOperator(next);
+    }
+}
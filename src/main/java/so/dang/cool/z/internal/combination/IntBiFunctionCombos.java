@@ -0,0 +1,105 @@
+package so.dang.cool.z.internal.combination;
+
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import so.dang.cool.z.function.IntBiFunction;
+import so.dang.cool.z.internal.combination.Combine.WithIntBiConsumer;
+import so.dang.cool.z.internal.combination.Combine.WithIntBiFunction;
+import so.dang.cool.z.internal.combination.Combine.WithIntBiPredicate;
+import so.dang.cool.z.internal.combination.Combine.WithIntBinaryOperator;
+import so.dang.cool.z.internal.combination.Combine.WithIntBinaryToDoubleFunction;
+import so.dang.cool.z.internal.combination.Combine.WithIntBinaryToLongFunction;
+
+interface IntBiFunctionCombos<C> {
+    IntFunction<IntFunction<C>> resolve();
+
+    IntBiFunction<C> resolveUncurried();
+
+    /* IntBiFunction<C> -> Function<C, D> */
+
+    public default <D> WithIntBiFunction<D> fuseFunction(Function<C, D> next) {
+        return WithIntBiFunction.of(
+            (int i1, int i2) -> next.apply(resolveUncurried().apply(i1, i2))
+        );
+    }
+
+    public default <D> WithIntBiFunction<D> fuse(Function<C, D> next) {
+        return fuseFunction(next);
+    }
+
+    /* IntBiFunction<C> -> ToDoubleFunction<C> */
+
+    public default WithIntBinaryToDoubleFunction fuseToDoubleFunction(
+        ToDoubleFunction<C> next
+    ) {
+        return WithIntBinaryToDoubleFunction.of(
+            (int i1, int i2) ->
+                next.applyAsDouble(resolveUncurried().apply(i1, i2))
+        );
+    }
+
+    public default WithIntBinaryToDoubleFunction fuse(
+        ToDoubleFunction<C> next
+    ) {
+        return fuseToDoubleFunction(next);
+    }
+
+    /* IntBiFunction<C> -> ToIntFunction<C> */
+
+    public default WithIntBinaryOperator fuseToIntFunction(
+        ToIntFunction<C> next
+    ) {
+        return WithIntBinaryOperator.of(
+            (int i1, int i2) ->
+                next.applyAsInt(resolveUncurried().apply(i1, i2))
+        );
+    }
+
+    public default WithIntBinaryOperator fuse(ToIntFunction<C> next) {
+        return fuseToIntFunction(next);
+    }
+
+    /* IntBiFunction<C> -> ToLongFunction<C> */
+
+    public default WithIntBinaryToLongFunction fuseToLongFunction(
+        ToLongFunction<C> next
+    ) {
+        return WithIntBinaryToLongFunction.of(
+            (int i1, int i2) ->
+                next.applyAsLong(resolveUncurried().apply(i1, i2))
+        );
+    }
+
+    public default WithIntBinaryToLongFunction fuse(ToLongFunction<C> next) {
+        return fuseToLongFunction(next);
+    }
+
+    /* IntBiFunction<C> -> Predicate<C> */
+
+    public default WithIntBiPredicate fusePredicate(Predicate<C> next) {
+        return WithIntBiPredicate.of(
+            (int i1, int i2) -> next.test(resolveUncurried().apply(i1, i2))
+        );
+    }
+
+    public default WithIntBiPredicate fuse(Predicate<C> next) {
+        return fusePredicate(next);
+    }
+
+    /* IntBiFunction<C> -> Consumer<C> */
+
+    public default WithIntBiConsumer fuseConsumer(Consumer<C> next) {
+        return WithIntBiConsumer.of(
+            (int i1, int i2) -> next.accept(resolveUncurried().apply(i1, i2))
+        );
+    }
+
+    public default WithIntBiConsumer fuse(Consumer<C> next) {
+        return fuseConsumer(next);
+    }
+}
@@ -0,0 +1,111 @@
+package so.dang.cool.z.internal.combination;
+
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import so.dang.cool.z.function.BooleanConsumer;
+import so.dang.cool.z.function.BooleanFunction;
+import so.dang.cool.z.function.BooleanPredicate;
+import so.dang.cool.z.function.BooleanToDoubleFunction;
+import so.dang.cool.z.function.BooleanToIntFunction;
+import so.dang.cool.z.function.BooleanToLongFunction;
+import so.dang.cool.z.function.IntBiPredicate;
+import so.dang.cool.z.internal.combination.Combine.WithIntBiConsumer;
+import so.dang.cool.z.internal.combination.Combine.WithIntBiFunction;
+import so.dang.cool.z.internal.combination.Combine.WithIntBiPredicate;
+import so.dang.cool.z.internal.combination.Combine.WithIntBinaryOperator;
+import so.dang.cool.z.internal.combination.Combine.WithIntBinaryToDoubleFunction;
+import so.dang.cool.z.internal.combination.Combine.WithIntBinaryToLongFunction;
+
+interface IntBiPredicateCombos {
+    IntFunction<IntPredicate> resolve();
+
+    IntBiPredicate resolveUncurried();
+
+    /* IntBiPredicate -> BooleanFunction<C> */
+
+    public default <C> WithIntBiFunction<C> fuseBooleanFunction(
+        BooleanFunction<C> next
+    ) {
+        return WithIntBiFunction.of(
+            (int i1, int i2) -> next.apply(resolveUncurried().test(i1, i2))
+        );
+    }
+
+    public default <C> WithIntBiFunction<C> fuse(BooleanFunction<C> next) {
+        return fuseBooleanFunction(next);
+    }
+
+    /* IntBiPredicate -> BooleanToDoubleFunction */
+
+    public default WithIntBinaryToDoubleFunction fuseBooleanToDoubleFunction(
+        BooleanToDoubleFunction next
+    ) {
+        return WithIntBinaryToDoubleFunction.of(
+            (int i1, int i2) ->
+                next.applyAsDouble(resolveUncurried().test(i1, i2))
+        );
+    }
+
+    public default WithIntBinaryToDoubleFunction fuse(
+        BooleanToDoubleFunction next
+    ) {
+        return fuseBooleanToDoubleFunction(next);
+    }
+
+    /* IntBiPredicate -> BooleanToIntFunction */
+
+    public default WithIntBinaryOperator fuseBooleanToIntFunction(
+        BooleanToIntFunction next
+    ) {
+        return WithIntBinaryOperator.of(
+            (int i1, int i2) -> next.applyAsInt(resolveUncurried().test(i1, i2))
+        );
+    }
+
+    public default WithIntBinaryOperator fuse(BooleanToIntFunction next) {
+        return fuseBooleanToIntFunction(next);
+    }
+
+    /* IntBiPredicate -> BooleanToLongFunction */
+
+    public default WithIntBinaryToLongFunction fuseBooleanToLongFunction(
+        BooleanToLongFunction next
+    ) {
+        return WithIntBinaryToLongFunction.of(
+            (int i1, int i2) ->
+                next.applyAsLong(resolveUncurried().test(i1, i2))
+        );
+    }
+
+    public default WithIntBinaryToLongFunction fuse(
+        BooleanToLongFunction next
+    ) {
+        return fuseBooleanToLongFunction(next);
+    }
+
+    /* IntBiPredicate -> BooleanPredicate */
+
+    public default WithIntBiPredicate fuseBooleanPredicate(
+        BooleanPredicate next
+    ) {
+        return WithIntBiPredicate.of(
+            (int i1, int i2) -> next.test(resolveUncurried().test(i1, i2))
+        );
+    }
+
+    public default WithIntBiPredicate fuse(BooleanPredicate next) {
+        return fuseBooleanPredicate(next);
+    }
+
+    /* IntBiPredicate -> BooleanConsumer */
+
+    public default WithIntBiConsumer fuseBooleanConsumer(BooleanConsumer next) {
+        return WithIntBiConsumer.of(
+            (int i1, int i2) -> next.accept(resolveUncurried().test(i1, i2))
+        );
+    }
+
+    public default WithIntBiConsumer fuse(BooleanConsumer next) {
+        return fuseBooleanConsumer(next);
+    }
+}
@@ -1,5 +1,6 @@
 package so.dang.cool.z.internal.combination;
 
+import java.nio.ByteBuffer;
 import java.util.function.IntBinaryOperator;
 import java.util.function.IntConsumer;
 import java.util.function.IntFunction;
@@ -7,34 +8,113 @@ import java.util.function.IntPredicate;
 import java.util.function.IntToDoubleFunction;
 import java.util.function.IntToLongFunction;
 import java.util.function.IntUnaryOperator;
+import so.dang.cool.z.internal.bulk.Buffers;
+import so.dang.cool.z.internal.bulk.Bulk;
+import so.dang.cool.z.internal.combination.Combine.WithIntBiConsumer;
+import so.dang.cool.z.internal.combination.Combine.WithIntBiFunction;
+import so.dang.cool.z.internal.combination.Combine.WithIntBiPredicate;
 import so.dang.cool.z.internal.combination.Combine.WithIntBinaryOperator;
+import so.dang.cool.z.internal.combination.Combine.WithIntBinaryToDoubleFunction;
+import so.dang.cool.z.internal.combination.Combine.WithIntBinaryToLongFunction;
 
 interface IntBinaryOperatorCombos {
     IntFunction<IntUnaryOperator> resolve();
 
-    /* IntBinaryOperator -> IntFunction<A> */
+    IntBinaryOperator resolveUncurried();
 
-    public default <A> IntFunction<IntFunction<A>> fuseIntFunction(
-        IntFunction<A> next
+    /* IntBinaryOperator applied in bulk */
+
+    public default int[] applyAll(int[] left, int[] right, int[] out) {
+        return applyAll(left, 0, right, 0, out, 0, left.length);
+    }
+
+    public default int[] applyAll(
+        int[] left,
+        int leftOffset,
+        int[] right,
+        int rightOffset,
+        int[] out,
+        int outOffset,
+        int length
     ) {
-        return (int i1) ->
-            (int i2) -> next.apply(resolve().apply(i1).applyAsInt(i2));
+        return Bulk.intBinaryOperator(
+            resolveUncurried(),
+            left,
+            leftOffset,
+            right,
+            rightOffset,
+            out,
+            outOffset,
+            length
+        );
+    }
+
+    /* IntBinaryOperator applied to buffers */
+
+    public default ByteBuffer applyAll(
+        ByteBuffer left,
+        ByteBuffer right,
+        ByteBuffer out
+    ) {
+        return applyAll(
+            left,
+            Integer.BYTES,
+            right,
+            Integer.BYTES,
+            out,
+            Integer.BYTES,
+            left.remaining() / Integer.BYTES
+        );
+    }
+
+    public default ByteBuffer applyAll(
+        ByteBuffer left,
+        int leftStride,
+        ByteBuffer right,
+        int rightStride,
+        ByteBuffer out,
+        int outStride,
+        int length
+    ) {
+        return Buffers.intBinaryOperator(
+            resolveUncurried(),
+            left,
+            leftStride,
+            right,
+            rightStride,
+            out,
+            outStride,
+            length
+        );
     }
 
-    public default <A> IntFunction<IntFunction<A>> fuse(IntFunction<A> next) {
+    /* IntBinaryOperator -> IntFunction<C> */
+
+    public default <C> WithIntBiFunction<C> fuseIntFunction(
+        IntFunction<C> next
+    ) {
+        return WithIntBiFunction.of(
+            (int i1, int i2) ->
+                next.apply(resolveUncurried().applyAsInt(i1, i2))
+        );
+    }
+
+    public default <C> WithIntBiFunction<C> fuse(IntFunction<C> next) {
         return fuseIntFunction(next);
     }
 
     /* IntBinaryOperator -> IntToDoubleFunction */
 
-    public default IntFunction<IntToDoubleFunction> fuseIntToDoubleFunction(
+    public default WithIntBinaryToDoubleFunction fuseIntToDoubleFunction(
         IntToDoubleFunction next
     ) {
-        return (int i1) ->
-            (int i2) -> next.applyAsDouble(resolve().apply(i1).applyAsInt(i2));
+        return WithIntBinaryToDoubleFunction.of(
+            (int i1, int i2) ->
+                next.applyAsDouble(resolveUncurried().applyAsInt(i1, i2))
+        );
     }
 
-    public default IntFunction<IntToDoubleFunction> fuse(
+    public default WithIntBinaryToDoubleFunction fuse(
         IntToDoubleFunction next
     ) {
         return fuseIntToDoubleFunction(next);
@@ -42,38 +122,41 @@ interface IntBinaryOperatorCombos {
 
     /* IntBinaryOperator -> IntToLongFunction */
 
-    public default IntFunction<IntToLongFunction> fuseIntToLongFunction(
+    public default WithIntBinaryToLongFunction fuseIntToLongFunction(
         IntToLongFunction next
     ) {
-        return (int i1) ->
-            (int i2) -> next.applyAsLong(resolve().apply(i1).applyAsInt(i2));
+        return WithIntBinaryToLongFunction.of(
+            (int i1, int i2) ->
+                next.applyAsLong(resolveUncurried().applyAsInt(i1, i2))
+        );
     }
 
-    public default IntFunction<IntToLongFunction> fuse(IntToLongFunction next) {
+    public default WithIntBinaryToLongFunction fuse(IntToLongFunction next) {
         return fuseIntToLongFunction(next);
     }
 
     /* IntBinaryOperator -> IntPredicate */
 
-    public default IntFunction<IntPredicate> fuseIntPredicate(
-        IntPredicate next
-    ) {
-        return (int i1) ->
-            (int i2) -> next.test(resolve().apply(i1).applyAsInt(i2));
+    public default WithIntBiPredicate fuseIntPredicate(IntPredicate next) {
+        return WithIntBiPredicate.of(
+            (int i1, int i2) -> next.test(resolveUncurried().applyAsInt(i1, i2))
+        );
     }
 
-    public default IntFunction<IntPredicate> fuse(IntPredicate next) {
+    public default WithIntBiPredicate fuse(IntPredicate next) {
         return fuseIntPredicate(next);
     }
 
     /* IntBinaryOperator -> IntConsumer */
 
-    public default IntFunction<IntConsumer> fuseIntConsumer(IntConsumer next) {
-        return (int i1) ->
-            (int i2) -> next.accept(resolve().apply(i1).applyAsInt(i2));
+    public default WithIntBiConsumer fuseIntConsumer(IntConsumer next) {
+        return WithIntBiConsumer.of(
+            (int i1, int i2) ->
+                next.accept(resolveUncurried().applyAsInt(i1, i2))
+        );
     }
 
-    public default IntFunction<IntConsumer> fuse(IntConsumer next) {
+    public default WithIntBiConsumer fuse(IntConsumer next) {
         return fuseIntConsumer(next);
     }
 
@@ -83,8 +166,8 @@ interface IntBinaryOperatorCombos {
         IntUnaryOperator next
     ) {
         return WithIntBinaryOperator.of(
-            (int i1) ->
-                (int i2) -> next.applyAsInt(resolve().apply(i1).applyAsInt(i2))
+            (int i1, int i2) ->
+                next.applyAsInt(resolveUncurried().applyAsInt(i1, i2))
         );
     }
 
@@ -99,8 +182,8 @@ interface IntBinaryOperatorCombos {
     ) {
         return (int i1) ->
             (int i2) ->
-                (int d3) ->
-                    next.applyAsInt(resolve().apply(i1).applyAsInt(i2), d3);
+                (int i3) ->
+                    next.applyAsInt(resolveUncurried().applyAsInt(i1, i2), i3);
     }
 
     public default IntFunction<IntFunction<IntUnaryOperator>> fuse(
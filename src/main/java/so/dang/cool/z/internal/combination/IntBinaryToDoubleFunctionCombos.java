@@ -0,0 +1,182 @@
+package so.dang.cool.z.internal.combination;
+
+import java.nio.ByteBuffer;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleToIntFunction;
+import java.util.function.DoubleToLongFunction;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.IntFunction;
+import java.util.function.IntToDoubleFunction;
+import so.dang.cool.z.function.IntBinaryToDoubleFunction;
+import so.dang.cool.z.internal.bulk.Buffers;
+import so.dang.cool.z.internal.bulk.Bulk;
+import so.dang.cool.z.internal.combination.Combine.WithIntBiConsumer;
+import so.dang.cool.z.internal.combination.Combine.WithIntBiFunction;
+import so.dang.cool.z.internal.combination.Combine.WithIntBiPredicate;
+import so.dang.cool.z.internal.combination.Combine.WithIntBinaryOperator;
+import so.dang.cool.z.internal.combination.Combine.WithIntBinaryToDoubleFunction;
+import so.dang.cool.z.internal.combination.Combine.WithIntBinaryToLongFunction;
+
+interface IntBinaryToDoubleFunctionCombos {
+    IntFunction<IntToDoubleFunction> resolve();
+
+    IntBinaryToDoubleFunction resolveUncurried();
+
+    /* IntBinaryToDoubleFunction applied in bulk */
+
+    public default double[] applyAll(int[] left, int[] right, double[] out) {
+        return applyAll(left, 0, right, 0, out, 0, left.length);
+    }
+
+    public default double[] applyAll(
+        int[] left,
+        int leftOffset,
+        int[] right,
+        int rightOffset,
+        double[] out,
+        int outOffset,
+        int length
+    ) {
+        return Bulk.intBinaryToDoubleFunction(
+            resolveUncurried(),
+            left,
+            leftOffset,
+            right,
+            rightOffset,
+            out,
+            outOffset,
+            length
+        );
+    }
+
+    /* IntBinaryToDoubleFunction applied to buffers */
+
+    public default ByteBuffer applyAll(
+        ByteBuffer left,
+        ByteBuffer right,
+        ByteBuffer out
+    ) {
+        return applyAll(
+            left,
+            Integer.BYTES,
+            right,
+            Integer.BYTES,
+            out,
+            Double.BYTES,
+            left.remaining() / Integer.BYTES
+        );
+    }
+
+    public default ByteBuffer applyAll(
+        ByteBuffer left,
+        int leftStride,
+        ByteBuffer right,
+        int rightStride,
+        ByteBuffer out,
+        int outStride,
+        int length
+    ) {
+        return Buffers.intBinaryToDoubleFunction(
+            resolveUncurried(),
+            left,
+            leftStride,
+            right,
+            rightStride,
+            out,
+            outStride,
+            length
+        );
+    }
+
+    /* IntBinaryToDoubleFunction -> DoubleFunction<C> */
+
+    public default <C> WithIntBiFunction<C> fuseDoubleFunction(
+        DoubleFunction<C> next
+    ) {
+        return WithIntBiFunction.of(
+            (int i1, int i2) ->
+                next.apply(resolveUncurried().applyAsDouble(i1, i2))
+        );
+    }
+
+    public default <C> WithIntBiFunction<C> fuse(DoubleFunction<C> next) {
+        return fuseDoubleFunction(next);
+    }
+
+    /* IntBinaryToDoubleFunction -> DoubleToIntFunction */
+
+    public default WithIntBinaryOperator fuseDoubleToIntFunction(
+        DoubleToIntFunction next
+    ) {
+        return WithIntBinaryOperator.of(
+            (int i1, int i2) ->
+                next.applyAsInt(resolveUncurried().applyAsDouble(i1, i2))
+        );
+    }
+
+    public default WithIntBinaryOperator fuse(DoubleToIntFunction next) {
+        return fuseDoubleToIntFunction(next);
+    }
+
+    /* IntBinaryToDoubleFunction -> DoubleToLongFunction */
+
+    public default WithIntBinaryToLongFunction fuseDoubleToLongFunction(
+        DoubleToLongFunction next
+    ) {
+        return WithIntBinaryToLongFunction.of(
+            (int i1, int i2) ->
+                next.applyAsLong(resolveUncurried().applyAsDouble(i1, i2))
+        );
+    }
+
+    public default WithIntBinaryToLongFunction fuse(DoubleToLongFunction next) {
+        return fuseDoubleToLongFunction(next);
+    }
+
+    /* IntBinaryToDoubleFunction -> DoublePredicate */
+
+    public default WithIntBiPredicate fuseDoublePredicate(
+        DoublePredicate next
+    ) {
+        return WithIntBiPredicate.of(
+            (int i1, int i2) ->
+                next.test(resolveUncurried().applyAsDouble(i1, i2))
+        );
+    }
+
+    public default WithIntBiPredicate fuse(DoublePredicate next) {
+        return fuseDoublePredicate(next);
+    }
+
+    /* IntBinaryToDoubleFunction -> DoubleConsumer */
+
+    public default WithIntBiConsumer fuseDoubleConsumer(DoubleConsumer next) {
+        return WithIntBiConsumer.of(
+            (int i1, int i2) ->
+                next.accept(resolveUncurried().applyAsDouble(i1, i2))
+        );
+    }
+
+    public default WithIntBiConsumer fuse(DoubleConsumer next) {
+        return fuseDoubleConsumer(next);
+    }
+
+    /* IntBinaryToDoubleFunction -> DoubleUnaryOperator */
+
+    public default WithIntBinaryToDoubleFunction fuseDoubleUnaryOperator(
+        DoubleUnaryOperator next
+    ) {
+        return WithIntBinaryToDoubleFunction.of(
+            (int i1, int i2) ->
+                next.applyAsDouble(resolveUncurried().applyAsDouble(i1, i2))
+        );
+    }
+
+    public default WithIntBinaryToDoubleFunction fuse(
+        DoubleUnaryOperator next
+    ) {
+        return fuseDoubleUnaryOperator(next);
+    }
+}
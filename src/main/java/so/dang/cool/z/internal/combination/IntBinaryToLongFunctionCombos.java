@@ -0,0 +1,180 @@
+package so.dang.cool.z.internal.combination;
+
+import java.nio.ByteBuffer;
+import java.util.function.IntFunction;
+import java.util.function.IntToLongFunction;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import java.util.function.LongToDoubleFunction;
+import java.util.function.LongToIntFunction;
+import java.util.function.LongUnaryOperator;
+import so.dang.cool.z.function.IntBinaryToLongFunction;
+import so.dang.cool.z.internal.bulk.Buffers;
+import so.dang.cool.z.internal.bulk.Bulk;
+import so.dang.cool.z.internal.combination.Combine.WithIntBiConsumer;
+import so.dang.cool.z.internal.combination.Combine.WithIntBiFunction;
+import so.dang.cool.z.internal.combination.Combine.WithIntBiPredicate;
+import so.dang.cool.z.internal.combination.Combine.WithIntBinaryOperator;
+import so.dang.cool.z.internal.combination.Combine.WithIntBinaryToDoubleFunction;
+import so.dang.cool.z.internal.combination.Combine.WithIntBinaryToLongFunction;
+
+interface IntBinaryToLongFunctionCombos {
+    IntFunction<IntToLongFunction> resolve();
+
+    IntBinaryToLongFunction resolveUncurried();
+
+    /* IntBinaryToLongFunction applied in bulk */
+
+    public default long[] applyAll(int[] left, int[] right, long[] out) {
+        return applyAll(left, 0, right, 0, out, 0, left.length);
+    }
+
+    public default long[] applyAll(
+        int[] left,
+        int leftOffset,
+        int[] right,
+        int rightOffset,
+        long[] out,
+        int outOffset,
+        int length
+    ) {
+        return Bulk.intBinaryToLongFunction(
+            resolveUncurried(),
+            left,
+            leftOffset,
+            right,
+            rightOffset,
+            out,
+            outOffset,
+            length
+        );
+    }
+
+    /* IntBinaryToLongFunction applied to buffers */
+
+    public default ByteBuffer applyAll(
+        ByteBuffer left,
+        ByteBuffer right,
+        ByteBuffer out
+    ) {
+        return applyAll(
+            left,
+            Integer.BYTES,
+            right,
+            Integer.BYTES,
+            out,
+            Long.BYTES,
+            left.remaining() / Integer.BYTES
+        );
+    }
+
+    public default ByteBuffer applyAll(
+        ByteBuffer left,
+        int leftStride,
+        ByteBuffer right,
+        int rightStride,
+        ByteBuffer out,
+        int outStride,
+        int length
+    ) {
+        return Buffers.intBinaryToLongFunction(
+            resolveUncurried(),
+            left,
+            leftStride,
+            right,
+            rightStride,
+            out,
+            outStride,
+            length
+        );
+    }
+
+    /* IntBinaryToLongFunction -> LongFunction<C> */
+
+    public default <C> WithIntBiFunction<C> fuseLongFunction(
+        LongFunction<C> next
+    ) {
+        return WithIntBiFunction.of(
+            (int i1, int i2) ->
+                next.apply(resolveUncurried().applyAsLong(i1, i2))
+        );
+    }
+
+    public default <C> WithIntBiFunction<C> fuse(LongFunction<C> next) {
+        return fuseLongFunction(next);
+    }
+
+    /* IntBinaryToLongFunction -> LongToDoubleFunction */
+
+    public default WithIntBinaryToDoubleFunction fuseLongToDoubleFunction(
+        LongToDoubleFunction next
+    ) {
+        return WithIntBinaryToDoubleFunction.of(
+            (int i1, int i2) ->
+                next.applyAsDouble(resolveUncurried().applyAsLong(i1, i2))
+        );
+    }
+
+    public default WithIntBinaryToDoubleFunction fuse(
+        LongToDoubleFunction next
+    ) {
+        return fuseLongToDoubleFunction(next);
+    }
+
+    /* IntBinaryToLongFunction -> LongToIntFunction */
+
+    public default WithIntBinaryOperator fuseLongToIntFunction(
+        LongToIntFunction next
+    ) {
+        return WithIntBinaryOperator.of(
+            (int i1, int i2) ->
+                next.applyAsInt(resolveUncurried().applyAsLong(i1, i2))
+        );
+    }
+
+    public default WithIntBinaryOperator fuse(LongToIntFunction next) {
+        return fuseLongToIntFunction(next);
+    }
+
+    /* IntBinaryToLongFunction -> LongPredicate */
+
+    public default WithIntBiPredicate fuseLongPredicate(LongPredicate next) {
+        return WithIntBiPredicate.of(
+            (int i1, int i2) ->
+                next.test(resolveUncurried().applyAsLong(i1, i2))
+        );
+    }
+
+    public default WithIntBiPredicate fuse(LongPredicate next) {
+        return fuseLongPredicate(next);
+    }
+
+    /* IntBinaryToLongFunction -> LongConsumer */
+
+    public default WithIntBiConsumer fuseLongConsumer(LongConsumer next) {
+        return WithIntBiConsumer.of(
+            (int i1, int i2) ->
+                next.accept(resolveUncurried().applyAsLong(i1, i2))
+        );
+    }
+
+    public default WithIntBiConsumer fuse(LongConsumer next) {
+        return fuseLongConsumer(next);
+    }
+
+    /* IntBinaryToLongFunction -> LongUnaryOperator */
+
+    public default WithIntBinaryToLongFunction fuseLongUnaryOperator(
+        LongUnaryOperator next
+    ) {
+        return WithIntBinaryToLongFunction.of(
+            (int i1, int i2) ->
+                next.applyAsLong(resolveUncurried().applyAsLong(i1, i2))
+        );
+    }
+
+    public default WithIntBinaryToLongFunction fuse(LongUnaryOperator next) {
+        return fuseLongUnaryOperator(next);
+    }
+}
@@ -25,10 +25,29 @@ import so.dang.cool.z.internal.combination.Combine.WithIntPredicate;
 import so.dang.cool.z.internal.combination.Combine.WithIntToDoubleFunction;
 import so.dang.cool.z.internal.combination.Combine.WithIntToLongFunction;
 import so.dang.cool.z.internal.combination.Combine.WithIntUnaryOperator;
+import so.dang.cool.z.internal.memoization.Memoize;
+import so.dang.cool.z.internal.memoization.Tabulate;
 
 interface IntFunctionCombos<A> {
     IntFunction<A> resolve();
 
+    /* IntFunction<A> memoized */
+
+    public default WithIntFunction<A> memoize(int maxSize) {
+        return WithIntFunction.of(Memoize.intFunction(resolve(), maxSize));
+    }
+
+    /* IntFunction<A> tabulated */
+
+    public default WithIntFunction<A> tabulate(
+        int fromInclusive,
+        int toExclusive
+    ) {
+        return WithIntFunction.of(
+            Tabulate.intFunction(resolve(), fromInclusive, toExclusive)
+        );
+    }
+
     /* IntFunction<A> -> Function<A,B> */
 
     public default <B> WithIntFunction<B> fuseFunction(Function<A, B> next) {
@@ -1,5 +1,6 @@
 package so.dang.cool.z.internal.combination;
 
+import java.nio.ByteBuffer;
 import java.util.function.IntPredicate;
 import so.dang.cool.z.function.BooleanConsumer;
 import so.dang.cool.z.function.BooleanFunction;
@@ -7,16 +8,138 @@ import so.dang.cool.z.function.BooleanPredicate;
 import so.dang.cool.z.function.BooleanToDoubleFunction;
 import so.dang.cool.z.function.BooleanToIntFunction;
 import so.dang.cool.z.function.BooleanToLongFunction;
+import so.dang.cool.z.internal.bulk.Buffers;
+import so.dang.cool.z.internal.bulk.Select;
 import so.dang.cool.z.internal.combination.Combine.WithIntConsumer;
 import so.dang.cool.z.internal.combination.Combine.WithIntFunction;
 import so.dang.cool.z.internal.combination.Combine.WithIntPredicate;
 import so.dang.cool.z.internal.combination.Combine.WithIntToDoubleFunction;
 import so.dang.cool.z.internal.combination.Combine.WithIntToLongFunction;
 import so.dang.cool.z.internal.combination.Combine.WithIntUnaryOperator;
+import so.dang.cool.z.internal.memoization.Memoize;
+import so.dang.cool.z.internal.memoization.Tabulate;
 
 interface IntPredicateCombos {
     IntPredicate resolve();
 
+    /* IntPredicate evaluated in bulk */
+
+    public default int select(int[] in, int[] selection) {
+        return select(in, 0, in.length, selection);
+    }
+
+    public default int select(
+        int[] in,
+        int offset,
+        int length,
+        int[] selection
+    ) {
+        return Select.intPredicateSelect(
+            resolve(),
+            in,
+            offset,
+            length,
+            selection
+        );
+    }
+
+    public default int refine(int[] in, int[] selection, int count) {
+        return Select.intPredicateRefine(resolve(), in, selection, count);
+    }
+
+    public default long[] bitset(int[] in) {
+        return bitset(in, 0, in.length, new long[Select.wordsFor(in.length)]);
+    }
+
+    public default long[] bitset(
+        int[] in,
+        int offset,
+        int length,
+        long[] bits
+    ) {
+        return Select.intPredicateBits(resolve(), in, offset, length, bits);
+    }
+
+    public default long[] bitsetAnd(int[] in, long[] bits) {
+        return bitsetAnd(in, 0, in.length, bits);
+    }
+
+    public default long[] bitsetAnd(
+        int[] in,
+        int offset,
+        int length,
+        long[] bits
+    ) {
+        return Select.intPredicateBitsAnd(resolve(), in, offset, length, bits);
+    }
+
+    public default long[] bitsetOr(int[] in, long[] bits) {
+        return bitsetOr(in, 0, in.length, bits);
+    }
+
+    public default long[] bitsetOr(
+        int[] in,
+        int offset,
+        int length,
+        long[] bits
+    ) {
+        return Select.intPredicateBitsOr(resolve(), in, offset, length, bits);
+    }
+
+    /* IntPredicate evaluated over buffers */
+
+    public default int select(ByteBuffer in, int[] selection) {
+        int length = in.remaining() / Integer.BYTES;
+        return select(in, Integer.BYTES, length, selection);
+    }
+
+    public default int select(
+        ByteBuffer in,
+        int stride,
+        int length,
+        int[] selection
+    ) {
+        return Buffers.intPredicateSelect(
+            resolve(),
+            in,
+            stride,
+            length,
+            selection
+        );
+    }
+
+    public default long[] bitset(ByteBuffer in) {
+        int length = in.remaining() / Integer.BYTES;
+        long[] bits = new long[Select.wordsFor(length)];
+        return bitset(in, Integer.BYTES, length, bits);
+    }
+
+    public default long[] bitset(
+        ByteBuffer in,
+        int stride,
+        int length,
+        long[] bits
+    ) {
+        return Buffers.intPredicateBits(resolve(), in, stride, length, bits);
+    }
+
+    /* IntPredicate memoized */
+
+    public default WithIntPredicate memoize(int maxSize) {
+        return WithIntPredicate.of(Memoize.intPredicate(resolve(), maxSize));
+    }
+
+    /* IntPredicate tabulated */
+
+    public default WithIntPredicate tabulate(
+        int fromInclusive,
+        int toExclusive
+    ) {
+        return WithIntPredicate.of(
+            Tabulate.intPredicate(resolve(), fromInclusive, toExclusive)
+        );
+    }
+
     /* IntPredicate -> BooleanFunction<A> */
 
     public default <A> WithIntFunction<A> fuseBooleanFunction(
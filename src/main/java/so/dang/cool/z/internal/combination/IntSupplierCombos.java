@@ -1,5 +1,7 @@
 package so.dang.cool.z.internal.combination;
 
+import java.time.Duration;
+import java.util.concurrent.Executor;
 import java.util.function.IntBinaryOperator;
 import java.util.function.IntConsumer;
 import java.util.function.IntFunction;
@@ -15,14 +17,43 @@ import so.dang.cool.z.internal.combination.Combine.WithIntUnaryOperator;
 import so.dang.cool.z.internal.combination.Combine.WithLongSupplier;
 import so.dang.cool.z.internal.combination.Combine.WithOperator;
 import so.dang.cool.z.internal.combination.Combine.WithSupplier;
+import so.dang.cool.z.internal.memoization.Expiring;
+import so.dang.cool.z.internal.memoization.Refreshing;
 
 interface IntSupplierCombos {
     public IntSupplier resolve();
 
+    public boolean isConstant();
+
+    /* IntSupplier memoized */
+
+    public default WithIntSupplier expiring(Duration timeToLive) {
+        Expiring<Integer> expiring = Expiring.of(
+            resolve()::getAsInt,
+            timeToLive
+        );
+        return WithIntSupplier.of(expiring::get);
+    }
+
+    public default WithIntSupplier refreshing(
+        Duration refreshAfter,
+        Executor executor
+    ) {
+        Refreshing<Integer> refreshing = Refreshing.of(
+            resolve()::getAsInt,
+            refreshAfter,
+            executor
+        );
+        return WithIntSupplier.of(refreshing::get);
+    }
+
     /* IntSupplier -> IntFunction<A> */
 
     public default <A> WithSupplier<A> fuseIntFunction(IntFunction<A> next) {
-        return WithSupplier.of(() -> next.apply(resolve().getAsInt()));
+        return WithSupplier.of(
+            () -> next.apply(resolve().getAsInt()),
+            isConstant()
+        );
     }
 
     public default <A> WithSupplier<A> fuse(IntFunction<A> next) {
@@ -35,7 +66,8 @@ interface IntSupplierCombos {
         IntToDoubleFunction next
     ) {
         return WithDoubleSupplier.of(
-            () -> next.applyAsDouble(resolve().getAsInt())
+            () -> next.applyAsDouble(resolve().getAsInt()),
+            isConstant()
         );
     }
 
@@ -49,7 +81,8 @@ interface IntSupplierCombos {
         IntToLongFunction next
     ) {
         return WithLongSupplier.of(
-            () -> next.applyAsLong(resolve().getAsInt())
+            () -> next.applyAsLong(resolve().getAsInt()),
+            isConstant()
         );
     }
 
@@ -60,7 +93,10 @@ interface IntSupplierCombos {
     /* IntSupplier -> IntPredicate */
 
     public default WithBooleanSupplier fuseIntPredicate(IntPredicate next) {
-        return WithBooleanSupplier.of(() -> next.test(resolve().getAsInt()));
+        return WithBooleanSupplier.of(
+            () -> next.test(resolve().getAsInt()),
+            isConstant()
+        );
     }
 
     public default WithBooleanSupplier fuse(IntPredicate next) {
@@ -80,7 +116,10 @@ interface IntSupplierCombos {
     /* IntSupplier -> IntUnaryOperator */
 
     public default WithIntSupplier fuseIntUnaryOperator(IntUnaryOperator next) {
-        return WithIntSupplier.of(() -> next.applyAsInt(resolve().getAsInt()));
+        return WithIntSupplier.of(
+            () -> next.applyAsInt(resolve().getAsInt()),
+            isConstant()
+        );
     }
 
     public default WithIntSupplier fuse(IntUnaryOperator next) {
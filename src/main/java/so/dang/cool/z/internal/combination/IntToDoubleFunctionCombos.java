@@ -1,5 +1,7 @@
 package so.dang.cool.z.internal.combination;
 
+import java.nio.ByteBuffer;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.DoubleBinaryOperator;
 import java.util.function.DoubleConsumer;
 import java.util.function.DoubleFunction;
@@ -9,16 +11,112 @@ import java.util.function.DoubleToLongFunction;
 import java.util.function.DoubleUnaryOperator;
 import java.util.function.IntFunction;
 import java.util.function.IntToDoubleFunction;
+import so.dang.cool.z.internal.bulk.Buffers;
+import so.dang.cool.z.internal.bulk.Bulk;
+import so.dang.cool.z.internal.bulk.Parallel;
 import so.dang.cool.z.internal.combination.Combine.WithIntConsumer;
 import so.dang.cool.z.internal.combination.Combine.WithIntFunction;
 import so.dang.cool.z.internal.combination.Combine.WithIntPredicate;
 import so.dang.cool.z.internal.combination.Combine.WithIntToDoubleFunction;
 import so.dang.cool.z.internal.combination.Combine.WithIntToLongFunction;
 import so.dang.cool.z.internal.combination.Combine.WithIntUnaryOperator;
+import so.dang.cool.z.internal.memoization.Memoize;
+import so.dang.cool.z.internal.memoization.Tabulate;
 
 interface IntToDoubleFunctionCombos {
     IntToDoubleFunction resolve();
 
+    /* IntToDoubleFunction applied in bulk */
+
+    public default double[] applyAll(int[] in, double[] out) {
+        return applyAll(in, 0, out, 0, in.length);
+    }
+
+    public default double[] applyAll(
+        int[] in,
+        int inOffset,
+        double[] out,
+        int outOffset,
+        int length
+    ) {
+        return Bulk.intToDoubleFunction(
+            resolve(),
+            in,
+            inOffset,
+            out,
+            outOffset,
+            length
+        );
+    }
+
+    /* IntToDoubleFunction applied to buffers */
+
+    public default ByteBuffer applyAll(ByteBuffer in, ByteBuffer out) {
+        return applyAll(
+            in,
+            Integer.BYTES,
+            out,
+            Double.BYTES,
+            in.remaining() / Integer.BYTES
+        );
+    }
+
+    public default ByteBuffer applyAll(
+        ByteBuffer in,
+        int inStride,
+        ByteBuffer out,
+        int outStride,
+        int length
+    ) {
+        return Buffers.intToDoubleFunction(
+            resolve(),
+            in,
+            inStride,
+            out,
+            outStride,
+            length
+        );
+    }
+
+    /* IntToDoubleFunction applied in parallel */
+
+    public default double[] parallelApplyAll(int[] in, double[] out) {
+        return parallelApplyAll(in, out, ForkJoinPool.commonPool());
+    }
+
+    public default double[] parallelApplyAll(
+        int[] in,
+        double[] out,
+        ForkJoinPool pool
+    ) {
+        Parallel.forEachRange(
+            pool,
+            in.length,
+            out.length,
+            (int from, int to) -> applyAll(in, from, out, from, to - from)
+        );
+        return out;
+    }
+
+    /* IntToDoubleFunction memoized */
+
+    public default WithIntToDoubleFunction memoize(int maxSize) {
+        return WithIntToDoubleFunction.of(
+            Memoize.intToDoubleFunction(resolve(), maxSize)
+        );
+    }
+
+    /* IntToDoubleFunction tabulated */
+
+    public default WithIntToDoubleFunction tabulate(
+        int fromInclusive,
+        int toExclusive
+    ) {
+        return WithIntToDoubleFunction.of(
+            Tabulate.intToDoubleFunction(resolve(), fromInclusive, toExclusive)
+        );
+    }
+
     /* IntToDoubleFunction -> DoubleFunction<A> */
 
     public default <A> WithIntFunction<A> fuseDoubleFunction(
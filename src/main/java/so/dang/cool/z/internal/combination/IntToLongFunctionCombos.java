@@ -1,5 +1,7 @@
 package so.dang.cool.z.internal.combination;
 
+import java.nio.ByteBuffer;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.IntFunction;
 import java.util.function.IntToLongFunction;
 import java.util.function.LongBinaryOperator;
@@ -9,16 +11,112 @@ import java.util.function.LongPredicate;
 import java.util.function.LongToDoubleFunction;
 import java.util.function.LongToIntFunction;
 import java.util.function.LongUnaryOperator;
+import so.dang.cool.z.internal.bulk.Buffers;
+import so.dang.cool.z.internal.bulk.Bulk;
+import so.dang.cool.z.internal.bulk.Parallel;
 import so.dang.cool.z.internal.combination.Combine.WithIntConsumer;
 import so.dang.cool.z.internal.combination.Combine.WithIntFunction;
 import so.dang.cool.z.internal.combination.Combine.WithIntPredicate;
 import so.dang.cool.z.internal.combination.Combine.WithIntToDoubleFunction;
 import so.dang.cool.z.internal.combination.Combine.WithIntToLongFunction;
 import so.dang.cool.z.internal.combination.Combine.WithIntUnaryOperator;
+import so.dang.cool.z.internal.memoization.Memoize;
+import so.dang.cool.z.internal.memoization.Tabulate;
 
 interface IntToLongFunctionCombos {
     IntToLongFunction resolve();
 
+    /* IntToLongFunction applied in bulk */
+
+    public default long[] applyAll(int[] in, long[] out) {
+        return applyAll(in, 0, out, 0, in.length);
+    }
+
+    public default long[] applyAll(
+        int[] in,
+        int inOffset,
+        long[] out,
+        int outOffset,
+        int length
+    ) {
+        return Bulk.intToLongFunction(
+            resolve(),
+            in,
+            inOffset,
+            out,
+            outOffset,
+            length
+        );
+    }
+
+    /* IntToLongFunction applied to buffers */
+
+    public default ByteBuffer applyAll(ByteBuffer in, ByteBuffer out) {
+        return applyAll(
+            in,
+            Integer.BYTES,
+            out,
+            Long.BYTES,
+            in.remaining() / Integer.BYTES
+        );
+    }
+
+    public default ByteBuffer applyAll(
+        ByteBuffer in,
+        int inStride,
+        ByteBuffer out,
+        int outStride,
+        int length
+    ) {
+        return Buffers.intToLongFunction(
+            resolve(),
+            in,
+            inStride,
+            out,
+            outStride,
+            length
+        );
+    }
+
+    /* IntToLongFunction applied in parallel */
+
+    public default long[] parallelApplyAll(int[] in, long[] out) {
+        return parallelApplyAll(in, out, ForkJoinPool.commonPool());
+    }
+
+    public default long[] parallelApplyAll(
+        int[] in,
+        long[] out,
+        ForkJoinPool pool
+    ) {
+        Parallel.forEachRange(
+            pool,
+            in.length,
+            out.length,
+            (int from, int to) -> applyAll(in, from, out, from, to - from)
+        );
+        return out;
+    }
+
+    /* IntToLongFunction memoized */
+
+    public default WithIntToLongFunction memoize(int maxSize) {
+        return WithIntToLongFunction.of(
+            Memoize.intToLongFunction(resolve(), maxSize)
+        );
+    }
+
+    /* IntToLongFunction tabulated */
+
+    public default WithIntToLongFunction tabulate(
+        int fromInclusive,
+        int toExclusive
+    ) {
+        return WithIntToLongFunction.of(
+            Tabulate.intToLongFunction(resolve(), fromInclusive, toExclusive)
+        );
+    }
+
     /* IntToLongFunction -> LongFunction<A> */
 
     public default <A> WithIntFunction<A> fuseLongFunction(
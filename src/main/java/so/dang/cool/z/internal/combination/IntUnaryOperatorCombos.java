@@ -1,5 +1,11 @@
 package so.dang.cool.z.internal.combination;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.IntBinaryOperator;
 import java.util.function.IntConsumer;
 import java.util.function.IntFunction;
@@ -7,6 +13,9 @@ import java.util.function.IntPredicate;
 import java.util.function.IntToDoubleFunction;
 import java.util.function.IntToLongFunction;
 import java.util.function.IntUnaryOperator;
+import so.dang.cool.z.internal.bulk.Buffers;
+import so.dang.cool.z.internal.bulk.Mapped;
+import so.dang.cool.z.internal.bulk.Parallel;
 import so.dang.cool.z.internal.combination.Combine.WithIntBinaryOperator;
 import so.dang.cool.z.internal.combination.Combine.WithIntConsumer;
 import so.dang.cool.z.internal.combination.Combine.WithIntFunction;
@@ -14,10 +23,162 @@ import so.dang.cool.z.internal.combination.Combine.WithIntPredicate;
 import so.dang.cool.z.internal.combination.Combine.WithIntToDoubleFunction;
 import so.dang.cool.z.internal.combination.Combine.WithIntToLongFunction;
 import so.dang.cool.z.internal.combination.Combine.WithIntUnaryOperator;
+import so.dang.cool.z.internal.memoization.Memoize;
+import so.dang.cool.z.internal.memoization.Tabulate;
 
 interface IntUnaryOperatorCombos {
     IntUnaryOperator resolve();
 
+    /* IntUnaryOperator applied in bulk */
+
+    public default int[] applyAll(int[] in, int[] out) {
+        return applyAll(in, 0, out, 0, in.length);
+    }
+
+    public default int[] applyAll(int[] values) {
+        return applyAll(values, 0, values, 0, values.length);
+    }
+
+    int[] applyAll(
+        int[] in,
+        int inOffset,
+        int[] out,
+        int outOffset,
+        int length
+    );
+
+    /* IntUnaryOperator applied to buffers */
+
+    public default ByteBuffer applyAll(ByteBuffer values) {
+        return applyAll(values, values);
+    }
+
+    public default ByteBuffer applyAll(ByteBuffer in, ByteBuffer out) {
+        return applyAll(
+            in,
+            Integer.BYTES,
+            out,
+            Integer.BYTES,
+            in.remaining() / Integer.BYTES
+        );
+    }
+
+    /**
+     * Applies to {@code length} ints read every {@code inStride} bytes from
+     * the position of {@code in}, writing every {@code outStride} bytes from
+     * the position of {@code out}, in each buffer's byte order.
+     */
+    public default ByteBuffer applyAll(
+        ByteBuffer in,
+        int inStride,
+        ByteBuffer out,
+        int outStride,
+        int length
+    ) {
+        return Buffers.intUnaryOperators(
+            in,
+            inStride,
+            out,
+            outStride,
+            length,
+            (int[] chunk, int size) -> applyAll(chunk, 0, chunk, 0, size)
+        );
+    }
+
+    /* IntUnaryOperator applied in parallel */
+
+    public default int[] parallelApplyAll(int[] values) {
+        return parallelApplyAll(values, values, ForkJoinPool.commonPool());
+    }
+
+    public default int[] parallelApplyAll(int[] values, ForkJoinPool pool) {
+        return parallelApplyAll(values, values, pool);
+    }
+
+    public default int[] parallelApplyAll(int[] in, int[] out) {
+        return parallelApplyAll(in, out, ForkJoinPool.commonPool());
+    }
+
+    public default int[] parallelApplyAll(
+        int[] in,
+        int[] out,
+        ForkJoinPool pool
+    ) {
+        Parallel.forEachRange(
+            pool,
+            in.length,
+            out.length,
+            (int from, int to) -> applyAll(in, from, out, from, to - from)
+        );
+        return out;
+    }
+
+    /* IntUnaryOperator applied to mapped files */
+
+    /**
+     * Transforms a flat file of ints into {@code out}, in native byte order,
+     * without reading it onto the heap. The same path may be given twice to
+     * transform a file in place.
+     */
+    public default Path applyAll(Path in, Path out) throws IOException {
+        return applyAll(in, out, ByteOrder.nativeOrder());
+    }
+
+    public default Path applyAll(Path in, Path out, ByteOrder order)
+        throws IOException {
+        return Mapped.ints(
+            in,
+            out,
+            order,
+            null,
+            (int[] chunk, int length) -> applyAll(chunk, 0, chunk, 0, length)
+        );
+    }
+
+    public default Path parallelApplyAll(Path in, Path out)
+        throws IOException {
+        return parallelApplyAll(
+            in,
+            out,
+            ByteOrder.nativeOrder(),
+            ForkJoinPool.commonPool()
+        );
+    }
+
+    public default Path parallelApplyAll(
+        Path in,
+        Path out,
+        ByteOrder order,
+        ForkJoinPool pool
+    ) throws IOException {
+        return Mapped.ints(
+            in,
+            out,
+            order,
+            Objects.requireNonNull(pool),
+            (int[] chunk, int length) -> applyAll(chunk, 0, chunk, 0, length)
+        );
+    }
+
+    /* IntUnaryOperator memoized */
+
+    public default WithIntUnaryOperator memoize(int maxSize) {
+        return WithIntUnaryOperator.of(
+            Memoize.intUnaryOperator(resolve(), maxSize)
+        );
+    }
+
+    /* IntUnaryOperator tabulated */
+
+    public default WithIntUnaryOperator tabulate(
+        int fromInclusive,
+        int toExclusive
+    ) {
+        return WithIntUnaryOperator.of(
+            Tabulate.intUnaryOperator(resolve(), fromInclusive, toExclusive)
+        );
+    }
+
     /* IntUnaryOperator -> IntFunction<A> */
 
     public default <A> WithIntFunction<A> fuseIntFunction(IntFunction<A> next) {
@@ -87,9 +248,7 @@ interface IntUnaryOperatorCombos {
     public default WithIntUnaryOperator fuseIntUnaryOperator(
         IntUnaryOperator next
     ) {
-        return WithIntUnaryOperator.of(
-            (int i) -> next.applyAsInt(resolve().applyAsInt(i))
-        );
+        return WithIntUnaryOperator.of(resolve()).then(next);
     }
 
     public default WithIntUnaryOperator fuse(IntUnaryOperator next) {
@@ -102,8 +261,7 @@ interface IntUnaryOperatorCombos {
         IntBinaryOperator next
     ) {
         return WithIntBinaryOperator.of(
-            (int d1) ->
-                (int d2) -> next.applyAsInt(resolve().applyAsInt(d1), d2)
+            (int d1, int d2) -> next.applyAsInt(resolve().applyAsInt(d1), d2)
         );
     }
 
@@ -0,0 +1,134 @@
+package so.dang.cool.z.internal.combination;
+
+import java.util.function.BooleanSupplier;
+import java.util.function.DoubleSupplier;
+import java.util.function.IntSupplier;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import so.dang.cool.z.annotation.Evil;
+import so.dang.cool.z.function.LongBiConsumer;
+import so.dang.cool.z.function.Operator;
+import so.dang.cool.z.internal.combination.Combine.WithLongBiConsumer;
+import so.dang.cool.z.internal.combination.Combine.WithLongBiFunction;
+import so.dang.cool.z.internal.combination.Combine.WithLongBiPredicate;
+import so.dang.cool.z.internal.combination.Combine.WithLongBinaryOperator;
+import so.dang.cool.z.internal.combination.Combine.WithLongBinaryToDoubleFunction;
+import so.dang.cool.z.internal.combination.Combine.WithLongBinaryToIntFunction;
+
+interface LongBiConsumerCombos {
+    LongFunction<LongConsumer> resolve();
+
+    LongBiConsumer resolveUncurried();
+
+    /* LongBiConsumer -> Supplier<C> */
+
+    @Evil
+    public default <C> WithLongBiFunction<C> absorbSupplier(Supplier<C> next) {
+        return WithLongBiFunction.of(
+            (long n1, long n2) -> {
+                resolveUncurried().accept(n1, n2);
+                return next.get();
+            }
+        );
+    }
+
+    @Evil
+    public default <C> WithLongBiFunction<C> absorb(Supplier<C> next) {
+        return absorbSupplier(next);
+    }
+
+    /* LongBiConsumer -> BooleanSupplier */
+
+    @Evil
+    public default WithLongBiPredicate absorbBooleanSupplier(
+        BooleanSupplier next
+    ) {
+        return WithLongBiPredicate.of(
+            (long n1, long n2) -> {
+                resolveUncurried().accept(n1, n2);
+                return next.getAsBoolean();
+            }
+        );
+    }
+
+    @Evil
+    public default WithLongBiPredicate absorb(BooleanSupplier next) {
+        return absorbBooleanSupplier(next);
+    }
+
+    /* LongBiConsumer -> DoubleSupplier */
+
+    @Evil
+    public default WithLongBinaryToDoubleFunction absorbDoubleSupplier(
+        DoubleSupplier next
+    ) {
+        return WithLongBinaryToDoubleFunction.of(
+            (long n1, long n2) -> {
+                resolveUncurried().accept(n1, n2);
+                return next.getAsDouble();
+            }
+        );
+    }
+
+    @Evil
+    public default WithLongBinaryToDoubleFunction absorb(DoubleSupplier next) {
+        return absorbDoubleSupplier(next);
+    }
+
+    /* LongBiConsumer -> IntSupplier */
+
+    @Evil
+    public default WithLongBinaryToIntFunction absorbIntSupplier(
+        IntSupplier next
+    ) {
+        return WithLongBinaryToIntFunction.of(
+            (long n1, long n2) -> {
+                resolveUncurried().accept(n1, n2);
+                return next.getAsInt();
+            }
+        );
+    }
+
+    @Evil
+    public default WithLongBinaryToIntFunction absorb(IntSupplier next) {
+        return absorbIntSupplier(next);
+    }
+
+    /* LongBiConsumer -> LongSupplier */
+
+    @Evil
+    public default WithLongBinaryOperator absorbLongSupplier(
+        LongSupplier next
+    ) {
+        return WithLongBinaryOperator.of(
+            (long n1, long n2) -> {
+                resolveUncurried().accept(n1, n2);
+                return next.getAsLong();
+            }
+        );
+    }
+
+    @Evil
+    public default WithLongBinaryOperator absorb(LongSupplier next) {
+        return absorbLongSupplier(next);
+    }
+
+    /* LongBiConsumer -> Operator */
+
+    @Evil
+    public default WithLongBiConsumer absorbOperator(Operator next) {
+        return WithLongBiConsumer.of(
+            (long n1, long n2) -> {
+                resolveUncurried().accept(n1, n2);
+                next.run();
+            }
+        );
+    }
+
+    @Evil
+    public default WithLongBiConsumer absorb(Operator next) {
+        return absorbOperator(next);
+    }
+}
@@ -0,0 +1,105 @@
+package so.dang.cool.z.internal.combination;
+
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import so.dang.cool.z.function.LongBiFunction;
+import so.dang.cool.z.internal.combination.Combine.WithLongBiConsumer;
+import so.dang.cool.z.internal.combination.Combine.WithLongBiFunction;
+import so.dang.cool.z.internal.combination.Combine.WithLongBiPredicate;
+import so.dang.cool.z.internal.combination.Combine.WithLongBinaryOperator;
+import so.dang.cool.z.internal.combination.Combine.WithLongBinaryToDoubleFunction;
+import so.dang.cool.z.internal.combination.Combine.WithLongBinaryToIntFunction;
+
+interface LongBiFunctionCombos<C> {
+    LongFunction<LongFunction<C>> resolve();
+
+    LongBiFunction<C> resolveUncurried();
+
+    /* LongBiFunction<C> -> Function<C, D> */
+
+    public default <D> WithLongBiFunction<D> fuseFunction(Function<C, D> next) {
+        return WithLongBiFunction.of(
+            (long n1, long n2) -> next.apply(resolveUncurried().apply(n1, n2))
+        );
+    }
+
+    public default <D> WithLongBiFunction<D> fuse(Function<C, D> next) {
+        return fuseFunction(next);
+    }
+
+    /* LongBiFunction<C> -> ToDoubleFunction<C> */
+
+    public default WithLongBinaryToDoubleFunction fuseToDoubleFunction(
+        ToDoubleFunction<C> next
+    ) {
+        return WithLongBinaryToDoubleFunction.of(
+            (long n1, long n2) ->
+                next.applyAsDouble(resolveUncurried().apply(n1, n2))
+        );
+    }
+
+    public default WithLongBinaryToDoubleFunction fuse(
+        ToDoubleFunction<C> next
+    ) {
+        return fuseToDoubleFunction(next);
+    }
+
+    /* LongBiFunction<C> -> ToIntFunction<C> */
+
+    public default WithLongBinaryToIntFunction fuseToIntFunction(
+        ToIntFunction<C> next
+    ) {
+        return WithLongBinaryToIntFunction.of(
+            (long n1, long n2) ->
+                next.applyAsInt(resolveUncurried().apply(n1, n2))
+        );
+    }
+
+    public default WithLongBinaryToIntFunction fuse(ToIntFunction<C> next) {
+        return fuseToIntFunction(next);
+    }
+
+    /* LongBiFunction<C> -> ToLongFunction<C> */
+
+    public default WithLongBinaryOperator fuseToLongFunction(
+        ToLongFunction<C> next
+    ) {
+        return WithLongBinaryOperator.of(
+            (long n1, long n2) ->
+                next.applyAsLong(resolveUncurried().apply(n1, n2))
+        );
+    }
+
+    public default WithLongBinaryOperator fuse(ToLongFunction<C> next) {
+        return fuseToLongFunction(next);
+    }
+
+    /* LongBiFunction<C> -> Predicate<C> */
+
+    public default WithLongBiPredicate fusePredicate(Predicate<C> next) {
+        return WithLongBiPredicate.of(
+            (long n1, long n2) -> next.test(resolveUncurried().apply(n1, n2))
+        );
+    }
+
+    public default WithLongBiPredicate fuse(Predicate<C> next) {
+        return fusePredicate(next);
+    }
+
+    /* LongBiFunction<C> -> Consumer<C> */
+
+    public default WithLongBiConsumer fuseConsumer(Consumer<C> next) {
+        return WithLongBiConsumer.of(
+            (long n1, long n2) -> next.accept(resolveUncurried().apply(n1, n2))
+        );
+    }
+
+    public default WithLongBiConsumer fuse(Consumer<C> next) {
+        return fuseConsumer(next);
+    }
+}
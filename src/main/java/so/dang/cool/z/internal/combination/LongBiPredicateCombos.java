@@ -0,0 +1,112 @@
+package so.dang.cool.z.internal.combination;
+
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import so.dang.cool.z.function.BooleanConsumer;
+import so.dang.cool.z.function.BooleanFunction;
+import so.dang.cool.z.function.BooleanPredicate;
+import so.dang.cool.z.function.BooleanToDoubleFunction;
+import so.dang.cool.z.function.BooleanToIntFunction;
+import so.dang.cool.z.function.BooleanToLongFunction;
+import so.dang.cool.z.function.LongBiPredicate;
+import so.dang.cool.z.internal.combination.Combine.WithLongBiConsumer;
+import so.dang.cool.z.internal.combination.Combine.WithLongBiFunction;
+import so.dang.cool.z.internal.combination.Combine.WithLongBiPredicate;
+import so.dang.cool.z.internal.combination.Combine.WithLongBinaryOperator;
+import so.dang.cool.z.internal.combination.Combine.WithLongBinaryToDoubleFunction;
+import so.dang.cool.z.internal.combination.Combine.WithLongBinaryToIntFunction;
+
+interface LongBiPredicateCombos {
+    LongFunction<LongPredicate> resolve();
+
+    LongBiPredicate resolveUncurried();
+
+    /* LongBiPredicate -> BooleanFunction<C> */
+
+    public default <C> WithLongBiFunction<C> fuseBooleanFunction(
+        BooleanFunction<C> next
+    ) {
+        return WithLongBiFunction.of(
+            (long n1, long n2) -> next.apply(resolveUncurried().test(n1, n2))
+        );
+    }
+
+    public default <C> WithLongBiFunction<C> fuse(BooleanFunction<C> next) {
+        return fuseBooleanFunction(next);
+    }
+
+    /* LongBiPredicate -> BooleanToDoubleFunction */
+
+    public default WithLongBinaryToDoubleFunction fuseBooleanToDoubleFunction(
+        BooleanToDoubleFunction next
+    ) {
+        return WithLongBinaryToDoubleFunction.of(
+            (long n1, long n2) ->
+                next.applyAsDouble(resolveUncurried().test(n1, n2))
+        );
+    }
+
+    public default WithLongBinaryToDoubleFunction fuse(
+        BooleanToDoubleFunction next
+    ) {
+        return fuseBooleanToDoubleFunction(next);
+    }
+
+    /* LongBiPredicate -> BooleanToIntFunction */
+
+    public default WithLongBinaryToIntFunction fuseBooleanToIntFunction(
+        BooleanToIntFunction next
+    ) {
+        return WithLongBinaryToIntFunction.of(
+            (long n1, long n2) ->
+                next.applyAsInt(resolveUncurried().test(n1, n2))
+        );
+    }
+
+    public default WithLongBinaryToIntFunction fuse(BooleanToIntFunction next) {
+        return fuseBooleanToIntFunction(next);
+    }
+
+    /* LongBiPredicate -> BooleanToLongFunction */
+
+    public default WithLongBinaryOperator fuseBooleanToLongFunction(
+        BooleanToLongFunction next
+    ) {
+        return WithLongBinaryOperator.of(
+            (long n1, long n2) ->
+                next.applyAsLong(resolveUncurried().test(n1, n2))
+        );
+    }
+
+    public default WithLongBinaryOperator fuse(BooleanToLongFunction next) {
+        return fuseBooleanToLongFunction(next);
+    }
+
+    /* LongBiPredicate -> BooleanPredicate */
+
+    public default WithLongBiPredicate fuseBooleanPredicate(
+        BooleanPredicate next
+    ) {
+        return WithLongBiPredicate.of(
+            (long n1, long n2) -> next.test(resolveUncurried().test(n1, n2))
+        );
+    }
+
+    public default WithLongBiPredicate fuse(BooleanPredicate next) {
+        return fuseBooleanPredicate(next);
+    }
+
+    /* LongBiPredicate -> BooleanConsumer */
+
+    public default WithLongBiConsumer fuseBooleanConsumer(
+        BooleanConsumer next
+    ) {
+        return WithLongBiConsumer.of(
+            (long n1, long n2) -> next.accept(resolveUncurried().test(n1, n2))
+        );
+    }
+
+    public default WithLongBiConsumer fuse(BooleanConsumer next) {
+        return fuseBooleanConsumer(next);
+    }
+}
@@ -1,5 +1,6 @@
 package so.dang.cool.z.internal.combination;
 
+import java.nio.ByteBuffer;
 import java.util.function.LongBinaryOperator;
 import java.util.function.LongConsumer;
 import java.util.function.LongFunction;
@@ -7,92 +8,156 @@ import java.util.function.LongPredicate;
 import java.util.function.LongToDoubleFunction;
 import java.util.function.LongToIntFunction;
 import java.util.function.LongUnaryOperator;
+import so.dang.cool.z.internal.bulk.Buffers;
+import so.dang.cool.z.internal.bulk.Bulk;
+import so.dang.cool.z.internal.combination.Combine.WithLongBiConsumer;
+import so.dang.cool.z.internal.combination.Combine.WithLongBiFunction;
+import so.dang.cool.z.internal.combination.Combine.WithLongBiPredicate;
 import so.dang.cool.z.internal.combination.Combine.WithLongBinaryOperator;
+import so.dang.cool.z.internal.combination.Combine.WithLongBinaryToDoubleFunction;
+import so.dang.cool.z.internal.combination.Combine.WithLongBinaryToIntFunction;
 
 interface LongBinaryOperatorCombos {
     LongFunction<LongUnaryOperator> resolve();
 
-    /* LongBinaryOperator -> LongFunction<A> */
+    LongBinaryOperator resolveUncurried();
 
-    public default <A> LongFunction<LongFunction<A>> fuseLongFunction(
-        LongFunction<A> next
-    ) {
-        return (long n1) ->
-            (long n2) -> next.apply(resolve().apply(n1).applyAsLong(n2));
+    /* LongBinaryOperator applied in bulk */
+
+    public default long[] applyAll(long[] left, long[] right, long[] out) {
+        return applyAll(left, 0, right, 0, out, 0, left.length);
     }
 
-    public default <A> LongFunction<LongFunction<A>> fuse(
-        LongFunction<A> next
+    public default long[] applyAll(
+        long[] left,
+        int leftOffset,
+        long[] right,
+        int rightOffset,
+        long[] out,
+        int outOffset,
+        int length
     ) {
-        return fuseLongFunction(next);
+        return Bulk.longBinaryOperator(
+            resolveUncurried(),
+            left,
+            leftOffset,
+            right,
+            rightOffset,
+            out,
+            outOffset,
+            length
+        );
     }
 
-    // TODO: Implement with currying
-    // fuseLongFunction(LongFunction<A> next) { ... }
+    /* LongBinaryOperator applied to buffers */
 
-    /* LongBinaryOperator -> LongToIntFunction */
+    public default ByteBuffer applyAll(
+        ByteBuffer left,
+        ByteBuffer right,
+        ByteBuffer out
+    ) {
+        return applyAll(
+            left,
+            Long.BYTES,
+            right,
+            Long.BYTES,
+            out,
+            Long.BYTES,
+            left.remaining() / Long.BYTES
+        );
+    }
 
-    public default LongFunction<LongToIntFunction> fuseLongToIntFunction(
-        LongToIntFunction next
+    public default ByteBuffer applyAll(
+        ByteBuffer left,
+        int leftStride,
+        ByteBuffer right,
+        int rightStride,
+        ByteBuffer out,
+        int outStride,
+        int length
     ) {
-        return (long n1) ->
-            (long n2) -> next.applyAsInt(resolve().apply(n1).applyAsLong(n2));
+        return Buffers.longBinaryOperator(
+            resolveUncurried(),
+            left,
+            leftStride,
+            right,
+            rightStride,
+            out,
+            outStride,
+            length
+        );
     }
 
-    public default LongFunction<LongToIntFunction> fuse(
-        LongToIntFunction next
+    /* LongBinaryOperator -> LongFunction<C> */
+
+    public default <C> WithLongBiFunction<C> fuseLongFunction(
+        LongFunction<C> next
     ) {
-        return fuseLongToIntFunction(next);
+        return WithLongBiFunction.of(
+            (long n1, long n2) ->
+                next.apply(resolveUncurried().applyAsLong(n1, n2))
+        );
     }
 
-    // TODO: Implement with currying
-    // fuseLongToIntFunction(LongToIntFunction next) { ... }
+    public default <C> WithLongBiFunction<C> fuse(LongFunction<C> next) {
+        return fuseLongFunction(next);
+    }
 
     /* LongBinaryOperator -> LongToDoubleFunction */
 
-    public default LongFunction<LongToDoubleFunction> fuseLongToDoubleFunction(
+    public default WithLongBinaryToDoubleFunction fuseLongToDoubleFunction(
         LongToDoubleFunction next
     ) {
-        return (long n1) ->
-            (long n2) ->
-                next.applyAsDouble(resolve().apply(n1).applyAsLong(n2));
+        return WithLongBinaryToDoubleFunction.of(
+            (long n1, long n2) ->
+                next.applyAsDouble(resolveUncurried().applyAsLong(n1, n2))
+        );
     }
 
-    public default LongFunction<LongToDoubleFunction> fuse(
+    public default WithLongBinaryToDoubleFunction fuse(
         LongToDoubleFunction next
     ) {
         return fuseLongToDoubleFunction(next);
     }
 
-    // TODO: Implement with currying
-    // fuseLongToDoubleFunction(LongToDoubleFunction next) { ... }
+    /* LongBinaryOperator -> LongToIntFunction */
+
+    public default WithLongBinaryToIntFunction fuseLongToIntFunction(
+        LongToIntFunction next
+    ) {
+        return WithLongBinaryToIntFunction.of(
+            (long n1, long n2) ->
+                next.applyAsInt(resolveUncurried().applyAsLong(n1, n2))
+        );
+    }
+
+    public default WithLongBinaryToIntFunction fuse(LongToIntFunction next) {
+        return fuseLongToIntFunction(next);
+    }
 
     /* LongBinaryOperator -> LongPredicate */
 
-    public default LongFunction<LongPredicate> fuseLongPredicate(
-        LongPredicate next
-    ) {
-        return (long n1) ->
-            (long n2) -> next.test(resolve().apply(n1).applyAsLong(n2));
+    public default WithLongBiPredicate fuseLongPredicate(LongPredicate next) {
+        return WithLongBiPredicate.of(
+            (long n1, long n2) ->
+                next.test(resolveUncurried().applyAsLong(n1, n2))
+        );
     }
 
-    public default LongFunction<LongPredicate> fuse(LongPredicate next) {
+    public default WithLongBiPredicate fuse(LongPredicate next) {
         return fuseLongPredicate(next);
     }
 
-    // TODO: Implement with currying
-    // fuseLongPredicate(LongPredicate next) { ... }
-
     /* LongBinaryOperator -> LongConsumer */
 
-    public default LongFunction<LongConsumer> fuseLongConsumer(
-        LongConsumer next
-    ) {
-        return (long n1) ->
-            (long n2) -> next.accept(resolve().apply(n1).applyAsLong(n2));
+    public default WithLongBiConsumer fuseLongConsumer(LongConsumer next) {
+        return WithLongBiConsumer.of(
+            (long n1, long n2) ->
+                next.accept(resolveUncurried().applyAsLong(n1, n2))
+        );
     }
 
-    public default LongFunction<LongConsumer> fuse(LongConsumer next) {
+    public default WithLongBiConsumer fuse(LongConsumer next) {
         return fuseLongConsumer(next);
     }
 
@@ -102,9 +167,8 @@ interface LongBinaryOperatorCombos {
         LongUnaryOperator next
     ) {
         return WithLongBinaryOperator.of(
-            (long n1) ->
-                (long n2) ->
-                    next.applyAsLong(resolve().apply(n1).applyAsLong(n2))
+            (long n1, long n2) ->
+                next.applyAsLong(resolveUncurried().applyAsLong(n1, n2))
         );
     }
 
@@ -119,8 +183,11 @@ interface LongBinaryOperatorCombos {
     ) {
         return (long n1) ->
             (long n2) ->
-                (long d3) ->
-                    next.applyAsLong(resolve().apply(n1).applyAsLong(n2), d3);
+                (long n3) ->
+                    next.applyAsLong(
+                        resolveUncurried().applyAsLong(n1, n2),
+                        n3
+                    );
     }
 
     public default LongFunction<LongFunction<LongUnaryOperator>> fuse(
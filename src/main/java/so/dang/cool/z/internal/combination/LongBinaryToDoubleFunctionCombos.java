@@ -0,0 +1,182 @@
+package so.dang.cool.z.internal.combination;
+
+import java.nio.ByteBuffer;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleToIntFunction;
+import java.util.function.DoubleToLongFunction;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.LongFunction;
+import java.util.function.LongToDoubleFunction;
+import so.dang.cool.z.function.LongBinaryToDoubleFunction;
+import so.dang.cool.z.internal.bulk.Buffers;
+import so.dang.cool.z.internal.bulk.Bulk;
+import so.dang.cool.z.internal.combination.Combine.WithLongBiConsumer;
+import so.dang.cool.z.internal.combination.Combine.WithLongBiFunction;
+import so.dang.cool.z.internal.combination.Combine.WithLongBiPredicate;
+import so.dang.cool.z.internal.combination.Combine.WithLongBinaryOperator;
+import so.dang.cool.z.internal.combination.Combine.WithLongBinaryToDoubleFunction;
+import so.dang.cool.z.internal.combination.Combine.WithLongBinaryToIntFunction;
+
+interface LongBinaryToDoubleFunctionCombos {
+    LongFunction<LongToDoubleFunction> resolve();
+
+    LongBinaryToDoubleFunction resolveUncurried();
+
+    /* LongBinaryToDoubleFunction applied in bulk */
+
+    public default double[] applyAll(long[] left, long[] right, double[] out) {
+        return applyAll(left, 0, right, 0, out, 0, left.length);
+    }
+
+    public default double[] applyAll(
+        long[] left,
+        int leftOffset,
+        long[] right,
+        int rightOffset,
+        double[] out,
+        int outOffset,
+        int length
+    ) {
+        return Bulk.longBinaryToDoubleFunction(
+            resolveUncurried(),
+            left,
+            leftOffset,
+            right,
+            rightOffset,
+            out,
+            outOffset,
+            length
+        );
+    }
+
+    /* LongBinaryToDoubleFunction applied to buffers */
+
+    public default ByteBuffer applyAll(
+        ByteBuffer left,
+        ByteBuffer right,
+        ByteBuffer out
+    ) {
+        return applyAll(
+            left,
+            Long.BYTES,
+            right,
+            Long.BYTES,
+            out,
+            Double.BYTES,
+            left.remaining() / Long.BYTES
+        );
+    }
+
+    public default ByteBuffer applyAll(
+        ByteBuffer left,
+        int leftStride,
+        ByteBuffer right,
+        int rightStride,
+        ByteBuffer out,
+        int outStride,
+        int length
+    ) {
+        return Buffers.longBinaryToDoubleFunction(
+            resolveUncurried(),
+            left,
+            leftStride,
+            right,
+            rightStride,
+            out,
+            outStride,
+            length
+        );
+    }
+
+    /* LongBinaryToDoubleFunction -> DoubleFunction<C> */
+
+    public default <C> WithLongBiFunction<C> fuseDoubleFunction(
+        DoubleFunction<C> next
+    ) {
+        return WithLongBiFunction.of(
+            (long n1, long n2) ->
+                next.apply(resolveUncurried().applyAsDouble(n1, n2))
+        );
+    }
+
+    public default <C> WithLongBiFunction<C> fuse(DoubleFunction<C> next) {
+        return fuseDoubleFunction(next);
+    }
+
+    /* LongBinaryToDoubleFunction -> DoubleToIntFunction */
+
+    public default WithLongBinaryToIntFunction fuseDoubleToIntFunction(
+        DoubleToIntFunction next
+    ) {
+        return WithLongBinaryToIntFunction.of(
+            (long n1, long n2) ->
+                next.applyAsInt(resolveUncurried().applyAsDouble(n1, n2))
+        );
+    }
+
+    public default WithLongBinaryToIntFunction fuse(DoubleToIntFunction next) {
+        return fuseDoubleToIntFunction(next);
+    }
+
+    /* LongBinaryToDoubleFunction -> DoubleToLongFunction */
+
+    public default WithLongBinaryOperator fuseDoubleToLongFunction(
+        DoubleToLongFunction next
+    ) {
+        return WithLongBinaryOperator.of(
+            (long n1, long n2) ->
+                next.applyAsLong(resolveUncurried().applyAsDouble(n1, n2))
+        );
+    }
+
+    public default WithLongBinaryOperator fuse(DoubleToLongFunction next) {
+        return fuseDoubleToLongFunction(next);
+    }
+
+    /* LongBinaryToDoubleFunction -> DoublePredicate */
+
+    public default WithLongBiPredicate fuseDoublePredicate(
+        DoublePredicate next
+    ) {
+        return WithLongBiPredicate.of(
+            (long n1, long n2) ->
+                next.test(resolveUncurried().applyAsDouble(n1, n2))
+        );
+    }
+
+    public default WithLongBiPredicate fuse(DoublePredicate next) {
+        return fuseDoublePredicate(next);
+    }
+
+    /* LongBinaryToDoubleFunction -> DoubleConsumer */
+
+    public default WithLongBiConsumer fuseDoubleConsumer(DoubleConsumer next) {
+        return WithLongBiConsumer.of(
+            (long n1, long n2) ->
+                next.accept(resolveUncurried().applyAsDouble(n1, n2))
+        );
+    }
+
+    public default WithLongBiConsumer fuse(DoubleConsumer next) {
+        return fuseDoubleConsumer(next);
+    }
+
+    /* LongBinaryToDoubleFunction -> DoubleUnaryOperator */
+
+    public default WithLongBinaryToDoubleFunction fuseDoubleUnaryOperator(
+        DoubleUnaryOperator next
+    ) {
+        return WithLongBinaryToDoubleFunction.of(
+            (long n1, long n2) ->
+                next.applyAsDouble(resolveUncurried().applyAsDouble(n1, n2))
+        );
+    }
+
+    public default WithLongBinaryToDoubleFunction fuse(
+        DoubleUnaryOperator next
+    ) {
+        return fuseDoubleUnaryOperator(next);
+    }
+}
@@ -0,0 +1,180 @@
+package so.dang.cool.z.internal.combination;
+
+import java.nio.ByteBuffer;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.IntToLongFunction;
+import java.util.function.IntUnaryOperator;
+import java.util.function.LongFunction;
+import java.util.function.LongToIntFunction;
+import so.dang.cool.z.function.LongBinaryToIntFunction;
+import so.dang.cool.z.internal.bulk.Buffers;
+import so.dang.cool.z.internal.bulk.Bulk;
+import so.dang.cool.z.internal.combination.Combine.WithLongBiConsumer;
+import so.dang.cool.z.internal.combination.Combine.WithLongBiFunction;
+import so.dang.cool.z.internal.combination.Combine.WithLongBiPredicate;
+import so.dang.cool.z.internal.combination.Combine.WithLongBinaryOperator;
+import so.dang.cool.z.internal.combination.Combine.WithLongBinaryToDoubleFunction;
+import so.dang.cool.z.internal.combination.Combine.WithLongBinaryToIntFunction;
+
+interface LongBinaryToIntFunctionCombos {
+    LongFunction<LongToIntFunction> resolve();
+
+    LongBinaryToIntFunction resolveUncurried();
+
+    /* LongBinaryToIntFunction applied in bulk */
+
+    public default int[] applyAll(long[] left, long[] right, int[] out) {
+        return applyAll(left, 0, right, 0, out, 0, left.length);
+    }
+
+    public default int[] applyAll(
+        long[] left,
+        int leftOffset,
+        long[] right,
+        int rightOffset,
+        int[] out,
+        int outOffset,
+        int length
+    ) {
+        return Bulk.longBinaryToIntFunction(
+            resolveUncurried(),
+            left,
+            leftOffset,
+            right,
+            rightOffset,
+            out,
+            outOffset,
+            length
+        );
+    }
+
+    /* LongBinaryToIntFunction applied to buffers */
+
+    public default ByteBuffer applyAll(
+        ByteBuffer left,
+        ByteBuffer right,
+        ByteBuffer out
+    ) {
+        return applyAll(
+            left,
+            Long.BYTES,
+            right,
+            Long.BYTES,
+            out,
+            Integer.BYTES,
+            left.remaining() / Long.BYTES
+        );
+    }
+
+    public default ByteBuffer applyAll(
+        ByteBuffer left,
+        int leftStride,
+        ByteBuffer right,
+        int rightStride,
+        ByteBuffer out,
+        int outStride,
+        int length
+    ) {
+        return Buffers.longBinaryToIntFunction(
+            resolveUncurried(),
+            left,
+            leftStride,
+            right,
+            rightStride,
+            out,
+            outStride,
+            length
+        );
+    }
+
+    /* LongBinaryToIntFunction -> IntFunction<C> */
+
+    public default <C> WithLongBiFunction<C> fuseIntFunction(
+        IntFunction<C> next
+    ) {
+        return WithLongBiFunction.of(
+            (long n1, long n2) ->
+                next.apply(resolveUncurried().applyAsInt(n1, n2))
+        );
+    }
+
+    public default <C> WithLongBiFunction<C> fuse(IntFunction<C> next) {
+        return fuseIntFunction(next);
+    }
+
+    /* LongBinaryToIntFunction -> IntToDoubleFunction */
+
+    public default WithLongBinaryToDoubleFunction fuseIntToDoubleFunction(
+        IntToDoubleFunction next
+    ) {
+        return WithLongBinaryToDoubleFunction.of(
+            (long n1, long n2) ->
+                next.applyAsDouble(resolveUncurried().applyAsInt(n1, n2))
+        );
+    }
+
+    public default WithLongBinaryToDoubleFunction fuse(
+        IntToDoubleFunction next
+    ) {
+        return fuseIntToDoubleFunction(next);
+    }
+
+    /* LongBinaryToIntFunction -> IntToLongFunction */
+
+    public default WithLongBinaryOperator fuseIntToLongFunction(
+        IntToLongFunction next
+    ) {
+        return WithLongBinaryOperator.of(
+            (long n1, long n2) ->
+                next.applyAsLong(resolveUncurried().applyAsInt(n1, n2))
+        );
+    }
+
+    public default WithLongBinaryOperator fuse(IntToLongFunction next) {
+        return fuseIntToLongFunction(next);
+    }
+
+    /* LongBinaryToIntFunction -> IntPredicate */
+
+    public default WithLongBiPredicate fuseIntPredicate(IntPredicate next) {
+        return WithLongBiPredicate.of(
+            (long n1, long n2) ->
+                next.test(resolveUncurried().applyAsInt(n1, n2))
+        );
+    }
+
+    public default WithLongBiPredicate fuse(IntPredicate next) {
+        return fuseIntPredicate(next);
+    }
+
+    /* LongBinaryToIntFunction -> IntConsumer */
+
+    public default WithLongBiConsumer fuseIntConsumer(IntConsumer next) {
+        return WithLongBiConsumer.of(
+            (long n1, long n2) ->
+                next.accept(resolveUncurried().applyAsInt(n1, n2))
+        );
+    }
+
+    public default WithLongBiConsumer fuse(IntConsumer next) {
+        return fuseIntConsumer(next);
+    }
+
+    /* LongBinaryToIntFunction -> IntUnaryOperator */
+
+    public default WithLongBinaryToIntFunction fuseIntUnaryOperator(
+        IntUnaryOperator next
+    ) {
+        return WithLongBinaryToIntFunction.of(
+            (long n1, long n2) ->
+                next.applyAsInt(resolveUncurried().applyAsInt(n1, n2))
+        );
+    }
+
+    public default WithLongBinaryToIntFunction fuse(IntUnaryOperator next) {
+        return fuseIntUnaryOperator(next);
+    }
+}
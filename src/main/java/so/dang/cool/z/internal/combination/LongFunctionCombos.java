@@ -25,10 +25,17 @@ import so.dang.cool.z.internal.combination.Combine.WithLongPredicate;
 import so.dang.cool.z.internal.combination.Combine.WithLongToDoubleFunction;
 import so.dang.cool.z.internal.combination.Combine.WithLongToIntFunction;
 import so.dang.cool.z.internal.combination.Combine.WithLongUnaryOperator;
+import so.dang.cool.z.internal.memoization.Memoize;
 
 interface LongFunctionCombos<A> {
     LongFunction<A> resolve();
 
+    /* LongFunction<A> memoized */
+
+    public default WithLongFunction<A> memoize(int maxSize) {
+        return WithLongFunction.of(Memoize.longFunction(resolve(), maxSize));
+    }
+
     /* LongFunction<A> -> Function<A,B> */
 
     public default <B> WithLongFunction<B> fuseFunction(Function<A, B> next) {
@@ -1,5 +1,6 @@
 package so.dang.cool.z.internal.combination;
 
+import java.nio.ByteBuffer;
 import java.util.function.LongPredicate;
 import so.dang.cool.z.function.BooleanConsumer;
 import so.dang.cool.z.function.BooleanFunction;
@@ -7,16 +8,126 @@ import so.dang.cool.z.function.BooleanPredicate;
 import so.dang.cool.z.function.BooleanToDoubleFunction;
 import so.dang.cool.z.function.BooleanToIntFunction;
 import so.dang.cool.z.function.BooleanToLongFunction;
+import so.dang.cool.z.internal.bulk.Buffers;
+import so.dang.cool.z.internal.bulk.Select;
 import so.dang.cool.z.internal.combination.Combine.WithLongConsumer;
 import so.dang.cool.z.internal.combination.Combine.WithLongFunction;
 import so.dang.cool.z.internal.combination.Combine.WithLongPredicate;
 import so.dang.cool.z.internal.combination.Combine.WithLongToDoubleFunction;
 import so.dang.cool.z.internal.combination.Combine.WithLongToIntFunction;
 import so.dang.cool.z.internal.combination.Combine.WithLongUnaryOperator;
+import so.dang.cool.z.internal.memoization.Memoize;
 
 interface LongPredicateCombos {
     LongPredicate resolve();
 
+    /* LongPredicate evaluated in bulk */
+
+    public default int select(long[] in, int[] selection) {
+        return select(in, 0, in.length, selection);
+    }
+
+    public default int select(
+        long[] in,
+        int offset,
+        int length,
+        int[] selection
+    ) {
+        return Select.longPredicateSelect(
+            resolve(),
+            in,
+            offset,
+            length,
+            selection
+        );
+    }
+
+    public default int refine(long[] in, int[] selection, int count) {
+        return Select.longPredicateRefine(resolve(), in, selection, count);
+    }
+
+    public default long[] bitset(long[] in) {
+        return bitset(in, 0, in.length, new long[Select.wordsFor(in.length)]);
+    }
+
+    public default long[] bitset(
+        long[] in,
+        int offset,
+        int length,
+        long[] bits
+    ) {
+        return Select.longPredicateBits(resolve(), in, offset, length, bits);
+    }
+
+    public default long[] bitsetAnd(long[] in, long[] bits) {
+        return bitsetAnd(in, 0, in.length, bits);
+    }
+
+    public default long[] bitsetAnd(
+        long[] in,
+        int offset,
+        int length,
+        long[] bits
+    ) {
+        return Select.longPredicateBitsAnd(resolve(), in, offset, length, bits);
+    }
+
+    public default long[] bitsetOr(long[] in, long[] bits) {
+        return bitsetOr(in, 0, in.length, bits);
+    }
+
+    public default long[] bitsetOr(
+        long[] in,
+        int offset,
+        int length,
+        long[] bits
+    ) {
+        return Select.longPredicateBitsOr(resolve(), in, offset, length, bits);
+    }
+
+    /* LongPredicate evaluated over buffers */
+
+    public default int select(ByteBuffer in, int[] selection) {
+        int length = in.remaining() / Long.BYTES;
+        return select(in, Long.BYTES, length, selection);
+    }
+
+    public default int select(
+        ByteBuffer in,
+        int stride,
+        int length,
+        int[] selection
+    ) {
+        return Buffers.longPredicateSelect(
+            resolve(),
+            in,
+            stride,
+            length,
+            selection
+        );
+    }
+
+    public default long[] bitset(ByteBuffer in) {
+        int length = in.remaining() / Long.BYTES;
+        long[] bits = new long[Select.wordsFor(length)];
+        return bitset(in, Long.BYTES, length, bits);
+    }
+
+    public default long[] bitset(
+        ByteBuffer in,
+        int stride,
+        int length,
+        long[] bits
+    ) {
+        return Buffers.longPredicateBits(resolve(), in, stride, length, bits);
+    }
+
+    /* LongPredicate memoized */
+
+    public default WithLongPredicate memoize(int maxSize) {
+        return WithLongPredicate.of(Memoize.longPredicate(resolve(), maxSize));
+    }
+
     /* LongPredicate -> BooleanFunction<A> */
 
     public default <A> WithLongFunction<A> fuseBooleanFunction(
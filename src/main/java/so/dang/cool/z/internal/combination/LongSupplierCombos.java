@@ -1,5 +1,7 @@
 package so.dang.cool.z.internal.combination;
 
+import java.time.Duration;
+import java.util.concurrent.Executor;
 import java.util.function.LongBinaryOperator;
 import java.util.function.LongConsumer;
 import java.util.function.LongFunction;
@@ -15,14 +17,40 @@ import so.dang.cool.z.internal.combination.Combine.WithLongSupplier;
 import so.dang.cool.z.internal.combination.Combine.WithLongUnaryOperator;
 import so.dang.cool.z.internal.combination.Combine.WithOperator;
 import so.dang.cool.z.internal.combination.Combine.WithSupplier;
+import so.dang.cool.z.internal.memoization.Expiring;
+import so.dang.cool.z.internal.memoization.Refreshing;
 
 interface LongSupplierCombos {
     public LongSupplier resolve();
 
+    public boolean isConstant();
+
+    /* LongSupplier memoized */
+
+    public default WithLongSupplier expiring(Duration timeToLive) {
+        Expiring<Long> expiring = Expiring.of(resolve()::getAsLong, timeToLive);
+        return WithLongSupplier.of(expiring::get);
+    }
+
+    public default WithLongSupplier refreshing(
+        Duration refreshAfter,
+        Executor executor
+    ) {
+        Refreshing<Long> refreshing = Refreshing.of(
+            resolve()::getAsLong,
+            refreshAfter,
+            executor
+        );
+        return WithLongSupplier.of(refreshing::get);
+    }
+
     /* LongSupplier -> LongFunction<A> */
 
     public default <A> WithSupplier<A> fuseLongFunction(LongFunction<A> next) {
-        return WithSupplier.of(() -> next.apply(resolve().getAsLong()));
+        return WithSupplier.of(
+            () -> next.apply(resolve().getAsLong()),
+            isConstant()
+        );
     }
 
     public default <A> WithSupplier<A> fuse(LongFunction<A> next) {
@@ -35,7 +63,8 @@ interface LongSupplierCombos {
         LongToDoubleFunction next
     ) {
         return WithDoubleSupplier.of(
-            () -> next.applyAsDouble(resolve().getAsLong())
+            () -> next.applyAsDouble(resolve().getAsLong()),
+            isConstant()
         );
     }
 
@@ -48,7 +77,10 @@ interface LongSupplierCombos {
     public default WithIntSupplier fuseLongToIntFunction(
         LongToIntFunction next
     ) {
-        return WithIntSupplier.of(() -> next.applyAsInt(resolve().getAsLong()));
+        return WithIntSupplier.of(
+            () -> next.applyAsInt(resolve().getAsLong()),
+            isConstant()
+        );
     }
 
     public default WithIntSupplier fuse(LongToIntFunction next) {
@@ -58,7 +90,10 @@ interface LongSupplierCombos {
     /* LongSupplier -> LongPredicate */
 
     public default WithBooleanSupplier fuseLongPredicate(LongPredicate next) {
-        return WithBooleanSupplier.of(() -> next.test(resolve().getAsLong()));
+        return WithBooleanSupplier.of(
+            () -> next.test(resolve().getAsLong()),
+            isConstant()
+        );
     }
 
     public default WithBooleanSupplier fuse(LongPredicate next) {
@@ -81,7 +116,8 @@ interface LongSupplierCombos {
         LongUnaryOperator next
     ) {
         return WithLongSupplier.of(
-            () -> next.applyAsLong(resolve().getAsLong())
+            () -> next.applyAsLong(resolve().getAsLong()),
+            isConstant()
         );
     }
 
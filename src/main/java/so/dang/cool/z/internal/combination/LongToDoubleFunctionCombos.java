@@ -1,5 +1,7 @@
 package so.dang.cool.z.internal.combination;
 
+import java.nio.ByteBuffer;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.DoubleBinaryOperator;
 import java.util.function.DoubleConsumer;
 import java.util.function.DoubleFunction;
@@ -9,16 +11,100 @@ import java.util.function.DoubleToLongFunction;
 import java.util.function.DoubleUnaryOperator;
 import java.util.function.LongFunction;
 import java.util.function.LongToDoubleFunction;
+import so.dang.cool.z.internal.bulk.Buffers;
+import so.dang.cool.z.internal.bulk.Bulk;
+import so.dang.cool.z.internal.bulk.Parallel;
 import so.dang.cool.z.internal.combination.Combine.WithLongConsumer;
 import so.dang.cool.z.internal.combination.Combine.WithLongFunction;
 import so.dang.cool.z.internal.combination.Combine.WithLongPredicate;
 import so.dang.cool.z.internal.combination.Combine.WithLongToDoubleFunction;
 import so.dang.cool.z.internal.combination.Combine.WithLongToIntFunction;
 import so.dang.cool.z.internal.combination.Combine.WithLongUnaryOperator;
+import so.dang.cool.z.internal.memoization.Memoize;
 
 interface LongToDoubleFunctionCombos {
     LongToDoubleFunction resolve();
 
+    /* LongToDoubleFunction applied in bulk */
+
+    public default double[] applyAll(long[] in, double[] out) {
+        return applyAll(in, 0, out, 0, in.length);
+    }
+
+    public default double[] applyAll(
+        long[] in,
+        int inOffset,
+        double[] out,
+        int outOffset,
+        int length
+    ) {
+        return Bulk.longToDoubleFunction(
+            resolve(),
+            in,
+            inOffset,
+            out,
+            outOffset,
+            length
+        );
+    }
+
+    /* LongToDoubleFunction applied to buffers */
+
+    public default ByteBuffer applyAll(ByteBuffer in, ByteBuffer out) {
+        return applyAll(
+            in,
+            Long.BYTES,
+            out,
+            Double.BYTES,
+            in.remaining() / Long.BYTES
+        );
+    }
+
+    public default ByteBuffer applyAll(
+        ByteBuffer in,
+        int inStride,
+        ByteBuffer out,
+        int outStride,
+        int length
+    ) {
+        return Buffers.longToDoubleFunction(
+            resolve(),
+            in,
+            inStride,
+            out,
+            outStride,
+            length
+        );
+    }
+
+    /* LongToDoubleFunction applied in parallel */
+
+    public default double[] parallelApplyAll(long[] in, double[] out) {
+        return parallelApplyAll(in, out, ForkJoinPool.commonPool());
+    }
+
+    public default double[] parallelApplyAll(
+        long[] in,
+        double[] out,
+        ForkJoinPool pool
+    ) {
+        Parallel.forEachRange(
+            pool,
+            in.length,
+            out.length,
+            (int from, int to) -> applyAll(in, from, out, from, to - from)
+        );
+        return out;
+    }
+
+    /* LongToDoubleFunction memoized */
+
+    public default WithLongToDoubleFunction memoize(int maxSize) {
+        return WithLongToDoubleFunction.of(
+            Memoize.longToDoubleFunction(resolve(), maxSize)
+        );
+    }
+
     /* LongToDoubleFunction -> DoubleFunction<A> */
 
     public default <A> WithLongFunction<A> fuseDoubleFunction(
@@ -1,5 +1,7 @@
 package so.dang.cool.z.internal.combination;
 
+import java.nio.ByteBuffer;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.IntBinaryOperator;
 import java.util.function.IntConsumer;
 import java.util.function.IntFunction;
@@ -9,16 +11,100 @@ import java.util.function.IntToLongFunction;
 import java.util.function.IntUnaryOperator;
 import java.util.function.LongFunction;
 import java.util.function.LongToIntFunction;
+import so.dang.cool.z.internal.bulk.Buffers;
+import so.dang.cool.z.internal.bulk.Bulk;
+import so.dang.cool.z.internal.bulk.Parallel;
 import so.dang.cool.z.internal.combination.Combine.WithLongConsumer;
 import so.dang.cool.z.internal.combination.Combine.WithLongFunction;
 import so.dang.cool.z.internal.combination.Combine.WithLongPredicate;
 import so.dang.cool.z.internal.combination.Combine.WithLongToDoubleFunction;
 import so.dang.cool.z.internal.combination.Combine.WithLongToIntFunction;
 import so.dang.cool.z.internal.combination.Combine.WithLongUnaryOperator;
+import so.dang.cool.z.internal.memoization.Memoize;
 
 interface LongToIntFunctionCombos {
     LongToIntFunction resolve();
 
+    /* LongToIntFunction applied in bulk */
+
+    public default int[] applyAll(long[] in, int[] out) {
+        return applyAll(in, 0, out, 0, in.length);
+    }
+
+    public default int[] applyAll(
+        long[] in,
+        int inOffset,
+        int[] out,
+        int outOffset,
+        int length
+    ) {
+        return Bulk.longToIntFunction(
+            resolve(),
+            in,
+            inOffset,
+            out,
+            outOffset,
+            length
+        );
+    }
+
+    /* LongToIntFunction applied to buffers */
+
+    public default ByteBuffer applyAll(ByteBuffer in, ByteBuffer out) {
+        return applyAll(
+            in,
+            Long.BYTES,
+            out,
+            Integer.BYTES,
+            in.remaining() / Long.BYTES
+        );
+    }
+
+    public default ByteBuffer applyAll(
+        ByteBuffer in,
+        int inStride,
+        ByteBuffer out,
+        int outStride,
+        int length
+    ) {
+        return Buffers.longToIntFunction(
+            resolve(),
+            in,
+            inStride,
+            out,
+            outStride,
+            length
+        );
+    }
+
+    /* LongToIntFunction applied in parallel */
+
+    public default int[] parallelApplyAll(long[] in, int[] out) {
+        return parallelApplyAll(in, out, ForkJoinPool.commonPool());
+    }
+
+    public default int[] parallelApplyAll(
+        long[] in,
+        int[] out,
+        ForkJoinPool pool
+    ) {
+        Parallel.forEachRange(
+            pool,
+            in.length,
+            out.length,
+            (int from, int to) -> applyAll(in, from, out, from, to - from)
+        );
+        return out;
+    }
+
+    /* LongToIntFunction memoized */
+
+    public default WithLongToIntFunction memoize(int maxSize) {
+        return WithLongToIntFunction.of(
+            Memoize.longToIntFunction(resolve(), maxSize)
+        );
+    }
+
     /* LongToIntFunction -> IntFunction<A> */
 
     public default <A> WithLongFunction<A> fuseIntFunction(
@@ -1,5 +1,11 @@
 package so.dang.cool.z.internal.combination;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.LongBinaryOperator;
 import java.util.function.LongConsumer;
 import java.util.function.LongFunction;
@@ -7,6 +13,9 @@ import java.util.function.LongPredicate;
 import java.util.function.LongToDoubleFunction;
 import java.util.function.LongToIntFunction;
 import java.util.function.LongUnaryOperator;
+import so.dang.cool.z.internal.bulk.Buffers;
+import so.dang.cool.z.internal.bulk.Mapped;
+import so.dang.cool.z.internal.bulk.Parallel;
 import so.dang.cool.z.internal.combination.Combine.WithLongBinaryOperator;
 import so.dang.cool.z.internal.combination.Combine.WithLongConsumer;
 import so.dang.cool.z.internal.combination.Combine.WithLongFunction;
@@ -14,10 +23,150 @@ import so.dang.cool.z.internal.combination.Combine.WithLongPredicate;
 import so.dang.cool.z.internal.combination.Combine.WithLongToDoubleFunction;
 import so.dang.cool.z.internal.combination.Combine.WithLongToIntFunction;
 import so.dang.cool.z.internal.combination.Combine.WithLongUnaryOperator;
+import so.dang.cool.z.internal.memoization.Memoize;
 
 interface LongUnaryOperatorCombos {
     LongUnaryOperator resolve();
 
+    /* LongUnaryOperator applied in bulk */
+
+    public default long[] applyAll(long[] in, long[] out) {
+        return applyAll(in, 0, out, 0, in.length);
+    }
+
+    public default long[] applyAll(long[] values) {
+        return applyAll(values, 0, values, 0, values.length);
+    }
+
+    long[] applyAll(
+        long[] in,
+        int inOffset,
+        long[] out,
+        int outOffset,
+        int length
+    );
+
+    /* LongUnaryOperator applied to buffers */
+
+    public default ByteBuffer applyAll(ByteBuffer values) {
+        return applyAll(values, values);
+    }
+
+    public default ByteBuffer applyAll(ByteBuffer in, ByteBuffer out) {
+        return applyAll(
+            in,
+            Long.BYTES,
+            out,
+            Long.BYTES,
+            in.remaining() / Long.BYTES
+        );
+    }
+
+    /**
+     * Applies to {@code length} longs read every {@code inStride} bytes from
+     * the position of {@code in}, writing every {@code outStride} bytes from
+     * the position of {@code out}, in each buffer's byte order.
+     */
+    public default ByteBuffer applyAll(
+        ByteBuffer in,
+        int inStride,
+        ByteBuffer out,
+        int outStride,
+        int length
+    ) {
+        return Buffers.longUnaryOperators(
+            in,
+            inStride,
+            out,
+            outStride,
+            length,
+            (long[] chunk, int size) -> applyAll(chunk, 0, chunk, 0, size)
+        );
+    }
+
+    /* LongUnaryOperator applied in parallel */
+
+    public default long[] parallelApplyAll(long[] values) {
+        return parallelApplyAll(values, values, ForkJoinPool.commonPool());
+    }
+
+    public default long[] parallelApplyAll(long[] values, ForkJoinPool pool) {
+        return parallelApplyAll(values, values, pool);
+    }
+
+    public default long[] parallelApplyAll(long[] in, long[] out) {
+        return parallelApplyAll(in, out, ForkJoinPool.commonPool());
+    }
+
+    public default long[] parallelApplyAll(
+        long[] in,
+        long[] out,
+        ForkJoinPool pool
+    ) {
+        Parallel.forEachRange(
+            pool,
+            in.length,
+            out.length,
+            (int from, int to) -> applyAll(in, from, out, from, to - from)
+        );
+        return out;
+    }
+
+    /* LongUnaryOperator applied to mapped files */
+
+    /**
+     * Transforms a flat file of longs into {@code out}, in native byte order,
+     * without reading it onto the heap. The same path may be given twice to
+     * transform a file in place.
+     */
+    public default Path applyAll(Path in, Path out) throws IOException {
+        return applyAll(in, out, ByteOrder.nativeOrder());
+    }
+
+    public default Path applyAll(Path in, Path out, ByteOrder order)
+        throws IOException {
+        return Mapped.longs(
+            in,
+            out,
+            order,
+            null,
+            (long[] chunk, int length) -> applyAll(chunk, 0, chunk, 0, length)
+        );
+    }
+
+    public default Path parallelApplyAll(Path in, Path out)
+        throws IOException {
+        return parallelApplyAll(
+            in,
+            out,
+            ByteOrder.nativeOrder(),
+            ForkJoinPool.commonPool()
+        );
+    }
+
+    public default Path parallelApplyAll(
+        Path in,
+        Path out,
+        ByteOrder order,
+        ForkJoinPool pool
+    ) throws IOException {
+        return Mapped.longs(
+            in,
+            out,
+            order,
+            Objects.requireNonNull(pool),
+            (long[] chunk, int length) -> applyAll(chunk, 0, chunk, 0, length)
+        );
+    }
+
+    /* LongUnaryOperator memoized */
+
+    public default WithLongUnaryOperator memoize(int maxSize) {
+        return WithLongUnaryOperator.of(
+            Memoize.longUnaryOperator(resolve(), maxSize)
+        );
+    }
+
     /* LongUnaryOperator -> LongFunction<A> */
 
     public default <A> WithLongFunction<A> fuseLongFunction(
@@ -89,9 +238,7 @@ interface LongUnaryOperatorCombos {
     public default WithLongUnaryOperator fuseLongUnaryOperator(
         LongUnaryOperator next
     ) {
-        return WithLongUnaryOperator.of(
-            (long n) -> next.applyAsLong(resolve().applyAsLong(n))
-        );
+        return WithLongUnaryOperator.of(resolve()).then(next);
     }
 
     public default WithLongUnaryOperator fuse(LongUnaryOperator next) {
@@ -104,8 +251,8 @@ interface LongUnaryOperatorCombos {
         LongBinaryOperator next
     ) {
         return WithLongBinaryOperator.of(
-            (long d1) ->
-                (long d2) -> next.applyAsLong(resolve().applyAsLong(d1), d2)
+            (long d1, long d2) ->
+                next.applyAsLong(resolve().applyAsLong(d1), d2)
         );
     }
 
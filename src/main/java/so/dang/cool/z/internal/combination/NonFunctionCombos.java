@@ -0,0 +1,26 @@
+package so.dang.cool.z.internal.combination;
+
+import java.util.function.Function;
+import so.dang.cool.z.function.NonFunction;
+import so.dang.cool.z.internal.combination.Combine.WithNonFunction;
+
+interface NonFunctionCombos<A, B, C, D, E, F, G, H, I, J> {
+    NonFunction<A, B, C, D, E, F, G, H, I, J> resolve();
+
+    /* NonFunction<A, B, C, D, E, F, G, H, I, J> -> Function<J, K> */
+
+    public default <K> WithNonFunction<A, B, C, D, E, F, G, H, I, K> fuseFunction(
+        Function<J, K> next
+    ) {
+        return WithNonFunction.of(
+            (A a, B b, C c, D d, E e, F f, G g, H h, I i) ->
+                next.apply(resolve().apply(a, b, c, d, e, f, g, h, i))
+        );
+    }
+
+    public default <K> WithNonFunction<A, B, C, D, E, F, G, H, I, K> fuse(
+        Function<J, K> next
+    ) {
+        return fuseFunction(next);
+    }
+}
@@ -11,6 +11,7 @@ import java.util.function.DoubleUnaryOperator;
 import java.util.function.Function;
 import java.util.function.IntSupplier;
 import java.util.function.LongSupplier;
+import java.util.function.ObjDoubleConsumer;
 import java.util.function.Supplier;
 import so.dang.cool.z.function.Operator;
 import so.dang.cool.z.internal.combination.Combine.WithObjDoubleConsumer;
@@ -18,6 +19,8 @@ import so.dang.cool.z.internal.combination.Combine.WithObjDoubleConsumer;
 interface ObjDoubleConsumerCombos<A> {
     Function<A, DoubleConsumer> resolve();
 
+    ObjDoubleConsumer<A> resolveUncurried();
+
     /* ObjDoubleConsumer<A> -> Supplier<B> */
 
     public default <B> Function<A, DoubleFunction<B>> absorbSupplier(
@@ -25,7 +28,7 @@ interface ObjDoubleConsumerCombos<A> {
     ) {
         return (A a) ->
             (double d) -> {
-                resolve().apply(a).accept(d);
+                resolveUncurried().accept(a, d);
                 return next.get();
             };
     }
@@ -41,7 +44,7 @@ interface ObjDoubleConsumerCombos<A> {
     ) {
         return (A a) ->
             (double d) -> {
-                resolve().apply(a).accept(d);
+                resolveUncurried().accept(a, d);
                 return next.getAsBoolean();
             };
     }
@@ -57,7 +60,7 @@ interface ObjDoubleConsumerCombos<A> {
     ) {
         return (A a) ->
             (double d) -> {
-                resolve().apply(a).accept(d);
+                resolveUncurried().accept(a, d);
                 return next.getAsInt();
             };
     }
@@ -73,7 +76,7 @@ interface ObjDoubleConsumerCombos<A> {
     ) {
         return (A a) ->
             (double d) -> {
-                resolve().apply(a).accept(d);
+                resolveUncurried().accept(a, d);
                 return next.getAsDouble();
             };
     }
@@ -91,7 +94,7 @@ interface ObjDoubleConsumerCombos<A> {
     ) {
         return (A a) ->
             (double d) -> {
-                resolve().apply(a).accept(d);
+                resolveUncurried().accept(a, d);
                 return next.getAsLong();
             };
     }
@@ -104,11 +107,10 @@ interface ObjDoubleConsumerCombos<A> {
 
     public default WithObjDoubleConsumer<A> absorbOperator(Operator next) {
         return WithObjDoubleConsumer.of(
-            (A a) ->
-                (double d) -> {
-                    resolve().apply(a).accept(d);
-                    next.run();
-                }
+            (A a, double d) -> {
+                resolveUncurried().accept(a, d);
+                next.run();
+            }
         );
     }
 
@@ -11,6 +11,7 @@ import java.util.function.IntToDoubleFunction;
 import java.util.function.IntToLongFunction;
 import java.util.function.IntUnaryOperator;
 import java.util.function.LongSupplier;
+import java.util.function.ObjIntConsumer;
 import java.util.function.Supplier;
 import so.dang.cool.z.function.Operator;
 import so.dang.cool.z.internal.combination.Combine.WithObjIntConsumer;
@@ -18,6 +19,8 @@ import so.dang.cool.z.internal.combination.Combine.WithObjIntConsumer;
 interface ObjIntConsumerCombos<A> {
     Function<A, IntConsumer> resolve();
 
+    ObjIntConsumer<A> resolveUncurried();
+
     /* ObjIntConsumer<A> -> Supplier<B> */
 
     public default <B> Function<A, IntFunction<B>> absorbSupplier(
@@ -25,7 +28,7 @@ interface ObjIntConsumerCombos<A> {
     ) {
         return (A a) ->
             (int i) -> {
-                resolve().apply(a).accept(i);
+                resolveUncurried().accept(a, i);
                 return next.get();
             };
     }
@@ -41,7 +44,7 @@ interface ObjIntConsumerCombos<A> {
     ) {
         return (A a) ->
             (int i) -> {
-                resolve().apply(a).accept(i);
+                resolveUncurried().accept(a, i);
                 return next.getAsBoolean();
             };
     }
@@ -57,7 +60,7 @@ interface ObjIntConsumerCombos<A> {
     ) {
         return (A a) ->
             (int i) -> {
-                resolve().apply(a).accept(i);
+                resolveUncurried().accept(a, i);
                 return next.getAsDouble();
             };
     }
@@ -75,7 +78,7 @@ interface ObjIntConsumerCombos<A> {
     ) {
         return (A a) ->
             (int i) -> {
-                resolve().apply(a).accept(i);
+                resolveUncurried().accept(a, i);
                 return next.getAsInt();
             };
     }
@@ -91,7 +94,7 @@ interface ObjIntConsumerCombos<A> {
     ) {
         return (A a) ->
             (int i) -> {
-                resolve().apply(a).accept(i);
+                resolveUncurried().accept(a, i);
                 return next.getAsLong();
             };
     }
@@ -104,11 +107,10 @@ interface ObjIntConsumerCombos<A> {
 
     public default WithObjIntConsumer<A> absorbOperator(Operator next) {
         return WithObjIntConsumer.of(
-            (A a) ->
-                (int i) -> {
-                    resolve().apply(a).accept(i);
-                    next.run();
-                }
+            (A a, int i) -> {
+                resolveUncurried().accept(a, i);
+                next.run();
+            }
         );
     }
 
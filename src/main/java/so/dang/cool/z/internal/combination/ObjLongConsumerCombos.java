@@ -11,6 +11,7 @@ import java.util.function.LongSupplier;
 import java.util.function.LongToDoubleFunction;
 import java.util.function.LongToIntFunction;
 import java.util.function.LongUnaryOperator;
+import java.util.function.ObjLongConsumer;
 import java.util.function.Supplier;
 import so.dang.cool.z.function.Operator;
 import so.dang.cool.z.internal.combination.Combine.WithObjLongConsumer;
@@ -18,6 +19,8 @@ import so.dang.cool.z.internal.combination.Combine.WithObjLongConsumer;
 interface ObjLongConsumerCombos<A> {
     Function<A, LongConsumer> resolve();
 
+    ObjLongConsumer<A> resolveUncurried();
+
     /* ObjLongConsumer<A> -> Supplier<B> */
 
     public default <B> Function<A, LongFunction<B>> absorbSupplier(
@@ -25,7 +28,7 @@ interface ObjLongConsumerCombos<A> {
     ) {
         return (A a) ->
             (long n) -> {
-                resolve().apply(a).accept(n);
+                resolveUncurried().accept(a, n);
                 return next.get();
             };
     }
@@ -41,7 +44,7 @@ interface ObjLongConsumerCombos<A> {
     ) {
         return (A a) ->
             (long n) -> {
-                resolve().apply(a).accept(n);
+                resolveUncurried().accept(a, n);
                 return next.getAsBoolean();
             };
     }
@@ -57,7 +60,7 @@ interface ObjLongConsumerCombos<A> {
     ) {
         return (A a) ->
             (long n) -> {
-                resolve().apply(a).accept(n);
+                resolveUncurried().accept(a, n);
                 return next.getAsInt();
             };
     }
@@ -73,7 +76,7 @@ interface ObjLongConsumerCombos<A> {
     ) {
         return (A a) ->
             (long n) -> {
-                resolve().apply(a).accept(n);
+                resolveUncurried().accept(a, n);
                 return next.getAsDouble();
             };
     }
@@ -91,7 +94,7 @@ interface ObjLongConsumerCombos<A> {
     ) {
         return (A a) ->
             (long n) -> {
-                resolve().apply(a).accept(n);
+                resolveUncurried().accept(a, n);
                 return next.getAsLong();
             };
     }
@@ -104,11 +107,10 @@ interface ObjLongConsumerCombos<A> {
 
     public default WithObjLongConsumer<A> absorbOperator(Operator next) {
         return WithObjLongConsumer.of(
-            (A a) ->
-                (long n) -> {
-                    resolve().apply(a).accept(n);
-                    next.run();
-                }
+            (A a, long n) -> {
+                resolveUncurried().accept(a, n);
+                next.run();
+            }
         );
     }
 
@@ -0,0 +1,26 @@
+package so.dang.cool.z.internal.combination;
+
+import java.util.function.Function;
+import so.dang.cool.z.function.OctFunction;
+import so.dang.cool.z.internal.combination.Combine.WithOctFunction;
+
+interface OctFunctionCombos<A, B, C, D, E, F, G, H, I> {
+    OctFunction<A, B, C, D, E, F, G, H, I> resolve();
+
+    /* OctFunction<A, B, C, D, E, F, G, H, I> -> Function<I, J> */
+
+    public default <J> WithOctFunction<A, B, C, D, E, F, G, H, J> fuseFunction(
+        Function<I, J> next
+    ) {
+        return WithOctFunction.of(
+            (A a, B b, C c, D d, E e, F f, G g, H h) ->
+                next.apply(resolve().apply(a, b, c, d, e, f, g, h))
+        );
+    }
+
+    public default <J> WithOctFunction<A, B, C, D, E, F, G, H, J> fuse(
+        Function<I, J> next
+    ) {
+        return fuseFunction(next);
+    }
+}
@@ -7,6 +7,7 @@ import so.dang.cool.z.function.BooleanPredicate;
 import so.dang.cool.z.function.BooleanToDoubleFunction;
 import so.dang.cool.z.function.BooleanToIntFunction;
 import so.dang.cool.z.function.BooleanToLongFunction;
+import so.dang.cool.z.internal.bulk.Select;
 import so.dang.cool.z.internal.combination.Combine.WithConsumer;
 import so.dang.cool.z.internal.combination.Combine.WithFunction;
 import so.dang.cool.z.internal.combination.Combine.WithPredicate;
@@ -17,6 +18,59 @@ import so.dang.cool.z.internal.combination.Combine.WithToLongFunction;
 interface PredicateCombos<A> {
     Predicate<A> resolve();
 
+    /* Predicate<A> evaluated in bulk */
+
+    public default int select(A[] in, int[] selection) {
+        return select(in, 0, in.length, selection);
+    }
+
+    public default int select(
+        A[] in,
+        int offset,
+        int length,
+        int[] selection
+    ) {
+        return Select.predicateSelect(resolve(), in, offset, length, selection);
+    }
+
+    public default int refine(A[] in, int[] selection, int count) {
+        return Select.predicateRefine(resolve(), in, selection, count);
+    }
+
+    public default long[] bitset(A[] in) {
+        return bitset(in, 0, in.length, new long[Select.wordsFor(in.length)]);
+    }
+
+    public default long[] bitset(A[] in, int offset, int length, long[] bits) {
+        return Select.predicateBits(resolve(), in, offset, length, bits);
+    }
+
+    public default long[] bitsetAnd(A[] in, long[] bits) {
+        return bitsetAnd(in, 0, in.length, bits);
+    }
+
+    public default long[] bitsetAnd(
+        A[] in,
+        int offset,
+        int length,
+        long[] bits
+    ) {
+        return Select.predicateBitsAnd(resolve(), in, offset, length, bits);
+    }
+
+    public default long[] bitsetOr(A[] in, long[] bits) {
+        return bitsetOr(in, 0, in.length, bits);
+    }
+
+    public default long[] bitsetOr(
+        A[] in,
+        int offset,
+        int length,
+        long[] bits
+    ) {
+        return Select.predicateBitsOr(resolve(), in, offset, length, bits);
+    }
+
     /* Predicate<A> -> BooleanFunction<B> */
 
     public default <B> WithFunction<A, B> fuseBooleanFunction(
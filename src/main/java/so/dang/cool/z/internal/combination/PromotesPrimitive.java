@@ -1,8 +1,13 @@
 package so.dang.cool.z.internal.combination;
 
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+
 /**
- * Indicates functions that promote primitives to "boxed" values.
+ * Indicates functions that promote primitives to "boxed" values. Each has a
+ * non-boxing twin of the same name with an {@code Unboxed} suffix.
  */
+@Retention(RetentionPolicy.RUNTIME)
 public @interface PromotesPrimitive {
     Class<?>[] promoted();
 }
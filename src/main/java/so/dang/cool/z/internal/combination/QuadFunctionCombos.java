@@ -0,0 +1,25 @@
+package so.dang.cool.z.internal.combination;
+
+import java.util.function.Function;
+import so.dang.cool.z.function.QuadFunction;
+import so.dang.cool.z.internal.combination.Combine.WithQuadFunction;
+
+interface QuadFunctionCombos<A, B, C, D, E> {
+    QuadFunction<A, B, C, D, E> resolve();
+
+    /* QuadFunction<A, B, C, D, E> -> Function<E, F> */
+
+    public default <F> WithQuadFunction<A, B, C, D, F> fuseFunction(
+        Function<E, F> next
+    ) {
+        return WithQuadFunction.of(
+            (A a, B b, C c, D d) -> next.apply(resolve().apply(a, b, c, d))
+        );
+    }
+
+    public default <F> WithQuadFunction<A, B, C, D, F> fuse(
+        Function<E, F> next
+    ) {
+        return fuseFunction(next);
+    }
+}
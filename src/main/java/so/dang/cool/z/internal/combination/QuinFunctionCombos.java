@@ -0,0 +1,26 @@
+package so.dang.cool.z.internal.combination;
+
+import java.util.function.Function;
+import so.dang.cool.z.function.QuinFunction;
+import so.dang.cool.z.internal.combination.Combine.WithQuinFunction;
+
+interface QuinFunctionCombos<A, B, C, D, E, F> {
+    QuinFunction<A, B, C, D, E, F> resolve();
+
+    /* QuinFunction<A, B, C, D, E, F> -> Function<F, G> */
+
+    public default <G> WithQuinFunction<A, B, C, D, E, G> fuseFunction(
+        Function<F, G> next
+    ) {
+        return WithQuinFunction.of(
+            (A a, B b, C c, D d, E e) ->
+                next.apply(resolve().apply(a, b, c, d, e))
+        );
+    }
+
+    public default <G> WithQuinFunction<A, B, C, D, E, G> fuse(
+        Function<F, G> next
+    ) {
+        return fuseFunction(next);
+    }
+}
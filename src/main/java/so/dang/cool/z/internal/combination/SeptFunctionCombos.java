@@ -0,0 +1,26 @@
+package so.dang.cool.z.internal.combination;
+
+import java.util.function.Function;
+import so.dang.cool.z.function.SeptFunction;
+import so.dang.cool.z.internal.combination.Combine.WithSeptFunction;
+
+interface SeptFunctionCombos<A, B, C, D, E, F, G, H> {
+    SeptFunction<A, B, C, D, E, F, G, H> resolve();
+
+    /* SeptFunction<A, B, C, D, E, F, G, H> -> Function<H, I> */
+
+    public default <I> WithSeptFunction<A, B, C, D, E, F, G, I> fuseFunction(
+        Function<H, I> next
+    ) {
+        return WithSeptFunction.of(
+            (A a, B b, C c, D d, E e, F f, G g) ->
+                next.apply(resolve().apply(a, b, c, d, e, f, g))
+        );
+    }
+
+    public default <I> WithSeptFunction<A, B, C, D, E, F, G, I> fuse(
+        Function<H, I> next
+    ) {
+        return fuseFunction(next);
+    }
+}
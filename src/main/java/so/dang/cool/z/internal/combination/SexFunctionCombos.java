@@ -0,0 +1,26 @@
+package so.dang.cool.z.internal.combination;
+
+import java.util.function.Function;
+import so.dang.cool.z.function.SexFunction;
+import so.dang.cool.z.internal.combination.Combine.WithSexFunction;
+
+interface SexFunctionCombos<A, B, C, D, E, F, G> {
+    SexFunction<A, B, C, D, E, F, G> resolve();
+
+    /* SexFunction<A, B, C, D, E, F, G> -> Function<G, H> */
+
+    public default <H> WithSexFunction<A, B, C, D, E, F, H> fuseFunction(
+        Function<G, H> next
+    ) {
+        return WithSexFunction.of(
+            (A a, B b, C c, D d, E e, F f) ->
+                next.apply(resolve().apply(a, b, c, d, e, f))
+        );
+    }
+
+    public default <H> WithSexFunction<A, B, C, D, E, F, H> fuse(
+        Function<G, H> next
+    ) {
+        return fuseFunction(next);
+    }
+}
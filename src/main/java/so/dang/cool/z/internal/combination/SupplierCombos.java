@@ -1,5 +1,7 @@
 package so.dang.cool.z.internal.combination;
 
+import java.time.Duration;
+import java.util.concurrent.Executor;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.BiPredicate;
@@ -18,6 +20,7 @@ import java.util.function.ToIntFunction;
 import java.util.function.ToLongBiFunction;
 import java.util.function.ToLongFunction;
 import java.util.function.UnaryOperator;
+import so.dang.cool.z.internal.async.Blocking;
 import so.dang.cool.z.internal.combination.Combine.WithBooleanSupplier;
 import so.dang.cool.z.internal.combination.Combine.WithConsumer;
 import so.dang.cool.z.internal.combination.Combine.WithDoubleConsumer;
@@ -33,20 +36,94 @@ import so.dang.cool.z.internal.combination.Combine.WithSupplier;
 import so.dang.cool.z.internal.combination.Combine.WithToDoubleFunction;
 import so.dang.cool.z.internal.combination.Combine.WithToIntFunction;
 import so.dang.cool.z.internal.combination.Combine.WithToLongFunction;
+import so.dang.cool.z.internal.memoization.Expiring;
+import so.dang.cool.z.internal.memoization.Refreshing;
 
 interface SupplierCombos<A> {
     Supplier<A> resolve();
 
+    boolean isConstant();
+
+    /* Supplier<A> memoized */
+
+    /**
+     * Treat this supplier as a constant. Its value is computed once, on first
+     * use, and anything fused onto it that depends only on that value is
+     * computed once as well.
+     */
+    WithSupplier<A> constant();
+
+    /**
+     * Keeps each value for {@code timeToLive}. For a value that never expires,
+     * use {@code constant()}.
+     */
+    public default WithSupplier<A> expiring(Duration timeToLive) {
+        return WithSupplier.of(Expiring.of(resolve(), timeToLive));
+    }
+
+    /**
+     * Keeps serving the latest value, and recomputes it on {@code executor}
+     * once it is older than {@code refreshAfter}.
+     */
+    public default WithSupplier<A> refreshing(
+        Duration refreshAfter,
+        Executor executor
+    ) {
+        return WithSupplier.of(
+            Refreshing.of(resolve(), refreshAfter, executor)
+        );
+    }
+
+    /* Supplier<A> blocking */
+
+    /**
+     * Runs the fusion so far on {@code executor}, while the caller's thread
+     * waits for it. Stages fused later run on the caller's thread again.
+     */
+    public default WithSupplier<A> blocking(Executor executor) {
+        return blocking(executor, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Like {@code blocking(executor)}, with at most {@code maxConcurrency}
+     * calls running at once. Callers beyond that wait for a turn.
+     */
+    public default WithSupplier<A> blocking(
+        Executor executor,
+        int maxConcurrency
+    ) {
+        return WithSupplier.of(
+            Blocking.supplier(resolve(), executor, maxConcurrency)
+        );
+    }
+
     /* Supplier<A> -> Function<A, B> */
 
     public default <B> WithSupplier<B> fuseFunction(Function<A, B> next) {
-        return Combine.WithSupplier.of(() -> next.apply(resolve().get()));
+        return WithSupplier.of(resolve()).then(next);
     }
 
     public default <B> WithSupplier<B> fuse(Function<A, B> next) {
         return fuseFunction(next);
     }
 
+    /* Supplier<A> -> Function<A, B> blocking */
+
+    public default <B> WithSupplier<B> fuseBlocking(
+        Function<A, B> next,
+        Executor executor
+    ) {
+        return fuseBlocking(next, executor, Integer.MAX_VALUE);
+    }
+
+    public default <B> WithSupplier<B> fuseBlocking(
+        Function<A, B> next,
+        Executor executor,
+        int maxConcurrency
+    ) {
+        return fuseFunction(Blocking.function(next, executor, maxConcurrency));
+    }
+
     /* Supplier<A> -> BiFunction<A, B, C> */
 
     public default <B, C> WithFunction<B, C> fuseBiFunction(
@@ -64,7 +141,10 @@ interface SupplierCombos<A> {
     public default WithDoubleSupplier fuseToDoubleFunction(
         ToDoubleFunction<A> next
     ) {
-        return WithDoubleSupplier.of(() -> next.applyAsDouble(resolve().get()));
+        return WithDoubleSupplier.of(
+            () -> next.applyAsDouble(resolve().get()),
+            isConstant()
+        );
     }
 
     public default WithDoubleSupplier fuse(ToDoubleFunction<A> next) {
@@ -90,7 +170,10 @@ interface SupplierCombos<A> {
     /* Supplier<A> -> ToIntFunction<A> */
 
     public default WithIntSupplier fuseToIntFunction(ToIntFunction<A> next) {
-        return WithIntSupplier.of(() -> next.applyAsInt(resolve().get()));
+        return WithIntSupplier.of(
+            () -> next.applyAsInt(resolve().get()),
+            isConstant()
+        );
     }
 
     public default WithIntSupplier fuse(ToIntFunction<A> next) {
@@ -114,7 +197,10 @@ interface SupplierCombos<A> {
     /* Supplier<A> -> ToLongFunction<A> */
 
     public default WithLongSupplier fuseToLongFunction(ToLongFunction<A> next) {
-        return WithLongSupplier.of(() -> next.applyAsLong(resolve().get()));
+        return WithLongSupplier.of(
+            () -> next.applyAsLong(resolve().get()),
+            isConstant()
+        );
     }
 
     public default WithLongSupplier fuse(ToLongFunction<A> next) {
@@ -138,7 +224,10 @@ interface SupplierCombos<A> {
     /* Supplier<A> -> Predicate<A> */
 
     public default WithBooleanSupplier fusePredicate(Predicate<A> next) {
-        return WithBooleanSupplier.of(() -> next.test(resolve().get()));
+        return WithBooleanSupplier.of(
+            () -> next.test(resolve().get()),
+            isConstant()
+        );
     }
 
     public default WithBooleanSupplier fuse(Predicate<A> next) {
@@ -216,7 +305,7 @@ interface SupplierCombos<A> {
     /* Supplier<A> -> UnaryOperator<A> */
 
     public default WithSupplier<A> fuseUnaryOperator(UnaryOperator<A> next) {
-        return WithSupplier.of(() -> next.apply(resolve().get()));
+        return WithSupplier.of(resolve()).then(next);
     }
 
     public default WithSupplier<A> fuse(UnaryOperator<A> next) {
@@ -8,6 +8,7 @@ import java.util.function.DoubleToIntFunction;
 import java.util.function.DoubleToLongFunction;
 import java.util.function.DoubleUnaryOperator;
 import java.util.function.Function;
+import java.util.function.ToDoubleBiFunction;
 import java.util.function.ToDoubleFunction;
 import so.dang.cool.z.internal.combination.Combine.WithBiConsumer;
 import so.dang.cool.z.internal.combination.Combine.WithBiFunction;
@@ -19,13 +20,15 @@ import so.dang.cool.z.internal.combination.Combine.WithToLongBiFunction;
 interface ToDoubleBiFunctionCombos<A, B> {
     Function<A, ToDoubleFunction<B>> resolve();
 
+    ToDoubleBiFunction<A, B> resolveUncurried();
+
     /* ToDoubleBiFunction<A, B> -> DoubleFunction<C> */
 
     public default <C> WithBiFunction<A, B, C> fuseDoubleFunction(
         DoubleFunction<C> next
     ) {
         return WithBiFunction.of(
-            (A a) -> (B b) -> next.apply(resolve().apply(a).applyAsDouble(b))
+            (A a, B b) -> next.apply(resolveUncurried().applyAsDouble(a, b))
         );
     }
 
@@ -39,8 +42,8 @@ interface ToDoubleBiFunctionCombos<A, B> {
         DoubleToIntFunction next
     ) {
         return WithToIntBiFunction.of(
-            (A a) ->
-                (B b) -> next.applyAsInt(resolve().apply(a).applyAsDouble(b))
+            (A a, B b) ->
+                next.applyAsInt(resolveUncurried().applyAsDouble(a, b))
         );
     }
 
@@ -54,8 +57,8 @@ interface ToDoubleBiFunctionCombos<A, B> {
         DoubleToLongFunction next
     ) {
         return WithToLongBiFunction.of(
-            (A a) ->
-                (B b) -> next.applyAsLong(resolve().apply(a).applyAsDouble(b))
+            (A a, B b) ->
+                next.applyAsLong(resolveUncurried().applyAsDouble(a, b))
         );
     }
 
@@ -69,7 +72,7 @@ interface ToDoubleBiFunctionCombos<A, B> {
         DoublePredicate next
     ) {
         return WithBiPredicate.of(
-            (A a) -> (B b) -> next.test(resolve().apply(a).applyAsDouble(b))
+            (A a, B b) -> next.test(resolveUncurried().applyAsDouble(a, b))
         );
     }
 
@@ -83,7 +86,7 @@ interface ToDoubleBiFunctionCombos<A, B> {
         DoubleConsumer next
     ) {
         return WithBiConsumer.of(
-            (A a) -> (B b) -> next.accept(resolve().apply(a).applyAsDouble(b))
+            (A a, B b) -> next.accept(resolveUncurried().applyAsDouble(a, b))
         );
     }
 
@@ -97,8 +100,8 @@ interface ToDoubleBiFunctionCombos<A, B> {
         DoubleUnaryOperator next
     ) {
         return WithToDoubleBiFunction.of(
-            (A a) ->
-                (B b) -> next.applyAsDouble(resolve().apply(a).applyAsDouble(b))
+            (A a, B b) ->
+                next.applyAsDouble(resolveUncurried().applyAsDouble(a, b))
         );
     }
 
@@ -114,7 +117,10 @@ interface ToDoubleBiFunctionCombos<A, B> {
         return (A a) ->
             (B b) ->
                 (double d) ->
-                    next.applyAsDouble(resolve().apply(a).applyAsDouble(b), d);
+                    next.applyAsDouble(
+                        resolveUncurried().applyAsDouble(a, b),
+                        d
+                    );
     }
 
     public default Function<A, Function<B, DoubleUnaryOperator>> fuse(
@@ -8,6 +8,7 @@ import java.util.function.IntPredicate;
 import java.util.function.IntToDoubleFunction;
 import java.util.function.IntToLongFunction;
 import java.util.function.IntUnaryOperator;
+import java.util.function.ToIntBiFunction;
 import java.util.function.ToIntFunction;
 import so.dang.cool.z.internal.combination.Combine.WithBiConsumer;
 import so.dang.cool.z.internal.combination.Combine.WithBiFunction;
@@ -19,13 +20,15 @@ import so.dang.cool.z.internal.combination.Combine.WithToLongBiFunction;
 interface ToIntBiFunctionCombos<A, B> {
     Function<A, ToIntFunction<B>> resolve();
 
+    ToIntBiFunction<A, B> resolveUncurried();
+
     /* ToIntBiFunction<A, B> -> IntFunction<C> */
 
     public default <C> WithBiFunction<A, B, C> fuseIntFunction(
         IntFunction<C> next
     ) {
         return WithBiFunction.of(
-            (A a) -> (B b) -> next.apply(resolve().apply(a).applyAsInt(b))
+            (A a, B b) -> next.apply(resolveUncurried().applyAsInt(a, b))
         );
     }
 
@@ -39,8 +42,8 @@ interface ToIntBiFunctionCombos<A, B> {
         IntToDoubleFunction next
     ) {
         return WithToDoubleBiFunction.of(
-            (A a) ->
-                (B b) -> next.applyAsDouble(resolve().apply(a).applyAsInt(b))
+            (A a, B b) ->
+                next.applyAsDouble(resolveUncurried().applyAsInt(a, b))
         );
     }
 
@@ -54,7 +57,7 @@ interface ToIntBiFunctionCombos<A, B> {
         IntToLongFunction next
     ) {
         return WithToLongBiFunction.of(
-            (A a) -> (B b) -> next.applyAsLong(resolve().apply(a).applyAsInt(b))
+            (A a, B b) -> next.applyAsLong(resolveUncurried().applyAsInt(a, b))
         );
     }
 
@@ -66,7 +69,7 @@ interface ToIntBiFunctionCombos<A, B> {
 
     public default WithBiPredicate<A, B> fuseIntPredicate(IntPredicate next) {
         return WithBiPredicate.of(
-            (A a) -> (B b) -> next.test(resolve().apply(a).applyAsInt(b))
+            (A a, B b) -> next.test(resolveUncurried().applyAsInt(a, b))
         );
     }
 
@@ -78,7 +81,7 @@ interface ToIntBiFunctionCombos<A, B> {
 
     public default WithBiConsumer<A, B> fuseIntConsumer(IntConsumer next) {
         return WithBiConsumer.of(
-            (A a) -> (B b) -> next.accept(resolve().apply(a).applyAsInt(b))
+            (A a, B b) -> next.accept(resolveUncurried().applyAsInt(a, b))
         );
     }
 
@@ -92,7 +95,7 @@ interface ToIntBiFunctionCombos<A, B> {
         IntUnaryOperator next
     ) {
         return WithToIntBiFunction.of(
-            (A a) -> (B b) -> next.applyAsInt(resolve().apply(a).applyAsInt(b))
+            (A a, B b) -> next.applyAsInt(resolveUncurried().applyAsInt(a, b))
         );
     }
 
@@ -107,7 +110,8 @@ interface ToIntBiFunctionCombos<A, B> {
     ) {
         return (A a) ->
             (B b) ->
-                (int i) -> next.applyAsInt(resolve().apply(a).applyAsInt(b), i);
+                (int i) ->
+                    next.applyAsInt(resolveUncurried().applyAsInt(a, b), i);
     }
 
     public default Function<A, Function<B, IntUnaryOperator>> fuse(
@@ -8,6 +8,7 @@ import java.util.function.LongPredicate;
 import java.util.function.LongToDoubleFunction;
 import java.util.function.LongToIntFunction;
 import java.util.function.LongUnaryOperator;
+import java.util.function.ToLongBiFunction;
 import java.util.function.ToLongFunction;
 import so.dang.cool.z.internal.combination.Combine.WithBiConsumer;
 import so.dang.cool.z.internal.combination.Combine.WithBiFunction;
@@ -19,13 +20,15 @@ import so.dang.cool.z.internal.combination.Combine.WithToLongBiFunction;
 interface ToLongBiFunctionCombos<A, B> {
     Function<A, ToLongFunction<B>> resolve();
 
+    ToLongBiFunction<A, B> resolveUncurried();
+
     /* ToLongBiFunction<A, B> -> LongFunction<C> */
 
     public default <C> WithBiFunction<A, B, C> fuseLongFunction(
         LongFunction<C> next
     ) {
         return WithBiFunction.of(
-            (A a) -> (B b) -> next.apply(resolve().apply(a).applyAsLong(b))
+            (A a, B b) -> next.apply(resolveUncurried().applyAsLong(a, b))
         );
     }
 
@@ -39,8 +42,8 @@ interface ToLongBiFunctionCombos<A, B> {
         LongToDoubleFunction next
     ) {
         return WithToDoubleBiFunction.of(
-            (A a) ->
-                (B b) -> next.applyAsDouble(resolve().apply(a).applyAsLong(b))
+            (A a, B b) ->
+                next.applyAsDouble(resolveUncurried().applyAsLong(a, b))
         );
     }
 
@@ -56,7 +59,7 @@ interface ToLongBiFunctionCombos<A, B> {
         LongToIntFunction next
     ) {
         return WithToIntBiFunction.of(
-            (A a) -> (B b) -> next.applyAsInt(resolve().apply(a).applyAsLong(b))
+            (A a, B b) -> next.applyAsInt(resolveUncurried().applyAsLong(a, b))
         );
     }
 
@@ -68,7 +71,7 @@ interface ToLongBiFunctionCombos<A, B> {
 
     public default WithBiPredicate<A, B> fuseLongPredicate(LongPredicate next) {
         return WithBiPredicate.of(
-            (A a) -> (B b) -> next.test(resolve().apply(a).applyAsLong(b))
+            (A a, B b) -> next.test(resolveUncurried().applyAsLong(a, b))
         );
     }
 
@@ -80,7 +83,7 @@ interface ToLongBiFunctionCombos<A, B> {
 
     public default WithBiConsumer<A, B> fuseLongConsumer(LongConsumer next) {
         return WithBiConsumer.of(
-            (A a) -> (B b) -> next.accept(resolve().apply(a).applyAsLong(b))
+            (A a, B b) -> next.accept(resolveUncurried().applyAsLong(a, b))
         );
     }
 
@@ -94,8 +97,7 @@ interface ToLongBiFunctionCombos<A, B> {
         LongUnaryOperator next
     ) {
         return WithToLongBiFunction.of(
-            (A a) ->
-                (B b) -> next.applyAsLong(resolve().apply(a).applyAsLong(b))
+            (A a, B b) -> next.applyAsLong(resolveUncurried().applyAsLong(a, b))
         );
     }
 
@@ -111,7 +113,7 @@ interface ToLongBiFunctionCombos<A, B> {
         return (A a) ->
             (B b) ->
                 (long n) ->
-                    next.applyAsLong(resolve().apply(a).applyAsLong(b), n);
+                    next.applyAsLong(resolveUncurried().applyAsLong(a, b), n);
     }
 
     public default Function<A, Function<B, LongUnaryOperator>> fuse(
@@ -0,0 +1,23 @@
+package so.dang.cool.z.internal.combination;
+
+import java.util.function.Function;
+import so.dang.cool.z.function.TriFunction;
+import so.dang.cool.z.internal.combination.Combine.WithTriFunction;
+
+interface TriFunctionCombos<A, B, C, D> {
+    TriFunction<A, B, C, D> resolve();
+
+    /* TriFunction<A, B, C, D> -> Function<D, E> */
+
+    public default <E> WithTriFunction<A, B, C, E> fuseFunction(
+        Function<D, E> next
+    ) {
+        return WithTriFunction.of(
+            (A a, B b, C c) -> next.apply(resolve().apply(a, b, c))
+        );
+    }
+
+    public default <E> WithTriFunction<A, B, C, E> fuse(Function<D, E> next) {
+        return fuseFunction(next);
+    }
+}
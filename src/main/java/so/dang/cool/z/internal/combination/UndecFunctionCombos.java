@@ -0,0 +1,26 @@
+package so.dang.cool.z.internal.combination;
+
+import java.util.function.Function;
+import so.dang.cool.z.function.UndecFunction;
+import so.dang.cool.z.internal.combination.Combine.WithUndecFunction;
+
+interface UndecFunctionCombos<A, B, C, D, E, F, G, H, I, J, K, L> {
+    UndecFunction<A, B, C, D, E, F, G, H, I, J, K, L> resolve();
+
+    /* UndecFunction<A, B, C, D, E, F, G, H, I, J, K, L> -> Function<L, M> */
+
+    public default <M> WithUndecFunction<A, B, C, D, E, F, G, H, I, J, K, M> fuseFunction(
+        Function<L, M> next
+    ) {
+        return WithUndecFunction.of(
+            (A a, B b, C c, D d, E e, F f, G g, H h, I i, J j, K k) ->
+                next.apply(resolve().apply(a, b, c, d, e, f, g, h, i, j, k))
+        );
+    }
+
+    public default <M> WithUndecFunction<A, B, C, D, E, F, G, H, I, J, K, M> fuse(
+        Function<L, M> next
+    ) {
+        return fuseFunction(next);
+    }
+}
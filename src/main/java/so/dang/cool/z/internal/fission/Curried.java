@@ -0,0 +1,170 @@
+package so.dang.cool.z.internal.fission;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Function;
+import so.dang.cool.z.function.DecFunction;
+import so.dang.cool.z.function.DodecFunction;
+import so.dang.cool.z.function.NonFunction;
+import so.dang.cool.z.function.OctFunction;
+import so.dang.cool.z.function.QuadFunction;
+import so.dang.cool.z.function.QuinFunction;
+import so.dang.cool.z.function.SeptFunction;
+import so.dang.cool.z.function.SexFunction;
+import so.dang.cool.z.function.TriFunction;
+import so.dang.cool.z.function.UndecFunction;
+
+/**
+ * A curried view of a multifunction. The view remembers the function it was
+ * split from, so assimilating it gives back that function instead of a chain
+ * of applications.
+ */
+public final class Curried implements Function<Object, Object> {
+
+    private static final Object[] NONE = {};
+
+    private final Object uncurried;
+    private final int arity;
+    private final Object[] applied;
+
+    private Curried(Object uncurried, int arity, Object[] applied) {
+        this.uncurried = uncurried;
+        this.arity = arity;
+        this.applied = applied;
+    }
+
+    /**
+     * Returns a curried view of a multifunction of the given arity.
+     */
+    @SuppressWarnings("unchecked")
+    public static <F extends Function<?, ?>> F of(Object uncurried, int arity) {
+        return (F) new Curried(Objects.requireNonNull(uncurried), arity, NONE);
+    }
+
+    /**
+     * Returns the multifunction a curried function was split from, or null
+     * when it was not split from a multifunction of the given arity.
+     */
+    @SuppressWarnings("unchecked")
+    public static <F> F uncurried(Function<?, ?> curried, int arity) {
+        if (curried instanceof Curried) {
+            Curried view = (Curried) curried;
+            if (view.arity == arity && view.applied.length == 0) {
+                return (F) view.uncurried;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public Object apply(Object value) {
+        Object[] args = Arrays.copyOf(applied, applied.length + 1);
+        args[applied.length] = value;
+        if (args.length < arity) {
+            return new Curried(uncurried, arity, args);
+        }
+        return invoke(args);
+    }
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private Object invoke(Object[] x) {
+        switch (arity) {
+            case 3:
+                return ((TriFunction) uncurried).apply(x[0], x[1], x[2]);
+            case 4:
+                return ((QuadFunction) uncurried).apply(x[0], x[1], x[2], x[3]);
+            case 5:
+                return ((QuinFunction) uncurried).apply(
+                        x[0],
+                        x[1],
+                        x[2],
+                        x[3],
+                        x[4]
+                    );
+            case 6:
+                return ((SexFunction) uncurried).apply(
+                        x[0],
+                        x[1],
+                        x[2],
+                        x[3],
+                        x[4],
+                        x[5]
+                    );
+            case 7:
+                return ((SeptFunction) uncurried).apply(
+                        x[0],
+                        x[1],
+                        x[2],
+                        x[3],
+                        x[4],
+                        x[5],
+                        x[6]
+                    );
+            case 8:
+                return ((OctFunction) uncurried).apply(
+                        x[0],
+                        x[1],
+                        x[2],
+                        x[3],
+                        x[4],
+                        x[5],
+                        x[6],
+                        x[7]
+                    );
+            case 9:
+                return ((NonFunction) uncurried).apply(
+                        x[0],
+                        x[1],
+                        x[2],
+                        x[3],
+                        x[4],
+                        x[5],
+                        x[6],
+                        x[7],
+                        x[8]
+                    );
+            case 10:
+                return ((DecFunction) uncurried).apply(
+                        x[0],
+                        x[1],
+                        x[2],
+                        x[3],
+                        x[4],
+                        x[5],
+                        x[6],
+                        x[7],
+                        x[8],
+                        x[9]
+                    );
+            case 11:
+                return ((UndecFunction) uncurried).apply(
+                        x[0],
+                        x[1],
+                        x[2],
+                        x[3],
+                        x[4],
+                        x[5],
+                        x[6],
+                        x[7],
+                        x[8],
+                        x[9],
+                        x[10]
+                    );
+            default:
+                return ((DodecFunction) uncurried).apply(
+                        x[0],
+                        x[1],
+                        x[2],
+                        x[3],
+                        x[4],
+                        x[5],
+                        x[6],
+                        x[7],
+                        x[8],
+                        x[9],
+                        x[10],
+                        x[11]
+                    );
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package so.dang.cool.z.internal.fission;
+
+import java.util.Objects;
+import java.util.function.BiFunction;
+
+/**
+ * A BiFunction with its arguments swapped. Flipping one again gives back the
+ * function it was made from.
+ */
+public final class Flipped<A, B, C> implements BiFunction<B, A, C> {
+
+    private final BiFunction<A, B, C> initial;
+
+    private Flipped(BiFunction<A, B, C> initial) {
+        this.initial = Objects.requireNonNull(initial);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <A, B, C> BiFunction<B, A, C> of(
+        BiFunction<A, B, C> initial
+    ) {
+        if (initial instanceof Flipped) {
+            return ((Flipped<B, A, C>) initial).initial;
+        }
+        return new Flipped<>(initial);
+    }
+
+    @Override
+    public C apply(B b, A a) {
+        return initial.apply(a, b);
+    }
+}
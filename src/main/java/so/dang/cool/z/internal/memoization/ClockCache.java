@@ -0,0 +1,144 @@
+package so.dang.cool.z.internal.memoization;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * A concurrent, size-bounded cache.
+ *
+ * <p>Hits are lock-free reads that mark their entry as referenced. Misses are
+ * computed outside of any lock and then inserted under a short lock. Keys are
+ * spread by hash over a few stripes, each with its own ring and lock, so
+ * inserts on different stripes never wait on each other. When a stripe is
+ * full, its CLOCK hand sweeps the entries, giving each referenced entry a
+ * second chance, and evicts the first entry unused since the last sweep.
+ *
+ * <p>Caches too small to split into stripes of {@code MIN_RING} entries keep
+ * a single ring.
+ */
+public final class ClockCache<K, V> {
+
+    private static final Object NULL_KEY = new Object();
+
+    // Smaller rings would give hot entries too few chances to be kept.
+    private static final int MIN_RING = 16;
+
+    // A power of two, at least twice the number of cores.
+    private static final int MAX_STRIPES = Integer.highestOneBit(
+        4 * Runtime.getRuntime().availableProcessors() - 1
+    );
+
+    private final ConcurrentHashMap<Object, Entry<V>> entries;
+    private final Stripe[] stripes;
+
+    public ClockCache(int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException(
+                "maxSize must be positive, was " + maxSize
+            );
+        }
+        this.entries = new ConcurrentHashMap<>(maxSize);
+        int count = Math.min(
+            MAX_STRIPES,
+            Integer.highestOneBit(Math.max(1, maxSize / MIN_RING))
+        );
+        this.stripes = new Stripe[count];
+        for (int stripe = 0; stripe < count; stripe++) {
+            int extra = stripe < maxSize % count ? 1 : 0;
+            stripes[stripe] = new Stripe(maxSize / count + extra);
+        }
+    }
+
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> compute) {
+        Object mapped = key == null ? NULL_KEY : key;
+
+        Entry<V> hit = entries.get(mapped);
+        if (hit != null) {
+            hit.touch();
+            return hit.value;
+        }
+
+        V value = compute.apply(key);
+
+        Stripe stripe = stripes[stripeOf(mapped)];
+        stripe.lock.lock();
+        try {
+            // Another caller may have inserted the same key meanwhile. Equal
+            // keys share a stripe, so its lock is enough to tell.
+            if (!entries.containsKey(mapped)) {
+                Entry<V> entry = new Entry<>(mapped, value);
+                stripe.insert(entry, entries);
+                entries.put(mapped, entry);
+            }
+        } finally {
+            stripe.lock.unlock();
+        }
+        return value;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private int stripeOf(Object mapped) {
+        int hash = mapped.hashCode();
+        return (hash ^ (hash >>> 16)) & (stripes.length - 1);
+    }
+
+    private static final class Stripe {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Entry<?>[] ring;
+
+        // Guarded by lock.
+        private int size;
+        private int hand;
+
+        private Stripe(int capacity) {
+            this.ring = new Entry<?>[capacity];
+        }
+
+        // Takes a slot for the entry, evicting an unreferenced entry once the
+        // ring is full. Callers must hold the lock.
+        private void insert(Entry<?> entry, Map<Object, ?> entries) {
+            if (size < ring.length) {
+                ring[size++] = entry;
+                return;
+            }
+            while (true) {
+                int slot = hand;
+                Entry<?> candidate = ring[slot];
+                hand = (slot + 1) % ring.length;
+                if (candidate.referenced) {
+                    candidate.referenced = false;
+                } else {
+                    entries.remove(candidate.key);
+                    ring[slot] = entry;
+                    return;
+                }
+            }
+        }
+    }
+
+    private static final class Entry<V> {
+
+        private final Object key;
+        private final V value;
+        private volatile boolean referenced;
+
+        private Entry(Object key, V value) {
+            this.key = key;
+            this.value = value;
+        }
+
+        // Checking first keeps hot entries from bouncing their cache line
+        // between cores on every hit.
+        private void touch() {
+            if (!referenced) {
+                referenced = true;
+            }
+        }
+    }
+}
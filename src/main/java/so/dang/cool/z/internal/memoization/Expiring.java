@@ -0,0 +1,47 @@
+package so.dang.cool.z.internal.memoization;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * A supplier that keeps its value for a time to live. Fresh values are read
+ * without locking; the first caller after expiry recomputes while the others
+ * wait for its result.
+ */
+public final class Expiring<A> implements Supplier<A> {
+
+    private final Supplier<A> initial;
+    private final long timeToLive;
+    private volatile Snapshot<A> snapshot;
+
+    private Expiring(Supplier<A> initial, long timeToLive) {
+        this.initial = Objects.requireNonNull(initial);
+        this.timeToLive = timeToLive;
+    }
+
+    public static <A> Expiring<A> of(
+        Supplier<A> initial,
+        Duration timeToLive
+    ) {
+        return new Expiring<>(initial, Snapshot.nanosOf(timeToLive));
+    }
+
+    @Override
+    public A get() {
+        Snapshot<A> current = snapshot;
+        if (current != null && current.isFresh()) {
+            return current.value;
+        }
+        return recompute();
+    }
+
+    private synchronized A recompute() {
+        Snapshot<A> current = snapshot;
+        if (current == null || !current.isFresh()) {
+            current = new Snapshot<>(initial.get(), timeToLive);
+            snapshot = current;
+        }
+        return current.value;
+    }
+}
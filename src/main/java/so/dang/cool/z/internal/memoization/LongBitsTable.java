@@ -0,0 +1,47 @@
+package so.dang.cool.z.internal.memoization;
+
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * A bounded cache from {@code long} keys to {@code long} values. Other
+ * primitives are stored by their bits.
+ */
+final class LongBitsTable extends LongKeyedTable {
+
+    private final long[] values;
+
+    LongBitsTable(int maxSize) {
+        super(maxSize);
+        this.values = new long[capacity()];
+    }
+
+    long computeIfAbsent(long key, LongUnaryOperator compute) {
+        int set = setOf(key);
+        StampedLock lock = locks[set];
+
+        long stamp;
+        int slot;
+        long value;
+        do {
+            stamp = lock.tryOptimisticRead();
+            slot = find(set, key);
+            value = values[Math.max(slot, 0)];
+        } while (!lock.validate(stamp));
+
+        if (slot >= 0) {
+            referenced[slot] = true;
+            return value;
+        }
+
+        value = compute.applyAsLong(key);
+
+        stamp = lock.writeLock();
+        try {
+            values[claim(set, key)] = value;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+        return value;
+    }
+}
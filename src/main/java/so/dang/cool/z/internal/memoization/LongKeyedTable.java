@@ -0,0 +1,94 @@
+package so.dang.cool.z.internal.memoization;
+
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * A bounded, set-associative hash table over {@code long} keys. Keys hash to a
+ * set of a few adjacent slots, probed linearly. Each set is guarded by its own
+ * seqlock: readers validate an optimistic stamp and retry if a writer got in,
+ * so lookups never block or allocate. Once a set is full, a CLOCK hand evicts
+ * within it.
+ *
+ * <p>The table holds at least {@code maxSize} entries, and fewer than
+ * {@code maxSize + WAYS}. Values are kept by subclasses, in the same slots.
+ */
+abstract class LongKeyedTable {
+
+    static final int WAYS = 8;
+
+    final int ways;
+    final int sets;
+    final long[] keys;
+    final boolean[] filled;
+    final boolean[] referenced;
+    final StampedLock[] locks;
+
+    // Guarded by the lock of each set.
+    private final int[] hands;
+
+    LongKeyedTable(int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException(
+                "maxSize must be positive, was " + maxSize
+            );
+        }
+        this.ways = Math.min(WAYS, maxSize);
+        this.sets = (maxSize + ways - 1) / ways;
+        this.keys = new long[sets * ways];
+        this.filled = new boolean[sets * ways];
+        this.referenced = new boolean[sets * ways];
+        this.locks = new StampedLock[sets];
+        this.hands = new int[sets];
+        for (int set = 0; set < sets; set++) {
+            locks[set] = new StampedLock();
+        }
+    }
+
+    final int capacity() {
+        return keys.length;
+    }
+
+    final int setOf(long key) {
+        // Fibonacci hashing, then a multiply-shift range reduction.
+        long hash = (key * 0x9E3779B97F4A7C15L) >>> 32;
+        return (int) ((hash * sets) >>> 32);
+    }
+
+    // Returns the slot holding the key, or -1. Reads are unsynchronized, so
+    // callers must validate their stamp before trusting the answer.
+    final int find(int set, long key) {
+        int end = (set + 1) * ways;
+        for (int slot = set * ways; slot < end; slot++) {
+            if (!filled[slot]) {
+                return -1;
+            }
+            if (keys[slot] == key) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    // Returns the slot to write the key to, evicting if needed. Callers must
+    // hold the write lock of the set.
+    final int claim(int set, long key) {
+        int first = set * ways;
+        for (int slot = first; slot < first + ways; slot++) {
+            if (!filled[slot] || keys[slot] == key) {
+                keys[slot] = key;
+                filled[slot] = true;
+                return slot;
+            }
+        }
+        while (true) {
+            int slot = first + hands[set];
+            hands[set] = (hands[set] + 1) % ways;
+            if (referenced[slot]) {
+                referenced[slot] = false;
+            } else {
+                keys[slot] = key;
+                return slot;
+            }
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package so.dang.cool.z.internal.memoization;
+
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.LongFunction;
+
+/**
+ * A bounded cache from {@code long} keys to object values.
+ */
+final class LongObjectTable<V> extends LongKeyedTable {
+
+    private final Object[] values;
+
+    LongObjectTable(int maxSize) {
+        super(maxSize);
+        this.values = new Object[capacity()];
+    }
+
+    @SuppressWarnings("unchecked")
+    V computeIfAbsent(long key, LongFunction<? extends V> compute) {
+        int set = setOf(key);
+        StampedLock lock = locks[set];
+
+        long stamp;
+        int slot;
+        Object value;
+        do {
+            stamp = lock.tryOptimisticRead();
+            slot = find(set, key);
+            value = values[Math.max(slot, 0)];
+        } while (!lock.validate(stamp));
+
+        if (slot >= 0) {
+            referenced[slot] = true;
+            return (V) value;
+        }
+
+        V computed = compute.apply(key);
+
+        stamp = lock.writeLock();
+        try {
+            values[claim(set, key)] = computed;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+        return computed;
+    }
+}
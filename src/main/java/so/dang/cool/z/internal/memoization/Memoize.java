@@ -0,0 +1,202 @@
+package so.dang.cool.z.internal.memoization;
+
+import java.util.Objects;
+import java.util.function.DoubleFunction;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleToIntFunction;
+import java.util.function.DoubleToLongFunction;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.IntToLongFunction;
+import java.util.function.IntUnaryOperator;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import java.util.function.LongToDoubleFunction;
+import java.util.function.LongToIntFunction;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * Memoized forms of functions. Memoized functions should be pure; a result is
+ * computed at least once per cached argument and may be computed more than
+ * once when callers race on the same missing argument.
+ */
+public final class Memoize {
+
+    private Memoize() {}
+
+    public static <A, B> Function<A, B> function(
+        Function<A, B> initial,
+        int maxSize
+    ) {
+        Objects.requireNonNull(initial);
+        ClockCache<A, B> cache = new ClockCache<>(maxSize);
+        return (A a) -> cache.computeIfAbsent(a, initial);
+    }
+
+    public static <A> DoubleFunction<A> doubleFunction(
+        DoubleFunction<A> initial,
+        int maxSize
+    ) {
+        Objects.requireNonNull(initial);
+        LongObjectTable<A> table = new LongObjectTable<>(maxSize);
+        LongFunction<A> compute = (long n) -> initial.apply(doubleOf(n));
+        return (double d) -> table.computeIfAbsent(bitsOf(d), compute);
+    }
+
+    public static DoubleToIntFunction doubleToIntFunction(
+        DoubleToIntFunction initial,
+        int maxSize
+    ) {
+        Objects.requireNonNull(initial);
+        LongBitsTable table = new LongBitsTable(maxSize);
+        LongUnaryOperator compute = (long n) -> initial.applyAsInt(doubleOf(n));
+        return (double d) -> (int) table.computeIfAbsent(bitsOf(d), compute);
+    }
+
+    public static DoubleToLongFunction doubleToLongFunction(
+        DoubleToLongFunction initial,
+        int maxSize
+    ) {
+        Objects.requireNonNull(initial);
+        LongBitsTable table = new LongBitsTable(maxSize);
+        LongUnaryOperator compute = (long n) ->
+            initial.applyAsLong(doubleOf(n));
+        return (double d) -> table.computeIfAbsent(bitsOf(d), compute);
+    }
+
+    public static DoubleUnaryOperator doubleUnaryOperator(
+        DoubleUnaryOperator initial,
+        int maxSize
+    ) {
+        Objects.requireNonNull(initial);
+        LongBitsTable table = new LongBitsTable(maxSize);
+        LongUnaryOperator compute = (long n) ->
+            bitsOf(initial.applyAsDouble(doubleOf(n)));
+        return (double d) ->
+            doubleOf(table.computeIfAbsent(bitsOf(d), compute));
+    }
+
+    public static DoublePredicate doublePredicate(
+        DoublePredicate initial,
+        int maxSize
+    ) {
+        Objects.requireNonNull(initial);
+        LongBitsTable table = new LongBitsTable(maxSize);
+        LongUnaryOperator compute = (long n) ->
+            initial.test(doubleOf(n)) ? 1L : 0L;
+        return (double d) -> table.computeIfAbsent(bitsOf(d), compute) != 0L;
+    }
+
+    public static <A> IntFunction<A> intFunction(
+        IntFunction<A> initial,
+        int maxSize
+    ) {
+        Objects.requireNonNull(initial);
+        LongObjectTable<A> table = new LongObjectTable<>(maxSize);
+        LongFunction<A> compute = (long n) -> initial.apply((int) n);
+        return (int i) -> table.computeIfAbsent(i, compute);
+    }
+
+    public static IntToDoubleFunction intToDoubleFunction(
+        IntToDoubleFunction initial,
+        int maxSize
+    ) {
+        Objects.requireNonNull(initial);
+        LongBitsTable table = new LongBitsTable(maxSize);
+        LongUnaryOperator compute = (long n) ->
+            bitsOf(initial.applyAsDouble((int) n));
+        return (int i) -> doubleOf(table.computeIfAbsent(i, compute));
+    }
+
+    public static IntToLongFunction intToLongFunction(
+        IntToLongFunction initial,
+        int maxSize
+    ) {
+        Objects.requireNonNull(initial);
+        LongBitsTable table = new LongBitsTable(maxSize);
+        LongUnaryOperator compute = (long n) -> initial.applyAsLong((int) n);
+        return (int i) -> table.computeIfAbsent(i, compute);
+    }
+
+    public static IntUnaryOperator intUnaryOperator(
+        IntUnaryOperator initial,
+        int maxSize
+    ) {
+        Objects.requireNonNull(initial);
+        LongBitsTable table = new LongBitsTable(maxSize);
+        LongUnaryOperator compute = (long n) -> initial.applyAsInt((int) n);
+        return (int i) -> (int) table.computeIfAbsent(i, compute);
+    }
+
+    public static IntPredicate intPredicate(
+        IntPredicate initial,
+        int maxSize
+    ) {
+        Objects.requireNonNull(initial);
+        LongBitsTable table = new LongBitsTable(maxSize);
+        LongUnaryOperator compute = (long n) -> initial.test((int) n) ? 1L : 0L;
+        return (int i) -> table.computeIfAbsent(i, compute) != 0L;
+    }
+
+    public static <A> LongFunction<A> longFunction(
+        LongFunction<A> initial,
+        int maxSize
+    ) {
+        Objects.requireNonNull(initial);
+        LongObjectTable<A> table = new LongObjectTable<>(maxSize);
+        LongFunction<A> compute = (long n) -> initial.apply(n);
+        return (long n) -> table.computeIfAbsent(n, compute);
+    }
+
+    public static LongToDoubleFunction longToDoubleFunction(
+        LongToDoubleFunction initial,
+        int maxSize
+    ) {
+        Objects.requireNonNull(initial);
+        LongBitsTable table = new LongBitsTable(maxSize);
+        LongUnaryOperator compute = (long n) ->
+            bitsOf(initial.applyAsDouble(n));
+        return (long n) -> doubleOf(table.computeIfAbsent(n, compute));
+    }
+
+    public static LongToIntFunction longToIntFunction(
+        LongToIntFunction initial,
+        int maxSize
+    ) {
+        Objects.requireNonNull(initial);
+        LongBitsTable table = new LongBitsTable(maxSize);
+        LongUnaryOperator compute = (long n) -> initial.applyAsInt(n);
+        return (long n) -> (int) table.computeIfAbsent(n, compute);
+    }
+
+    public static LongUnaryOperator longUnaryOperator(
+        LongUnaryOperator initial,
+        int maxSize
+    ) {
+        Objects.requireNonNull(initial);
+        LongBitsTable table = new LongBitsTable(maxSize);
+        LongUnaryOperator compute = (long n) -> initial.applyAsLong(n);
+        return (long n) -> table.computeIfAbsent(n, compute);
+    }
+
+    public static LongPredicate longPredicate(
+        LongPredicate initial,
+        int maxSize
+    ) {
+        Objects.requireNonNull(initial);
+        LongBitsTable table = new LongBitsTable(maxSize);
+        LongUnaryOperator compute = (long n) -> initial.test(n) ? 1L : 0L;
+        return (long n) -> table.computeIfAbsent(n, compute) != 0L;
+    }
+
+    private static long bitsOf(double d) {
+        return Double.doubleToRawLongBits(d);
+    }
+
+    private static double doubleOf(long bits) {
+        return Double.longBitsToDouble(bits);
+    }
+}
@@ -0,0 +1,81 @@
+package so.dang.cool.z.internal.memoization;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * A supplier that refreshes its value ahead of callers. Only the first call
+ * waits for a value. After that, callers always get the latest value without
+ * locking, and a stale value starts one recomputation on the executor.
+ *
+ * <p>A failed or rejected recomputation leaves the stale value in place, and
+ * the next call tries again.
+ */
+public final class Refreshing<A> implements Supplier<A> {
+
+    private final Supplier<A> initial;
+    private final long refreshAfter;
+    private final Executor executor;
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+    private final Runnable refresh = this::refresh;
+    private volatile Snapshot<A> snapshot;
+
+    private Refreshing(
+        Supplier<A> initial,
+        long refreshAfter,
+        Executor executor
+    ) {
+        this.initial = Objects.requireNonNull(initial);
+        this.refreshAfter = refreshAfter;
+        this.executor = Objects.requireNonNull(executor);
+    }
+
+    public static <A> Refreshing<A> of(
+        Supplier<A> initial,
+        Duration refreshAfter,
+        Executor executor
+    ) {
+        return new Refreshing<>(
+            initial,
+            Snapshot.nanosOf(refreshAfter),
+            executor
+        );
+    }
+
+    @Override
+    public A get() {
+        Snapshot<A> current = snapshot;
+        if (current == null) {
+            return load();
+        }
+        if (!current.isFresh() && refreshing.compareAndSet(false, true)) {
+            try {
+                executor.execute(refresh);
+            } catch (RejectedExecutionException e) {
+                refreshing.set(false);
+            }
+        }
+        return current.value;
+    }
+
+    private synchronized A load() {
+        Snapshot<A> current = snapshot;
+        if (current == null) {
+            current = new Snapshot<>(initial.get(), refreshAfter);
+            snapshot = current;
+        }
+        return current.value;
+    }
+
+    private void refresh() {
+        try {
+            snapshot = new Snapshot<>(initial.get(), refreshAfter);
+        } finally {
+            refreshing.set(false);
+        }
+    }
+}
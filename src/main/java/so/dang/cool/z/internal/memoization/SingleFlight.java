@@ -0,0 +1,69 @@
+package so.dang.cool.z.internal.memoization;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * A function that shares in-flight work. While one caller computes a result
+ * for an argument, other callers with an equal argument wait for that result
+ * instead of computing it again. Nothing is kept once the computation ends.
+ *
+ * <p>A function that calls itself with an equal argument will wait forever.
+ */
+public final class SingleFlight<A, B> implements Function<A, B> {
+
+    private static final Object NULL_KEY = new Object();
+
+    private final Function<A, B> initial;
+    private final ConcurrentHashMap<Object, CompletableFuture<B>> flights =
+        new ConcurrentHashMap<>();
+
+    private SingleFlight(Function<A, B> initial) {
+        this.initial = Objects.requireNonNull(initial);
+    }
+
+    public static <A, B> SingleFlight<A, B> of(Function<A, B> initial) {
+        return new SingleFlight<>(initial);
+    }
+
+    @Override
+    public B apply(A a) {
+        try {
+            return applyAsync(a).join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Computes the result on this thread, or returns the in-flight result of
+     * another caller without waiting for it.
+     */
+    public CompletableFuture<B> applyAsync(A a) {
+        Object key = a == null ? NULL_KEY : a;
+        CompletableFuture<B> flight = new CompletableFuture<>();
+        CompletableFuture<B> leader = flights.putIfAbsent(key, flight);
+        // Copies, so no caller can complete or cancel the others' result.
+        if (leader != null) {
+            return leader.copy();
+        }
+        try {
+            flight.complete(initial.apply(a));
+        } catch (Throwable t) {
+            flight.completeExceptionally(t);
+        } finally {
+            flights.remove(key, flight);
+        }
+        return flight.copy();
+    }
+}
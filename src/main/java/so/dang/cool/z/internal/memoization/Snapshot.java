@@ -0,0 +1,36 @@
+package so.dang.cool.z.internal.memoization;
+
+import java.time.Duration;
+
+/**
+ * An immutable value and the time it goes stale, safely published through a
+ * volatile reference.
+ */
+final class Snapshot<A> {
+
+    // Keeps deadlines far from overflow, and is still over a century.
+    private static final long MAX_NANOS = Long.MAX_VALUE / 2;
+
+    final A value;
+    private final long staleAt;
+
+    Snapshot(A value, long nanos) {
+        this.value = value;
+        this.staleAt = System.nanoTime() + nanos;
+    }
+
+    boolean isFresh() {
+        return System.nanoTime() - staleAt < 0;
+    }
+
+    static long nanosOf(Duration duration) {
+        if (duration.isNegative()) {
+            throw new IllegalArgumentException(
+                "Duration must not be negative, was " + duration
+            );
+        }
+        return duration.compareTo(Duration.ofNanos(MAX_NANOS)) < 0
+            ? duration.toNanos()
+            : MAX_NANOS;
+    }
+}
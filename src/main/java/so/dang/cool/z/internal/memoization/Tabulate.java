@@ -0,0 +1,184 @@
+package so.dang.cool.z.internal.memoization;
+
+import java.util.Objects;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.IntToLongFunction;
+import java.util.function.IntUnaryOperator;
+import so.dang.cool.z.function.BooleanFunction;
+import so.dang.cool.z.function.BooleanPredicate;
+import so.dang.cool.z.function.BooleanToDoubleFunction;
+import so.dang.cool.z.function.BooleanToIntFunction;
+import so.dang.cool.z.function.BooleanToLongFunction;
+
+/**
+ * Tabulated forms of functions. A tabulated function is evaluated once for
+ * every value of its domain up front, then answers with an array load.
+ * Arguments outside of the domain fall back to the original function.
+ *
+ * <p>Functions to tabulate should be pure.
+ */
+public final class Tabulate {
+
+    // The largest array size that is safe on common JVMs.
+    private static final long MAX_SIZE = Integer.MAX_VALUE - 8;
+
+    private Tabulate() {}
+
+    public static <A> IntFunction<A> intFunction(
+        IntFunction<A> initial,
+        int fromInclusive,
+        int toExclusive
+    ) {
+        int size = sizeOf(initial, fromInclusive, toExclusive);
+        Object[] table = new Object[size];
+        for (int index = 0; index < size; index++) {
+            table[index] = initial.apply(fromInclusive + index);
+        }
+        return (int i) -> {
+            int index = i - fromInclusive;
+            return inDomain(index, size)
+                ? Tabulate.<A>cast(table[index])
+                : initial.apply(i);
+        };
+    }
+
+    public static IntToDoubleFunction intToDoubleFunction(
+        IntToDoubleFunction initial,
+        int fromInclusive,
+        int toExclusive
+    ) {
+        int size = sizeOf(initial, fromInclusive, toExclusive);
+        double[] table = new double[size];
+        for (int index = 0; index < size; index++) {
+            table[index] = initial.applyAsDouble(fromInclusive + index);
+        }
+        return (int i) -> {
+            int index = i - fromInclusive;
+            return inDomain(index, size)
+                ? table[index]
+                : initial.applyAsDouble(i);
+        };
+    }
+
+    public static IntToLongFunction intToLongFunction(
+        IntToLongFunction initial,
+        int fromInclusive,
+        int toExclusive
+    ) {
+        int size = sizeOf(initial, fromInclusive, toExclusive);
+        long[] table = new long[size];
+        for (int index = 0; index < size; index++) {
+            table[index] = initial.applyAsLong(fromInclusive + index);
+        }
+        return (int i) -> {
+            int index = i - fromInclusive;
+            return inDomain(index, size)
+                ? table[index]
+                : initial.applyAsLong(i);
+        };
+    }
+
+    public static IntPredicate intPredicate(
+        IntPredicate initial,
+        int fromInclusive,
+        int toExclusive
+    ) {
+        int size = sizeOf(initial, fromInclusive, toExclusive);
+        long[] bits = new long[(size + 63) >>> 6];
+        for (int index = 0; index < size; index++) {
+            if (initial.test(fromInclusive + index)) {
+                bits[index >>> 6] |= 1L << index;
+            }
+        }
+        return (int i) -> {
+            int index = i - fromInclusive;
+            return inDomain(index, size)
+                ? (bits[index >>> 6] & (1L << index)) != 0
+                : initial.test(i);
+        };
+    }
+
+    public static IntUnaryOperator intUnaryOperator(
+        IntUnaryOperator initial,
+        int fromInclusive,
+        int toExclusive
+    ) {
+        int size = sizeOf(initial, fromInclusive, toExclusive);
+        int[] table = new int[size];
+        for (int index = 0; index < size; index++) {
+            table[index] = initial.applyAsInt(fromInclusive + index);
+        }
+        return (int i) -> {
+            int index = i - fromInclusive;
+            return inDomain(index, size)
+                ? table[index]
+                : initial.applyAsInt(i);
+        };
+    }
+
+    public static <A> BooleanFunction<A> booleanFunction(
+        BooleanFunction<A> initial
+    ) {
+        A whenTrue = initial.apply(true);
+        A whenFalse = initial.apply(false);
+        return (boolean b) -> b ? whenTrue : whenFalse;
+    }
+
+    public static BooleanToDoubleFunction booleanToDoubleFunction(
+        BooleanToDoubleFunction initial
+    ) {
+        double whenTrue = initial.applyAsDouble(true);
+        double whenFalse = initial.applyAsDouble(false);
+        return (boolean b) -> b ? whenTrue : whenFalse;
+    }
+
+    public static BooleanToIntFunction booleanToIntFunction(
+        BooleanToIntFunction initial
+    ) {
+        int whenTrue = initial.applyAsInt(true);
+        int whenFalse = initial.applyAsInt(false);
+        return (boolean b) -> b ? whenTrue : whenFalse;
+    }
+
+    public static BooleanToLongFunction booleanToLongFunction(
+        BooleanToLongFunction initial
+    ) {
+        long whenTrue = initial.applyAsLong(true);
+        long whenFalse = initial.applyAsLong(false);
+        return (boolean b) -> b ? whenTrue : whenFalse;
+    }
+
+    public static BooleanPredicate booleanPredicate(BooleanPredicate initial) {
+        boolean whenTrue = initial.test(true);
+        boolean whenFalse = initial.test(false);
+        return (boolean b) -> b ? whenTrue : whenFalse;
+    }
+
+    private static int sizeOf(
+        Object initial,
+        int fromInclusive,
+        int toExclusive
+    ) {
+        Objects.requireNonNull(initial);
+        long size = (long) toExclusive - fromInclusive;
+        if (size < 0 || size > MAX_SIZE) {
+            throw new IllegalArgumentException(
+                "Cannot tabulate [" + fromInclusive + ", " + toExclusive + ")"
+            );
+        }
+        return (int) size;
+    }
+
+    // Arguments below the domain wrap around to large unsigned indexes, so
+    // one unsigned comparison checks both bounds.
+    private static boolean inDomain(int index, int size) {
+        return Integer.compareUnsigned(index, size) < 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <A> A cast(Object value) {
+        return (A) value;
+    }
+}
@@ -0,0 +1,230 @@
+package so.dang.cool.z.arithmetic;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.IntUnaryOperator;
+import java.util.function.LongUnaryOperator;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.Test;
+import so.dang.cool.z.Z;
+
+public class ArithmeticTests {
+
+    private static final double[] DOUBLES = DoubleStream
+        .iterate(-1500.0, d -> d + 0.75)
+        .limit(4000)
+        .toArray();
+
+    private static final int[] INTS = IntStream.range(-2000, 2000).toArray();
+
+    private static final long[] LONGS = LongStream
+        .range(-2000L, 2000L)
+        .toArray();
+
+    /* Stages */
+
+    @Test
+    void dblArithmetic() {
+        assertEquals(3.0, DoubleArithmetic.scale(1.5).applyAsDouble(2.0));
+        assertEquals(3.5, DoubleArithmetic.offset(1.5).applyAsDouble(2.0));
+        assertEquals(1.0, DoubleArithmetic.clamp(0.0, 1.0).applyAsDouble(2.0));
+        assertEquals(0.0, DoubleArithmetic.clamp(0.0, 1.0).applyAsDouble(-2.0));
+        assertEquals(2.0, DoubleArithmetic.abs().applyAsDouble(-2.0));
+        assertEquals(ArithmeticOp.CLAMP, DoubleArithmetic.clamp(0, 1).op());
+        assertEquals(1.0, DoubleArithmetic.clamp(0, 1).b());
+    }
+
+    @Test
+    void dblArithmetic_badClamp() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> DoubleArithmetic.clamp(1.0, 0.0)
+        );
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> DoubleArithmetic.clamp(Double.NaN, 0.0)
+        );
+    }
+
+    @Test
+    void intArithmetic() {
+        assertEquals(6, IntArithmetic.scale(3).applyAsInt(2));
+        assertEquals(5, IntArithmetic.offset(3).applyAsInt(2));
+        assertEquals(1, IntArithmetic.clamp(0, 1).applyAsInt(2));
+        assertEquals(0, IntArithmetic.clamp(0, 1).applyAsInt(-2));
+        assertEquals(2, IntArithmetic.abs().applyAsInt(-2));
+        assertEquals(ArithmeticOp.SCALE, IntArithmetic.scale(3).op());
+        assertEquals(3, IntArithmetic.scale(3).a());
+        assertEquals(0, IntArithmetic.scale(3).b());
+    }
+
+    @Test
+    void intArithmetic_badClamp() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> IntArithmetic.clamp(1, 0)
+        );
+    }
+
+    /* Bulk application */
+
+    @Test
+    void applyAll_dblArithmetic() {
+        var fused = Z
+            .fuse(DoubleArithmetic.abs())
+            .fuse(DoubleArithmetic.scale(0.5))
+            .fuse(DoubleArithmetic.offset(-100.0))
+            .fuse(DoubleArithmetic.clamp(0.0, 250.0));
+
+        double[] out = fused.applyAll(DOUBLES, new double[DOUBLES.length]);
+
+        for (int i = 0; i < DOUBLES.length; i++) {
+            assertEquals(fused.applyAsDouble(DOUBLES[i]), out[i]);
+        }
+    }
+
+    @Test
+    void applyAll_intArithmetic() {
+        var fused = Z
+            .fuse(IntArithmetic.abs())
+            .fuse(IntArithmetic.scale(3))
+            .fuse(IntArithmetic.offset(-100))
+            .fuse(IntArithmetic.clamp(0, 2500));
+
+        int[] values = INTS.clone();
+        assertSame(values, fused.applyAll(values));
+
+        for (int i = 0; i < INTS.length; i++) {
+            assertEquals(fused.applyAsInt(INTS[i]), values[i]);
+        }
+    }
+
+    @Test
+    void applyAll_longArithmetic() {
+        var fused = Z
+            .fuse(LongArithmetic.abs())
+            .fuse(LongArithmetic.scale(3L))
+            .fuse(LongArithmetic.clamp(0L, 2500L))
+            .fuse(LongArithmetic.offset(-100L));
+
+        long[] out = fused.applyAll(LONGS, new long[LONGS.length]);
+
+        for (int i = 0; i < LONGS.length; i++) {
+            assertEquals(fused.applyAsLong(LONGS[i]), out[i]);
+        }
+    }
+
+    @Test
+    void applyAll_range() {
+        var fused = Z.fuse(IntArithmetic.offset(1));
+        int[] out = new int[4];
+
+        fused.applyAll(new int[] { 1, 2, 3, 4 }, 1, out, 2, 2);
+        assertArrayEquals(new int[] { 0, 0, 3, 4 }, out);
+        assertThrows(
+            IndexOutOfBoundsException.class,
+            () -> fused.applyAll(new int[] { 1, 2 }, 1, out, 0, 2)
+        );
+    }
+
+    /* Kernels */
+
+    @Test
+    void useKernel() {
+        AtomicInteger calls = new AtomicInteger();
+        ArithmeticKernel counting = new ArithmeticKernel() {
+            @Override
+            public double[] applyAll(
+                DoubleArithmetic[] program,
+                double[] in,
+                int inOffset,
+                double[] out,
+                int outOffset,
+                int length
+            ) {
+                calls.incrementAndGet();
+                return Arithmetic
+                    .scalarKernel()
+                    .applyAll(program, in, inOffset, out, outOffset, length);
+            }
+
+            @Override
+            public int[] applyAll(
+                IntArithmetic[] program,
+                int[] in,
+                int inOffset,
+                int[] out,
+                int outOffset,
+                int length
+            ) {
+                calls.incrementAndGet();
+                return Arithmetic
+                    .scalarKernel()
+                    .applyAll(program, in, inOffset, out, outOffset, length);
+            }
+
+            @Override
+            public long[] applyAll(
+                LongArithmetic[] program,
+                long[] in,
+                int inOffset,
+                long[] out,
+                int outOffset,
+                int length
+            ) {
+                calls.incrementAndGet();
+                return Arithmetic
+                    .scalarKernel()
+                    .applyAll(program, in, inOffset, out, outOffset, length);
+            }
+        };
+
+        ArithmeticKernel previous = Arithmetic.useKernel(counting);
+        try {
+            assertSame(counting, Arithmetic.kernel());
+
+            Z.fuse(IntArithmetic.abs()).applyAll(new int[] { -1 });
+            Z.fuse(DoubleArithmetic.abs()).applyAll(new double[] { -1.0 });
+            Z.fuse(LongArithmetic.abs()).applyAll(new long[] { -1L });
+            assertEquals(3, calls.get());
+        } finally {
+            Arithmetic.useKernel(previous);
+        }
+    }
+
+    @Test
+    void unknownStages_fallBack() {
+        AtomicInteger calls = new AtomicInteger();
+        IntUnaryOperator opaque = i -> {
+            calls.incrementAndGet();
+            return i;
+        };
+        DoubleUnaryOperator half = d -> d / 2.0;
+        LongUnaryOperator negate = n -> -n;
+
+        int[] ints = Z
+            .fuse(IntArithmetic.scale(2))
+            .fuse(opaque)
+            .applyAll(INTS.clone());
+        double[] doubles = Z
+            .fuse(DoubleArithmetic.scale(3.0))
+            .fuse(half)
+            .applyAll(new double[] { 1.0 });
+        long[] longs = Z
+            .fuse(LongArithmetic.offset(1L))
+            .fuse(negate)
+            .applyAll(new long[] { 1L });
+
+        assertEquals(INTS.length, calls.get());
+        assertEquals(-4000, ints[0]);
+        assertArrayEquals(new double[] { 1.5 }, doubles);
+        assertArrayEquals(new long[] { -2L }, longs);
+    }
+}
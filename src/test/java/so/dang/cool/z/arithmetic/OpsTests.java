@@ -0,0 +1,327 @@
+package so.dang.cool.z.arithmetic;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.IntUnaryOperator;
+import java.util.function.LongUnaryOperator;
+import org.junit.jupiter.api.Test;
+import so.dang.cool.z.Z;
+
+public class OpsTests {
+
+    private static final Ops ops = Z.ops;
+
+    /* int */
+
+    @Test
+    void addInt_folds() {
+        IntUnaryOperator[] folded = IntArithmetic.fold(
+            new IntUnaryOperator[] { ops.addInt(2), ops.addInt(3) }
+        );
+
+        assertEquals(1, folded.length);
+        assertEquals(ArithmeticOp.OFFSET, ((IntArithmetic) folded[0]).op());
+        assertEquals(5, ((IntArithmetic) folded[0]).a());
+    }
+
+    @Test
+    void mulInt_addInt_foldToAffine() {
+        IntUnaryOperator[] folded = IntArithmetic.fold(
+            new IntUnaryOperator[] {
+                ops.mulInt(2),
+                ops.addInt(4),
+                ops.mulInt(3),
+            }
+        );
+
+        IntArithmetic affine = (IntArithmetic) folded[0];
+        assertEquals(1, folded.length);
+        assertEquals(ArithmeticOp.AFFINE, affine.op());
+        assertEquals(6, affine.a());
+        assertEquals(12, affine.b());
+        assertEquals(18, affine.applyAsInt(1));
+    }
+
+    @Test
+    void shiftLeftInt_foldsAsScale() {
+        var fused = Z.fuse(ops.shiftLeftInt(3)).fuse(ops.mulInt(5));
+
+        assertEquals(40, fused.applyAsInt(1));
+        assertEquals(7 << 3, ops.shiftLeftInt(3).applyAsInt(7));
+        assertEquals(-8, ops.shiftLeftInt(31).applyAsInt(-1) >> 28);
+    }
+
+    @Test
+    void clampInt_folds() {
+        IntUnaryOperator[] folded = IntArithmetic.fold(
+            new IntUnaryOperator[] { ops.clampInt(0, 10), ops.clampInt(5, 20) }
+        );
+
+        IntArithmetic clamp = (IntArithmetic) folded[0];
+        assertEquals(1, folded.length);
+        assertEquals(5, clamp.a());
+        assertEquals(10, clamp.b());
+    }
+
+    @Test
+    void clampInt_disjointFoldsToConstant() {
+        IntUnaryOperator[] folded = IntArithmetic.fold(
+            new IntUnaryOperator[] { ops.clampInt(0, 10), ops.clampInt(20, 30) }
+        );
+
+        assertEquals(20, folded[0].applyAsInt(-5));
+        assertEquals(20, folded[0].applyAsInt(50));
+    }
+
+    @Test
+    void absInt_folds() {
+        IntUnaryOperator[] folded = IntArithmetic.fold(
+            new IntUnaryOperator[] { ops.absInt(), ops.absInt() }
+        );
+
+        assertEquals(1, folded.length);
+        assertSame(ops.absInt(), folded[0]);
+    }
+
+    @Test
+    void fold_int_keepsUnfoldable() {
+        IntUnaryOperator opaque = i -> i ^ 1;
+        IntUnaryOperator[] stages = {
+            ops.addInt(1),
+            opaque,
+            ops.absInt(),
+            ops.clampInt(0, 1),
+            ops.mulInt(2),
+        };
+
+        assertSame(stages, IntArithmetic.fold(stages));
+    }
+
+    @Test
+    void intChain_matchesUnfolded() {
+        IntUnaryOperator[] stages = {
+            ops.mulInt(7),
+            ops.addInt(-3),
+            ops.shiftLeftInt(2),
+            ops.clampInt(-1000, 1000),
+            ops.clampInt(-10, 5000),
+            ops.absInt(),
+            ops.absInt(),
+            ops.addInt(Integer.MAX_VALUE),
+            ops.mulInt(3),
+        };
+        var fused = Z.fuse(stages[0]);
+        for (int s = 1; s < stages.length; s++) {
+            fused = fused.fuse(stages[s]);
+        }
+
+        Random random = new Random(18);
+        for (int n = 0; n < 10_000; n++) {
+            int value = random.nextInt();
+            int expected = value;
+            for (IntUnaryOperator stage : stages) {
+                expected = stage.applyAsInt(expected);
+            }
+            assertEquals(expected, fused.applyAsInt(value));
+        }
+    }
+
+    /* long */
+
+    @Test
+    void longOps_fold() {
+        LongUnaryOperator[] folded = LongArithmetic.fold(
+            new LongUnaryOperator[] {
+                ops.mulLong(2L),
+                ops.addLong(4L),
+                ops.mulLong(3L),
+                ops.clampLong(0L, 100L),
+                ops.clampLong(50L, 1_000L),
+                ops.absLong(),
+                ops.absLong(),
+            }
+        );
+
+        assertEquals(3, folded.length);
+        assertEquals(ArithmeticOp.AFFINE, ((LongArithmetic) folded[0]).op());
+        assertEquals(50L, ((LongArithmetic) folded[1]).a());
+        assertEquals(100L, ((LongArithmetic) folded[1]).b());
+        assertEquals(ArithmeticOp.ABS, ((LongArithmetic) folded[2]).op());
+    }
+
+    @Test
+    void longChain_matchesUnfolded() {
+        LongUnaryOperator opaque = n -> n ^ 0x5555L;
+        LongUnaryOperator[] stages = {
+            ops.shiftLeftLong(40),
+            ops.mulLong(-3L),
+            ops.addLong(11L),
+            opaque,
+            ops.addLong(1L),
+            ops.clampLong(-1L << 50, 1L << 50),
+            ops.absLong(),
+        };
+        var fused = Z.fuse(stages[0]);
+        for (int s = 1; s < stages.length; s++) {
+            fused = fused.fuse(stages[s]);
+        }
+
+        Random random = new Random(18);
+        for (int n = 0; n < 10_000; n++) {
+            long value = random.nextLong();
+            long expected = value;
+            for (LongUnaryOperator stage : stages) {
+                expected = stage.applyAsLong(expected);
+            }
+            assertEquals(expected, fused.applyAsLong(value));
+        }
+    }
+
+    @Test
+    void longArithmetic() {
+        assertEquals(6L, LongArithmetic.scale(3L).applyAsLong(2L));
+        assertEquals(5L, LongArithmetic.offset(3L).applyAsLong(2L));
+        assertEquals(7L, LongArithmetic.affine(3L, 1L).applyAsLong(2L));
+        assertEquals(1L, LongArithmetic.clamp(0L, 1L).applyAsLong(2L));
+        assertEquals(2L, LongArithmetic.abs().applyAsLong(-2L));
+        assertEquals(ArithmeticOp.OFFSET, LongArithmetic.affine(1L, 3L).op());
+        assertEquals(ArithmeticOp.SCALE, LongArithmetic.affine(3L, 0L).op());
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> LongArithmetic.clamp(1L, 0L)
+        );
+    }
+
+    /* double */
+
+    @Test
+    void doubleOps_foldClampsAndAbsOnly() {
+        DoubleUnaryOperator[] folded = DoubleArithmetic.fold(
+            new DoubleUnaryOperator[] {
+                ops.addDouble(0.1),
+                ops.addDouble(0.2),
+                ops.clampDouble(0.0, 1.0),
+                ops.clampDouble(0.5, 2.0),
+                ops.absDouble(),
+                ops.absDouble(),
+                ops.mulDouble(3.0),
+            }
+        );
+
+        assertEquals(5, folded.length);
+        assertEquals(0.5, ((DoubleArithmetic) folded[2]).a());
+        assertEquals(1.0, ((DoubleArithmetic) folded[2]).b());
+    }
+
+    @Test
+    void fold_double_keepsUnfoldable() {
+        DoubleUnaryOperator opaque = d -> d;
+        DoubleUnaryOperator[] stages = { ops.absDouble(), opaque };
+
+        assertSame(stages, DoubleArithmetic.fold(stages));
+    }
+
+    @Test
+    void fmaDouble() {
+        assertEquals(7.0, ops.fmaDouble(3.0, 1.0).applyAsDouble(2.0));
+        assertEquals(
+            Math.fma(0.1, 0.2, 0.3),
+            ops.fmaDouble(0.2, 0.3).applyAsDouble(0.1)
+        );
+    }
+
+    /* Bulk application of folded chains */
+
+    @Test
+    void applyAll_foldedChains() {
+        AtomicReference<Object[]> programs = new AtomicReference<>();
+        ArithmeticKernel capturing = new ArithmeticKernel() {
+            @Override
+            public double[] applyAll(
+                DoubleArithmetic[] program,
+                double[] in,
+                int inOffset,
+                double[] out,
+                int outOffset,
+                int length
+            ) {
+                programs.set(program);
+                return Arithmetic
+                    .scalarKernel()
+                    .applyAll(program, in, inOffset, out, outOffset, length);
+            }
+
+            @Override
+            public int[] applyAll(
+                IntArithmetic[] program,
+                int[] in,
+                int inOffset,
+                int[] out,
+                int outOffset,
+                int length
+            ) {
+                programs.set(program);
+                return Arithmetic
+                    .scalarKernel()
+                    .applyAll(program, in, inOffset, out, outOffset, length);
+            }
+
+            @Override
+            public long[] applyAll(
+                LongArithmetic[] program,
+                long[] in,
+                int inOffset,
+                long[] out,
+                int outOffset,
+                int length
+            ) {
+                programs.set(program);
+                return Arithmetic
+                    .scalarKernel()
+                    .applyAll(program, in, inOffset, out, outOffset, length);
+            }
+        };
+
+        ArithmeticKernel previous = Arithmetic.useKernel(capturing);
+        try {
+            int[] ints = Z
+                .fuse(ops.mulInt(2))
+                .fuse(ops.addInt(4))
+                .fuse(ops.mulInt(3))
+                .applyAll(new int[] { 0, 1, 2 });
+            assertArrayEquals(new int[] { 12, 18, 24 }, ints);
+            assertEquals(1, programs.get().length);
+
+            int[] scaled = Z
+                .fuse(ops.shiftLeftInt(1))
+                .fuse(ops.absInt())
+                .applyAll(new int[] { -1, 2 });
+            assertArrayEquals(new int[] { 2, 4 }, scaled);
+            assertEquals(2, programs.get().length);
+
+            double[] doubles = Z
+                .fuse(ops.fmaDouble(2.0, 1.0))
+                .fuse(ops.clampDouble(0.0, 4.0))
+                .fuse(ops.clampDouble(2.0, 8.0))
+                .applyAll(new double[] { -1.0, 1.0, 2.0 });
+            assertArrayEquals(new double[] { 2.0, 3.0, 4.0 }, doubles);
+            assertEquals(2, programs.get().length);
+
+            long[] longs = Z
+                .fuse(ops.mulLong(2L))
+                .fuse(ops.addLong(4L))
+                .fuse(ops.absLong())
+                .applyAll(new long[] { -5L, 1L });
+            assertArrayEquals(new long[] { 6L, 6L }, longs);
+            assertEquals(2, programs.get().length);
+        } finally {
+            Arithmetic.useKernel(previous);
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package so.dang.cool.z.async;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import so.dang.cool.z.Z;
+import so.dang.cool.z.internal.combination.Combine.WithAsyncFunction;
+
+public class AsyncFusionTests {
+
+    private final ExecutorService io = Executors.newFixedThreadPool(
+        2,
+        (Runnable task) -> new Thread(task, "io")
+    );
+
+    private final ExecutorService cpu = Executors.newFixedThreadPool(
+        2,
+        (Runnable task) -> new Thread(task, "cpu")
+    );
+
+    @AfterEach
+    void shutdown() {
+        io.shutdown();
+        cpu.shutdown();
+    }
+
+    private static <A> Function<A, A> recordThread(List<String> threads) {
+        return (A a) -> {
+            threads.add(Thread.currentThread().getName());
+            return a;
+        };
+    }
+
+    @Test
+    void fuseAsync() throws Exception {
+        Function<String, Integer> parse = Integer::parseInt;
+        Function<Integer, Integer> lookup = i -> i * 10;
+        Function<Integer, String> render = i -> "<" + i + ">";
+
+        CompletableFuture<String> result = Z
+            .fuse(parse)
+            .fuseAsync(lookup, io)
+            .fuse(render)
+            .apply("4");
+
+        assertEquals("<40>", result.get());
+    }
+
+    @Test
+    void fuseAsync_runsStagesInOrderOnTheirExecutors() throws Exception {
+        List<String> threads = Collections.synchronizedList(new ArrayList<>());
+        String caller = Thread.currentThread().getName();
+
+        var fused = Z
+            .fuse(recordThread(threads))
+            .fuse(recordThread(threads))
+            .fuseAsync(recordThread(threads), io)
+            .fuse(recordThread(threads))
+            .fuseAsync(recordThread(threads), cpu)
+            .fuseFunction(recordThread(threads));
+
+        assertEquals("x", fused.apply("x").get());
+        assertEquals(
+            List.of(caller, caller, "io", "io", "cpu", "cpu"),
+            threads
+        );
+    }
+
+    @Test
+    void fuseAsync_oneTaskPerBoundary() throws Exception {
+        AtomicInteger tasks = new AtomicInteger();
+        Executor counting = (Runnable task) -> {
+            tasks.incrementAndGet();
+            io.execute(task);
+        };
+        Function<Integer, Integer> inc = i -> i + 1;
+
+        var fused = Z
+            .fuse(inc)
+            .fuseAsync(inc, counting)
+            .fuse(inc)
+            .fuse(inc)
+            .fuse(inc)
+            .fuseAsync(inc, counting)
+            .fuse(inc);
+
+        assertEquals(7, fused.apply(0).get());
+        assertEquals(2, tasks.get());
+    }
+
+    @Test
+    void fuseAsync_withoutBoundaries() throws Exception {
+        Function<Integer, Integer> inc = i -> i + 1;
+        List<String> threads = new ArrayList<>();
+
+        var fused = WithAsyncFunction.of(inc).fuse(recordThread(threads));
+
+        CompletableFuture<Integer> result = fused.apply(1);
+        assertTrue(result.isDone());
+        assertEquals(2, result.get());
+        assertEquals(List.of(Thread.currentThread().getName()), threads);
+        assertSame(fused, fused.resolve());
+    }
+
+    @Test
+    void fuseAsync_failures() {
+        Function<String, Integer> parse = Integer::parseInt;
+        Function<Integer, Integer> fail = i -> {
+            throw new IllegalStateException("boom " + i);
+        };
+        Function<Integer, Integer> inc = i -> i + 1;
+
+        CompletableFuture<Integer> early = Z
+            .fuse(parse)
+            .fuseAsync(inc, io)
+            .apply("not a number");
+        ExecutionException parsing = assertThrows(
+            ExecutionException.class,
+            early::get
+        );
+        assertTrue(parsing.getCause() instanceof NumberFormatException);
+
+        CompletableFuture<Integer> late = Z
+            .fuse(parse)
+            .fuseAsync(fail, io)
+            .fuse(inc)
+            .apply("3");
+        CompletionException failed = assertThrows(
+            CompletionException.class,
+            late::join
+        );
+        assertEquals("boom 3", failed.getCause().getMessage());
+
+        assertThrows(
+            NullPointerException.class,
+            () -> Z.fuse(parse).fuseAsync(inc, null)
+        );
+    }
+
+    @Test
+    void fuseAsync_doesNotBlockCaller() throws Exception {
+        CompletableFuture<Void> gate = new CompletableFuture<>();
+        Function<Integer, Integer> blocking = i -> {
+            gate.join();
+            return i;
+        };
+        Function<Integer, Integer> same = i -> i;
+
+        CompletableFuture<Integer> result = Z
+            .fuse(same)
+            .fuseAsync(blocking, io)
+            .apply(5);
+
+        assertFalse(result.isDone());
+        gate.complete(null);
+        assertEquals(5, result.get());
+    }
+}
@@ -0,0 +1,355 @@
+package so.dang.cool.z.async;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import so.dang.cool.z.Z;
+
+public class BatchingSinkTests {
+
+    private static final Duration LONG = Duration.ofMinutes(1);
+    private static final Duration SHORT = Duration.ofMillis(5);
+
+    private final ExecutorService producers = Executors.newFixedThreadPool(4);
+
+    private final List<List<String>> batches = Collections.synchronizedList(
+        new ArrayList<>()
+    );
+
+    private final Consumer<List<String>> collect = batches::add;
+
+    @AfterEach
+    void shutdown() {
+        producers.shutdown();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T extends Throwable> void sneakyThrow(Throwable t)
+        throws T {
+        throw (T) t;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(10, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Test
+    void batchingConsumer_flush() {
+        try (var sink = Z.batchingConsumer(collect, 8, LONG)) {
+            sink.accept("a");
+            sink.accept("b");
+            assertTrue(batches.isEmpty());
+
+            sink.flush();
+            assertEquals(List.of(List.of("a", "b")), batches);
+
+            sink.flush();
+            assertEquals(1, batches.size());
+        }
+    }
+
+    @Test
+    void batchingConsumer_fullBatches() {
+        CountDownLatch flushed = new CountDownLatch(2);
+        Consumer<List<String>> bulk = (List<String> batch) -> {
+            batches.add(batch);
+            flushed.countDown();
+        };
+
+        try (var sink = Z.batchingConsumer(bulk, 2, LONG)) {
+            for (String value : List.of("a", "b", "c", "d", "e")) {
+                sink.accept(value);
+            }
+
+            await(flushed);
+            assertEquals(List.of("a", "b"), batches.get(0));
+            assertEquals(List.of("c", "d"), batches.get(1));
+        }
+        assertEquals(List.of("e"), batches.get(2));
+    }
+
+    @Test
+    void batchingConsumer_afterWindow() {
+        CountDownLatch flushed = new CountDownLatch(1);
+        Consumer<List<String>> bulk = (List<String> batch) -> {
+            batches.add(batch);
+            flushed.countDown();
+        };
+
+        try (var sink = Z.batchingConsumer(bulk, 100, SHORT)) {
+            sink.accept("a");
+
+            await(flushed);
+            assertEquals(List.of(List.of("a")), batches);
+        }
+    }
+
+    @Test
+    void batchingConsumer_inChains() {
+        try (var sink = Z.batchingConsumer(collect, 8, LONG)) {
+            var trimmed = Z.fuse(String::trim).fuse(sink);
+
+            trimmed.accept(" a ");
+            trimmed.accept(" b ");
+            sink.flush();
+
+            assertEquals(List.of(List.of("a", "b")), batches);
+        }
+    }
+
+    @Test
+    void batchingConsumer_manyProducers() throws Exception {
+        List<Future<?>> done = new ArrayList<>();
+        try (var sink = Z.batchingConsumer(collect, 16, SHORT)) {
+            for (int p = 0; p < 4; p++) {
+                int producer = p;
+                done.add(
+                    producers.submit(
+                        () -> {
+                            for (int i = 0; i < 1_000; i++) {
+                                sink.accept(producer + ":" + i);
+                            }
+                        }
+                    )
+                );
+            }
+            for (Future<?> each : done) {
+                each.get();
+            }
+        }
+
+        List<String> all = batches
+            .stream()
+            .flatMap(List::stream)
+            .collect(Collectors.toList());
+        assertEquals(4_000, all.size());
+        assertEquals(4_000, Set.copyOf(all).size());
+        assertTrue(batches.stream().allMatch(batch -> batch.size() <= 16));
+    }
+
+    @Test
+    void batchingConsumer_closeWhileAccepting() throws Exception {
+        var sink = Z.batchingConsumer(collect, 4, SHORT);
+        List<Future<Integer>> accepted = new ArrayList<>();
+        for (int p = 0; p < 4; p++) {
+            accepted.add(
+                producers.submit(
+                    () -> {
+                        int count = 0;
+                        try {
+                            while (true) {
+                                sink.accept("value");
+                                count++;
+                            }
+                        } catch (IllegalStateException closed) {
+                            return count;
+                        }
+                    }
+                )
+            );
+        }
+        Thread.sleep(20);
+        sink.close();
+
+        int total = 0;
+        for (Future<Integer> each : accepted) {
+            total += each.get(10, TimeUnit.SECONDS);
+        }
+        assertEquals(total, batches.stream().mapToInt(List::size).sum());
+    }
+
+    @Test
+    void batchingConsumer_backpressure() throws Exception {
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Consumer<List<String>> bulk = (List<String> batch) -> {
+            blocked.countDown();
+            await(release);
+            batches.add(batch);
+        };
+
+        // One batch in flight, and room for four more values in the ring.
+        try (var sink = Z.batchingConsumer(bulk, 1, LONG)) {
+            sink.accept("first");
+            await(blocked);
+
+            Future<?> filling = producers.submit(
+                () -> {
+                    for (int i = 0; i < 5; i++) {
+                        sink.accept("then" + i);
+                    }
+                }
+            );
+            assertThrows(
+                TimeoutException.class,
+                () -> filling.get(50, TimeUnit.MILLISECONDS)
+            );
+
+            release.countDown();
+            filling.get(10, TimeUnit.SECONDS);
+        }
+        assertEquals(6, batches.size());
+    }
+
+    @Test
+    void batchingConsumer_flushWhileInterrupted() throws Exception {
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Consumer<List<String>> bulk = (List<String> batch) -> {
+            blocked.countDown();
+            await(release);
+            batches.add(batch);
+        };
+
+        try (var sink = Z.batchingConsumer(bulk, 1, LONG)) {
+            sink.accept("a");
+            await(blocked);
+            producers.submit(
+                () -> {
+                    Thread.sleep(50);
+                    release.countDown();
+                    return null;
+                }
+            );
+
+            Thread.currentThread().interrupt();
+            sink.flush();
+
+            assertTrue(Thread.interrupted());
+            assertEquals(List.of(List.of("a")), batches);
+        }
+    }
+
+    @Test
+    void batchingConsumer_failures() {
+        IllegalStateException failure = new IllegalStateException("full");
+        Consumer<List<String>> bulk = (List<String> batch) -> {
+            throw failure;
+        };
+
+        var sink = Z.batchingConsumer(bulk, 8, LONG);
+        sink.accept("a");
+        assertSame(
+            failure,
+            assertThrows(IllegalStateException.class, sink::flush)
+        );
+        sink.flush();
+
+        sink.accept("b");
+        assertSame(
+            failure,
+            assertThrows(IllegalStateException.class, sink::close)
+        );
+        sink.close();
+
+        assertThrows(IllegalStateException.class, () -> sink.accept("c"));
+    }
+
+    @Test
+    void batchingConsumer_errorsAndCheckedFailures() {
+        AssertionError error = new AssertionError("bad");
+        Exception checked = new Exception("checked");
+
+        var erring = Z.batchingConsumer(
+            (List<String> batch) -> {
+                throw error;
+            },
+            8,
+            LONG
+        );
+        erring.accept("a");
+        assertSame(error, assertThrows(AssertionError.class, erring::close));
+
+        var throwing = Z.batchingConsumer(
+            (List<String> batch) -> sneakyThrow(checked),
+            8,
+            LONG
+        );
+        throwing.accept("a");
+        assertSame(
+            checked,
+            assertThrows(CompletionException.class, throwing::close).getCause()
+        );
+    }
+
+    @Test
+    void batchingConsumer_invalid() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> Z.batchingConsumer(collect, 0, LONG)
+        );
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> Z.batchingConsumer(collect, 1 << 29, LONG)
+        );
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> Z.batchingConsumer(collect, 1, Duration.ofMillis(-1))
+        );
+        assertThrows(
+            NullPointerException.class,
+            () -> Z.batchingConsumer(null, 1, LONG)
+        );
+    }
+
+    @Test
+    void batchingIntConsumer() {
+        List<String> ints = new ArrayList<>();
+        try (
+            var sink = Z.batchingIntConsumer(
+                (int[] batch, int count) ->
+                    ints.add(Arrays.toString(Arrays.copyOf(batch, count))),
+                3,
+                LONG
+            )
+        ) {
+            IntStream.range(0, 4).forEach(sink);
+            sink.flush();
+
+            assertEquals(List.of("[0, 1, 2]", "[3]"), ints);
+        }
+    }
+
+    @Test
+    void batchingLongConsumer() {
+        List<String> longs = new ArrayList<>();
+        try (
+            var sink = Z.batchingLongConsumer(
+                (long[] batch, int count) ->
+                    longs.add(Arrays.toString(Arrays.copyOf(batch, count))),
+                3,
+                LONG
+            )
+        ) {
+            Z.fuse((String s) -> Long.parseLong(s)).fuse(sink).accept("7");
+            sink.accept(8L);
+            sink.flush();
+
+            assertEquals(List.of("[7, 8]"), longs);
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package so.dang.cool.z.async;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import so.dang.cool.z.Z;
+
+public class BatchingTests {
+
+    private static final Duration LONG = Duration.ofMinutes(1);
+    private static final Duration SHORT = Duration.ofMillis(5);
+
+    private final ExecutorService callers = Executors.newFixedThreadPool(4);
+
+    private final List<List<String>> batches = Collections.synchronizedList(
+        new ArrayList<>()
+    );
+
+    private final Function<List<String>, Map<String, Integer>> lengths = (
+        List<String> keys
+    ) -> {
+        batches.add(keys);
+        return keys
+            .stream()
+            .filter(key -> !key.equals("missing"))
+            .collect(Collectors.toMap(key -> key, String::length));
+    };
+
+    @AfterEach
+    void shutdown() {
+        callers.shutdown();
+    }
+
+    @Test
+    void batchingAsync_dispatchesFullBatches() {
+        var length = Z.batchingAsync(lengths, 3, LONG, Runnable::run);
+
+        CompletableFuture<Integer> a = length.apply("a");
+        CompletableFuture<Integer> bb = length.apply("bb");
+        assertFalse(a.isDone());
+        assertTrue(batches.isEmpty());
+
+        CompletableFuture<Integer> ccc = length.apply("ccc");
+        assertEquals(1, a.join());
+        assertEquals(2, bb.join());
+        assertEquals(3, ccc.join());
+        assertEquals(List.of(List.of("a", "bb", "ccc")), batches);
+    }
+
+    @Test
+    void batchingAsync_deduplicatesKeys() {
+        var length = Z.batchingAsync(lengths, 2, LONG, Runnable::run);
+
+        CompletableFuture<Integer> first = length.apply("a");
+        CompletableFuture<Integer> again = length.apply("a");
+        assertTrue(first.cancel(true));
+
+        length.apply("bb");
+        assertEquals(1, again.join());
+        assertTrue(first.isCancelled());
+        assertEquals(List.of(List.of("a", "bb")), batches);
+    }
+
+    @Test
+    void batchingAsync_dispatchesAfterWindow() {
+        var length = Z.batchingAsync(lengths, 100, SHORT);
+
+        CompletableFuture<Integer> a = length.apply("a");
+        CompletableFuture<Integer> bb = length.apply("bb");
+
+        assertEquals(1, a.join());
+        assertEquals(2, bb.join());
+        assertEquals(List.of(List.of("a", "bb")), batches);
+    }
+
+    @Test
+    void batchingAsync_windowsOutliveFullBatches() throws Exception {
+        var length = Z.batchingAsync(lengths, 2, SHORT, Runnable::run);
+
+        length.apply("a");
+        length.apply("bb");
+        assertEquals(1, batches.size());
+
+        // The first window would have closed by now, had it not been full.
+        Thread.sleep(4 * SHORT.toMillis());
+        assertEquals(1, batches.size());
+
+        assertEquals(3, length.apply("ccc").join());
+        assertEquals(List.of(List.of("a", "bb"), List.of("ccc")), batches);
+    }
+
+    @Test
+    void batchingAsync_singleKeyBatches() {
+        var length = Z
+            .batchingAsync(lengths, 1, LONG, Runnable::run)
+            .fuseFunction(CompletableFuture::join);
+
+        assertEquals(1, length.apply("a"));
+        assertEquals(2, length.apply("bb"));
+        assertEquals(List.of(List.of("a"), List.of("bb")), batches);
+    }
+
+    @Test
+    void batching_blocksEachCaller() throws Exception {
+        var length = Z.batching(lengths, 4, LONG);
+
+        List<Future<Integer>> results = new ArrayList<>();
+        for (String key : List.of("a", "bb", "ccc", "dddd")) {
+            results.add(callers.submit(() -> length.apply(key)));
+        }
+
+        for (int i = 0; i < results.size(); i++) {
+            assertEquals(i + 1, results.get(i).get());
+        }
+        assertEquals(1, batches.size());
+        assertEquals(4, batches.get(0).size());
+    }
+
+    @Test
+    void batching_afterWindow() {
+        var length = Z.batching(lengths, 100, SHORT, callers);
+
+        assertEquals(2, length.apply("bb"));
+        assertEquals(List.of(List.of("bb")), batches);
+    }
+
+    @Test
+    void batching_missingKeys() {
+        var length = Z.batching(lengths, 1, LONG, Runnable::run);
+
+        assertNull(length.apply("missing"));
+    }
+
+    @Test
+    void batching_failures() {
+        IllegalStateException failure = new IllegalStateException("down");
+        Function<List<String>, Map<String, Integer>> down = (
+            List<String> keys
+        ) -> {
+            throw failure;
+        };
+
+        var async = Z.batchingAsync(down, 2, LONG, Runnable::run);
+        CompletableFuture<Integer> a = async.apply("a");
+        CompletableFuture<Integer> b = async.apply("b");
+        assertSame(
+            failure,
+            assertThrows(CompletionException.class, a::join).getCause()
+        );
+        assertTrue(b.isCompletedExceptionally());
+
+        var blocking = Z.batching(down, 1, LONG, Runnable::run);
+        assertSame(
+            failure,
+            assertThrows(
+                IllegalStateException.class,
+                () -> blocking.apply("a")
+            )
+        );
+    }
+
+    @Test
+    void batching_rejectedDispatches() {
+        Executor rejecting = (Runnable task) -> {
+            throw new RejectedExecutionException("full");
+        };
+
+        var full = Z.batchingAsync(lengths, 2, LONG, rejecting);
+        CompletableFuture<Integer> a = full.apply("a");
+        CompletableFuture<Integer> b = full.apply("b");
+        assertTrue(a.isCompletedExceptionally());
+        assertTrue(
+            assertThrows(CompletionException.class, b::join).getCause()
+                instanceof RejectedExecutionException
+        );
+
+        var windowed = Z.batching(lengths, 100, SHORT, rejecting);
+        assertThrows(
+            RejectedExecutionException.class,
+            () -> windowed.apply("a")
+        );
+        assertTrue(batches.isEmpty());
+    }
+
+    @Test
+    void batching_invalid() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> Z.batching(lengths, 0, LONG)
+        );
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> Z.batchingAsync(lengths, 1, Duration.ofMillis(-1))
+        );
+        assertThrows(
+            NullPointerException.class,
+            () -> Z.batching(null, 1, LONG)
+        );
+        assertThrows(
+            NullPointerException.class,
+            () -> Z.batching(lengths, 1, LONG, null)
+        );
+    }
+}
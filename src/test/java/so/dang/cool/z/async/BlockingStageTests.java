@@ -0,0 +1,259 @@
+package so.dang.cool.z.async;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import so.dang.cool.z.Z;
+
+public class BlockingStageTests {
+
+    private final ExecutorService offload = Executors.newCachedThreadPool(
+        (Runnable task) -> new Thread(task, "offload")
+    );
+
+    private final ExecutorService callers = Executors.newFixedThreadPool(8);
+
+    private final List<String> threads = Collections.synchronizedList(
+        new ArrayList<>()
+    );
+
+    @AfterEach
+    void shutdown() {
+        offload.shutdown();
+        callers.shutdown();
+    }
+
+    private <A> Function<A, A> recordThread() {
+        return (A a) -> {
+            threads.add(Thread.currentThread().getName());
+            return a;
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T extends Throwable> void sneakyThrow(Throwable t)
+        throws T {
+        throw (T) t;
+    }
+
+    @Test
+    void fuseBlocking_function() {
+        String caller = Thread.currentThread().getName();
+
+        var fused = Z
+            .fuse(this.<String>recordThread())
+            .fuseBlocking(recordThread(), offload)
+            .fuse(recordThread());
+
+        assertEquals("x", fused.apply("x"));
+        assertEquals(List.of(caller, "offload", caller), threads);
+    }
+
+    @Test
+    void blocking_function() {
+        String caller = Thread.currentThread().getName();
+        Function<String, Integer> length = String::length;
+
+        var fused = Z
+            .fuse(this.<String>recordThread())
+            .fuse(length)
+            .blocking(offload)
+            .fuse(recordThread());
+
+        assertEquals(3, fused.apply("abc"));
+        assertEquals(List.of("offload", caller), threads);
+    }
+
+    @Test
+    void blocking_supplier() {
+        String caller = Thread.currentThread().getName();
+        Supplier<String> read = () -> {
+            threads.add(Thread.currentThread().getName());
+            return "read";
+        };
+
+        var fused = Z
+            .fuse(read)
+            .blocking(offload, 1)
+            .fuse(recordThread())
+            .fuseBlocking(String::length, offload)
+            .fuseBlocking(recordThread(), offload, 2);
+
+        assertEquals(4, fused.get());
+        assertEquals(List.of("offload", caller, "offload"), threads);
+        assertEquals(4, Z.fuse(read).blocking(offload).get().length());
+    }
+
+    @Test
+    void blocking_consumer() {
+        Consumer<String> write = s ->
+            threads.add(s + "@" + Thread.currentThread().getName());
+
+        Z.fuse(write).blocking(offload).accept("a");
+        Z.fuse(write).blocking(offload, 3).accept("b");
+
+        assertEquals(List.of("a@offload", "b@offload"), threads);
+    }
+
+    @Test
+    void blocking_maxConcurrency() throws Exception {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        Function<Integer, Integer> slow = i -> {
+            peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(5);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            running.decrementAndGet();
+            return i;
+        };
+        Function<Integer, Integer> same = i -> i;
+        var fused = Z.fuse(same).fuseBlocking(slow, offload, 2);
+
+        List<CompletableFuture<Integer>> calls = new ArrayList<>();
+        for (int i = 0; i < 32; i++) {
+            int n = i;
+            calls.add(
+                CompletableFuture.supplyAsync(() -> fused.apply(n), callers)
+            );
+        }
+        for (int i = 0; i < 32; i++) {
+            assertEquals(i, calls.get(i).get(10, TimeUnit.SECONDS));
+        }
+
+        assertTrue(peak.get() <= 2, "peak was " + peak.get());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(10, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // Calls on a thread of its own, interrupting it once it is waiting and
+    // ready has returned.
+    private static void interruptWhileWaiting(Runnable call, Runnable ready)
+        throws Exception {
+        FutureTask<Boolean> waiting = new FutureTask<>(
+            () -> {
+                CompletionException thrown = assertThrows(
+                    CompletionException.class,
+                    call::run
+                );
+                assertTrue(thrown.getCause() instanceof InterruptedException);
+                return Thread.currentThread().isInterrupted();
+            }
+        );
+        Thread caller = new Thread(waiting);
+        caller.start();
+        ready.run();
+        while (caller.getState() != Thread.State.WAITING) {
+            Thread.sleep(1);
+        }
+        caller.interrupt();
+        assertTrue(waiting.get(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void blocking_interrupted() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Function<String, String> stuck = s -> {
+            started.countDown();
+            await(release);
+            return s;
+        };
+        Function<String, String> same = s -> s;
+        var fused = Z.fuse(same).fuseBlocking(stuck, offload, 1);
+
+        // Waiting for the stage, which keeps its turn after the caller quits.
+        interruptWhileWaiting(() -> fused.apply("a"), () -> await(started));
+
+        // Waiting for a turn.
+        interruptWhileWaiting(() -> fused.apply("b"), () -> {});
+
+        release.countDown();
+        assertEquals("c", fused.apply("c"));
+    }
+
+    @Test
+    void blocking_failures() {
+        IllegalStateException boom = new IllegalStateException("boom");
+        Function<String, String> failing = s -> {
+            throw boom;
+        };
+        Function<String, String> erring = s -> {
+            throw new AssertionError("err");
+        };
+        Function<String, String> checked = s -> {
+            sneakyThrow(new Exception("checked"));
+            return s;
+        };
+        Function<String, String> same = s -> s;
+
+        assertSame(
+            boom,
+            assertThrows(
+                IllegalStateException.class,
+                () -> Z.fuse(same).fuseBlocking(failing, offload).apply("x")
+            )
+        );
+        assertThrows(
+            AssertionError.class,
+            () -> Z.fuse(same).fuseBlocking(erring, offload, 1).apply("x")
+        );
+        assertEquals(
+            "checked",
+            assertThrows(
+                CompletionException.class,
+                () -> Z.fuse(checked).blocking(offload).apply("x")
+            )
+                .getCause()
+                .getMessage()
+        );
+
+        Executor rejecting = (Runnable task) -> {
+            throw new RejectedExecutionException("full");
+        };
+        var rejected = Z.fuse(same).fuseBlocking(same, rejecting, 1);
+        for (int call = 0; call < 2; call++) {
+            assertThrows(
+                RejectedExecutionException.class,
+                () -> rejected.apply("x")
+            );
+        }
+
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> Z.fuse(same).blocking(offload, 0)
+        );
+        assertThrows(
+            NullPointerException.class,
+            () -> Z.fuse(same).fuseBlocking(same, null)
+        );
+    }
+}
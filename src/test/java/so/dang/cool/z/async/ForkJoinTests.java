@@ -0,0 +1,410 @@
+package so.dang.cool.z.async;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import so.dang.cool.z.Z;
+
+public class ForkJoinTests {
+
+    private final ExecutorService pool = Executors.newCachedThreadPool(
+        (Runnable task) -> new Thread(task, "branch")
+    );
+
+    private final Set<String> threads = ConcurrentHashMap.newKeySet();
+
+    @AfterEach
+    void shutdown() {
+        pool.shutdown();
+    }
+
+    private Function<Integer, Integer> plus(int n) {
+        return i -> {
+            threads.add(Thread.currentThread().getName());
+            return i + n;
+        };
+    }
+
+    private Function<Integer, Integer> sleepy(int millis) {
+        return i -> {
+            threads.add(Thread.currentThread().getName());
+            try {
+                Thread.sleep(millis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return i;
+        };
+    }
+
+    @Test
+    void fork_join() {
+        Function<String, Integer> length = String::length;
+        Function<String, String> upper = String::toUpperCase;
+        Function<String, Character> first = s -> s.charAt(0);
+
+        var joined = Z
+            .fork(length, upper, first)
+            .join((Integer n, String s, Character c) -> c + s + n)
+            .fuseFunction(String::toLowerCase);
+
+        assertEquals("aabc3", joined.apply("abc"));
+    }
+
+    @Test
+    void fork_cheapBranchesStayInline() {
+        String caller = Thread.currentThread().getName();
+        var joined = Z
+            .fork(plus(1), plus(2))
+            .on(pool)
+            .join((Integer a, Integer b) -> a * b);
+
+        // A cold first call may look slow; the estimate settles back down.
+        for (int i = 0; i < 1_000; i++) {
+            assertEquals((i + 1) * (i + 2), joined.apply(i));
+        }
+        threads.clear();
+
+        for (int i = 0; i < 1_000; i++) {
+            assertEquals((i + 1) * (i + 2), joined.apply(i));
+        }
+
+        assertEquals(Set.of(caller), threads);
+    }
+
+    @Test
+    void fork_expensiveBranchesRunConcurrently() {
+        var joined = Z
+            .fork(sleepy(2), sleepy(2), sleepy(2))
+            .on(pool)
+            .join((Integer a, Integer b, Integer c) -> a + b + c);
+
+        // A slow call or two is not enough to leave the caller's thread.
+        assertEquals(3, joined.apply(1));
+        assertEquals(6, joined.apply(2));
+        assertEquals(Set.of(Thread.currentThread().getName()), threads);
+
+        for (int i = 3; i <= 10; i++) {
+            assertEquals(3 * i, joined.apply(i));
+        }
+        assertTrue(threads.contains("branch"));
+    }
+
+    @Test
+    void fork_concurrentBranchesOverlap() {
+        CyclicBarrier barrier = new CyclicBarrier(4);
+        Function<Integer, Integer> meet = i -> {
+            try {
+                barrier.await(10, TimeUnit.SECONDS);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+            return i;
+        };
+
+        var joined = Z
+            .fork(meet, meet, meet, meet)
+            .on(pool)
+            .concurrent()
+            .join((a, b, c, d) -> a + b + c + d);
+
+        assertEquals(8, joined.apply(2));
+    }
+
+    @Test
+    void fork_failures() {
+        IllegalStateException boom = new IllegalStateException("boom");
+        Function<Integer, Integer> failing = i -> {
+            throw boom;
+        };
+
+        assertSame(
+            boom,
+            assertThrows(
+                IllegalStateException.class,
+                () ->
+                    Z
+                        .fork(plus(1), failing)
+                        .on(pool)
+                        .concurrent()
+                        .join((Integer a, Integer b) -> a + b)
+                        .apply(1)
+            )
+        );
+        assertSame(
+            boom,
+            assertThrows(
+                IllegalStateException.class,
+                () ->
+                    Z
+                        .fork(failing, plus(1))
+                        .join((Integer a, Integer b) -> a + b)
+                        .apply(1)
+            )
+        );
+        assertThrows(NullPointerException.class, () -> Z.fork(plus(1), null));
+        assertThrows(
+            NullPointerException.class,
+            () -> Z.fork(plus(1), plus(2)).join(null)
+        );
+        assertThrows(
+            NullPointerException.class,
+            () -> Z.fork(plus(1), plus(2)).on(null)
+        );
+    }
+
+    @Test
+    void fork_bi() {
+        var fork = Z.fork(plus(1), plus(2));
+        var inline = fork.inline().join((a, b) -> a + b);
+        var concurrent = fork.on(pool).concurrent().join((a, b) -> a + b);
+
+        assertEquals(3, inline.apply(0));
+        assertEquals(5, concurrent.apply(1));
+    }
+
+    @Test
+    void fork_tri() {
+        var fork = Z.fork(plus(1), plus(2), plus(3));
+        var inline = fork.inline().join((a, b, c) -> a + b + c);
+        var concurrent = fork
+            .on(pool)
+            .concurrent()
+            .join((a, b, c) -> a + b + c);
+
+        assertEquals(6, inline.apply(0));
+        assertEquals(9, concurrent.apply(1));
+    }
+
+    @Test
+    void fork_quad() {
+        var fork = Z.fork(plus(1), plus(2), plus(3), plus(4));
+        var inline = fork.inline().join((a, b, c, d) -> a + b + c + d);
+        var concurrent = fork
+            .on(pool)
+            .concurrent()
+            .join((a, b, c, d) -> a + b + c + d);
+
+        assertEquals(10, inline.apply(0));
+        assertEquals(14, concurrent.apply(1));
+    }
+
+    @Test
+    void fork_quin() {
+        var fork = Z.fork(plus(1), plus(2), plus(3), plus(4), plus(5));
+        var inline = fork.inline().join((a, b, c, d, e) -> a + b + c + d + e);
+        var concurrent = fork
+            .on(pool)
+            .concurrent()
+            .join((a, b, c, d, e) -> a + b + c + d + e);
+
+        assertEquals(15, inline.apply(0));
+        assertEquals(20, concurrent.apply(1));
+    }
+
+    @Test
+    void fork_sex() {
+        var fork = Z.fork(plus(1), plus(2), plus(3), plus(4), plus(5), plus(6));
+        var inline = fork
+            .inline()
+            .join((a, b, c, d, e, f) -> a + b + c + d + e + f);
+        var concurrent = fork
+            .on(pool)
+            .concurrent()
+            .join((a, b, c, d, e, f) -> a + b + c + d + e + f);
+
+        assertEquals(21, inline.apply(0));
+        assertEquals(27, concurrent.apply(1));
+    }
+
+    @Test
+    void fork_sept() {
+        var fork = Z.fork(
+            plus(1),
+            plus(2),
+            plus(3),
+            plus(4),
+            plus(5),
+            plus(6),
+            plus(7)
+        );
+        var inline = fork
+            .inline()
+            .join((a, b, c, d, e, f, g) -> a + b + c + d + e + f + g);
+        var concurrent = fork
+            .on(pool)
+            .concurrent()
+            .join((a, b, c, d, e, f, g) -> a + b + c + d + e + f + g);
+
+        assertEquals(28, inline.apply(0));
+        assertEquals(35, concurrent.apply(1));
+    }
+
+    @Test
+    void fork_oct() {
+        var fork = Z.fork(
+            plus(1),
+            plus(2),
+            plus(3),
+            plus(4),
+            plus(5),
+            plus(6),
+            plus(7),
+            plus(8)
+        );
+        var inline = fork
+            .inline()
+            .join((a, b, c, d, e, f, g, h) -> a + b + c + d + e + f + g + h);
+        var concurrent = fork
+            .on(pool)
+            .concurrent()
+            .join((a, b, c, d, e, f, g, h) -> a + b + c + d + e + f + g + h);
+
+        assertEquals(36, inline.apply(0));
+        assertEquals(44, concurrent.apply(1));
+    }
+
+    @Test
+    void fork_non() {
+        var fork = Z.fork(
+            plus(1),
+            plus(2),
+            plus(3),
+            plus(4),
+            plus(5),
+            plus(6),
+            plus(7),
+            plus(8),
+            plus(9)
+        );
+        var inline = fork
+            .inline()
+            .join(
+                (a, b, c, d, e, f, g, h, i) ->
+                    a + b + c + d + e + f + g + h + i
+            );
+        var concurrent = fork
+            .on(pool)
+            .concurrent()
+            .join(
+                (a, b, c, d, e, f, g, h, i) ->
+                    a + b + c + d + e + f + g + h + i
+            );
+
+        assertEquals(45, inline.apply(0));
+        assertEquals(54, concurrent.apply(1));
+    }
+
+    @Test
+    void fork_dec() {
+        var fork = Z.fork(
+            plus(1),
+            plus(2),
+            plus(3),
+            plus(4),
+            plus(5),
+            plus(6),
+            plus(7),
+            plus(8),
+            plus(9),
+            plus(10)
+        );
+        var inline = fork
+            .inline()
+            .join(
+                (a, b, c, d, e, f, g, h, i, j) ->
+                    a + b + c + d + e + f + g + h + i + j
+            );
+        var concurrent = fork
+            .on(pool)
+            .concurrent()
+            .join(
+                (a, b, c, d, e, f, g, h, i, j) ->
+                    a + b + c + d + e + f + g + h + i + j
+            );
+
+        assertEquals(55, inline.apply(0));
+        assertEquals(65, concurrent.apply(1));
+    }
+
+    @Test
+    void fork_undec() {
+        var fork = Z.fork(
+            plus(1),
+            plus(2),
+            plus(3),
+            plus(4),
+            plus(5),
+            plus(6),
+            plus(7),
+            plus(8),
+            plus(9),
+            plus(10),
+            plus(11)
+        );
+        var inline = fork
+            .inline()
+            .join(
+                (a, b, c, d, e, f, g, h, i, j, k) ->
+                    a + b + c + d + e + f + g + h + i + j + k
+            );
+        var concurrent = fork
+            .on(pool)
+            .concurrent()
+            .join(
+                (a, b, c, d, e, f, g, h, i, j, k) ->
+                    a + b + c + d + e + f + g + h + i + j + k
+            );
+
+        assertEquals(66, inline.apply(0));
+        assertEquals(77, concurrent.apply(1));
+    }
+
+    @Test
+    void fork_dodec() {
+        var fork = Z.fork(
+            plus(1),
+            plus(2),
+            plus(3),
+            plus(4),
+            plus(5),
+            plus(6),
+            plus(7),
+            plus(8),
+            plus(9),
+            plus(10),
+            plus(11),
+            plus(12)
+        );
+        var inline = fork
+            .inline()
+            .join(
+                (a, b, c, d, e, f, g, h, i, j, k, l) ->
+                    a + b + c + d + e + f + g + h + i + j + k + l
+            );
+        var concurrent = fork
+            .on(pool)
+            .concurrent()
+            .join(
+                (a, b, c, d, e, f, g, h, i, j, k, l) ->
+                    a + b + c + d + e + f + g + h + i + j + k + l
+            );
+
+        assertEquals(78, inline.apply(0));
+        assertEquals(90, concurrent.apply(1));
+    }
+}
@@ -0,0 +1,137 @@
+package so.dang.cool.z.bulk;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import so.dang.cool.z.Z;
+
+public class BatchApplicationTests {
+
+    private final Function<String, Integer> length = String::length;
+    private final Function<Integer, Integer> square = i -> i * i;
+    private final Function<Integer, String> hex = Integer::toHexString;
+
+    @Test
+    void applyBatch() {
+        var fused = Z.fuse(length).fuse(square).fuse(hex);
+
+        assertEquals(
+            List.of("1", "4", "9", "10"),
+            fused.applyBatch(List.of("a", "bb", "ccc", "dddd"))
+        );
+    }
+
+    @Test
+    void applyBatch_matchesPerElement() {
+        var fused = Z.fuse(length).fuse(square).fuse(hex);
+        List<String> in = IntStream
+            .range(0, 3000)
+            .mapToObj(i -> "x".repeat(i % 37))
+            .collect(Collectors.toList());
+
+        List<String> expected = new ArrayList<>();
+        for (String s : in) {
+            expected.add(fused.apply(s));
+        }
+
+        assertEquals(expected, fused.applyBatch(in));
+        assertEquals(expected, fused.applyBatch(new LinkedList<>(in), 7));
+    }
+
+    @Test
+    void applyBatch_runsStageAtATime() {
+        List<String> calls = new ArrayList<>();
+        Function<String, String> first = s -> {
+            calls.add("first " + s);
+            return s;
+        };
+        Function<String, String> second = s -> {
+            calls.add("second " + s);
+            return s;
+        };
+
+        Z.fuse(first).fuse(second).applyBatch(List.of("a", "b", "c"), 2);
+
+        assertEquals(
+            List.of(
+                "first a",
+                "first b",
+                "second a",
+                "second b",
+                "first c",
+                "second c"
+            ),
+            calls
+        );
+    }
+
+    @Test
+    void applyBatch_empty() {
+        assertEquals(List.of(), Z.fuse(length).applyBatch(List.of()));
+    }
+
+    @Test
+    void applyBatch_isUnmodifiable() {
+        List<Integer> out = Z.fuse(length).applyBatch(List.of("a"));
+
+        assertThrows(UnsupportedOperationException.class, () -> out.set(0, 2));
+    }
+
+    @Test
+    void applyBatch_badChunkSize() {
+        var fused = Z.fuse(length);
+        List<String> in = List.of("a");
+
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> fused.applyBatch(in, 0)
+        );
+    }
+
+    @Test
+    void applyAll() {
+        var fused = Z.fuse(length).fuse(square).fuse(hex);
+        String[] in = { "a", "bb", "ccc", "dddd" };
+        String[] out = new String[4];
+
+        assertSame(out, fused.applyAll(in, out));
+        assertArrayEquals(new String[] { "1", "4", "9", "10" }, out);
+    }
+
+    @Test
+    void applyAll_chunked() {
+        var fused = Z.fuse(length).fuse(square);
+        String[] in = { "a", "bb", "ccc", "dddd", "eeeee" };
+        Integer[] out = new Integer[6];
+
+        fused.applyAll(in, out, 2);
+        assertEquals(
+            Arrays.asList(1, 4, 9, 16, 25, null),
+            Arrays.asList(out)
+        );
+    }
+
+    @Test
+    void applyAll_outTooShort() {
+        var fused = Z.fuse(length);
+
+        assertThrows(
+            IndexOutOfBoundsException.class,
+            () -> fused.applyAll(new String[] { "a", "b" }, new Integer[1])
+        );
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> fused.applyAll(new String[] { "a" }, new Integer[1], -1)
+        );
+    }
+}
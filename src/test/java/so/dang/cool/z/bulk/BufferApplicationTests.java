@@ -0,0 +1,341 @@
+package so.dang.cool.z.bulk;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.BitSet;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleToIntFunction;
+import java.util.function.DoubleToLongFunction;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntPredicate;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.IntToLongFunction;
+import java.util.function.IntUnaryOperator;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongPredicate;
+import java.util.function.LongToDoubleFunction;
+import java.util.function.LongToIntFunction;
+import java.util.function.LongUnaryOperator;
+import org.junit.jupiter.api.Test;
+import so.dang.cool.z.Z;
+import so.dang.cool.z.function.DoubleBinaryToIntFunction;
+import so.dang.cool.z.function.DoubleBinaryToLongFunction;
+import so.dang.cool.z.function.IntBinaryToDoubleFunction;
+import so.dang.cool.z.function.IntBinaryToLongFunction;
+import so.dang.cool.z.function.LongBinaryToDoubleFunction;
+import so.dang.cool.z.function.LongBinaryToIntFunction;
+
+public class BufferApplicationTests {
+
+    private static final int SIZE = 3000;
+
+    private static ByteBuffer doubles(int length) {
+        ByteBuffer buffer = ByteBuffer
+            .allocateDirect(length * Double.BYTES)
+            .order(ByteOrder.LITTLE_ENDIAN);
+        for (int i = 0; i < length; i++) {
+            buffer.putDouble(i * Double.BYTES, i);
+        }
+        return buffer;
+    }
+
+    private static ByteBuffer ints(int length) {
+        ByteBuffer buffer = ByteBuffer.allocate(length * Integer.BYTES);
+        for (int i = 0; i < length; i++) {
+            buffer.putInt(i * Integer.BYTES, i);
+        }
+        return buffer;
+    }
+
+    private static ByteBuffer longs(int length) {
+        ByteBuffer buffer = ByteBuffer
+            .allocateDirect(length * Long.BYTES)
+            .order(ByteOrder.nativeOrder());
+        for (int i = 0; i < length; i++) {
+            buffer.putLong(i * Long.BYTES, i);
+        }
+        return buffer;
+    }
+
+    /* Unary operators */
+
+    @Test
+    void applyAll_dblUnaryOp_buffer() {
+        DoubleUnaryOperator half = d -> d / 2.0;
+        var fused = Z.fuse(half).fuse(Z.ops.addDouble(1.0));
+        ByteBuffer in = doubles(SIZE);
+        ByteBuffer out = ByteBuffer
+            .allocate(SIZE * Double.BYTES)
+            .order(ByteOrder.LITTLE_ENDIAN);
+
+        assertSame(out, fused.applyAll(in, out));
+        for (int i = 0; i < SIZE; i++) {
+            assertEquals(i / 2.0 + 1.0, out.getDouble(i * Double.BYTES));
+        }
+
+        fused.applyAll(in);
+        assertEquals(1.5, in.getDouble(Double.BYTES));
+    }
+
+    @Test
+    void applyAll_intUnaryOp_buffer() {
+        IntUnaryOperator inc = i -> i + 1;
+        var fused = Z.fuse(inc).fuse(Z.ops.mulInt(3));
+        ByteBuffer in = ints(SIZE);
+        ByteBuffer out = ByteBuffer.allocate(SIZE * Integer.BYTES);
+
+        fused.applyAll(in, out);
+        for (int i = 0; i < SIZE; i++) {
+            assertEquals((i + 1) * 3, out.getInt(i * Integer.BYTES));
+        }
+
+        assertSame(in, fused.applyAll(in));
+        assertEquals(6, in.getInt(Integer.BYTES));
+    }
+
+    @Test
+    void applyAll_longUnaryOp_buffer() {
+        LongUnaryOperator neg = n -> -n;
+        var fused = Z.fuse(neg);
+        ByteBuffer in = longs(SIZE);
+        ByteBuffer out = ByteBuffer
+            .allocateDirect(SIZE * Long.BYTES)
+            .order(ByteOrder.nativeOrder());
+
+        fused.applyAll(in, out);
+        for (int i = 0; i < SIZE; i++) {
+            assertEquals(-i, out.getLong(i * Long.BYTES));
+        }
+
+        fused.applyAll(in);
+        assertEquals(-7L, in.getLong(7 * Long.BYTES));
+    }
+
+    @Test
+    void applyAll_structFields() {
+        // struct { int id; long count; double score; } packed, 20 bytes
+        int stride = Integer.BYTES + Long.BYTES + Double.BYTES;
+        ByteBuffer structs = ByteBuffer.allocate(SIZE * stride);
+        for (int i = 0; i < SIZE; i++) {
+            structs.putInt(i * stride, i);
+            structs.putLong(i * stride + 4, i * 10L);
+            structs.putDouble(i * stride + 12, i * 0.5);
+        }
+        ByteBuffer counts = structs.duplicate().position(4);
+        ByteBuffer scores = structs.duplicate().position(12);
+
+        Z
+            .fuse(Z.ops.addLong(1L))
+            .applyAll(counts, stride, counts, stride, SIZE);
+        Z
+            .fuse(Z.ops.mulDouble(2.0))
+            .applyAll(scores, stride, scores, stride, SIZE);
+        IntUnaryOperator id = i -> i;
+        Z.fuse(id).applyAll(structs, stride, structs, stride, SIZE);
+
+        for (int i = 0; i < SIZE; i++) {
+            assertEquals(i, structs.getInt(i * stride));
+            assertEquals(i * 10L + 1L, structs.getLong(i * stride + 4));
+            assertEquals((double) i, structs.getDouble(i * stride + 12));
+        }
+        assertEquals(0, structs.position());
+    }
+
+    @Test
+    void applyAll_emptyBuffer() {
+        IntUnaryOperator inc = i -> i + 1;
+        ByteBuffer empty = ByteBuffer.allocate(0);
+
+        assertSame(empty, Z.fuse(inc).applyAll(empty));
+    }
+
+    @Test
+    void applyAll_badStrides() {
+        IntUnaryOperator inc = i -> i + 1;
+        var fused = Z.fuse(inc);
+        ByteBuffer in = ints(4);
+        ByteBuffer out = ints(4);
+
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> fused.applyAll(in, 2, out, 4, 4)
+        );
+        assertThrows(
+            IndexOutOfBoundsException.class,
+            () -> fused.applyAll(in, 4, out, 8, 4)
+        );
+        assertThrows(
+            IndexOutOfBoundsException.class,
+            () -> fused.applyAll(in, 4, out, 4, -1)
+        );
+        assertThrows(
+            IndexOutOfBoundsException.class,
+            () -> fused.applyAll(in.position(4), 4, out, 4, 4)
+        );
+    }
+
+    /* Conversions */
+
+    @Test
+    void applyAll_dblConversions_buffer() {
+        DoubleToIntFunction toInt = d -> (int) d * 2;
+        DoubleToLongFunction toLong = d -> (long) d * 3;
+        ByteBuffer in = doubles(SIZE);
+        ByteBuffer ints = ByteBuffer.allocate(SIZE * Integer.BYTES);
+        ByteBuffer longs = ByteBuffer.allocate(SIZE * Long.BYTES);
+
+        Z.fuse(toInt).applyAll(in, ints);
+        Z.fuse(toLong).applyAll(in, longs);
+
+        assertEquals(10, ints.getInt(5 * Integer.BYTES));
+        assertEquals(15L, longs.getLong(5 * Long.BYTES));
+    }
+
+    @Test
+    void applyAll_intConversions_buffer() {
+        IntToDoubleFunction toDouble = i -> i / 4.0;
+        IntToLongFunction toLong = i -> i * 10_000_000_000L;
+        ByteBuffer in = ints(SIZE);
+        ByteBuffer doubles = ByteBuffer.allocate(SIZE * Double.BYTES);
+        ByteBuffer longs = ByteBuffer.allocate(SIZE * Long.BYTES);
+
+        Z.fuse(toDouble).applyAll(in, doubles);
+        Z.fuse(toLong).applyAll(in, longs);
+
+        assertEquals(1.25, doubles.getDouble(5 * Double.BYTES));
+        assertEquals(50_000_000_000L, longs.getLong(5 * Long.BYTES));
+    }
+
+    @Test
+    void applyAll_longConversions_buffer() {
+        LongToDoubleFunction toDouble = n -> n / 2.0;
+        LongToIntFunction toInt = n -> (int) n + 1;
+        ByteBuffer in = longs(SIZE);
+        ByteBuffer doubles = ByteBuffer.allocate(SIZE * Double.BYTES);
+        ByteBuffer ints = ByteBuffer.allocate(SIZE * Integer.BYTES);
+
+        Z.fuse(toDouble).applyAll(in, doubles);
+        Z.fuse(toInt).applyAll(in, ints);
+
+        assertEquals(2.5, doubles.getDouble(5 * Double.BYTES));
+        assertEquals(6, ints.getInt(5 * Integer.BYTES));
+    }
+
+    /* Binary operators */
+
+    @Test
+    void applyAll_dblBinaryOps_buffer() {
+        DoubleBinaryOperator add = (a, b) -> a + b;
+        DoubleBinaryToIntFunction addInt = (a, b) -> (int) (a + b);
+        DoubleBinaryToLongFunction addLong = (a, b) -> (long) (a + b);
+        ByteBuffer left = doubles(SIZE);
+        ByteBuffer right = doubles(SIZE);
+        ByteBuffer doubles = doubles(SIZE);
+        ByteBuffer ints = ByteBuffer.allocate(SIZE * Integer.BYTES);
+        ByteBuffer longs = ByteBuffer.allocate(SIZE * Long.BYTES);
+
+        Z.fuse(add).applyAll(left, right, doubles);
+        Z.fuse(addInt).applyAll(left, right, ints);
+        Z.fuse(addLong).applyAll(left, right, longs);
+
+        assertEquals(14.0, doubles.getDouble(7 * Double.BYTES));
+        assertEquals(14, ints.getInt(7 * Integer.BYTES));
+        assertEquals(14L, longs.getLong(7 * Long.BYTES));
+    }
+
+    @Test
+    void applyAll_intBinaryOps_buffer() {
+        IntBinaryOperator mul = (a, b) -> a * b;
+        IntBinaryToDoubleFunction div = (a, b) -> a / (double) b;
+        IntBinaryToLongFunction mulLong = (a, b) -> (long) a * b;
+        ByteBuffer left = ints(SIZE);
+        ByteBuffer right = ints(SIZE);
+        ByteBuffer ints = ints(SIZE);
+        ByteBuffer doubles = ByteBuffer.allocate(SIZE * Double.BYTES);
+        ByteBuffer longs = ByteBuffer.allocate(SIZE * Long.BYTES);
+
+        Z.fuse(mul).applyAll(left, right, ints);
+        Z.fuse(div).applyAll(left, right, doubles);
+        Z.fuse(mulLong).applyAll(left, right, longs);
+
+        assertEquals(49, ints.getInt(7 * Integer.BYTES));
+        assertEquals(1.0, doubles.getDouble(7 * Double.BYTES));
+        assertEquals(
+            2999L * 2999L,
+            longs.getLong((SIZE - 1) * Long.BYTES)
+        );
+    }
+
+    @Test
+    void applyAll_longBinaryOps_buffer() {
+        LongBinaryOperator sub = (a, b) -> a - b;
+        LongBinaryToDoubleFunction avg = (a, b) -> (a + b) / 2.0;
+        LongBinaryToIntFunction cmp = Long::compare;
+        ByteBuffer left = longs(SIZE);
+        ByteBuffer right = longs(SIZE + 1).position(Long.BYTES);
+        ByteBuffer longs = longs(SIZE);
+        ByteBuffer doubles = ByteBuffer.allocate(SIZE * Double.BYTES);
+        ByteBuffer ints = ByteBuffer.allocate(SIZE * Integer.BYTES);
+
+        Z.fuse(sub).applyAll(left, right, longs);
+        Z.fuse(avg).applyAll(left, right, doubles);
+        Z.fuse(cmp).applyAll(left, right, ints);
+
+        assertEquals(-1L, longs.getLong(7 * Long.BYTES));
+        assertEquals(7.5, doubles.getDouble(7 * Double.BYTES));
+        assertEquals(-1, ints.getInt(7 * Integer.BYTES));
+    }
+
+    /* Predicates */
+
+    @Test
+    void select_buffers() {
+        DoublePredicate bigDouble = d -> d >= 2990.0;
+        IntPredicate even = i -> i % 2 == 0;
+        LongPredicate tens = n -> n % 10 == 0;
+        int[] selection = new int[SIZE];
+
+        assertEquals(10, Z.fuse(bigDouble).select(doubles(SIZE), selection));
+        assertEquals(2990, selection[0]);
+        assertEquals(SIZE / 2, Z.fuse(even).select(ints(SIZE), selection));
+        assertEquals(4, selection[2]);
+        assertEquals(SIZE / 10, Z.fuse(tens).select(longs(SIZE), selection));
+        assertEquals(20, selection[2]);
+    }
+
+    @Test
+    void bitset_buffers() {
+        DoublePredicate small = d -> d < 3.0;
+        IntPredicate odd = i -> i % 2 == 1;
+        LongPredicate big = n -> n >= 64;
+
+        BitSet doubles = BitSet.valueOf(Z.fuse(small).bitset(doubles(SIZE)));
+        BitSet ints = BitSet.valueOf(Z.fuse(odd).bitset(ints(SIZE)));
+        BitSet longs = BitSet.valueOf(Z.fuse(big).bitset(longs(SIZE)));
+
+        assertEquals(BitSet.valueOf(new long[] { 0b111 }), doubles);
+        assertEquals(SIZE / 2, ints.cardinality());
+        assertEquals(1, ints.nextSetBit(0));
+        assertEquals(64, longs.nextSetBit(0));
+        assertEquals(SIZE - 64, longs.cardinality());
+    }
+
+    @Test
+    void bitset_stridedBuffer() {
+        // Every other int, starting from the second
+        IntPredicate odd = i -> i % 2 == 1;
+        ByteBuffer in = ints(130).position(Integer.BYTES);
+        long[] bits = new long[3];
+
+        Z.fuse(odd).bitset(in, 2 * Integer.BYTES, 65, bits);
+
+        assertArrayEquals(new long[] { -1L, 1L, 0L }, bits);
+    }
+}
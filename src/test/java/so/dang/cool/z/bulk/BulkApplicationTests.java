@@ -0,0 +1,373 @@
+package so.dang.cool.z.bulk;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleToIntFunction;
+import java.util.function.DoubleToLongFunction;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.IntToLongFunction;
+import java.util.function.IntUnaryOperator;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongToDoubleFunction;
+import java.util.function.LongToIntFunction;
+import java.util.function.LongUnaryOperator;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import so.dang.cool.z.Z;
+import so.dang.cool.z.function.DoubleBinaryToIntFunction;
+import so.dang.cool.z.function.DoubleBinaryToLongFunction;
+import so.dang.cool.z.function.IntBinaryToDoubleFunction;
+import so.dang.cool.z.function.IntBinaryToLongFunction;
+import so.dang.cool.z.function.LongBinaryToDoubleFunction;
+import so.dang.cool.z.function.LongBinaryToIntFunction;
+
+public class BulkApplicationTests {
+
+    /* Unary operators */
+
+    @Test
+    void applyAll_dblUnaryOp() {
+        DoubleUnaryOperator half = d -> d / 2.0;
+        double[] in = { 1.0, 2.0, 3.0 };
+        double[] out = new double[3];
+
+        assertSame(out, Z.fuse(half).applyAll(in, out));
+        assertArrayEquals(new double[] { 0.5, 1.0, 1.5 }, out);
+    }
+
+    @Test
+    void applyAll_dblUnaryOp_inPlace() {
+        DoubleUnaryOperator half = d -> d / 2.0;
+        double[] values = { 1.0, 2.0, 3.0 };
+
+        assertSame(values, Z.fuse(half).fuse(half).applyAll(values));
+        assertArrayEquals(new double[] { 0.25, 0.5, 0.75 }, values);
+    }
+
+    @Test
+    void applyAll_dblUnaryOp_range() {
+        DoubleUnaryOperator negate = d -> -d;
+        double[] in = { 1.0, 2.0, 3.0, 4.0 };
+        double[] out = new double[4];
+
+        Z.fuse(negate).applyAll(in, 1, out, 0, 2);
+        assertArrayEquals(new double[] { -2.0, -3.0, 0.0, 0.0 }, out);
+    }
+
+    @Test
+    void applyAll_intUnaryOp() {
+        IntUnaryOperator inc = i -> i + 1;
+        int[] in = { 1, 2, 3 };
+        int[] out = new int[3];
+
+        assertSame(out, Z.fuse(inc).applyAll(in, out));
+        assertArrayEquals(new int[] { 2, 3, 4 }, out);
+    }
+
+    @Test
+    void applyAll_intUnaryOp_inPlace() {
+        IntUnaryOperator inc = i -> i + 1;
+        IntUnaryOperator dbl = i -> i * 2;
+        int[] values = { 1, 2, 3 };
+
+        assertSame(values, Z.fuse(inc).fuse(dbl).applyAll(values));
+        assertArrayEquals(new int[] { 4, 6, 8 }, values);
+    }
+
+    @Test
+    void applyAll_intUnaryOp_range() {
+        IntUnaryOperator inc = i -> i + 1;
+        int[] in = { 1, 2, 3, 4 };
+        int[] out = new int[4];
+
+        Z.fuse(inc).applyAll(in, 2, out, 1, 2);
+        assertArrayEquals(new int[] { 0, 4, 5, 0 }, out);
+    }
+
+    @Test
+    void applyAll_intUnaryOp_stagesAcrossBlocks() {
+        IntUnaryOperator inc = i -> i + 1;
+        IntUnaryOperator dbl = i -> i * 2;
+        IntUnaryOperator dec = i -> i - 1;
+        var fused = Z.fuse(inc).fuse(dbl).fuse(dec);
+
+        int[] in = IntStream.range(0, 5000).toArray();
+        int[] out = new int[5003];
+        fused.applyAll(in, 0, out, 3, in.length);
+
+        for (int i = 0; i < in.length; i++) {
+            assertEquals(fused.applyAsInt(in[i]), out[i + 3]);
+        }
+    }
+
+    @Test
+    void applyAll_longUnaryOp() {
+        LongUnaryOperator square = n -> n * n;
+        long[] in = { 1L, 2L, 3L };
+        long[] out = new long[3];
+
+        assertSame(out, Z.fuse(square).applyAll(in, out));
+        assertArrayEquals(new long[] { 1L, 4L, 9L }, out);
+    }
+
+    @Test
+    void applyAll_longUnaryOp_inPlace() {
+        LongUnaryOperator square = n -> n * n;
+        LongUnaryOperator inc = n -> n + 1;
+        long[] values = { 1L, 2L, 3L };
+
+        assertSame(values, Z.fuse(square).fuse(inc).applyAll(values));
+        assertArrayEquals(new long[] { 2L, 5L, 10L }, values);
+    }
+
+    @Test
+    void applyAll_longUnaryOp_range() {
+        LongUnaryOperator square = n -> n * n;
+        long[] values = { 1L, 2L, 3L, 4L };
+
+        Z.fuse(square).applyAll(values, 1, values, 1, 2);
+        assertArrayEquals(new long[] { 1L, 4L, 9L, 4L }, values);
+    }
+
+    /* Binary operators */
+
+    @Test
+    void applyAll_dblBinOp() {
+        DoubleBinaryOperator add = (d1, d2) -> d1 + d2;
+        double[] left = { 1.0, 2.0 };
+        double[] right = { 0.5, 0.25 };
+        double[] out = new double[2];
+
+        assertSame(out, Z.fuse(add).applyAll(left, right, out));
+        assertArrayEquals(new double[] { 1.5, 2.25 }, out);
+    }
+
+    @Test
+    void applyAll_dblBinOp_range() {
+        DoubleBinaryOperator add = (d1, d2) -> d1 + d2;
+        double[] left = { 1.0, 2.0, 3.0 };
+        double[] right = { 10.0, 20.0, 30.0 };
+        double[] out = new double[3];
+
+        Z.fuse(add).applyAll(left, 0, right, 1, out, 2, 1);
+        assertArrayEquals(new double[] { 0.0, 0.0, 21.0 }, out);
+    }
+
+    @Test
+    void applyAll_dblBinToIntFn() {
+        DoubleBinaryToIntFunction cmp = Double::compare;
+        int[] out = new int[3];
+
+        Z
+            .fuse(cmp)
+            .applyAll(
+                new double[] { 1.0, 2.0, 3.0 },
+                new double[] { 2.0, 2.0, 2.0 },
+                out
+            );
+        assertArrayEquals(new int[] { -1, 0, 1 }, out);
+    }
+
+    @Test
+    void applyAll_dblBinToLongFn() {
+        DoubleBinaryToLongFunction mul = (d1, d2) -> (long) (d1 * d2);
+        double[] left = { 1.5, 2.5 };
+        double[] right = { 2.0, 4.0 };
+        long[] out = new long[2];
+
+        Z.fuse(mul).applyAll(left, right, out);
+        assertArrayEquals(new long[] { 3L, 10L }, out);
+    }
+
+    @Test
+    void applyAll_intBinOp() {
+        IntBinaryOperator add = Integer::sum;
+        int[] left = { 1, 2, 3 };
+        int[] right = { 3, 2, 1 };
+
+        assertSame(left, Z.fuse(add).applyAll(left, right, left));
+        assertArrayEquals(new int[] { 4, 4, 4 }, left);
+    }
+
+    @Test
+    void applyAll_intBinToDblFn() {
+        IntBinaryToDoubleFunction div = (i1, i2) -> (double) i1 / i2;
+        double[] out = new double[2];
+
+        Z.fuse(div).applyAll(new int[] { 1, 3 }, new int[] { 2, 4 }, out);
+        assertArrayEquals(new double[] { 0.5, 0.75 }, out);
+    }
+
+    @Test
+    void applyAll_intBinToLongFn() {
+        IntBinaryToLongFunction mul = (i1, i2) -> (long) i1 * i2;
+        long[] out = new long[1];
+
+        Z
+            .fuse(mul)
+            .applyAll(new int[] { Integer.MAX_VALUE }, new int[] { 2 }, out);
+        assertArrayEquals(new long[] { 2L * Integer.MAX_VALUE }, out);
+    }
+
+    @Test
+    void applyAll_longBinOp() {
+        LongBinaryOperator max = Math::max;
+        long[] out = new long[2];
+
+        Z.fuse(max).applyAll(new long[] { 1L, 9L }, new long[] { 5L, 5L }, out);
+        assertArrayEquals(new long[] { 5L, 9L }, out);
+    }
+
+    @Test
+    void applyAll_longBinToDblFn() {
+        LongBinaryToDoubleFunction div = (n1, n2) -> (double) n1 / n2;
+        double[] out = new double[2];
+
+        Z.fuse(div).applyAll(new long[] { 1L, 1L }, new long[] { 4L, 8L }, out);
+        assertArrayEquals(new double[] { 0.25, 0.125 }, out);
+    }
+
+    @Test
+    void applyAll_longBinToIntFn() {
+        LongBinaryToIntFunction cmp = Long::compare;
+        int[] out = new int[2];
+
+        Z.fuse(cmp).applyAll(new long[] { 1L, 9L }, new long[] { 5L, 5L }, out);
+        assertArrayEquals(new int[] { -1, 1 }, out);
+    }
+
+    /* Conversions */
+
+    @Test
+    void applyAll_dblToIntFn() {
+        DoubleToIntFunction floor = d -> (int) Math.floor(d);
+        double[] in = { 1.5, -1.5 };
+        int[] out = new int[2];
+
+        assertSame(out, Z.fuse(floor).applyAll(in, out));
+        assertArrayEquals(new int[] { 1, -2 }, out);
+    }
+
+    @Test
+    void applyAll_dblToLongFn() {
+        DoubleToLongFunction round = Math::round;
+        long[] out = new long[2];
+
+        Z.fuse(round).applyAll(new double[] { 1.4, 1.6 }, out);
+        assertArrayEquals(new long[] { 1L, 2L }, out);
+    }
+
+    @Test
+    void applyAll_intToDblFn() {
+        IntToDoubleFunction half = i -> i / 2.0;
+        double[] out = new double[3];
+
+        Z.fuse(half).applyAll(new int[] { 1, 2, 3 }, 1, out, 0, 2);
+        assertArrayEquals(new double[] { 1.0, 1.5, 0.0 }, out);
+
+        Z.fuse(half).applyAll(new int[] { 4, 5 }, out);
+        assertArrayEquals(new double[] { 2.0, 2.5, 0.0 }, out);
+    }
+
+    @Test
+    void applyAll_intToLongFn() {
+        IntToLongFunction widen = i -> i;
+        long[] out = new long[2];
+
+        Z.fuse(widen).applyAll(new int[] { -1, 1 }, out);
+        assertArrayEquals(new long[] { -1L, 1L }, out);
+    }
+
+    @Test
+    void applyAll_longToDblFn() {
+        LongToDoubleFunction half = n -> n / 2.0;
+        double[] out = new double[2];
+
+        Z.fuse(half).applyAll(new long[] { 1L, 3L }, out);
+        assertArrayEquals(new double[] { 0.5, 1.5 }, out);
+    }
+
+    @Test
+    void applyAll_longToIntFn() {
+        LongToIntFunction signum = Long::signum;
+        int[] out = new int[3];
+
+        Z.fuse(signum).applyAll(new long[] { -9L, 0L, 9L }, out);
+        assertArrayEquals(new int[] { -1, 0, 1 }, out);
+    }
+
+    /* Bounds */
+
+    @Test
+    void applyAll_emptyRange() {
+        IntUnaryOperator inc = i -> i + 1;
+        int[] values = {};
+
+        assertSame(values, Z.fuse(inc).applyAll(values));
+    }
+
+    @Test
+    void applyAll_outTooShort() {
+        IntUnaryOperator inc = i -> i + 1;
+        IntToLongFunction widen = i -> i;
+        IntBinaryOperator add = Integer::sum;
+        var fusedInc = Z.fuse(inc);
+        var fusedWiden = Z.fuse(widen);
+        var fusedAdd = Z.fuse(add);
+
+        assertThrows(
+            IndexOutOfBoundsException.class,
+            () -> fusedInc.applyAll(new int[3], new int[2])
+        );
+        assertThrows(
+            IndexOutOfBoundsException.class,
+            () -> fusedWiden.applyAll(new int[3], new long[2])
+        );
+        assertThrows(
+            IndexOutOfBoundsException.class,
+            () -> fusedAdd.applyAll(new int[3], new int[3], new int[2])
+        );
+    }
+
+    @Test
+    void applyAll_inTooShort() {
+        IntUnaryOperator inc = i -> i + 1;
+        IntToLongFunction widen = i -> i;
+        IntBinaryOperator add = Integer::sum;
+        var fusedInc = Z.fuse(inc);
+        var fusedWiden = Z.fuse(widen);
+        var fusedAdd = Z.fuse(add);
+        int[] out = new int[3];
+
+        assertThrows(
+            IndexOutOfBoundsException.class,
+            () -> fusedInc.applyAll(new int[3], 1, out, 0, 3)
+        );
+        assertThrows(
+            IndexOutOfBoundsException.class,
+            () -> fusedWiden.applyAll(new int[3], -1, new long[3], 0, 1)
+        );
+        assertThrows(
+            IndexOutOfBoundsException.class,
+            () -> fusedAdd.applyAll(new int[3], 0, new int[2], 0, out, 0, 3)
+        );
+    }
+
+    @Test
+    void applyAll_leavesOutUntouchedOnBadRange() {
+        IntUnaryOperator inc = i -> i + 1;
+        int[] out = { 7, 7 };
+
+        assertThrows(
+            IndexOutOfBoundsException.class,
+            () -> Z.fuse(inc).applyAll(new int[] { 1, 2, 3 }, out)
+        );
+        assertArrayEquals(new int[] { 7, 7 }, out);
+    }
+}
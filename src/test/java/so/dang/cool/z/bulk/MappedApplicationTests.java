@@ -0,0 +1,223 @@
+package so.dang.cool.z.bulk;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.IntUnaryOperator;
+import java.util.function.LongUnaryOperator;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import so.dang.cool.z.Z;
+import so.dang.cool.z.internal.bulk.Mapped;
+
+public class MappedApplicationTests {
+
+    /* More than two windows of longs, with a ragged tail. */
+    private static final int SIZE = Mapped.WINDOW_BYTES / Long.BYTES * 2 + 3;
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+
+    @TempDir
+    Path dir;
+
+    @AfterEach
+    void shutdown() {
+        pool.shutdown();
+    }
+
+    private static Path write(Path file, ByteOrder order, long... values)
+        throws IOException {
+        ByteBuffer bytes = ByteBuffer
+            .allocate(values.length * Long.BYTES)
+            .order(order);
+        bytes.asLongBuffer().put(values);
+        return Files.write(file, bytes.array());
+    }
+
+    private static long[] readLongs(Path file, ByteOrder order)
+        throws IOException {
+        ByteBuffer bytes = ByteBuffer.wrap(Files.readAllBytes(file));
+        long[] values = new long[bytes.capacity() / Long.BYTES];
+        bytes.order(order).asLongBuffer().get(values);
+        return values;
+    }
+
+    @Test
+    void applyAll_mappedLongs() throws IOException {
+        long[] values = LongStream.range(0, SIZE).toArray();
+        Path in = write(dir.resolve("in"), ByteOrder.nativeOrder(), values);
+        Path out = dir.resolve("out");
+        LongUnaryOperator inc = n -> n + 1;
+        var fused = Z.fuse(inc).fuse(Z.ops.mulLong(3L));
+
+        assertSame(out, fused.applyAll(in, out));
+        assertArrayEquals(
+            fused.applyAll(values.clone()),
+            readLongs(out, ByteOrder.nativeOrder())
+        );
+        assertArrayEquals(values, readLongs(in, ByteOrder.nativeOrder()));
+    }
+
+    @Test
+    void parallelApplyAll_mappedLongs() throws IOException {
+        long[] values = LongStream.range(0, SIZE).toArray();
+        Path in = write(dir.resolve("in"), ByteOrder.BIG_ENDIAN, values);
+        Path out = dir.resolve("out");
+        LongUnaryOperator neg = n -> -n;
+        var fused = Z.fuse(neg);
+
+        fused.parallelApplyAll(in, out, ByteOrder.BIG_ENDIAN, pool);
+        assertArrayEquals(
+            fused.applyAll(values.clone()),
+            readLongs(out, ByteOrder.BIG_ENDIAN)
+        );
+    }
+
+    @Test
+    void applyAll_mappedInPlace() throws IOException {
+        Path file = write(dir.resolve("column"), ByteOrder.nativeOrder(), 1, 2);
+        var fused = Z.fuse(Z.ops.addLong(10L));
+
+        fused.applyAll(file, file);
+        fused.parallelApplyAll(file, dir.resolve(".").resolve("column"));
+
+        assertArrayEquals(
+            new long[] { 21, 22 },
+            readLongs(file, ByteOrder.nativeOrder())
+        );
+    }
+
+    @Test
+    void applyAll_mappedDoubles() throws IOException {
+        double[] values = IntStream.range(0, 5000).asDoubleStream().toArray();
+        ByteBuffer bytes = ByteBuffer.allocate(values.length * Double.BYTES);
+        bytes.order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer().put(values);
+        Path in = Files.write(dir.resolve("in"), bytes.array());
+        Path out = dir.resolve("out");
+        DoubleUnaryOperator half = d -> d / 2.0;
+        var fused = Z.fuse(half).fuse(Z.ops.clampDouble(10.0, 100.0));
+
+        fused.applyAll(in, out, ByteOrder.LITTLE_ENDIAN);
+        double[] serial = new double[values.length];
+        ByteBuffer
+            .wrap(Files.readAllBytes(out))
+            .order(ByteOrder.LITTLE_ENDIAN)
+            .asDoubleBuffer()
+            .get(serial);
+        assertArrayEquals(fused.applyAll(values.clone()), serial);
+
+        fused.applyAll(in, out);
+        fused.parallelApplyAll(in, out);
+        fused.parallelApplyAll(in, out, ByteOrder.LITTLE_ENDIAN, pool);
+        assertEquals(Files.size(in), Files.size(out));
+    }
+
+    @Test
+    void applyAll_mappedInts() throws IOException {
+        int[] values = IntStream.range(0, 5000).toArray();
+        ByteBuffer bytes = ByteBuffer.allocate(values.length * Integer.BYTES);
+        bytes.asIntBuffer().put(values);
+        Path in = Files.write(dir.resolve("in"), bytes.array());
+        Path out = dir.resolve("out");
+        IntUnaryOperator odd = i -> i | 1;
+        var fused = Z.fuse(odd).fuse(Z.ops.addInt(1));
+
+        fused.parallelApplyAll(in, out, ByteOrder.BIG_ENDIAN, pool);
+        int[] parallel = new int[values.length];
+        ByteBuffer.wrap(Files.readAllBytes(out)).asIntBuffer().get(parallel);
+        assertArrayEquals(fused.applyAll(values.clone()), parallel);
+
+        fused.applyAll(in, out);
+        fused.applyAll(in, out, ByteOrder.BIG_ENDIAN);
+        fused.parallelApplyAll(in, out);
+        assertEquals(Files.size(in), Files.size(out));
+    }
+
+    @Test
+    void applyAll_mappedEmpty() throws IOException {
+        Path in = Files.write(dir.resolve("in"), new byte[0]);
+        Path out = Files.write(dir.resolve("out"), new byte[] { 1, 2, 3 });
+        LongUnaryOperator inc = n -> n + 1;
+
+        Z.fuse(inc).applyAll(in, out);
+
+        assertEquals(0, Files.size(out));
+    }
+
+    @Test
+    void applyAll_mappedRaggedFile() throws IOException {
+        Path in = Files.write(dir.resolve("in"), new byte[12]);
+        LongUnaryOperator inc = n -> n + 1;
+
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> Z.fuse(inc).applyAll(in, dir.resolve("out"))
+        );
+    }
+
+    @Test
+    void applyAll_mappedMissingFile() {
+        LongUnaryOperator inc = n -> n + 1;
+
+        assertThrows(
+            IOException.class,
+            () -> Z.fuse(inc).applyAll(dir.resolve("in"), dir.resolve("out"))
+        );
+        assertThrows(
+            NullPointerException.class,
+            () ->
+                Z
+                    .fuse(inc)
+                    .parallelApplyAll(dir, dir, ByteOrder.BIG_ENDIAN, null)
+        );
+    }
+
+    @Test
+    void applyAll_mappedUnmappableOutput() throws IOException {
+        Path devNull = Paths.get("/dev/null");
+        assumeTrue(Files.isWritable(devNull));
+        Path in = write(dir.resolve("in"), ByteOrder.nativeOrder(), 1, 2);
+        LongUnaryOperator inc = n -> n + 1;
+
+        assertThrows(
+            IOException.class,
+            () -> Z.fuse(inc).applyAll(in, devNull)
+        );
+    }
+
+    @Test
+    void applyAll_mappedUncheckedFailure() throws IOException {
+        Path in = write(dir.resolve("in"), ByteOrder.nativeOrder(), 1, 2);
+        IOException cause = new IOException("chunk failed");
+
+        IOException thrown = assertThrows(
+            IOException.class,
+            () ->
+                Mapped.longs(
+                    in,
+                    dir.resolve("out"),
+                    ByteOrder.nativeOrder(),
+                    pool,
+                    (long[] chunk, int length) -> {
+                        throw new UncheckedIOException(cause);
+                    }
+                )
+        );
+        assertSame(cause, thrown);
+    }
+}
@@ -0,0 +1,232 @@
+package so.dang.cool.z.bulk;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.function.DoubleToIntFunction;
+import java.util.function.DoubleToLongFunction;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.Function;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.IntToLongFunction;
+import java.util.function.IntUnaryOperator;
+import java.util.function.LongToDoubleFunction;
+import java.util.function.LongToIntFunction;
+import java.util.function.LongUnaryOperator;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import so.dang.cool.z.Z;
+
+public class ParallelApplicationTests {
+
+    private static final int SIZE = 100_000;
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+
+    private final int[] ints = IntStream.range(0, SIZE).toArray();
+    private final long[] longs = LongStream.range(0, SIZE).toArray();
+    private final double[] doubles = IntStream
+        .range(0, SIZE)
+        .asDoubleStream()
+        .toArray();
+
+    @AfterEach
+    void shutdown() {
+        pool.shutdown();
+    }
+
+    /* Unary operators */
+
+    @Test
+    void parallelApplyAll_dblUnaryOp() {
+        DoubleUnaryOperator half = d -> d / 2.0;
+        var fused = Z.fuse(half);
+
+        double[] expected = fused.applyAll(doubles, new double[SIZE]);
+        assertArrayEquals(
+            expected,
+            fused.parallelApplyAll(doubles, new double[SIZE])
+        );
+        assertSame(doubles, fused.parallelApplyAll(doubles, pool));
+        assertArrayEquals(expected, doubles);
+        assertSame(doubles, fused.parallelApplyAll(doubles));
+    }
+
+    @Test
+    void parallelApplyAll_intUnaryOp() {
+        IntUnaryOperator inc = i -> i + 1;
+        IntUnaryOperator dbl = i -> i * 2;
+        var fused = Z.fuse(inc).fuse(dbl);
+
+        int[] expected = fused.applyAll(ints, new int[SIZE]);
+        int[] out = new int[SIZE];
+        assertArrayEquals(expected, fused.parallelApplyAll(ints, out));
+        assertSame(ints, fused.parallelApplyAll(ints));
+        assertArrayEquals(expected, ints);
+    }
+
+    @Test
+    void parallelApplyAll_longUnaryOp() {
+        LongUnaryOperator square = n -> n * n;
+        var fused = Z.fuse(square);
+
+        long[] expected = fused.applyAll(longs, new long[SIZE]);
+        assertArrayEquals(
+            expected,
+            fused.parallelApplyAll(longs, new long[SIZE], pool)
+        );
+        long[] out = new long[SIZE];
+        assertArrayEquals(expected, fused.parallelApplyAll(longs, out));
+        assertArrayEquals(expected, fused.parallelApplyAll(longs, pool));
+        assertSame(longs, fused.parallelApplyAll(longs));
+    }
+
+    @Test
+    void parallelApplyAll_usesPool() {
+        Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        IntUnaryOperator record = i -> {
+            threads.add(Thread.currentThread());
+            return i;
+        };
+
+        Z.fuse(record).parallelApplyAll(ints, pool);
+
+        assertTrue(threads.stream().allMatch(t -> pool == poolOf(t)));
+    }
+
+    private static ForkJoinPool poolOf(Thread thread) {
+        return thread instanceof ForkJoinWorkerThread
+            ? ((ForkJoinWorkerThread) thread).getPool()
+            : null;
+    }
+
+    /* Conversions */
+
+    @Test
+    void parallelApplyAll_dblToIntFn() {
+        DoubleToIntFunction floor = d -> (int) d;
+        int[] out = new int[SIZE];
+
+        assertSame(out, Z.fuse(floor).parallelApplyAll(doubles, out));
+        assertArrayEquals(ints, out);
+    }
+
+    @Test
+    void parallelApplyAll_dblToLongFn() {
+        DoubleToLongFunction floor = d -> (long) d;
+        long[] out = new long[SIZE];
+
+        assertSame(out, Z.fuse(floor).parallelApplyAll(doubles, out, pool));
+        assertArrayEquals(longs, out);
+        assertArrayEquals(longs, Z.fuse(floor).parallelApplyAll(doubles, out));
+    }
+
+    @Test
+    void parallelApplyAll_intToDblFn() {
+        IntToDoubleFunction widen = i -> i;
+        double[] out = new double[SIZE];
+
+        Z.fuse(widen).parallelApplyAll(ints, out);
+        assertArrayEquals(doubles, out);
+    }
+
+    @Test
+    void parallelApplyAll_intToLongFn() {
+        IntToLongFunction widen = i -> i;
+        long[] out = new long[SIZE];
+
+        Z.fuse(widen).parallelApplyAll(ints, out);
+        assertArrayEquals(longs, out);
+    }
+
+    @Test
+    void parallelApplyAll_longToDblFn() {
+        LongToDoubleFunction widen = n -> n;
+        double[] out = new double[SIZE];
+
+        Z.fuse(widen).parallelApplyAll(longs, out);
+        assertArrayEquals(doubles, out);
+    }
+
+    @Test
+    void parallelApplyAll_longToIntFn() {
+        LongToIntFunction narrow = n -> (int) n;
+        int[] out = new int[SIZE];
+
+        Z.fuse(narrow).parallelApplyAll(longs, out);
+        assertArrayEquals(ints, out);
+    }
+
+    /* Functions */
+
+    @Test
+    void parallelApplyBatch() {
+        Function<Integer, Integer> inc = i -> i + 1;
+        Function<Integer, String> str = String::valueOf;
+        var fused = Z.fuse(inc).fuse(str);
+        List<Integer> in = IntStream
+            .range(0, SIZE)
+            .boxed()
+            .collect(Collectors.toList());
+
+        List<String> expected = fused.applyBatch(in);
+        assertEquals(expected, fused.parallelApplyBatch(in));
+        assertEquals(expected, fused.parallelApplyBatch(in, pool));
+    }
+
+    @Test
+    void parallelApplyAll_fn() {
+        Function<Integer, Integer> inc = i -> i + 1;
+        Function<Integer, String> str = String::valueOf;
+        var fused = Z.fuse(inc).fuse(str);
+        Integer[] in = IntStream.range(0, SIZE).boxed().toArray(Integer[]::new);
+
+        String[] expected = fused.applyAll(in, new String[SIZE]);
+        String[] out = new String[SIZE];
+        assertArrayEquals(expected, fused.parallelApplyAll(in, out));
+        assertArrayEquals(
+            expected,
+            fused.parallelApplyAll(in, new String[SIZE], pool)
+        );
+    }
+
+    /* Failures */
+
+    @Test
+    void parallelApplyAll_outTooShort() {
+        IntUnaryOperator inc = i -> i + 1;
+        var fused = Z.fuse(inc);
+
+        assertThrows(
+            IndexOutOfBoundsException.class,
+            () -> fused.parallelApplyAll(ints, new int[SIZE - 1])
+        );
+    }
+
+    @Test
+    void parallelApplyAll_propagatesFailure() {
+        IntUnaryOperator fail = i -> {
+            if (i == SIZE / 2) {
+                throw new IllegalStateException("bad element");
+            }
+            return i;
+        };
+        var fused = Z.fuse(fail);
+
+        assertThrows(
+            IllegalStateException.class,
+            () -> fused.parallelApplyAll(ints, new int[SIZE], pool)
+        );
+    }
+}
@@ -0,0 +1,313 @@
+package so.dang.cool.z.bulk;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.DoublePredicate;
+import java.util.function.IntPredicate;
+import java.util.function.LongPredicate;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import so.dang.cool.z.Z;
+
+public class SelectionTests {
+
+    private static final int[] COLUMN = IntStream.range(0, 200).toArray();
+
+    /* Selection vectors */
+
+    @Test
+    void select_pred() {
+        Predicate<String> empty = String::isEmpty;
+        String[] in = { "", "a", "", "b" };
+        int[] selection = new int[in.length];
+
+        assertEquals(2, Z.fuse(empty).select(in, selection));
+        assertArrayEquals(new int[] { 0, 2 }, Arrays.copyOf(selection, 2));
+    }
+
+    @Test
+    void select_dblPred() {
+        DoublePredicate positive = d -> d > 0.0;
+        double[] in = { -1.0, 1.0, 2.0, -2.0 };
+        int[] selection = new int[4];
+
+        assertEquals(1, Z.fuse(positive).select(in, 2, 2, selection));
+        assertEquals(2, selection[0]);
+        assertEquals(2, Z.fuse(positive).select(in, selection));
+        assertArrayEquals(new int[] { 1, 2 }, Arrays.copyOf(selection, 2));
+    }
+
+    @Test
+    void select_intPred() {
+        IntPredicate even = i -> i % 2 == 0;
+        int[] selection = new int[COLUMN.length];
+
+        int count = Z.fuse(even).select(COLUMN, selection);
+        assertEquals(100, count);
+        for (int s = 0; s < count; s++) {
+            assertEquals(2 * s, selection[s]);
+        }
+    }
+
+    @Test
+    void select_longPred() {
+        LongPredicate big = n -> n > 10L;
+        long[] in = { 1L, 100L, 1_000L };
+        int[] selection = new int[3];
+
+        assertEquals(2, Z.fuse(big).select(in, selection));
+        assertArrayEquals(new int[] { 1, 2 }, Arrays.copyOf(selection, 2));
+    }
+
+    @Test
+    void select_nothing() {
+        IntPredicate never = i -> false;
+        int[] selection = new int[COLUMN.length];
+
+        assertEquals(0, Z.fuse(never).select(COLUMN, selection));
+    }
+
+    /* Refined selection vectors */
+
+    @Test
+    void refine_pred() {
+        Predicate<String> empty = String::isEmpty;
+        String[] in = { "", "a", "", "b" };
+        int[] selection = { 0, 1, 3 };
+
+        assertEquals(1, Z.fuse(empty).refine(in, selection, 2));
+        assertEquals(0, selection[0]);
+    }
+
+    @Test
+    void refine_dblPred() {
+        DoublePredicate positive = d -> d > 0.0;
+        double[] in = { -1.0, 1.0, 2.0 };
+        int[] selection = { 0, 2 };
+
+        assertEquals(1, Z.fuse(positive).refine(in, selection, 2));
+        assertEquals(2, selection[0]);
+    }
+
+    @Test
+    void refine_intPred_onlyTestsSelected() {
+        List<Integer> tested = new ArrayList<>();
+        IntPredicate even = i -> i % 2 == 0;
+        IntPredicate small = i -> {
+            tested.add(i);
+            return i < 10;
+        };
+        int[] selection = new int[COLUMN.length];
+
+        int count = Z.fuse(even).select(COLUMN, selection);
+        count = Z.fuse(small).refine(COLUMN, selection, count);
+
+        assertEquals(5, count);
+        int[] selected = Arrays.copyOf(selection, count);
+        assertArrayEquals(new int[] { 0, 2, 4, 6, 8 }, selected);
+        assertEquals(100, tested.size());
+    }
+
+    @Test
+    void refine_longPred() {
+        LongPredicate big = n -> n > 10L;
+        long[] in = { 1L, 100L, 1_000L };
+        int[] selection = { 0, 2 };
+
+        assertEquals(1, Z.fuse(big).refine(in, selection, 2));
+        assertEquals(2, selection[0]);
+    }
+
+    /* Bitsets */
+
+    @Test
+    void bitset_pred() {
+        Predicate<String> empty = String::isEmpty;
+        String[] in = { "", "a", "", "b" };
+
+        assertArrayEquals(new long[] { 0b0101L }, Z.fuse(empty).bitset(in));
+    }
+
+    @Test
+    void bitset_dblPred() {
+        DoublePredicate positive = d -> d > 0.0;
+        double[] in = { -1.0, 1.0, 2.0, -2.0 };
+        long[] bits = new long[1];
+
+        assertSame(bits, Z.fuse(positive).bitset(in, 1, 3, bits));
+        assertArrayEquals(new long[] { 0b011L }, bits);
+        assertArrayEquals(new long[] { 0b0110L }, Z.fuse(positive).bitset(in));
+    }
+
+    @Test
+    void bitset_intPred_matchesBitSet() {
+        IntPredicate multipleOf3 = i -> i % 3 == 0;
+        long[] bits = Z.fuse(multipleOf3).bitset(COLUMN);
+
+        BitSet expected = new BitSet();
+        IntStream.range(0, 200).filter(multipleOf3).forEach(expected::set);
+
+        assertEquals(4, bits.length);
+        assertEquals(expected, BitSet.valueOf(bits));
+    }
+
+    @Test
+    void bitset_longPred() {
+        LongPredicate big = n -> n > 10L;
+        long[] in = { 1L, 100L, 1_000L };
+
+        assertArrayEquals(new long[] { 0b110L }, Z.fuse(big).bitset(in));
+    }
+
+    @Test
+    void bitset_empty() {
+        IntPredicate even = i -> i % 2 == 0;
+
+        assertArrayEquals(new long[0], Z.fuse(even).bitset(new int[0]));
+    }
+
+    /* Bitwise and */
+
+    @Test
+    void bitsetAnd_pred() {
+        Predicate<String> empty = String::isEmpty;
+        String[] in = { "", "a", "", "b" };
+        long[] bits = { 0b0011L };
+
+        assertSame(bits, Z.fuse(empty).bitsetAnd(in, bits));
+        assertArrayEquals(new long[] { 0b0001L }, bits);
+    }
+
+    @Test
+    void bitsetAnd_dblPred() {
+        DoublePredicate positive = d -> d > 0.0;
+        double[] in = { -1.0, 1.0, 2.0 };
+        long[] bits = { -1L };
+
+        Z.fuse(positive).bitsetAnd(in, bits);
+        assertArrayEquals(new long[] { ~0b001L }, bits);
+    }
+
+    @Test
+    void bitsetAnd_intPred_onlyTestsSetBits() {
+        List<Integer> tested = new ArrayList<>();
+        IntPredicate even = i -> i % 2 == 0;
+        IntPredicate small = i -> {
+            tested.add(i);
+            return i < 100;
+        };
+
+        long[] bits = Z.fuse(even).bitset(COLUMN);
+        Z.fuse(small).bitsetAnd(COLUMN, bits);
+
+        BitSet expected = new BitSet();
+        IntStream.range(0, 100).filter(even).forEach(expected::set);
+
+        assertEquals(expected, BitSet.valueOf(bits));
+        assertEquals(100, tested.size());
+    }
+
+    @Test
+    void bitsetAnd_longPred() {
+        LongPredicate big = n -> n > 10L;
+        long[] in = { 1L, 100L, 1_000L };
+        long[] bits = { 0b011L };
+
+        Z.fuse(big).bitsetAnd(in, bits);
+        assertArrayEquals(new long[] { 0b010L }, bits);
+    }
+
+    /* Bitwise or */
+
+    @Test
+    void bitsetOr_pred() {
+        Predicate<String> empty = String::isEmpty;
+        String[] in = { "", "a", "", "b" };
+        long[] bits = { 0b1000L };
+
+        assertSame(bits, Z.fuse(empty).bitsetOr(in, bits));
+        assertArrayEquals(new long[] { 0b1101L }, bits);
+    }
+
+    @Test
+    void bitsetOr_dblPred() {
+        DoublePredicate positive = d -> d > 0.0;
+        double[] in = { -1.0, 1.0, 2.0 };
+        long[] bits = { 0L };
+
+        Z.fuse(positive).bitsetOr(in, bits);
+        assertArrayEquals(new long[] { 0b110L }, bits);
+    }
+
+    @Test
+    void bitsetOr_intPred_onlyTestsClearBits() {
+        List<Integer> tested = new ArrayList<>();
+        IntPredicate even = i -> i % 2 == 0;
+        IntPredicate big = i -> {
+            tested.add(i);
+            return i >= 150;
+        };
+
+        long[] bits = Z.fuse(even).bitset(COLUMN);
+        Z.fuse(big).bitsetOr(COLUMN, bits);
+
+        BitSet expected = new BitSet();
+        IntStream
+            .range(0, 200)
+            .filter(even.or(i -> i >= 150))
+            .forEach(expected::set);
+
+        assertEquals(expected, BitSet.valueOf(bits));
+        assertEquals(100, tested.size());
+    }
+
+    @Test
+    void bitsetOr_longPred() {
+        LongPredicate big = n -> n > 10L;
+        long[] in = { 1L, 100L, 1_000L };
+        long[] bits = { 0b001L };
+
+        Z.fuse(big).bitsetOr(in, bits);
+        assertArrayEquals(new long[] { 0b111L }, bits);
+    }
+
+    /* Bounds */
+
+    @Test
+    void select_selectionTooShort() {
+        IntPredicate even = i -> i % 2 == 0;
+        var fused = Z.fuse(even);
+
+        assertThrows(
+            IndexOutOfBoundsException.class,
+            () -> fused.select(COLUMN, new int[COLUMN.length - 1])
+        );
+        assertThrows(
+            IndexOutOfBoundsException.class,
+            () -> fused.refine(COLUMN, new int[1], 2)
+        );
+    }
+
+    @Test
+    void bitset_bitsTooShort() {
+        IntPredicate even = i -> i % 2 == 0;
+        var fused = Z.fuse(even);
+
+        assertThrows(
+            IndexOutOfBoundsException.class,
+            () -> fused.bitset(COLUMN, 0, 129, new long[2])
+        );
+        assertThrows(
+            IndexOutOfBoundsException.class,
+            () -> fused.bitsetAnd(COLUMN, 100, 101, new long[2])
+        );
+    }
+}
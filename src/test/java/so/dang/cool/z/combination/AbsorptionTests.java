@@ -373,6 +373,40 @@ public class AbsorptionTests {
         }
     }
 
+    @Evil
+    @Test
+    void bicns_to_dblSup_unboxed() {
+        synchronized (consumedStringB) {
+            synchronized (consumedStringC) {
+                consumedStringB = "";
+                consumedStringC = "";
+
+                assertEquals(
+                    suppliedDouble,
+                    Z
+                        .fuse(saveStringsBandC)
+                        .absorbDoubleSupplierUnboxed(getDouble)
+                        .applyAsDouble("buenas", "dias")
+                );
+                assertEquals("buenas", consumedStringB);
+                assertEquals("dias", consumedStringC);
+
+                consumedStringB = "";
+                consumedStringC = "";
+
+                assertEquals(
+                    suppliedDouble,
+                    Z
+                        .fuse(saveStringsBandC)
+                        .absorbUnboxed(getDouble)
+                        .applyAsDouble("buenas", "dias")
+                );
+                assertEquals("buenas", consumedStringB);
+                assertEquals("dias", consumedStringC);
+            }
+        }
+    }
+
     @Evil
     @Test
     void bicns_to_intSup() {
@@ -395,6 +429,40 @@ public class AbsorptionTests {
         }
     }
 
+    @Evil
+    @Test
+    void bicns_to_intSup_unboxed() {
+        synchronized (consumedStringB) {
+            synchronized (consumedStringC) {
+                consumedStringB = "";
+                consumedStringC = "";
+
+                assertEquals(
+                    suppliedInt,
+                    Z
+                        .fuse(saveStringsBandC)
+                        .absorbIntSupplierUnboxed(getInt)
+                        .applyAsInt("buenas", "dias")
+                );
+                assertEquals("buenas", consumedStringB);
+                assertEquals("dias", consumedStringC);
+
+                consumedStringB = "";
+                consumedStringC = "";
+
+                assertEquals(
+                    suppliedInt,
+                    Z
+                        .fuse(saveStringsBandC)
+                        .absorbUnboxed(getInt)
+                        .applyAsInt("buenas", "dias")
+                );
+                assertEquals("buenas", consumedStringB);
+                assertEquals("dias", consumedStringC);
+            }
+        }
+    }
+
     @Evil
     @Test
     void bicns_to_longSup() {
@@ -417,6 +485,40 @@ public class AbsorptionTests {
         }
     }
 
+    @Evil
+    @Test
+    void bicns_to_longSup_unboxed() {
+        synchronized (consumedStringB) {
+            synchronized (consumedStringC) {
+                consumedStringB = "";
+                consumedStringC = "";
+
+                assertEquals(
+                    suppliedLong,
+                    Z
+                        .fuse(saveStringsBandC)
+                        .absorbLongSupplierUnboxed(getLong)
+                        .applyAsLong("buenas", "dias")
+                );
+                assertEquals("buenas", consumedStringB);
+                assertEquals("dias", consumedStringC);
+
+                consumedStringB = "";
+                consumedStringC = "";
+
+                assertEquals(
+                    suppliedLong,
+                    Z
+                        .fuse(saveStringsBandC)
+                        .absorbUnboxed(getLong)
+                        .applyAsLong("buenas", "dias")
+                );
+                assertEquals("buenas", consumedStringB);
+                assertEquals("dias", consumedStringC);
+            }
+        }
+    }
+
     @Evil
     @Test
     void bicns_to_op() {
@@ -747,6 +849,159 @@ public class AbsorptionTests {
         }
     }
 
+    @Evil
+    @Test
+    void dblBicns() {
+        synchronized (consumedDoubleB) {
+            synchronized (consumedDoubleC) {
+                consumedDoubleB = 0.0;
+                consumedDoubleC = 0.0;
+                saveDoublesBandC.accept(0.5, 1.5);
+                assertEquals(0.5, consumedDoubleB);
+                assertEquals(1.5, consumedDoubleC);
+
+                consumedDoubleB = 0.0;
+                consumedDoubleC = 0.0;
+                Z.fuse(saveDoublesBandC).accept(0.5, 1.5);
+                assertEquals(0.5, consumedDoubleB);
+                assertEquals(1.5, consumedDoubleC);
+
+                consumedDoubleB = 0.0;
+                consumedDoubleC = 0.0;
+                Z.fuse(saveDoublesBandC).apply(0.5).accept(1.5);
+                assertEquals(0.5, consumedDoubleB);
+                assertEquals(1.5, consumedDoubleC);
+
+                consumedDoubleB = 0.0;
+                consumedDoubleC = 0.0;
+                Z.fuse(saveDoublesBandC).resolve().apply(0.5).accept(1.5);
+                assertEquals(0.5, consumedDoubleB);
+                assertEquals(1.5, consumedDoubleC);
+            }
+        }
+    }
+
+    @Evil
+    @Test
+    void dblBicns_to_sup() {
+        synchronized (consumedDoubleB) {
+            synchronized (consumedDoubleC) {
+                consumedDoubleB = 0.0;
+                consumedDoubleC = 0.0;
+
+                assertEquals(
+                    suppliedString,
+                    Z.fuse(saveDoublesBandC).absorb(getString).apply(0.5, 1.5)
+                );
+                assertEquals(0.5, consumedDoubleB);
+                assertEquals(1.5, consumedDoubleC);
+            }
+        }
+    }
+
+    @Evil
+    @Test
+    void dblBicns_to_boolSup() {
+        synchronized (consumedDoubleB) {
+            synchronized (consumedDoubleC) {
+                consumedDoubleB = 0.0;
+                consumedDoubleC = 0.0;
+
+                assertTrue(
+                    Z
+                        .fuse(saveDoublesBandC)
+                        .absorb(getBooleanTrue)
+                        .test(0.5, 1.5)
+                );
+                assertEquals(0.5, consumedDoubleB);
+                assertEquals(1.5, consumedDoubleC);
+            }
+        }
+    }
+
+    @Evil
+    @Test
+    void dblBicns_to_dblSup() {
+        synchronized (consumedDoubleB) {
+            synchronized (consumedDoubleC) {
+                consumedDoubleB = 0.0;
+                consumedDoubleC = 0.0;
+
+                assertEquals(
+                    suppliedDouble,
+                    Z
+                        .fuse(saveDoublesBandC)
+                        .absorb(getDouble)
+                        .applyAsDouble(0.5, 1.5)
+                );
+                assertEquals(0.5, consumedDoubleB);
+                assertEquals(1.5, consumedDoubleC);
+            }
+        }
+    }
+
+    @Evil
+    @Test
+    void dblBicns_to_intSup() {
+        synchronized (consumedDoubleB) {
+            synchronized (consumedDoubleC) {
+                consumedDoubleB = 0.0;
+                consumedDoubleC = 0.0;
+
+                assertEquals(
+                    suppliedInt,
+                    Z.fuse(saveDoublesBandC).absorb(getInt).applyAsInt(0.5, 1.5)
+                );
+                assertEquals(0.5, consumedDoubleB);
+                assertEquals(1.5, consumedDoubleC);
+            }
+        }
+    }
+
+    @Evil
+    @Test
+    void dblBicns_to_longSup() {
+        synchronized (consumedDoubleB) {
+            synchronized (consumedDoubleC) {
+                consumedDoubleB = 0.0;
+                consumedDoubleC = 0.0;
+
+                assertEquals(
+                    suppliedLong,
+                    Z
+                        .fuse(saveDoublesBandC)
+                        .absorb(getLong)
+                        .applyAsLong(0.5, 1.5)
+                );
+                assertEquals(0.5, consumedDoubleB);
+                assertEquals(1.5, consumedDoubleC);
+            }
+        }
+    }
+
+    @Evil
+    @Test
+    void dblBicns_to_op() {
+        synchronized (consumedDoubleB) {
+            synchronized (consumedDoubleC) {
+                synchronized (wasOperated) {
+                    consumedDoubleB = 0.0;
+                    consumedDoubleC = 0.0;
+                    wasOperated = false;
+
+                    Z
+                        .fuse(saveDoublesBandC)
+                        .absorb(doOperation)
+                        .accept(0.5, 1.5);
+
+                    assertEquals(0.5, consumedDoubleB);
+                    assertEquals(1.5, consumedDoubleC);
+                    assertTrue(wasOperated);
+                }
+            }
+        }
+    }
+
     @Evil
     @Test
     void intCns_to_sup() {
@@ -964,6 +1219,147 @@ public class AbsorptionTests {
         }
     }
 
+    @Evil
+    @Test
+    void intBicns() {
+        synchronized (consumedIntB) {
+            synchronized (consumedIntC) {
+                consumedIntB = 0;
+                consumedIntC = 0;
+                saveIntsBandC.accept(1, 2);
+                assertEquals(1, consumedIntB);
+                assertEquals(2, consumedIntC);
+
+                consumedIntB = 0;
+                consumedIntC = 0;
+                Z.fuse(saveIntsBandC).accept(1, 2);
+                assertEquals(1, consumedIntB);
+                assertEquals(2, consumedIntC);
+
+                consumedIntB = 0;
+                consumedIntC = 0;
+                Z.fuse(saveIntsBandC).apply(1).accept(2);
+                assertEquals(1, consumedIntB);
+                assertEquals(2, consumedIntC);
+
+                consumedIntB = 0;
+                consumedIntC = 0;
+                Z.fuse(saveIntsBandC).resolve().apply(1).accept(2);
+                assertEquals(1, consumedIntB);
+                assertEquals(2, consumedIntC);
+            }
+        }
+    }
+
+    @Evil
+    @Test
+    void intBicns_to_sup() {
+        synchronized (consumedIntB) {
+            synchronized (consumedIntC) {
+                consumedIntB = 0;
+                consumedIntC = 0;
+
+                assertEquals(
+                    suppliedString,
+                    Z.fuse(saveIntsBandC).absorb(getString).apply(1, 2)
+                );
+                assertEquals(1, consumedIntB);
+                assertEquals(2, consumedIntC);
+            }
+        }
+    }
+
+    @Evil
+    @Test
+    void intBicns_to_boolSup() {
+        synchronized (consumedIntB) {
+            synchronized (consumedIntC) {
+                consumedIntB = 0;
+                consumedIntC = 0;
+
+                assertTrue(
+                    Z.fuse(saveIntsBandC).absorb(getBooleanTrue).test(1, 2)
+                );
+                assertEquals(1, consumedIntB);
+                assertEquals(2, consumedIntC);
+            }
+        }
+    }
+
+    @Evil
+    @Test
+    void intBicns_to_dblSup() {
+        synchronized (consumedIntB) {
+            synchronized (consumedIntC) {
+                consumedIntB = 0;
+                consumedIntC = 0;
+
+                assertEquals(
+                    suppliedDouble,
+                    Z.fuse(saveIntsBandC).absorb(getDouble).applyAsDouble(1, 2)
+                );
+                assertEquals(1, consumedIntB);
+                assertEquals(2, consumedIntC);
+            }
+        }
+    }
+
+    @Evil
+    @Test
+    void intBicns_to_intSup() {
+        synchronized (consumedIntB) {
+            synchronized (consumedIntC) {
+                consumedIntB = 0;
+                consumedIntC = 0;
+
+                assertEquals(
+                    suppliedInt,
+                    Z.fuse(saveIntsBandC).absorb(getInt).applyAsInt(1, 2)
+                );
+                assertEquals(1, consumedIntB);
+                assertEquals(2, consumedIntC);
+            }
+        }
+    }
+
+    @Evil
+    @Test
+    void intBicns_to_longSup() {
+        synchronized (consumedIntB) {
+            synchronized (consumedIntC) {
+                consumedIntB = 0;
+                consumedIntC = 0;
+
+                assertEquals(
+                    suppliedLong,
+                    Z.fuse(saveIntsBandC).absorb(getLong).applyAsLong(1, 2)
+                );
+                assertEquals(1, consumedIntB);
+                assertEquals(2, consumedIntC);
+            }
+        }
+    }
+
+    @Evil
+    @Test
+    void intBicns_to_op() {
+        synchronized (consumedIntB) {
+            synchronized (consumedIntC) {
+                synchronized (wasOperated) {
+                    consumedIntB = 0;
+                    consumedIntC = 0;
+                    wasOperated = false;
+
+                    Z.fuse(saveIntsBandC).absorb(doOperation).accept(1, 2);
+
+                    assertEquals(1, consumedIntB);
+                    assertEquals(2, consumedIntC);
+                    assertTrue(wasOperated);
+                }
+            }
+        }
+    }
+
     @Evil
     @Test
     void longCns_to_sup() {
@@ -1184,6 +1580,474 @@ public class AbsorptionTests {
         }
     }
 
+    @Evil
+    @Test
+    void longBicns() {
+        synchronized (consumedLongB) {
+            synchronized (consumedLongC) {
+                consumedLongB = 0L;
+                consumedLongC = 0L;
+                saveLongsBandC.accept(1L, 2L);
+                assertEquals(1L, consumedLongB);
+                assertEquals(2L, consumedLongC);
+
+                consumedLongB = 0L;
+                consumedLongC = 0L;
+                Z.fuse(saveLongsBandC).accept(1L, 2L);
+                assertEquals(1L, consumedLongB);
+                assertEquals(2L, consumedLongC);
+
+                consumedLongB = 0L;
+                consumedLongC = 0L;
+                Z.fuse(saveLongsBandC).apply(1L).accept(2L);
+                assertEquals(1L, consumedLongB);
+                assertEquals(2L, consumedLongC);
+
+                consumedLongB = 0L;
+                consumedLongC = 0L;
+                Z.fuse(saveLongsBandC).resolve().apply(1L).accept(2L);
+                assertEquals(1L, consumedLongB);
+                assertEquals(2L, consumedLongC);
+            }
+        }
+    }
+
+    @Evil
+    @Test
+    void longBicns_to_sup() {
+        synchronized (consumedLongB) {
+            synchronized (consumedLongC) {
+                consumedLongB = 0L;
+                consumedLongC = 0L;
+
+                assertEquals(
+                    suppliedString,
+                    Z.fuse(saveLongsBandC).absorb(getString).apply(1L, 2L)
+                );
+                assertEquals(1L, consumedLongB);
+                assertEquals(2L, consumedLongC);
+            }
+        }
+    }
+
+    @Evil
+    @Test
+    void longBicns_to_boolSup() {
+        synchronized (consumedLongB) {
+            synchronized (consumedLongC) {
+                consumedLongB = 0L;
+                consumedLongC = 0L;
+
+                assertTrue(
+                    Z.fuse(saveLongsBandC).absorb(getBooleanTrue).test(1L, 2L)
+                );
+                assertEquals(1L, consumedLongB);
+                assertEquals(2L, consumedLongC);
+            }
+        }
+    }
+
+    @Evil
+    @Test
+    void longBicns_to_dblSup() {
+        synchronized (consumedLongB) {
+            synchronized (consumedLongC) {
+                consumedLongB = 0L;
+                consumedLongC = 0L;
+
+                assertEquals(
+                    suppliedDouble,
+                    Z
+                        .fuse(saveLongsBandC)
+                        .absorb(getDouble)
+                        .applyAsDouble(1L, 2L)
+                );
+                assertEquals(1L, consumedLongB);
+                assertEquals(2L, consumedLongC);
+            }
+        }
+    }
+
+    @Evil
+    @Test
+    void longBicns_to_intSup() {
+        synchronized (consumedLongB) {
+            synchronized (consumedLongC) {
+                consumedLongB = 0L;
+                consumedLongC = 0L;
+
+                assertEquals(
+                    suppliedInt,
+                    Z.fuse(saveLongsBandC).absorb(getInt).applyAsInt(1L, 2L)
+                );
+                assertEquals(1L, consumedLongB);
+                assertEquals(2L, consumedLongC);
+            }
+        }
+    }
+
+    @Evil
+    @Test
+    void longBicns_to_longSup() {
+        synchronized (consumedLongB) {
+            synchronized (consumedLongC) {
+                consumedLongB = 0L;
+                consumedLongC = 0L;
+
+                assertEquals(
+                    suppliedLong,
+                    Z.fuse(saveLongsBandC).absorb(getLong).applyAsLong(1L, 2L)
+                );
+                assertEquals(1L, consumedLongB);
+                assertEquals(2L, consumedLongC);
+            }
+        }
+    }
+
+    @Evil
+    @Test
+    void longBicns_to_op() {
+        synchronized (consumedLongB) {
+            synchronized (consumedLongC) {
+                synchronized (wasOperated) {
+                    consumedLongB = 0L;
+                    consumedLongC = 0L;
+                    wasOperated = false;
+
+                    Z.fuse(saveLongsBandC).absorb(doOperation).accept(1L, 2L);
+
+                    assertEquals(1L, consumedLongB);
+                    assertEquals(2L, consumedLongC);
+                    assertTrue(wasOperated);
+                }
+            }
+        }
+    }
+
+    @Evil
+    @Test
+    void boolObjCns() {
+        synchronized (consumedBooleanB) {
+            synchronized (consumedStringG) {
+                consumedBooleanB = false;
+                consumedStringG = "";
+                saveBooleanBStringG.accept(true, "hey");
+                assertTrue(consumedBooleanB);
+                assertEquals("hey", consumedStringG);
+
+                consumedBooleanB = false;
+                consumedStringG = "";
+                Z.fuse(saveBooleanBStringG).accept(true, "hey");
+                assertTrue(consumedBooleanB);
+                assertEquals("hey", consumedStringG);
+
+                consumedBooleanB = false;
+                consumedStringG = "";
+                Z.fuse(saveBooleanBStringG).apply(true).accept("hey");
+                assertTrue(consumedBooleanB);
+                assertEquals("hey", consumedStringG);
+
+                consumedBooleanB = false;
+                consumedStringG = "";
+                Z.fuse(saveBooleanBStringG).resolve().apply(true).accept("hey");
+                assertTrue(consumedBooleanB);
+                assertEquals("hey", consumedStringG);
+            }
+        }
+    }
+
+    @Evil
+    @Test
+    void boolObjCns_to_sup() {
+        synchronized (consumedBooleanB) {
+            synchronized (consumedStringG) {
+                consumedBooleanB = false;
+                consumedStringG = "";
+
+                assertEquals(
+                    suppliedString,
+                    Z
+                        .fuse(saveBooleanBStringG)
+                        .absorb(getString)
+                        .apply(true, "hey")
+                );
+                assertTrue(consumedBooleanB);
+                assertEquals("hey", consumedStringG);
+            }
+        }
+    }
+
+    @Evil
+    @Test
+    void boolObjCns_to_boolSup() {
+        synchronized (consumedBooleanB) {
+            synchronized (consumedStringG) {
+                consumedBooleanB = false;
+                consumedStringG = "";
+
+                assertTrue(
+                    Z
+                        .fuse(saveBooleanBStringG)
+                        .absorb(getBooleanTrue)
+                        .test(true, "hey")
+                );
+                assertTrue(consumedBooleanB);
+                assertEquals("hey", consumedStringG);
+            }
+        }
+    }
+
+    @Evil
+    @Test
+    void boolObjCns_to_dblSup() {
+        synchronized (consumedBooleanB) {
+            synchronized (consumedStringG) {
+                consumedBooleanB = false;
+                consumedStringG = "";
+
+                assertEquals(
+                    suppliedDouble,
+                    Z
+                        .fuse(saveBooleanBStringG)
+                        .absorb(getDouble)
+                        .applyAsDouble(true, "hey")
+                );
+                assertTrue(consumedBooleanB);
+                assertEquals("hey", consumedStringG);
+            }
+        }
+    }
+
+    @Evil
+    @Test
+    void boolObjCns_to_intSup() {
+        synchronized (consumedBooleanB) {
+            synchronized (consumedStringG) {
+                consumedBooleanB = false;
+                consumedStringG = "";
+
+                assertEquals(
+                    suppliedInt,
+                    Z
+                        .fuse(saveBooleanBStringG)
+                        .absorb(getInt)
+                        .applyAsInt(true, "hey")
+                );
+                assertTrue(consumedBooleanB);
+                assertEquals("hey", consumedStringG);
+            }
+        }
+    }
+
+    @Evil
+    @Test
+    void boolObjCns_to_longSup() {
+        synchronized (consumedBooleanB) {
+            synchronized (consumedStringG) {
+                consumedBooleanB = false;
+                consumedStringG = "";
+
+                assertEquals(
+                    suppliedLong,
+                    Z
+                        .fuse(saveBooleanBStringG)
+                        .absorb(getLong)
+                        .applyAsLong(true, "hey")
+                );
+                assertTrue(consumedBooleanB);
+                assertEquals("hey", consumedStringG);
+            }
+        }
+    }
+
+    @Evil
+    @Test
+    void boolObjCns_to_op() {
+        synchronized (consumedBooleanB) {
+            synchronized (consumedStringG) {
+                synchronized (wasOperated) {
+                    consumedBooleanB = false;
+                    consumedStringG = "";
+                    wasOperated = false;
+
+                    Z
+                        .fuse(saveBooleanBStringG)
+                        .absorb(doOperation)
+                        .accept(true, "hey");
+
+                    assertTrue(consumedBooleanB);
+                    assertEquals("hey", consumedStringG);
+                    assertTrue(wasOperated);
+                }
+            }
+        }
+    }
+
+    @Evil
+    @Test
+    void boolDblCns() {
+        synchronized (consumedBooleanC) {
+            synchronized (consumedDoubleC) {
+                consumedBooleanC = false;
+                consumedDoubleC = 0.0;
+                saveBooleanCDoubleC.accept(true, 4.5);
+                assertTrue(consumedBooleanC);
+                assertEquals(4.5, consumedDoubleC);
+
+                consumedBooleanC = false;
+                consumedDoubleC = 0.0;
+                Z.fuse(saveBooleanCDoubleC).accept(true, 4.5);
+                assertTrue(consumedBooleanC);
+                assertEquals(4.5, consumedDoubleC);
+
+                consumedBooleanC = false;
+                consumedDoubleC = 0.0;
+                Z.fuse(saveBooleanCDoubleC).apply(true).accept(4.5);
+                assertTrue(consumedBooleanC);
+                assertEquals(4.5, consumedDoubleC);
+
+                consumedBooleanC = false;
+                consumedDoubleC = 0.0;
+                Z.fuse(saveBooleanCDoubleC).resolve().apply(true).accept(4.5);
+                assertTrue(consumedBooleanC);
+                assertEquals(4.5, consumedDoubleC);
+            }
+        }
+    }
+
+    @Evil
+    @Test
+    void boolDblCns_to_op() {
+        synchronized (consumedBooleanC) {
+            synchronized (consumedDoubleC) {
+                synchronized (wasOperated) {
+                    consumedBooleanC = false;
+                    consumedDoubleC = 0.0;
+                    wasOperated = false;
+
+                    Z
+                        .fuse(saveBooleanCDoubleC)
+                        .absorb(doOperation)
+                        .accept(true, 4.5);
+
+                    assertTrue(consumedBooleanC);
+                    assertEquals(4.5, consumedDoubleC);
+                    assertTrue(wasOperated);
+                }
+            }
+        }
+    }
+
+    @Evil
+    @Test
+    void boolIntCns() {
+        synchronized (consumedBooleanD) {
+            synchronized (consumedIntC) {
+                consumedBooleanD = false;
+                consumedIntC = 0;
+                saveBooleanDIntC.accept(true, 6);
+                assertTrue(consumedBooleanD);
+                assertEquals(6, consumedIntC);
+
+                consumedBooleanD = false;
+                consumedIntC = 0;
+                Z.fuse(saveBooleanDIntC).accept(true, 6);
+                assertTrue(consumedBooleanD);
+                assertEquals(6, consumedIntC);
+
+                consumedBooleanD = false;
+                consumedIntC = 0;
+                Z.fuse(saveBooleanDIntC).apply(true).accept(6);
+                assertTrue(consumedBooleanD);
+                assertEquals(6, consumedIntC);
+
+                consumedBooleanD = false;
+                consumedIntC = 0;
+                Z.fuse(saveBooleanDIntC).resolve().apply(true).accept(6);
+                assertTrue(consumedBooleanD);
+                assertEquals(6, consumedIntC);
+            }
+        }
+    }
+
+    @Evil
+    @Test
+    void boolIntCns_to_op() {
+        synchronized (consumedBooleanD) {
+            synchronized (consumedIntC) {
+                synchronized (wasOperated) {
+                    consumedBooleanD = false;
+                    consumedIntC = 0;
+                    wasOperated = false;
+
+                    Z
+                        .fuse(saveBooleanDIntC)
+                        .absorb(doOperation)
+                        .accept(true, 6);
+
+                    assertTrue(consumedBooleanD);
+                    assertEquals(6, consumedIntC);
+                    assertTrue(wasOperated);
+                }
+            }
+        }
+    }
+
+    @Evil
+    @Test
+    void boolLongCns() {
+        synchronized (consumedBooleanE) {
+            synchronized (consumedLongC) {
+                consumedBooleanE = false;
+                consumedLongC = 0L;
+                saveBooleanELongC.accept(true, 8L);
+                assertTrue(consumedBooleanE);
+                assertEquals(8L, consumedLongC);
+
+                consumedBooleanE = false;
+                consumedLongC = 0L;
+                Z.fuse(saveBooleanELongC).accept(true, 8L);
+                assertTrue(consumedBooleanE);
+                assertEquals(8L, consumedLongC);
+
+                consumedBooleanE = false;
+                consumedLongC = 0L;
+                Z.fuse(saveBooleanELongC).apply(true).accept(8L);
+                assertTrue(consumedBooleanE);
+                assertEquals(8L, consumedLongC);
+
+                consumedBooleanE = false;
+                consumedLongC = 0L;
+                Z.fuse(saveBooleanELongC).resolve().apply(true).accept(8L);
+                assertTrue(consumedBooleanE);
+                assertEquals(8L, consumedLongC);
+            }
+        }
+    }
+
+    @Evil
+    @Test
+    void boolLongCns_to_op() {
+        synchronized (consumedBooleanE) {
+            synchronized (consumedLongC) {
+                synchronized (wasOperated) {
+                    consumedBooleanE = false;
+                    consumedLongC = 0L;
+                    wasOperated = false;
+
+                    Z
+                        .fuse(saveBooleanELongC)
+                        .absorb(doOperation)
+                        .accept(true, 8L);
+
+                    assertTrue(consumedBooleanE);
+                    assertEquals(8L, consumedLongC);
+                    assertTrue(wasOperated);
+                }
+            }
+        }
+    }
+
     @Evil
     @Test
     void op_to_sup() {
@@ -1,6 +1,7 @@
 package so.dang.cool.z.combination;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static so.dang.cool.z.combination.TestFunctions.*;
 
 import org.junit.jupiter.api.Test;
@@ -126,4 +127,33 @@ public class AssimilationTests {
                 )
         );
     }
+
+    @Evil
+    @Test
+    public void assimilate_split_round_trip() {
+        assertSame(concat2, Z.assimilate2(Z.split2(concat2)));
+        assertSame(concat3, Z.assimilate3(Z.split3(concat3)));
+        assertSame(concat4, Z.assimilate4(Z.split4(concat4)));
+        assertSame(concat5, Z.assimilate5(Z.split5(concat5)));
+        assertSame(concat6, Z.assimilate6(Z.split6(concat6)));
+        assertSame(concat7, Z.assimilate7(Z.split7(concat7)));
+        assertSame(concat8, Z.assimilate8(Z.split8(concat8)));
+        assertSame(concat9, Z.assimilate9(Z.split9(concat9)));
+        assertSame(concat10, Z.assimilate10(Z.split10(concat10)));
+        assertSame(concat11, Z.assimilate11(Z.split11(concat11)));
+        assertSame(concat12, Z.assimilate12(Z.split12(concat12)));
+    }
+
+    @Evil
+    @Test
+    public void assimilate_partial_split() {
+        assertEquals(
+            "abc",
+            Z.assimilate2(Z.split3(concat3).apply("a")).apply("b", "c")
+        );
+        assertEquals(
+            "abc",
+            Z.assimilate2(Z.split3(concat3)).apply("a", "b").apply("c")
+        );
+    }
 }
@@ -0,0 +1,227 @@
+package so.dang.cool.z.combination;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.Test;
+import so.dang.cool.z.Z;
+
+public class ConstantTests {
+
+    @Test
+    void constant_prefix_is_computed_once() {
+        var compiles = new AtomicInteger();
+        Function<String, Pattern> compile = regex -> {
+            compiles.incrementAndGet();
+            return Pattern.compile(regex);
+        };
+
+        var isLocalHost = Z
+            .with("https?://localhost(:\\d+)?(/\\S*)?")
+            .constant()
+            .fuseFunction(compile)
+            .fuse(Pattern::matcher)
+            .fuse(Matcher::matches);
+
+        assertEquals(0, compiles.get());
+
+        assertTrue(isLocalHost.test("https://localhost:443"));
+        assertTrue(isLocalHost.test("http://localhost/index.html"));
+        assertFalse(isLocalHost.test("https://example.com"));
+
+        assertEquals(1, compiles.get());
+    }
+
+    @Test
+    void non_constant_prefix_is_computed_every_time() {
+        var compiles = new AtomicInteger();
+        Function<String, Pattern> compile = regex -> {
+            compiles.incrementAndGet();
+            return Pattern.compile(regex);
+        };
+
+        var isLocalHost = Z
+            .with("https?://localhost(:\\d+)?(/\\S*)?")
+            .fuseFunction(compile)
+            .fuse(Pattern::matcher)
+            .fuse(Matcher::matches);
+
+        assertTrue(isLocalHost.test("https://localhost:443"));
+        assertFalse(isLocalHost.test("https://example.com"));
+
+        assertEquals(2, compiles.get());
+    }
+
+    @Test
+    void constant_is_shared_by_later_fusions() {
+        var calls = new AtomicInteger();
+        var prefix = Z
+            .with("hello")
+            .constant()
+            .fuse(
+                (String s) -> {
+                    calls.incrementAndGet();
+                    return s.toUpperCase();
+                }
+            );
+
+        var exclaimed = prefix.fuse((String s) -> s + "!");
+        var questioned = prefix.fuse((String s) -> s + "?");
+
+        assertEquals("HELLO!", exclaimed.get());
+        assertEquals("HELLO?", questioned.get());
+        assertEquals("HELLO", prefix.get());
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void constant_mode() {
+        var sup = Z.with("hello");
+        var constant = sup.constant();
+
+        assertFalse(sup.isConstant());
+        assertTrue(constant.isConstant());
+        assertSame(constant, constant.constant());
+        assertTrue(constant.fuse(String::length).isConstant());
+        assertFalse(sup.fuse(String::length).isConstant());
+    }
+
+    @Test
+    void constant_propagates_between_primitives() {
+        var calls = new AtomicInteger();
+        var fusion = Z
+            .with("abc")
+            .constant()
+            .fuse(
+                (String s) -> {
+                    calls.incrementAndGet();
+                    return s.length();
+                }
+            )
+            .fuse((int i) -> i * 1.5)
+            .fuse((double d) -> (long) d)
+            .fuse((long n) -> n == 4L);
+
+        assertTrue(fusion.isConstant());
+        assertTrue(fusion.getAsBoolean());
+        assertTrue(fusion.getAsBoolean());
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void bool_constant() {
+        var calls = new AtomicInteger();
+        var fusion = Z
+            .with(true)
+            .constant()
+            .fuse(
+                (boolean b) -> {
+                    calls.incrementAndGet();
+                    return !b;
+                }
+            );
+
+        assertFalse(fusion.getAsBoolean());
+        assertFalse(fusion.getAsBoolean());
+        assertEquals(1, calls.get());
+
+        var sup = Z.with(true);
+        assertFalse(sup.isConstant());
+        assertTrue(sup.constant().isConstant());
+        assertSame(fusion, fusion.constant());
+    }
+
+    @Test
+    void dbl_constant() {
+        var calls = new AtomicInteger();
+        var fusion = Z
+            .with(1.5)
+            .constant()
+            .fuse(
+                (double d) -> {
+                    calls.incrementAndGet();
+                    return d * 2;
+                }
+            );
+
+        assertEquals(3.0, fusion.getAsDouble());
+        assertEquals(3.0, fusion.getAsDouble());
+        assertEquals(1, calls.get());
+
+        var sup = Z.with(1.5);
+        assertFalse(sup.isConstant());
+        assertTrue(sup.constant().isConstant());
+        assertSame(fusion, fusion.constant());
+    }
+
+    @Test
+    void int_constant() {
+        var calls = new AtomicInteger();
+        var fusion = Z
+            .with(2)
+            .constant()
+            .fuse(
+                (int i) -> {
+                    calls.incrementAndGet();
+                    return i * 2;
+                }
+            );
+
+        assertEquals(4, fusion.getAsInt());
+        assertEquals(4, fusion.getAsInt());
+        assertEquals(1, calls.get());
+
+        var sup = Z.with(2);
+        assertFalse(sup.isConstant());
+        assertTrue(sup.constant().isConstant());
+        assertSame(fusion, fusion.constant());
+    }
+
+    @Test
+    void long_constant() {
+        var calls = new AtomicInteger();
+        var fusion = Z
+            .with(3L)
+            .constant()
+            .fuse(
+                (long n) -> {
+                    calls.incrementAndGet();
+                    return n * 2;
+                }
+            );
+
+        assertEquals(6L, fusion.getAsLong());
+        assertEquals(6L, fusion.getAsLong());
+        assertEquals(1, calls.get());
+
+        var sup = Z.with(3L);
+        assertFalse(sup.isConstant());
+        assertTrue(sup.constant().isConstant());
+        assertSame(fusion, fusion.constant());
+    }
+
+    @Test
+    void constant_with_binary_functions() {
+        var calls = new AtomicInteger();
+        var addToTen = Z
+            .with(5)
+            .constant()
+            .fuse(
+                (int i) -> {
+                    calls.incrementAndGet();
+                    return i * 2;
+                }
+            )
+            .fuse((int a, int b) -> a + b);
+
+        assertEquals(11, addToTen.applyAsInt(1));
+        assertEquals(12, addToTen.applyAsInt(2));
+        assertEquals(1, calls.get());
+    }
+}
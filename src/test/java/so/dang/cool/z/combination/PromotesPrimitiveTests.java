@@ -0,0 +1,60 @@
+package so.dang.cool.z.combination;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import so.dang.cool.z.internal.combination.Combine;
+import so.dang.cool.z.internal.combination.PromotesPrimitive;
+
+/**
+ * Every combinator that boxes a primitive must have a non-boxing twin named
+ * with an "Unboxed" suffix. Checking every Combine type covers everything
+ * reachable from a primitive starting point.
+ */
+public class PromotesPrimitiveTests {
+
+    private static List<Method> promotingMethods() {
+        List<Method> promoting = new ArrayList<>();
+        for (Class<?> with : Combine.class.getClasses()) {
+            for (Method method : with.getMethods()) {
+                if (method.isAnnotationPresent(PromotesPrimitive.class)) {
+                    promoting.add(method);
+                }
+            }
+        }
+        return promoting;
+    }
+
+    @Test
+    void promoting_methods_are_visible() {
+        assertFalse(promotingMethods().isEmpty());
+    }
+
+    @Test
+    void promoting_methods_have_unboxed_twins() throws Exception {
+        for (Method promoting : promotingMethods()) {
+            Method twin = promoting
+                .getDeclaringClass()
+                .getMethod(
+                    promoting.getName() + "Unboxed",
+                    promoting.getParameterTypes()
+                );
+
+            assertNull(twin.getAnnotation(PromotesPrimitive.class));
+
+            String returned = twin.getGenericReturnType().getTypeName();
+            for (Class<?> boxed : promoting
+                .getAnnotation(PromotesPrimitive.class)
+                .promoted()) {
+                assertFalse(
+                    returned.contains(boxed.getName()),
+                    twin + " returns " + returned
+                );
+            }
+        }
+    }
+}
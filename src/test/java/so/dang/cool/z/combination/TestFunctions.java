@@ -45,13 +45,37 @@ import java.util.function.ToLongFunction;
 import java.util.function.UnaryOperator;
 import java.util.stream.Stream;
 import so.dang.cool.z.function.BooleanConsumer;
+import so.dang.cool.z.function.BooleanDoubleConsumer;
 import so.dang.cool.z.function.BooleanFunction;
+import so.dang.cool.z.function.BooleanIntConsumer;
+import so.dang.cool.z.function.BooleanLongConsumer;
+import so.dang.cool.z.function.BooleanObjConsumer;
+import so.dang.cool.z.function.BooleanObjFunction;
+import so.dang.cool.z.function.BooleanObjPredicate;
+import so.dang.cool.z.function.BooleanObjToDoubleFunction;
+import so.dang.cool.z.function.BooleanObjToIntFunction;
+import so.dang.cool.z.function.BooleanObjToLongFunction;
 import so.dang.cool.z.function.BooleanPredicate;
 import so.dang.cool.z.function.BooleanToDoubleFunction;
 import so.dang.cool.z.function.BooleanToIntFunction;
 import so.dang.cool.z.function.BooleanToLongFunction;
 import so.dang.cool.z.function.DecFunction;
 import so.dang.cool.z.function.DodecFunction;
+import so.dang.cool.z.function.DoubleBiConsumer;
+import so.dang.cool.z.function.DoubleBiFunction;
+import so.dang.cool.z.function.DoubleBiPredicate;
+import so.dang.cool.z.function.DoubleBinaryToIntFunction;
+import so.dang.cool.z.function.DoubleBinaryToLongFunction;
+import so.dang.cool.z.function.IntBiConsumer;
+import so.dang.cool.z.function.IntBiFunction;
+import so.dang.cool.z.function.IntBiPredicate;
+import so.dang.cool.z.function.IntBinaryToDoubleFunction;
+import so.dang.cool.z.function.IntBinaryToLongFunction;
+import so.dang.cool.z.function.LongBiConsumer;
+import so.dang.cool.z.function.LongBiFunction;
+import so.dang.cool.z.function.LongBiPredicate;
+import so.dang.cool.z.function.LongBinaryToDoubleFunction;
+import so.dang.cool.z.function.LongBinaryToIntFunction;
 import so.dang.cool.z.function.NonFunction;
 import so.dang.cool.z.function.OctFunction;
 import so.dang.cool.z.function.Operator;
@@ -149,16 +173,28 @@ public final class TestFunctions {
         consumedStringD = d;
         consumedDoubleB = b;
     };
+    public static DoubleBiConsumer saveDoublesBandC = (b, c) -> {
+        consumedDoubleB = b;
+        consumedDoubleC = c;
+    };
     public static IntConsumer saveIntA = a -> consumedIntA = a;
     public static ObjIntConsumer<String> saveStringEIntB = (e, b) -> {
         consumedStringE = e;
         consumedIntB = b;
     };
+    public static IntBiConsumer saveIntsBandC = (b, c) -> {
+        consumedIntB = b;
+        consumedIntC = c;
+    };
     public static LongConsumer saveLongA = a -> consumedLongA = a;
     public static ObjLongConsumer<String> saveStringFLongB = (f, b) -> {
         consumedStringF = f;
         consumedLongB = b;
     };
+    public static LongBiConsumer saveLongsBandC = (b, c) -> {
+        consumedLongB = b;
+        consumedLongC = c;
+    };
     public static Supplier<String> getString = () -> suppliedString;
     public static BooleanSupplier getBooleanTrue = () -> true;
     public static DoubleSupplier getDouble = () -> suppliedDouble;
@@ -177,6 +213,54 @@ public final class TestFunctions {
     public static IntBinaryOperator addInts = (i1, i2) -> i1 + i2;
     public static LongUnaryOperator addThreeToLong = n -> n + 3L;
     public static LongBinaryOperator addLongs = (n1, n2) -> n1 + n2;
+    public static DoubleBiFunction<String> addDoublesFloorAsString = (d1, d2) ->
+        doubleFloorToString.apply(d1 + d2);
+    public static DoubleBinaryToIntFunction addDoublesAsInt = (d1, d2) ->
+        (int) (d1 + d2);
+    public static DoubleBinaryToLongFunction addDoublesAsLong = (d1, d2) ->
+        (long) (d1 + d2);
+    public static DoubleBiPredicate areDoublesEqual = (d1, d2) ->
+        Double.compare(d1, d2) == 0;
+    public static IntBiFunction<String> addIntsAsString = (i1, i2) ->
+        String.valueOf(i1 + i2);
+    public static IntBinaryToDoubleFunction addIntsAsDouble = (i1, i2) ->
+        (double) (i1 + i2);
+    public static IntBinaryToLongFunction addIntsAsLong = (i1, i2) ->
+        (long) i1 + i2;
+    public static IntBiPredicate areIntsEqual = (i1, i2) -> i1 == i2;
+    public static LongBiFunction<String> addLongsAsString = (n1, n2) ->
+        String.valueOf(n1 + n2);
+    public static LongBinaryToDoubleFunction addLongsAsDouble = (n1, n2) ->
+        (double) (n1 + n2);
+    public static LongBinaryToIntFunction addLongsAsInt = (n1, n2) ->
+        (int) (n1 + n2);
+    public static LongBiPredicate areLongsEqual = (n1, n2) -> n1 == n2;
+    public static BooleanObjFunction<String, String> maybeOneAndString = (b, s) ->
+        b ? "1".concat(s) : s;
+    public static BooleanObjToDoubleFunction<String> maybeAddOneToString = (b, s) ->
+        Double.parseDouble(s) + (b ? 1.0 : 0.0);
+    public static BooleanObjToIntFunction<String> maybeAddTwoToString = (b, s) ->
+        Integer.parseInt(s) + (b ? 2 : 0);
+    public static BooleanObjToLongFunction<String> maybeAddThreeToString = (b, s) ->
+        Long.parseLong(s) + (b ? 3L : 0L);
+    public static BooleanObjPredicate<String> isTrueAndEmpty = (b, s) ->
+        b && s.isEmpty();
+    public static BooleanObjConsumer<String> saveBooleanBStringG = (b, g) -> {
+        consumedBooleanB = b;
+        consumedStringG = g;
+    };
+    public static BooleanDoubleConsumer saveBooleanCDoubleC = (b, c) -> {
+        consumedBooleanC = b;
+        consumedDoubleC = c;
+    };
+    public static BooleanIntConsumer saveBooleanDIntC = (d, c) -> {
+        consumedBooleanD = d;
+        consumedIntC = c;
+    };
+    public static BooleanLongConsumer saveBooleanELongC = (e, c) -> {
+        consumedBooleanE = e;
+        consumedLongC = c;
+    };
 
     // fmt:off
 
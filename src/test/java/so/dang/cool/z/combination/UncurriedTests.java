@@ -0,0 +1,236 @@
+package so.dang.cool.z.combination;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static so.dang.cool.z.combination.TestFunctions.*;
+
+import com.sun.management.ThreadMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.function.BiFunction;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+import java.util.function.ToIntBiFunction;
+import org.junit.jupiter.api.Test;
+import so.dang.cool.z.Z;
+import so.dang.cool.z.annotation.Evil;
+import so.dang.cool.z.function.QuadFunction;
+
+public class UncurriedTests {
+
+    @Test
+    void bifn_uncurried() {
+        assertEquals("greetings", Z.fuse(concat).apply("greet", "ings"));
+        assertEquals(
+            "hey there",
+            Z.fuse(concat).fuse(trim).apply(" hey ", "there ")
+        );
+        assertEquals(
+            "hey there",
+            Z.fuse(concat).fuse(trim).resolve().apply(" hey ").apply("there ")
+        );
+    }
+
+    @Test
+    void toDblBifn_uncurried() {
+        assertEquals(3.0, Z.fuse(addStringsAsDouble).applyAsDouble("1", "2"));
+        assertEquals(
+            3.0,
+            Z.fuse(addStringsAsDouble).resolve().apply("1").applyAsDouble("2")
+        );
+    }
+
+    @Test
+    void toIntBifn_uncurried() {
+        assertEquals(3, Z.fuse(addStringsAsInt).applyAsInt("1", "2"));
+        assertEquals(
+            3,
+            Z.fuse(addStringsAsInt).resolve().apply("1").applyAsInt("2")
+        );
+    }
+
+    @Test
+    void toLongBifn_uncurried() {
+        assertEquals(3L, Z.fuse(addStringsAsLong).applyAsLong("1", "2"));
+        assertEquals(
+            3L,
+            Z.fuse(addStringsAsLong).resolve().apply("1").applyAsLong("2")
+        );
+    }
+
+    @Test
+    void biPred_uncurried() {
+        assertTrue(Z.fuse(startsWith).test("banana", "ban"));
+        assertTrue(Z.fuse(startsWith).resolve().apply("banana").test("ban"));
+        assertFalse(Z.fuse(startsWith).fuse(not).test("banana", "ban"));
+    }
+
+    @Evil
+    @Test
+    void biCns_uncurried() {
+        synchronized (consumedStringB) {
+            synchronized (consumedStringC) {
+                consumedStringB = "";
+                consumedStringC = "";
+
+                Z
+                    .fuse(trim)
+                    .fuse(saveStringsBandC)
+                    .accept(" greetings ", "earthlings");
+
+                assertEquals("greetings", consumedStringB);
+                assertEquals("earthlings", consumedStringC);
+
+                Z
+                    .fuse(trim)
+                    .fuse(saveStringsBandC)
+                    .resolve()
+                    .apply(" salutations ")
+                    .accept("martians");
+
+                assertEquals("salutations", consumedStringB);
+                assertEquals("martians", consumedStringC);
+            }
+        }
+    }
+
+    @Evil
+    @Test
+    void objDblCns_uncurried() {
+        synchronized (consumedStringD) {
+            synchronized (consumedDoubleB) {
+                consumedStringD = "";
+                consumedDoubleB = 0.0;
+
+                Z.fuse(trim).fuse(saveStringDDoubleB).accept(" five ", 5.0);
+
+                assertEquals("five", consumedStringD);
+                assertEquals(5.0, consumedDoubleB);
+
+                Z
+                    .fuse(trim)
+                    .fuse(saveStringDDoubleB)
+                    .resolve()
+                    .apply(" six ")
+                    .accept(6.0);
+
+                assertEquals("six", consumedStringD);
+                assertEquals(6.0, consumedDoubleB);
+            }
+        }
+    }
+
+    @Evil
+    @Test
+    void objIntCns_uncurried() {
+        synchronized (consumedStringE) {
+            synchronized (consumedIntB) {
+                consumedStringE = "";
+                consumedIntB = 0;
+
+                Z.fuse(trim).fuse(saveStringEIntB).accept(" six ", 6);
+
+                assertEquals("six", consumedStringE);
+                assertEquals(6, consumedIntB);
+
+                Z
+                    .fuse(trim)
+                    .fuse(saveStringEIntB)
+                    .resolve()
+                    .apply(" seven ")
+                    .accept(7);
+
+                assertEquals("seven", consumedStringE);
+                assertEquals(7, consumedIntB);
+            }
+        }
+    }
+
+    @Evil
+    @Test
+    void objLongCns_uncurried() {
+        synchronized (consumedStringF) {
+            synchronized (consumedLongB) {
+                consumedStringF = "";
+                consumedLongB = 0L;
+
+                Z.fuse(trim).fuse(saveStringFLongB).accept(" seven ", 7L);
+
+                assertEquals("seven", consumedStringF);
+                assertEquals(7L, consumedLongB);
+
+                Z
+                    .fuse(trim)
+                    .fuse(saveStringFLongB)
+                    .resolve()
+                    .apply(" eight ")
+                    .accept(8L);
+
+                assertEquals("eight", consumedStringF);
+                assertEquals(8L, consumedLongB);
+            }
+        }
+    }
+
+    @Test
+    void uncurried_fusions_do_not_allocate() {
+        Object mx = ManagementFactory.getThreadMXBean();
+        assumeTrue(mx instanceof ThreadMXBean);
+        ThreadMXBean threads = (ThreadMXBean) mx;
+        assumeTrue(threads.isThreadAllocatedMemorySupported());
+        threads.setThreadAllocatedMemoryEnabled(true);
+
+        BiFunction<String, String, String> longer = (a, b) ->
+            a.length() >= b.length() ? a : b;
+        Function<String, String> same = s -> s;
+        ToIntBiFunction<String, String> lengths = (a, b) ->
+            a.length() + b.length();
+        IntUnaryOperator twice = i -> i * 2;
+        IntPredicate isPositive = i -> i > 0;
+        BiPredicate<String, String> sameLength = (a, b) ->
+            a.length() == b.length();
+        QuadFunction<String, String, String, String, String> first = (
+            a,
+            b,
+            c,
+            d
+        ) ->
+            a;
+
+        var toString = Z.fuse(longer).fuse(same).fuse(same);
+        var toBoolean = Z.fuse(lengths).fuse(twice).fuse(isPositive);
+        var predicate = Z.fuse(sameLength).fuse(not).fuse(not);
+        var nary = Z.fuse(first).fuse(same).fuse(same);
+
+        long id = Thread.currentThread().getId();
+        int iterations = 1_000_000;
+        int hits = 0;
+
+        for (int round = 0; round < 3; round++) {
+            long before = threads.getThreadAllocatedBytes(id);
+
+            for (int i = 0; i < iterations; i++) {
+                if (toString.apply("abc", "de").length() == 3) hits++;
+                if (toBoolean.test("abc", "de")) hits++;
+                if (predicate.test("abc", "def")) hits++;
+                if (nary.apply("abc", "d", "e", "f").length() == 3) hits++;
+            }
+
+            long allocated = threads.getThreadAllocatedBytes(id) - before;
+
+            // Allow for noise from the JIT and the allocation counter itself;
+            // a single allocation per call would be tens of megabytes here.
+            if (round > 0) {
+                assertTrue(
+                    allocated < iterations,
+                    "Allocated " + allocated + " bytes"
+                );
+            }
+        }
+
+        assertEquals(3 * 4 * iterations, hits);
+    }
+}
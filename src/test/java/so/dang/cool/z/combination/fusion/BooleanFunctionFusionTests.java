@@ -37,6 +37,25 @@ public class BooleanFunctionFusionTests {
         );
     }
 
+    @Test
+    void boolFn_to_bifn_unboxed() {
+        assertEquals(
+            "true...",
+            Z
+                .fuse(booleanToString)
+                .fuseBiFunctionUnboxed(concat)
+                .apply(true, "...")
+        );
+        assertEquals(
+            "true...",
+            Z
+                .fuse(booleanToString)
+                .fuseBiFunctionUnboxed(concat)
+                .apply(true)
+                .apply("...")
+        );
+    }
+
     @Test
     void boolFn_to_toDblFn() {
         assertEquals(
@@ -57,6 +76,25 @@ public class BooleanFunctionFusionTests {
         );
     }
 
+    @Test
+    void boolFn_to_toDblBifn_unboxed() {
+        assertEquals(
+            3.0,
+            Z
+                .fuse(maybeOneAsString)
+                .fuseToDoubleBiFunctionUnboxed(addStringsAsDouble)
+                .applyAsDouble(true, "2.0")
+        );
+        assertEquals(
+            3.0,
+            Z
+                .fuse(maybeOneAsString)
+                .fuseToDoubleBiFunctionUnboxed(addStringsAsDouble)
+                .apply(true)
+                .applyAsDouble("2.0")
+        );
+    }
+
     @Test
     void boolFn_to_toInt() {
         assertEquals(
@@ -77,6 +115,25 @@ public class BooleanFunctionFusionTests {
         );
     }
 
+    @Test
+    void boolFn_to_toIntBifn_unboxed() {
+        assertEquals(
+            3,
+            Z
+                .fuse(maybeOneAsString)
+                .fuseToIntBiFunctionUnboxed(addStringsAsInt)
+                .applyAsInt(true, "2")
+        );
+        assertEquals(
+            3,
+            Z
+                .fuse(maybeOneAsString)
+                .fuseToIntBiFunctionUnboxed(addStringsAsInt)
+                .apply(true)
+                .applyAsInt("2")
+        );
+    }
+
     @Test
     void boolFn_to_toLongFn() {
         assertEquals(
@@ -97,6 +154,25 @@ public class BooleanFunctionFusionTests {
         );
     }
 
+    @Test
+    void boolFn_to_toLongBifn_unboxed() {
+        assertEquals(
+            3L,
+            Z
+                .fuse(maybeOneAsString)
+                .fuseToLongBiFunctionUnboxed(addStringsAsLong)
+                .applyAsLong(true, "2")
+        );
+        assertEquals(
+            3L,
+            Z
+                .fuse(maybeOneAsString)
+                .fuseToLongBiFunctionUnboxed(addStringsAsLong)
+                .apply(true)
+                .applyAsLong("2")
+        );
+    }
+
     @Test
     void boolFn_to_pred() {
         assertFalse(Z.fuse(booleanToString).fuse(isEmpty).test(true));
@@ -109,6 +185,23 @@ public class BooleanFunctionFusionTests {
         );
     }
 
+    @Test
+    void boolFn_to_bipred_unboxed() {
+        assertTrue(
+            Z
+                .fuse(booleanToString)
+                .fuseBiPredicateUnboxed(startsWith)
+                .test(true, "t")
+        );
+        assertTrue(
+            Z
+                .fuse(booleanToString)
+                .fuseBiPredicateUnboxed(startsWith)
+                .apply(true)
+                .test("t")
+        );
+    }
+
     @Evil
     @Test
     void boolFn_to_cns() {
@@ -141,6 +234,37 @@ public class BooleanFunctionFusionTests {
         }
     }
 
+    @Evil
+    @Test
+    void boolFn_to_bicns_unboxed() {
+        synchronized (consumedStringB) {
+            synchronized (consumedStringC) {
+                consumedStringB = "";
+                consumedStringC = "";
+
+                Z
+                    .fuse(booleanToString)
+                    .fuseBiConsumerUnboxed(saveStringsBandC)
+                    .accept(true, "true and a half");
+
+                assertEquals("true", consumedStringB);
+                assertEquals("true and a half", consumedStringC);
+
+                consumedStringB = "";
+                consumedStringC = "";
+
+                Z
+                    .fuse(booleanToString)
+                    .fuseBiConsumerUnboxed(saveStringsBandC)
+                    .apply(true)
+                    .accept("true and a half");
+
+                assertEquals("true", consumedStringB);
+                assertEquals("true and a half", consumedStringC);
+            }
+        }
+    }
+
     @Evil
     @Test
     void boolFn_to_objDblCns() {
@@ -161,6 +285,37 @@ public class BooleanFunctionFusionTests {
         }
     }
 
+    @Evil
+    @Test
+    void boolFn_to_objDblCns_unboxed() {
+        synchronized (consumedStringD) {
+            synchronized (consumedDoubleB) {
+                consumedStringD = "";
+                consumedDoubleB = 0.0;
+
+                Z
+                    .fuse(booleanToString)
+                    .fuseObjDoubleConsumerUnboxed(saveStringDDoubleB)
+                    .accept(true, 4.5);
+
+                assertEquals("true", consumedStringD);
+                assertEquals(4.5, consumedDoubleB);
+
+                consumedStringD = "";
+                consumedDoubleB = 0.0;
+
+                Z
+                    .fuse(booleanToString)
+                    .fuseObjDoubleConsumerUnboxed(saveStringDDoubleB)
+                    .apply(true)
+                    .accept(4.5);
+
+                assertEquals("true", consumedStringD);
+                assertEquals(4.5, consumedDoubleB);
+            }
+        }
+    }
+
     @Evil
     @Test
     void boolFn_to_objIntCns() {
@@ -181,6 +336,37 @@ public class BooleanFunctionFusionTests {
         }
     }
 
+    @Evil
+    @Test
+    void boolFn_to_objIntCns_unboxed() {
+        synchronized (consumedStringE) {
+            synchronized (consumedIntB) {
+                consumedStringE = "";
+                consumedIntB = 0;
+
+                Z
+                    .fuse(booleanToString)
+                    .fuseObjIntConsumerUnboxed(saveStringEIntB)
+                    .accept(true, 6);
+
+                assertEquals("true", consumedStringE);
+                assertEquals(6, consumedIntB);
+
+                consumedStringE = "";
+                consumedIntB = 0;
+
+                Z
+                    .fuse(booleanToString)
+                    .fuseObjIntConsumerUnboxed(saveStringEIntB)
+                    .apply(true)
+                    .accept(6);
+
+                assertEquals("true", consumedStringE);
+                assertEquals(6, consumedIntB);
+            }
+        }
+    }
+
     @Evil
     @Test
     void boolFn_to_objLongCns() {
@@ -201,6 +387,37 @@ public class BooleanFunctionFusionTests {
         }
     }
 
+    @Evil
+    @Test
+    void boolFn_to_objLongCns_unboxed() {
+        synchronized (consumedStringF) {
+            synchronized (consumedLongB) {
+                consumedStringF = "";
+                consumedLongB = 0L;
+
+                Z
+                    .fuse(booleanToString)
+                    .fuseObjLongConsumerUnboxed(saveStringFLongB)
+                    .accept(true, 8L);
+
+                assertEquals("true", consumedStringF);
+                assertEquals(8L, consumedLongB);
+
+                consumedStringF = "";
+                consumedLongB = 0L;
+
+                Z
+                    .fuse(booleanToString)
+                    .fuseObjLongConsumerUnboxed(saveStringFLongB)
+                    .apply(true)
+                    .accept(8L);
+
+                assertEquals("true", consumedStringF);
+                assertEquals(8L, consumedLongB);
+            }
+        }
+    }
+
     @Test
     void boolFn_to_unop() {
         assertEquals(
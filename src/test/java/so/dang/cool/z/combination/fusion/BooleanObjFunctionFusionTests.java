@@ -0,0 +1,75 @@
+package so.dang.cool.z.combination.fusion;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static so.dang.cool.z.combination.TestFunctions.*;
+
+import org.junit.jupiter.api.Test;
+import so.dang.cool.z.Z;
+import so.dang.cool.z.annotation.Evil;
+
+public class BooleanObjFunctionFusionTests {
+
+    @Test
+    void boolObjFn() {
+        assertEquals("12", maybeOneAndString.apply(true, "2"));
+        assertEquals("12", Z.fuse(maybeOneAndString).apply(true, "2"));
+        assertEquals("12", Z.fuse(maybeOneAndString).apply(true).apply("2"));
+        assertEquals(
+            "12",
+            Z.fuse(maybeOneAndString).resolve().apply(true).apply("2")
+        );
+    }
+
+    @Test
+    void boolObjFn_to_fn() {
+        assertEquals(
+            "12!",
+            Z.fuse(maybeOneAndString).fuse(addExclamationMark).apply(true, "2")
+        );
+    }
+
+    @Test
+    void boolObjFn_to_toDblFn() {
+        assertEquals(
+            12.0,
+            Z
+                .fuse(maybeOneAndString)
+                .fuse(stringToDouble)
+                .applyAsDouble(true, "2")
+        );
+    }
+
+    @Test
+    void boolObjFn_to_toIntFn() {
+        assertEquals(
+            12,
+            Z.fuse(maybeOneAndString).fuse(stringToInt).applyAsInt(true, "2")
+        );
+    }
+
+    @Test
+    void boolObjFn_to_toLongFn() {
+        assertEquals(
+            12L,
+            Z.fuse(maybeOneAndString).fuse(stringToLong).applyAsLong(true, "2")
+        );
+    }
+
+    @Test
+    void boolObjFn_to_pred() {
+        assertFalse(Z.fuse(maybeOneAndString).fuse(isEmpty).test(true, "2"));
+    }
+
+    @Evil
+    @Test
+    void boolObjFn_to_cns() {
+        synchronized (consumedStringA) {
+            consumedStringA = "";
+
+            Z.fuse(maybeOneAndString).fuse(saveStringA).accept(true, "2");
+
+            assertEquals("12", consumedStringA);
+        }
+    }
+}
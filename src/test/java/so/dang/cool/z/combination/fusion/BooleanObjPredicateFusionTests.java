@@ -0,0 +1,73 @@
+package so.dang.cool.z.combination.fusion;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static so.dang.cool.z.combination.TestFunctions.*;
+
+import org.junit.jupiter.api.Test;
+import so.dang.cool.z.Z;
+import so.dang.cool.z.annotation.Evil;
+
+public class BooleanObjPredicateFusionTests {
+
+    @Test
+    void boolObjPred() {
+        assertTrue(isTrueAndEmpty.test(true, ""));
+        assertTrue(Z.fuse(isTrueAndEmpty).test(true, ""));
+        assertTrue(Z.fuse(isTrueAndEmpty).apply(true).test(""));
+        assertTrue(Z.fuse(isTrueAndEmpty).resolve().apply(true).test(""));
+    }
+
+    @Test
+    void boolObjPred_to_boolFn() {
+        assertEquals(
+            "true",
+            Z.fuse(isTrueAndEmpty).fuse(booleanToString).apply(true, "")
+        );
+    }
+
+    @Test
+    void boolObjPred_to_boolToDbl() {
+        assertEquals(
+            1.0,
+            Z
+                .fuse(isTrueAndEmpty)
+                .fuse(maybeOneAsDouble)
+                .applyAsDouble(true, "")
+        );
+    }
+
+    @Test
+    void boolObjPred_to_boolToInt() {
+        assertEquals(
+            2,
+            Z.fuse(isTrueAndEmpty).fuse(maybeTwoAsInt).applyAsInt(true, "")
+        );
+    }
+
+    @Test
+    void boolObjPred_to_boolToLong() {
+        assertEquals(
+            3L,
+            Z.fuse(isTrueAndEmpty).fuse(maybeThreeAsLong).applyAsLong(true, "")
+        );
+    }
+
+    @Test
+    void boolObjPred_to_boolPred() {
+        assertFalse(Z.fuse(isTrueAndEmpty).fuse(not).test(true, ""));
+    }
+
+    @Evil
+    @Test
+    void boolObjPred_to_boolCns() {
+        synchronized (consumedBooleanA) {
+            consumedBooleanA = false;
+
+            Z.fuse(isTrueAndEmpty).fuse(saveBooleanA).accept(true, "");
+
+            assertTrue(consumedBooleanA);
+        }
+    }
+}
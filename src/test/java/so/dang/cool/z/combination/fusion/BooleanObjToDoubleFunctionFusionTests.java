@@ -0,0 +1,83 @@
+package so.dang.cool.z.combination.fusion;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static so.dang.cool.z.combination.TestFunctions.*;
+
+import org.junit.jupiter.api.Test;
+import so.dang.cool.z.Z;
+import so.dang.cool.z.annotation.Evil;
+
+public class BooleanObjToDoubleFunctionFusionTests {
+
+    @Test
+    void boolObjToDbl() {
+        assertEquals(2.0, maybeAddOneToString.applyAsDouble(true, "1"));
+        assertEquals(2.0, Z.fuse(maybeAddOneToString).applyAsDouble(true, "1"));
+        assertEquals(
+            2.0,
+            Z.fuse(maybeAddOneToString).apply(true).applyAsDouble("1")
+        );
+        assertEquals(
+            2.0,
+            Z.fuse(maybeAddOneToString).resolve().apply(true).applyAsDouble("1")
+        );
+    }
+
+    @Test
+    void boolObjToDbl_to_dblFn() {
+        assertEquals(
+            "2.0",
+            Z.fuse(maybeAddOneToString).fuse(doubleToString).apply(true, "1")
+        );
+    }
+
+    @Test
+    void boolObjToDbl_to_dblToInt() {
+        assertEquals(
+            2,
+            Z.fuse(maybeAddOneToString).fuse(doubleToInt).applyAsInt(true, "1")
+        );
+    }
+
+    @Test
+    void boolObjToDbl_to_dblToLong() {
+        assertEquals(
+            2L,
+            Z
+                .fuse(maybeAddOneToString)
+                .fuse(doubleToLong)
+                .applyAsLong(true, "1")
+        );
+    }
+
+    @Test
+    void boolObjToDbl_to_dblPred() {
+        assertFalse(
+            Z.fuse(maybeAddOneToString).fuse(isDoubleOne).test(true, "1")
+        );
+    }
+
+    @Evil
+    @Test
+    void boolObjToDbl_to_dblCns() {
+        synchronized (consumedDoubleA) {
+            consumedDoubleA = 0.0;
+
+            Z.fuse(maybeAddOneToString).fuse(saveDoubleA).accept(true, "1");
+
+            assertEquals(2.0, consumedDoubleA);
+        }
+    }
+
+    @Test
+    void boolObjToDbl_to_dblUnop() {
+        assertEquals(
+            3.0,
+            Z
+                .fuse(maybeAddOneToString)
+                .fuse(addOneToDouble)
+                .applyAsDouble(true, "1")
+        );
+    }
+}
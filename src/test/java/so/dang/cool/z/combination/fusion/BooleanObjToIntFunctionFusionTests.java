@@ -0,0 +1,78 @@
+package so.dang.cool.z.combination.fusion;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static so.dang.cool.z.combination.TestFunctions.*;
+
+import org.junit.jupiter.api.Test;
+import so.dang.cool.z.Z;
+import so.dang.cool.z.annotation.Evil;
+
+public class BooleanObjToIntFunctionFusionTests {
+
+    @Test
+    void boolObjToInt() {
+        assertEquals(3, maybeAddTwoToString.applyAsInt(true, "1"));
+        assertEquals(3, Z.fuse(maybeAddTwoToString).applyAsInt(true, "1"));
+        assertEquals(
+            3,
+            Z.fuse(maybeAddTwoToString).apply(true).applyAsInt("1")
+        );
+        assertEquals(
+            3,
+            Z.fuse(maybeAddTwoToString).resolve().apply(true).applyAsInt("1")
+        );
+    }
+
+    @Test
+    void boolObjToInt_to_intFn() {
+        assertEquals(
+            "3",
+            Z.fuse(maybeAddTwoToString).fuse(intToString).apply(true, "1")
+        );
+    }
+
+    @Test
+    void boolObjToInt_to_intToDbl() {
+        assertEquals(
+            3.0,
+            Z
+                .fuse(maybeAddTwoToString)
+                .fuse(intToDouble)
+                .applyAsDouble(true, "1")
+        );
+    }
+
+    @Test
+    void boolObjToInt_to_intToLong() {
+        assertEquals(
+            3L,
+            Z.fuse(maybeAddTwoToString).fuse(intToLong).applyAsLong(true, "1")
+        );
+    }
+
+    @Test
+    void boolObjToInt_to_intPred() {
+        assertFalse(Z.fuse(maybeAddTwoToString).fuse(isIntTwo).test(true, "1"));
+    }
+
+    @Evil
+    @Test
+    void boolObjToInt_to_intCns() {
+        synchronized (consumedIntA) {
+            consumedIntA = 0;
+
+            Z.fuse(maybeAddTwoToString).fuse(saveIntA).accept(true, "1");
+
+            assertEquals(3, consumedIntA);
+        }
+    }
+
+    @Test
+    void boolObjToInt_to_intUnop() {
+        assertEquals(
+            5,
+            Z.fuse(maybeAddTwoToString).fuse(addTwoToInt).applyAsInt(true, "1")
+        );
+    }
+}
@@ -0,0 +1,83 @@
+package so.dang.cool.z.combination.fusion;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static so.dang.cool.z.combination.TestFunctions.*;
+
+import org.junit.jupiter.api.Test;
+import so.dang.cool.z.Z;
+import so.dang.cool.z.annotation.Evil;
+
+public class BooleanObjToLongFunctionFusionTests {
+
+    @Test
+    void boolObjToLong() {
+        assertEquals(4L, maybeAddThreeToString.applyAsLong(true, "1"));
+        assertEquals(4L, Z.fuse(maybeAddThreeToString).applyAsLong(true, "1"));
+        assertEquals(
+            4L,
+            Z.fuse(maybeAddThreeToString).apply(true).applyAsLong("1")
+        );
+        assertEquals(
+            4L,
+            Z.fuse(maybeAddThreeToString).resolve().apply(true).applyAsLong("1")
+        );
+    }
+
+    @Test
+    void boolObjToLong_to_longFn() {
+        assertEquals(
+            "4",
+            Z.fuse(maybeAddThreeToString).fuse(longToString).apply(true, "1")
+        );
+    }
+
+    @Test
+    void boolObjToLong_to_longToDbl() {
+        assertEquals(
+            4.0,
+            Z
+                .fuse(maybeAddThreeToString)
+                .fuse(longToDouble)
+                .applyAsDouble(true, "1")
+        );
+    }
+
+    @Test
+    void boolObjToLong_to_longToInt() {
+        assertEquals(
+            4,
+            Z.fuse(maybeAddThreeToString).fuse(longToInt).applyAsInt(true, "1")
+        );
+    }
+
+    @Test
+    void boolObjToLong_to_longPred() {
+        assertFalse(
+            Z.fuse(maybeAddThreeToString).fuse(isLongThree).test(true, "1")
+        );
+    }
+
+    @Evil
+    @Test
+    void boolObjToLong_to_longCns() {
+        synchronized (consumedLongA) {
+            consumedLongA = 0L;
+
+            Z.fuse(maybeAddThreeToString).fuse(saveLongA).accept(true, "1");
+
+            assertEquals(4L, consumedLongA);
+        }
+    }
+
+    @Test
+    void boolObjToLong_to_longUnop() {
+        assertEquals(
+            7L,
+            Z
+                .fuse(maybeAddThreeToString)
+                .fuse(addThreeToLong)
+                .applyAsLong(true, "1")
+        );
+    }
+}
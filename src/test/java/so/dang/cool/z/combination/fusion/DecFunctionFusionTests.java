@@ -0,0 +1,46 @@
+package so.dang.cool.z.combination.fusion;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static so.dang.cool.z.combination.TestFunctions.*;
+
+import org.junit.jupiter.api.Test;
+import so.dang.cool.z.Z;
+
+public class DecFunctionFusionTests {
+
+    @Test
+    void decFn() {
+        assertEquals(
+            "abcdefghij",
+            Z
+                .fuse(concat10)
+                .apply("a", "b", "c", "d", "e", "f", "g", "h", "i", "j")
+        );
+        assertEquals(
+            "abcdefghij",
+            Z
+                .fuse(concat10)
+                .resolve()
+                .apply("a", "b", "c", "d", "e", "f", "g", "h", "i", "j")
+        );
+    }
+
+    @Test
+    void decFn_to_fn() {
+        assertEquals(
+            "abcdefghij!",
+            Z
+                .fuse(concat10)
+                .fuse(addExclamationMark)
+                .apply("a", "b", "c", "d", "e", "f", "g", "h", "i", "j")
+        );
+        assertEquals(
+            "abcdefghij!!",
+            Z
+                .fuse(concat10)
+                .fuse(addExclamationMark)
+                .fuse(addExclamationMark)
+                .apply("a", "b", "c", "d", "e", "f", "g", "h", "i", "j")
+        );
+    }
+}
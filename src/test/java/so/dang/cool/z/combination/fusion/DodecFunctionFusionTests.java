@@ -0,0 +1,54 @@
+package so.dang.cool.z.combination.fusion;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static so.dang.cool.z.combination.TestFunctions.*;
+
+import org.junit.jupiter.api.Test;
+import so.dang.cool.z.Z;
+
+public class DodecFunctionFusionTests {
+
+    @Test
+    void dodecFn() {
+        assertEquals(
+            "abcdefghijkl",
+            Z
+                .fuse(concat12)
+                .apply(
+                    "a", "b", "c", "d", "e", "f", "g", "h", "i", "j", "k", "l"
+                )
+        );
+        assertEquals(
+            "abcdefghijkl",
+            Z
+                .fuse(concat12)
+                .resolve()
+                .apply(
+                    "a", "b", "c", "d", "e", "f", "g", "h", "i", "j", "k", "l"
+                )
+        );
+    }
+
+    @Test
+    void dodecFn_to_fn() {
+        assertEquals(
+            "abcdefghijkl!",
+            Z
+                .fuse(concat12)
+                .fuse(addExclamationMark)
+                .apply(
+                    "a", "b", "c", "d", "e", "f", "g", "h", "i", "j", "k", "l"
+                )
+        );
+        assertEquals(
+            "abcdefghijkl!!",
+            Z
+                .fuse(concat12)
+                .fuse(addExclamationMark)
+                .fuse(addExclamationMark)
+                .apply(
+                    "a", "b", "c", "d", "e", "f", "g", "h", "i", "j", "k", "l"
+                )
+        );
+    }
+}
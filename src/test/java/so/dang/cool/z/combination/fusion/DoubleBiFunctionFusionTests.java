@@ -0,0 +1,89 @@
+package so.dang.cool.z.combination.fusion;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static so.dang.cool.z.combination.TestFunctions.*;
+
+import org.junit.jupiter.api.Test;
+import so.dang.cool.z.Z;
+import so.dang.cool.z.annotation.Evil;
+
+public class DoubleBiFunctionFusionTests {
+
+    @Test
+    void dblBifn() {
+        assertEquals("2", addDoublesFloorAsString.apply(0.5, 1.5));
+        assertEquals("2", Z.fuse(addDoublesFloorAsString).apply(0.5, 1.5));
+        assertEquals(
+            "2",
+            Z.fuse(addDoublesFloorAsString).apply(0.5).apply(1.5)
+        );
+        assertEquals(
+            "2",
+            Z.fuse(addDoublesFloorAsString).resolve().apply(0.5).apply(1.5)
+        );
+    }
+
+    @Test
+    void dblBifn_to_fn() {
+        assertEquals(
+            "2!",
+            Z
+                .fuse(addDoublesFloorAsString)
+                .fuse(addExclamationMark)
+                .apply(0.5, 1.5)
+        );
+    }
+
+    @Test
+    void dblBifn_to_toDblFn() {
+        assertEquals(
+            2.0,
+            Z
+                .fuse(addDoublesFloorAsString)
+                .fuse(stringToDouble)
+                .applyAsDouble(0.5, 1.5)
+        );
+    }
+
+    @Test
+    void dblBifn_to_toIntFn() {
+        assertEquals(
+            2,
+            Z
+                .fuse(addDoublesFloorAsString)
+                .fuse(stringToInt)
+                .applyAsInt(0.5, 1.5)
+        );
+    }
+
+    @Test
+    void dblBifn_to_toLongFn() {
+        assertEquals(
+            2L,
+            Z
+                .fuse(addDoublesFloorAsString)
+                .fuse(stringToLong)
+                .applyAsLong(0.5, 1.5)
+        );
+    }
+
+    @Test
+    void dblBifn_to_pred() {
+        assertFalse(
+            Z.fuse(addDoublesFloorAsString).fuse(isEmpty).test(0.5, 1.5)
+        );
+    }
+
+    @Evil
+    @Test
+    void dblBifn_to_cns() {
+        synchronized (consumedStringA) {
+            consumedStringA = "";
+
+            Z.fuse(addDoublesFloorAsString).fuse(saveStringA).accept(0.5, 1.5);
+
+            assertEquals("2", consumedStringA);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package so.dang.cool.z.combination.fusion;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static so.dang.cool.z.combination.TestFunctions.*;
+
+import org.junit.jupiter.api.Test;
+import so.dang.cool.z.Z;
+import so.dang.cool.z.annotation.Evil;
+
+public class DoubleBiPredicateFusionTests {
+
+    @Test
+    void dblBipred() {
+        assertTrue(areDoublesEqual.test(1.5, 1.5));
+        assertTrue(Z.fuse(areDoublesEqual).test(1.5, 1.5));
+        assertTrue(Z.fuse(areDoublesEqual).apply(1.5).test(1.5));
+        assertTrue(Z.fuse(areDoublesEqual).resolve().apply(1.5).test(1.5));
+    }
+
+    @Test
+    void dblBipred_to_boolFn() {
+        assertEquals(
+            "true",
+            Z.fuse(areDoublesEqual).fuse(booleanToString).apply(1.5, 1.5)
+        );
+    }
+
+    @Test
+    void dblBipred_to_boolToDbl() {
+        assertEquals(
+            1.0,
+            Z
+                .fuse(areDoublesEqual)
+                .fuse(maybeOneAsDouble)
+                .applyAsDouble(1.5, 1.5)
+        );
+    }
+
+    @Test
+    void dblBipred_to_boolToInt() {
+        assertEquals(
+            2,
+            Z.fuse(areDoublesEqual).fuse(maybeTwoAsInt).applyAsInt(1.5, 1.5)
+        );
+    }
+
+    @Test
+    void dblBipred_to_boolToLong() {
+        assertEquals(
+            3L,
+            Z.fuse(areDoublesEqual).fuse(maybeThreeAsLong).applyAsLong(1.5, 1.5)
+        );
+    }
+
+    @Test
+    void dblBipred_to_boolPred() {
+        assertFalse(Z.fuse(areDoublesEqual).fuse(not).test(1.5, 1.5));
+    }
+
+    @Evil
+    @Test
+    void dblBipred_to_boolCns() {
+        synchronized (consumedBooleanA) {
+            consumedBooleanA = false;
+
+            Z.fuse(areDoublesEqual).fuse(saveBooleanA).accept(1.5, 1.5);
+
+            assertTrue(consumedBooleanA);
+        }
+    }
+}
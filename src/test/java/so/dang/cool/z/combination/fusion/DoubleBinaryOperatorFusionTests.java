@@ -15,6 +15,11 @@ public class DoubleBinaryOperatorFusionTests {
         assertEquals(3.0, addDoubles.applyAsDouble(1.0, 2.0));
 
         assertEquals(3.0, Z.fuse(addDoubles).apply(1.0).applyAsDouble(2.0));
+        assertEquals(2.0, Z.fuse(addDoubles).applyAsDouble(0.5, 1.5));
+        assertEquals(
+            2.0,
+            Z.fuse(addDoubles).resolve().apply(0.5).applyAsDouble(1.5)
+        );
     }
 
     @Test
@@ -0,0 +1,72 @@
+package so.dang.cool.z.combination.fusion;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static so.dang.cool.z.combination.TestFunctions.*;
+
+import org.junit.jupiter.api.Test;
+import so.dang.cool.z.Z;
+import so.dang.cool.z.annotation.Evil;
+
+public class DoubleBinaryToIntFunctionFusionTests {
+
+    @Test
+    void dblBiToInt() {
+        assertEquals(2, addDoublesAsInt.applyAsInt(0.5, 1.5));
+        assertEquals(2, Z.fuse(addDoublesAsInt).applyAsInt(0.5, 1.5));
+        assertEquals(2, Z.fuse(addDoublesAsInt).apply(0.5).applyAsInt(1.5));
+        assertEquals(
+            2,
+            Z.fuse(addDoublesAsInt).resolve().apply(0.5).applyAsInt(1.5)
+        );
+    }
+
+    @Test
+    void dblBiToInt_to_intFn() {
+        assertEquals(
+            "2",
+            Z.fuse(addDoublesAsInt).fuse(intToString).apply(0.5, 1.5)
+        );
+    }
+
+    @Test
+    void dblBiToInt_to_intToDbl() {
+        assertEquals(
+            2.0,
+            Z.fuse(addDoublesAsInt).fuse(intToDouble).applyAsDouble(0.5, 1.5)
+        );
+    }
+
+    @Test
+    void dblBiToInt_to_intToLong() {
+        assertEquals(
+            2L,
+            Z.fuse(addDoublesAsInt).fuse(intToLong).applyAsLong(0.5, 1.5)
+        );
+    }
+
+    @Test
+    void dblBiToInt_to_intPred() {
+        assertTrue(Z.fuse(addDoublesAsInt).fuse(isIntTwo).test(0.5, 1.5));
+    }
+
+    @Evil
+    @Test
+    void dblBiToInt_to_intCns() {
+        synchronized (consumedIntA) {
+            consumedIntA = 0;
+
+            Z.fuse(addDoublesAsInt).fuse(saveIntA).accept(0.5, 1.5);
+
+            assertEquals(2, consumedIntA);
+        }
+    }
+
+    @Test
+    void dblBiToInt_to_intUnop() {
+        assertEquals(
+            4,
+            Z.fuse(addDoublesAsInt).fuse(addTwoToInt).applyAsInt(0.5, 1.5)
+        );
+    }
+}
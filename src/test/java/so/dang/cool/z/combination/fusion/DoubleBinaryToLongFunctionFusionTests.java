@@ -0,0 +1,72 @@
+package so.dang.cool.z.combination.fusion;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static so.dang.cool.z.combination.TestFunctions.*;
+
+import org.junit.jupiter.api.Test;
+import so.dang.cool.z.Z;
+import so.dang.cool.z.annotation.Evil;
+
+public class DoubleBinaryToLongFunctionFusionTests {
+
+    @Test
+    void dblBiToLong() {
+        assertEquals(2L, addDoublesAsLong.applyAsLong(0.5, 1.5));
+        assertEquals(2L, Z.fuse(addDoublesAsLong).applyAsLong(0.5, 1.5));
+        assertEquals(2L, Z.fuse(addDoublesAsLong).apply(0.5).applyAsLong(1.5));
+        assertEquals(
+            2L,
+            Z.fuse(addDoublesAsLong).resolve().apply(0.5).applyAsLong(1.5)
+        );
+    }
+
+    @Test
+    void dblBiToLong_to_longFn() {
+        assertEquals(
+            "2",
+            Z.fuse(addDoublesAsLong).fuse(longToString).apply(0.5, 1.5)
+        );
+    }
+
+    @Test
+    void dblBiToLong_to_longToDbl() {
+        assertEquals(
+            2.0,
+            Z.fuse(addDoublesAsLong).fuse(longToDouble).applyAsDouble(0.5, 1.5)
+        );
+    }
+
+    @Test
+    void dblBiToLong_to_longToInt() {
+        assertEquals(
+            2,
+            Z.fuse(addDoublesAsLong).fuse(longToInt).applyAsInt(0.5, 1.5)
+        );
+    }
+
+    @Test
+    void dblBiToLong_to_longPred() {
+        assertFalse(Z.fuse(addDoublesAsLong).fuse(isLongThree).test(0.5, 1.5));
+    }
+
+    @Evil
+    @Test
+    void dblBiToLong_to_longCns() {
+        synchronized (consumedLongA) {
+            consumedLongA = 0L;
+
+            Z.fuse(addDoublesAsLong).fuse(saveLongA).accept(0.5, 1.5);
+
+            assertEquals(2L, consumedLongA);
+        }
+    }
+
+    @Test
+    void dblBiToLong_to_longUnop() {
+        assertEquals(
+            5L,
+            Z.fuse(addDoublesAsLong).fuse(addThreeToLong).applyAsLong(0.5, 1.5)
+        );
+    }
+}
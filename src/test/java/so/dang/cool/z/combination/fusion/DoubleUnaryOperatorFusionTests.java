@@ -66,6 +66,18 @@ public class DoubleUnaryOperatorFusionTests {
         );
     }
 
+    @Test
+    void dblUnop_to_dblUnop_many() {
+        var fusion = Z.fuse(addOneToDouble);
+
+        for (int i = 1; i < 20_000; i++) {
+            fusion = fusion.fuse(addOneToDouble);
+        }
+
+        assertEquals(20_000.0, fusion.applyAsDouble(0));
+        assertEquals(40_000.0, Z.fuse(fusion).fuse(fusion).applyAsDouble(0));
+    }
+
     @Test
     void dblUnop_to_dblBiop() {
         assertEquals(
@@ -4,6 +4,8 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static so.dang.cool.z.combination.TestFunctions.*;
 
+import java.util.function.Function;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.Test;
 import so.dang.cool.z.Z;
 import so.dang.cool.z.annotation.Evil;
@@ -25,6 +27,20 @@ public class FunctionFusionTests {
         assertEquals("hello", Z.fuse(trim).fuse(toLower).apply(" HeLlO "));
     }
 
+    @Test
+    void fn_to_fn_many() {
+        Function<Integer, Integer> increment = i -> i + 1;
+
+        Function<Integer, Integer> fusion = IntStream
+            .range(0, 20_000)
+            .mapToObj(ignored -> increment)
+            .reduce((a, b) -> Z.fuse(a).fuse(b))
+            .get();
+
+        assertEquals(20_000, fusion.apply(0));
+        assertEquals(40_000, Z.fuse(fusion).fuse(fusion).apply(0));
+    }
+
     @Test
     void fn_to_bifn() {
         assertEquals(
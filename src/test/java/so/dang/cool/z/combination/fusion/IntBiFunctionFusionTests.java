@@ -0,0 +1,69 @@
+package so.dang.cool.z.combination.fusion;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static so.dang.cool.z.combination.TestFunctions.*;
+
+import org.junit.jupiter.api.Test;
+import so.dang.cool.z.Z;
+import so.dang.cool.z.annotation.Evil;
+
+public class IntBiFunctionFusionTests {
+
+    @Test
+    void intBifn() {
+        assertEquals("3", addIntsAsString.apply(1, 2));
+        assertEquals("3", Z.fuse(addIntsAsString).apply(1, 2));
+        assertEquals("3", Z.fuse(addIntsAsString).apply(1).apply(2));
+        assertEquals("3", Z.fuse(addIntsAsString).resolve().apply(1).apply(2));
+    }
+
+    @Test
+    void intBifn_to_fn() {
+        assertEquals(
+            "3!",
+            Z.fuse(addIntsAsString).fuse(addExclamationMark).apply(1, 2)
+        );
+    }
+
+    @Test
+    void intBifn_to_toDblFn() {
+        assertEquals(
+            3.0,
+            Z.fuse(addIntsAsString).fuse(stringToDouble).applyAsDouble(1, 2)
+        );
+    }
+
+    @Test
+    void intBifn_to_toIntFn() {
+        assertEquals(
+            3,
+            Z.fuse(addIntsAsString).fuse(stringToInt).applyAsInt(1, 2)
+        );
+    }
+
+    @Test
+    void intBifn_to_toLongFn() {
+        assertEquals(
+            3L,
+            Z.fuse(addIntsAsString).fuse(stringToLong).applyAsLong(1, 2)
+        );
+    }
+
+    @Test
+    void intBifn_to_pred() {
+        assertFalse(Z.fuse(addIntsAsString).fuse(isEmpty).test(1, 2));
+    }
+
+    @Evil
+    @Test
+    void intBifn_to_cns() {
+        synchronized (consumedStringA) {
+            consumedStringA = "";
+
+            Z.fuse(addIntsAsString).fuse(saveStringA).accept(1, 2);
+
+            assertEquals("3", consumedStringA);
+        }
+    }
+}
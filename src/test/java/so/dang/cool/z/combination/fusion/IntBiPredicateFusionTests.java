@@ -0,0 +1,70 @@
+package so.dang.cool.z.combination.fusion;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static so.dang.cool.z.combination.TestFunctions.*;
+
+import org.junit.jupiter.api.Test;
+import so.dang.cool.z.Z;
+import so.dang.cool.z.annotation.Evil;
+
+public class IntBiPredicateFusionTests {
+
+    @Test
+    void intBipred() {
+        assertTrue(areIntsEqual.test(2, 2));
+        assertTrue(Z.fuse(areIntsEqual).test(2, 2));
+        assertTrue(Z.fuse(areIntsEqual).apply(2).test(2));
+        assertTrue(Z.fuse(areIntsEqual).resolve().apply(2).test(2));
+    }
+
+    @Test
+    void intBipred_to_boolFn() {
+        assertEquals(
+            "true",
+            Z.fuse(areIntsEqual).fuse(booleanToString).apply(2, 2)
+        );
+    }
+
+    @Test
+    void intBipred_to_boolToDbl() {
+        assertEquals(
+            1.0,
+            Z.fuse(areIntsEqual).fuse(maybeOneAsDouble).applyAsDouble(2, 2)
+        );
+    }
+
+    @Test
+    void intBipred_to_boolToInt() {
+        assertEquals(
+            2,
+            Z.fuse(areIntsEqual).fuse(maybeTwoAsInt).applyAsInt(2, 2)
+        );
+    }
+
+    @Test
+    void intBipred_to_boolToLong() {
+        assertEquals(
+            3L,
+            Z.fuse(areIntsEqual).fuse(maybeThreeAsLong).applyAsLong(2, 2)
+        );
+    }
+
+    @Test
+    void intBipred_to_boolPred() {
+        assertFalse(Z.fuse(areIntsEqual).fuse(not).test(2, 2));
+    }
+
+    @Evil
+    @Test
+    void intBipred_to_boolCns() {
+        synchronized (consumedBooleanA) {
+            consumedBooleanA = false;
+
+            Z.fuse(areIntsEqual).fuse(saveBooleanA).accept(2, 2);
+
+            assertTrue(consumedBooleanA);
+        }
+    }
+}
@@ -14,6 +14,8 @@ public class IntBinaryOperatorFusionTests {
     void intBiop() {
         assertEquals(3, addInts.applyAsInt(1, 2));
         assertEquals(3, Z.fuse(addInts).apply(1).applyAsInt(2));
+        assertEquals(3, Z.fuse(addInts).applyAsInt(1, 2));
+        assertEquals(3, Z.fuse(addInts).resolve().apply(1).applyAsInt(2));
     }
 
     @Test
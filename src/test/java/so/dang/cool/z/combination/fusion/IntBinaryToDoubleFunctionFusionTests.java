@@ -0,0 +1,72 @@
+package so.dang.cool.z.combination.fusion;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static so.dang.cool.z.combination.TestFunctions.*;
+
+import org.junit.jupiter.api.Test;
+import so.dang.cool.z.Z;
+import so.dang.cool.z.annotation.Evil;
+
+public class IntBinaryToDoubleFunctionFusionTests {
+
+    @Test
+    void intBiToDbl() {
+        assertEquals(3.0, addIntsAsDouble.applyAsDouble(1, 2));
+        assertEquals(3.0, Z.fuse(addIntsAsDouble).applyAsDouble(1, 2));
+        assertEquals(3.0, Z.fuse(addIntsAsDouble).apply(1).applyAsDouble(2));
+        assertEquals(
+            3.0,
+            Z.fuse(addIntsAsDouble).resolve().apply(1).applyAsDouble(2)
+        );
+    }
+
+    @Test
+    void intBiToDbl_to_dblFn() {
+        assertEquals(
+            "3.0",
+            Z.fuse(addIntsAsDouble).fuse(doubleToString).apply(1, 2)
+        );
+    }
+
+    @Test
+    void intBiToDbl_to_dblToInt() {
+        assertEquals(
+            3,
+            Z.fuse(addIntsAsDouble).fuse(doubleToInt).applyAsInt(1, 2)
+        );
+    }
+
+    @Test
+    void intBiToDbl_to_dblToLong() {
+        assertEquals(
+            3L,
+            Z.fuse(addIntsAsDouble).fuse(doubleToLong).applyAsLong(1, 2)
+        );
+    }
+
+    @Test
+    void intBiToDbl_to_dblPred() {
+        assertFalse(Z.fuse(addIntsAsDouble).fuse(isDoubleOne).test(1, 2));
+    }
+
+    @Evil
+    @Test
+    void intBiToDbl_to_dblCns() {
+        synchronized (consumedDoubleA) {
+            consumedDoubleA = 0.0;
+
+            Z.fuse(addIntsAsDouble).fuse(saveDoubleA).accept(1, 2);
+
+            assertEquals(3.0, consumedDoubleA);
+        }
+    }
+
+    @Test
+    void intBiToDbl_to_dblUnop() {
+        assertEquals(
+            4.0,
+            Z.fuse(addIntsAsDouble).fuse(addOneToDouble).applyAsDouble(1, 2)
+        );
+    }
+}
@@ -0,0 +1,66 @@
+package so.dang.cool.z.combination.fusion;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static so.dang.cool.z.combination.TestFunctions.*;
+
+import org.junit.jupiter.api.Test;
+import so.dang.cool.z.Z;
+import so.dang.cool.z.annotation.Evil;
+
+public class IntBinaryToLongFunctionFusionTests {
+
+    @Test
+    void intBiToLong() {
+        assertEquals(3L, addIntsAsLong.applyAsLong(1, 2));
+        assertEquals(3L, Z.fuse(addIntsAsLong).applyAsLong(1, 2));
+        assertEquals(3L, Z.fuse(addIntsAsLong).apply(1).applyAsLong(2));
+        assertEquals(
+            3L,
+            Z.fuse(addIntsAsLong).resolve().apply(1).applyAsLong(2)
+        );
+    }
+
+    @Test
+    void intBiToLong_to_longFn() {
+        assertEquals("3", Z.fuse(addIntsAsLong).fuse(longToString).apply(1, 2));
+    }
+
+    @Test
+    void intBiToLong_to_longToDbl() {
+        assertEquals(
+            3.0,
+            Z.fuse(addIntsAsLong).fuse(longToDouble).applyAsDouble(1, 2)
+        );
+    }
+
+    @Test
+    void intBiToLong_to_longToInt() {
+        assertEquals(3, Z.fuse(addIntsAsLong).fuse(longToInt).applyAsInt(1, 2));
+    }
+
+    @Test
+    void intBiToLong_to_longPred() {
+        assertTrue(Z.fuse(addIntsAsLong).fuse(isLongThree).test(1, 2));
+    }
+
+    @Evil
+    @Test
+    void intBiToLong_to_longCns() {
+        synchronized (consumedLongA) {
+            consumedLongA = 0L;
+
+            Z.fuse(addIntsAsLong).fuse(saveLongA).accept(1, 2);
+
+            assertEquals(3L, consumedLongA);
+        }
+    }
+
+    @Test
+    void intBiToLong_to_longUnop() {
+        assertEquals(
+            6L,
+            Z.fuse(addIntsAsLong).fuse(addThreeToLong).applyAsLong(1, 2)
+        );
+    }
+}
@@ -91,6 +91,18 @@ public class IntUnaryOperatorFusionTests {
             );
     }
 
+    @Test
+    void intUnop_to_intUnop_many() {
+        var fusion = Z.fuse(addTwoToInt);
+
+        for (int i = 1; i < 20_000; i++) {
+            fusion = fusion.fuse(addTwoToInt);
+        }
+
+        assertEquals(40_000, fusion.applyAsInt(0));
+        assertEquals(80_000, Z.fuse(fusion).fuse(fusion).applyAsInt(0));
+    }
+
     @Test
     void intUnop_to_intBiop() {
         Stream
@@ -0,0 +1,72 @@
+package so.dang.cool.z.combination.fusion;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static so.dang.cool.z.combination.TestFunctions.*;
+
+import org.junit.jupiter.api.Test;
+import so.dang.cool.z.Z;
+import so.dang.cool.z.annotation.Evil;
+
+public class LongBiFunctionFusionTests {
+
+    @Test
+    void longBifn() {
+        assertEquals("3", addLongsAsString.apply(1L, 2L));
+        assertEquals("3", Z.fuse(addLongsAsString).apply(1L, 2L));
+        assertEquals("3", Z.fuse(addLongsAsString).apply(1L).apply(2L));
+        assertEquals(
+            "3",
+            Z.fuse(addLongsAsString).resolve().apply(1L).apply(2L)
+        );
+    }
+
+    @Test
+    void longBifn_to_fn() {
+        assertEquals(
+            "3!",
+            Z.fuse(addLongsAsString).fuse(addExclamationMark).apply(1L, 2L)
+        );
+    }
+
+    @Test
+    void longBifn_to_toDblFn() {
+        assertEquals(
+            3.0,
+            Z.fuse(addLongsAsString).fuse(stringToDouble).applyAsDouble(1L, 2L)
+        );
+    }
+
+    @Test
+    void longBifn_to_toIntFn() {
+        assertEquals(
+            3,
+            Z.fuse(addLongsAsString).fuse(stringToInt).applyAsInt(1L, 2L)
+        );
+    }
+
+    @Test
+    void longBifn_to_toLongFn() {
+        assertEquals(
+            3L,
+            Z.fuse(addLongsAsString).fuse(stringToLong).applyAsLong(1L, 2L)
+        );
+    }
+
+    @Test
+    void longBifn_to_pred() {
+        assertFalse(Z.fuse(addLongsAsString).fuse(isEmpty).test(1L, 2L));
+    }
+
+    @Evil
+    @Test
+    void longBifn_to_cns() {
+        synchronized (consumedStringA) {
+            consumedStringA = "";
+
+            Z.fuse(addLongsAsString).fuse(saveStringA).accept(1L, 2L);
+
+            assertEquals("3", consumedStringA);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package so.dang.cool.z.combination.fusion;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static so.dang.cool.z.combination.TestFunctions.*;
+
+import org.junit.jupiter.api.Test;
+import so.dang.cool.z.Z;
+import so.dang.cool.z.annotation.Evil;
+
+public class LongBiPredicateFusionTests {
+
+    @Test
+    void longBipred() {
+        assertTrue(areLongsEqual.test(3L, 3L));
+        assertTrue(Z.fuse(areLongsEqual).test(3L, 3L));
+        assertTrue(Z.fuse(areLongsEqual).apply(3L).test(3L));
+        assertTrue(Z.fuse(areLongsEqual).resolve().apply(3L).test(3L));
+    }
+
+    @Test
+    void longBipred_to_boolFn() {
+        assertEquals(
+            "true",
+            Z.fuse(areLongsEqual).fuse(booleanToString).apply(3L, 3L)
+        );
+    }
+
+    @Test
+    void longBipred_to_boolToDbl() {
+        assertEquals(
+            1.0,
+            Z.fuse(areLongsEqual).fuse(maybeOneAsDouble).applyAsDouble(3L, 3L)
+        );
+    }
+
+    @Test
+    void longBipred_to_boolToInt() {
+        assertEquals(
+            2,
+            Z.fuse(areLongsEqual).fuse(maybeTwoAsInt).applyAsInt(3L, 3L)
+        );
+    }
+
+    @Test
+    void longBipred_to_boolToLong() {
+        assertEquals(
+            3L,
+            Z.fuse(areLongsEqual).fuse(maybeThreeAsLong).applyAsLong(3L, 3L)
+        );
+    }
+
+    @Test
+    void longBipred_to_boolPred() {
+        assertFalse(Z.fuse(areLongsEqual).fuse(not).test(3L, 3L));
+    }
+
+    @Evil
+    @Test
+    void longBipred_to_boolCns() {
+        synchronized (consumedBooleanA) {
+            consumedBooleanA = false;
+
+            Z.fuse(areLongsEqual).fuse(saveBooleanA).accept(3L, 3L);
+
+            assertTrue(consumedBooleanA);
+        }
+    }
+}
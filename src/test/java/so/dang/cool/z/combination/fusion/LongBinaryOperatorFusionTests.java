@@ -16,6 +16,8 @@ public class LongBinaryOperatorFusionTests {
         assertEquals(3L, addLongs.applyAsLong(1L, 2L));
 
         assertEquals(3L, Z.fuse(addLongs).apply(1L).applyAsLong(2L));
+        assertEquals(3L, Z.fuse(addLongs).applyAsLong(1L, 2L));
+        assertEquals(3L, Z.fuse(addLongs).resolve().apply(1L).applyAsLong(2L));
     }
 
     @Test
@@ -0,0 +1,72 @@
+package so.dang.cool.z.combination.fusion;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static so.dang.cool.z.combination.TestFunctions.*;
+
+import org.junit.jupiter.api.Test;
+import so.dang.cool.z.Z;
+import so.dang.cool.z.annotation.Evil;
+
+public class LongBinaryToDoubleFunctionFusionTests {
+
+    @Test
+    void longBiToDbl() {
+        assertEquals(3.0, addLongsAsDouble.applyAsDouble(1L, 2L));
+        assertEquals(3.0, Z.fuse(addLongsAsDouble).applyAsDouble(1L, 2L));
+        assertEquals(3.0, Z.fuse(addLongsAsDouble).apply(1L).applyAsDouble(2L));
+        assertEquals(
+            3.0,
+            Z.fuse(addLongsAsDouble).resolve().apply(1L).applyAsDouble(2L)
+        );
+    }
+
+    @Test
+    void longBiToDbl_to_dblFn() {
+        assertEquals(
+            "3.0",
+            Z.fuse(addLongsAsDouble).fuse(doubleToString).apply(1L, 2L)
+        );
+    }
+
+    @Test
+    void longBiToDbl_to_dblToInt() {
+        assertEquals(
+            3,
+            Z.fuse(addLongsAsDouble).fuse(doubleToInt).applyAsInt(1L, 2L)
+        );
+    }
+
+    @Test
+    void longBiToDbl_to_dblToLong() {
+        assertEquals(
+            3L,
+            Z.fuse(addLongsAsDouble).fuse(doubleToLong).applyAsLong(1L, 2L)
+        );
+    }
+
+    @Test
+    void longBiToDbl_to_dblPred() {
+        assertFalse(Z.fuse(addLongsAsDouble).fuse(isDoubleOne).test(1L, 2L));
+    }
+
+    @Evil
+    @Test
+    void longBiToDbl_to_dblCns() {
+        synchronized (consumedDoubleA) {
+            consumedDoubleA = 0.0;
+
+            Z.fuse(addLongsAsDouble).fuse(saveDoubleA).accept(1L, 2L);
+
+            assertEquals(3.0, consumedDoubleA);
+        }
+    }
+
+    @Test
+    void longBiToDbl_to_dblUnop() {
+        assertEquals(
+            4.0,
+            Z.fuse(addLongsAsDouble).fuse(addOneToDouble).applyAsDouble(1L, 2L)
+        );
+    }
+}
@@ -0,0 +1,72 @@
+package so.dang.cool.z.combination.fusion;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static so.dang.cool.z.combination.TestFunctions.*;
+
+import org.junit.jupiter.api.Test;
+import so.dang.cool.z.Z;
+import so.dang.cool.z.annotation.Evil;
+
+public class LongBinaryToIntFunctionFusionTests {
+
+    @Test
+    void longBiToInt() {
+        assertEquals(3, addLongsAsInt.applyAsInt(1L, 2L));
+        assertEquals(3, Z.fuse(addLongsAsInt).applyAsInt(1L, 2L));
+        assertEquals(3, Z.fuse(addLongsAsInt).apply(1L).applyAsInt(2L));
+        assertEquals(
+            3,
+            Z.fuse(addLongsAsInt).resolve().apply(1L).applyAsInt(2L)
+        );
+    }
+
+    @Test
+    void longBiToInt_to_intFn() {
+        assertEquals(
+            "3",
+            Z.fuse(addLongsAsInt).fuse(intToString).apply(1L, 2L)
+        );
+    }
+
+    @Test
+    void longBiToInt_to_intToDbl() {
+        assertEquals(
+            3.0,
+            Z.fuse(addLongsAsInt).fuse(intToDouble).applyAsDouble(1L, 2L)
+        );
+    }
+
+    @Test
+    void longBiToInt_to_intToLong() {
+        assertEquals(
+            3L,
+            Z.fuse(addLongsAsInt).fuse(intToLong).applyAsLong(1L, 2L)
+        );
+    }
+
+    @Test
+    void longBiToInt_to_intPred() {
+        assertFalse(Z.fuse(addLongsAsInt).fuse(isIntTwo).test(1L, 2L));
+    }
+
+    @Evil
+    @Test
+    void longBiToInt_to_intCns() {
+        synchronized (consumedIntA) {
+            consumedIntA = 0;
+
+            Z.fuse(addLongsAsInt).fuse(saveIntA).accept(1L, 2L);
+
+            assertEquals(3, consumedIntA);
+        }
+    }
+
+    @Test
+    void longBiToInt_to_intUnop() {
+        assertEquals(
+            5,
+            Z.fuse(addLongsAsInt).fuse(addTwoToInt).applyAsInt(1L, 2L)
+        );
+    }
+}
@@ -91,6 +91,18 @@ public class LongUnaryOperatorFusionTests {
             );
     }
 
+    @Test
+    void longUnop_to_longUnop_many() {
+        var fusion = Z.fuse(addThreeToLong);
+
+        for (int i = 1; i < 20_000; i++) {
+            fusion = fusion.fuse(addThreeToLong);
+        }
+
+        assertEquals(60_000L, fusion.applyAsLong(0));
+        assertEquals(120_000L, Z.fuse(fusion).fuse(fusion).applyAsLong(0));
+    }
+
     @Test
     void longUnop_to_longBiop() {
         Stream
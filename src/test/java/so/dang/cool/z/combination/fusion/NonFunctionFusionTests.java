@@ -0,0 +1,44 @@
+package so.dang.cool.z.combination.fusion;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static so.dang.cool.z.combination.TestFunctions.*;
+
+import org.junit.jupiter.api.Test;
+import so.dang.cool.z.Z;
+
+public class NonFunctionFusionTests {
+
+    @Test
+    void nonFn() {
+        assertEquals(
+            "abcdefghi",
+            Z.fuse(concat9).apply("a", "b", "c", "d", "e", "f", "g", "h", "i")
+        );
+        assertEquals(
+            "abcdefghi",
+            Z
+                .fuse(concat9)
+                .resolve()
+                .apply("a", "b", "c", "d", "e", "f", "g", "h", "i")
+        );
+    }
+
+    @Test
+    void nonFn_to_fn() {
+        assertEquals(
+            "abcdefghi!",
+            Z
+                .fuse(concat9)
+                .fuse(addExclamationMark)
+                .apply("a", "b", "c", "d", "e", "f", "g", "h", "i")
+        );
+        assertEquals(
+            "abcdefghi!!",
+            Z
+                .fuse(concat9)
+                .fuse(addExclamationMark)
+                .fuse(addExclamationMark)
+                .apply("a", "b", "c", "d", "e", "f", "g", "h", "i")
+        );
+    }
+}
@@ -0,0 +1,44 @@
+package so.dang.cool.z.combination.fusion;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static so.dang.cool.z.combination.TestFunctions.*;
+
+import org.junit.jupiter.api.Test;
+import so.dang.cool.z.Z;
+
+public class OctFunctionFusionTests {
+
+    @Test
+    void octFn() {
+        assertEquals(
+            "abcdefgh",
+            Z.fuse(concat8).apply("a", "b", "c", "d", "e", "f", "g", "h")
+        );
+        assertEquals(
+            "abcdefgh",
+            Z
+                .fuse(concat8)
+                .resolve()
+                .apply("a", "b", "c", "d", "e", "f", "g", "h")
+        );
+    }
+
+    @Test
+    void octFn_to_fn() {
+        assertEquals(
+            "abcdefgh!",
+            Z
+                .fuse(concat8)
+                .fuse(addExclamationMark)
+                .apply("a", "b", "c", "d", "e", "f", "g", "h")
+        );
+        assertEquals(
+            "abcdefgh!!",
+            Z
+                .fuse(concat8)
+                .fuse(addExclamationMark)
+                .fuse(addExclamationMark)
+                .apply("a", "b", "c", "d", "e", "f", "g", "h")
+        );
+    }
+}
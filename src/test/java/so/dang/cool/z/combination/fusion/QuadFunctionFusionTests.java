@@ -0,0 +1,35 @@
+package so.dang.cool.z.combination.fusion;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static so.dang.cool.z.combination.TestFunctions.*;
+
+import org.junit.jupiter.api.Test;
+import so.dang.cool.z.Z;
+
+public class QuadFunctionFusionTests {
+
+    @Test
+    void quadFn() {
+        assertEquals("abcd", Z.fuse(concat4).apply("a", "b", "c", "d"));
+        assertEquals(
+            "abcd",
+            Z.fuse(concat4).resolve().apply("a", "b", "c", "d")
+        );
+    }
+
+    @Test
+    void quadFn_to_fn() {
+        assertEquals(
+            "abcd!",
+            Z.fuse(concat4).fuse(addExclamationMark).apply("a", "b", "c", "d")
+        );
+        assertEquals(
+            "abcd!!",
+            Z
+                .fuse(concat4)
+                .fuse(addExclamationMark)
+                .fuse(addExclamationMark)
+                .apply("a", "b", "c", "d")
+        );
+    }
+}
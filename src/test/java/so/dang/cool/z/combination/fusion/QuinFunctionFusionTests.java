@@ -0,0 +1,38 @@
+package so.dang.cool.z.combination.fusion;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static so.dang.cool.z.combination.TestFunctions.*;
+
+import org.junit.jupiter.api.Test;
+import so.dang.cool.z.Z;
+
+public class QuinFunctionFusionTests {
+
+    @Test
+    void quinFn() {
+        assertEquals("abcde", Z.fuse(concat5).apply("a", "b", "c", "d", "e"));
+        assertEquals(
+            "abcde",
+            Z.fuse(concat5).resolve().apply("a", "b", "c", "d", "e")
+        );
+    }
+
+    @Test
+    void quinFn_to_fn() {
+        assertEquals(
+            "abcde!",
+            Z
+                .fuse(concat5)
+                .fuse(addExclamationMark)
+                .apply("a", "b", "c", "d", "e")
+        );
+        assertEquals(
+            "abcde!!",
+            Z
+                .fuse(concat5)
+                .fuse(addExclamationMark)
+                .fuse(addExclamationMark)
+                .apply("a", "b", "c", "d", "e")
+        );
+    }
+}
@@ -0,0 +1,41 @@
+package so.dang.cool.z.combination.fusion;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static so.dang.cool.z.combination.TestFunctions.*;
+
+import org.junit.jupiter.api.Test;
+import so.dang.cool.z.Z;
+
+public class SeptFunctionFusionTests {
+
+    @Test
+    void septFn() {
+        assertEquals(
+            "abcdefg",
+            Z.fuse(concat7).apply("a", "b", "c", "d", "e", "f", "g")
+        );
+        assertEquals(
+            "abcdefg",
+            Z.fuse(concat7).resolve().apply("a", "b", "c", "d", "e", "f", "g")
+        );
+    }
+
+    @Test
+    void septFn_to_fn() {
+        assertEquals(
+            "abcdefg!",
+            Z
+                .fuse(concat7)
+                .fuse(addExclamationMark)
+                .apply("a", "b", "c", "d", "e", "f", "g")
+        );
+        assertEquals(
+            "abcdefg!!",
+            Z
+                .fuse(concat7)
+                .fuse(addExclamationMark)
+                .fuse(addExclamationMark)
+                .apply("a", "b", "c", "d", "e", "f", "g")
+        );
+    }
+}
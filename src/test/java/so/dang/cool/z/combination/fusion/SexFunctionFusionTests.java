@@ -0,0 +1,41 @@
+package so.dang.cool.z.combination.fusion;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static so.dang.cool.z.combination.TestFunctions.*;
+
+import org.junit.jupiter.api.Test;
+import so.dang.cool.z.Z;
+
+public class SexFunctionFusionTests {
+
+    @Test
+    void sexFn() {
+        assertEquals(
+            "abcdef",
+            Z.fuse(concat6).apply("a", "b", "c", "d", "e", "f")
+        );
+        assertEquals(
+            "abcdef",
+            Z.fuse(concat6).resolve().apply("a", "b", "c", "d", "e", "f")
+        );
+    }
+
+    @Test
+    void sexFn_to_fn() {
+        assertEquals(
+            "abcdef!",
+            Z
+                .fuse(concat6)
+                .fuse(addExclamationMark)
+                .apply("a", "b", "c", "d", "e", "f")
+        );
+        assertEquals(
+            "abcdef!!",
+            Z
+                .fuse(concat6)
+                .fuse(addExclamationMark)
+                .fuse(addExclamationMark)
+                .apply("a", "b", "c", "d", "e", "f")
+        );
+    }
+}
@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static so.dang.cool.z.combination.TestFunctions.*;
 
+import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.Test;
@@ -31,6 +32,20 @@ public class SupplierFusionTests {
         );
     }
 
+    @Test
+    void sup_to_fn_many() {
+        Supplier<Integer> zero = () -> 0;
+        Function<Integer, Integer> increment = i -> i + 1;
+        var fusion = Z.fuse(zero);
+
+        for (int i = 0; i < 20_000; i++) {
+            fusion = fusion.fuse(increment);
+        }
+
+        assertEquals(20_000, fusion.get());
+        assertEquals(20_001, Z.fuse(fusion).fuse(increment).get());
+    }
+
     @Test
     void sup_to_bifn() {
         assertEquals("Z!", Z.fuse(getString).fuse(concat).apply("!"));
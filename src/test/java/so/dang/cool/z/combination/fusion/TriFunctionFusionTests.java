@@ -0,0 +1,32 @@
+package so.dang.cool.z.combination.fusion;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static so.dang.cool.z.combination.TestFunctions.*;
+
+import org.junit.jupiter.api.Test;
+import so.dang.cool.z.Z;
+
+public class TriFunctionFusionTests {
+
+    @Test
+    void triFn() {
+        assertEquals("abc", Z.fuse(concat3).apply("a", "b", "c"));
+        assertEquals("abc", Z.fuse(concat3).resolve().apply("a", "b", "c"));
+    }
+
+    @Test
+    void triFn_to_fn() {
+        assertEquals(
+            "abc!",
+            Z.fuse(concat3).fuse(addExclamationMark).apply("a", "b", "c")
+        );
+        assertEquals(
+            "abc!!",
+            Z
+                .fuse(concat3)
+                .fuse(addExclamationMark)
+                .fuse(addExclamationMark)
+                .apply("a", "b", "c")
+        );
+    }
+}
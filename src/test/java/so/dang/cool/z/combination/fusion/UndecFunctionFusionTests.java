@@ -0,0 +1,46 @@
+package so.dang.cool.z.combination.fusion;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static so.dang.cool.z.combination.TestFunctions.*;
+
+import org.junit.jupiter.api.Test;
+import so.dang.cool.z.Z;
+
+public class UndecFunctionFusionTests {
+
+    @Test
+    void undecFn() {
+        assertEquals(
+            "abcdefghijk",
+            Z
+                .fuse(concat11)
+                .apply("a", "b", "c", "d", "e", "f", "g", "h", "i", "j", "k")
+        );
+        assertEquals(
+            "abcdefghijk",
+            Z
+                .fuse(concat11)
+                .resolve()
+                .apply("a", "b", "c", "d", "e", "f", "g", "h", "i", "j", "k")
+        );
+    }
+
+    @Test
+    void undecFn_to_fn() {
+        assertEquals(
+            "abcdefghijk!",
+            Z
+                .fuse(concat11)
+                .fuse(addExclamationMark)
+                .apply("a", "b", "c", "d", "e", "f", "g", "h", "i", "j", "k")
+        );
+        assertEquals(
+            "abcdefghijk!!",
+            Z
+                .fuse(concat11)
+                .fuse(addExclamationMark)
+                .fuse(addExclamationMark)
+                .apply("a", "b", "c", "d", "e", "f", "g", "h", "i", "j", "k")
+        );
+    }
+}
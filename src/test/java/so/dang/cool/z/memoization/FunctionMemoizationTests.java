@@ -0,0 +1,158 @@
+package so.dang.cool.z.memoization;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static so.dang.cool.z.combination.TestFunctions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.junit.jupiter.api.Test;
+import so.dang.cool.z.Z;
+import so.dang.cool.z.internal.memoization.ClockCache;
+
+public class FunctionMemoizationTests {
+
+    private static Function<String, String> counting(
+        Map<String, AtomicInteger> calls,
+        Function<String, String> fn
+    ) {
+        return (String s) -> {
+            calls
+                .computeIfAbsent(s, k -> new AtomicInteger())
+                .incrementAndGet();
+            return fn.apply(s);
+        };
+    }
+
+    @Test
+    void memoize_fn() {
+        Map<String, AtomicInteger> calls = new ConcurrentHashMap<>();
+        var memoized = Z.memoize(counting(calls, trim), 8);
+
+        assertEquals("hi", memoized.apply(" hi "));
+        assertEquals("hi", memoized.apply(" hi "));
+        assertEquals("yo", memoized.apply(" yo "));
+
+        assertEquals(1, calls.get(" hi ").get());
+        assertEquals(1, calls.get(" yo ").get());
+    }
+
+    @Test
+    void memoize_fusion() {
+        Map<String, AtomicInteger> calls = new ConcurrentHashMap<>();
+        var memoized = Z
+            .fuse(counting(calls, trim))
+            .memoize(8)
+            .fuse(addExclamationMark);
+
+        assertEquals("hi!", memoized.apply(" hi "));
+        assertEquals("hi!", memoized.apply(" hi "));
+
+        assertEquals(1, calls.get(" hi ").get());
+    }
+
+    @Test
+    void memoize_nulls() {
+        AtomicInteger calls = new AtomicInteger();
+        var memoized = Z.memoize(
+            (String s) -> {
+                calls.incrementAndGet();
+                return s == null ? null : s.trim();
+            },
+            8
+        );
+
+        assertNull(memoized.apply(null));
+        assertNull(memoized.apply(null));
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void memoize_evicts_unreferenced_first() {
+        Map<String, AtomicInteger> calls = new ConcurrentHashMap<>();
+        var memoized = Z.memoize(counting(calls, trim), 2);
+
+        memoized.apply("a");
+        memoized.apply("b");
+        memoized.apply("a");
+        memoized.apply("c"); // Evicts "b", since "a" was used again.
+        memoized.apply("a");
+        memoized.apply("b"); // Evicts "c".
+        memoized.apply("a");
+
+        assertEquals(1, calls.get("a").get());
+        assertEquals(2, calls.get("b").get());
+        assertEquals(1, calls.get("c").get());
+    }
+
+    @Test
+    void memoize_invalid_size() {
+        assertThrows(IllegalArgumentException.class, () -> Z.memoize(trim, 0));
+    }
+
+    @Test
+    void clock_cache_is_bounded() {
+        ClockCache<Integer, Integer> cache = new ClockCache<>(16);
+        for (int i = 0; i < 1_000; i++) {
+            assertEquals(i * 2, cache.computeIfAbsent(i, n -> n * 2));
+            assertTrue(cache.size() <= 16);
+        }
+    }
+
+    @Test
+    void clock_cache_is_bounded_across_stripes() {
+        ClockCache<Integer, Integer> cache = new ClockCache<>(101);
+        for (int i = 0; i < 10_000; i++) {
+            assertEquals(i * 2, cache.computeIfAbsent(i, n -> n * 2));
+            assertTrue(cache.size() <= 101);
+        }
+        assertEquals(20_000, cache.computeIfAbsent(10_000, n -> n * 2));
+        assertEquals(20_000, cache.computeIfAbsent(10_000, n -> -1));
+    }
+
+    @Test
+    void memoize_concurrently() throws Exception {
+        Map<String, AtomicInteger> calls = new ConcurrentHashMap<>();
+        var memoized = Z.memoize(counting(calls, trim), 64);
+        int threads = 8;
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                results.add(
+                    pool.submit(
+                        () -> {
+                            for (int i = 0; i < 10_000; i++) {
+                                String key = " " + (i % 32) + " ";
+                                assertEquals(
+                                    String.valueOf(i % 32),
+                                    memoized.apply(key)
+                                );
+                            }
+                        }
+                    )
+                );
+            }
+            for (Future<?> result : results) {
+                result.get();
+            }
+        } finally {
+            pool.shutdown();
+        }
+
+        assertEquals(32, calls.size());
+        for (AtomicInteger count : calls.values()) {
+            assertTrue(count.get() <= threads);
+        }
+    }
+}
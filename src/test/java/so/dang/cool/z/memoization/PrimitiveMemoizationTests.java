@@ -0,0 +1,441 @@
+package so.dang.cool.z.memoization;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import com.sun.management.ThreadMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.DoubleFunction;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleToIntFunction;
+import java.util.function.DoubleToLongFunction;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.IntToLongFunction;
+import java.util.function.IntUnaryOperator;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import java.util.function.LongToDoubleFunction;
+import java.util.function.LongToIntFunction;
+import java.util.function.LongUnaryOperator;
+import org.junit.jupiter.api.Test;
+import so.dang.cool.z.Z;
+
+public class PrimitiveMemoizationTests {
+
+    @Test
+    void memoize_dblFn() {
+        AtomicInteger calls = new AtomicInteger();
+        DoubleFunction<String> fn = d -> {
+            calls.incrementAndGet();
+            return String.valueOf(d);
+        };
+        var memoized = Z.memoize(fn, 8);
+
+        assertEquals("1.5", memoized.apply(1.5));
+        assertEquals("1.5", memoized.apply(1.5));
+        assertEquals("2.5", memoized.apply(2.5));
+        assertEquals("2.5", memoized.apply(2.5));
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void memoize_dblToIntFn() {
+        AtomicInteger calls = new AtomicInteger();
+        DoubleToIntFunction fn = d -> {
+            calls.incrementAndGet();
+            return (int) d;
+        };
+        var memoized = Z.memoize(fn, 8);
+
+        assertEquals(1, memoized.applyAsInt(1.5));
+        assertEquals(1, memoized.applyAsInt(1.5));
+        assertEquals(2, memoized.applyAsInt(2.5));
+        assertEquals(2, memoized.applyAsInt(2.5));
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void memoize_dblToLongFn() {
+        AtomicInteger calls = new AtomicInteger();
+        DoubleToLongFunction fn = d -> {
+            calls.incrementAndGet();
+            return (long) d;
+        };
+        var memoized = Z.memoize(fn, 8);
+
+        assertEquals(1L, memoized.applyAsLong(1.5));
+        assertEquals(1L, memoized.applyAsLong(1.5));
+        assertEquals(2L, memoized.applyAsLong(2.5));
+        assertEquals(2L, memoized.applyAsLong(2.5));
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void memoize_intFn() {
+        AtomicInteger calls = new AtomicInteger();
+        IntFunction<String> fn = i -> {
+            calls.incrementAndGet();
+            return String.valueOf(i);
+        };
+        var memoized = Z.memoize(fn, 8);
+
+        assertEquals("1", memoized.apply(1));
+        assertEquals("1", memoized.apply(1));
+        assertEquals("2", memoized.apply(2));
+        assertEquals("2", memoized.apply(2));
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void memoize_intToDblFn() {
+        AtomicInteger calls = new AtomicInteger();
+        IntToDoubleFunction fn = i -> {
+            calls.incrementAndGet();
+            return i / 2.0;
+        };
+        var memoized = Z.memoize(fn, 8);
+
+        assertEquals(0.5, memoized.applyAsDouble(1));
+        assertEquals(0.5, memoized.applyAsDouble(1));
+        assertEquals(1.0, memoized.applyAsDouble(2));
+        assertEquals(1.0, memoized.applyAsDouble(2));
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void memoize_intToLongFn() {
+        AtomicInteger calls = new AtomicInteger();
+        IntToLongFunction fn = i -> {
+            calls.incrementAndGet();
+            return i * 10L;
+        };
+        var memoized = Z.memoize(fn, 8);
+
+        assertEquals(10L, memoized.applyAsLong(1));
+        assertEquals(10L, memoized.applyAsLong(1));
+        assertEquals(20L, memoized.applyAsLong(2));
+        assertEquals(20L, memoized.applyAsLong(2));
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void memoize_longFn() {
+        AtomicInteger calls = new AtomicInteger();
+        LongFunction<String> fn = n -> {
+            calls.incrementAndGet();
+            return String.valueOf(n);
+        };
+        var memoized = Z.memoize(fn, 8);
+
+        assertEquals("1", memoized.apply(1L));
+        assertEquals("1", memoized.apply(1L));
+        assertEquals("2", memoized.apply(2L));
+        assertEquals("2", memoized.apply(2L));
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void memoize_longToDblFn() {
+        AtomicInteger calls = new AtomicInteger();
+        LongToDoubleFunction fn = n -> {
+            calls.incrementAndGet();
+            return n / 2.0;
+        };
+        var memoized = Z.memoize(fn, 8);
+
+        assertEquals(0.5, memoized.applyAsDouble(1L));
+        assertEquals(0.5, memoized.applyAsDouble(1L));
+        assertEquals(1.0, memoized.applyAsDouble(2L));
+        assertEquals(1.0, memoized.applyAsDouble(2L));
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void memoize_longToIntFn() {
+        AtomicInteger calls = new AtomicInteger();
+        LongToIntFunction fn = n -> {
+            calls.incrementAndGet();
+            return (int) (n % 7);
+        };
+        var memoized = Z.memoize(fn, 8);
+
+        assertEquals(1, memoized.applyAsInt(8L));
+        assertEquals(1, memoized.applyAsInt(8L));
+        assertEquals(2, memoized.applyAsInt(9L));
+        assertEquals(2, memoized.applyAsInt(9L));
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void memoize_dblPred() {
+        AtomicInteger calls = new AtomicInteger();
+        DoublePredicate fn = d -> {
+            calls.incrementAndGet();
+            return d > 0;
+        };
+        var memoized = Z.memoize(fn, 8);
+
+        assertTrue(memoized.test(1.5));
+        assertTrue(memoized.test(1.5));
+        assertFalse(memoized.test(-1.5));
+        assertFalse(memoized.test(-1.5));
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void memoize_intPred() {
+        AtomicInteger calls = new AtomicInteger();
+        IntPredicate fn = i -> {
+            calls.incrementAndGet();
+            return i > 0;
+        };
+        var memoized = Z.memoize(fn, 8);
+
+        assertTrue(memoized.test(1));
+        assertTrue(memoized.test(1));
+        assertFalse(memoized.test(-1));
+        assertFalse(memoized.test(-1));
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void memoize_longPred() {
+        AtomicInteger calls = new AtomicInteger();
+        LongPredicate fn = n -> {
+            calls.incrementAndGet();
+            return n > 0;
+        };
+        var memoized = Z.memoize(fn, 8);
+
+        assertTrue(memoized.test(1L));
+        assertTrue(memoized.test(1L));
+        assertFalse(memoized.test(-1L));
+        assertFalse(memoized.test(-1L));
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void memoize_dblUnop() {
+        AtomicInteger calls = new AtomicInteger();
+        DoubleUnaryOperator fn = d -> {
+            calls.incrementAndGet();
+            return d * 2;
+        };
+        var memoized = Z.memoize(fn, 8);
+
+        assertEquals(3.0, memoized.applyAsDouble(1.5));
+        assertEquals(3.0, memoized.applyAsDouble(1.5));
+        assertEquals(5.0, memoized.applyAsDouble(2.5));
+        assertEquals(5.0, memoized.applyAsDouble(2.5));
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void memoize_intUnop() {
+        AtomicInteger calls = new AtomicInteger();
+        IntUnaryOperator fn = i -> {
+            calls.incrementAndGet();
+            return i * 2;
+        };
+        var memoized = Z.memoize(fn, 8);
+
+        assertEquals(2, memoized.applyAsInt(1));
+        assertEquals(2, memoized.applyAsInt(1));
+        assertEquals(4, memoized.applyAsInt(2));
+        assertEquals(4, memoized.applyAsInt(2));
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void memoize_longUnop() {
+        AtomicInteger calls = new AtomicInteger();
+        LongUnaryOperator fn = n -> {
+            calls.incrementAndGet();
+            return n * 2;
+        };
+        var memoized = Z.memoize(fn, 8);
+
+        assertEquals(2L, memoized.applyAsLong(1L));
+        assertEquals(2L, memoized.applyAsLong(1L));
+        assertEquals(4L, memoized.applyAsLong(2L));
+        assertEquals(4L, memoized.applyAsLong(2L));
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void memoize_fusion() {
+        AtomicInteger calls = new AtomicInteger();
+        IntUnaryOperator twice = i -> {
+            calls.incrementAndGet();
+            return i * 2;
+        };
+        var memoized = Z.fuse(twice).memoize(8).fuse((int i) -> i + 1);
+
+        assertEquals(5, memoized.applyAsInt(2));
+        assertEquals(5, memoized.applyAsInt(2));
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void memoize_signed_zeros_and_nans() {
+        AtomicInteger calls = new AtomicInteger();
+        DoubleUnaryOperator inverse = d -> {
+            calls.incrementAndGet();
+            return 1 / d;
+        };
+        var memoized = Z.memoize(inverse, 8);
+
+        assertEquals(Double.POSITIVE_INFINITY, memoized.applyAsDouble(0.0));
+        assertEquals(Double.NEGATIVE_INFINITY, memoized.applyAsDouble(-0.0));
+        assertTrue(Double.isNaN(memoized.applyAsDouble(Double.NaN)));
+        assertTrue(Double.isNaN(memoized.applyAsDouble(Double.NaN)));
+        assertEquals(3, calls.get());
+    }
+
+    @Test
+    void memoize_keeps_cached_objects() {
+        IntFunction<List<Integer>> listOf = i -> List.of(i);
+        var memoized = Z.memoize(listOf, 8);
+
+        assertSame(memoized.apply(1), memoized.apply(1));
+    }
+
+    @Test
+    void memoize_evicts_unreferenced_first() {
+        AtomicInteger calls = new AtomicInteger();
+        LongUnaryOperator negate = n -> {
+            calls.incrementAndGet();
+            return -n;
+        };
+        // A single set of eight slots.
+        var memoized = Z.memoize(negate, 8);
+
+        for (long n = 0; n < 8; n++) {
+            memoized.applyAsLong(n);
+        }
+        for (long n = 0; n < 4; n++) {
+            memoized.applyAsLong(n);
+        }
+        assertEquals(8, calls.get());
+
+        memoized.applyAsLong(8); // Evicts 4, the first unreferenced.
+        assertEquals(9, calls.get());
+
+        for (long n = 0; n < 4; n++) {
+            memoized.applyAsLong(n);
+        }
+        assertEquals(9, calls.get());
+
+        memoized.applyAsLong(4);
+        assertEquals(10, calls.get());
+    }
+
+    @Test
+    void memoize_small() {
+        AtomicInteger calls = new AtomicInteger();
+        IntUnaryOperator twice = i -> {
+            calls.incrementAndGet();
+            return i * 2;
+        };
+        var memoized = Z.memoize(twice, 1);
+
+        assertEquals(2, memoized.applyAsInt(1));
+        assertEquals(2, memoized.applyAsInt(1));
+        assertEquals(4, memoized.applyAsInt(2));
+        assertEquals(2, memoized.applyAsInt(1));
+        assertEquals(3, calls.get());
+    }
+
+    @Test
+    void memoize_invalid_size() {
+        IntUnaryOperator twice = i -> i * 2;
+        assertThrows(IllegalArgumentException.class, () -> Z.memoize(twice, 0));
+    }
+
+    @Test
+    void memoize_concurrently() throws Exception {
+        LongUnaryOperator square = n -> n * n;
+        var memoized = Z.memoize(square, 1_024);
+        int threads = 8;
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                long offset = t;
+                results.add(
+                    pool.submit(
+                        () -> {
+                            for (long i = 0; i < 100_000; i++) {
+                                long n = (i * 31 + offset) % 4_096;
+                                assertEquals(n * n, memoized.applyAsLong(n));
+                            }
+                        }
+                    )
+                );
+            }
+            for (Future<?> result : results) {
+                result.get();
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void memoized_hits_do_not_allocate() {
+        Object mx = ManagementFactory.getThreadMXBean();
+        assumeTrue(mx instanceof ThreadMXBean);
+        ThreadMXBean threads = (ThreadMXBean) mx;
+        assumeTrue(threads.isThreadAllocatedMemorySupported());
+        threads.setThreadAllocatedMemoryEnabled(true);
+
+        IntUnaryOperator twice = i -> i * 2;
+        LongToDoubleFunction half = n -> n / 2.0;
+        IntFunction<String> name = i -> "n" + i;
+
+        var ints = Z.memoize(twice, 64);
+        var longs = Z.memoize(half, 64);
+        var objects = Z.memoize(name, 64);
+
+        long id = Thread.currentThread().getId();
+        int iterations = 1_000_000;
+        long hits = 0;
+
+        for (int round = 0; round < 3; round++) {
+            long before = threads.getThreadAllocatedBytes(id);
+
+            for (int i = 0; i < iterations; i++) {
+                int n = i & 31;
+                hits += ints.applyAsInt(n);
+                hits += (long) longs.applyAsDouble(n);
+                hits += objects.apply(n).length();
+            }
+
+            long allocated = threads.getThreadAllocatedBytes(id) - before;
+
+            // The first round fills the caches; later rounds only hit.
+            if (round > 0) {
+                assertTrue(
+                    allocated < iterations,
+                    "Allocated " + allocated + " bytes"
+                );
+            }
+        }
+
+        assertTrue(hits > 0);
+    }
+}
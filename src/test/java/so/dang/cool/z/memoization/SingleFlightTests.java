@@ -0,0 +1,205 @@
+package so.dang.cool.z.memoization;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import org.junit.jupiter.api.Test;
+import so.dang.cool.z.Z;
+
+public class SingleFlightTests {
+
+    // A function that holds its first caller until released.
+    private static final class Gate implements Function<String, String> {
+
+        final AtomicInteger calls = new AtomicInteger();
+        final CountDownLatch entered = new CountDownLatch(1);
+        final CountDownLatch released = new CountDownLatch(1);
+
+        @Override
+        public String apply(String s) {
+            calls.incrementAndGet();
+            entered.countDown();
+            try {
+                released.await();
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+            if (s.isEmpty()) {
+                throw new IllegalArgumentException("empty");
+            }
+            return s.toUpperCase();
+        }
+    }
+
+    private static Thread start(Runnable runnable) {
+        Thread thread = new Thread(runnable);
+        thread.start();
+        return thread;
+    }
+
+    private static void awaitWaiting(Thread thread) throws Exception {
+        while (thread.getState() != Thread.State.WAITING) {
+            Thread.sleep(1);
+        }
+    }
+
+    @Test
+    void singleFlight_shares_in_flight_work() throws Exception {
+        Gate gate = new Gate();
+        var shared = Z.singleFlight(gate);
+        AtomicReference<String> first = new AtomicReference<>();
+        AtomicReference<String> second = new AtomicReference<>();
+
+        Thread leader = start(() -> first.set(shared.apply("hi")));
+        gate.entered.await();
+        Thread follower = start(() -> second.set(shared.apply("hi")));
+        awaitWaiting(follower);
+
+        gate.released.countDown();
+        leader.join();
+        follower.join();
+
+        assertEquals("HI", first.get());
+        assertEquals("HI", second.get());
+        assertEquals(1, gate.calls.get());
+
+        // Nothing is kept once the flight lands.
+        assertEquals("HI", shared.apply("hi"));
+        assertEquals(2, gate.calls.get());
+    }
+
+    @Test
+    void singleFlight_shares_failures() throws Exception {
+        Gate gate = new Gate();
+        var shared = Z.singleFlight(gate);
+        AtomicReference<Throwable> first = new AtomicReference<>();
+        AtomicReference<Throwable> second = new AtomicReference<>();
+
+        Thread leader = start(
+            () ->
+                first.set(
+                    assertThrows(Exception.class, () -> shared.apply(""))
+                )
+        );
+        gate.entered.await();
+        Thread follower = start(
+            () ->
+                second.set(
+                    assertThrows(Exception.class, () -> shared.apply(""))
+                )
+        );
+        awaitWaiting(follower);
+
+        gate.released.countDown();
+        leader.join();
+        follower.join();
+
+        assertTrue(first.get() instanceof IllegalArgumentException);
+        assertSame(first.get(), second.get());
+        assertEquals(1, gate.calls.get());
+    }
+
+    @Test
+    void singleFlight_rethrows_errors() {
+        Function<String, String> broken = s -> {
+            throw new AssertionError("broken");
+        };
+        Function<String, String> sneaky = s -> {
+            throw SingleFlightTests.<RuntimeException>sneak(new Exception(s));
+        };
+
+        assertThrows(
+            AssertionError.class,
+            () -> Z.singleFlight(broken).apply("a")
+        );
+        assertThrows(
+            CompletionException.class,
+            () -> Z.singleFlight(sneaky).apply("a")
+        );
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T extends Throwable> T sneak(Throwable t) throws T {
+        throw (T) t;
+    }
+
+    @Test
+    void singleFlightAsync_returns_in_flight_future() throws Exception {
+        Gate gate = new Gate();
+        var shared = Z.singleFlightAsync(gate);
+        AtomicReference<CompletableFuture<String>> first =
+            new AtomicReference<>();
+
+        Thread leader = start(() -> first.set(shared.apply("hi")));
+        gate.entered.await();
+
+        CompletableFuture<String> second = shared.apply("hi");
+        assertFalse(second.isDone());
+
+        gate.released.countDown();
+        leader.join();
+
+        assertEquals("HI", first.get().join());
+        assertEquals("HI", second.join());
+        assertEquals(1, gate.calls.get());
+    }
+
+    @Test
+    void singleFlightAsync_cancelling_leaves_other_callers() throws Exception {
+        Gate gate = new Gate();
+        var shared = Z.singleFlightAsync(gate);
+        AtomicReference<CompletableFuture<String>> first =
+            new AtomicReference<>();
+
+        Thread leader = start(() -> first.set(shared.apply("hi")));
+        gate.entered.await();
+
+        CompletableFuture<String> cancelled = shared.apply("hi");
+        CompletableFuture<String> waiting = shared.apply("hi");
+        assertTrue(cancelled.cancel(true));
+
+        gate.released.countDown();
+        leader.join();
+
+        assertTrue(cancelled.isCancelled());
+        assertEquals("HI", waiting.join());
+        assertEquals("HI", first.get().join());
+        assertEquals(1, gate.calls.get());
+    }
+
+    @Test
+    void singleFlight_nulls() {
+        Function<String, String> echo = s -> s;
+        assertNull(Z.singleFlight(echo).apply(null));
+    }
+
+    @Test
+    void singleFlight_under_memoize() throws Exception {
+        Gate gate = new Gate();
+        var cached = Z.fuse(gate).singleFlight().memoize(8);
+        AtomicReference<String> first = new AtomicReference<>();
+
+        Thread leader = start(() -> first.set(cached.apply("hi")));
+        gate.entered.await();
+        Thread follower = start(() -> cached.apply("hi"));
+        awaitWaiting(follower);
+
+        gate.released.countDown();
+        leader.join();
+        follower.join();
+
+        assertEquals("HI", first.get());
+        assertEquals("HI", cached.apply("hi"));
+        assertEquals(1, gate.calls.get());
+    }
+}
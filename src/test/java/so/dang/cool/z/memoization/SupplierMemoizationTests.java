@@ -0,0 +1,220 @@
+package so.dang.cool.z.memoization;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.function.DoubleSupplier;
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+import so.dang.cool.z.Z;
+
+public class SupplierMemoizationTests {
+
+    private static final Duration LONG_TIME = Duration.ofDays(1);
+
+    private static final class QueuedExecutor implements Executor {
+
+        private final Queue<Runnable> queued = new ArrayDeque<>();
+
+        @Override
+        public void execute(Runnable command) {
+            queued.add(command);
+        }
+
+        int size() {
+            return queued.size();
+        }
+
+        void runNext() {
+            queued.remove().run();
+        }
+    }
+
+    @Test
+    void expiring_sup() {
+        AtomicInteger calls = new AtomicInteger();
+        Supplier<Integer> next = calls::incrementAndGet;
+
+        var kept = Z
+            .fuse(next)
+            .expiring(LONG_TIME)
+            .fuseFunction(i -> i * 10);
+        assertEquals(10, kept.get());
+        assertEquals(10, kept.get());
+
+        var expired = Z.fuse(next).expiring(Duration.ZERO);
+        assertEquals(2, expired.get());
+        assertEquals(3, expired.get());
+    }
+
+    @Test
+    void expiring_boolSup() {
+        AtomicInteger calls = new AtomicInteger();
+        BooleanSupplier odd = () -> calls.incrementAndGet() % 2 == 1;
+
+        var kept = Z.fuse(odd).expiring(LONG_TIME);
+        assertTrue(kept.getAsBoolean());
+        assertTrue(kept.getAsBoolean());
+
+        var expired = Z.fuse(odd).expiring(Duration.ZERO);
+        assertFalse(expired.getAsBoolean());
+        assertTrue(expired.getAsBoolean());
+    }
+
+    @Test
+    void expiring_dblSup() {
+        AtomicInteger calls = new AtomicInteger();
+        DoubleSupplier next = () -> calls.incrementAndGet() / 2.0;
+
+        var kept = Z.fuse(next).expiring(LONG_TIME);
+        assertEquals(0.5, kept.getAsDouble());
+        assertEquals(0.5, kept.getAsDouble());
+
+        var expired = Z.fuse(next).expiring(Duration.ZERO);
+        assertEquals(1.0, expired.getAsDouble());
+        assertEquals(1.5, expired.getAsDouble());
+    }
+
+    @Test
+    void expiring_intSup() {
+        AtomicInteger calls = new AtomicInteger();
+        IntSupplier next = calls::incrementAndGet;
+
+        var kept = Z.fuse(next).expiring(LONG_TIME);
+        assertEquals(1, kept.getAsInt());
+        assertEquals(1, kept.getAsInt());
+
+        var expired = Z.fuse(next).expiring(Duration.ZERO);
+        assertEquals(2, expired.getAsInt());
+        assertEquals(3, expired.getAsInt());
+    }
+
+    @Test
+    void expiring_longSup() {
+        AtomicInteger calls = new AtomicInteger();
+        LongSupplier next = () -> calls.incrementAndGet() * 10L;
+
+        var kept = Z.fuse(next).expiring(LONG_TIME);
+        assertEquals(10L, kept.getAsLong());
+        assertEquals(10L, kept.getAsLong());
+
+        var expired = Z.fuse(next).expiring(Duration.ZERO);
+        assertEquals(20L, expired.getAsLong());
+        assertEquals(30L, expired.getAsLong());
+    }
+
+    @Test
+    void expiring_durations() {
+        Supplier<String> hello = () -> "hello";
+
+        var forever = Z.fuse(hello).expiring(Duration.ofDays(365 * 1_000));
+        assertEquals("hello", forever.get());
+
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> Z.fuse(hello).expiring(Duration.ofSeconds(-1))
+        );
+    }
+
+    @Test
+    void refreshing_sup() {
+        AtomicInteger calls = new AtomicInteger();
+        Supplier<Integer> next = calls::incrementAndGet;
+        QueuedExecutor executor = new QueuedExecutor();
+
+        var fresh = Z.fuse(next).refreshing(LONG_TIME, executor);
+        assertEquals(1, fresh.get());
+        assertEquals(1, fresh.get());
+        assertEquals(0, executor.size());
+
+        var stale = Z.fuse(next).refreshing(Duration.ZERO, executor);
+        assertEquals(2, stale.get());
+
+        // Stale values are served while a single refresh is pending.
+        assertEquals(2, stale.get());
+        assertEquals(2, stale.get());
+        assertEquals(1, executor.size());
+
+        executor.runNext();
+        assertEquals(3, stale.get());
+        assertEquals(1, executor.size());
+    }
+
+    @Test
+    void refreshing_keeps_stale_value_on_failure() {
+        AtomicInteger calls = new AtomicInteger();
+        Supplier<Integer> flaky = () -> {
+            if (calls.incrementAndGet() == 2) {
+                throw new IllegalStateException("flaked");
+            }
+            return calls.get();
+        };
+        QueuedExecutor executor = new QueuedExecutor();
+
+        var refreshing = Z.fuse(flaky).refreshing(Duration.ZERO, executor);
+        assertEquals(1, refreshing.get());
+        assertEquals(1, refreshing.get());
+
+        assertThrows(IllegalStateException.class, executor::runNext);
+        assertEquals(1, refreshing.get());
+
+        executor.runNext();
+        assertEquals(3, refreshing.get());
+    }
+
+    @Test
+    void refreshing_keeps_stale_value_on_rejection() {
+        AtomicInteger calls = new AtomicInteger();
+        AtomicInteger rejections = new AtomicInteger();
+        Supplier<Integer> next = calls::incrementAndGet;
+        Executor rejecting = command -> {
+            rejections.incrementAndGet();
+            throw new RejectedExecutionException();
+        };
+
+        var refreshing = Z.fuse(next).refreshing(Duration.ZERO, rejecting);
+        assertEquals(1, refreshing.get());
+        assertEquals(1, refreshing.get());
+        assertEquals(1, refreshing.get());
+        assertEquals(2, rejections.get());
+    }
+
+    @Test
+    void refreshing_primitives() {
+        AtomicInteger calls = new AtomicInteger();
+        QueuedExecutor executor = new QueuedExecutor();
+
+        BooleanSupplier odd = () -> calls.incrementAndGet() % 2 == 1;
+        var bools = Z.fuse(odd).refreshing(Duration.ZERO, executor);
+        assertTrue(bools.getAsBoolean());
+        assertTrue(bools.getAsBoolean());
+        executor.runNext();
+        assertFalse(bools.getAsBoolean());
+
+        DoubleSupplier half = () -> calls.incrementAndGet() / 2.0;
+        var doubles = Z.fuse(half).refreshing(LONG_TIME, executor);
+        assertEquals(1.5, doubles.getAsDouble());
+        assertEquals(1.5, doubles.getAsDouble());
+
+        IntSupplier next = calls::incrementAndGet;
+        var ints = Z.fuse(next).refreshing(LONG_TIME, executor);
+        assertEquals(4, ints.getAsInt());
+        assertEquals(4, ints.getAsInt());
+
+        LongSupplier tens = () -> calls.incrementAndGet() * 10L;
+        var longs = Z.fuse(tens).refreshing(LONG_TIME, executor);
+        assertEquals(50L, longs.getAsLong());
+        assertEquals(50L, longs.getAsLong());
+    }
+}
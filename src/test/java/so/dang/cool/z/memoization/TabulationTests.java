@@ -0,0 +1,178 @@
+package so.dang.cool.z.memoization;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.IntToLongFunction;
+import java.util.function.IntUnaryOperator;
+import org.junit.jupiter.api.Test;
+import so.dang.cool.z.Z;
+import so.dang.cool.z.function.BooleanFunction;
+import so.dang.cool.z.function.BooleanPredicate;
+import so.dang.cool.z.function.BooleanToDoubleFunction;
+import so.dang.cool.z.function.BooleanToIntFunction;
+import so.dang.cool.z.function.BooleanToLongFunction;
+
+public class TabulationTests {
+
+    @Test
+    void tabulate_intFn() {
+        IntFunction<String> name = i -> "n" + i;
+        var tabulated = Z.tabulate(name, 0, 4);
+
+        assertEquals("n0", tabulated.apply(0));
+        assertSame(tabulated.apply(3), tabulated.apply(3));
+        assertEquals("n4", tabulated.apply(4));
+        assertEquals("n-1", tabulated.apply(-1));
+    }
+
+    @Test
+    void tabulate_intToDblFn() {
+        IntToDoubleFunction half = i -> i / 2.0;
+        var tabulated = Z.tabulate(half, -2, 2);
+
+        assertEquals(-1.0, tabulated.applyAsDouble(-2));
+        assertEquals(0.5, tabulated.applyAsDouble(1));
+        assertEquals(1.0, tabulated.applyAsDouble(2));
+    }
+
+    @Test
+    void tabulate_intToLongFn() {
+        IntToLongFunction big = i -> i * 10_000_000_000L;
+        var tabulated = Z.tabulate(big, 0, 3);
+
+        assertEquals(20_000_000_000L, tabulated.applyAsLong(2));
+        assertEquals(30_000_000_000L, tabulated.applyAsLong(3));
+    }
+
+    @Test
+    void tabulate_intPred() {
+        IntPredicate isPrime = i -> {
+            if (i < 2) return false;
+            for (int d = 2; d * d <= i; d++) {
+                if (i % d == 0) return false;
+            }
+            return true;
+        };
+        var tabulated = Z.tabulate(isPrime, 0, 256);
+
+        for (int i = -8; i < 300; i++) {
+            assertEquals(isPrime.test(i), tabulated.test(i), "at " + i);
+        }
+    }
+
+    @Test
+    void tabulate_intUnop() {
+        AtomicInteger calls = new AtomicInteger();
+        IntUnaryOperator square = i -> {
+            calls.incrementAndGet();
+            return i * i;
+        };
+        var tabulated = Z.tabulate(square, 0, 256);
+        assertEquals(256, calls.get());
+
+        assertEquals(0, tabulated.applyAsInt(0));
+        assertEquals(65_025, tabulated.applyAsInt(255));
+        assertEquals(256, calls.get());
+
+        assertEquals(65_536, tabulated.applyAsInt(256));
+        assertEquals(257, calls.get());
+    }
+
+    @Test
+    void tabulate_fusion() {
+        IntUnaryOperator plusOne = i -> i + 1;
+        var tabulated = Z
+            .fuse(plusOne)
+            .fuse((int i) -> i * 2)
+            .tabulate(0, 10)
+            .fuse(plusOne);
+
+        assertEquals(7, tabulated.applyAsInt(2));
+        assertEquals(23, tabulated.applyAsInt(10));
+    }
+
+    @Test
+    void tabulate_extremes() {
+        IntUnaryOperator negate = i -> -i;
+        int min = Integer.MIN_VALUE;
+        int max = Integer.MAX_VALUE;
+        var tabulated = Z.tabulate(negate, min, min + 2);
+
+        assertEquals(min, tabulated.applyAsInt(min));
+        assertEquals(-max, tabulated.applyAsInt(max));
+        assertEquals(0, Z.tabulate(negate, 5, 5).applyAsInt(0));
+    }
+
+    @Test
+    void tabulate_invalid_domain() {
+        IntUnaryOperator negate = i -> -i;
+
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> Z.tabulate(negate, 1, 0)
+        );
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> Z.tabulate(negate, Integer.MIN_VALUE, Integer.MAX_VALUE)
+        );
+    }
+
+    @Test
+    void tabulate_boolFn() {
+        AtomicInteger calls = new AtomicInteger();
+        BooleanFunction<String> yesNo = b -> {
+            calls.incrementAndGet();
+            return b ? "yes" : "no";
+        };
+        var tabulated = Z.tabulate(yesNo);
+
+        assertEquals("yes", tabulated.apply(true));
+        assertEquals("no", tabulated.apply(false));
+        assertEquals("yes", tabulated.apply(true));
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void tabulate_boolToDblFn() {
+        BooleanToDoubleFunction weight = b -> b ? 1.5 : 0.5;
+        var tabulated = Z.tabulate(weight);
+
+        assertEquals(1.5, tabulated.applyAsDouble(true));
+        assertEquals(0.5, tabulated.applyAsDouble(false));
+    }
+
+    @Test
+    void tabulate_boolToIntFn() {
+        BooleanToIntFunction bit = b -> b ? 1 : 0;
+        var tabulated = Z.tabulate(bit);
+
+        assertEquals(1, tabulated.applyAsInt(true));
+        assertEquals(0, tabulated.applyAsInt(false));
+    }
+
+    @Test
+    void tabulate_boolToLongFn() {
+        BooleanToLongFunction bit = b -> b ? 1L : 0L;
+        var tabulated = Z.tabulate(bit);
+
+        assertEquals(1L, tabulated.applyAsLong(true));
+        assertEquals(0L, tabulated.applyAsLong(false));
+    }
+
+    @Test
+    void tabulate_boolPred() {
+        BooleanPredicate not = b -> !b;
+        var tabulated = Z.tabulate(not);
+
+        assertFalse(tabulated.test(true));
+        assertTrue(tabulated.test(false));
+    }
+}
@@ -1,12 +1,14 @@
 package so.dang.cool.z.misc;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 import java.util.Locale;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import org.junit.jupiter.api.Test;
 import so.dang.cool.z.Z;
+import so.dang.cool.z.annotation.Evil;
 
 public class MiscellaneousTests {
 
@@ -43,4 +45,27 @@ public class MiscellaneousTests {
             toUpperFlipped.apply(Locale.ENGLISH).apply("hello")
         );
     }
+
+    @Test
+    void flip_round_trip() {
+        BiFunction<String, Locale, String> toUpperRaw = String::toUpperCase;
+        assertSame(toUpperRaw, Z.flip(Z.flip(toUpperRaw)));
+    }
+
+    @Evil
+    @Test
+    void flip_curried2_round_trip() {
+        BiFunction<String, Locale, String> toUpperRaw = String::toUpperCase;
+        assertSame(
+            toUpperRaw,
+            Z.assimilate2(Z.flip(Z.flip(Z.split(toUpperRaw))))
+        );
+
+        Function<String, Function<Locale, String>> toUpperCurried = s ->
+            l -> s.toUpperCase(l);
+        assertEquals(
+            "HELLO",
+            Z.assimilate2(Z.flip(toUpperCurried)).apply(Locale.ENGLISH, "hello")
+        );
+    }
 }
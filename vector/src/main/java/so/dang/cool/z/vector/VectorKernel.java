@@ -0,0 +1,182 @@
+package so.dang.cool.z.vector;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorSpecies;
+import so.dang.cool.z.arithmetic.Arithmetic;
+import so.dang.cool.z.arithmetic.ArithmeticKernel;
+import so.dang.cool.z.arithmetic.ArithmeticOp;
+import so.dang.cool.z.arithmetic.DoubleArithmetic;
+import so.dang.cool.z.arithmetic.IntArithmetic;
+import so.dang.cool.z.arithmetic.LongArithmetic;
+
+/**
+ * Applies known-arithmetic fusions with the incubating Vector API. All stages
+ * run on a vector in registers before it is stored, and the tail that does not
+ * fill a vector runs each stage in order as a scalar.
+ *
+ * <p>Opt in with {@code VectorKernel.install()}, and run with
+ * {@code --add-modules jdk.incubator.vector}.
+ */
+public final class VectorKernel implements ArithmeticKernel {
+
+    private static final VectorSpecies<Double> DOUBLES =
+        DoubleVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Integer> INTS =
+        IntVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Long> LONGS =
+        LongVector.SPECIES_PREFERRED;
+
+    private static final VectorKernel INSTANCE = new VectorKernel();
+
+    private VectorKernel() {}
+
+    public static VectorKernel instance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Uses this kernel for every known-arithmetic fusion, returning the
+     * kernel it replaces.
+     */
+    public static ArithmeticKernel install() {
+        return Arithmetic.useKernel(INSTANCE);
+    }
+
+    @Override
+    public double[] applyAll(
+        DoubleArithmetic[] program,
+        double[] in,
+        int inOffset,
+        double[] out,
+        int outOffset,
+        int length
+    ) {
+        int i = 0;
+        for (; i < DOUBLES.loopBound(length); i += DOUBLES.length()) {
+            DoubleVector v = DoubleVector.fromArray(DOUBLES, in, inOffset + i);
+            for (DoubleArithmetic stage : program) {
+                v = apply(stage, v);
+            }
+            v.intoArray(out, outOffset + i);
+        }
+        for (; i < length; i++) {
+            double d = in[inOffset + i];
+            for (DoubleArithmetic stage : program) {
+                d = stage.applyAsDouble(d);
+            }
+            out[outOffset + i] = d;
+        }
+        return out;
+    }
+
+    @Override
+    public int[] applyAll(
+        IntArithmetic[] program,
+        int[] in,
+        int inOffset,
+        int[] out,
+        int outOffset,
+        int length
+    ) {
+        int i = 0;
+        for (; i < INTS.loopBound(length); i += INTS.length()) {
+            IntVector v = IntVector.fromArray(INTS, in, inOffset + i);
+            for (IntArithmetic stage : program) {
+                v = apply(stage, v);
+            }
+            v.intoArray(out, outOffset + i);
+        }
+        for (; i < length; i++) {
+            int n = in[inOffset + i];
+            for (IntArithmetic stage : program) {
+                n = stage.applyAsInt(n);
+            }
+            out[outOffset + i] = n;
+        }
+        return out;
+    }
+
+    @Override
+    public long[] applyAll(
+        LongArithmetic[] program,
+        long[] in,
+        int inOffset,
+        long[] out,
+        int outOffset,
+        int length
+    ) {
+        int i = 0;
+        for (; i < LONGS.loopBound(length); i += LONGS.length()) {
+            LongVector v = LongVector.fromArray(LONGS, in, inOffset + i);
+            for (LongArithmetic stage : program) {
+                v = apply(stage, v);
+            }
+            v.intoArray(out, outOffset + i);
+        }
+        for (; i < length; i++) {
+            long n = in[inOffset + i];
+            for (LongArithmetic stage : program) {
+                n = stage.applyAsLong(n);
+            }
+            out[outOffset + i] = n;
+        }
+        return out;
+    }
+
+    private static DoubleVector apply(DoubleArithmetic stage, DoubleVector v) {
+        switch (stage.op()) {
+            case SCALE:
+                return v.mul(stage.a());
+            case OFFSET:
+                return v.add(stage.a());
+            case FMA:
+                return v.fma(stage.a(), stage.b());
+            case CLAMP:
+                return v.max(stage.a()).min(stage.b());
+            case ABS:
+                return v.abs();
+            default:
+                throw unsupported(stage.op());
+        }
+    }
+
+    private static IntVector apply(IntArithmetic stage, IntVector v) {
+        switch (stage.op()) {
+            case SCALE:
+                return v.mul(stage.a());
+            case OFFSET:
+                return v.add(stage.a());
+            case AFFINE:
+                return v.mul(stage.a()).add(stage.b());
+            case CLAMP:
+                return v.max(stage.a()).min(stage.b());
+            case ABS:
+                return v.abs();
+            default:
+                throw unsupported(stage.op());
+        }
+    }
+
+    private static LongVector apply(LongArithmetic stage, LongVector v) {
+        switch (stage.op()) {
+            case SCALE:
+                return v.mul(stage.a());
+            case OFFSET:
+                return v.add(stage.a());
+            case AFFINE:
+                return v.mul(stage.a()).add(stage.b());
+            case CLAMP:
+                return v.max(stage.a()).min(stage.b());
+            case ABS:
+                return v.abs();
+            default:
+                throw unsupported(stage.op());
+        }
+    }
+
+    private static IllegalArgumentException unsupported(ArithmeticOp op) {
+        return new IllegalArgumentException("Unsupported op: " + op);
+    }
+}
@@ -0,0 +1,124 @@
+package so.dang.cool.z.vector;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.Test;
+import so.dang.cool.z.Z;
+import so.dang.cool.z.arithmetic.Arithmetic;
+import so.dang.cool.z.arithmetic.ArithmeticKernel;
+import so.dang.cool.z.arithmetic.DoubleArithmetic;
+import so.dang.cool.z.arithmetic.IntArithmetic;
+import so.dang.cool.z.arithmetic.LongArithmetic;
+
+public class VectorKernelTests {
+
+    private static final DoubleArithmetic[] DOUBLE_PROGRAM = {
+        DoubleArithmetic.abs(),
+        DoubleArithmetic.scale(0.5),
+        DoubleArithmetic.offset(-100.0),
+        DoubleArithmetic.clamp(0.0, 250.0),
+        DoubleArithmetic.fma(0.1, 0.3),
+    };
+
+    private static final IntArithmetic[] INT_PROGRAM = {
+        IntArithmetic.abs(),
+        IntArithmetic.scale(3),
+        IntArithmetic.offset(-100),
+        IntArithmetic.clamp(0, 2500),
+        IntArithmetic.affine(7, -3),
+    };
+
+    private static final LongArithmetic[] LONG_PROGRAM = {
+        LongArithmetic.abs(),
+        LongArithmetic.scale(3L),
+        LongArithmetic.offset(-100L),
+        LongArithmetic.clamp(0L, 2500L),
+        LongArithmetic.affine(7L, -3L),
+    };
+
+    @Test
+    void matchesScalar_doubles() {
+        double[] in = DoubleStream
+            .iterate(-1500.0, d -> d + 0.75)
+            .limit(4003)
+            .toArray();
+        ArithmeticKernel scalar = Arithmetic.scalarKernel();
+
+        double[] expected = scalar.applyAll(
+            DOUBLE_PROGRAM,
+            in,
+            3,
+            new double[in.length],
+            1,
+            4000
+        );
+        double[] actual = VectorKernel
+            .instance()
+            .applyAll(DOUBLE_PROGRAM, in, 3, new double[in.length], 1, 4000);
+
+        assertArrayEquals(expected, actual);
+    }
+
+    @Test
+    void matchesScalar_ints() {
+        int[] in = IntStream.range(-2000, 2003).toArray();
+        ArithmeticKernel scalar = Arithmetic.scalarKernel();
+
+        int[] expected = scalar.applyAll(
+            INT_PROGRAM,
+            in,
+            0,
+            new int[in.length],
+            0,
+            in.length
+        );
+        int[] actual = VectorKernel
+            .instance()
+            .applyAll(INT_PROGRAM, in, 0, new int[in.length], 0, in.length);
+
+        assertArrayEquals(expected, actual);
+    }
+
+    @Test
+    void matchesScalar_longs() {
+        long[] in = LongStream.range(-2000L, 2003L).toArray();
+        ArithmeticKernel scalar = Arithmetic.scalarKernel();
+
+        long[] expected = scalar.applyAll(
+            LONG_PROGRAM,
+            in,
+            2,
+            new long[in.length],
+            0,
+            4001
+        );
+        long[] actual = VectorKernel
+            .instance()
+            .applyAll(LONG_PROGRAM, in, 2, new long[in.length], 0, 4001);
+
+        assertArrayEquals(expected, actual);
+    }
+
+    @Test
+    void install() {
+        ArithmeticKernel previous = VectorKernel.install();
+        try {
+            assertSame(VectorKernel.instance(), Arithmetic.kernel());
+
+            int[] out = Z
+                .fuse(IntArithmetic.scale(2))
+                .fuse(IntArithmetic.offset(1))
+                .applyAll(IntStream.range(0, 100).toArray());
+            assertArrayEquals(
+                IntStream.range(0, 100).map(i -> i * 2 + 1).toArray(),
+                out
+            );
+        } finally {
+            Arithmetic.useKernel(previous);
+        }
+    }
+}